@@ -0,0 +1,72 @@
+package com.ryuqq.fileflow.adapter.in.redis.cache;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+import com.ryuqq.fileflow.application.common.port.in.command.EvictNearCacheUseCase;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스가 발행한 near-cache 무효화 메시지 처리.
+ *
+ * <p>메시지 포맷: {@code {cacheName}|{key}[|{version}]}. 키 자리가 {@code *}이면 해당 캐시 전체를 비웁니다. 버전은
+ * ISO-8601 Instant이며, 세션 헤더처럼 값에 버전이 있는 캐시만 붙입니다.
+ */
+@Component
+public class NearCacheInvalidationRedisConsumer implements MessageListener {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(NearCacheInvalidationRedisConsumer.class);
+
+    private static final String DELIMITER = "|";
+    private static final String ALL_KEYS = "*";
+
+    private final EvictNearCacheUseCase evictNearCacheUseCase;
+
+    public NearCacheInvalidationRedisConsumer(EvictNearCacheUseCase evictNearCacheUseCase) {
+        this.evictNearCacheUseCase = evictNearCacheUseCase;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = message.toString();
+        int delimiterIndex = body.indexOf(DELIMITER);
+        if (delimiterIndex <= 0 || delimiterIndex == body.length() - 1) {
+            log.warn("near-cache 무효화 메시지 형식 오류: message={}", body);
+            return;
+        }
+
+        String cacheName = body.substring(0, delimiterIndex);
+        String key = body.substring(delimiterIndex + 1);
+        NearCacheInvalidation invalidation;
+        try {
+            invalidation = parse(cacheName, key);
+        } catch (DateTimeParseException e) {
+            log.warn("near-cache 무효화 메시지 형식 오류: message={}", body);
+            return;
+        }
+        try {
+            evictNearCacheUseCase.execute(invalidation);
+        } catch (Exception e) {
+            log.error("near-cache 무효화 처리 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    private NearCacheInvalidation parse(String cacheName, String key) {
+        if (ALL_KEYS.equals(key)) {
+            return NearCacheInvalidation.all(cacheName);
+        }
+        int versionIndex = key.lastIndexOf(DELIMITER);
+        if (versionIndex < 0) {
+            return NearCacheInvalidation.key(cacheName, key);
+        }
+        return NearCacheInvalidation.versionedKey(
+                cacheName,
+                key.substring(0, versionIndex),
+                Instant.parse(key.substring(versionIndex + 1)));
+    }
+}
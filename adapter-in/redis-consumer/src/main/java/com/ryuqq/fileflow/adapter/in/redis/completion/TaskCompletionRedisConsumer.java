@@ -0,0 +1,51 @@
+package com.ryuqq.fileflow.adapter.in.redis.completion;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.port.in.command.NotifyTaskCompletionUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워커가 발행한 작업 종료 신호 처리.
+ *
+ * <p>메시지 포맷: {@code {taskType}|{taskId}}
+ */
+@Component
+public class TaskCompletionRedisConsumer implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCompletionRedisConsumer.class);
+
+    private static final String DELIMITER = "|";
+
+    private final NotifyTaskCompletionUseCase notifyTaskCompletionUseCase;
+
+    public TaskCompletionRedisConsumer(NotifyTaskCompletionUseCase notifyTaskCompletionUseCase) {
+        this.notifyTaskCompletionUseCase = notifyTaskCompletionUseCase;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = message.toString();
+        int delimiterIndex = body.indexOf(DELIMITER);
+        if (delimiterIndex <= 0 || delimiterIndex == body.length() - 1) {
+            log.warn("작업 종료 신호 메시지 형식 오류: message={}", body);
+            return;
+        }
+
+        TaskCompletionSignal signal =
+                new TaskCompletionSignal(
+                        body.substring(0, delimiterIndex), body.substring(delimiterIndex + 1));
+        try {
+            notifyTaskCompletionUseCase.execute(signal);
+        } catch (Exception e) {
+            log.error(
+                    "작업 종료 신호 처리 실패: taskType={}, taskId={}",
+                    signal.taskType(),
+                    signal.taskId(),
+                    e);
+        }
+    }
+}
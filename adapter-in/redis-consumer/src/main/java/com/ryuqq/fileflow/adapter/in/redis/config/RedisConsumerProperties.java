@@ -5,14 +5,19 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 /**
  * Redis Consumer 설정 프로퍼티.
  *
- * @param sessionExpirationKeyPrefix 세션 만료 키 접두사 (기본값: "session:expiration:")
+ * @param taskCompletionChannel 작업 종료 신호 채널 (기본값: "fileflow:task:completion")
+ * @param cacheInvalidationChannel near-cache 무효화 채널 (기본값: "fileflow:cache:invalidation")
  */
 @ConfigurationProperties(prefix = "fileflow.redis.consumer")
-public record RedisConsumerProperties(String sessionExpirationKeyPrefix) {
+public record RedisConsumerProperties(
+        String taskCompletionChannel, String cacheInvalidationChannel) {
 
     public RedisConsumerProperties {
-        if (sessionExpirationKeyPrefix == null || sessionExpirationKeyPrefix.isBlank()) {
-            sessionExpirationKeyPrefix = "session:expiration:";
+        if (taskCompletionChannel == null || taskCompletionChannel.isBlank()) {
+            taskCompletionChannel = "fileflow:task:completion";
+        }
+        if (cacheInvalidationChannel == null || cacheInvalidationChannel.isBlank()) {
+            cacheInvalidationChannel = "fileflow:cache:invalidation";
         }
     }
 }
@@ -0,0 +1,32 @@
+package com.ryuqq.fileflow.adapter.in.redis.config;
+
+import com.ryuqq.fileflow.adapter.in.redis.cache.NearCacheInvalidationRedisConsumer;
+import com.ryuqq.fileflow.adapter.in.redis.completion.TaskCompletionRedisConsumer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisMessageListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisConsumerProperties properties,
+            TaskCompletionRedisConsumer taskCompletionRedisConsumer,
+            NearCacheInvalidationRedisConsumer nearCacheInvalidationRedisConsumer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        container.addMessageListener(
+                taskCompletionRedisConsumer,
+                new ChannelTopic(properties.taskCompletionChannel()));
+        container.addMessageListener(
+                nearCacheInvalidationRedisConsumer,
+                new ChannelTopic(properties.cacheInvalidationChannel()));
+
+        return container;
+    }
+}
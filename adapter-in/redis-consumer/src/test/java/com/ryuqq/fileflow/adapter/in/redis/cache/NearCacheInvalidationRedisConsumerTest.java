@@ -0,0 +1,146 @@
+package com.ryuqq.fileflow.adapter.in.redis.cache;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+import com.ryuqq.fileflow.application.common.port.in.command.EvictNearCacheUseCase;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheInvalidationRedisConsumer 단위 테스트")
+class NearCacheInvalidationRedisConsumerTest {
+
+    private static final String CHANNEL = "fileflow:cache:invalidation";
+
+    @Mock private EvictNearCacheUseCase evictNearCacheUseCase;
+
+    private NearCacheInvalidationRedisConsumer sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new NearCacheInvalidationRedisConsumer(evictNearCacheUseCase);
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드")
+    class OnMessage {
+
+        @Test
+        @DisplayName("성공: 캐시 이름과 키를 파싱해 로컬 제거 UseCase를 호출한다")
+        void shouldEvictWithParsedCacheNameAndKey() {
+            // given
+            Message message = message("asset|cache:asset:asset-001");
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(evictNearCacheUseCase)
+                    .should()
+                    .execute(NearCacheInvalidation.key("asset", "cache:asset:asset-001"));
+        }
+
+        @Test
+        @DisplayName("성공: 키 자리가 *이면 캐시 전체 무효화로 호출한다")
+        void shouldClearWhenKeyIsWildcard() {
+            // given
+            Message message = message("asset-metadata|*");
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(evictNearCacheUseCase)
+                    .should()
+                    .execute(NearCacheInvalidation.all("asset-metadata"));
+        }
+
+        @Test
+        @DisplayName("성공: 키 뒤에 버전이 붙어 있으면 버전과 함께 호출한다")
+        void shouldEvictWithParsedVersion() {
+            // given
+            Instant version = Instant.parse("2026-01-01T00:00:00.123456Z");
+            Message message = message("session-header|session-001|" + version);
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(evictNearCacheUseCase)
+                    .should()
+                    .execute(
+                            NearCacheInvalidation.versionedKey(
+                                    "session-header", "session-001", version));
+        }
+
+        @Test
+        @DisplayName("무시: 버전 형식이 잘못되면 UseCase를 호출하지 않는다")
+        void shouldIgnoreMessageWithInvalidVersion() {
+            // given
+            Message message = message("session-header|session-001|not-a-timestamp");
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(evictNearCacheUseCase).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("무시: 구분자가 없는 메시지이면 UseCase를 호출하지 않는다")
+        void shouldIgnoreMessageWithoutDelimiter() {
+            // given
+            Message message = message("asset");
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(evictNearCacheUseCase).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("무시: 키가 비어 있으면 UseCase를 호출하지 않는다")
+        void shouldIgnoreMessageWithEmptyKey() {
+            // given
+            Message message = message("asset|");
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(evictNearCacheUseCase).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("예외: UseCase에서 예외가 발생해도 전파하지 않는다")
+        void shouldNotPropagateExceptionFromUseCase() {
+            // given
+            willThrow(new RuntimeException("unexpected"))
+                    .given(evictNearCacheUseCase)
+                    .execute(any(NearCacheInvalidation.class));
+            Message message = message("asset|cache:asset:asset-001");
+
+            // when & then
+            assertDoesNotThrow(() -> sut.onMessage(message, null));
+        }
+    }
+
+    private static Message message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(), body.getBytes());
+    }
+}
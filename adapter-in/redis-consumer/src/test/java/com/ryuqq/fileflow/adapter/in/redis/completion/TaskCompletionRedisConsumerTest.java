@@ -0,0 +1,82 @@
+package com.ryuqq.fileflow.adapter.in.redis.completion;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.port.in.command.NotifyTaskCompletionUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskCompletionRedisConsumer 단위 테스트")
+class TaskCompletionRedisConsumerTest {
+
+    private static final String CHANNEL = "fileflow:task:completion";
+
+    @Mock private NotifyTaskCompletionUseCase notifyTaskCompletionUseCase;
+
+    private TaskCompletionRedisConsumer sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TaskCompletionRedisConsumer(notifyTaskCompletionUseCase);
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드")
+    class OnMessage {
+
+        @Test
+        @DisplayName("성공: 작업 유형과 ID를 파싱해 종료 신호 UseCase를 호출한다")
+        void shouldNotifyWithParsedSignal() {
+            // given
+            Message message = message("TRANSFORM|transform-001");
+
+            // when
+            sut.onMessage(message, null);
+
+            // then
+            then(notifyTaskCompletionUseCase)
+                    .should()
+                    .execute(TaskCompletionSignal.transform("transform-001"));
+        }
+
+        @Test
+        @DisplayName("무시: 구분자가 없거나 ID가 비어 있으면 UseCase를 호출하지 않는다")
+        void shouldIgnoreMalformedMessage() {
+            // when
+            sut.onMessage(message("transform-001"), null);
+            sut.onMessage(message("TRANSFORM|"), null);
+
+            // then
+            then(notifyTaskCompletionUseCase).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("예외: UseCase에서 예외가 발생해도 전파하지 않는다")
+        void shouldNotPropagateExceptionFromUseCase() {
+            // given
+            willThrow(new RuntimeException("unexpected"))
+                    .given(notifyTaskCompletionUseCase)
+                    .execute(TaskCompletionSignal.download("download-001"));
+
+            // when & then
+            assertDoesNotThrow(() -> sut.onMessage(message("DOWNLOAD|download-001"), null));
+        }
+    }
+
+    private static Message message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(), body.getBytes());
+    }
+}
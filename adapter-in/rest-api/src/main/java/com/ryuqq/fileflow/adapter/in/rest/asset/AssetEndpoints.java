@@ -16,12 +16,18 @@ public final class AssetEndpoints {
 
     // ========== Query Endpoints ==========
 
+    /** Asset 목록 조회 (키셋 페이징) */
+    public static final String LIST = "";
+
     /** Asset 상세 조회 */
     public static final String DETAIL = "/{assetId}";
 
     /** Asset 메타데이터 조회 */
     public static final String METADATA = "/{assetId}/metadata";
 
+    /** Asset 일괄 조회 (메타데이터 포함) */
+    public static final String BATCH_GET = "/batch-get";
+
     // ========== Command Endpoints ==========
 
     /** Asset 삭제 */
@@ -1,24 +1,40 @@
 package com.ryuqq.fileflow.adapter.in.rest.asset.controller;
 
 import static com.ryuqq.fileflow.adapter.in.rest.asset.AssetEndpoints.BASE;
+import static com.ryuqq.fileflow.adapter.in.rest.asset.AssetEndpoints.BATCH_GET;
 import static com.ryuqq.fileflow.adapter.in.rest.asset.AssetEndpoints.DETAIL;
+import static com.ryuqq.fileflow.adapter.in.rest.asset.AssetEndpoints.LIST;
 import static com.ryuqq.fileflow.adapter.in.rest.asset.AssetEndpoints.METADATA;
 
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.BatchGetAssetsApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.SearchAssetsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetBatchApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetMetadataApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.mapper.AssetQueryApiMapper;
 import com.ryuqq.fileflow.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.util.EntityTagUtils;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.asset.port.in.query.BatchGetAssetsUseCase;
 import com.ryuqq.fileflow.application.asset.port.in.query.GetAssetMetadataUseCase;
 import com.ryuqq.fileflow.application.asset.port.in.query.GetAssetUseCase;
+import com.ryuqq.fileflow.application.asset.port.in.query.SearchAssetsUseCase;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * AssetQueryController - Asset Query Controller.
@@ -36,29 +52,62 @@ public class AssetQueryController {
 
     private final GetAssetUseCase getAssetUseCase;
     private final GetAssetMetadataUseCase getAssetMetadataUseCase;
+    private final BatchGetAssetsUseCase batchGetAssetsUseCase;
+    private final SearchAssetsUseCase searchAssetsUseCase;
     private final AssetQueryApiMapper queryMapper;
 
     public AssetQueryController(
             GetAssetUseCase getAssetUseCase,
             GetAssetMetadataUseCase getAssetMetadataUseCase,
+            BatchGetAssetsUseCase batchGetAssetsUseCase,
+            SearchAssetsUseCase searchAssetsUseCase,
             AssetQueryApiMapper queryMapper) {
         this.getAssetUseCase = getAssetUseCase;
         this.getAssetMetadataUseCase = getAssetMetadataUseCase;
+        this.batchGetAssetsUseCase = batchGetAssetsUseCase;
+        this.searchAssetsUseCase = searchAssetsUseCase;
         this.queryMapper = queryMapper;
     }
 
+    /**
+     * Asset 목록 키셋 페이지 조회.
+     *
+     * @param request source(필수)와 선택 필터, 커서, 페이지 크기
+     * @return (생성 시각, Asset ID) 순서의 Asset 슬라이스
+     */
+    @Operation(
+            summary = "Asset 목록 조회",
+            description =
+                    "source별 Asset을 생성 시각 순서로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청하며,"
+                            + " 페이지 깊이와 관계없이 조회 비용이 같습니다.")
+    @GetMapping(LIST)
+    public ApiResponse<SliceApiResponse<AssetApiResponse>> search(
+            @Valid @ModelAttribute SearchAssetsApiRequest request) {
+
+        SliceResponse<AssetResponse> response =
+                searchAssetsUseCase.execute(queryMapper.toSearchParams(request));
+
+        return ApiResponse.of(queryMapper.toSliceResponse(response));
+    }
+
     /**
      * Asset 상세 조회.
      *
      * @param assetId Asset ID
-     * @return Asset 상세 정보
+     * @param webRequest If-None-Match 판별용 요청
+     * @return Asset 상세 정보 (ETag가 일치하면 본문 없이 304)
      */
     @Operation(summary = "Asset 조회", description = "Asset의 상세 정보를 조회합니다.")
     @GetMapping(DETAIL)
     public ApiResponse<AssetApiResponse> get(
-            @Parameter(description = "Asset ID", required = true) @PathVariable String assetId) {
+            @Parameter(description = "Asset ID", required = true) @PathVariable String assetId,
+            WebRequest webRequest) {
 
         AssetResponse response = getAssetUseCase.execute(assetId);
+        if (webRequest.checkNotModified(
+                EntityTagUtils.of(response.assetId(), response.updatedAt()))) {
+            return null;
+        }
 
         return ApiResponse.of(queryMapper.toResponse(response));
     }
@@ -67,14 +116,40 @@ public class AssetQueryController {
      * Asset 메타데이터 조회.
      *
      * @param assetId Asset ID
-     * @return Asset 메타데이터 정보
+     * @param webRequest If-None-Match 판별용 요청
+     * @return Asset 메타데이터 정보 (ETag가 일치하면 본문 없이 304)
      */
     @Operation(summary = "Asset 메타데이터 조회", description = "Asset의 이미지 메타데이터(너비, 높이 등)를 조회합니다.")
     @GetMapping(METADATA)
     public ApiResponse<AssetMetadataApiResponse> getMetadata(
-            @Parameter(description = "Asset ID", required = true) @PathVariable String assetId) {
+            @Parameter(description = "Asset ID", required = true) @PathVariable String assetId,
+            WebRequest webRequest) {
 
         AssetMetadataResponse response = getAssetMetadataUseCase.execute(assetId);
+        if (webRequest.checkNotModified(
+                EntityTagUtils.of(response.metadataId(), response.updatedAt()))) {
+            return null;
+        }
+
+        return ApiResponse.of(queryMapper.toResponse(response));
+    }
+
+    /**
+     * Asset 일괄 조회.
+     *
+     * <p>ID 목록이 길어 GET 쿼리 문자열 대신 요청 본문으로 받습니다. 조회만 수행합니다.
+     *
+     * @param request 조회할 Asset ID 목록 (최대 500건)
+     * @return 메타데이터를 포함한 Asset 목록과 찾지 못한 ID 목록
+     */
+    @Operation(
+            summary = "Asset 일괄 조회",
+            description = "여러 Asset을 메타데이터와 함께 한 번에 조회합니다. 최대 500건까지 요청할 수 있습니다.")
+    @PostMapping(BATCH_GET)
+    public ApiResponse<AssetBatchApiResponse> batchGet(
+            @Valid @RequestBody BatchGetAssetsApiRequest request) {
+
+        AssetBatchResponse response = batchGetAssetsUseCase.execute(request.assetIds());
 
         return ApiResponse.of(queryMapper.toResponse(response));
     }
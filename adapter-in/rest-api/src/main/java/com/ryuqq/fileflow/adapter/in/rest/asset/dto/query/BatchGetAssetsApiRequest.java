@@ -0,0 +1,14 @@
+package com.ryuqq.fileflow.adapter.in.rest.asset.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "Asset 일괄 조회 요청")
+public record BatchGetAssetsApiRequest(
+        @Schema(description = "조회할 Asset ID 목록 (최대 500건)", example = "[\"asset_abc123\"]")
+                @NotEmpty
+                @Size(max = 500)
+                List<@NotBlank String> assetIds) {}
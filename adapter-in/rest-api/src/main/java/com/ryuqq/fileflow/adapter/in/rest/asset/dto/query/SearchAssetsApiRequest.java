@@ -0,0 +1,25 @@
+package com.ryuqq.fileflow.adapter.in.rest.asset.dto.query;
+
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.time.Instant;
+
+@Schema(description = "Asset 목록 조회 요청 (키셋 페이징)")
+public record SearchAssetsApiRequest(
+        @Schema(description = "요청 출처", example = "commerce-api") @NotBlank String source,
+        @Schema(description = "용도 (없으면 전체)", example = "PRODUCT_IMAGE") String purpose,
+        @Schema(description = "접근 유형 (없으면 전체)", example = "PUBLIC") AccessType accessType,
+        @Schema(description = "생성 시각 하한, 포함 (ISO-8601)", example = "2026-02-01T00:00:00Z")
+                Instant createdFrom,
+        @Schema(description = "생성 시각 상한, 미포함 (ISO-8601)", example = "2026-03-01T00:00:00Z")
+                Instant createdTo,
+        @Schema(description = "정렬 방향 (기본: ASC)", example = "ASC") SortDirection direction,
+        @Schema(description = "이전 응답의 nextCursor (없으면 첫 페이지)") String cursor,
+        @Schema(description = "페이지 크기 (기본: 20, 최대: 100)", example = "20")
+                @Min(1)
+                @Max(100)
+                Integer size) {}
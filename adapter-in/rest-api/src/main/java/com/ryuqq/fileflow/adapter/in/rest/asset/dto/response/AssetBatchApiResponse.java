@@ -0,0 +1,16 @@
+package com.ryuqq.fileflow.adapter.in.rest.asset.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * AssetBatchApiResponse - Asset 일괄 조회 API 응답.
+ *
+ * <p>API-DTO-001: Record 타입 필수.
+ */
+@Schema(description = "Asset 일괄 조회 응답")
+public record AssetBatchApiResponse(
+        @Schema(description = "조회된 Asset 목록 (요청 순서, 중복 ID 제외)")
+                List<AssetDetailApiResponse> assets,
+        @Schema(description = "존재하지 않거나 삭제된 Asset ID 목록", example = "[\"asset_missing\"]")
+                List<String> notFoundAssetIds) {}
@@ -0,0 +1,14 @@
+package com.ryuqq.fileflow.adapter.in.rest.asset.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * AssetDetailApiResponse - Asset과 메타데이터를 함께 담은 API 응답.
+ *
+ * <p>API-DTO-001: Record 타입 필수.
+ */
+@Schema(description = "Asset 상세 응답 (메타데이터 포함)")
+public record AssetDetailApiResponse(
+        @Schema(description = "Asset 정보") AssetApiResponse asset,
+        @Schema(description = "Asset 메타데이터 (추출 전이면 null)", nullable = true)
+                AssetMetadataApiResponse metadata) {}
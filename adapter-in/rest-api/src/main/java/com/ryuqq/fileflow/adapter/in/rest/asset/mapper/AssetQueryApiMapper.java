@@ -1,10 +1,19 @@
 package com.ryuqq.fileflow.adapter.in.rest.asset.mapper;
 
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.SearchAssetsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetBatchApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetDetailApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetMetadataApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.common.util.DateTimeFormatUtils;
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetDetailResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import org.springframework.stereotype.Component;
 
 /**
@@ -60,4 +69,54 @@ public class AssetQueryApiMapper {
                 response.transformType(),
                 DateTimeFormatUtils.formatIso8601(response.createdAt()));
     }
+
+    /**
+     * AssetBatchResponse → AssetBatchApiResponse 변환.
+     *
+     * @param response Application 응답
+     * @return AssetBatchApiResponse (조회 순서 유지)
+     */
+    public AssetBatchApiResponse toResponse(AssetBatchResponse response) {
+        return new AssetBatchApiResponse(
+                response.assets().stream().map(this::toResponse).toList(),
+                response.notFoundAssetIds());
+    }
+
+    /**
+     * Asset 목록 조회 파라미터 생성.
+     *
+     * @param request API 요청
+     * @return AssetSearchParams
+     */
+    public AssetSearchParams toSearchParams(SearchAssetsApiRequest request) {
+        return AssetSearchParams.of(
+                request.source(),
+                request.purpose(),
+                request.accessType(),
+                request.createdFrom(),
+                request.createdTo(),
+                request.direction(),
+                CommonCursorParams.of(request.cursor(), request.size()));
+    }
+
+    /**
+     * Asset 슬라이스 → SliceApiResponse 변환.
+     *
+     * @param response Application 응답
+     * @return SliceApiResponse
+     */
+    public SliceApiResponse<AssetApiResponse> toSliceResponse(
+            SliceResponse<AssetResponse> response) {
+        return SliceApiResponse.of(
+                response.content().stream().map(this::toResponse).toList(),
+                response.size(),
+                response.hasNext(),
+                response.nextCursor());
+    }
+
+    private AssetDetailApiResponse toResponse(AssetDetailResponse response) {
+        AssetMetadataResponse metadata = response.metadata();
+        return new AssetDetailApiResponse(
+                toResponse(response.asset()), metadata == null ? null : toResponse(metadata));
+    }
 }
@@ -0,0 +1,31 @@
+package com.ryuqq.fileflow.adapter.in.rest.common.util;
+
+import java.time.Instant;
+
+/**
+ * 조회 응답용 강한(strong) ETag 생성 유틸리티.
+ *
+ * <p>리소스 ID와 Aggregate 버전(또는 수정 시각)만으로 만들기 때문에, 응답 본문을 직렬화하지 않고도 If-None-Match 요청의 변경 여부를
+ * 판별할 수 있습니다.
+ */
+public final class EntityTagUtils {
+
+    private EntityTagUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /** 낙관적 락 버전을 가진 Aggregate의 ETag. */
+    public static String of(String resourceId, long version) {
+        return quote(resourceId + "-v" + version);
+    }
+
+    /** 수정 시각으로 변경을 추적하는 Aggregate의 ETag. */
+    public static String of(String resourceId, Instant updatedAt) {
+        long epochMilli = updatedAt == null ? 0L : updatedAt.toEpochMilli();
+        return quote(resourceId + "-t" + epochMilli);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
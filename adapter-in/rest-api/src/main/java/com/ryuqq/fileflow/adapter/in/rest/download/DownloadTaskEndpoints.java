@@ -19,8 +19,14 @@ public final class DownloadTaskEndpoints {
     /** 다운로드 작업 상세 조회 */
     public static final String DETAIL = "/{downloadTaskId}";
 
+    /** 다운로드 작업 종료 대기 (long-poll) */
+    public static final String AWAIT = "/{downloadTaskId}/await";
+
     // ========== Command Endpoints ==========
 
     /** 다운로드 작업 생성 */
     public static final String CREATE = "";
+
+    /** 다운로드 작업 일괄 생성 */
+    public static final String CREATE_BATCH = "/batch";
 }
@@ -2,18 +2,25 @@ package com.ryuqq.fileflow.adapter.in.rest.download.controller;
 
 import static com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskEndpoints.BASE;
 import static com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskEndpoints.CREATE;
+import static com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskEndpoints.CREATE_BATCH;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTaskApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTasksApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskBatchItemApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.download.mapper.DownloadTaskCommandApiMapper;
 import com.ryuqq.fileflow.adapter.in.rest.download.mapper.DownloadTaskQueryApiMapper;
 import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTaskCommand;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
 import com.ryuqq.fileflow.application.download.port.in.command.CreateDownloadTaskUseCase;
+import com.ryuqq.fileflow.application.download.port.in.command.CreateDownloadTasksUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -36,14 +43,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class DownloadTaskCommandController {
 
     private final CreateDownloadTaskUseCase createUseCase;
+    private final CreateDownloadTasksUseCase createBatchUseCase;
     private final DownloadTaskCommandApiMapper commandMapper;
     private final DownloadTaskQueryApiMapper queryMapper;
 
     public DownloadTaskCommandController(
             CreateDownloadTaskUseCase createUseCase,
+            CreateDownloadTasksUseCase createBatchUseCase,
             DownloadTaskCommandApiMapper commandMapper,
             DownloadTaskQueryApiMapper queryMapper) {
         this.createUseCase = createUseCase;
+        this.createBatchUseCase = createBatchUseCase;
         this.commandMapper = commandMapper;
         this.queryMapper = queryMapper;
     }
@@ -65,4 +75,26 @@ public class DownloadTaskCommandController {
 
         return ApiResponse.of(queryMapper.toResponse(response));
     }
+
+    /**
+     * 다운로드 작업 일괄 생성.
+     *
+     * <p>블랙리스트 URL은 해당 항목만 실패로 응답하므로, 일부가 실패해도 200을 반환합니다.
+     *
+     * @param request 일괄 생성 요청
+     * @return 항목별 생성 결과 (요청 순서)
+     */
+    @Operation(
+            summary = "다운로드 작업 일괄 생성",
+            description = "최대 1000개 URL의 다운로드 작업을 한 번에 생성하고 항목별 결과를 반환합니다.")
+    @PostMapping(CREATE_BATCH)
+    @ResponseStatus(HttpStatus.OK)
+    public ApiResponse<List<DownloadTaskBatchItemApiResponse>> createBatch(
+            @Valid @RequestBody CreateDownloadTasksApiRequest request) {
+
+        CreateDownloadTasksCommand command = commandMapper.toCommand(request);
+        List<DownloadTaskBatchItemResponse> responses = createBatchUseCase.execute(command);
+
+        return ApiResponse.of(queryMapper.toBatchItemResponses(responses));
+    }
 }
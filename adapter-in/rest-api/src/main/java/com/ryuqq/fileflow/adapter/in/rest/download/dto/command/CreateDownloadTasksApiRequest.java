@@ -0,0 +1,12 @@
+package com.ryuqq.fileflow.adapter.in.rest.download.dto.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "다운로드 작업 일괄 생성 요청")
+public record CreateDownloadTasksApiRequest(
+        @Schema(description = "다운로드 작업 생성 요청 목록 (최대 1000건)") @NotEmpty @Size(max = 1000)
+                List<@Valid CreateDownloadTaskApiRequest> tasks) {}
@@ -0,0 +1,19 @@
+package com.ryuqq.fileflow.adapter.in.rest.download.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DownloadTaskBatchItemApiResponse - 다운로드 작업 일괄 생성 개별 항목 API 응답.
+ *
+ * <p>API-DTO-001: Record 타입 필수.
+ */
+@Schema(description = "다운로드 작업 일괄 생성 개별 항목 결과")
+public record DownloadTaskBatchItemApiResponse(
+        @Schema(description = "요청한 소스 URL", example = "https://example.com/files/image.jpg")
+                String sourceUrl,
+        @Schema(description = "생성 여부", example = "true") boolean success,
+        @Schema(description = "생성된 다운로드 작업 (실패 시 null)", nullable = true)
+                DownloadTaskApiResponse task,
+        @Schema(description = "실패 시 에러 코드", nullable = true, example = "DOWNLOAD-008")
+                String errorCode,
+        @Schema(description = "실패 시 에러 메시지", nullable = true) String errorMessage) {}
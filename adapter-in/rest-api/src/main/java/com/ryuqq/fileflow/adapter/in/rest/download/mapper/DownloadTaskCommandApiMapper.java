@@ -1,7 +1,9 @@
 package com.ryuqq.fileflow.adapter.in.rest.download.mapper;
 
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTaskApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTasksApiRequest;
 import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTaskCommand;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
 import org.springframework.stereotype.Component;
 
 /**
@@ -32,4 +34,15 @@ public class DownloadTaskCommandApiMapper {
                 request.source(),
                 request.callbackUrl());
     }
+
+    /**
+     * CreateDownloadTasksApiRequest → CreateDownloadTasksCommand 변환.
+     *
+     * @param request API 요청
+     * @return CreateDownloadTasksCommand
+     */
+    public CreateDownloadTasksCommand toCommand(CreateDownloadTasksApiRequest request) {
+        return new CreateDownloadTasksCommand(
+                request.tasks().stream().map(this::toCommand).toList());
+    }
 }
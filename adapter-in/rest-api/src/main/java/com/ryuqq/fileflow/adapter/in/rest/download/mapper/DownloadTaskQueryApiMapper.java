@@ -2,7 +2,10 @@ package com.ryuqq.fileflow.adapter.in.rest.download.mapper;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.util.DateTimeFormatUtils;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskBatchItemApiResponse;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -44,4 +47,25 @@ public class DownloadTaskQueryApiMapper {
                 DateTimeFormatUtils.formatIso8601(response.startedAt()),
                 DateTimeFormatUtils.formatIso8601(response.completedAt()));
     }
+
+    /**
+     * DownloadTaskBatchItemResponse 목록 → DownloadTaskBatchItemApiResponse 목록 변환.
+     *
+     * @param responses Application 응답 목록
+     * @return DownloadTaskBatchItemApiResponse 목록 (입력 순서 유지)
+     */
+    public List<DownloadTaskBatchItemApiResponse> toBatchItemResponses(
+            List<DownloadTaskBatchItemResponse> responses) {
+        return responses.stream().map(this::toBatchItemResponse).toList();
+    }
+
+    private DownloadTaskBatchItemApiResponse toBatchItemResponse(
+            DownloadTaskBatchItemResponse response) {
+        return new DownloadTaskBatchItemApiResponse(
+                response.sourceUrl(),
+                response.success(),
+                response.task() != null ? toResponse(response.task()) : null,
+                response.errorCode(),
+                response.errorMessage());
+    }
 }
@@ -19,6 +19,9 @@ public final class MultipartUploadSessionEndpoints {
     /** 멀티파트 업로드 세션 상세 조회 */
     public static final String DETAIL = "/{sessionId}";
 
+    /** 멀티파트 업로드 세션 요약 조회 (완료 파트 목록 제외) */
+    public static final String SUMMARY = "/{sessionId}/summary";
+
     // ========== Command Endpoints ==========
 
     /** 멀티파트 업로드 세션 생성 */
@@ -27,9 +30,15 @@ public final class MultipartUploadSessionEndpoints {
     /** 파트별 Presigned URL 발급 */
     public static final String PRESIGNED_PART_URL = "/{sessionId}/parts/{partNumber}/presigned-url";
 
-    /** 파트 업로드 완료 기록 */
+    /** 파트 범위 Presigned URL 일괄 발급 */
+    public static final String PRESIGNED_PART_URLS = "/{sessionId}/parts/presigned-urls";
+
+    /** 파트 업로드 완료 기록 (POST), 완료 파트 키셋 페이지 조회 (GET) */
     public static final String PARTS = "/{sessionId}/parts";
 
+    /** 파트 업로드 완료 일괄 기록 */
+    public static final String PARTS_BATCH = "/{sessionId}/parts/batch";
+
     /** 멀티파트 업로드 세션 완료 */
     public static final String COMPLETE = "/{sessionId}/complete";
 
@@ -24,6 +24,9 @@ public final class SingleUploadSessionEndpoints {
     /** 단건 업로드 세션 생성 */
     public static final String CREATE = "";
 
+    /** 단건 업로드 세션 일괄 생성 */
+    public static final String CREATE_BATCH = "/batch";
+
     /** 단건 업로드 세션 완료 */
     public static final String COMPLETE = "/{sessionId}/complete";
 }
@@ -5,10 +5,13 @@ import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionE
 import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.COMPLETE;
 import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.CREATE;
 import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.PARTS;
+import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.PARTS_BATCH;
 import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.PRESIGNED_PART_URL;
+import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.PRESIGNED_PART_URLS;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
@@ -17,26 +20,34 @@ import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionCommandApiMapper
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionQueryApiMapper;
 import com.ryuqq.fileflow.application.session.dto.command.AbortMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlCommand;
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
 import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
 import com.ryuqq.fileflow.application.session.port.in.command.AbortMultipartUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.AddCompletedPartUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.AddCompletedPartsUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.CompleteMultipartUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.CreateMultipartUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.GeneratePresignedPartUrlUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.GeneratePresignedPartUrlsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -56,7 +67,9 @@ public class MultipartUploadSessionCommandController {
 
     private final CreateMultipartUploadSessionUseCase createUseCase;
     private final GeneratePresignedPartUrlUseCase generatePresignedPartUrlUseCase;
+    private final GeneratePresignedPartUrlsUseCase generatePresignedPartUrlsUseCase;
     private final AddCompletedPartUseCase addCompletedPartUseCase;
+    private final AddCompletedPartsUseCase addCompletedPartsUseCase;
     private final CompleteMultipartUploadSessionUseCase completeUseCase;
     private final AbortMultipartUploadSessionUseCase abortUseCase;
     private final SessionCommandApiMapper commandMapper;
@@ -65,14 +78,18 @@ public class MultipartUploadSessionCommandController {
     public MultipartUploadSessionCommandController(
             CreateMultipartUploadSessionUseCase createUseCase,
             GeneratePresignedPartUrlUseCase generatePresignedPartUrlUseCase,
+            GeneratePresignedPartUrlsUseCase generatePresignedPartUrlsUseCase,
             AddCompletedPartUseCase addCompletedPartUseCase,
+            AddCompletedPartsUseCase addCompletedPartsUseCase,
             CompleteMultipartUploadSessionUseCase completeUseCase,
             AbortMultipartUploadSessionUseCase abortUseCase,
             SessionCommandApiMapper commandMapper,
             SessionQueryApiMapper queryMapper) {
         this.createUseCase = createUseCase;
         this.generatePresignedPartUrlUseCase = generatePresignedPartUrlUseCase;
+        this.generatePresignedPartUrlsUseCase = generatePresignedPartUrlsUseCase;
         this.addCompletedPartUseCase = addCompletedPartUseCase;
+        this.addCompletedPartsUseCase = addCompletedPartsUseCase;
         this.completeUseCase = completeUseCase;
         this.abortUseCase = abortUseCase;
         this.commandMapper = commandMapper;
@@ -118,6 +135,38 @@ public class MultipartUploadSessionCommandController {
         return ApiResponse.of(queryMapper.toResponse(response));
     }
 
+    /**
+     * 파트 범위 Presigned URL 일괄 발급.
+     *
+     * @param sessionId 세션 ID
+     * @param from 시작 파트 번호 (포함)
+     * @param to 끝 파트 번호 (포함)
+     * @return 파트 번호 오름차순 Presigned URL 목록
+     */
+    @Operation(
+            summary = "파트 범위 Presigned URL 일괄 발급",
+            description = "연속된 파트 범위(최대 1,000개)의 Presigned URL을 한 번에 발급합니다.")
+    @GetMapping(PRESIGNED_PART_URLS)
+    public ApiResponse<List<PresignedPartUrlApiResponse>> generatePresignedPartUrls(
+            @Parameter(description = "세션 ID", required = true) @PathVariable String sessionId,
+            @Parameter(description = "시작 파트 번호 (포함)", required = true, example = "1")
+                    @RequestParam
+                    @Min(1)
+                    @Max(10_000)
+                    int from,
+            @Parameter(description = "끝 파트 번호 (포함)", required = true, example = "500")
+                    @RequestParam
+                    @Min(1)
+                    @Max(10_000)
+                    int to) {
+
+        GeneratePresignedPartUrlsCommand command = commandMapper.toCommand(sessionId, from, to);
+        List<PresignedPartUrlResponse> responses =
+                generatePresignedPartUrlsUseCase.execute(command);
+
+        return ApiResponse.of(queryMapper.toResponses(responses));
+    }
+
     /**
      * 파트 업로드 완료 기록.
      *
@@ -137,6 +186,29 @@ public class MultipartUploadSessionCommandController {
         return ApiResponse.of();
     }
 
+    /**
+     * 파트 업로드 완료 일괄 기록.
+     *
+     * @param sessionId 세션 ID
+     * @param request 파트 완료 일괄 기록 요청
+     * @return 빈 응답
+     */
+    @Operation(
+            summary = "파트 업로드 완료 일괄 기록",
+            description =
+                    "업로드가 완료된 여러 파트 정보를 한 번에 기록합니다."
+                            + " 이미 기록된 파트 번호는 요청 값으로 덮어쓰므로 재시도해도 안전합니다.")
+    @PostMapping(PARTS_BATCH)
+    public ApiResponse<Void> addCompletedParts(
+            @Parameter(description = "세션 ID", required = true) @PathVariable String sessionId,
+            @Valid @RequestBody AddCompletedPartsApiRequest request) {
+
+        AddCompletedPartsCommand command = commandMapper.toCommand(sessionId, request);
+        addCompletedPartsUseCase.execute(command);
+
+        return ApiResponse.of();
+    }
+
     /**
      * 멀티파트 업로드 세션 완료.
      *
@@ -2,18 +2,32 @@ package com.ryuqq.fileflow.adapter.in.rest.session.controller;
 
 import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.BASE;
 import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.DETAIL;
+import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.PARTS;
+import static com.ryuqq.fileflow.adapter.in.rest.session.MultipartUploadSessionEndpoints.SUMMARY;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse.CompletedPartApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionSummaryApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionQueryApiMapper;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
+import com.ryuqq.fileflow.application.session.port.in.query.GetCompletedPartsUseCase;
+import com.ryuqq.fileflow.application.session.port.in.query.GetMultipartUploadSessionSummaryUseCase;
 import com.ryuqq.fileflow.application.session.port.in.query.GetMultipartUploadSessionUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -31,11 +45,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class MultipartUploadSessionQueryController {
 
     private final GetMultipartUploadSessionUseCase getUseCase;
+    private final GetMultipartUploadSessionSummaryUseCase getSummaryUseCase;
+    private final GetCompletedPartsUseCase getCompletedPartsUseCase;
     private final SessionQueryApiMapper queryMapper;
 
     public MultipartUploadSessionQueryController(
-            GetMultipartUploadSessionUseCase getUseCase, SessionQueryApiMapper queryMapper) {
+            GetMultipartUploadSessionUseCase getUseCase,
+            GetMultipartUploadSessionSummaryUseCase getSummaryUseCase,
+            GetCompletedPartsUseCase getCompletedPartsUseCase,
+            SessionQueryApiMapper queryMapper) {
         this.getUseCase = getUseCase;
+        this.getSummaryUseCase = getSummaryUseCase;
+        this.getCompletedPartsUseCase = getCompletedPartsUseCase;
         this.queryMapper = queryMapper;
     }
 
@@ -54,4 +75,54 @@ public class MultipartUploadSessionQueryController {
 
         return ApiResponse.of(queryMapper.toResponse(response));
     }
+
+    /**
+     * 멀티파트 업로드 세션 요약 조회.
+     *
+     * @param sessionId 세션 ID
+     * @return 완료 파트 목록 대신 집계 값을 담은 세션 정보
+     */
+    @Operation(
+            summary = "멀티파트 업로드 세션 요약 조회",
+            description =
+                    "완료 파트 목록 없이 파트 수, 업로드된 크기, 연속 완료된 마지막 파트 번호만 조회합니다."
+                            + " 상태 폴링에 사용합니다.")
+    @GetMapping(SUMMARY)
+    public ApiResponse<MultipartUploadSessionSummaryApiResponse> getSummary(
+            @Parameter(description = "세션 ID", required = true) @PathVariable String sessionId) {
+
+        MultipartUploadSessionSummaryResponse response = getSummaryUseCase.execute(sessionId);
+
+        return ApiResponse.of(queryMapper.toResponse(response));
+    }
+
+    /**
+     * 완료 파트 키셋 페이지 조회.
+     *
+     * @param sessionId 세션 ID
+     * @param cursor 이전 페이지의 마지막 파트 번호
+     * @param size 페이지 크기
+     * @return 파트 번호 오름차순 완료 파트 슬라이스
+     */
+    @Operation(
+            summary = "완료 파트 목록 조회",
+            description = "완료된 파트를 파트 번호 오름차순으로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @GetMapping(PARTS)
+    public ApiResponse<SliceApiResponse<CompletedPartApiResponse>> getCompletedParts(
+            @Parameter(description = "세션 ID", required = true) @PathVariable String sessionId,
+            @Parameter(description = "이전 페이지의 마지막 파트 번호 (없으면 첫 페이지)", example = "100")
+                    @RequestParam(required = false)
+                    @Min(0)
+                    Integer cursor,
+            @Parameter(description = "페이지 크기 (최대 1,000)", example = "100")
+                    @RequestParam(required = false)
+                    @Min(1)
+                    @Max(1_000)
+                    Integer size) {
+
+        CompletedPartSearchParams params = queryMapper.toSearchParams(sessionId, cursor, size);
+        SliceResponse<CompletedPartResponse> response = getCompletedPartsUseCase.execute(params);
+
+        return ApiResponse.of(queryMapper.toPartSliceResponse(response));
+    }
 }
@@ -3,22 +3,27 @@ package com.ryuqq.fileflow.adapter.in.rest.session.controller;
 import static com.ryuqq.fileflow.adapter.in.rest.session.SingleUploadSessionEndpoints.BASE;
 import static com.ryuqq.fileflow.adapter.in.rest.session.SingleUploadSessionEndpoints.COMPLETE;
 import static com.ryuqq.fileflow.adapter.in.rest.session.SingleUploadSessionEndpoints.CREATE;
+import static com.ryuqq.fileflow.adapter.in.rest.session.SingleUploadSessionEndpoints.CREATE_BATCH;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteSingleUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.SingleUploadSessionApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionCommandApiMapper;
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionQueryApiMapper;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteSingleUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionCommand;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
 import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
 import com.ryuqq.fileflow.application.session.port.in.command.CompleteSingleUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.CreateSingleUploadSessionUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.CreateSingleUploadSessionsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -42,16 +47,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class SingleUploadSessionCommandController {
 
     private final CreateSingleUploadSessionUseCase createUseCase;
+    private final CreateSingleUploadSessionsUseCase createBatchUseCase;
     private final CompleteSingleUploadSessionUseCase completeUseCase;
     private final SessionCommandApiMapper commandMapper;
     private final SessionQueryApiMapper queryMapper;
 
     public SingleUploadSessionCommandController(
             CreateSingleUploadSessionUseCase createUseCase,
+            CreateSingleUploadSessionsUseCase createBatchUseCase,
             CompleteSingleUploadSessionUseCase completeUseCase,
             SessionCommandApiMapper commandMapper,
             SessionQueryApiMapper queryMapper) {
         this.createUseCase = createUseCase;
+        this.createBatchUseCase = createBatchUseCase;
         this.completeUseCase = completeUseCase;
         this.commandMapper = commandMapper;
         this.queryMapper = queryMapper;
@@ -75,6 +83,26 @@ public class SingleUploadSessionCommandController {
         return ApiResponse.of(queryMapper.toResponse(response));
     }
 
+    /**
+     * 단건 업로드 세션 일괄 생성.
+     *
+     * @param request 일괄 생성 요청
+     * @return 생성된 세션 목록 (요청 순서, Presigned URL 포함)
+     */
+    @Operation(
+            summary = "단건 업로드 세션 일괄 생성",
+            description = "여러 파일의 단건 업로드 세션을 한 번에 생성하고 Presigned URL을 함께 반환합니다.")
+    @PostMapping(CREATE_BATCH)
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<List<SingleUploadSessionApiResponse>> createBatch(
+            @Valid @RequestBody CreateSingleUploadSessionsApiRequest request) {
+
+        CreateSingleUploadSessionsCommand command = commandMapper.toCommand(request);
+        List<SingleUploadSessionResponse> responses = createBatchUseCase.execute(command);
+
+        return ApiResponse.of(queryMapper.toSingleResponses(responses));
+    }
+
     /**
      * 단건 업로드 세션 완료.
      *
@@ -0,0 +1,12 @@
+package com.ryuqq.fileflow.adapter.in.rest.session.dto.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "파트 업로드 완료 일괄 기록 요청")
+public record AddCompletedPartsApiRequest(
+        @Schema(description = "완료 파트 목록 (최대 1,000건)") @NotEmpty @Size(max = 1_000)
+                List<@Valid AddCompletedPartApiRequest> parts) {}
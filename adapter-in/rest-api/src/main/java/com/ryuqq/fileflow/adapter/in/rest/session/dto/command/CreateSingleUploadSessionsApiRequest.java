@@ -0,0 +1,12 @@
+package com.ryuqq.fileflow.adapter.in.rest.session.dto.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "단건 업로드 세션 일괄 생성 요청")
+public record CreateSingleUploadSessionsApiRequest(
+        @Schema(description = "세션 생성 요청 목록 (최대 200건)") @NotEmpty @Size(max = 200)
+                List<@Valid CreateSingleUploadSessionApiRequest> sessions) {}
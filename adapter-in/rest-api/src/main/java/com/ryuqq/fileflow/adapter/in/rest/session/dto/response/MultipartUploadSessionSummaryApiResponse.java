@@ -0,0 +1,33 @@
+package com.ryuqq.fileflow.adapter.in.rest.session.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * MultipartUploadSessionSummaryApiResponse - 멀티파트 업로드 세션 요약 API 응답.
+ *
+ * <p>완료 파트 목록 대신 집계 값만 담습니다. 파트 목록은 키셋 페이지 조회 API로 받습니다.
+ *
+ * <p>API-DTO-001: Record 타입 필수.
+ *
+ * <p>API-DTO-005: 날짜 String 변환 필수 (Instant 타입 사용 금지).
+ */
+@Schema(description = "멀티파트 업로드 세션 요약 응답")
+public record MultipartUploadSessionSummaryApiResponse(
+        @Schema(description = "세션 ID", example = "sess_abc123") String sessionId,
+        @Schema(description = "S3 멀티파트 업로드 ID") String uploadId,
+        @Schema(description = "S3 객체 키", example = "public/2026/01/video.mp4") String s3Key,
+        @Schema(description = "S3 버킷명", example = "fileflow-bucket") String bucket,
+        @Schema(description = "접근 유형", example = "PUBLIC") String accessType,
+        @Schema(description = "원본 파일명", example = "large-video.mp4") String fileName,
+        @Schema(description = "MIME 타입", example = "video/mp4") String contentType,
+        @Schema(description = "파트 크기 (bytes)", example = "5242880") long partSize,
+        @Schema(description = "세션 상태", example = "UPLOADING") String status,
+        @Schema(description = "완료된 파트 수", example = "3") int completedPartCount,
+        @Schema(description = "완료된 파트 크기 합계 (bytes)", example = "15728640")
+                long uploadedBytes,
+        @Schema(description = "1번부터 빠짐없이 완료된 마지막 파트 번호", example = "3")
+                int highestContiguousPartNumber,
+        @Schema(description = "만료 시각 (ISO 8601)", example = "2026-01-23T10:30:00+09:00")
+                String expiresAt,
+        @Schema(description = "생성 시각 (ISO 8601)", example = "2026-01-23T09:30:00+09:00")
+                String createdAt) {}
@@ -1,17 +1,24 @@
 package com.ryuqq.fileflow.adapter.in.rest.session.mapper;
 
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteSingleUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionsApiRequest;
 import com.ryuqq.fileflow.application.session.dto.command.AbortMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand.PartItem;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteSingleUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionCommand;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
 import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlCommand;
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -43,6 +50,18 @@ public class SessionCommandApiMapper {
                 request.source());
     }
 
+    /**
+     * CreateSingleUploadSessionsApiRequest → CreateSingleUploadSessionsCommand 변환.
+     *
+     * @param request API 요청
+     * @return CreateSingleUploadSessionsCommand
+     */
+    public CreateSingleUploadSessionsCommand toCommand(
+            CreateSingleUploadSessionsApiRequest request) {
+        return new CreateSingleUploadSessionsCommand(
+                request.sessions().stream().map(this::toCommand).toList());
+    }
+
     /**
      * CompleteSingleUploadSessionApiRequest → CompleteSingleUploadSessionCommand 변환.
      *
@@ -84,6 +103,18 @@ public class SessionCommandApiMapper {
         return new GeneratePresignedPartUrlCommand(sessionId, partNumber);
     }
 
+    /**
+     * Path Variable + Query Parameters → GeneratePresignedPartUrlsCommand 변환.
+     *
+     * @param sessionId 세션 ID (PathVariable)
+     * @param from 시작 파트 번호 (RequestParam)
+     * @param to 끝 파트 번호 (RequestParam)
+     * @return GeneratePresignedPartUrlsCommand
+     */
+    public GeneratePresignedPartUrlsCommand toCommand(String sessionId, int from, int to) {
+        return new GeneratePresignedPartUrlsCommand(sessionId, from, to);
+    }
+
     /**
      * AddCompletedPartApiRequest → AddCompletedPartCommand 변환.
      *
@@ -96,6 +127,22 @@ public class SessionCommandApiMapper {
                 sessionId, request.partNumber(), request.etag(), request.size());
     }
 
+    /**
+     * AddCompletedPartsApiRequest → AddCompletedPartsCommand 변환.
+     *
+     * @param sessionId 세션 ID (PathVariable)
+     * @param request API 요청
+     * @return AddCompletedPartsCommand
+     */
+    public AddCompletedPartsCommand toCommand(
+            String sessionId, AddCompletedPartsApiRequest request) {
+        List<PartItem> parts =
+                request.parts().stream()
+                        .map(part -> new PartItem(part.partNumber(), part.etag(), part.size()))
+                        .toList();
+        return new AddCompletedPartsCommand(sessionId, parts);
+    }
+
     /**
      * CompleteMultipartUploadSessionApiRequest → CompleteMultipartUploadSessionCommand 변환.
      *
@@ -1,11 +1,17 @@
 package com.ryuqq.fileflow.adapter.in.rest.session.mapper;
 
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.common.util.DateTimeFormatUtils;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse.CompletedPartApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionSummaryApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.PresignedPartUrlApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.SingleUploadSessionApiResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
 import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
 import java.util.List;
@@ -45,6 +51,17 @@ public class SessionQueryApiMapper {
                 DateTimeFormatUtils.formatIso8601(response.createdAt()));
     }
 
+    /**
+     * SingleUploadSessionResponse 목록 → SingleUploadSessionApiResponse 목록 변환.
+     *
+     * @param responses Application 응답 목록
+     * @return SingleUploadSessionApiResponse 목록 (입력 순서 유지)
+     */
+    public List<SingleUploadSessionApiResponse> toSingleResponses(
+            List<SingleUploadSessionResponse> responses) {
+        return responses.stream().map(this::toResponse).toList();
+    }
+
     /**
      * MultipartUploadSessionResponse → MultipartUploadSessionApiResponse 변환.
      *
@@ -53,12 +70,7 @@ public class SessionQueryApiMapper {
      */
     public MultipartUploadSessionApiResponse toResponse(MultipartUploadSessionResponse response) {
         List<CompletedPartApiResponse> completedParts =
-                response.completedParts().stream()
-                        .map(
-                                part ->
-                                        new CompletedPartApiResponse(
-                                                part.partNumber(), part.etag(), part.size()))
-                        .toList();
+                response.completedParts().stream().map(this::toPartResponse).toList();
 
         return new MultipartUploadSessionApiResponse(
                 response.sessionId(),
@@ -76,6 +88,59 @@ public class SessionQueryApiMapper {
                 DateTimeFormatUtils.formatIso8601(response.createdAt()));
     }
 
+    /**
+     * MultipartUploadSessionSummaryResponse → MultipartUploadSessionSummaryApiResponse 변환.
+     *
+     * @param response Application 응답
+     * @return MultipartUploadSessionSummaryApiResponse
+     */
+    public MultipartUploadSessionSummaryApiResponse toResponse(
+            MultipartUploadSessionSummaryResponse response) {
+        return new MultipartUploadSessionSummaryApiResponse(
+                response.sessionId(),
+                response.uploadId(),
+                response.s3Key(),
+                response.bucket(),
+                response.accessType().name(),
+                response.fileName(),
+                response.contentType(),
+                response.partSize(),
+                response.status(),
+                response.completedPartCount(),
+                response.uploadedBytes(),
+                response.highestContiguousPartNumber(),
+                DateTimeFormatUtils.formatIso8601(response.expiresAt()),
+                DateTimeFormatUtils.formatIso8601(response.createdAt()));
+    }
+
+    /**
+     * 완료 파트 키셋 페이지 조회 파라미터 생성.
+     *
+     * @param sessionId 세션 ID
+     * @param cursor 이전 페이지의 마지막 파트 번호 (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return CompletedPartSearchParams
+     */
+    public CompletedPartSearchParams toSearchParams(
+            String sessionId, Integer cursor, Integer size) {
+        return CompletedPartSearchParams.of(sessionId, cursor, size);
+    }
+
+    /**
+     * 완료 파트 슬라이스 → SliceApiResponse 변환.
+     *
+     * @param response Application 응답
+     * @return SliceApiResponse
+     */
+    public SliceApiResponse<CompletedPartApiResponse> toPartSliceResponse(
+            SliceResponse<CompletedPartResponse> response) {
+        return SliceApiResponse.of(
+                response.content().stream().map(this::toPartResponse).toList(),
+                response.size(),
+                response.hasNext(),
+                response.nextCursor());
+    }
+
     /**
      * PresignedPartUrlResponse → PresignedPartUrlApiResponse 변환.
      *
@@ -86,4 +151,18 @@ public class SessionQueryApiMapper {
         return new PresignedPartUrlApiResponse(
                 response.presignedUrl(), response.partNumber(), response.expiresInSeconds());
     }
+
+    /**
+     * PresignedPartUrlResponse 목록 → PresignedPartUrlApiResponse 목록 변환.
+     *
+     * @param responses Application 응답 목록
+     * @return PresignedPartUrlApiResponse 목록
+     */
+    public List<PresignedPartUrlApiResponse> toResponses(List<PresignedPartUrlResponse> responses) {
+        return responses.stream().map(this::toResponse).toList();
+    }
+
+    private CompletedPartApiResponse toPartResponse(CompletedPartResponse part) {
+        return new CompletedPartApiResponse(part.partNumber(), part.etag(), part.size());
+    }
 }
@@ -19,6 +19,9 @@ public final class TransformRequestEndpoints {
     /** 변환 요청 상세 조회 */
     public static final String DETAIL = "/{transformRequestId}";
 
+    /** 변환 요청 종료 대기 (long-poll) */
+    public static final String AWAIT = "/{transformRequestId}/await";
+
     // ========== Command Endpoints ==========
 
     /** 변환 요청 생성 */
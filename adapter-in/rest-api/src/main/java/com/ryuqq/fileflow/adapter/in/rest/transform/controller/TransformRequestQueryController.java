@@ -1,20 +1,27 @@
 package com.ryuqq.fileflow.adapter.in.rest.transform.controller;
 
+import static com.ryuqq.fileflow.adapter.in.rest.transform.TransformRequestEndpoints.AWAIT;
 import static com.ryuqq.fileflow.adapter.in.rest.transform.TransformRequestEndpoints.BASE;
 import static com.ryuqq.fileflow.adapter.in.rest.transform.TransformRequestEndpoints.DETAIL;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.util.EntityTagUtils;
 import com.ryuqq.fileflow.adapter.in.rest.transform.dto.response.TransformRequestApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.transform.mapper.TransformRequestQueryApiMapper;
 import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
+import com.ryuqq.fileflow.application.transform.port.in.query.AwaitTransformRequestCompletionUseCase;
 import com.ryuqq.fileflow.application.transform.port.in.query.GetTransformRequestUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * TransformRequestQueryController - 이미지 변환 요청 Query Controller.
@@ -30,12 +37,19 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(BASE)
 public class TransformRequestQueryController {
 
+    /** long-poll 최대 대기 시간(초). 서블릿 비동기 타임아웃(기본 30초)보다 짧게 유지합니다. */
+    private static final int MAX_WAIT_SECONDS = 25;
+
     private final GetTransformRequestUseCase getUseCase;
+    private final AwaitTransformRequestCompletionUseCase awaitUseCase;
     private final TransformRequestQueryApiMapper queryMapper;
 
     public TransformRequestQueryController(
-            GetTransformRequestUseCase getUseCase, TransformRequestQueryApiMapper queryMapper) {
+            GetTransformRequestUseCase getUseCase,
+            AwaitTransformRequestCompletionUseCase awaitUseCase,
+            TransformRequestQueryApiMapper queryMapper) {
         this.getUseCase = getUseCase;
+        this.awaitUseCase = awaitUseCase;
         this.queryMapper = queryMapper;
     }
 
@@ -43,16 +57,46 @@ public class TransformRequestQueryController {
      * 이미지 변환 요청 상세 조회.
      *
      * @param transformRequestId 변환 요청 ID
-     * @return 변환 요청 상세 정보
+     * @param webRequest If-None-Match 판별용 요청
+     * @return 변환 요청 상세 정보 (ETag가 일치하면 본문 없이 304)
      */
     @Operation(summary = "이미지 변환 요청 조회", description = "이미지 변환 요청의 상세 정보와 진행 상태를 조회합니다.")
     @GetMapping(DETAIL)
     public ApiResponse<TransformRequestApiResponse> get(
             @Parameter(description = "변환 요청 ID", required = true) @PathVariable
-                    String transformRequestId) {
+                    String transformRequestId,
+            WebRequest webRequest) {
 
         TransformRequestResponse response = getUseCase.execute(transformRequestId);
+        if (webRequest.checkNotModified(
+                EntityTagUtils.of(response.transformRequestId(), response.version()))) {
+            return null;
+        }
 
         return ApiResponse.of(queryMapper.toResponse(response));
     }
+
+    /**
+     * 이미지 변환 요청 종료 대기 (long-poll).
+     *
+     * <p>종료 상태(COMPLETED/FAILED)가 되는 즉시, 또는 waitSeconds가 지나면 그 시점의 상태로 응답합니다. 클라이언트는 응답 상태가
+     * 종료 상태가 아니면 다시 호출합니다.
+     *
+     * @param transformRequestId 변환 요청 ID
+     * @param waitSeconds 최대 대기 시간(초, 0~{@value #MAX_WAIT_SECONDS})
+     * @return 종료 시점 또는 대기 만료 시점의 상세 정보
+     */
+    @Operation(summary = "이미지 변환 요청 종료 대기", description = "이미지 변환 요청이 완료 또는 실패할 때까지 대기한 뒤 상세 정보를 반환합니다.")
+    @GetMapping(AWAIT)
+    public CompletableFuture<ApiResponse<TransformRequestApiResponse>> await(
+            @Parameter(description = "변환 요청 ID", required = true) @PathVariable
+                    String transformRequestId,
+            @Parameter(description = "최대 대기 시간(초)") @RequestParam(defaultValue = "20")
+                    int waitSeconds) {
+
+        Duration timeout = Duration.ofSeconds(Math.clamp(waitSeconds, 0, MAX_WAIT_SECONDS));
+        return awaitUseCase
+                .execute(transformRequestId, timeout)
+                .thenApply(response -> ApiResponse.of(queryMapper.toResponse(response)));
+    }
 }
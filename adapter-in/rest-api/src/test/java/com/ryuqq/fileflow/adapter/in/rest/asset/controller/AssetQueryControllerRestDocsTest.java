@@ -2,23 +2,40 @@ package com.ryuqq.fileflow.adapter.in.rest.asset.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.fileflow.adapter.in.rest.asset.AssetApiFixtures;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.BatchGetAssetsApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.SearchAssetsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetBatchApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetMetadataApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.mapper.AssetQueryApiMapper;
 import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.asset.port.in.query.BatchGetAssetsUseCase;
 import com.ryuqq.fileflow.application.asset.port.in.query.GetAssetMetadataUseCase;
 import com.ryuqq.fileflow.application.asset.port.in.query.GetAssetUseCase;
+import com.ryuqq.fileflow.application.asset.port.in.query.SearchAssetsUseCase;
+import com.ryuqq.fileflow.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -26,6 +43,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 
 /**
@@ -44,8 +63,19 @@ class AssetQueryControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockBean private GetAssetMetadataUseCase getAssetMetadataUseCase;
 
+    @MockBean private BatchGetAssetsUseCase batchGetAssetsUseCase;
+
+    @MockBean private SearchAssetsUseCase searchAssetsUseCase;
+
     @MockBean private AssetQueryApiMapper queryMapper;
 
+    private static final String ASSET_ETAG =
+            "\""
+                    + AssetApiFixtures.ASSET_ID
+                    + "-t"
+                    + AssetApiFixtures.CREATED_AT.toEpochMilli()
+                    + "\"";
+
     @Nested
     @DisplayName("Asset 상세 조회 API")
     class GetAssetTest {
@@ -186,4 +216,198 @@ class AssetQueryControllerRestDocsTest extends RestDocsTestSupport {
                                                     .optional())));
         }
     }
+
+    @Nested
+    @DisplayName("Asset 조건부 조회 API")
+    class ConditionalGetAssetTest {
+
+        @Test
+        @DisplayName("GET /api/v1/assets/{assetId} - 응답에 강한 ETag를 포함한다")
+        void getAsset_includesEtag() throws Exception {
+            // given
+            given(getAssetUseCase.execute(any(String.class)))
+                    .willReturn(AssetApiFixtures.assetResponse());
+            given(queryMapper.toResponse(any(AssetResponse.class)))
+                    .willReturn(AssetApiFixtures.assetApiResponse());
+
+            // when & then
+            mockMvc.perform(get("/api/v1/assets/{assetId}", AssetApiFixtures.ASSET_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ASSET_ETAG));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/assets/{assetId} - If-None-Match가 일치하면 304를 반환한다")
+        void getAsset_notModified() throws Exception {
+            // given
+            given(getAssetUseCase.execute(any(String.class)))
+                    .willReturn(AssetApiFixtures.assetResponse());
+
+            // when & then
+            mockMvc.perform(
+                            get("/api/v1/assets/{assetId}", AssetApiFixtures.ASSET_ID)
+                                    .header(HttpHeaders.IF_NONE_MATCH, ASSET_ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            then(queryMapper).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("Asset 일괄 조회 API")
+    class BatchGetAssetsTest {
+
+        @Test
+        @DisplayName("POST /api/v1/assets/batch-get - Asset 일괄 조회 성공")
+        void batchGetAssets_success() throws Exception {
+            // given
+            BatchGetAssetsApiRequest request = AssetApiFixtures.batchGetAssetsRequest();
+            AssetBatchApiResponse apiResponse = AssetApiFixtures.assetBatchApiResponse();
+
+            given(batchGetAssetsUseCase.execute(request.assetIds()))
+                    .willReturn(AssetApiFixtures.assetBatchResponse());
+            given(queryMapper.toResponse(any(AssetBatchResponse.class))).willReturn(apiResponse);
+
+            // when & then
+            mockMvc.perform(
+                            post("/api/v1/assets/batch-get")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.assets.length()").value(1))
+                    .andExpect(
+                            jsonPath("$.data.assets[0].asset.assetId")
+                                    .value(AssetApiFixtures.ASSET_ID))
+                    .andExpect(
+                            jsonPath("$.data.assets[0].metadata.width")
+                                    .value(AssetApiFixtures.WIDTH))
+                    .andExpect(
+                            jsonPath("$.data.notFoundAssetIds[0]")
+                                    .value(AssetApiFixtures.MISSING_ASSET_ID))
+                    .andDo(
+                            document.document(
+                                    requestFields(
+                                            fieldWithPath("assetIds")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("조회할 Asset ID 목록 (최대 500건)")),
+                                    responseFields(
+                                            fieldWithPath("data.assets")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("조회된 Asset 목록 (요청 순서, 중복 ID 제외)"),
+                                            subsectionWithPath("data.assets[].asset")
+                                                    .type(JsonFieldType.OBJECT)
+                                                    .description("Asset 정보 (Asset 조회 응답과 동일)"),
+                                            subsectionWithPath("data.assets[].metadata")
+                                                    .type(JsonFieldType.OBJECT)
+                                                    .description(
+                                                            "Asset 메타데이터 (메타데이터 조회 응답과 동일,"
+                                                                    + " 추출 전이면 null)")
+                                                    .optional(),
+                                            fieldWithPath("data.notFoundAssetIds")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("존재하지 않거나 삭제된 Asset ID 목록"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Asset 목록 조회 API")
+    class SearchAssetsTest {
+
+        @Test
+        @DisplayName("GET /api/v1/assets - Asset 목록 키셋 페이지 조회 성공")
+        void searchAssets_success() throws Exception {
+            // given
+            AssetSearchParams params =
+                    AssetSearchParams.of(
+                            AssetApiFixtures.SOURCE,
+                            AssetApiFixtures.PURPOSE,
+                            AccessType.PUBLIC,
+                            null,
+                            null,
+                            SortDirection.ASC,
+                            CommonCursorParams.of(AssetApiFixtures.NEXT_CURSOR, 1));
+
+            given(queryMapper.toSearchParams(any(SearchAssetsApiRequest.class))).willReturn(params);
+            given(searchAssetsUseCase.execute(params))
+                    .willReturn(AssetApiFixtures.assetSliceResponse());
+            given(queryMapper.toSliceResponse(any()))
+                    .willReturn(AssetApiFixtures.assetSliceApiResponse());
+
+            // when & then
+            mockMvc.perform(
+                            get("/api/v1/assets")
+                                    .param("source", AssetApiFixtures.SOURCE)
+                                    .param("purpose", AssetApiFixtures.PURPOSE)
+                                    .param("accessType", "PUBLIC")
+                                    .param("createdFrom", "2026-02-01T00:00:00Z")
+                                    .param("createdTo", "2026-03-01T00:00:00Z")
+                                    .param("direction", "ASC")
+                                    .param("cursor", AssetApiFixtures.NEXT_CURSOR)
+                                    .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(1))
+                    .andExpect(
+                            jsonPath("$.data.content[0].assetId").value(AssetApiFixtures.ASSET_ID))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.nextCursor").value(AssetApiFixtures.NEXT_CURSOR))
+                    .andDo(
+                            document.document(
+                                    queryParameters(
+                                            parameterWithName("source").description("요청 출처"),
+                                            parameterWithName("purpose")
+                                                    .description("용도 (없으면 전체)")
+                                                    .optional(),
+                                            parameterWithName("accessType")
+                                                    .description("접근 유형 (PUBLIC, INTERNAL)")
+                                                    .optional(),
+                                            parameterWithName("createdFrom")
+                                                    .description("생성 시각 하한, 포함 (ISO-8601)")
+                                                    .optional(),
+                                            parameterWithName("createdTo")
+                                                    .description("생성 시각 상한, 미포함 (ISO-8601)")
+                                                    .optional(),
+                                            parameterWithName("direction")
+                                                    .description("정렬 방향 (ASC, DESC / 기본 ASC)")
+                                                    .optional(),
+                                            parameterWithName("cursor")
+                                                    .description("이전 응답의 nextCursor (없으면 첫 페이지)")
+                                                    .optional(),
+                                            parameterWithName("size")
+                                                    .description("페이지 크기 (기본 20, 최대 100)")
+                                                    .optional()),
+                                    responseFields(
+                                            subsectionWithPath("data.content")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description(
+                                                            "Asset 목록 (생성 시각, Asset ID 순서."
+                                                                    + " 각 항목은 Asset 조회 응답과 동일)"),
+                                            fieldWithPath("data.size")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("페이지 크기"),
+                                            fieldWithPath("data.hasNext")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("다음 페이지 존재 여부"),
+                                            fieldWithPath("data.nextCursor")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("다음 페이지 커서")
+                                                    .optional(),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
 }
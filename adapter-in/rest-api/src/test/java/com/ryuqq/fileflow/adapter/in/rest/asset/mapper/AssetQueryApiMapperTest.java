@@ -3,10 +3,21 @@ package com.ryuqq.fileflow.adapter.in.rest.asset.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.adapter.in.rest.asset.AssetApiFixtures;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.SearchAssetsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetBatchApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetDetailApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetMetadataApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetDetailResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -110,4 +121,91 @@ class AssetQueryApiMapperTest {
             assertThat(apiResponse.createdAt()).contains("+");
         }
     }
+
+    @Nested
+    @DisplayName("toResponse(AssetBatchResponse)")
+    class ToAssetBatchApiResponseTest {
+
+        @Test
+        @DisplayName("AssetBatchResponse를 순서를 유지해 AssetBatchApiResponse로 변환한다")
+        void toResponse_batch_success() {
+            // given
+            AssetBatchResponse response = AssetApiFixtures.assetBatchResponse();
+
+            // when
+            AssetBatchApiResponse apiResponse = mapper.toResponse(response);
+
+            // then
+            assertThat(apiResponse.assets()).hasSize(1);
+            AssetDetailApiResponse detail = apiResponse.assets().get(0);
+            assertThat(detail.asset().assetId()).isEqualTo(AssetApiFixtures.ASSET_ID);
+            assertThat(detail.metadata().metadataId()).isEqualTo(AssetApiFixtures.METADATA_ID);
+            assertThat(apiResponse.notFoundAssetIds())
+                    .containsExactly(AssetApiFixtures.MISSING_ASSET_ID);
+        }
+
+        @Test
+        @DisplayName("메타데이터가 없는 Asset은 metadata를 null로 변환한다")
+        void toResponse_batch_withoutMetadata() {
+            // given
+            AssetDetailResponse detail =
+                    new AssetDetailResponse(AssetApiFixtures.assetResponse(), null);
+            AssetBatchResponse response = new AssetBatchResponse(List.of(detail), List.of());
+
+            // when
+            AssetBatchApiResponse apiResponse = mapper.toResponse(response);
+
+            // then
+            assertThat(apiResponse.assets().get(0).metadata()).isNull();
+            assertThat(apiResponse.notFoundAssetIds()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("toSearchParams")
+    class ToSearchParamsTest {
+
+        @Test
+        @DisplayName("SearchAssetsApiRequest를 AssetSearchParams로 변환한다")
+        void toSearchParams_success() {
+            // given
+            SearchAssetsApiRequest request = AssetApiFixtures.searchAssetsRequest();
+
+            // when
+            AssetSearchParams params = mapper.toSearchParams(request);
+
+            // then
+            assertThat(params.source()).isEqualTo(AssetApiFixtures.SOURCE);
+            assertThat(params.purpose()).isEqualTo(AssetApiFixtures.PURPOSE);
+            assertThat(params.accessType()).isEqualTo(AccessType.PUBLIC);
+            assertThat(params.createdFrom()).isEqualTo(AssetApiFixtures.CREATED_AT);
+            assertThat(params.createdTo()).isNull();
+            assertThat(params.direction()).isEqualTo(SortDirection.ASC);
+            assertThat(params.cursor()).isNull();
+            assertThat(params.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("toSliceResponse")
+    class ToSliceResponseTest {
+
+        @Test
+        @DisplayName("Asset 슬라이스를 SliceApiResponse로 변환한다")
+        void toSliceResponse_success() {
+            // given
+            SliceResponse<AssetResponse> response = AssetApiFixtures.assetSliceResponse();
+
+            // when
+            SliceApiResponse<AssetApiResponse> apiResponse = mapper.toSliceResponse(response);
+
+            // then
+            assertThat(apiResponse.content())
+                    .extracting(AssetApiResponse::assetId)
+                    .containsExactly(AssetApiFixtures.ASSET_ID);
+            assertThat(apiResponse.size()).isEqualTo(1);
+            assertThat(apiResponse.hasNext()).isTrue();
+            assertThat(apiResponse.nextCursor()).isEqualTo(AssetApiFixtures.NEXT_CURSOR);
+        }
+    }
 }
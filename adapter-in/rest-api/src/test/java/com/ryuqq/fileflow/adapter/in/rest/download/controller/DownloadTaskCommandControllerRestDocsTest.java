@@ -1,6 +1,7 @@
 package com.ryuqq.fileflow.adapter.in.rest.download.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -12,12 +13,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTaskApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTasksApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.download.mapper.DownloadTaskCommandApiMapper;
 import com.ryuqq.fileflow.adapter.in.rest.download.mapper.DownloadTaskQueryApiMapper;
 import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTaskCommand;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
 import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
 import com.ryuqq.fileflow.application.download.port.in.command.CreateDownloadTaskUseCase;
+import com.ryuqq.fileflow.application.download.port.in.command.CreateDownloadTasksUseCase;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -42,6 +47,8 @@ class DownloadTaskCommandControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockBean private CreateDownloadTaskUseCase createUseCase;
 
+    @MockBean private CreateDownloadTasksUseCase createBatchUseCase;
+
     @MockBean private DownloadTaskCommandApiMapper commandMapper;
 
     @MockBean private DownloadTaskQueryApiMapper queryMapper;
@@ -166,4 +173,157 @@ class DownloadTaskCommandControllerRestDocsTest extends RestDocsTestSupport {
                                                     .optional())));
         }
     }
+
+    @Nested
+    @DisplayName("다운로드 작업 일괄 생성 API")
+    class CreateDownloadTasksTest {
+
+        @Test
+        @DisplayName("POST /api/v1/download-tasks/batch - 다운로드 작업 일괄 생성 성공")
+        void createDownloadTasks_success() throws Exception {
+            // given
+            CreateDownloadTasksApiRequest request =
+                    DownloadTaskApiFixtures.createDownloadTasksRequest();
+
+            given(commandMapper.toCommand(any(CreateDownloadTasksApiRequest.class)))
+                    .willReturn(new CreateDownloadTasksCommand(List.of()));
+            given(createBatchUseCase.execute(any(CreateDownloadTasksCommand.class)))
+                    .willReturn(DownloadTaskApiFixtures.downloadTaskBatchItemResponses());
+            given(queryMapper.toBatchItemResponses(anyList()))
+                    .willReturn(DownloadTaskApiFixtures.downloadTaskBatchItemApiResponses());
+
+            // when & then
+            mockMvc.perform(
+                            post("/api/v1/download-tasks/batch")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[0].success").value(true))
+                    .andExpect(
+                            jsonPath("$.data[0].task.downloadTaskId")
+                                    .value(DownloadTaskApiFixtures.DOWNLOAD_TASK_ID))
+                    .andExpect(jsonPath("$.data[1].success").value(false))
+                    .andExpect(
+                            jsonPath("$.data[1].errorCode")
+                                    .value(DownloadTaskApiFixtures.BLACKLISTED_ERROR_CODE))
+                    .andDo(
+                            document.document(
+                                    requestFields(
+                                            fieldWithPath("tasks")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("다운로드 작업 생성 요청 목록 (최대 1000건)"),
+                                            fieldWithPath("tasks[].sourceUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("다운로드 소스 URL"),
+                                            fieldWithPath("tasks[].accessType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description(
+                                                            "접근 유형 (PUBLIC: 공개, INTERNAL: 내부)"),
+                                            fieldWithPath("tasks[].purpose")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("파일 용도"),
+                                            fieldWithPath("tasks[].source")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 서비스명"),
+                                            fieldWithPath("tasks[].callbackUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("완료 콜백 URL")
+                                                    .optional()),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("항목별 생성 결과 (요청 순서)"),
+                                            fieldWithPath("data[].sourceUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청한 소스 URL"),
+                                            fieldWithPath("data[].success")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("생성 여부"),
+                                            fieldWithPath("data[].task")
+                                                    .type(JsonFieldType.OBJECT)
+                                                    .description("생성된 다운로드 작업 (실패 시 null)")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.downloadTaskId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("다운로드 작업 ID")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.sourceUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("다운로드 소스 URL")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.s3Key")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 객체 키")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.bucket")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 버킷명")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.accessType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("접근 유형")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.purpose")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("파일 용도")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.source")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 서비스명")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.status")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("작업 상태")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.retryCount")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("재시도 횟수")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.maxRetries")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("최대 재시도 횟수")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.callbackUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("완료 콜백 URL")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.assetId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("생성된 Asset ID (완료 시)")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.lastError")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("마지막 에러 메시지")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.createdAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("생성 시각 (ISO 8601)")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.startedAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("시작 시각 (ISO 8601)")
+                                                    .optional(),
+                                            fieldWithPath("data[].task.completedAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("완료 시각 (ISO 8601)")
+                                                    .optional(),
+                                            fieldWithPath("data[].errorCode")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("실패 시 에러 코드")
+                                                    .optional(),
+                                            fieldWithPath("data[].errorMessage")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("실패 시 에러 메시지")
+                                                    .optional(),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
 }
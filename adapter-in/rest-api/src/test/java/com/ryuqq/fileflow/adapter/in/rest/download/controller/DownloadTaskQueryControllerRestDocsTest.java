@@ -2,12 +2,18 @@ package com.ryuqq.fileflow.adapter.in.rest.download.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
@@ -15,7 +21,10 @@ import com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.download.mapper.DownloadTaskQueryApiMapper;
 import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import com.ryuqq.fileflow.application.download.port.in.query.AwaitDownloadTaskCompletionUseCase;
 import com.ryuqq.fileflow.application.download.port.in.query.GetDownloadTaskUseCase;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -23,7 +32,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * DownloadTaskQueryController REST Docs 테스트.
@@ -39,8 +50,15 @@ class DownloadTaskQueryControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockBean private GetDownloadTaskUseCase getUseCase;
 
+    @MockBean private AwaitDownloadTaskCompletionUseCase awaitUseCase;
+
     @MockBean private DownloadTaskQueryApiMapper queryMapper;
 
+    private static final String AWAIT_PATH = "/api/v1/download-tasks/{downloadTaskId}/await";
+
+    private static final String DOWNLOAD_TASK_ETAG =
+            "\"" + DownloadTaskApiFixtures.DOWNLOAD_TASK_ID + "-v0\"";
+
     @Nested
     @DisplayName("다운로드 작업 상세 조회 API")
     class GetDownloadTaskTest {
@@ -134,4 +152,108 @@ class DownloadTaskQueryControllerRestDocsTest extends RestDocsTestSupport {
                                                     .optional())));
         }
     }
+
+    @Nested
+    @DisplayName("다운로드 작업 조건부 조회 API")
+    class ConditionalGetDownloadTaskTest {
+
+        @Test
+        @DisplayName("GET /api/v1/download-tasks/{downloadTaskId} - 응답에 강한 ETag를 포함한다")
+        void getDownloadTask_includesEtag() throws Exception {
+            // given
+            String downloadTaskId = DownloadTaskApiFixtures.DOWNLOAD_TASK_ID;
+
+            given(getUseCase.execute(any(String.class)))
+                    .willReturn(DownloadTaskApiFixtures.downloadTaskResponse());
+            given(queryMapper.toResponse(any(DownloadTaskResponse.class)))
+                    .willReturn(DownloadTaskApiFixtures.downloadTaskApiResponse());
+
+            // when & then
+            mockMvc.perform(get("/api/v1/download-tasks/{downloadTaskId}", downloadTaskId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, DOWNLOAD_TASK_ETAG));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/download-tasks/{downloadTaskId} - If-None-Match가 일치하면 304를 반환한다")
+        void getDownloadTask_notModified() throws Exception {
+            // given
+            String downloadTaskId = DownloadTaskApiFixtures.DOWNLOAD_TASK_ID;
+
+            given(getUseCase.execute(any(String.class)))
+                    .willReturn(DownloadTaskApiFixtures.downloadTaskResponse());
+
+            // when & then
+            mockMvc.perform(
+                            get("/api/v1/download-tasks/{downloadTaskId}", downloadTaskId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, DOWNLOAD_TASK_ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            then(queryMapper).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("다운로드 작업 종료 대기 API")
+    class AwaitDownloadTaskTest {
+
+        @Test
+        @DisplayName("GET /api/v1/download-tasks/{downloadTaskId}/await - 종료된 다운로드 작업 정보를 반환한다")
+        void awaitDownloadTask_success() throws Exception {
+            // given
+            String downloadTaskId = DownloadTaskApiFixtures.DOWNLOAD_TASK_ID;
+            DownloadTaskResponse response = DownloadTaskApiFixtures.downloadTaskResponse();
+            DownloadTaskApiResponse apiResponse =
+                    DownloadTaskApiFixtures.downloadTaskApiResponse();
+
+            given(awaitUseCase.execute(any(String.class), any(Duration.class)))
+                    .willReturn(CompletableFuture.completedFuture(response));
+            given(queryMapper.toResponse(response)).willReturn(apiResponse);
+
+            // when
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    get(AWAIT_PATH, downloadTaskId)
+                                            .param("waitSeconds", "10"))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(
+                            jsonPath("$.data.downloadTaskId")
+                                    .value(apiResponse.downloadTaskId()))
+                    .andExpect(jsonPath("$.data.status").value(apiResponse.status()))
+                    .andDo(
+                            document.document(
+                                    pathParameters(
+                                            parameterWithName("downloadTaskId")
+                                                    .description("다운로드 작업 ID")),
+                                    queryParameters(
+                                            parameterWithName("waitSeconds")
+                                                    .description("최대 대기 시간(초, 기본 20, 최대 25)")
+                                                    .optional())));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/download-tasks/{downloadTaskId}/await - 대기 시간은 최대 25초로 제한한다")
+        void awaitDownloadTask_clampsWaitSeconds() throws Exception {
+            // given
+            String downloadTaskId = DownloadTaskApiFixtures.DOWNLOAD_TASK_ID;
+
+            given(awaitUseCase.execute(any(String.class), any(Duration.class)))
+                    .willReturn(
+                            CompletableFuture.completedFuture(
+                                    DownloadTaskApiFixtures.downloadTaskResponse()));
+
+            // when
+            mockMvc.perform(get(AWAIT_PATH, downloadTaskId).param("waitSeconds", "600"))
+                    .andExpect(request().asyncStarted());
+
+            // then
+            then(awaitUseCase).should().execute(downloadTaskId, Duration.ofSeconds(25));
+        }
+    }
 }
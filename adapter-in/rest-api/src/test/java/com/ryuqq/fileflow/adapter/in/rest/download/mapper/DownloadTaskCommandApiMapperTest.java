@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTaskApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTasksApiRequest;
 import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTaskCommand;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,4 +51,27 @@ class DownloadTaskCommandApiMapperTest {
             assertThat(command.callbackUrl()).isEqualTo(request.callbackUrl());
         }
     }
+
+    @Nested
+    @DisplayName("toCommand(CreateDownloadTasksApiRequest)")
+    class ToCreateDownloadTasksCommandTest {
+
+        @Test
+        @DisplayName("일괄 생성 요청을 요청 순서대로 Command로 변환한다")
+        void toCommand_createDownloadTasks_success() {
+            // given
+            CreateDownloadTasksApiRequest request =
+                    DownloadTaskApiFixtures.createDownloadTasksRequest();
+
+            // when
+            CreateDownloadTasksCommand command = mapper.toCommand(request);
+
+            // then
+            assertThat(command.tasks())
+                    .extracting(CreateDownloadTaskCommand::sourceUrl)
+                    .containsExactly(
+                            DownloadTaskApiFixtures.SOURCE_URL,
+                            DownloadTaskApiFixtures.BLACKLISTED_SOURCE_URL);
+        }
+    }
 }
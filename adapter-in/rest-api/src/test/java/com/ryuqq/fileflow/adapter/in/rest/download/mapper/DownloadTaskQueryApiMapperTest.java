@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.adapter.in.rest.download.DownloadTaskApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskBatchItemApiResponse;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -84,4 +87,34 @@ class DownloadTaskQueryApiMapperTest {
             assertThat(apiResponse.completedAt()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("toBatchItemResponses(List<DownloadTaskBatchItemResponse>)")
+    class ToBatchItemResponsesTest {
+
+        @Test
+        @DisplayName("성공 항목은 태스크를 변환하고 실패 항목은 에러 정보만 담는다")
+        void toBatchItemResponses_mixedResults_success() {
+            // given
+            List<DownloadTaskBatchItemResponse> responses =
+                    DownloadTaskApiFixtures.downloadTaskBatchItemResponses();
+
+            // when
+            List<DownloadTaskBatchItemApiResponse> result =
+                    mapper.toBatchItemResponses(responses);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).success()).isTrue();
+            assertThat(result.get(0).task().downloadTaskId())
+                    .isEqualTo(DownloadTaskApiFixtures.DOWNLOAD_TASK_ID);
+            assertThat(result.get(0).errorCode()).isNull();
+            assertThat(result.get(1).success()).isFalse();
+            assertThat(result.get(1).sourceUrl())
+                    .isEqualTo(DownloadTaskApiFixtures.BLACKLISTED_SOURCE_URL);
+            assertThat(result.get(1).task()).isNull();
+            assertThat(result.get(1).errorCode())
+                    .isEqualTo(DownloadTaskApiFixtures.BLACKLISTED_ERROR_CODE);
+        }
+    }
 }
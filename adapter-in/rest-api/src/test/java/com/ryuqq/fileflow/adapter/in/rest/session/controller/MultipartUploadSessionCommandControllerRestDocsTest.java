@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.adapter.in.rest.session.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -12,12 +13,14 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.fileflow.adapter.in.rest.session.SessionApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
@@ -26,14 +29,20 @@ import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionCommandApiMapper
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionQueryApiMapper;
 import com.ryuqq.fileflow.application.session.dto.command.AbortMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand.PartItem;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlCommand;
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
 import com.ryuqq.fileflow.application.session.port.in.command.AbortMultipartUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.AddCompletedPartUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.AddCompletedPartsUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.CompleteMultipartUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.CreateMultipartUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.GeneratePresignedPartUrlUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.GeneratePresignedPartUrlsUseCase;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -60,8 +69,12 @@ class MultipartUploadSessionCommandControllerRestDocsTest extends RestDocsTestSu
 
     @MockBean private GeneratePresignedPartUrlUseCase generatePresignedPartUrlUseCase;
 
+    @MockBean private GeneratePresignedPartUrlsUseCase generatePresignedPartUrlsUseCase;
+
     @MockBean private AddCompletedPartUseCase addCompletedPartUseCase;
 
+    @MockBean private AddCompletedPartsUseCase addCompletedPartsUseCase;
+
     @MockBean private CompleteMultipartUploadSessionUseCase completeUseCase;
 
     @MockBean private AbortMultipartUploadSessionUseCase abortUseCase;
@@ -252,6 +265,70 @@ class MultipartUploadSessionCommandControllerRestDocsTest extends RestDocsTestSu
         }
     }
 
+    @Nested
+    @DisplayName("파트 범위 Presigned URL 일괄 발급 API")
+    class GeneratePresignedPartUrlsTest {
+
+        @Test
+        @DisplayName(
+                "GET /api/v1/sessions/multipart/{sessionId}/parts/presigned-urls"
+                        + " - Presigned URL 일괄 발급 성공")
+        void generatePresignedPartUrls_success() throws Exception {
+            // given
+            String sessionId = SessionApiFixtures.SESSION_ID;
+            List<PresignedPartUrlApiResponse> apiResponses =
+                    List.of(
+                            new PresignedPartUrlApiResponse(
+                                    SessionApiFixtures.PRESIGNED_URL, 1, 3600L),
+                            new PresignedPartUrlApiResponse(
+                                    SessionApiFixtures.PRESIGNED_URL, 2, 3600L));
+
+            given(commandMapper.toCommand(anyString(), anyInt(), anyInt()))
+                    .willReturn(new GeneratePresignedPartUrlsCommand(sessionId, 1, 2));
+            given(generatePresignedPartUrlsUseCase.execute(any()))
+                    .willReturn(List.of(SessionApiFixtures.presignedPartUrlResponse()));
+            given(queryMapper.toResponses(anyList())).willReturn(apiResponses);
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                            "/api/v1/sessions/multipart/{sessionId}/parts/presigned-urls",
+                                            sessionId)
+                                    .param("from", "1")
+                                    .param("to", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].partNumber").value(1))
+                    .andExpect(jsonPath("$.data[1].partNumber").value(2))
+                    .andDo(
+                            document.document(
+                                    pathParameters(
+                                            parameterWithName("sessionId").description("세션 ID")),
+                                    queryParameters(
+                                            parameterWithName("from")
+                                                    .description("시작 파트 번호 (포함, 1~10000)"),
+                                            parameterWithName("to")
+                                                    .description("끝 파트 번호 (포함, 최대 from+999)")),
+                                    responseFields(
+                                            fieldWithPath("data[].presignedUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("파트 업로드용 Presigned URL"),
+                                            fieldWithPath("data[].partNumber")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("파트 번호"),
+                                            fieldWithPath("data[].expiresInSeconds")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("Presigned URL 만료까지 남은 시간 (초)"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
+
     @Nested
     @DisplayName("파트 업로드 완료 기록 API")
     class AddCompletedPartTest {
@@ -308,6 +385,69 @@ class MultipartUploadSessionCommandControllerRestDocsTest extends RestDocsTestSu
         }
     }
 
+    @Nested
+    @DisplayName("파트 업로드 완료 일괄 기록 API")
+    class AddCompletedPartsTest {
+
+        @Test
+        @DisplayName("POST /api/v1/sessions/multipart/{sessionId}/parts/batch - 파트 일괄 기록 성공")
+        void addCompletedParts_success() throws Exception {
+            // given
+            String sessionId = SessionApiFixtures.SESSION_ID;
+            AddCompletedPartsApiRequest request =
+                    new AddCompletedPartsApiRequest(
+                            List.of(
+                                    new AddCompletedPartApiRequest(1, "\"etag-1\"", 5_242_880L),
+                                    new AddCompletedPartApiRequest(2, "\"etag-2\"", 5_242_880L)));
+
+            given(commandMapper.toCommand(anyString(), any(AddCompletedPartsApiRequest.class)))
+                    .willReturn(
+                            new AddCompletedPartsCommand(
+                                    sessionId,
+                                    List.of(
+                                            new PartItem(1, "\"etag-1\"", 5_242_880L),
+                                            new PartItem(2, "\"etag-2\"", 5_242_880L))));
+            willDoNothing().given(addCompletedPartsUseCase).execute(any());
+
+            // when & then
+            mockMvc.perform(
+                            post("/api/v1/sessions/multipart/{sessionId}/parts/batch", sessionId)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").doesNotExist())
+                    .andDo(
+                            document.document(
+                                    pathParameters(
+                                            parameterWithName("sessionId").description("세션 ID")),
+                                    requestFields(
+                                            fieldWithPath("parts")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("완료 파트 목록 (최대 1,000건)"),
+                                            fieldWithPath("parts[].partNumber")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("파트 번호"),
+                                            fieldWithPath("parts[].etag")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("파트 ETag"),
+                                            fieldWithPath("parts[].size")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("파트 크기 (bytes)")),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.NULL)
+                                                    .description("응답 데이터 (없음)"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
+
     @Nested
     @DisplayName("멀티파트 업로드 세션 완료 API")
     class CompleteMultipartUploadSessionTest {
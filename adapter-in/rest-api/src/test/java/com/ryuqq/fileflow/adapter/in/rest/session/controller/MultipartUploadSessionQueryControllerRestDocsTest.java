@@ -7,13 +7,19 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.fileflow.adapter.in.rest.session.SessionApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionSummaryApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionQueryApiMapper;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
+import com.ryuqq.fileflow.application.session.port.in.query.GetCompletedPartsUseCase;
+import com.ryuqq.fileflow.application.session.port.in.query.GetMultipartUploadSessionSummaryUseCase;
 import com.ryuqq.fileflow.application.session.port.in.query.GetMultipartUploadSessionUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +44,10 @@ class MultipartUploadSessionQueryControllerRestDocsTest extends RestDocsTestSupp
 
     @MockBean private GetMultipartUploadSessionUseCase getUseCase;
 
+    @MockBean private GetMultipartUploadSessionSummaryUseCase getSummaryUseCase;
+
+    @MockBean private GetCompletedPartsUseCase getCompletedPartsUseCase;
+
     @MockBean private SessionQueryApiMapper queryMapper;
 
     @Nested
@@ -134,4 +144,161 @@ class MultipartUploadSessionQueryControllerRestDocsTest extends RestDocsTestSupp
                                                     .optional())));
         }
     }
+
+    @Nested
+    @DisplayName("멀티파트 업로드 세션 요약 조회 API")
+    class GetMultipartUploadSessionSummaryTest {
+
+        @Test
+        @DisplayName("GET /api/v1/sessions/multipart/{sessionId}/summary - 요약 조회 성공")
+        void getSummary_success() throws Exception {
+            // given
+            String sessionId = SessionApiFixtures.SESSION_ID;
+            MultipartUploadSessionSummaryApiResponse apiResponse =
+                    SessionApiFixtures.multipartUploadSessionSummaryApiResponse();
+
+            given(getSummaryUseCase.execute(any(String.class)))
+                    .willReturn(SessionApiFixtures.multipartUploadSessionSummaryResponse());
+            given(queryMapper.toResponse(any(MultipartUploadSessionSummaryResponse.class)))
+                    .willReturn(apiResponse);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/sessions/multipart/{sessionId}/summary", sessionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.sessionId").value(apiResponse.sessionId()))
+                    .andExpect(
+                            jsonPath("$.data.uploadedBytes").value(apiResponse.uploadedBytes()))
+                    .andExpect(
+                            jsonPath("$.data.highestContiguousPartNumber")
+                                    .value(apiResponse.highestContiguousPartNumber()))
+                    .andExpect(jsonPath("$.data.completedParts").doesNotExist())
+                    .andDo(
+                            document.document(
+                                    pathParameters(
+                                            parameterWithName("sessionId").description("세션 ID")),
+                                    responseFields(
+                                            fieldWithPath("data.sessionId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("세션 ID"),
+                                            fieldWithPath("data.uploadId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 멀티파트 업로드 ID"),
+                                            fieldWithPath("data.s3Key")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 객체 키"),
+                                            fieldWithPath("data.bucket")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 버킷명"),
+                                            fieldWithPath("data.accessType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("접근 유형"),
+                                            fieldWithPath("data.fileName")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("원본 파일명"),
+                                            fieldWithPath("data.contentType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("MIME 타입"),
+                                            fieldWithPath("data.partSize")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("파트 크기 (bytes)"),
+                                            fieldWithPath("data.status")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("세션 상태"),
+                                            fieldWithPath("data.completedPartCount")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("완료된 파트 수"),
+                                            fieldWithPath("data.uploadedBytes")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("완료된 파트 크기 합계 (bytes)"),
+                                            fieldWithPath("data.highestContiguousPartNumber")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("1번부터 빠짐없이 완료된 마지막 파트 번호"),
+                                            fieldWithPath("data.expiresAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("만료 시각 (ISO 8601)"),
+                                            fieldWithPath("data.createdAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("생성 시각 (ISO 8601)"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
+
+    @Nested
+    @DisplayName("완료 파트 목록 조회 API")
+    class GetCompletedPartsTest {
+
+        @Test
+        @DisplayName("GET /api/v1/sessions/multipart/{sessionId}/parts - 완료 파트 페이지 조회 성공")
+        void getCompletedParts_success() throws Exception {
+            // given
+            String sessionId = SessionApiFixtures.SESSION_ID;
+            CompletedPartSearchParams params = CompletedPartSearchParams.of(sessionId, 0, 2);
+
+            given(queryMapper.toSearchParams(sessionId, 0, 2)).willReturn(params);
+            given(getCompletedPartsUseCase.execute(params))
+                    .willReturn(SessionApiFixtures.completedPartSliceResponse());
+            given(queryMapper.toPartSliceResponse(any()))
+                    .willReturn(SessionApiFixtures.completedPartSliceApiResponse());
+
+            // when & then
+            mockMvc.perform(
+                            get("/api/v1/sessions/multipart/{sessionId}/parts", sessionId)
+                                    .param("cursor", "0")
+                                    .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(2))
+                    .andExpect(jsonPath("$.data.content[0].partNumber").value(1))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.nextCursor").value("2"))
+                    .andDo(
+                            document.document(
+                                    pathParameters(
+                                            parameterWithName("sessionId").description("세션 ID")),
+                                    queryParameters(
+                                            parameterWithName("cursor")
+                                                    .description("이전 페이지의 마지막 파트 번호 (없으면 첫 페이지)")
+                                                    .optional(),
+                                            parameterWithName("size")
+                                                    .description("페이지 크기 (기본 100, 최대 1,000)")
+                                                    .optional()),
+                                    responseFields(
+                                            fieldWithPath("data.content")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("완료된 파트 목록 (파트 번호 오름차순)"),
+                                            fieldWithPath("data.content[].partNumber")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("파트 번호"),
+                                            fieldWithPath("data.content[].etag")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("파트 ETag"),
+                                            fieldWithPath("data.content[].size")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("파트 크기 (bytes)"),
+                                            fieldWithPath("data.size")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("페이지 크기"),
+                                            fieldWithPath("data.hasNext")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("다음 페이지 존재 여부"),
+                                            fieldWithPath("data.nextCursor")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("다음 페이지 커서 (마지막 파트 번호)")
+                                                    .optional(),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
 }
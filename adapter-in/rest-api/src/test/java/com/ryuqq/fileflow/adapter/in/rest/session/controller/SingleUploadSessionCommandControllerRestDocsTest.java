@@ -1,6 +1,7 @@
 package com.ryuqq.fileflow.adapter.in.rest.session.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
@@ -16,11 +17,15 @@ import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.fileflow.adapter.in.rest.session.SessionApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteSingleUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.SingleUploadSessionApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionCommandApiMapper;
 import com.ryuqq.fileflow.adapter.in.rest.session.mapper.SessionQueryApiMapper;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
 import com.ryuqq.fileflow.application.session.port.in.command.CompleteSingleUploadSessionUseCase;
 import com.ryuqq.fileflow.application.session.port.in.command.CreateSingleUploadSessionUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.CreateSingleUploadSessionsUseCase;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -45,6 +50,8 @@ class SingleUploadSessionCommandControllerRestDocsTest extends RestDocsTestSuppo
 
     @MockBean private CreateSingleUploadSessionUseCase createUseCase;
 
+    @MockBean private CreateSingleUploadSessionsUseCase createBatchUseCase;
+
     @MockBean private CompleteSingleUploadSessionUseCase completeUseCase;
 
     @MockBean private SessionCommandApiMapper commandMapper;
@@ -154,6 +161,104 @@ class SingleUploadSessionCommandControllerRestDocsTest extends RestDocsTestSuppo
         }
     }
 
+    @Nested
+    @DisplayName("단건 업로드 세션 일괄 생성 API")
+    class CreateSingleUploadSessionsTest {
+
+        @Test
+        @DisplayName("POST /api/v1/sessions/single/batch - 단건 업로드 세션 일괄 생성 성공")
+        void createSingleUploadSessions_success() throws Exception {
+            // given
+            CreateSingleUploadSessionsApiRequest request =
+                    SessionApiFixtures.createSingleUploadSessionsRequest();
+            SingleUploadSessionApiResponse apiResponse =
+                    SessionApiFixtures.singleUploadSessionApiResponse();
+
+            given(commandMapper.toCommand(any(CreateSingleUploadSessionsApiRequest.class)))
+                    .willReturn(new CreateSingleUploadSessionsCommand(List.of()));
+            given(createBatchUseCase.execute(any()))
+                    .willReturn(
+                            List.of(
+                                    SessionApiFixtures.singleUploadSessionResponse(),
+                                    SessionApiFixtures.singleUploadSessionResponse()));
+            given(queryMapper.toSingleResponses(anyList()))
+                    .willReturn(List.of(apiResponse, apiResponse));
+
+            // when & then
+            mockMvc.perform(
+                            post("/api/v1/sessions/single/batch")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[0].presignedUrl").value(apiResponse.presignedUrl()))
+                    .andDo(
+                            document.document(
+                                    requestFields(
+                                            fieldWithPath("sessions")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("세션 생성 요청 목록 (최대 200건)"),
+                                            fieldWithPath("sessions[].fileName")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("원본 파일명"),
+                                            fieldWithPath("sessions[].contentType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("MIME 타입"),
+                                            fieldWithPath("sessions[].accessType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description(
+                                                            "접근 유형 (PUBLIC: 공개, INTERNAL: 내부)"),
+                                            fieldWithPath("sessions[].purpose")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("파일 용도"),
+                                            fieldWithPath("sessions[].source")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 서비스명")),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("생성된 세션 목록 (요청 순서)"),
+                                            fieldWithPath("data[].sessionId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("세션 ID"),
+                                            fieldWithPath("data[].presignedUrl")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("Presigned Upload URL"),
+                                            fieldWithPath("data[].s3Key")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 객체 키"),
+                                            fieldWithPath("data[].bucket")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("S3 버킷명"),
+                                            fieldWithPath("data[].accessType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("접근 유형"),
+                                            fieldWithPath("data[].fileName")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("원본 파일명"),
+                                            fieldWithPath("data[].contentType")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("MIME 타입"),
+                                            fieldWithPath("data[].status")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("세션 상태"),
+                                            fieldWithPath("data[].expiresAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("만료 시각 (ISO 8601)"),
+                                            fieldWithPath("data[].createdAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("생성 시각 (ISO 8601)"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시각")
+                                                    .optional(),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID")
+                                                    .optional())));
+        }
+    }
+
     @Nested
     @DisplayName("단건 업로드 세션 완료 API")
     class CompleteSingleUploadSessionTest {
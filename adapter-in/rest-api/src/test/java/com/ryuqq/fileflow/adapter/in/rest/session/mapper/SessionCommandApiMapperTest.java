@@ -4,17 +4,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.adapter.in.rest.session.SessionApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteSingleUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionsApiRequest;
 import com.ryuqq.fileflow.application.session.dto.command.AbortMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand.PartItem;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteSingleUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionCommand;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
 import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlCommand;
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -126,6 +133,26 @@ class SessionCommandApiMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("toCommand(String, int, int) - GeneratePresignedPartUrls")
+    class ToGeneratePresignedPartUrlsCommandTest {
+
+        @Test
+        @DisplayName("세션 ID와 파트 범위로 Presigned URL 일괄 발급 Command를 생성한다")
+        void toCommand_generatePresignedPartUrls_success() {
+            // given
+            String sessionId = SessionApiFixtures.SESSION_ID;
+
+            // when
+            GeneratePresignedPartUrlsCommand command = mapper.toCommand(sessionId, 1, 100);
+
+            // then
+            assertThat(command.sessionId()).isEqualTo(sessionId);
+            assertThat(command.fromPartNumber()).isEqualTo(1);
+            assertThat(command.toPartNumber()).isEqualTo(100);
+        }
+    }
+
     @Nested
     @DisplayName("toCommand(String, AddCompletedPartApiRequest)")
     class ToAddCompletedPartCommandTest {
@@ -148,6 +175,54 @@ class SessionCommandApiMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("toCommand(CreateSingleUploadSessionsApiRequest)")
+    class ToCreateSingleUploadSessionsCommandTest {
+
+        @Test
+        @DisplayName("일괄 생성 요청을 순서를 유지한 Command로 변환한다")
+        void toCommand_createSingleUploadSessions_success() {
+            // given
+            CreateSingleUploadSessionsApiRequest request =
+                    SessionApiFixtures.createSingleUploadSessionsRequest();
+
+            // when
+            CreateSingleUploadSessionsCommand command = mapper.toCommand(request);
+
+            // then
+            assertThat(command.sessions()).hasSize(2);
+            assertThat(command.sessions().get(0).fileName())
+                    .isEqualTo(request.sessions().get(0).fileName());
+        }
+    }
+
+    @Nested
+    @DisplayName("toCommand(String, AddCompletedPartsApiRequest)")
+    class ToAddCompletedPartsCommandTest {
+
+        @Test
+        @DisplayName("파트 일괄 기록 요청을 순서를 유지한 Command로 변환한다")
+        void toCommand_addCompletedParts_success() {
+            // given
+            String sessionId = SessionApiFixtures.SESSION_ID;
+            AddCompletedPartsApiRequest request =
+                    new AddCompletedPartsApiRequest(
+                            List.of(
+                                    new AddCompletedPartApiRequest(2, "etag-2", 5_242_880L),
+                                    new AddCompletedPartApiRequest(1, "etag-1", 1_024L)));
+
+            // when
+            AddCompletedPartsCommand command = mapper.toCommand(sessionId, request);
+
+            // then
+            assertThat(command.sessionId()).isEqualTo(sessionId);
+            assertThat(command.parts())
+                    .containsExactly(
+                            new PartItem(2, "etag-2", 5_242_880L),
+                            new PartItem(1, "etag-1", 1_024L));
+        }
+    }
+
     @Nested
     @DisplayName("toCommand(String, CompleteMultipartUploadSessionApiRequest)")
     class ToCompleteMultipartUploadSessionCommandTest {
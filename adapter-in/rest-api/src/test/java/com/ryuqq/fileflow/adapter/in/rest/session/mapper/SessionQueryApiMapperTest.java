@@ -2,13 +2,21 @@ package com.ryuqq.fileflow.adapter.in.rest.session.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.SessionApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse.CompletedPartApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionSummaryApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.PresignedPartUrlApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.SingleUploadSessionApiResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
 import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +39,26 @@ class SessionQueryApiMapperTest {
         mapper = new SessionQueryApiMapper();
     }
 
+    @Nested
+    @DisplayName("toSingleResponses(List<SingleUploadSessionResponse>)")
+    class ToSingleUploadSessionApiResponsesTest {
+
+        @Test
+        @DisplayName("순서를 유지하여 목록을 변환한다")
+        void toSingleResponses_success() {
+            // given
+            SingleUploadSessionResponse response = SessionApiFixtures.singleUploadSessionResponse();
+
+            // when
+            List<SingleUploadSessionApiResponse> apiResponses =
+                    mapper.toSingleResponses(List.of(response, response));
+
+            // then
+            assertThat(apiResponses).hasSize(2);
+            assertThat(apiResponses.get(0).sessionId()).isEqualTo(response.sessionId());
+        }
+    }
+
     @Nested
     @DisplayName("toResponse(SingleUploadSessionResponse)")
     class ToSingleUploadSessionApiResponseTest {
@@ -124,6 +152,87 @@ class SessionQueryApiMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("toResponse(MultipartUploadSessionSummaryResponse)")
+    class ToMultipartUploadSessionSummaryApiResponseTest {
+
+        @Test
+        @DisplayName("요약 응답의 집계 값과 날짜를 변환한다")
+        void toResponse_summary_success() {
+            // given
+            MultipartUploadSessionSummaryResponse response =
+                    SessionApiFixtures.multipartUploadSessionSummaryResponse();
+
+            // when
+            MultipartUploadSessionSummaryApiResponse apiResponse = mapper.toResponse(response);
+
+            // then
+            assertThat(apiResponse.sessionId()).isEqualTo(response.sessionId());
+            assertThat(apiResponse.accessType()).isEqualTo(response.accessType().name());
+            assertThat(apiResponse.completedPartCount()).isEqualTo(response.completedPartCount());
+            assertThat(apiResponse.uploadedBytes()).isEqualTo(response.uploadedBytes());
+            assertThat(apiResponse.highestContiguousPartNumber())
+                    .isEqualTo(response.highestContiguousPartNumber());
+            assertThat(apiResponse.expiresAt()).contains("T");
+            assertThat(apiResponse.createdAt()).contains("T");
+        }
+    }
+
+    @Nested
+    @DisplayName("toSearchParams")
+    class ToSearchParamsTest {
+
+        @Test
+        @DisplayName("커서와 크기가 없으면 첫 페이지 기본값으로 생성한다")
+        void toSearchParams_defaults() {
+            // when
+            CompletedPartSearchParams params =
+                    mapper.toSearchParams(SessionApiFixtures.SESSION_ID, null, null);
+
+            // then
+            assertThat(params.sessionId()).isEqualTo(SessionApiFixtures.SESSION_ID);
+            assertThat(params.afterPartNumber()).isZero();
+            assertThat(params.size()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("커서와 크기를 그대로 전달한다")
+        void toSearchParams_withCursor() {
+            // when
+            CompletedPartSearchParams params =
+                    mapper.toSearchParams(SessionApiFixtures.SESSION_ID, 200, 50);
+
+            // then
+            assertThat(params.afterPartNumber()).isEqualTo(200);
+            assertThat(params.size()).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    @DisplayName("toPartSliceResponse")
+    class ToPartSliceResponseTest {
+
+        @Test
+        @DisplayName("완료 파트 슬라이스를 커서와 함께 변환한다")
+        void toPartSliceResponse_success() {
+            // given
+            SliceResponse<CompletedPartResponse> response =
+                    SessionApiFixtures.completedPartSliceResponse();
+
+            // when
+            SliceApiResponse<CompletedPartApiResponse> apiResponse =
+                    mapper.toPartSliceResponse(response);
+
+            // then
+            assertThat(apiResponse.content())
+                    .extracting(CompletedPartApiResponse::partNumber)
+                    .containsExactly(1, 2);
+            assertThat(apiResponse.size()).isEqualTo(response.size());
+            assertThat(apiResponse.hasNext()).isTrue();
+            assertThat(apiResponse.nextCursor()).isEqualTo("2");
+        }
+    }
+
     @Nested
     @DisplayName("toResponse(PresignedPartUrlResponse)")
     class ToPresignedPartUrlApiResponseTest {
@@ -143,4 +252,28 @@ class SessionQueryApiMapperTest {
             assertThat(apiResponse.expiresInSeconds()).isEqualTo(response.expiresInSeconds());
         }
     }
+
+    @Nested
+    @DisplayName("toResponses(List<PresignedPartUrlResponse>)")
+    class ToPresignedPartUrlApiResponsesTest {
+
+        @Test
+        @DisplayName("PresignedPartUrlResponse 목록을 순서대로 변환한다")
+        void toResponses_presignedPartUrls_keepsOrder() {
+            // given
+            List<PresignedPartUrlResponse> responses =
+                    List.of(
+                            new PresignedPartUrlResponse("https://url/1", 1, 3600L),
+                            new PresignedPartUrlResponse("https://url/2", 2, 3600L));
+
+            // when
+            List<PresignedPartUrlApiResponse> apiResponses = mapper.toResponses(responses);
+
+            // then
+            assertThat(apiResponses)
+                    .extracting(PresignedPartUrlApiResponse::partNumber)
+                    .containsExactly(1, 2);
+            assertThat(apiResponses.get(1).presignedUrl()).isEqualTo("https://url/2");
+        }
+    }
 }
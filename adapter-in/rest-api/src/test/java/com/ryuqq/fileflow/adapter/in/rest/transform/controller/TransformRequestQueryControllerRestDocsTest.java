@@ -2,12 +2,18 @@ package com.ryuqq.fileflow.adapter.in.rest.transform.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.fileflow.adapter.in.rest.common.RestDocsTestSupport;
@@ -15,7 +21,10 @@ import com.ryuqq.fileflow.adapter.in.rest.transform.TransformRequestApiFixtures;
 import com.ryuqq.fileflow.adapter.in.rest.transform.dto.response.TransformRequestApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.transform.mapper.TransformRequestQueryApiMapper;
 import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
+import com.ryuqq.fileflow.application.transform.port.in.query.AwaitTransformRequestCompletionUseCase;
 import com.ryuqq.fileflow.application.transform.port.in.query.GetTransformRequestUseCase;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -23,7 +32,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * TransformRequestQueryController REST Docs 테스트.
@@ -39,8 +50,16 @@ class TransformRequestQueryControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockBean private GetTransformRequestUseCase getUseCase;
 
+    @MockBean private AwaitTransformRequestCompletionUseCase awaitUseCase;
+
     @MockBean private TransformRequestQueryApiMapper queryMapper;
 
+    private static final String AWAIT_PATH =
+            "/api/v1/transform-requests/{transformRequestId}/await";
+
+    private static final String TRANSFORM_REQUEST_ETAG =
+            "\"" + TransformRequestApiFixtures.TRANSFORM_REQUEST_ID + "-v0\"";
+
     @Nested
     @DisplayName("이미지 변환 요청 상세 조회 API")
     class GetTransformRequestTest {
@@ -132,4 +151,114 @@ class TransformRequestQueryControllerRestDocsTest extends RestDocsTestSupport {
                                                     .optional())));
         }
     }
+
+    @Nested
+    @DisplayName("이미지 변환 요청 조건부 조회 API")
+    class ConditionalGetTransformRequestTest {
+
+        @Test
+        @DisplayName("GET /api/v1/transform-requests/{transformRequestId} - 응답에 강한 ETag를 포함한다")
+        void getTransformRequest_includesEtag() throws Exception {
+            // given
+            String transformRequestId = TransformRequestApiFixtures.TRANSFORM_REQUEST_ID;
+
+            given(getUseCase.execute(any(String.class)))
+                    .willReturn(TransformRequestApiFixtures.transformRequestResponse());
+            given(queryMapper.toResponse(any(TransformRequestResponse.class)))
+                    .willReturn(TransformRequestApiFixtures.transformRequestApiResponse());
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                    "/api/v1/transform-requests/{transformRequestId}",
+                                    transformRequestId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, TRANSFORM_REQUEST_ETAG));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/transform-requests/{transformRequestId} - If-None-Match가 일치하면 304를 반환한다")
+        void getTransformRequest_notModified() throws Exception {
+            // given
+            String transformRequestId = TransformRequestApiFixtures.TRANSFORM_REQUEST_ID;
+
+            given(getUseCase.execute(any(String.class)))
+                    .willReturn(TransformRequestApiFixtures.transformRequestResponse());
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                            "/api/v1/transform-requests/{transformRequestId}",
+                                            transformRequestId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, TRANSFORM_REQUEST_ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            then(queryMapper).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("변환 요청 종료 대기 API")
+    class AwaitTransformRequestTest {
+
+        @Test
+        @DisplayName("GET /api/v1/transform-requests/{transformRequestId}/await - 종료된 변환 요청 정보를 반환한다")
+        void awaitTransformRequest_success() throws Exception {
+            // given
+            String transformRequestId = TransformRequestApiFixtures.TRANSFORM_REQUEST_ID;
+            TransformRequestResponse response =
+                    TransformRequestApiFixtures.transformRequestResponse();
+            TransformRequestApiResponse apiResponse =
+                    TransformRequestApiFixtures.transformRequestApiResponse();
+
+            given(awaitUseCase.execute(any(String.class), any(Duration.class)))
+                    .willReturn(CompletableFuture.completedFuture(response));
+            given(queryMapper.toResponse(response)).willReturn(apiResponse);
+
+            // when
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    get(AWAIT_PATH, transformRequestId)
+                                            .param("waitSeconds", "10"))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(
+                            jsonPath("$.data.transformRequestId")
+                                    .value(apiResponse.transformRequestId()))
+                    .andExpect(jsonPath("$.data.status").value(apiResponse.status()))
+                    .andDo(
+                            document.document(
+                                    pathParameters(
+                                            parameterWithName("transformRequestId")
+                                                    .description("변환 요청 ID")),
+                                    queryParameters(
+                                            parameterWithName("waitSeconds")
+                                                    .description("최대 대기 시간(초, 기본 20, 최대 25)")
+                                                    .optional())));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/transform-requests/{transformRequestId}/await - 대기 시간은 최대 25초로 제한한다")
+        void awaitTransformRequest_clampsWaitSeconds() throws Exception {
+            // given
+            String transformRequestId = TransformRequestApiFixtures.TRANSFORM_REQUEST_ID;
+
+            given(awaitUseCase.execute(any(String.class), any(Duration.class)))
+                    .willReturn(
+                            CompletableFuture.completedFuture(
+                                    TransformRequestApiFixtures.transformRequestResponse()));
+
+            // when
+            mockMvc.perform(get(AWAIT_PATH, transformRequestId).param("waitSeconds", "600"))
+                    .andExpect(request().asyncStarted());
+
+            // then
+            then(awaitUseCase).should().execute(transformRequestId, Duration.ofSeconds(25));
+        }
+    }
 }
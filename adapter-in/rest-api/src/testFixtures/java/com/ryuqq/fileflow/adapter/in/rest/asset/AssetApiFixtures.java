@@ -1,12 +1,22 @@
 package com.ryuqq.fileflow.adapter.in.rest.asset;
 
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.BatchGetAssetsApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.query.SearchAssetsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetBatchApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetDetailApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.asset.dto.response.AssetMetadataApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetDetailResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import com.ryuqq.fileflow.domain.asset.vo.AssetOrigin;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Asset API 테스트 Fixtures.
@@ -21,6 +31,8 @@ public final class AssetApiFixtures {
     // ===== 공통 상수 =====
     public static final String ASSET_ID = "asset_test_abc123";
     public static final String METADATA_ID = "meta_test_abc123";
+    public static final String MISSING_ASSET_ID = "asset_test_missing";
+    public static final String NEXT_CURSOR = "MjAyNi0wMi0wOVQwOTozMDowMFp8YXNzZXRfdGVzdF9hYmMxMjM";
     public static final String S3_KEY = "public/2026/02/product-image.jpg";
     public static final String BUCKET = "fileflow-bucket";
     public static final String FILE_NAME = "product-image.jpg";
@@ -53,12 +65,41 @@ public final class AssetApiFixtures {
                 ORIGIN_ID,
                 PURPOSE,
                 SOURCE,
+                CREATED_AT,
                 CREATED_AT);
     }
 
     public static AssetMetadataResponse assetMetadataResponse() {
         return new AssetMetadataResponse(
-                METADATA_ID, ASSET_ID, WIDTH, HEIGHT, TRANSFORM_TYPE, CREATED_AT);
+                METADATA_ID, ASSET_ID, WIDTH, HEIGHT, TRANSFORM_TYPE, CREATED_AT, CREATED_AT);
+    }
+
+    public static AssetBatchResponse assetBatchResponse() {
+        return new AssetBatchResponse(
+                List.of(new AssetDetailResponse(assetResponse(), assetMetadataResponse())),
+                List.of(MISSING_ASSET_ID));
+    }
+
+    public static SliceResponse<AssetResponse> assetSliceResponse() {
+        return SliceResponse.of(List.of(assetResponse()), 1, true, NEXT_CURSOR);
+    }
+
+    // ===== API Request Fixtures =====
+
+    public static SearchAssetsApiRequest searchAssetsRequest() {
+        return new SearchAssetsApiRequest(
+                SOURCE,
+                PURPOSE,
+                AccessType.PUBLIC,
+                CREATED_AT,
+                null,
+                SortDirection.ASC,
+                null,
+                1);
+    }
+
+    public static BatchGetAssetsApiRequest batchGetAssetsRequest() {
+        return new BatchGetAssetsApiRequest(List.of(ASSET_ID, MISSING_ASSET_ID));
     }
 
     // ===== API Response Fixtures =====
@@ -85,4 +126,14 @@ public final class AssetApiFixtures {
         return new AssetMetadataApiResponse(
                 METADATA_ID, ASSET_ID, WIDTH, HEIGHT, TRANSFORM_TYPE, "2026-02-09T18:30:00+09:00");
     }
+
+    public static AssetBatchApiResponse assetBatchApiResponse() {
+        return new AssetBatchApiResponse(
+                List.of(new AssetDetailApiResponse(assetApiResponse(), assetMetadataApiResponse())),
+                List.of(MISSING_ASSET_ID));
+    }
+
+    public static SliceApiResponse<AssetApiResponse> assetSliceApiResponse() {
+        return SliceApiResponse.of(List.of(assetApiResponse()), 1, true, NEXT_CURSOR);
+    }
 }
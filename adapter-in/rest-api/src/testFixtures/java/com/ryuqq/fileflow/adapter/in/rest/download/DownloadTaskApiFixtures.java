@@ -1,10 +1,14 @@
 package com.ryuqq.fileflow.adapter.in.rest.download;
 
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTaskApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.command.CreateDownloadTasksApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.download.dto.response.DownloadTaskBatchItemApiResponse;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * DownloadTask API 테스트 Fixtures.
@@ -31,6 +35,9 @@ public final class DownloadTaskApiFixtures {
     public static final Instant CREATED_AT = Instant.parse("2026-02-09T09:30:00Z");
     public static final Instant STARTED_AT = null;
     public static final Instant COMPLETED_AT = null;
+    public static final String BLACKLISTED_SOURCE_URL = "https://example.com/files/missing.jpg";
+    public static final String BLACKLISTED_ERROR_CODE = "DOWNLOAD-008";
+    public static final String BLACKLISTED_ERROR_MESSAGE = "영구 실패로 블랙리스트에 등록된 URL입니다";
 
     // ===== Request Fixtures =====
 
@@ -39,6 +46,18 @@ public final class DownloadTaskApiFixtures {
                 SOURCE_URL, AccessType.PUBLIC, PURPOSE, SOURCE, CALLBACK_URL);
     }
 
+    public static CreateDownloadTasksApiRequest createDownloadTasksRequest() {
+        return new CreateDownloadTasksApiRequest(
+                List.of(
+                        createDownloadTaskRequest(),
+                        new CreateDownloadTaskApiRequest(
+                                BLACKLISTED_SOURCE_URL,
+                                AccessType.PUBLIC,
+                                PURPOSE,
+                                SOURCE,
+                                CALLBACK_URL)));
+    }
+
     // ===== Application Response Fixtures =====
 
     public static DownloadTaskResponse downloadTaskResponse() {
@@ -58,7 +77,17 @@ public final class DownloadTaskApiFixtures {
                 LAST_ERROR,
                 CREATED_AT,
                 STARTED_AT,
-                COMPLETED_AT);
+                COMPLETED_AT,
+                0L);
+    }
+
+    public static List<DownloadTaskBatchItemResponse> downloadTaskBatchItemResponses() {
+        return List.of(
+                DownloadTaskBatchItemResponse.created(downloadTaskResponse()),
+                DownloadTaskBatchItemResponse.rejected(
+                        BLACKLISTED_SOURCE_URL,
+                        BLACKLISTED_ERROR_CODE,
+                        BLACKLISTED_ERROR_MESSAGE));
     }
 
     // ===== API Response Fixtures =====
@@ -82,4 +111,16 @@ public final class DownloadTaskApiFixtures {
                 null,
                 null);
     }
+
+    public static List<DownloadTaskBatchItemApiResponse> downloadTaskBatchItemApiResponses() {
+        return List.of(
+                new DownloadTaskBatchItemApiResponse(
+                        SOURCE_URL, true, downloadTaskApiResponse(), null, null),
+                new DownloadTaskBatchItemApiResponse(
+                        BLACKLISTED_SOURCE_URL,
+                        false,
+                        null,
+                        BLACKLISTED_ERROR_CODE,
+                        BLACKLISTED_ERROR_MESSAGE));
+    }
 }
@@ -1,16 +1,21 @@
 package com.ryuqq.fileflow.adapter.in.rest.session;
 
+import com.ryuqq.fileflow.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.AddCompletedPartApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CompleteSingleUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateMultipartUploadSessionApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionApiRequest;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.command.CreateSingleUploadSessionsApiRequest;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionApiResponse.CompletedPartApiResponse;
+import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.MultipartUploadSessionSummaryApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.PresignedPartUrlApiResponse;
 import com.ryuqq.fileflow.adapter.in.rest.session.dto.response.SingleUploadSessionApiResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
 import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
@@ -52,6 +57,11 @@ public final class SessionApiFixtures {
                 FILE_NAME, CONTENT_TYPE, AccessType.PUBLIC, PURPOSE, SOURCE);
     }
 
+    public static CreateSingleUploadSessionsApiRequest createSingleUploadSessionsRequest() {
+        return new CreateSingleUploadSessionsApiRequest(
+                List.of(createSingleUploadSessionRequest(), createSingleUploadSessionRequest()));
+    }
+
     public static CompleteSingleUploadSessionApiRequest completeSingleUploadSessionRequest() {
         return new CompleteSingleUploadSessionApiRequest(FILE_SIZE, ETAG);
     }
@@ -109,6 +119,34 @@ public final class SessionApiFixtures {
                 CREATED_AT);
     }
 
+    public static MultipartUploadSessionSummaryResponse multipartUploadSessionSummaryResponse() {
+        return new MultipartUploadSessionSummaryResponse(
+                SESSION_ID,
+                UPLOAD_ID,
+                S3_KEY,
+                BUCKET,
+                AccessType.PUBLIC,
+                "large-video.mp4",
+                "video/mp4",
+                PART_SIZE,
+                STATUS_INITIATED,
+                2,
+                PART_SIZE * 2,
+                2,
+                EXPIRES_AT,
+                CREATED_AT);
+    }
+
+    public static SliceResponse<CompletedPartResponse> completedPartSliceResponse() {
+        return SliceResponse.of(
+                List.of(
+                        new CompletedPartResponse(1, ETAG, PART_SIZE),
+                        new CompletedPartResponse(2, ETAG, PART_SIZE)),
+                2,
+                true,
+                "2");
+    }
+
     public static PresignedPartUrlResponse presignedPartUrlResponse() {
         return new PresignedPartUrlResponse(PRESIGNED_URL, 1, 3600L);
     }
@@ -148,6 +186,35 @@ public final class SessionApiFixtures {
                 "2026-02-09T18:30:00+09:00");
     }
 
+    public static MultipartUploadSessionSummaryApiResponse
+            multipartUploadSessionSummaryApiResponse() {
+        return new MultipartUploadSessionSummaryApiResponse(
+                SESSION_ID,
+                UPLOAD_ID,
+                S3_KEY,
+                BUCKET,
+                "PUBLIC",
+                "large-video.mp4",
+                "video/mp4",
+                PART_SIZE,
+                STATUS_INITIATED,
+                2,
+                PART_SIZE * 2,
+                2,
+                "2026-02-10T19:30:00+09:00",
+                "2026-02-09T18:30:00+09:00");
+    }
+
+    public static SliceApiResponse<CompletedPartApiResponse> completedPartSliceApiResponse() {
+        return SliceApiResponse.of(
+                List.of(
+                        new CompletedPartApiResponse(1, ETAG, PART_SIZE),
+                        new CompletedPartApiResponse(2, ETAG, PART_SIZE)),
+                2,
+                true,
+                "2");
+    }
+
     public static PresignedPartUrlApiResponse presignedPartUrlApiResponse() {
         return new PresignedPartUrlApiResponse(PRESIGNED_URL, 1, 3600L);
     }
@@ -53,7 +53,8 @@ public final class TransformRequestApiFixtures {
                 RESULT_ASSET_ID,
                 LAST_ERROR,
                 CREATED_AT,
-                COMPLETED_AT);
+                COMPLETED_AT,
+                0L);
     }
 
     // ===== API Response Fixtures =====
@@ -15,6 +15,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @see com.ryuqq.fileflow.adapter.in.scheduler.transform.TransformOutboxRecoveryScheduler
  * @see com.ryuqq.fileflow.adapter.in.scheduler.session.SingleSessionZombieRecoveryScheduler
  * @see com.ryuqq.fileflow.adapter.in.scheduler.session.MultipartSessionZombieRecoveryScheduler
+ * @see com.ryuqq.fileflow.adapter.in.scheduler.session.SingleSessionExpiryScheduler
+ * @see com.ryuqq.fileflow.adapter.in.scheduler.session.MultipartSessionExpiryScheduler
+ * @see com.ryuqq.fileflow.adapter.in.scheduler.session.OrphanMultipartUploadSweepScheduler
  */
 @ConfigurationProperties(prefix = "scheduler")
 public record SchedulerProperties(Jobs jobs) {
@@ -29,7 +32,10 @@ public record SchedulerProperties(Jobs jobs) {
             DownloadOutboxRecovery downloadOutboxRecovery,
             TransformOutboxRecovery transformOutboxRecovery,
             SingleSessionZombieRecovery singleSessionZombieRecovery,
-            MultipartSessionZombieRecovery multipartSessionZombieRecovery) {}
+            MultipartSessionZombieRecovery multipartSessionZombieRecovery,
+            SingleSessionExpiry singleSessionExpiry,
+            MultipartSessionExpiry multipartSessionExpiry,
+            OrphanMultipartUploadSweep orphanMultipartUploadSweep) {}
 
     public record DownloadZombieRecovery(
             boolean enabled, String cron, String timezone, int batchSize, long timeoutSeconds) {}
@@ -59,4 +65,18 @@ public record SchedulerProperties(Jobs jobs) {
 
     public record MultipartSessionZombieRecovery(
             boolean enabled, String cron, String timezone, int batchSize) {}
+
+    public record SingleSessionExpiry(
+            boolean enabled, String cron, String timezone, int batchSize) {}
+
+    public record MultipartSessionExpiry(
+            boolean enabled, String cron, String timezone, int batchSize) {}
+
+    public record OrphanMultipartUploadSweep(
+            boolean enabled,
+            String cron,
+            String timezone,
+            int pageSize,
+            int maxAbortsPerRun,
+            long graceMinutes) {}
 }
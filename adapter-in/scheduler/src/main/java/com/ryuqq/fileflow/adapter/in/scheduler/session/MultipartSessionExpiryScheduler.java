@@ -0,0 +1,41 @@
+package com.ryuqq.fileflow.adapter.in.scheduler.session;
+
+import com.ryuqq.fileflow.adapter.in.scheduler.annotation.SchedulerJob;
+import com.ryuqq.fileflow.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueMultipartSessionsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멀티파트 업로드 세션 만료 스케줄러.
+ *
+ * <p>만료 대기열에서 만료 시각이 지난 Multipart 세션을 배치 단위로 선점해 일괄 만료 처리하고 S3 멀티파트 업로드를 중단합니다.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "scheduler.jobs.multipart-session-expiry",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class MultipartSessionExpiryScheduler {
+
+    private final ExpireDueMultipartSessionsUseCase expireDueMultipartSessionsUseCase;
+    private final SchedulerProperties.MultipartSessionExpiry config;
+
+    public MultipartSessionExpiryScheduler(
+            ExpireDueMultipartSessionsUseCase expireDueMultipartSessionsUseCase,
+            SchedulerProperties schedulerProperties) {
+        this.expireDueMultipartSessionsUseCase = expireDueMultipartSessionsUseCase;
+        this.config = schedulerProperties.jobs().multipartSessionExpiry();
+    }
+
+    @Scheduled(
+            cron = "${scheduler.jobs.multipart-session-expiry.cron}",
+            zone = "${scheduler.jobs.multipart-session-expiry.timezone}")
+    @SchedulerJob("MultipartSessionExpiry")
+    public SchedulerBatchProcessingResult expireDueSessions() {
+        return expireDueMultipartSessionsUseCase.execute(config.batchSize());
+    }
+}
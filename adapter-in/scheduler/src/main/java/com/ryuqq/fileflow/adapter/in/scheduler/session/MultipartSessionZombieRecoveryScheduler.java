@@ -13,7 +13,7 @@ import org.springframework.stereotype.Component;
  *
  * <p>만료 시간이 지났지만 활성 상태(INITIATED, UPLOADING)로 남아있는 고아 Multipart 세션을 만료 처리합니다.
  *
- * <p>Redis keyspace notification 유실로 인해 만료 전이가 누락된 세션을 복구하는 안전망 역할을 합니다.
+ * <p>만료 대기열 등록 누락 등으로 만료 전이가 빠진 세션을 복구하는 안전망 역할을 합니다.
  */
 @Component
 @ConditionalOnProperty(
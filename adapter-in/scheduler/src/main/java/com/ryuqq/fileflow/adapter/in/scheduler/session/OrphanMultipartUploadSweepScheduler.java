@@ -0,0 +1,46 @@
+package com.ryuqq.fileflow.adapter.in.scheduler.session;
+
+import com.ryuqq.fileflow.adapter.in.scheduler.annotation.SchedulerJob;
+import com.ryuqq.fileflow.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.dto.command.SweepOrphanedMultipartUploadsCommand;
+import com.ryuqq.fileflow.application.session.port.in.command.SweepOrphanedMultipartUploadsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고아 S3 멀티파트 업로드 정리 스케줄러.
+ *
+ * <p>DB 커밋과 S3 AbortMultipartUpload 호출 사이에 장애가 나면 세션은 끝났지만 S3 업로드는 남아 파트 저장 비용이 계속 청구됩니다.
+ * 버킷의 진행 중인 업로드를 훑어 활성 세션이 없는 업로드를 중단합니다.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "scheduler.jobs.orphan-multipart-upload-sweep",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class OrphanMultipartUploadSweepScheduler {
+
+    private final SweepOrphanedMultipartUploadsUseCase sweepOrphanedMultipartUploadsUseCase;
+    private final SchedulerProperties.OrphanMultipartUploadSweep config;
+
+    public OrphanMultipartUploadSweepScheduler(
+            SweepOrphanedMultipartUploadsUseCase sweepOrphanedMultipartUploadsUseCase,
+            SchedulerProperties schedulerProperties) {
+        this.sweepOrphanedMultipartUploadsUseCase = sweepOrphanedMultipartUploadsUseCase;
+        this.config = schedulerProperties.jobs().orphanMultipartUploadSweep();
+    }
+
+    @Scheduled(
+            cron = "${scheduler.jobs.orphan-multipart-upload-sweep.cron}",
+            zone = "${scheduler.jobs.orphan-multipart-upload-sweep.timezone}")
+    @SchedulerJob("OrphanMultipartUploadSweep")
+    public SchedulerBatchProcessingResult sweepOrphanedUploads() {
+        SweepOrphanedMultipartUploadsCommand command =
+                SweepOrphanedMultipartUploadsCommand.of(
+                        config.pageSize(), config.maxAbortsPerRun(), config.graceMinutes() * 60);
+        return sweepOrphanedMultipartUploadsUseCase.execute(command);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ryuqq.fileflow.adapter.in.scheduler.session;
+
+import com.ryuqq.fileflow.adapter.in.scheduler.annotation.SchedulerJob;
+import com.ryuqq.fileflow.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueSingleSessionsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단건 업로드 세션 만료 스케줄러.
+ *
+ * <p>만료 대기열에서 만료 시각이 지난 Single 세션을 배치 단위로 선점해 일괄 만료 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "scheduler.jobs.single-session-expiry",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class SingleSessionExpiryScheduler {
+
+    private final ExpireDueSingleSessionsUseCase expireDueSingleSessionsUseCase;
+    private final SchedulerProperties.SingleSessionExpiry config;
+
+    public SingleSessionExpiryScheduler(
+            ExpireDueSingleSessionsUseCase expireDueSingleSessionsUseCase,
+            SchedulerProperties schedulerProperties) {
+        this.expireDueSingleSessionsUseCase = expireDueSingleSessionsUseCase;
+        this.config = schedulerProperties.jobs().singleSessionExpiry();
+    }
+
+    @Scheduled(
+            cron = "${scheduler.jobs.single-session-expiry.cron}",
+            zone = "${scheduler.jobs.single-session-expiry.timezone}")
+    @SchedulerJob("SingleSessionExpiry")
+    public SchedulerBatchProcessingResult expireDueSessions() {
+        return expireDueSingleSessionsUseCase.execute(config.batchSize());
+    }
+}
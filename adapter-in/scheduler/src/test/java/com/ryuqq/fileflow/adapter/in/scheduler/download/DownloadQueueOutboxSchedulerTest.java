@@ -35,7 +35,19 @@ class DownloadQueueOutboxSchedulerTest {
                         true, "*/10 * * * * *", "Asia/Seoul", BATCH_SIZE);
         SchedulerProperties.Jobs jobs =
                 new SchedulerProperties.Jobs(
-                        null, null, config, null, null, null, null, null, null, null);
+                        null,
+                        null,
+                        config,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
         SchedulerProperties properties = new SchedulerProperties(jobs);
 
         sut = new DownloadQueueOutboxScheduler(useCase, properties);
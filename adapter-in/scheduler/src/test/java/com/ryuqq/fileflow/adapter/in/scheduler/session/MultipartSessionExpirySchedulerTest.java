@@ -0,0 +1,81 @@
+package com.ryuqq.fileflow.adapter.in.scheduler.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueMultipartSessionsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultipartSessionExpiryScheduler 단위 테스트")
+class MultipartSessionExpirySchedulerTest {
+
+    private MultipartSessionExpiryScheduler sut;
+
+    @Mock private ExpireDueMultipartSessionsUseCase useCase;
+
+    private static final int BATCH_SIZE = 200;
+
+    @BeforeEach
+    void setUp() {
+        SchedulerProperties.MultipartSessionExpiry config =
+                new SchedulerProperties.MultipartSessionExpiry(
+                        true, "*/5 * * * * *", "Asia/Seoul", BATCH_SIZE);
+        SchedulerProperties.Jobs jobs =
+                new SchedulerProperties.Jobs(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        config,
+                        null);
+        SchedulerProperties properties = new SchedulerProperties(jobs);
+
+        sut = new MultipartSessionExpiryScheduler(useCase, properties);
+    }
+
+    @Nested
+    @DisplayName("expireDueSessions 메서드")
+    class ExpireDueSessionsTest {
+
+        @Test
+        @DisplayName("Properties의 batchSize로 UseCase를 호출하고 결과를 그대로 반환한다")
+        void expireDueSessions_CallsUseCaseWithBatchSize() {
+            SchedulerBatchProcessingResult expected = SchedulerBatchProcessingResult.of(10, 9, 1);
+            given(useCase.execute(BATCH_SIZE)).willReturn(expected);
+
+            SchedulerBatchProcessingResult result = sut.expireDueSessions();
+
+            assertThat(result).isEqualTo(expected);
+            then(useCase).should().execute(BATCH_SIZE);
+        }
+
+        @Test
+        @DisplayName("만료 대상이 없으면 empty 결과를 반환한다")
+        void expireDueSessions_NoTargets_ReturnsEmpty() {
+            given(useCase.execute(BATCH_SIZE)).willReturn(SchedulerBatchProcessingResult.empty());
+
+            SchedulerBatchProcessingResult result = sut.expireDueSessions();
+
+            assertThat(result.total()).isZero();
+        }
+    }
+}
@@ -34,7 +34,19 @@ class MultipartSessionZombieRecoverySchedulerTest {
                         true, "0 */5 * * * *", "Asia/Seoul", BATCH_SIZE);
         SchedulerProperties.Jobs jobs =
                 new SchedulerProperties.Jobs(
-                        null, null, null, null, null, null, null, null, null, config);
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        config,
+                        null,
+                        null,
+                        null);
         SchedulerProperties properties = new SchedulerProperties(jobs);
 
         sut = new MultipartSessionZombieRecoveryScheduler(useCase, properties);
@@ -0,0 +1,76 @@
+package com.ryuqq.fileflow.adapter.in.scheduler.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.dto.command.SweepOrphanedMultipartUploadsCommand;
+import com.ryuqq.fileflow.application.session.port.in.command.SweepOrphanedMultipartUploadsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanMultipartUploadSweepScheduler 단위 테스트")
+class OrphanMultipartUploadSweepSchedulerTest {
+
+    private OrphanMultipartUploadSweepScheduler sut;
+
+    @Mock private SweepOrphanedMultipartUploadsUseCase useCase;
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int MAX_ABORTS = 500;
+    private static final long GRACE_MINUTES = 60;
+
+    @BeforeEach
+    void setUp() {
+        SchedulerProperties.OrphanMultipartUploadSweep config =
+                new SchedulerProperties.OrphanMultipartUploadSweep(
+                        true, "0 0 * * * *", "Asia/Seoul", PAGE_SIZE, MAX_ABORTS, GRACE_MINUTES);
+        SchedulerProperties.Jobs jobs =
+                new SchedulerProperties.Jobs(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        config);
+        SchedulerProperties properties = new SchedulerProperties(jobs);
+
+        sut = new OrphanMultipartUploadSweepScheduler(useCase, properties);
+    }
+
+    @Nested
+    @DisplayName("sweepOrphanedUploads 메서드")
+    class SweepOrphanedUploadsTest {
+
+        @Test
+        @DisplayName("Properties 값으로 Command를 만들어 UseCase를 호출한다 (유예 시간은 초 단위)")
+        void sweepOrphanedUploads_CallsUseCaseWithCommand() {
+            SweepOrphanedMultipartUploadsCommand command =
+                    SweepOrphanedMultipartUploadsCommand.of(PAGE_SIZE, MAX_ABORTS, 3600);
+            SchedulerBatchProcessingResult expected = SchedulerBatchProcessingResult.of(3, 2, 1);
+            given(useCase.execute(command)).willReturn(expected);
+
+            SchedulerBatchProcessingResult result = sut.sweepOrphanedUploads();
+
+            assertThat(result).isEqualTo(expected);
+            then(useCase).should().execute(command);
+        }
+    }
+}
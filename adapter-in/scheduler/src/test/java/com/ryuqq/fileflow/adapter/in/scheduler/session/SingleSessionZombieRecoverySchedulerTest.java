@@ -34,7 +34,19 @@ class SingleSessionZombieRecoverySchedulerTest {
                         true, "0 */5 * * * *", "Asia/Seoul", BATCH_SIZE);
         SchedulerProperties.Jobs jobs =
                 new SchedulerProperties.Jobs(
-                        null, null, null, null, null, null, null, null, config, null);
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        config,
+                        null,
+                        null,
+                        null,
+                        null);
         SchedulerProperties properties = new SchedulerProperties(jobs);
 
         sut = new SingleSessionZombieRecoveryScheduler(useCase, properties);
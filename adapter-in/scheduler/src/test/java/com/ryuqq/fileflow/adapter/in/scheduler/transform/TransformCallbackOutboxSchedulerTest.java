@@ -35,7 +35,19 @@ class TransformCallbackOutboxSchedulerTest {
                         true, "*/10 * * * * *", "Asia/Seoul", BATCH_SIZE);
         SchedulerProperties.Jobs jobs =
                 new SchedulerProperties.Jobs(
-                        null, null, null, null, null, config, null, null, null, null);
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        config,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
         SchedulerProperties properties = new SchedulerProperties(jobs);
 
         sut = new TransformCallbackOutboxScheduler(useCase, properties);
@@ -31,7 +31,19 @@ class TransformOutboxRecoverySchedulerTest {
         SchedulerProperties props =
                 new SchedulerProperties(
                         new SchedulerProperties.Jobs(
-                                null, null, null, null, null, null, null, config, null, null));
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                config,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null));
         sut = new TransformOutboxRecoveryScheduler(recoverStuckTransformOutboxUseCase, props);
     }
 
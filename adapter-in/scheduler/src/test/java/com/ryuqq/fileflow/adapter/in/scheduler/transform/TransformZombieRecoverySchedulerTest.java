@@ -49,6 +49,9 @@ class TransformZombieRecoverySchedulerTest {
                         null,
                         null,
                         null,
+                        null,
+                        null,
+                        null,
                         null);
         SchedulerProperties properties = new SchedulerProperties(jobs);
 
@@ -0,0 +1,118 @@
+package com.ryuqq.fileflow.adapter.in.sqs.transform;
+
+import com.ryuqq.fileflow.domain.common.exception.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변환 요청 Consumer 공통 처리.
+ *
+ * <p>순차 모드({@link TransformRequestSqsConsumer})와 파이프라인 모드({@link
+ * TransformRequestPipelineSqsConsumer})가 같은 메트릭을 기록하고 같은 기준으로 실패를 ACK/NACK로 분류하도록 한 곳에 모읍니다.
+ *
+ * <ul>
+ *   <li>ACK: 4xx {@link DomainException}, 낙관적 락 충돌 (재시도해도 결과가 같음)
+ *   <li>NACK: 그 외 모든 예외 (SQS 재전달로 재시도)
+ * </ul>
+ */
+@Component
+@ConditionalOnExpression("${aws.sqs.listener.file-processing-listener-enabled:false}")
+public class TransformRequestConsumeSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(TransformRequestConsumeSupport.class);
+    private static final String QUEUE_TAG = "transform";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer durationTimer;
+    private final Counter successCounter;
+    private final Counter ackCounter;
+    private final Counter nackCounter;
+
+    public TransformRequestConsumeSupport(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.durationTimer =
+                Timer.builder("sqs.consumer.duration")
+                        .tag("queue", QUEUE_TAG)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.successCounter =
+                Counter.builder("sqs.consumer.messages")
+                        .tag("queue", QUEUE_TAG)
+                        .tag("result", "success")
+                        .register(meterRegistry);
+        this.ackCounter =
+                Counter.builder("sqs.consumer.messages")
+                        .tag("queue", QUEUE_TAG)
+                        .tag("result", "ack")
+                        .register(meterRegistry);
+        this.nackCounter =
+                Counter.builder("sqs.consumer.messages")
+                        .tag("queue", QUEUE_TAG)
+                        .tag("result", "nack")
+                        .register(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordSuccess(Timer.Sample sample) {
+        sample.stop(durationTimer);
+        successCounter.increment();
+    }
+
+    /**
+     * 실패를 분류하고 처리 시간과 결과 메트릭을 기록합니다.
+     *
+     * @param sample {@link #start()}로 시작한 측정
+     * @param transformRequestId 변환 요청 ID (로그용)
+     * @param error 처리 중 발생한 예외
+     * @return ACK 대상이면 true (호출자는 예외를 삼킴), NACK 대상이면 false (호출자는 예외를 전파)
+     */
+    public boolean recordFailure(Timer.Sample sample, String transformRequestId, Throwable error) {
+        sample.stop(durationTimer);
+        if (error instanceof DomainException domainException && isNonRetryable(domainException)) {
+            ackCounter.increment();
+            log.warn(
+                    "재시도 불필요 (ACK): transformRequestId={}, code={}",
+                    transformRequestId,
+                    domainException.code(),
+                    domainException);
+            return true;
+        }
+        if (isOptimisticLockConflict(error)) {
+            ackCounter.increment();
+            log.warn(
+                    "동시 처리 충돌 (ACK): transformRequestId={}, 다른 스레드가 이미 처리 중",
+                    transformRequestId);
+            return true;
+        }
+        nackCounter.increment();
+        log.error("처리 실패 (NACK): transformRequestId={}", transformRequestId, error);
+        return false;
+    }
+
+    private boolean isNonRetryable(DomainException e) {
+        int status = e.httpStatus();
+        return status >= 400 && status < 500;
+    }
+
+    private boolean isOptimisticLockConflict(Throwable e) {
+        Throwable cause = e;
+        while (cause != null) {
+            String name = cause.getClass().getSimpleName();
+            if ("StaleObjectStateException".equals(name)
+                    || "OptimisticLockingFailureException".equals(name)
+                    || "ObjectOptimisticLockingFailureException".equals(name)) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ryuqq.fileflow.adapter.in.sqs.transform;
+
+import com.ryuqq.fileflow.application.transform.port.in.command.StartTransformRequestUseCase;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파이프라인 모드 변환 요청 Consumer.
+ *
+ * <p>{@code fileflow.resizing.worker.pipeline.enabled=true}일 때 {@link TransformRequestSqsConsumer} 대신
+ * 활성화됩니다. 리스너 스레드는 변환 시작까지만 처리하고 즉시 반환하며, 메시지는 반환된 Future가 완료될 때 ACK됩니다. 따라서 {@code
+ * max-concurrent-messages}만큼의 요청이 파이프라인에 머무르며, CPU가 일하는 동안 다음 요청의 원본을 미리 받아 둡니다.
+ */
+@Component
+@ConditionalOnExpression(
+        "${aws.sqs.listener.file-processing-listener-enabled:false}"
+                + " and ${fileflow.resizing.worker.pipeline.enabled:false}")
+public class TransformRequestPipelineSqsConsumer {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(TransformRequestPipelineSqsConsumer.class);
+
+    private final StartTransformRequestUseCase startTransformRequestUseCase;
+    private final TransformRequestConsumeSupport consumeSupport;
+
+    public TransformRequestPipelineSqsConsumer(
+            StartTransformRequestUseCase startTransformRequestUseCase,
+            TransformRequestConsumeSupport consumeSupport) {
+        this.startTransformRequestUseCase = startTransformRequestUseCase;
+        this.consumeSupport = consumeSupport;
+    }
+
+    @SqsListener("${fileflow.sqs.transform-queue}")
+    public CompletableFuture<Void> consume(
+            @Payload String transformRequestId,
+            @Header(name = "traceId", required = false) String traceId) {
+        if (traceId != null && !traceId.isBlank()) {
+            MDC.put("traceId", traceId);
+        }
+
+        Timer.Sample sample = consumeSupport.start();
+        CompletableFuture<Void> pipeline;
+        try {
+            log.info("변환 요청 메시지 수신 (pipeline): transformRequestId={}", transformRequestId);
+            pipeline = startTransformRequestUseCase.executeAsync(transformRequestId);
+        } catch (Exception e) {
+            pipeline = CompletableFuture.failedFuture(e);
+        } finally {
+            MDC.remove("traceId");
+        }
+
+        return pipeline.handle(
+                (ignored, error) -> {
+                    if (error == null) {
+                        consumeSupport.recordSuccess(sample);
+                        log.info(
+                                "변환 요청 처리 완료 (pipeline): transformRequestId={}",
+                                transformRequestId);
+                        return null;
+                    }
+                    Throwable cause = unwrap(error);
+                    if (consumeSupport.recordFailure(sample, transformRequestId, cause)) {
+                        return null;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ryuqq.fileflow.adapter.in.sqs.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.fileflow.application.transform.port.in.command.StartTransformRequestUseCase;
+import com.ryuqq.fileflow.domain.common.exception.DomainExceptionFixture;
+import com.ryuqq.fileflow.domain.common.exception.ErrorCodeFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransformRequestPipelineSqsConsumer 단위 테스트")
+class TransformRequestPipelineSqsConsumerTest {
+
+    private MeterRegistry meterRegistry;
+    private TransformRequestPipelineSqsConsumer sut;
+
+    @Mock private StartTransformRequestUseCase startTransformRequestUseCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut =
+                new TransformRequestPipelineSqsConsumer(
+                        startTransformRequestUseCase,
+                        new TransformRequestConsumeSupport(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("consume 메서드")
+    class ConsumeTest {
+
+        @Test
+        @DisplayName("파이프라인이 끝나기 전까지 반환된 Future는 완료되지 않는다")
+        void consume_PipelineInFlight_FutureNotCompleted() {
+            CompletableFuture<Void> pipeline = new CompletableFuture<>();
+            given(startTransformRequestUseCase.executeAsync("transform-001")).willReturn(pipeline);
+
+            CompletableFuture<Void> result = sut.consume("transform-001", "scheduler-abc12345");
+
+            assertThat(result).isNotDone();
+            pipeline.complete(null);
+            assertThat(result).isCompleted();
+            assertThat(successCount()).isEqualTo(1.0);
+            assertThat(MDC.get("traceId")).isNull();
+        }
+
+        @Test
+        @DisplayName("DomainException 4xx로 끝나면 정상 완료(ACK)한다")
+        void consume_NonRetryableFailure_CompletesNormally() {
+            given(startTransformRequestUseCase.executeAsync("transform-ack"))
+                    .willThrow(
+                            DomainExceptionFixture.aDomainException(
+                                    ErrorCodeFixture.TestErrorCode.NOT_FOUND));
+
+            CompletableFuture<Void> result = sut.consume("transform-ack", null);
+
+            assertThat(result).isCompleted();
+        }
+
+        @Test
+        @DisplayName("일반 예외로 끝나면 예외 완료(NACK)한다")
+        void consume_RetryableFailure_CompletesExceptionally() {
+            given(startTransformRequestUseCase.executeAsync("transform-nack"))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("fail")));
+
+            CompletableFuture<Void> result = sut.consume("transform-nack", null);
+
+            assertThat(result).isCompletedExceptionally();
+            assertThat(
+                            meterRegistry
+                                    .find("sqs.consumer.messages")
+                                    .tag("queue", "transform")
+                                    .tag("result", "nack")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    private double successCount() {
+        return meterRegistry
+                .find("sqs.consumer.messages")
+                .tag("queue", "transform")
+                .tag("result", "success")
+                .counter()
+                .count();
+    }
+}
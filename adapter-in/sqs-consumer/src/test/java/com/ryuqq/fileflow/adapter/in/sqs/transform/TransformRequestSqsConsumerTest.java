@@ -36,7 +36,10 @@ class TransformRequestSqsConsumerTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        sut = new TransformRequestSqsConsumer(startTransformRequestUseCase, meterRegistry);
+        sut =
+                new TransformRequestSqsConsumer(
+                        startTransformRequestUseCase,
+                        new TransformRequestConsumeSupport(meterRegistry));
     }
 
     @AfterEach
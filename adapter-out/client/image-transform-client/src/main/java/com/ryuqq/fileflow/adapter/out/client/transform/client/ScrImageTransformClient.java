@@ -1,7 +1,10 @@
 package com.ryuqq.fileflow.adapter.out.client.transform.client;
 
+import com.ryuqq.fileflow.adapter.out.client.transform.config.ImageEncodingProperties;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageProcessingResult;
 import com.ryuqq.fileflow.application.transform.port.out.client.ImageTransformClient;
+import com.ryuqq.fileflow.domain.transform.vo.ImageFormat;
+import com.ryuqq.fileflow.domain.transform.vo.OutputEncoding;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
 import com.sksamuel.scrimage.ImmutableImage;
@@ -21,26 +24,38 @@ public class ScrImageTransformClient implements ImageTransformClient {
     private static final Logger log = LoggerFactory.getLogger(ScrImageTransformClient.class);
     private static final int MIN_RESAMPLE_DIMENSION = 5;
 
+    private final ImageEncodingProperties encodingProperties;
+
+    public ScrImageTransformClient(ImageEncodingProperties encodingProperties) {
+        this.encodingProperties = encodingProperties;
+    }
+
     @Override
     public ImageProcessingResult process(
             byte[] sourceImageBytes, TransformType type, TransformParams params) {
         log.info("이미지 변환 시작: type={}, inputSize={}", type, sourceImageBytes.length);
 
         ImmutableImage sourceImage = loadImage(sourceImageBytes);
-        TransformResult result = applyTransform(sourceImage, type, params);
+        ImageFormat sourceFormat = ImageFormat.detect(sourceImageBytes).orElse(null);
+        OutputEncoding encoding = params.resolveEncoding(type, sourceFormat);
 
-        String extension = resolveExtension(type, params);
-        String contentType = resolveContentType(extension);
+        ImmutableImage transformed = applyTransform(sourceImage, type, params);
+        byte[] bytes = writeBytes(transformed, resolveWriter(encoding));
 
         log.info(
-                "이미지 변환 완료: type={}, {}x{}, outputSize={}",
+                "이미지 변환 완료: type={}, {}x{}, format={}, outputSize={}",
                 type,
-                result.width(),
-                result.height(),
-                result.bytes().length);
+                transformed.width,
+                transformed.height,
+                encoding.format(),
+                bytes.length);
 
         return new ImageProcessingResult(
-                result.bytes(), result.width(), result.height(), contentType, extension);
+                bytes,
+                transformed.width,
+                transformed.height,
+                encoding.contentType(),
+                encoding.extension());
     }
 
     private ImmutableImage loadImage(byte[] bytes) {
@@ -51,16 +66,15 @@ public class ScrImageTransformClient implements ImageTransformClient {
         }
     }
 
-    private TransformResult applyTransform(
+    private ImmutableImage applyTransform(
             ImmutableImage source, TransformType type, TransformParams params) {
         if (requiresResampling(type)) {
             validateMinimumDimension(source, type);
         }
         return switch (type) {
             case RESIZE -> resize(source, params);
-            case CONVERT -> convert(source, params);
-            case COMPRESS -> compress(source, params);
-            case THUMBNAIL -> thumbnail(source, params);
+            case CONVERT, COMPRESS -> source;
+            case THUMBNAIL -> source.cover(params.width(), params.height());
         };
     }
 
@@ -81,38 +95,14 @@ public class ScrImageTransformClient implements ImageTransformClient {
         }
     }
 
-    private TransformResult resize(ImmutableImage source, TransformParams params) {
+    private ImmutableImage resize(ImmutableImage source, TransformParams params) {
         int targetWidth = params.width();
         int targetHeight = params.height();
 
-        ImmutableImage resized;
         if (params.maintainAspectRatio()) {
-            resized = source.max(targetWidth, targetHeight);
-        } else {
-            resized = source.scaleTo(targetWidth, targetHeight);
+            return source.max(targetWidth, targetHeight);
         }
-
-        byte[] bytes = writeBytes(resized, PngWriter.NoCompression);
-        return new TransformResult(bytes, resized.width, resized.height);
-    }
-
-    private TransformResult convert(ImmutableImage source, TransformParams params) {
-        ImageWriter writer = resolveWriter(params.targetFormat(), null);
-        byte[] bytes = writeBytes(source, writer);
-        return new TransformResult(bytes, source.width, source.height);
-    }
-
-    private TransformResult compress(ImmutableImage source, TransformParams params) {
-        int quality = params.quality();
-        ImageWriter writer = new JpegWriter(quality, false);
-        byte[] bytes = writeBytes(source, writer);
-        return new TransformResult(bytes, source.width, source.height);
-    }
-
-    private TransformResult thumbnail(ImmutableImage source, TransformParams params) {
-        ImmutableImage thumb = source.cover(params.width(), params.height());
-        byte[] bytes = writeBytes(thumb, PngWriter.NoCompression);
-        return new TransformResult(bytes, thumb.width, thumb.height);
+        return source.scaleTo(targetWidth, targetHeight);
     }
 
     private byte[] writeBytes(ImmutableImage image, ImageWriter writer) {
@@ -123,34 +113,19 @@ public class ScrImageTransformClient implements ImageTransformClient {
         }
     }
 
-    private ImageWriter resolveWriter(String format, Integer quality) {
-        return switch (format.toLowerCase()) {
-            case "jpg", "jpeg" ->
-                    quality != null ? new JpegWriter(quality, false) : JpegWriter.Default;
-            case "png" -> PngWriter.NoCompression;
-            case "webp" -> WebpWriter.DEFAULT;
-            case "gif" -> GifWriter.Default;
-            default -> throw new IllegalArgumentException("지원하지 않는 포맷: " + format);
-        };
-    }
-
-    private String resolveExtension(TransformType type, TransformParams params) {
-        if (type == TransformType.CONVERT && params.targetFormat() != null) {
-            return params.targetFormat().toLowerCase();
-        }
-        return "png";
-    }
-
-    private String resolveContentType(String extension) {
-        return switch (extension) {
-            case "jpg", "jpeg" -> "image/jpeg";
-            case "png" -> "image/png";
-            case "gif" -> "image/gif";
-            case "webp" -> "image/webp";
-            case "svg" -> "image/svg+xml";
-            default -> "application/octet-stream";
+    private ImageWriter resolveWriter(OutputEncoding encoding) {
+        Integer quality = encoding.quality();
+        return switch (encoding.format()) {
+            case JPEG ->
+                    new JpegWriter(
+                            quality != null ? quality : encodingProperties.jpegQuality(),
+                            encodingProperties.jpegProgressive());
+            case PNG -> new PngWriter(encodingProperties.pngCompressionLevel());
+            case WEBP ->
+                    WebpWriter.DEFAULT
+                            .withQ(quality != null ? quality : encodingProperties.webpQuality())
+                            .withM(encodingProperties.webpMethod());
+            case GIF -> GifWriter.Default;
         };
     }
-
-    private record TransformResult(byte[] bytes, int width, int height) {}
 }
@@ -0,0 +1,58 @@
+package com.ryuqq.fileflow.adapter.out.client.transform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출력 인코더 튜닝 설정.
+ *
+ * <p>요청에 quality가 없을 때 사용할 기본 품질과 포맷별 인코더 옵션입니다.
+ */
+@Component
+public class ImageEncodingProperties {
+
+    private final int jpegQuality;
+    private final boolean jpegProgressive;
+    private final int webpQuality;
+    private final int webpMethod;
+    private final int pngCompressionLevel;
+
+    public ImageEncodingProperties(
+            @Value("${fileflow.image-transform.encoding.jpeg-quality:85}") int jpegQuality,
+            @Value("${fileflow.image-transform.encoding.jpeg-progressive:true}")
+                    boolean jpegProgressive,
+            @Value("${fileflow.image-transform.encoding.webp-quality:80}") int webpQuality,
+            @Value("${fileflow.image-transform.encoding.webp-method:4}") int webpMethod,
+            @Value("${fileflow.image-transform.encoding.png-compression-level:6}")
+                    int pngCompressionLevel) {
+        this.jpegQuality = clamp(jpegQuality, 1, 100);
+        this.jpegProgressive = jpegProgressive;
+        this.webpQuality = clamp(webpQuality, 0, 100);
+        this.webpMethod = clamp(webpMethod, 0, 6);
+        this.pngCompressionLevel = clamp(pngCompressionLevel, 0, 9);
+    }
+
+    public int jpegQuality() {
+        return jpegQuality;
+    }
+
+    public boolean jpegProgressive() {
+        return jpegProgressive;
+    }
+
+    public int webpQuality() {
+        return webpQuality;
+    }
+
+    public int webpMethod() {
+        return webpMethod;
+    }
+
+    public int pngCompressionLevel() {
+        return pngCompressionLevel;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
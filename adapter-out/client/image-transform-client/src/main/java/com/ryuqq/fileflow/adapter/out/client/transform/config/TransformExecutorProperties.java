@@ -0,0 +1,62 @@
+package com.ryuqq.fileflow.adapter.out.client.transform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변환 CPU 실행기 설정.
+ *
+ * <p>Resizing Worker의 {@code fileflow.resizing.worker.*} 설정을 읽습니다. {@code pool-size}가 0 이하이면 가용 CPU
+ * 코어 수를 사용하고, 파이프라인 버퍼 크기가 0 이하이면 풀 크기를 사용합니다.
+ */
+@Component
+public class TransformExecutorProperties {
+
+    private final int poolSize;
+    private final int queueCapacity;
+    private final String threadNamePrefix;
+    private final int awaitTerminationSeconds;
+    private final int prefetchDepth;
+    private final int uploadBuffer;
+
+    public TransformExecutorProperties(
+            @Value("${fileflow.resizing.worker.pool-size:0}") int poolSize,
+            @Value("${fileflow.resizing.worker.queue-capacity:100}") int queueCapacity,
+            @Value("${fileflow.resizing.worker.thread-name-prefix:resizing-worker-}")
+                    String threadNamePrefix,
+            @Value("${fileflow.resizing.worker.await-termination-seconds:60}")
+                    int awaitTerminationSeconds,
+            @Value("${fileflow.resizing.worker.pipeline.prefetch-depth:0}") int prefetchDepth,
+            @Value("${fileflow.resizing.worker.pipeline.upload-buffer:0}") int uploadBuffer) {
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = Math.max(queueCapacity, 0);
+        this.threadNamePrefix = threadNamePrefix;
+        this.awaitTerminationSeconds = Math.max(awaitTerminationSeconds, 0);
+        this.prefetchDepth = prefetchDepth > 0 ? prefetchDepth : this.poolSize;
+        this.uploadBuffer = uploadBuffer > 0 ? uploadBuffer : this.poolSize;
+    }
+
+    public int poolSize() {
+        return poolSize;
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    public String threadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public int awaitTerminationSeconds() {
+        return awaitTerminationSeconds;
+    }
+
+    public int prefetchDepth() {
+        return prefetchDepth;
+    }
+
+    public int uploadBuffer() {
+        return uploadBuffer;
+    }
+}
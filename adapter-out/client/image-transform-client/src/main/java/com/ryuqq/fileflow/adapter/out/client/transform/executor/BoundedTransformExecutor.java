@@ -0,0 +1,173 @@
+package com.ryuqq.fileflow.adapter.out.client.transform.executor;
+
+import com.ryuqq.fileflow.adapter.out.client.transform.config.TransformExecutorProperties;
+import com.ryuqq.fileflow.application.transform.dto.result.TransformPipelineCapacity;
+import com.ryuqq.fileflow.application.transform.port.out.client.TransformExecutorPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코어 수에 맞춘 고정 크기 스레드 풀로 CPU 바운드 변환 작업을 실행합니다.
+ *
+ * <p>동시에 제출 가능한 작업 수를 {@code poolSize + queueCapacity}로 제한합니다. 한도에 도달하면 작업을 거절하는 대신 호출 스레드가
+ * 슬롯을 기다리므로, SQS 리스너가 자연스럽게 감속합니다. 스레드는 첫 작업 제출 시점에 생성되므로 변환을 수행하지 않는 애플리케이션에서는
+ * 비용이 없습니다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code executor.*} (name=image_transform): 활성 스레드, 큐 적재량, 완료 건수
+ *   <li>{@code fileflow.transform_executor_wait_seconds}: 슬롯 확보까지 대기한 시간
+ *   <li>{@code fileflow.transform_executor_waiting}: 슬롯을 기다리는 호출 스레드 수
+ * </ul>
+ */
+@Component
+public class BoundedTransformExecutor implements TransformExecutorPort, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedTransformExecutor.class);
+    private static final String EXECUTOR_NAME = "image_transform";
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int awaitTerminationSeconds;
+    private final TransformPipelineCapacity pipelineCapacity;
+
+    public BoundedTransformExecutor(
+            TransformExecutorProperties properties, MeterRegistry meterRegistry) {
+        int poolSize = properties.poolSize();
+        this.executor =
+                new ThreadPoolExecutor(
+                        poolSize,
+                        poolSize,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(),
+                        namedThreadFactory(properties.threadNamePrefix()));
+        this.permits = new Semaphore(poolSize + properties.queueCapacity(), true);
+        this.awaitTerminationSeconds = properties.awaitTerminationSeconds();
+        this.pipelineCapacity =
+                new TransformPipelineCapacity(
+                        poolSize,
+                        properties.prefetchDepth(),
+                        properties.uploadBuffer(),
+                        Duration.ofSeconds(awaitTerminationSeconds));
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.waitTimer =
+                Timer.builder("fileflow.transform_executor_wait_seconds")
+                        .tag("executor", EXECUTOR_NAME)
+                        .register(meterRegistry);
+        Gauge.builder("fileflow.transform_executor_waiting", waiting, AtomicInteger::get)
+                .tag("executor", EXECUTOR_NAME)
+                .register(meterRegistry);
+
+        log.info(
+                "변환 실행기 초기화: poolSize={}, queueCapacity={}",
+                poolSize,
+                properties.queueCapacity());
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> task) {
+        acquirePermit();
+        FutureTask<T> future = new PermitReleasingTask<>(task);
+        try {
+            executor.execute(future);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("변환 작업 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public TransformPipelineCapacity pipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    private void acquirePermit() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        waiting.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("변환 실행기 슬롯 대기 중 인터럽트 발생", e);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("변환 작업 실행 실패", cause);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("변환 실행기 종료 대기 시간 초과, 강제 종료: active={}", executor.getActiveCount());
+            executor.shutdownNow();
+        }
+    }
+
+    /** 작업이 완료·실패·취소되는 시점에 슬롯을 반환합니다. */
+    private final class PermitReleasingTask<T> extends FutureTask<T> {
+
+        private PermitReleasingTask(Supplier<T> task) {
+            super(task::get);
+        }
+
+        @Override
+        protected void done() {
+            permits.release();
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        };
+    }
+}
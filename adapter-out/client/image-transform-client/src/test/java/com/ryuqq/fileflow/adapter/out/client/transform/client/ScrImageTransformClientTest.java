@@ -3,11 +3,13 @@ package com.ryuqq.fileflow.adapter.out.client.transform.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.ryuqq.fileflow.adapter.out.client.transform.config.ImageEncodingProperties;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageProcessingResult;
 import com.ryuqq.fileflow.application.transform.port.out.client.ImageTransformClient;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
 import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.nio.JpegWriter;
 import com.sksamuel.scrimage.nio.PngWriter;
 import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +26,7 @@ class ScrImageTransformClientTest {
 
     @BeforeEach
     void setUp() {
-        sut = new ScrImageTransformClient();
+        sut = new ScrImageTransformClient(new ImageEncodingProperties(85, true, 80, 4, 6));
     }
 
     @Nested
@@ -150,6 +152,59 @@ class ScrImageTransformClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("출력 인코딩 정책")
+    class OutputEncodingPolicy {
+
+        @Test
+        @DisplayName("성공: RESIZE는 JPEG 원본의 포맷을 유지한다")
+        void shouldKeepJpegSourceFormatOnResize() throws IOException {
+            // given
+            byte[] sourceImageBytes =
+                    ImmutableImage.create(200, 160).bytes(JpegWriter.Default);
+            TransformParams params = TransformParams.forResize(100, 80, false);
+
+            // when
+            ImageProcessingResult result =
+                    sut.process(sourceImageBytes, TransformType.RESIZE, params);
+
+            // then
+            assertThat(result.contentType()).isEqualTo("image/jpeg");
+            assertThat(result.extension()).isEqualTo("jpg");
+        }
+
+        @Test
+        @DisplayName("성공: THUMBNAIL에 targetFormat과 quality를 지정하면 해당 포맷으로 인코딩한다")
+        void shouldApplyExplicitTargetFormatOnThumbnail() throws IOException {
+            // given
+            byte[] sourceImageBytes = createTestImageBytes(200, 160);
+            TransformParams params = new TransformParams(50, 50, true, "jpeg", 70);
+
+            // when
+            ImageProcessingResult result =
+                    sut.process(sourceImageBytes, TransformType.THUMBNAIL, params);
+
+            // then
+            assertThat(result.contentType()).isEqualTo("image/jpeg");
+            assertThat(result.extension()).isEqualTo("jpeg");
+        }
+
+        @Test
+        @DisplayName("성공: PNG 출력은 무압축 PNG보다 작다")
+        void shouldCompressPngOutput() throws IOException {
+            // given
+            byte[] sourceImageBytes = createTestImageBytes(200, 160);
+            TransformParams params = TransformParams.forResize(200, 160, false);
+
+            // when
+            ImageProcessingResult result =
+                    sut.process(sourceImageBytes, TransformType.RESIZE, params);
+
+            // then
+            assertThat(result.fileSize()).isLessThan(sourceImageBytes.length);
+        }
+    }
+
     private byte[] createTestImageBytes(int width, int height) throws IOException {
         ImmutableImage image = ImmutableImage.create(width, height);
         return image.bytes(PngWriter.NoCompression);
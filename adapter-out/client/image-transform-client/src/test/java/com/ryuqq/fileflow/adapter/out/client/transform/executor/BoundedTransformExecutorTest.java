@@ -0,0 +1,126 @@
+package com.ryuqq.fileflow.adapter.out.client.transform.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.adapter.out.client.transform.config.TransformExecutorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("BoundedTransformExecutor 단위 테스트")
+class BoundedTransformExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedTransformExecutor sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut =
+                new BoundedTransformExecutor(
+                        new TransformExecutorProperties(1, 0, "test-transform-", 1, 2, 3),
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.destroy();
+    }
+
+    @Test
+    @DisplayName("파이프라인 용량은 설정된 풀 크기, 버퍼 크기, 종료 대기 시간을 반영한다")
+    void shouldExposePipelineCapacity() {
+        assertThat(sut.pipelineCapacity().cpuParallelism()).isEqualTo(1);
+        assertThat(sut.pipelineCapacity().prefetchDepth()).isEqualTo(2);
+        assertThat(sut.pipelineCapacity().uploadBuffer()).isEqualTo(3);
+        assertThat(sut.pipelineCapacity().drainTimeout()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공: 전용 풀 스레드에서 작업을 실행하고 결과를 반환한다")
+        void shouldRunOnDedicatedThread() {
+            // when
+            String threadName = sut.execute(() -> Thread.currentThread().getName());
+
+            // then
+            assertThat(threadName).startsWith("test-transform-");
+        }
+
+        @Test
+        @DisplayName("실패: 작업 예외를 그대로 전파한다")
+        void shouldPropagateRuntimeException() {
+            assertThatThrownBy(
+                            () ->
+                                    sut.execute(
+                                            () -> {
+                                                throw new IllegalArgumentException("bad image");
+                                            }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("bad image");
+        }
+
+        @Test
+        @DisplayName("성공: 한도 초과 시 호출 스레드가 슬롯이 반환될 때까지 대기한다")
+        void shouldBlockCallerWhenSaturated() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService callers = Executors.newFixedThreadPool(2);
+            try {
+                Future<String> first =
+                        callers.submit(
+                                () ->
+                                        sut.execute(
+                                                () -> {
+                                                    started.countDown();
+                                                    await(release);
+                                                    return "first";
+                                                }));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<String> second = callers.submit(() -> sut.execute(() -> "second"));
+
+                // when
+                Thread.sleep(100);
+                boolean blockedWhileSaturated = !second.isDone();
+                release.countDown();
+
+                // then
+                assertThat(blockedWhileSaturated).isTrue();
+                assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+                assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+                assertThat(
+                                meterRegistry
+                                        .get("fileflow.transform_executor_wait_seconds")
+                                        .timer()
+                                        .count())
+                        .isEqualTo(1);
+            } finally {
+                callers.shutdownNow();
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
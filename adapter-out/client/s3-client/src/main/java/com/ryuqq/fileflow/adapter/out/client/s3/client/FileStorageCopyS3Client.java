@@ -0,0 +1,46 @@
+package com.ryuqq.fileflow.adapter.out.client.s3.client;
+
+import com.ryuqq.fileflow.application.common.port.out.client.FileStorageCopyClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+
+@Component
+public class FileStorageCopyS3Client implements FileStorageCopyClient {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStorageCopyS3Client.class);
+
+    private final S3Client s3Client;
+
+    public FileStorageCopyS3Client(S3Client s3Client) {
+        this.s3Client = s3Client;
+    }
+
+    @Override
+    public String copy(
+            String sourceBucket, String sourceKey, String targetBucket, String targetKey) {
+        log.info(
+                "S3 파일 복사 시작: sourceBucket={}, sourceKey={}, targetBucket={}, targetKey={}",
+                sourceBucket,
+                sourceKey,
+                targetBucket,
+                targetKey);
+
+        CopyObjectRequest request =
+                CopyObjectRequest.builder()
+                        .sourceBucket(sourceBucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(targetBucket)
+                        .destinationKey(targetKey)
+                        .build();
+
+        CopyObjectResponse response = s3Client.copyObject(request);
+        String etag = response.copyObjectResult().eTag();
+
+        log.info("S3 파일 복사 완료: targetKey={}, etag={}", targetKey, etag);
+        return etag;
+    }
+}
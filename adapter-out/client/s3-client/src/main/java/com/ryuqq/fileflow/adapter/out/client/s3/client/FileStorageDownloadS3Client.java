@@ -32,4 +32,19 @@ public class FileStorageDownloadS3Client implements FileStorageDownloadClient {
         log.info("S3 파일 다운로드 완료: s3Key={}, size={}", s3Key, data.length);
         return data;
     }
+
+    @Override
+    public byte[] downloadHead(String bucket, String s3Key, int length) {
+        GetObjectRequest request =
+                GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .range("bytes=0-" + (length - 1))
+                        .build();
+
+        byte[] data = s3Client.getObjectAsBytes(request).asByteArray();
+
+        log.debug("S3 파일 헤더 다운로드 완료: s3Key={}, size={}", s3Key, data.length);
+        return data;
+    }
 }
@@ -4,11 +4,21 @@ import com.ryuqq.fileflow.adapter.out.client.s3.config.S3ClientProperties;
 import com.ryuqq.fileflow.adapter.out.client.s3.mapper.MultipartUploadS3Mapper;
 import com.ryuqq.fileflow.application.session.port.out.client.MultipartUploadClient;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
@@ -16,6 +26,11 @@ import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.services.s3.model.ServerSideEncryption;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
@@ -26,10 +41,15 @@ public class MultipartUploadS3Client implements MultipartUploadClient {
 
     private static final Logger log = LoggerFactory.getLogger(MultipartUploadS3Client.class);
 
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 100;
+    private static final int MAX_CONCURRENT_ABORTS = 16;
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final S3ClientProperties properties;
     private final MultipartUploadS3Mapper mapper;
+    private final Executor abortExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore abortSlots = new Semaphore(MAX_CONCURRENT_ABORTS);
 
     public MultipartUploadS3Client(
             S3Client s3Client,
@@ -76,6 +96,35 @@ public class MultipartUploadS3Client implements MultipartUploadClient {
                 uploadId,
                 partNumber);
 
+        return presignPart(s3Key, uploadId, partNumber, ttl);
+    }
+
+    /**
+     * 파트 범위의 Presigned URL을 한 번에 생성합니다.
+     *
+     * <p>서명은 네트워크 호출 없는 로컬 연산이므로, 범위가 {@value #PARALLEL_PRESIGN_THRESHOLD}개 이상이면 병렬로 서명합니다.
+     * 결과는 파트 번호 오름차순을 유지합니다.
+     */
+    @Override
+    public List<String> generatePresignedPartUrls(
+            String s3Key, String uploadId, int fromPartNumber, int toPartNumber, Duration ttl) {
+        log.debug(
+                "파트 범위 Presigned URL 생성: s3Key={}, uploadId={}, parts={}-{}",
+                s3Key,
+                uploadId,
+                fromPartNumber,
+                toPartNumber);
+
+        IntStream partNumbers = IntStream.rangeClosed(fromPartNumber, toPartNumber);
+        if (toPartNumber - fromPartNumber + 1 >= PARALLEL_PRESIGN_THRESHOLD) {
+            partNumbers = partNumbers.parallel();
+        }
+        return partNumbers
+                .mapToObj(partNumber -> presignPart(s3Key, uploadId, partNumber, ttl))
+                .toList();
+    }
+
+    private String presignPart(String s3Key, String uploadId, int partNumber, Duration ttl) {
         UploadPartPresignRequest presignRequest =
                 UploadPartPresignRequest.builder()
                         .signatureDuration(ttl)
@@ -129,4 +178,145 @@ public class MultipartUploadS3Client implements MultipartUploadClient {
 
         log.info("멀티파트 업로드 중단 완료: s3Key={}, uploadId={}", s3Key, uploadId);
     }
+
+    /**
+     * 멀티파트 업로드를 동시에 최대 {@value #MAX_CONCURRENT_ABORTS}건씩 중단합니다.
+     *
+     * <p>S3에는 일괄 중단 API가 없으므로 요청을 가상 스레드로 동시에 보냅니다. 이미 없는 업로드(NoSuchUpload)는 중단된 것으로 봅니다.
+     */
+    @Override
+    public List<MultipartUploadRef> abortMultipartUploads(List<MultipartUploadRef> uploads) {
+        log.info("멀티파트 업로드 일괄 중단: count={}", uploads.size());
+
+        List<CompletableFuture<Optional<MultipartUploadRef>>> futures =
+                uploads.stream()
+                        .map(
+                                upload ->
+                                        CompletableFuture.supplyAsync(
+                                                () -> abortQuietly(upload), abortExecutor))
+                        .toList();
+        List<MultipartUploadRef> failed =
+                futures.stream().map(CompletableFuture::join).flatMap(Optional::stream).toList();
+
+        log.info("멀티파트 업로드 일괄 중단 완료: count={}, failed={}", uploads.size(), failed.size());
+        return failed;
+    }
+
+    private Optional<MultipartUploadRef> abortQuietly(MultipartUploadRef upload) {
+        abortSlots.acquireUninterruptibly();
+        try {
+            s3Client.abortMultipartUpload(toAbortRequest(upload));
+            return Optional.empty();
+        } catch (NoSuchUploadException e) {
+            return Optional.empty();
+        } catch (SdkException e) {
+            log.warn(
+                    "멀티파트 업로드 중단 실패: s3Key={}, uploadId={}, error={}",
+                    upload.s3Key(),
+                    upload.uploadId(),
+                    e.getMessage());
+            return Optional.of(upload);
+        } finally {
+            abortSlots.release();
+        }
+    }
+
+    @Override
+    public MultipartUploadListingPage listMultipartUploads(
+            String keyMarker, String uploadIdMarker, int maxUploads) {
+        ListMultipartUploadsRequest request =
+                ListMultipartUploadsRequest.builder()
+                        .bucket(properties.bucket())
+                        .keyMarker(keyMarker)
+                        .uploadIdMarker(uploadIdMarker)
+                        .maxUploads(maxUploads)
+                        .build();
+        return mapper.toListingPage(s3Client.listMultipartUploads(request));
+    }
+
+    /**
+     * 파트 크기를 합산한 뒤 업로드를 중단합니다. 일괄 중단과 같은 동시 실행 한도를 공유합니다.
+     *
+     * <p>ListParts는 업로드마다 페이지 단위로 호출되므로 파트가 많은 업로드일수록 회수 비용이 커집니다.
+     */
+    @Override
+    public MultipartUploadReclaimResult reclaimMultipartUploads(List<MultipartUploadRef> uploads) {
+        log.info("멀티파트 업로드 회수: count={}", uploads.size());
+
+        List<CompletableFuture<ReclaimOutcome>> futures =
+                uploads.stream()
+                        .map(
+                                upload ->
+                                        CompletableFuture.supplyAsync(
+                                                () -> reclaimQuietly(upload), abortExecutor))
+                        .toList();
+        List<ReclaimOutcome> outcomes = futures.stream().map(CompletableFuture::join).toList();
+
+        List<MultipartUploadRef> failed =
+                outcomes.stream()
+                        .filter(outcome -> !outcome.aborted())
+                        .map(ReclaimOutcome::upload)
+                        .toList();
+        long reclaimedBytes =
+                outcomes.stream()
+                        .filter(ReclaimOutcome::aborted)
+                        .mapToLong(ReclaimOutcome::bytes)
+                        .sum();
+
+        log.info(
+                "멀티파트 업로드 회수 완료: count={}, failed={}, reclaimedBytes={}",
+                uploads.size(),
+                failed.size(),
+                reclaimedBytes);
+        return MultipartUploadReclaimResult.of(failed, reclaimedBytes);
+    }
+
+    private ReclaimOutcome reclaimQuietly(MultipartUploadRef upload) {
+        abortSlots.acquireUninterruptibly();
+        try {
+            long bytes = sumUploadedPartBytes(upload);
+            s3Client.abortMultipartUpload(toAbortRequest(upload));
+            return new ReclaimOutcome(upload, true, bytes);
+        } catch (NoSuchUploadException e) {
+            return new ReclaimOutcome(upload, true, 0L);
+        } catch (SdkException e) {
+            log.warn(
+                    "멀티파트 업로드 회수 실패: s3Key={}, uploadId={}, error={}",
+                    upload.s3Key(),
+                    upload.uploadId(),
+                    e.getMessage());
+            return new ReclaimOutcome(upload, false, 0L);
+        } finally {
+            abortSlots.release();
+        }
+    }
+
+    private long sumUploadedPartBytes(MultipartUploadRef upload) {
+        long total = 0L;
+        Integer partNumberMarker = null;
+        ListPartsResponse response;
+        do {
+            response =
+                    s3Client.listParts(
+                            ListPartsRequest.builder()
+                                    .bucket(properties.bucket())
+                                    .key(upload.s3Key())
+                                    .uploadId(upload.uploadId())
+                                    .partNumberMarker(partNumberMarker)
+                                    .build());
+            total += response.parts().stream().mapToLong(Part::size).sum();
+            partNumberMarker = response.nextPartNumberMarker();
+        } while (Boolean.TRUE.equals(response.isTruncated()));
+        return total;
+    }
+
+    private AbortMultipartUploadRequest toAbortRequest(MultipartUploadRef upload) {
+        return AbortMultipartUploadRequest.builder()
+                .bucket(properties.bucket())
+                .key(upload.s3Key())
+                .uploadId(upload.uploadId())
+                .build();
+    }
+
+    private record ReclaimOutcome(MultipartUploadRef upload, boolean aborted, long bytes) {}
 }
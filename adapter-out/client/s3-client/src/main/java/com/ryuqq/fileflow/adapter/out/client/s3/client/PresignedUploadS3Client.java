@@ -2,7 +2,10 @@ package com.ryuqq.fileflow.adapter.out.client.s3.client;
 
 import com.ryuqq.fileflow.adapter.out.client.s3.config.S3ClientProperties;
 import com.ryuqq.fileflow.application.session.port.out.client.PresignedUploadClient;
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -15,6 +18,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 public class PresignedUploadS3Client implements PresignedUploadClient {
 
     private static final Logger log = LoggerFactory.getLogger(PresignedUploadS3Client.class);
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 100;
 
     private final S3Presigner s3Presigner;
     private final S3ClientProperties properties;
@@ -37,6 +41,30 @@ public class PresignedUploadS3Client implements PresignedUploadClient {
                 contentType,
                 ttl);
 
+        String url = presign(s3Key, contentType, ttl);
+
+        log.info("Presigned Upload URL 생성 완료: s3Key={}", s3Key);
+        return url;
+    }
+
+    /**
+     * 여러 객체의 Presigned Upload URL을 한 번에 생성합니다.
+     *
+     * <p>서명은 네트워크 호출 없는 로컬 연산이므로, {@value #PARALLEL_PRESIGN_THRESHOLD}개 이상이면 병렬로 서명합니다. 결과는
+     * 스펙 순서를 유지합니다.
+     */
+    @Override
+    public List<String> generatePresignedUploadUrls(List<PresignedUploadSpec> specs) {
+        log.info("Presigned Upload URL 일괄 생성: count={}", specs.size());
+
+        Stream<PresignedUploadSpec> stream = specs.stream();
+        if (specs.size() >= PARALLEL_PRESIGN_THRESHOLD) {
+            stream = stream.parallel();
+        }
+        return stream.map(spec -> presign(spec.s3Key(), spec.contentType(), spec.ttl())).toList();
+    }
+
+    private String presign(String s3Key, String contentType, Duration ttl) {
         PutObjectRequest putObjectRequest =
                 PutObjectRequest.builder()
                         .bucket(properties.bucket())
@@ -51,9 +79,6 @@ public class PresignedUploadS3Client implements PresignedUploadClient {
                         .build();
 
         PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
-        String url = presignedRequest.url().toString();
-
-        log.info("Presigned Upload URL 생성 완료: s3Key={}", s3Key);
-        return url;
+        return presignedRequest.url().toString();
     }
 }
@@ -1,8 +1,13 @@
 package com.ryuqq.fileflow.adapter.out.client.s3.mapper;
 
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListing;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import java.util.List;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
 
 @Component
 public class MultipartUploadS3Mapper {
@@ -19,4 +24,19 @@ public class MultipartUploadS3Mapper {
                 .eTag(domainPart.etag())
                 .build();
     }
+
+    public MultipartUploadListingPage toListingPage(ListMultipartUploadsResponse response) {
+        List<MultipartUploadListing> uploads =
+                response.uploads().stream().map(this::toListing).toList();
+        if (!Boolean.TRUE.equals(response.isTruncated())) {
+            return MultipartUploadListingPage.last(uploads);
+        }
+        return MultipartUploadListingPage.of(
+                uploads, response.nextKeyMarker(), response.nextUploadIdMarker());
+    }
+
+    private MultipartUploadListing toListing(MultipartUpload upload) {
+        return MultipartUploadListing.of(
+                MultipartUploadRef.of(upload.key(), upload.uploadId()), upload.initiated());
+    }
 }
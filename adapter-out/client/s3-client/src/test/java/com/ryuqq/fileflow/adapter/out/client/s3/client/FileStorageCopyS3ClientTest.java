@@ -0,0 +1,64 @@
+package com.ryuqq.fileflow.adapter.out.client.s3.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CopyObjectResult;
+
+@Tag("unit")
+@DisplayName("FileStorageCopyS3Client 단위 테스트")
+class FileStorageCopyS3ClientTest {
+
+    private S3Client s3Client;
+    private FileStorageCopyS3Client sut;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        sut = new FileStorageCopyS3Client(s3Client);
+    }
+
+    @Nested
+    @DisplayName("copy 메서드")
+    class Copy {
+
+        @Test
+        @DisplayName("성공: CopyObject 요청을 보내고 ETag를 반환한다")
+        void shouldCopyObjectAndReturnEtag() {
+            // given
+            CopyObjectResult copyResult = CopyObjectResult.builder().eTag("\"etag-copy\"").build();
+            CopyObjectResponse response =
+                    CopyObjectResponse.builder().copyObjectResult(copyResult).build();
+            given(s3Client.copyObject(any(CopyObjectRequest.class))).willReturn(response);
+
+            // when
+            String etag =
+                    sut.copy("source-bucket", "public/a.jpg", "target-bucket", "public/b.jpg");
+
+            // then
+            assertThat(etag).isEqualTo("\"etag-copy\"");
+
+            ArgumentCaptor<CopyObjectRequest> requestCaptor =
+                    ArgumentCaptor.forClass(CopyObjectRequest.class);
+            verify(s3Client).copyObject(requestCaptor.capture());
+
+            CopyObjectRequest captured = requestCaptor.getValue();
+            assertThat(captured.sourceBucket()).isEqualTo("source-bucket");
+            assertThat(captured.sourceKey()).isEqualTo("public/a.jpg");
+            assertThat(captured.destinationBucket()).isEqualTo("target-bucket");
+            assertThat(captured.destinationKey()).isEqualTo("public/b.jpg");
+        }
+    }
+}
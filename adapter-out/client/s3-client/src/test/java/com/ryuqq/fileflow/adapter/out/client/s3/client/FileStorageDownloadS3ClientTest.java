@@ -62,4 +62,32 @@ class FileStorageDownloadS3ClientTest {
             assertThat(capturedRequest.key()).isEqualTo(s3Key);
         }
     }
+
+    @Nested
+    @DisplayName("downloadHead 메서드")
+    class DownloadHead {
+
+        @Test
+        @DisplayName("성공: Range 요청으로 파일 앞부분만 다운로드한다")
+        void shouldRequestByteRange() {
+            // given
+            byte[] head = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+
+            @SuppressWarnings("unchecked")
+            ResponseBytes<GetObjectResponse> responseBytes = mock(ResponseBytes.class);
+            given(responseBytes.asByteArray()).willReturn(head);
+            given(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).willReturn(responseBytes);
+
+            // when
+            byte[] result = sut.downloadHead("test-bucket", "uploads/image.jpg", 65536);
+
+            // then
+            assertThat(result).isEqualTo(head);
+
+            ArgumentCaptor<GetObjectRequest> requestCaptor =
+                    ArgumentCaptor.forClass(GetObjectRequest.class);
+            verify(s3Client).getObjectAsBytes(requestCaptor.capture());
+            assertThat(requestCaptor.getValue().range()).isEqualTo("bytes=0-65535");
+        }
+    }
 }
@@ -2,18 +2,25 @@ package com.ryuqq.fileflow.adapter.out.client.s3.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.fileflow.adapter.out.client.s3.config.S3ClientProperties;
 import com.ryuqq.fileflow.adapter.out.client.s3.mapper.MultipartUploadS3Mapper;
 import com.ryuqq.fileflow.application.session.port.out.client.MultipartUploadClient;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +33,13 @@ import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
@@ -112,6 +126,47 @@ class MultipartUploadS3ClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("generatePresignedPartUrls 메서드")
+    class GeneratePresignedPartUrls {
+
+        @Test
+        @DisplayName("성공: 병렬 서명 범위에서도 파트 번호 순서대로 URL을 반환한다")
+        void shouldGenerateUrlsInPartOrder() throws Exception {
+            // given
+            String s3Key = "uploads/large-file.zip";
+            String uploadId = "upload-id-123";
+            int from = 1;
+            int to = 150;
+            Map<Integer, PresignedUploadPartRequest> presignedByPart = new HashMap<>();
+            for (int partNumber = from; partNumber <= to; partNumber++) {
+                PresignedUploadPartRequest presigned = mock(PresignedUploadPartRequest.class);
+                given(presigned.url())
+                        .willReturn(
+                                new URL("https://test-bucket.s3.amazonaws.com/p?n=" + partNumber));
+                presignedByPart.put(partNumber, presigned);
+            }
+            given(s3Presigner.presignUploadPart(any(UploadPartPresignRequest.class)))
+                    .willAnswer(
+                            invocation -> {
+                                UploadPartPresignRequest request = invocation.getArgument(0);
+                                return presignedByPart.get(
+                                        request.uploadPartRequest().partNumber());
+                            });
+
+            // when
+            List<String> result =
+                    sut.generatePresignedPartUrls(
+                            s3Key, uploadId, from, to, Duration.ofMinutes(30));
+
+            // then
+            assertThat(result).hasSize(150);
+            assertThat(result.get(0)).endsWith("n=1");
+            assertThat(result.get(149)).endsWith("n=150");
+            verify(s3Presigner, times(150)).presignUploadPart(any(UploadPartPresignRequest.class));
+        }
+    }
+
     @Nested
     @DisplayName("completeMultipartUpload 메서드")
     class CompleteMultipartUploadTest {
@@ -196,4 +251,162 @@ class MultipartUploadS3ClientTest {
             assertThat(sut).isInstanceOf(MultipartUploadClient.class);
         }
     }
+
+    @Nested
+    @DisplayName("abortMultipartUploads 메서드")
+    class AbortMultipartUploadsTest {
+
+        @Test
+        @DisplayName("성공: 모두 중단되면 빈 목록을 반환한다")
+        void shouldReturnEmptyWhenAllAborted() {
+            // given
+            List<MultipartUploadRef> uploads =
+                    List.of(
+                            MultipartUploadRef.of("uploads/a.zip", "upload-a"),
+                            MultipartUploadRef.of("uploads/b.zip", "upload-b"));
+
+            // when
+            List<MultipartUploadRef> failed = sut.abortMultipartUploads(uploads);
+
+            // then
+            assertThat(failed).isEmpty();
+            verify(s3Client, times(2)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("실패: S3 오류가 난 업로드만 반환한다")
+        void shouldReturnFailedUploads() {
+            // given
+            MultipartUploadRef ok = MultipartUploadRef.of("uploads/a.zip", "upload-a");
+            MultipartUploadRef broken = MultipartUploadRef.of("uploads/b.zip", "upload-b");
+            given(
+                            s3Client.abortMultipartUpload(
+                                    argThat(
+                                            (AbortMultipartUploadRequest request) ->
+                                                    "upload-b".equals(request.uploadId()))))
+                    .willThrow(S3Exception.builder().message("Slow Down").statusCode(503).build());
+
+            // when
+            List<MultipartUploadRef> failed = sut.abortMultipartUploads(List.of(ok, broken));
+
+            // then
+            assertThat(failed).containsExactly(broken);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 없는 업로드는 중단된 것으로 본다")
+        void shouldTreatNoSuchUploadAsAborted() {
+            // given
+            MultipartUploadRef gone = MultipartUploadRef.of("uploads/a.zip", "upload-a");
+            given(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                    .willThrow(NoSuchUploadException.builder().message("gone").build());
+
+            // when
+            List<MultipartUploadRef> failed = sut.abortMultipartUploads(List.of(gone));
+
+            // then
+            assertThat(failed).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("listMultipartUploads 메서드")
+    class ListMultipartUploadsTest {
+
+        @Test
+        @DisplayName("성공: 버킷과 마커로 조회하고 매퍼 결과를 반환한다")
+        void shouldListWithMarkers() {
+            // given
+            ListMultipartUploadsResponse response =
+                    ListMultipartUploadsResponse.builder().isTruncated(false).build();
+            MultipartUploadListingPage page = MultipartUploadListingPage.last(List.of());
+            given(s3Client.listMultipartUploads(any(ListMultipartUploadsRequest.class)))
+                    .willReturn(response);
+            given(mapper.toListingPage(response)).willReturn(page);
+
+            // when
+            MultipartUploadListingPage result =
+                    sut.listMultipartUploads("uploads/a.zip", "upload-a", 1000);
+
+            // then
+            assertThat(result).isEqualTo(page);
+            ArgumentCaptor<ListMultipartUploadsRequest> captor =
+                    ArgumentCaptor.forClass(ListMultipartUploadsRequest.class);
+            verify(s3Client).listMultipartUploads(captor.capture());
+            assertThat(captor.getValue().bucket()).isEqualTo(BUCKET);
+            assertThat(captor.getValue().keyMarker()).isEqualTo("uploads/a.zip");
+            assertThat(captor.getValue().uploadIdMarker()).isEqualTo("upload-a");
+            assertThat(captor.getValue().maxUploads()).isEqualTo(1000);
+        }
+    }
+
+    @Nested
+    @DisplayName("reclaimMultipartUploads 메서드")
+    class ReclaimMultipartUploadsTest {
+
+        @Test
+        @DisplayName("성공: 모든 파트 페이지의 크기를 합산하고 업로드를 중단한다")
+        void shouldSumAllPartPagesAndAbort() {
+            // given
+            MultipartUploadRef upload = MultipartUploadRef.of("uploads/a.zip", "upload-a");
+            given(s3Client.listParts(any(ListPartsRequest.class)))
+                    .willReturn(
+                            ListPartsResponse.builder()
+                                    .parts(Part.builder().partNumber(1).size(5_242_880L).build())
+                                    .isTruncated(true)
+                                    .nextPartNumberMarker(1)
+                                    .build(),
+                            ListPartsResponse.builder()
+                                    .parts(Part.builder().partNumber(2).size(1_000L).build())
+                                    .isTruncated(false)
+                                    .build());
+
+            // when
+            MultipartUploadReclaimResult result = sut.reclaimMultipartUploads(List.of(upload));
+
+            // then
+            assertThat(result.failed()).isEmpty();
+            assertThat(result.reclaimedBytes()).isEqualTo(5_243_880L);
+            verify(s3Client, times(2)).listParts(any(ListPartsRequest.class));
+            verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("실패: 중단에 실패한 업로드는 회수 크기에서 빼고 반환한다")
+        void shouldReturnFailedUploads() {
+            // given
+            MultipartUploadRef upload = MultipartUploadRef.of("uploads/a.zip", "upload-a");
+            given(s3Client.listParts(any(ListPartsRequest.class)))
+                    .willReturn(
+                            ListPartsResponse.builder()
+                                    .parts(Part.builder().partNumber(1).size(5_242_880L).build())
+                                    .isTruncated(false)
+                                    .build());
+            given(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                    .willThrow(S3Exception.builder().message("Slow Down").statusCode(503).build());
+
+            // when
+            MultipartUploadReclaimResult result = sut.reclaimMultipartUploads(List.of(upload));
+
+            // then
+            assertThat(result.failed()).containsExactly(upload);
+            assertThat(result.reclaimedBytes()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 이미 없는 업로드는 회수 크기 없이 중단된 것으로 본다")
+        void shouldTreatNoSuchUploadAsReclaimed() {
+            // given
+            MultipartUploadRef upload = MultipartUploadRef.of("uploads/a.zip", "upload-a");
+            given(s3Client.listParts(any(ListPartsRequest.class)))
+                    .willThrow(NoSuchUploadException.builder().message("gone").build());
+
+            // when
+            MultipartUploadReclaimResult result = sut.reclaimMultipartUploads(List.of(upload));
+
+            // then
+            assertThat(result.failed()).isEmpty();
+            assertThat(result.reclaimedBytes()).isZero();
+        }
+    }
 }
@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.fileflow.adapter.out.client.s3.config.S3ClientProperties;
 import com.ryuqq.fileflow.application.session.port.out.client.PresignedUploadClient;
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import java.net.URL;
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -85,4 +89,49 @@ class PresignedUploadS3ClientTest {
             assertThat(sut).isInstanceOf(PresignedUploadClient.class);
         }
     }
+
+    @Nested
+    @DisplayName("generatePresignedUploadUrls 메서드")
+    class GeneratePresignedUploadUrls {
+
+        @Test
+        @DisplayName("성공: 스펙마다 서명하고 스펙 순서대로 URL을 반환한다")
+        void shouldPresignEachSpecInOrder() {
+            // given
+            given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class)))
+                    .willAnswer(invocation -> presignedFor(invocation.getArgument(0)));
+
+            List<PresignedUploadSpec> specs =
+                    IntStream.range(0, 150)
+                            .mapToObj(
+                                    i ->
+                                            PresignedUploadSpec.of(
+                                                    "uploads/" + i + ".jpg",
+                                                    "image/jpeg",
+                                                    Duration.ofMinutes(15)))
+                            .toList();
+
+            // when
+            List<String> result = sut.generatePresignedUploadUrls(specs);
+
+            // then
+            assertThat(result).hasSize(150);
+            assertThat(result.get(0))
+                    .isEqualTo("https://test-bucket.s3.amazonaws.com/uploads/0.jpg");
+            assertThat(result.get(149))
+                    .isEqualTo("https://test-bucket.s3.amazonaws.com/uploads/149.jpg");
+            verify(s3Presigner, times(150)).presignPutObject(any(PutObjectPresignRequest.class));
+        }
+
+        private PresignedPutObjectRequest presignedFor(PutObjectPresignRequest request)
+                throws Exception {
+            PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+            given(presigned.url())
+                    .willReturn(
+                            new URL(
+                                    "https://test-bucket.s3.amazonaws.com/"
+                                            + request.putObjectRequest().key()));
+            return presigned;
+        }
+    }
 }
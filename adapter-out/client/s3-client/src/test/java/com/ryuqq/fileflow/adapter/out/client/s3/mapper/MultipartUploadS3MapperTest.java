@@ -3,6 +3,9 @@ package com.ryuqq.fileflow.adapter.out.client.s3.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListing;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
 
 @Tag("unit")
 @DisplayName("MultipartUploadS3Mapper 단위 테스트")
@@ -77,4 +82,58 @@ class MultipartUploadS3MapperTest {
             assertThat(result.get(0).eTag()).isEqualTo("\"single-etag\"");
         }
     }
+
+    @Nested
+    @DisplayName("toListingPage 메서드")
+    class ToListingPage {
+
+        @Test
+        @DisplayName("성공: 잘린 응답이면 다음 페이지 마커를 담는다")
+        void shouldKeepMarkersWhenTruncated() {
+            // given
+            Instant initiated = Instant.parse("2026-01-01T00:00:00Z");
+            ListMultipartUploadsResponse response =
+                    ListMultipartUploadsResponse.builder()
+                            .uploads(
+                                    MultipartUpload.builder()
+                                            .key("uploads/a.zip")
+                                            .uploadId("upload-a")
+                                            .initiated(initiated)
+                                            .build())
+                            .isTruncated(true)
+                            .nextKeyMarker("uploads/a.zip")
+                            .nextUploadIdMarker("upload-a")
+                            .build();
+
+            // when
+            MultipartUploadListingPage result = sut.toListingPage(response);
+
+            // then
+            assertThat(result.uploads())
+                    .containsExactly(
+                            MultipartUploadListing.of(
+                                    MultipartUploadRef.of("uploads/a.zip", "upload-a"),
+                                    initiated));
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextUploadIdMarker()).isEqualTo("upload-a");
+        }
+
+        @Test
+        @DisplayName("성공: 잘리지 않은 응답이면 마지막 페이지로 변환한다")
+        void shouldReturnLastPageWhenNotTruncated() {
+            // given
+            ListMultipartUploadsResponse response =
+                    ListMultipartUploadsResponse.builder()
+                            .isTruncated(false)
+                            .nextKeyMarker("ignored")
+                            .build();
+
+            // when
+            MultipartUploadListingPage result = sut.toListingPage(response);
+
+            // then
+            assertThat(result.uploads()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
 }
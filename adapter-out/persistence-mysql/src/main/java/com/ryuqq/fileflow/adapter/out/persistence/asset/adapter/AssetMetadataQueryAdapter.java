@@ -5,6 +5,7 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetMetadata
 import com.ryuqq.fileflow.application.asset.port.out.query.AssetMetadataQueryPort;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -24,4 +25,10 @@ public class AssetMetadataQueryAdapter implements AssetMetadataQueryPort {
     public Optional<AssetMetadata> findByAssetId(AssetId assetId) {
         return queryDslRepository.findByAssetId(assetId.value()).map(mapper::toDomain);
     }
+
+    @Override
+    public List<AssetMetadata> findAllByAssetIds(List<AssetId> assetIds) {
+        List<String> ids = assetIds.stream().map(AssetId::value).toList();
+        return queryDslRepository.findAllByAssetIds(ids).stream().map(mapper::toDomain).toList();
+    }
 }
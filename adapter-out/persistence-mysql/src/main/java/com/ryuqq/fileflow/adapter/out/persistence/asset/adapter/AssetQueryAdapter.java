@@ -5,6 +5,8 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetQueryDsl
 import com.ryuqq.fileflow.application.asset.port.out.query.AssetQueryPort;
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -23,4 +25,17 @@ public class AssetQueryAdapter implements AssetQueryPort {
     public Optional<Asset> findById(AssetId assetId) {
         return queryDslRepository.findById(assetId.value()).map(mapper::toDomain);
     }
+
+    @Override
+    public List<Asset> findAllByIds(List<AssetId> assetIds) {
+        List<String> ids = assetIds.stream().map(AssetId::value).toList();
+        return queryDslRepository.findAllByIds(ids).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Asset> findByCriteria(AssetSearchCriteria criteria) {
+        return queryDslRepository.findByCriteria(criteria).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
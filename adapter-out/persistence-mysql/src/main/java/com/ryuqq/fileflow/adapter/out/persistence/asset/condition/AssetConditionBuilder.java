@@ -4,6 +4,11 @@ import static com.ryuqq.fileflow.adapter.out.persistence.asset.entity.QAssetJpaE
 import static com.ryuqq.fileflow.adapter.out.persistence.asset.entity.QAssetMetadataJpaEntity.assetMetadataJpaEntity;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCursor;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+import java.util.Collection;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,14 +21,92 @@ public class AssetConditionBuilder {
         return assetJpaEntity.id.eq(id);
     }
 
+    public BooleanExpression assetIdIn(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return assetJpaEntity.id.in(ids);
+    }
+
     public BooleanExpression notDeleted() {
         return assetJpaEntity.deletedAt.isNull();
     }
 
+    public BooleanExpression sourceEq(String source) {
+        if (source == null) {
+            return null;
+        }
+        return assetJpaEntity.source.eq(source);
+    }
+
+    public BooleanExpression purposeEq(String purpose) {
+        if (purpose == null) {
+            return null;
+        }
+        return assetJpaEntity.purpose.eq(purpose);
+    }
+
+    public BooleanExpression accessTypeEq(AccessType accessType) {
+        if (accessType == null) {
+            return null;
+        }
+        return assetJpaEntity.accessType.eq(accessType);
+    }
+
+    public BooleanExpression createdAtGoe(Instant from) {
+        if (from == null) {
+            return null;
+        }
+        return assetJpaEntity.createdAt.goe(from);
+    }
+
+    public BooleanExpression createdAtLt(Instant to) {
+        if (to == null) {
+            return null;
+        }
+        return assetJpaEntity.createdAt.lt(to);
+    }
+
+    /**
+     * (createdAt, id) 키셋 커서 이후 조건.
+     *
+     * <p>행 비교 대신 OR로 풀어 써서 MySQL이 (created_at, id) 인덱스 범위 스캔을 사용하도록 합니다.
+     */
+    public BooleanExpression keysetAfter(AssetCursor cursor, SortDirection direction) {
+        if (cursor == null) {
+            return null;
+        }
+        if (direction.isDescending()) {
+            return assetJpaEntity
+                    .createdAt
+                    .lt(cursor.createdAt())
+                    .or(
+                            assetJpaEntity
+                                    .createdAt
+                                    .eq(cursor.createdAt())
+                                    .and(assetJpaEntity.id.lt(cursor.assetId())));
+        }
+        return assetJpaEntity
+                .createdAt
+                .gt(cursor.createdAt())
+                .or(
+                        assetJpaEntity
+                                .createdAt
+                                .eq(cursor.createdAt())
+                                .and(assetJpaEntity.id.gt(cursor.assetId())));
+    }
+
     public BooleanExpression metadataAssetIdEq(String assetId) {
         if (assetId == null) {
             return null;
         }
         return assetMetadataJpaEntity.assetId.eq(assetId);
     }
+
+    public BooleanExpression metadataAssetIdIn(Collection<String> assetIds) {
+        if (assetIds == null || assetIds.isEmpty()) {
+            return null;
+        }
+        return assetMetadataJpaEntity.assetId.in(assetIds);
+    }
 }
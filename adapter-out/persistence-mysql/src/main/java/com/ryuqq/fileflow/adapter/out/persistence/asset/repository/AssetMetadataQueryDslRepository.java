@@ -5,6 +5,7 @@ import static com.ryuqq.fileflow.adapter.out.persistence.asset.entity.QAssetMeta
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.condition.AssetConditionBuilder;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.entity.AssetMetadataJpaEntity;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
@@ -28,4 +29,14 @@ public class AssetMetadataQueryDslRepository {
                         .fetchOne();
         return Optional.ofNullable(result);
     }
+
+    public List<AssetMetadataJpaEntity> findAllByAssetIds(List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(assetMetadataJpaEntity)
+                .where(conditionBuilder.metadataAssetIdIn(assetIds))
+                .fetch();
+    }
 }
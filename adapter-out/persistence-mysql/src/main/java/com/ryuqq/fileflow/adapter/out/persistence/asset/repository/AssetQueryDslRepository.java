@@ -2,10 +2,18 @@ package com.ryuqq.fileflow.adapter.out.persistence.asset.repository;
 
 import static com.ryuqq.fileflow.adapter.out.persistence.asset.entity.QAssetJpaEntity.assetJpaEntity;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.condition.AssetConditionBuilder;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.entity.AssetJpaEntity;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -28,4 +36,60 @@ public class AssetQueryDslRepository {
                         .fetchOne();
         return Optional.ofNullable(result);
     }
+
+    public List<AssetJpaEntity> findAllByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(assetJpaEntity)
+                .where(conditionBuilder.assetIdIn(ids), conditionBuilder.notDeleted())
+                .fetch();
+    }
+
+    /**
+     * 조건에 맞는 Asset을 (createdAt, id) 키셋 순서로 조회합니다.
+     *
+     * <p>먼저 idx_asset_source_listing 인덱스만으로 ID를 LIMIT만큼 읽고, 그 ID로 행을 PK 조회합니다. OFFSET을 쓰지 않으므로
+     * 페이지 깊이와 관계없이 읽는 인덱스 범위가 같습니다.
+     */
+    public List<AssetJpaEntity> findByCriteria(AssetSearchCriteria criteria) {
+        List<String> ids =
+                queryFactory
+                        .select(assetJpaEntity.id)
+                        .from(assetJpaEntity)
+                        .where(
+                                conditionBuilder.sourceEq(criteria.source()),
+                                conditionBuilder.notDeleted(),
+                                conditionBuilder.purposeEq(criteria.purpose()),
+                                conditionBuilder.accessTypeEq(criteria.accessType()),
+                                conditionBuilder.createdAtGoe(criteria.createdFrom()),
+                                conditionBuilder.createdAtLt(criteria.createdTo()),
+                                conditionBuilder.keysetAfter(
+                                        criteria.cursor(), criteria.direction()))
+                        .orderBy(keysetOrder(criteria.direction()))
+                        .limit(criteria.fetchSize())
+                        .fetch();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, AssetJpaEntity> entitiesById =
+                queryFactory
+                        .selectFrom(assetJpaEntity)
+                        .where(conditionBuilder.assetIdIn(ids))
+                        .fetch()
+                        .stream()
+                        .collect(Collectors.toMap(AssetJpaEntity::getId, Function.identity()));
+        return ids.stream().map(entitiesById::get).filter(Objects::nonNull).toList();
+    }
+
+    private OrderSpecifier<?>[] keysetOrder(SortDirection direction) {
+        if (direction.isDescending()) {
+            return new OrderSpecifier<?>[] {
+                assetJpaEntity.createdAt.desc(), assetJpaEntity.id.desc()
+            };
+        }
+        return new OrderSpecifier<?>[] {assetJpaEntity.createdAt.asc(), assetJpaEntity.id.asc()};
+    }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.adapter.out.persistence.download.adapter;
 
 import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadQueueOutboxJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.download.mapper.DownloadQueueOutboxJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadQueueOutboxBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadQueueOutboxJpaRepository;
 import com.ryuqq.fileflow.application.download.port.out.command.DownloadQueueOutboxPersistencePort;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadQueueOutbox;
@@ -13,11 +14,15 @@ import org.springframework.stereotype.Component;
 public class DownloadQueueOutboxCommandAdapter implements DownloadQueueOutboxPersistencePort {
 
     private final DownloadQueueOutboxJpaRepository jpaRepository;
+    private final DownloadQueueOutboxBulkRepository bulkRepository;
     private final DownloadQueueOutboxJpaMapper mapper;
 
     public DownloadQueueOutboxCommandAdapter(
-            DownloadQueueOutboxJpaRepository jpaRepository, DownloadQueueOutboxJpaMapper mapper) {
+            DownloadQueueOutboxJpaRepository jpaRepository,
+            DownloadQueueOutboxBulkRepository bulkRepository,
+            DownloadQueueOutboxJpaMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.bulkRepository = bulkRepository;
         this.mapper = mapper;
     }
 
@@ -27,6 +32,11 @@ public class DownloadQueueOutboxCommandAdapter implements DownloadQueueOutboxPer
         jpaRepository.save(entity);
     }
 
+    @Override
+    public void persistAll(List<DownloadQueueOutbox> outboxes) {
+        bulkRepository.insertAll(outboxes.stream().map(mapper::toEntity).toList());
+    }
+
     @Override
     public void bulkMarkSent(List<String> ids, Instant now) {
         if (ids.isEmpty()) return;
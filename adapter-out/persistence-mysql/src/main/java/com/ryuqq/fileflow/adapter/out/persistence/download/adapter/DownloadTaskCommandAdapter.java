@@ -2,20 +2,26 @@ package com.ryuqq.fileflow.adapter.out.persistence.download.adapter;
 
 import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadTaskJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.download.mapper.DownloadTaskJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadTaskBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadTaskJpaRepository;
 import com.ryuqq.fileflow.application.download.port.out.command.DownloadTaskPersistencePort;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DownloadTaskCommandAdapter implements DownloadTaskPersistencePort {
 
     private final DownloadTaskJpaRepository jpaRepository;
+    private final DownloadTaskBulkRepository bulkRepository;
     private final DownloadTaskJpaMapper mapper;
 
     public DownloadTaskCommandAdapter(
-            DownloadTaskJpaRepository jpaRepository, DownloadTaskJpaMapper mapper) {
+            DownloadTaskJpaRepository jpaRepository,
+            DownloadTaskBulkRepository bulkRepository,
+            DownloadTaskJpaMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.bulkRepository = bulkRepository;
         this.mapper = mapper;
     }
 
@@ -25,4 +31,9 @@ public class DownloadTaskCommandAdapter implements DownloadTaskPersistencePort {
         DownloadTaskJpaEntity saved = jpaRepository.save(entity);
         return saved.getVersion();
     }
+
+    @Override
+    public void persistAll(List<DownloadTask> downloadTasks) {
+        bulkRepository.insertAll(downloadTasks.stream().map(mapper::toEntity).toList());
+    }
 }
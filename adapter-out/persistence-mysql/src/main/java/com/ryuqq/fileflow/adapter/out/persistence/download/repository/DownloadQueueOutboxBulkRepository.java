@@ -0,0 +1,66 @@
+package com.ryuqq.fileflow.adapter.out.persistence.download.repository;
+
+import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadQueueOutboxJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DownloadQueueOutboxBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO download_queue_outbox (id, download_task_id, outbox_status, retry_count,"
+                    + " last_error, created_at, processed_at) VALUES ";
+
+    private final EntityManager entityManager;
+
+    public DownloadQueueOutboxBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 신규 큐 아웃박스를 한 번의 다중 행 INSERT로 저장합니다.
+     *
+     * @param outboxes 신규 큐 아웃박스 엔티티 목록
+     */
+    public void insertAll(List<DownloadQueueOutboxJpaEntity> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < outboxes.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id")
+                    .append(i)
+                    .append(", :downloadTaskId")
+                    .append(i)
+                    .append(", :outboxStatus")
+                    .append(i)
+                    .append(", :retryCount")
+                    .append(i)
+                    .append(", :lastError")
+                    .append(i)
+                    .append(", :createdAt")
+                    .append(i)
+                    .append(", :processedAt")
+                    .append(i)
+                    .append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < outboxes.size(); i++) {
+            DownloadQueueOutboxJpaEntity outbox = outboxes.get(i);
+            query.setParameter("id" + i, outbox.getId())
+                    .setParameter("downloadTaskId" + i, outbox.getDownloadTaskId())
+                    .setParameter("outboxStatus" + i, outbox.getOutboxStatus().name())
+                    .setParameter("retryCount" + i, outbox.getRetryCount())
+                    .setParameter("lastError" + i, outbox.getLastError())
+                    .setParameter("createdAt" + i, outbox.getCreatedAt())
+                    .setParameter("processedAt" + i, outbox.getProcessedAt());
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,109 @@
+package com.ryuqq.fileflow.adapter.out.persistence.download.repository;
+
+import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadTaskJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DownloadTaskBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO download_task (id, source_url, bucket, s3_key, access_type, purpose,"
+                    + " source, status, retry_count, max_retries, callback_url, asset_id,"
+                    + " last_error, started_at, completed_at, version, created_at, updated_at)"
+                    + " VALUES ";
+
+    /** source_url, callback_url이 TEXT이므로 문장 하나가 너무 커지지 않도록 나눠 보냅니다. */
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final EntityManager entityManager;
+
+    public DownloadTaskBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 신규 다운로드 태스크를 다중 행 INSERT로 저장합니다. {@value #ROWS_PER_STATEMENT}건마다 문장을 나눕니다.
+     *
+     * <p>영속성 컨텍스트를 거치지 않으므로 이미 저장된 태스크의 수정에는 사용하지 않습니다.
+     *
+     * @param tasks 신규 다운로드 태스크 엔티티 목록
+     */
+    public void insertAll(List<DownloadTaskJpaEntity> tasks) {
+        for (int from = 0; from < tasks.size(); from += ROWS_PER_STATEMENT) {
+            insertChunk(tasks.subList(from, Math.min(from + ROWS_PER_STATEMENT, tasks.size())));
+        }
+    }
+
+    private void insertChunk(List<DownloadTaskJpaEntity> tasks) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id")
+                    .append(i)
+                    .append(", :sourceUrl")
+                    .append(i)
+                    .append(", :bucket")
+                    .append(i)
+                    .append(", :s3Key")
+                    .append(i)
+                    .append(", :accessType")
+                    .append(i)
+                    .append(", :purpose")
+                    .append(i)
+                    .append(", :source")
+                    .append(i)
+                    .append(", :status")
+                    .append(i)
+                    .append(", :retryCount")
+                    .append(i)
+                    .append(", :maxRetries")
+                    .append(i)
+                    .append(", :callbackUrl")
+                    .append(i)
+                    .append(", :assetId")
+                    .append(i)
+                    .append(", :lastError")
+                    .append(i)
+                    .append(", :startedAt")
+                    .append(i)
+                    .append(", :completedAt")
+                    .append(i)
+                    .append(", :version")
+                    .append(i)
+                    .append(", :createdAt")
+                    .append(i)
+                    .append(", :updatedAt")
+                    .append(i)
+                    .append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < tasks.size(); i++) {
+            DownloadTaskJpaEntity task = tasks.get(i);
+            query.setParameter("id" + i, task.getId())
+                    .setParameter("sourceUrl" + i, task.getSourceUrl())
+                    .setParameter("bucket" + i, task.getBucket())
+                    .setParameter("s3Key" + i, task.getS3Key())
+                    .setParameter("accessType" + i, task.getAccessType().name())
+                    .setParameter("purpose" + i, task.getPurpose())
+                    .setParameter("source" + i, task.getSource())
+                    .setParameter("status" + i, task.getStatus().name())
+                    .setParameter("retryCount" + i, task.getRetryCount())
+                    .setParameter("maxRetries" + i, task.getMaxRetries())
+                    .setParameter("callbackUrl" + i, task.getCallbackUrl())
+                    .setParameter("assetId" + i, task.getAssetId())
+                    .setParameter("lastError" + i, task.getLastError())
+                    .setParameter("startedAt" + i, task.getStartedAt())
+                    .setParameter("completedAt" + i, task.getCompletedAt())
+                    .setParameter("version" + i, task.getVersion())
+                    .setParameter("createdAt" + i, task.getCreatedAt())
+                    .setParameter("updatedAt" + i, task.getUpdatedAt());
+        }
+        query.executeUpdate();
+    }
+}
@@ -1,28 +1,49 @@
 package com.ryuqq.fileflow.adapter.out.persistence.session.adapter;
 
-import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.mapper.MultipartUploadSessionJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.session.repository.CompletedPartBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.CompletedPartJpaRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionJpaRepository;
+import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionQueryDslRepository;
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.application.session.port.out.command.MultipartUploadSessionPersistencePort;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.List;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MultipartUploadSessionCommandAdapter implements MultipartUploadSessionPersistencePort {
 
+    /** MySQL ER_DUP_ENTRY. */
+    private static final int DUPLICATE_ENTRY_ERROR_CODE = 1062;
+
+    private static final List<String> PART_ACCEPTING_STATUSES =
+            MultipartSessionStatus.partAcceptingStatuses().stream().map(Enum::name).toList();
+
     private final MultipartUploadSessionJpaRepository jpaRepository;
+    private final MultipartUploadSessionQueryDslRepository queryDslRepository;
     private final CompletedPartJpaRepository completedPartJpaRepository;
+    private final CompletedPartBulkRepository completedPartBulkRepository;
     private final MultipartUploadSessionJpaMapper mapper;
 
     public MultipartUploadSessionCommandAdapter(
             MultipartUploadSessionJpaRepository jpaRepository,
+            MultipartUploadSessionQueryDslRepository queryDslRepository,
             CompletedPartJpaRepository completedPartJpaRepository,
+            CompletedPartBulkRepository completedPartBulkRepository,
             MultipartUploadSessionJpaMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.queryDslRepository = queryDslRepository;
         this.completedPartJpaRepository = completedPartJpaRepository;
+        this.completedPartBulkRepository = completedPartBulkRepository;
         this.mapper = mapper;
     }
 
@@ -30,12 +51,93 @@ public class MultipartUploadSessionCommandAdapter implements MultipartUploadSess
     public void persist(MultipartUploadSession session) {
         MultipartUploadSessionJpaEntity entity = mapper.toEntity(session);
         jpaRepository.save(entity);
+    }
+
+    @Override
+    public CompletedPartAppendResult appendCompletedPart(
+            MultipartUploadSessionId sessionId, CompletedPart completedPart) {
+        try {
+            int inserted =
+                    completedPartJpaRepository.insertIfSessionIn(
+                            sessionId.value(),
+                            completedPart.partNumber(),
+                            completedPart.etag(),
+                            completedPart.size(),
+                            completedPart.createdAt(),
+                            PART_ACCEPTING_STATUSES);
+            return inserted > 0
+                    ? CompletedPartAppendResult.APPENDED
+                    : CompletedPartAppendResult.SESSION_INACTIVE;
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEntry(e)) {
+                return CompletedPartAppendResult.DUPLICATE;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletedPartAppendResult upsertCompletedParts(
+            MultipartUploadSessionId sessionId, List<CompletedPart> completedParts) {
+        int upserted =
+                completedPartBulkRepository.upsertAllIfSessionIn(
+                        sessionId.value(),
+                        mapper.toPartEntities(sessionId.value(), completedParts),
+                        PART_ACCEPTING_STATUSES);
+        // 같은 값으로 재시도하면 드라이버 설정에 따라 영향받은 행이 0일 수 있으므로 세션 상태를 다시 확인합니다.
+        if (upserted > 0
+                || jpaRepository.existsByIdAndStatusIn(
+                        sessionId.value(), MultipartSessionStatus.partAcceptingStatuses())) {
+            return CompletedPartAppendResult.APPENDED;
+        }
+        return CompletedPartAppendResult.SESSION_INACTIVE;
+    }
+
+    @Override
+    public boolean startUploading(MultipartUploadSessionId sessionId, Instant now) {
+        return jpaRepository.transitionStatus(
+                        sessionId.value(),
+                        MultipartSessionStatus.INITIATED,
+                        MultipartSessionStatus.UPLOADING,
+                        now)
+                > 0;
+    }
+
+    @Override
+    public List<MultipartUploadSessionId> expireAll(
+            List<MultipartUploadSessionId> sessionIds, Instant now) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = sessionIds.stream().map(MultipartUploadSessionId::value).toList();
+        List<String> lockedIds =
+                queryDslRepository.findExpiredSessionsByIdsForUpdate(ids, now).stream()
+                        .map(MultipartUploadSessionJpaEntity::getId)
+                        .toList();
+        if (lockedIds.isEmpty()) {
+            return List.of();
+        }
+        jpaRepository.expireAll(
+                lockedIds,
+                MultipartSessionStatus.expirableStatuses(),
+                MultipartSessionStatus.EXPIRED,
+                now);
+        return lockedIds.stream().map(MultipartUploadSessionId::of).toList();
+    }
 
-        completedPartJpaRepository.deleteBySessionId(session.idValue());
-        List<CompletedPartJpaEntity> partEntities =
-                mapper.toPartEntities(session.idValue(), session.completedParts());
-        if (!partEntities.isEmpty()) {
-            completedPartJpaRepository.saveAll(partEntities);
+    /** 유니크 키 위반만 중복으로 판정합니다. FK 위반, 값 길이 초과 등 다른 무결성 오류는 그대로 전파합니다. */
+    private boolean isDuplicateEntry(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        Throwable cause = e.getCause();
+        while (cause != null) {
+            if (cause instanceof SQLException sqlException
+                    && sqlException.getErrorCode() == DUPLICATE_ENTRY_ERROR_CODE) {
+                return true;
+            }
+            cause = cause.getCause();
         }
+        return false;
     }
 }
@@ -6,9 +6,12 @@ import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUp
 import com.ryuqq.fileflow.application.session.port.out.query.MultipartUploadSessionQueryPort;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -36,10 +39,49 @@ public class MultipartUploadSessionQueryAdapter implements MultipartUploadSessio
                         });
     }
 
+    @Override
+    public Optional<MultipartUploadSession> findHeaderById(MultipartUploadSessionId id) {
+        return queryDslRepository
+                .findById(id.value())
+                .map(entity -> mapper.toDomain(entity, List.of()));
+    }
+
+    @Override
+    public CompletedPartsSummary summarizeCompletedParts(MultipartUploadSessionId id) {
+        return queryDslRepository.summarizeCompletedParts(id.value());
+    }
+
+    @Override
+    public List<CompletedPart> findCompletedParts(
+            MultipartUploadSessionId id, int afterPartNumber, int limit) {
+        return mapper.toPartDomains(
+                queryDslRepository.findCompletedPartsAfter(id.value(), afterPartNumber, limit));
+    }
+
     @Override
     public List<MultipartUploadSession> findExpiredSessions(Instant now, int limit) {
         return queryDslRepository.findExpiredSessions(now, limit).stream()
                 .map(entity -> mapper.toDomain(entity, List.of()))
                 .toList();
     }
+
+    @Override
+    public List<MultipartUploadSession> findExpiredSessionsByIds(
+            List<MultipartUploadSessionId> ids, Instant now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = ids.stream().map(MultipartUploadSessionId::value).toList();
+        return queryDslRepository.findExpiredSessionsByIds(values, now).stream()
+                .map(entity -> mapper.toDomain(entity, List.of()))
+                .toList();
+    }
+
+    @Override
+    public Set<String> findActiveUploadIds(List<String> uploadIds) {
+        if (uploadIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(queryDslRepository.findActiveUploadIds(uploadIds));
+    }
 }
@@ -2,20 +2,29 @@ package com.ryuqq.fileflow.adapter.out.persistence.session.adapter;
 
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.mapper.SingleUploadSessionJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionJpaRepository;
 import com.ryuqq.fileflow.application.session.port.out.command.SingleUploadSessionPersistencePort;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SingleUploadSessionCommandAdapter implements SingleUploadSessionPersistencePort {
 
     private final SingleUploadSessionJpaRepository jpaRepository;
+    private final SingleUploadSessionBulkRepository bulkRepository;
     private final SingleUploadSessionJpaMapper mapper;
 
     public SingleUploadSessionCommandAdapter(
-            SingleUploadSessionJpaRepository jpaRepository, SingleUploadSessionJpaMapper mapper) {
+            SingleUploadSessionJpaRepository jpaRepository,
+            SingleUploadSessionBulkRepository bulkRepository,
+            SingleUploadSessionJpaMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.bulkRepository = bulkRepository;
         this.mapper = mapper;
     }
 
@@ -24,4 +33,19 @@ public class SingleUploadSessionCommandAdapter implements SingleUploadSessionPer
         SingleUploadSessionJpaEntity entity = mapper.toEntity(session);
         jpaRepository.save(entity);
     }
+
+    @Override
+    public void persistAll(List<SingleUploadSession> sessions) {
+        bulkRepository.insertAll(sessions.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    public int expireAll(List<SingleUploadSessionId> sessionIds, Instant now) {
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        List<String> ids = sessionIds.stream().map(SingleUploadSessionId::value).toList();
+        return jpaRepository.expireAll(
+                ids, SingleSessionStatus.expirableStatuses(), SingleSessionStatus.EXPIRED, now);
+    }
 }
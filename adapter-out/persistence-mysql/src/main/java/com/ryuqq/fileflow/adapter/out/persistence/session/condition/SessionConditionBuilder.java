@@ -5,6 +5,7 @@ import static com.ryuqq.fileflow.adapter.out.persistence.session.entity.QMultipa
 import static com.ryuqq.fileflow.adapter.out.persistence.session.entity.QSingleUploadSessionJpaEntity.singleUploadSessionJpaEntity;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,10 +25,31 @@ public class SessionConditionBuilder {
         return multipartUploadSessionJpaEntity.id.eq(id);
     }
 
+    public BooleanExpression multipartSessionIdIn(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return multipartUploadSessionJpaEntity.id.in(ids);
+    }
+
+    public BooleanExpression multipartUploadIdIn(List<String> uploadIds) {
+        if (uploadIds == null || uploadIds.isEmpty()) {
+            return null;
+        }
+        return multipartUploadSessionJpaEntity.uploadId.in(uploadIds);
+    }
+
     public BooleanExpression completedPartSessionIdEq(String sessionId) {
         if (sessionId == null) {
             return null;
         }
         return completedPartJpaEntity.sessionId.eq(sessionId);
     }
+
+    public BooleanExpression completedPartNumberGt(Integer partNumber) {
+        if (partNumber == null) {
+            return null;
+        }
+        return completedPartJpaEntity.partNumber.gt(partNumber);
+    }
 }
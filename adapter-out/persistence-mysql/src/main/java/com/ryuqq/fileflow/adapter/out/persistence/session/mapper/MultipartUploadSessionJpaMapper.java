@@ -32,16 +32,7 @@ public class MultipartUploadSessionJpaMapper {
 
     public MultipartUploadSession toDomain(
             MultipartUploadSessionJpaEntity entity, List<CompletedPartJpaEntity> partEntities) {
-        List<CompletedPart> parts =
-                partEntities.stream()
-                        .map(
-                                p ->
-                                        CompletedPart.of(
-                                                p.getPartNumber(),
-                                                p.getEtag(),
-                                                p.getSize(),
-                                                p.getCreatedAt()))
-                        .toList();
+        List<CompletedPart> parts = toPartDomains(partEntities);
 
         return MultipartUploadSession.reconstitute(
                 MultipartUploadSessionId.of(entity.getId()),
@@ -62,6 +53,18 @@ public class MultipartUploadSessionJpaMapper {
                 parts);
     }
 
+    public List<CompletedPart> toPartDomains(List<CompletedPartJpaEntity> partEntities) {
+        return partEntities.stream()
+                .map(
+                        p ->
+                                CompletedPart.of(
+                                        p.getPartNumber(),
+                                        p.getEtag(),
+                                        p.getSize(),
+                                        p.getCreatedAt()))
+                .toList();
+    }
+
     public List<CompletedPartJpaEntity> toPartEntities(
             String sessionId, List<CompletedPart> parts) {
         return parts.stream()
@@ -0,0 +1,74 @@
+package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
+
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CompletedPartBulkRepository {
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO completed_part (session_id, part_number, etag, size, created_at)"
+                    + " SELECT s.id, p.part_number, p.etag, p.size, p.created_at"
+                    + " FROM multipart_upload_session s CROSS JOIN (";
+    private static final String UPSERT_SUFFIX =
+            ") p WHERE s.id = :sessionId AND s.status IN (:statuses)"
+                    + " ON DUPLICATE KEY UPDATE etag = VALUES(etag), size = VALUES(size)";
+
+    private final EntityManager entityManager;
+
+    public CompletedPartBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 세션이 주어진 상태일 때만 완료 파트를 한 번의 다중 행 INSERT로 upsert합니다.
+     *
+     * <p>세션 상태 확인과 기록을 한 문장({@code INSERT ... SELECT})으로 수행하므로, 그 사이 완료/중단/만료된 세션에는 기록하지도 기존 행을
+     * 덮어쓰지도 않습니다. (session_id, part_number) 유니크 키가 이미 있으면 etag, size만 갱신하고 created_at은 처음 기록한 값을
+     * 유지합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param parts 같은 세션의 완료 파트 엔티티 목록
+     * @param statuses 파트 기록을 허용하는 세션 상태
+     * @return 영향받은 행 수 (세션이 없거나 상태가 맞지 않으면 0)
+     */
+    public int upsertAllIfSessionIn(
+            String sessionId, List<CompletedPartJpaEntity> parts, List<String> statuses) {
+        if (parts.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT :partNumber")
+                    .append(i)
+                    .append(" AS part_number, :etag")
+                    .append(i)
+                    .append(" AS etag, :size")
+                    .append(i)
+                    .append(" AS size, :createdAt")
+                    .append(i)
+                    .append(" AS created_at");
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        Query query =
+                entityManager
+                        .createNativeQuery(sql.toString())
+                        .setParameter("sessionId", sessionId)
+                        .setParameter("statuses", statuses);
+        for (int i = 0; i < parts.size(); i++) {
+            CompletedPartJpaEntity part = parts.get(i);
+            query.setParameter("partNumber" + i, part.getPartNumber())
+                    .setParameter("etag" + i, part.getEtag())
+                    .setParameter("size" + i, part.getSize())
+                    .setParameter("createdAt" + i, part.getCreatedAt());
+        }
+        return query.executeUpdate();
+    }
+}
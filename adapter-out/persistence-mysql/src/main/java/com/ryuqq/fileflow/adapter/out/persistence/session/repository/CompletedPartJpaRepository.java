@@ -1,9 +1,36 @@
 package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
 
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CompletedPartJpaRepository extends JpaRepository<CompletedPartJpaEntity, Long> {
 
-    void deleteBySessionId(String sessionId);
+    /**
+     * 세션이 주어진 상태일 때만 파트 한 건을 추가합니다.
+     *
+     * <p>세션 상태 확인과 INSERT를 한 문장({@code INSERT ... SELECT})으로 수행하므로, 그 사이 완료/중단된 세션에는 기록되지 않습니다. 같은
+     * (session_id, part_number) 행이 이미 있으면 유니크 키 위반 예외가 발생합니다.
+     *
+     * @return 추가된 행 수 (세션이 없거나 상태가 맞지 않으면 0)
+     */
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO completed_part (session_id, part_number, etag, size, created_at)"
+                            + " SELECT s.id, :partNumber, :etag, :size, :createdAt"
+                            + " FROM multipart_upload_session s"
+                            + " WHERE s.id = :sessionId AND s.status IN (:statuses)",
+            nativeQuery = true)
+    int insertIfSessionIn(
+            @Param("sessionId") String sessionId,
+            @Param("partNumber") int partNumber,
+            @Param("etag") String etag,
+            @Param("size") long size,
+            @Param("createdAt") Instant createdAt,
+            @Param("statuses") List<String> statuses);
 }
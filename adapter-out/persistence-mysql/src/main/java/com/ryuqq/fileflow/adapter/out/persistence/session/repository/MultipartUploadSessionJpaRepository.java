@@ -1,7 +1,37 @@
 package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
 
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MultipartUploadSessionJpaRepository
-        extends JpaRepository<MultipartUploadSessionJpaEntity, String> {}
+        extends JpaRepository<MultipartUploadSessionJpaEntity, String> {
+
+    boolean existsByIdAndStatusIn(String id, Collection<MultipartSessionStatus> statuses);
+
+    @Modifying
+    @Query(
+            "UPDATE MultipartUploadSessionJpaEntity e SET e.status = :expired, e.updatedAt = :now"
+                    + " WHERE e.id IN :ids AND e.status IN :statuses AND e.expiresAt <= :now")
+    int expireAll(
+            @Param("ids") List<String> ids,
+            @Param("statuses") List<MultipartSessionStatus> statuses,
+            @Param("expired") MultipartSessionStatus expired,
+            @Param("now") Instant now);
+
+    @Modifying
+    @Query(
+            "UPDATE MultipartUploadSessionJpaEntity e SET e.status = :to, e.updatedAt = :now"
+                    + " WHERE e.id = :id AND e.status = :from")
+    int transitionStatus(
+            @Param("id") String id,
+            @Param("from") MultipartSessionStatus from,
+            @Param("to") MultipartSessionStatus to,
+            @Param("now") Instant now);
+}
@@ -3,11 +3,16 @@ package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
 import static com.ryuqq.fileflow.adapter.out.persistence.session.entity.QCompletedPartJpaEntity.completedPartJpaEntity;
 import static com.ryuqq.fileflow.adapter.out.persistence.session.entity.QMultipartUploadSessionJpaEntity.multipartUploadSessionJpaEntity;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.fileflow.adapter.out.persistence.session.condition.SessionConditionBuilder;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.QCompletedPartJpaEntity;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
 import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import jakarta.persistence.LockModeType;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +47,67 @@ public class MultipartUploadSessionQueryDslRepository {
                 .fetch();
     }
 
+    public List<CompletedPartJpaEntity> findCompletedPartsAfter(
+            String sessionId, int afterPartNumber, int limit) {
+        return queryFactory
+                .selectFrom(completedPartJpaEntity)
+                .where(
+                        conditionBuilder.completedPartSessionIdEq(sessionId),
+                        conditionBuilder.completedPartNumberGt(afterPartNumber))
+                .orderBy(completedPartJpaEntity.partNumber.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 완료 파트를 집계합니다.
+     *
+     * <p>1번 파트가 있으면, 다음 번호 파트가 없는 가장 작은 파트 번호가 연속 완료된 마지막 파트 번호입니다. 두 쿼리 모두 (session_id,
+     * part_number) 유니크 인덱스만 사용합니다.
+     */
+    public CompletedPartsSummary summarizeCompletedParts(String sessionId) {
+        CompletedPartStatsRow stats =
+                queryFactory
+                        .select(
+                                Projections.constructor(
+                                        CompletedPartStatsRow.class,
+                                        completedPartJpaEntity.count(),
+                                        completedPartJpaEntity.size.sum(),
+                                        completedPartJpaEntity.partNumber.min()))
+                        .from(completedPartJpaEntity)
+                        .where(conditionBuilder.completedPartSessionIdEq(sessionId))
+                        .fetchOne();
+
+        if (stats == null || stats.partCount() == null || stats.partCount() == 0L) {
+            return CompletedPartsSummary.empty();
+        }
+
+        int highestContiguous = 0;
+        if (stats.minPartNumber() != null && stats.minPartNumber() == 1) {
+            QCompletedPartJpaEntity nextPart = new QCompletedPartJpaEntity("nextPart");
+            Integer firstGapStart =
+                    queryFactory
+                            .select(completedPartJpaEntity.partNumber.min())
+                            .from(completedPartJpaEntity)
+                            .where(
+                                    conditionBuilder.completedPartSessionIdEq(sessionId),
+                                    JPAExpressions.selectOne()
+                                            .from(nextPart)
+                                            .where(
+                                                    nextPart.sessionId.eq(
+                                                            completedPartJpaEntity.sessionId),
+                                                    nextPart.partNumber.eq(
+                                                            completedPartJpaEntity.partNumber.add(
+                                                                    1)))
+                                            .notExists())
+                            .fetchOne();
+            highestContiguous = firstGapStart != null ? firstGapStart : 0;
+        }
+
+        return CompletedPartsSummary.of(
+                Math.toIntExact(stats.partCount()), stats.totalSize(), highestContiguous);
+    }
+
     public List<MultipartUploadSessionJpaEntity> findExpiredSessions(Instant now, int limit) {
         return queryFactory
                 .selectFrom(multipartUploadSessionJpaEntity)
@@ -53,4 +119,45 @@ public class MultipartUploadSessionQueryDslRepository {
                 .limit(limit)
                 .fetch();
     }
+
+    public List<MultipartUploadSessionJpaEntity> findExpiredSessionsByIds(
+            List<String> ids, Instant now) {
+        return queryFactory
+                .selectFrom(multipartUploadSessionJpaEntity)
+                .where(
+                        conditionBuilder.multipartSessionIdIn(ids),
+                        multipartUploadSessionJpaEntity.status.in(
+                                MultipartSessionStatus.expirableStatuses()),
+                        multipartUploadSessionJpaEntity.expiresAt.loe(now))
+                .fetch();
+    }
+
+    /** {@link #findExpiredSessionsByIds}와 같은 조건으로 조회하되, 트랜잭션이 끝날 때까지 다른 상태 변경이 끼어들지 못하게 행을 잠급니다. */
+    public List<MultipartUploadSessionJpaEntity> findExpiredSessionsByIdsForUpdate(
+            List<String> ids, Instant now) {
+        return queryFactory
+                .selectFrom(multipartUploadSessionJpaEntity)
+                .where(
+                        conditionBuilder.multipartSessionIdIn(ids),
+                        multipartUploadSessionJpaEntity.status.in(
+                                MultipartSessionStatus.expirableStatuses()),
+                        multipartUploadSessionJpaEntity.expiresAt.loe(now))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /** uploadId 인덱스로 주어진 uploadId 중 활성 세션이 사용 중인 uploadId만 조회합니다. */
+    public List<String> findActiveUploadIds(List<String> uploadIds) {
+        return queryFactory
+                .select(multipartUploadSessionJpaEntity.uploadId)
+                .from(multipartUploadSessionJpaEntity)
+                .where(
+                        conditionBuilder.multipartUploadIdIn(uploadIds),
+                        multipartUploadSessionJpaEntity.status.in(
+                                MultipartSessionStatus.expirableStatuses()))
+                .fetch();
+    }
+
+    /** 파트가 없으면 totalSize와 minPartNumber는 null입니다. */
+    public record CompletedPartStatsRow(Long partCount, Long totalSize, Integer minPartNumber) {}
 }
@@ -0,0 +1,87 @@
+package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
+
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class SingleUploadSessionBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO single_upload_session (id, s3_key, bucket, access_type, file_name,"
+                    + " content_type, presigned_url, purpose, source, status, expires_at,"
+                    + " created_at, updated_at) VALUES ";
+
+    private final EntityManager entityManager;
+
+    public SingleUploadSessionBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 신규 세션을 한 번의 다중 행 INSERT로 저장합니다.
+     *
+     * <p>영속성 컨텍스트를 거치지 않으므로 이미 저장된 세션의 수정에는 사용하지 않습니다.
+     *
+     * @param sessions 신규 세션 엔티티 목록
+     */
+    public void insertAll(List<SingleUploadSessionJpaEntity> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < sessions.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id")
+                    .append(i)
+                    .append(", :s3Key")
+                    .append(i)
+                    .append(", :bucket")
+                    .append(i)
+                    .append(", :accessType")
+                    .append(i)
+                    .append(", :fileName")
+                    .append(i)
+                    .append(", :contentType")
+                    .append(i)
+                    .append(", :presignedUrl")
+                    .append(i)
+                    .append(", :purpose")
+                    .append(i)
+                    .append(", :source")
+                    .append(i)
+                    .append(", :status")
+                    .append(i)
+                    .append(", :expiresAt")
+                    .append(i)
+                    .append(", :createdAt")
+                    .append(i)
+                    .append(", :updatedAt")
+                    .append(i)
+                    .append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < sessions.size(); i++) {
+            SingleUploadSessionJpaEntity session = sessions.get(i);
+            query.setParameter("id" + i, session.getId())
+                    .setParameter("s3Key" + i, session.getS3Key())
+                    .setParameter("bucket" + i, session.getBucket())
+                    .setParameter("accessType" + i, session.getAccessType().name())
+                    .setParameter("fileName" + i, session.getFileName())
+                    .setParameter("contentType" + i, session.getContentType())
+                    .setParameter("presignedUrl" + i, session.getPresignedUrl())
+                    .setParameter("purpose" + i, session.getPurpose())
+                    .setParameter("source" + i, session.getSource())
+                    .setParameter("status" + i, session.getStatus().name())
+                    .setParameter("expiresAt" + i, session.getExpiresAt())
+                    .setParameter("createdAt" + i, session.getCreatedAt())
+                    .setParameter("updatedAt" + i, session.getUpdatedAt());
+        }
+        query.executeUpdate();
+    }
+}
@@ -1,7 +1,24 @@
 package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
 
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
+import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SingleUploadSessionJpaRepository
-        extends JpaRepository<SingleUploadSessionJpaEntity, String> {}
+        extends JpaRepository<SingleUploadSessionJpaEntity, String> {
+
+    @Modifying
+    @Query(
+            "UPDATE SingleUploadSessionJpaEntity e SET e.status = :expired, e.updatedAt = :now"
+                    + " WHERE e.id IN :ids AND e.status IN :statuses AND e.expiresAt <= :now")
+    int expireAll(
+            @Param("ids") List<String> ids,
+            @Param("statuses") List<SingleSessionStatus> statuses,
+            @Param("expired") SingleSessionStatus expired,
+            @Param("now") Instant now);
+}
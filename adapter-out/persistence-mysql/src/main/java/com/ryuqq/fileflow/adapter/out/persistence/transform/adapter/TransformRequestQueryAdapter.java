@@ -5,6 +5,7 @@ import com.ryuqq.fileflow.adapter.out.persistence.transform.repository.Transform
 import com.ryuqq.fileflow.application.transform.port.out.query.TransformRequestQueryPort;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import java.time.Instant;
 import java.util.List;
@@ -38,4 +39,26 @@ public class TransformRequestQueryAdapter implements TransformRequestQueryPort {
                 .map(mapper::toDomain)
                 .toList();
     }
+
+    @Override
+    public Optional<TransformRequest> findByFingerprint(TransformFingerprint fingerprint) {
+        return queryDslRepository.findByFingerprint(fingerprint.value()).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<TransformRequest> findByCoalescedIntoAndStatus(
+            TransformRequestId leaderId, TransformStatus status) {
+        return queryDslRepository
+                .findByCoalescedIntoAndStatus(leaderId.value(), status)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<TransformRequest> findOrphanedFollowers(Instant createdBefore, int limit) {
+        return queryDslRepository.findOrphanedFollowers(createdBefore, limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
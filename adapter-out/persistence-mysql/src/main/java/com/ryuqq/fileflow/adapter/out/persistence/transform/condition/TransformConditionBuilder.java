@@ -30,4 +30,22 @@ public class TransformConditionBuilder {
         }
         return transformRequestJpaEntity.createdAt.before(createdBefore);
     }
+
+    public BooleanExpression fingerprintEq(String fingerprint) {
+        if (fingerprint == null) {
+            return null;
+        }
+        return transformRequestJpaEntity.fingerprint.eq(fingerprint);
+    }
+
+    public BooleanExpression coalescedIntoEq(String leaderId) {
+        if (leaderId == null) {
+            return null;
+        }
+        return transformRequestJpaEntity.coalescedInto.eq(leaderId);
+    }
+
+    public BooleanExpression notCoalesced() {
+        return transformRequestJpaEntity.coalescedInto.isNull();
+    }
 }
@@ -58,6 +58,12 @@ public class TransformRequestJpaEntity extends BaseAuditEntity {
     @Column(name = "callback_url", columnDefinition = "TEXT")
     private String callbackUrl;
 
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
+    @Column(name = "coalesced_into", length = 36)
+    private String coalescedInto;
+
     @Column(name = "completed_at")
     private Instant completedAt;
 
@@ -81,6 +87,8 @@ public class TransformRequestJpaEntity extends BaseAuditEntity {
             String targetFormat,
             Integer quality,
             String callbackUrl,
+            String fingerprint,
+            String coalescedInto,
             Instant createdAt,
             Instant updatedAt,
             Instant completedAt,
@@ -99,6 +107,8 @@ public class TransformRequestJpaEntity extends BaseAuditEntity {
         this.targetFormat = targetFormat;
         this.quality = quality;
         this.callbackUrl = callbackUrl;
+        this.fingerprint = fingerprint;
+        this.coalescedInto = coalescedInto;
         this.completedAt = completedAt;
         this.version = version;
     }
@@ -117,6 +127,8 @@ public class TransformRequestJpaEntity extends BaseAuditEntity {
             String targetFormat,
             Integer quality,
             String callbackUrl,
+            String fingerprint,
+            String coalescedInto,
             Instant createdAt,
             Instant updatedAt,
             Instant completedAt,
@@ -135,6 +147,8 @@ public class TransformRequestJpaEntity extends BaseAuditEntity {
                 targetFormat,
                 quality,
                 callbackUrl,
+                fingerprint,
+                coalescedInto,
                 createdAt,
                 updatedAt,
                 completedAt,
@@ -193,6 +207,14 @@ public class TransformRequestJpaEntity extends BaseAuditEntity {
         return callbackUrl;
     }
 
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getCoalescedInto() {
+        return coalescedInto;
+    }
+
     public Instant getCompletedAt() {
         return completedAt;
     }
@@ -4,6 +4,7 @@ import com.ryuqq.fileflow.adapter.out.persistence.transform.entity.TransformRequ
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +26,8 @@ public class TransformRequestJpaMapper {
                 domain.params().targetFormat(),
                 domain.params().quality(),
                 domain.callbackUrl(),
+                domain.fingerprintValue(),
+                domain.coalescedIntoValue(),
                 domain.createdAt(),
                 domain.updatedAt(),
                 domain.completedAt(),
@@ -44,6 +47,12 @@ public class TransformRequestJpaMapper {
                         entity.getTargetFormat(),
                         entity.getQuality()),
                 entity.getCallbackUrl(),
+                entity.getFingerprint() != null
+                        ? TransformFingerprint.of(entity.getFingerprint())
+                        : null,
+                entity.getCoalescedInto() != null
+                        ? TransformRequestId.of(entity.getCoalescedInto())
+                        : null,
                 entity.getStatus(),
                 entity.getResultAssetId() != null ? AssetId.of(entity.getResultAssetId()) : null,
                 entity.getLastError(),
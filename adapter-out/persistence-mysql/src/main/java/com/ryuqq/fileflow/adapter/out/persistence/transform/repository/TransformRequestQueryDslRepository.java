@@ -4,6 +4,7 @@ import static com.ryuqq.fileflow.adapter.out.persistence.transform.entity.QTrans
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.fileflow.adapter.out.persistence.transform.condition.TransformConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.transform.entity.QTransformRequestJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.transform.entity.TransformRequestJpaEntity;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import java.time.Instant;
@@ -38,7 +39,42 @@ public class TransformRequestQueryDslRepository {
                 .selectFrom(transformRequestJpaEntity)
                 .where(
                         conditionBuilder.statusEq(status),
-                        conditionBuilder.createdBefore(createdBefore))
+                        conditionBuilder.createdBefore(createdBefore),
+                        conditionBuilder.notCoalesced())
+                .orderBy(transformRequestJpaEntity.createdAt.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public Optional<TransformRequestJpaEntity> findByFingerprint(String fingerprint) {
+        TransformRequestJpaEntity result =
+                queryFactory
+                        .selectFrom(transformRequestJpaEntity)
+                        .where(conditionBuilder.fingerprintEq(fingerprint))
+                        .fetchOne();
+        return Optional.ofNullable(result);
+    }
+
+    public List<TransformRequestJpaEntity> findByCoalescedIntoAndStatus(
+            String leaderId, TransformStatus status) {
+        return queryFactory
+                .selectFrom(transformRequestJpaEntity)
+                .where(
+                        conditionBuilder.coalescedIntoEq(leaderId),
+                        conditionBuilder.statusEq(status))
+                .fetch();
+    }
+
+    public List<TransformRequestJpaEntity> findOrphanedFollowers(Instant createdBefore, int limit) {
+        QTransformRequestJpaEntity leader = new QTransformRequestJpaEntity("leader");
+        return queryFactory
+                .selectFrom(transformRequestJpaEntity)
+                .join(leader)
+                .on(leader.id.eq(transformRequestJpaEntity.coalescedInto))
+                .where(
+                        conditionBuilder.statusEq(TransformStatus.QUEUED),
+                        conditionBuilder.createdBefore(createdBefore),
+                        leader.status.in(TransformStatus.COMPLETED, TransformStatus.FAILED))
                 .orderBy(transformRequestJpaEntity.createdAt.asc())
                 .limit(limit)
                 .fetch();
@@ -0,0 +1,9 @@
+-- 동일 변환 요청 재사용/합류를 위한 지문 컬럼 추가
+-- fingerprint: 실제 변환을 수행하는 리더 요청만 보유 (실패 시 NULL로 반납). UNIQUE로 리더를 하나로 보장
+-- coalesced_into: 리더에 합류한 요청의 리더 ID
+
+ALTER TABLE transform_request
+    ADD COLUMN fingerprint    VARCHAR(64) NULL AFTER callback_url,
+    ADD COLUMN coalesced_into VARCHAR(36) NULL AFTER fingerprint,
+    ADD UNIQUE INDEX uk_transform_request_fingerprint (fingerprint),
+    ADD INDEX idx_transform_request_coalesced_status (coalesced_into, status);
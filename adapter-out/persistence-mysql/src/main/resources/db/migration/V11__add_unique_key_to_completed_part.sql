@@ -0,0 +1,6 @@
+-- 완료 파트를 세션 단위 삭제/재삽입 대신 한 건씩 추가하기 위한 유니크 키
+-- (session_id, part_number) 선두 컬럼이 session_id 조회를 대신하므로 기존 단일 인덱스는 제거
+
+ALTER TABLE completed_part
+    ADD UNIQUE INDEX uk_completed_part_session_part (session_id, part_number),
+    DROP INDEX idx_completed_part_session_id;
@@ -0,0 +1,4 @@
+-- 고아 S3 멀티파트 업로드 정리 시 ListMultipartUploads 결과의 uploadId를 IN 쿼리로 대조하기 위한 인덱스
+
+ALTER TABLE multipart_upload_session
+    ADD INDEX idx_multipart_upload_session_upload_id (upload_id);
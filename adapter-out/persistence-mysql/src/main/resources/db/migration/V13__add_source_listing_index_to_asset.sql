@@ -0,0 +1,7 @@
+-- Asset 목록 키셋 페이징용 인덱스
+-- source 동등 조건과 deleted_at IS NULL 다음에 (created_at, id) 순서로 읽으므로 OFFSET 없이 커서 위치로 바로 이동한다.
+-- MySQL에는 부분 인덱스가 없으므로 deleted_at을 두 번째 컬럼에 두어 삭제된 행을 조회 범위 밖으로 분리한다.
+-- purpose, access_type을 뒤에 포함해 선택 필터까지 인덱스만으로 처리한다 (ID 조회 단계가 테이블을 읽지 않음).
+
+ALTER TABLE asset
+    ADD INDEX idx_asset_source_listing (source, deleted_at, created_at, id, purpose, access_type);
@@ -11,6 +11,7 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetMetadata
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadataFixture;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -68,4 +69,28 @@ class AssetMetadataQueryAdapterTest {
             then(mapper).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("findAllByAssetIds 메서드 테스트")
+    class FindAllByAssetIdsTest {
+
+        @Test
+        @DisplayName("assetId 목록을 한 번에 조회해 도메인 객체 목록으로 변환합니다")
+        void findAllByAssetIds_shouldReturnDomains() {
+            // given
+            AssetMetadataJpaEntity entity = AssetMetadataJpaEntityFixture.anImageMetadataEntity();
+            AssetMetadata domain = AssetMetadataFixture.anImageMetadata();
+
+            given(queryDslRepository.findAllByAssetIds(List.of("asset-001")))
+                    .willReturn(List.of(entity));
+            given(mapper.toDomain(entity)).willReturn(domain);
+
+            // when
+            List<AssetMetadata> result =
+                    queryAdapter.findAllByAssetIds(List.of(AssetId.of("asset-001")));
+
+            // then
+            assertThat(result).containsExactly(domain);
+        }
+    }
 }
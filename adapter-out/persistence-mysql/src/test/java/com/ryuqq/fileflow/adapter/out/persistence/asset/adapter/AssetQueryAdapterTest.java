@@ -11,6 +11,9 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetQueryDsl
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteriaFixture;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -68,4 +71,52 @@ class AssetQueryAdapterTest {
             then(mapper).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("findAllByIds 메서드 테스트")
+    class FindAllByIdsTest {
+
+        @Test
+        @DisplayName("ID 목록을 한 번에 조회해 도메인 객체 목록으로 변환합니다")
+        void findAllByIds_shouldReturnDomains() {
+            // given
+            AssetJpaEntity entity = AssetJpaEntityFixture.anAssetEntity();
+            Asset domain = AssetFixture.anAsset();
+
+            given(queryDslRepository.findAllByIds(List.of("asset-001", "asset-404")))
+                    .willReturn(List.of(entity));
+            given(mapper.toDomain(entity)).willReturn(domain);
+
+            // when
+            List<Asset> result =
+                    queryAdapter.findAllByIds(
+                            List.of(AssetId.of("asset-001"), AssetId.of("asset-404")));
+
+            // then
+            assertThat(result).containsExactly(domain);
+        }
+    }
+
+    @Nested
+    @DisplayName("findByCriteria 메서드 테스트")
+    class FindByCriteriaTest {
+
+        @Test
+        @DisplayName("조회 조건으로 조회한 엔티티를 순서대로 도메인 객체로 변환합니다")
+        void findByCriteria_shouldReturnDomains() {
+            // given
+            AssetSearchCriteria criteria = AssetSearchCriteriaFixture.aFirstPageCriteria();
+            AssetJpaEntity entity = AssetJpaEntityFixture.anAssetEntity();
+            Asset domain = AssetFixture.anAsset();
+
+            given(queryDslRepository.findByCriteria(criteria)).willReturn(List.of(entity));
+            given(mapper.toDomain(entity)).willReturn(domain);
+
+            // when
+            List<Asset> result = queryAdapter.findByCriteria(criteria);
+
+            // then
+            assertThat(result).containsExactly(domain);
+        }
+    }
 }
@@ -3,6 +3,11 @@ package com.ryuqq.fileflow.adapter.out.persistence.asset.condition;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCursor;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -78,4 +83,115 @@ class AssetConditionBuilderTest {
             assertThat(result).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("assetIdIn 메서드 테스트")
+    class AssetIdInTest {
+
+        @Test
+        @DisplayName("ID 목록이 주어지면 BooleanExpression을 반환합니다")
+        void assetIdIn_withIds_shouldReturnExpression() {
+            // when
+            BooleanExpression result = conditionBuilder.assetIdIn(List.of("asset-001"));
+
+            // then
+            assertThat(result).isNotNull();
+        }
+
+        @Test
+        @DisplayName("ID 목록이 비어 있으면 null을 반환합니다")
+        void assetIdIn_withEmpty_shouldReturnNull() {
+            // when
+            BooleanExpression result = conditionBuilder.assetIdIn(List.of());
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("metadataAssetIdIn 메서드 테스트")
+    class MetadataAssetIdInTest {
+
+        @Test
+        @DisplayName("assetId 목록이 주어지면 BooleanExpression을 반환합니다")
+        void metadataAssetIdIn_withIds_shouldReturnExpression() {
+            // when
+            BooleanExpression result = conditionBuilder.metadataAssetIdIn(List.of("asset-001"));
+
+            // then
+            assertThat(result).isNotNull();
+        }
+
+        @Test
+        @DisplayName("assetId 목록이 null이면 null을 반환합니다")
+        void metadataAssetIdIn_withNull_shouldReturnNull() {
+            // when
+            BooleanExpression result = conditionBuilder.metadataAssetIdIn(null);
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("목록 필터 메서드 테스트")
+    class ListingFilterTest {
+
+        @Test
+        @DisplayName("값이 주어지면 각 필터 BooleanExpression을 반환합니다")
+        void filters_withValues_shouldReturnExpressions() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+            // when & then
+            assertThat(conditionBuilder.sourceEq("commerce-api")).isNotNull();
+            assertThat(conditionBuilder.purposeEq("product-image")).isNotNull();
+            assertThat(conditionBuilder.accessTypeEq(AccessType.PUBLIC)).isNotNull();
+            assertThat(conditionBuilder.createdAtGoe(now)).isNotNull();
+            assertThat(conditionBuilder.createdAtLt(now)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("값이 null이면 null을 반환합니다")
+        void filters_withNull_shouldReturnNull() {
+            // when & then
+            assertThat(conditionBuilder.sourceEq(null)).isNull();
+            assertThat(conditionBuilder.purposeEq(null)).isNull();
+            assertThat(conditionBuilder.accessTypeEq(null)).isNull();
+            assertThat(conditionBuilder.createdAtGoe(null)).isNull();
+            assertThat(conditionBuilder.createdAtLt(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("keysetAfter 메서드 테스트")
+    class KeysetAfterTest {
+
+        @Test
+        @DisplayName("커서가 주어지면 정렬 방향에 맞는 BooleanExpression을 반환합니다")
+        void keysetAfter_withCursor_shouldReturnExpression() {
+            // given
+            AssetCursor cursor = AssetCursor.of(Instant.parse("2026-01-01T00:00:00Z"), "asset-001");
+
+            // when
+            BooleanExpression ascending = conditionBuilder.keysetAfter(cursor, SortDirection.ASC);
+            BooleanExpression descending = conditionBuilder.keysetAfter(cursor, SortDirection.DESC);
+
+            // then
+            assertThat(ascending).isNotNull();
+            assertThat(descending).isNotNull();
+            assertThat(ascending).isNotEqualTo(descending);
+        }
+
+        @Test
+        @DisplayName("커서가 null이면 null을 반환합니다")
+        void keysetAfter_withNull_shouldReturnNull() {
+            // when
+            BooleanExpression result = conditionBuilder.keysetAfter(null, SortDirection.ASC);
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
 }
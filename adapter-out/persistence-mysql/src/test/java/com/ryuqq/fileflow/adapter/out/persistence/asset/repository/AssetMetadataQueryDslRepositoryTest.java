@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.adapter.out.persistence.asset.AssetMetadataJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.condition.AssetConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.asset.entity.AssetMetadataJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -59,4 +61,35 @@ class AssetMetadataQueryDslRepositoryTest extends AbstractRepositoryIntegrationT
             assertThat(result.get().getTransformType()).isEqualTo("RESIZE");
         }
     }
+
+    @Nested
+    @DisplayName("findAllByAssetIds")
+    class FindAllByAssetIds {
+
+        @Test
+        @DisplayName("여러 assetId의 메타데이터를 한 번에 반환한다")
+        void returnsMetadataForAllAssetIds() {
+            jpaRepository.save(
+                    AssetMetadataJpaEntityFixture.aMetadataEntityWithAssetId("asset-101"));
+            jpaRepository.save(
+                    AssetMetadataJpaEntityFixture.aMetadataEntityWithAssetId("asset-102"));
+            flushAndClear();
+
+            var result =
+                    queryDslRepository.findAllByAssetIds(
+                            List.of("asset-101", "asset-102", "non-existent-asset"));
+
+            assertThat(result)
+                    .extracting(AssetMetadataJpaEntity::getAssetId)
+                    .containsExactlyInAnyOrder("asset-101", "asset-102");
+        }
+
+        @Test
+        @DisplayName("빈 assetId 목록이면 빈 리스트를 반환한다")
+        void returnsEmptyForEmptyAssetIds() {
+            var result = queryDslRepository.findAllByAssetIds(List.of());
+
+            assertThat(result).isEmpty();
+        }
+    }
 }
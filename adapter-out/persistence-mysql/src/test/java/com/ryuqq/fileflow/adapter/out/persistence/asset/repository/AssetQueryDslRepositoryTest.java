@@ -4,7 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.adapter.out.persistence.asset.AssetJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.condition.AssetConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.asset.entity.AssetJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCursor;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.CursorPageRequest;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -58,4 +66,176 @@ class AssetQueryDslRepositoryTest extends AbstractRepositoryIntegrationTest {
             assertThat(result).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("findAllByIds")
+    class FindAllByIds {
+
+        @Test
+        @DisplayName("존재하는 ID의 엔티티만 한 번에 반환한다")
+        void returnsExistingEntities() {
+            jpaRepository.save(AssetJpaEntityFixture.anAssetEntityWithId("asset-101"));
+            jpaRepository.save(AssetJpaEntityFixture.anAssetEntityWithId("asset-102"));
+            flushAndClear();
+
+            var result =
+                    queryDslRepository.findAllByIds(
+                            List.of("asset-101", "asset-102", "non-existent-id"));
+
+            assertThat(result)
+                    .extracting(AssetJpaEntity::getId)
+                    .containsExactlyInAnyOrder("asset-101", "asset-102");
+        }
+
+        @Test
+        @DisplayName("soft-deleted 상태의 Asset은 제외한다")
+        void excludesSoftDeletedAssets() {
+            jpaRepository.save(AssetJpaEntityFixture.anAssetEntity());
+            jpaRepository.save(AssetJpaEntityFixture.aDeletedAssetEntity());
+            flushAndClear();
+
+            var result = queryDslRepository.findAllByIds(List.of("asset-001", "asset-del-001"));
+
+            assertThat(result).extracting(AssetJpaEntity::getId).containsExactly("asset-001");
+        }
+
+        @Test
+        @DisplayName("빈 ID 목록이면 빈 리스트를 반환한다")
+        void returnsEmptyForEmptyIds() {
+            var result = queryDslRepository.findAllByIds(List.of());
+
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findByCriteria")
+    class FindByCriteria {
+
+        private static final String SOURCE = "reconcile-source";
+        private static final Instant T1 = Instant.parse("2026-01-01T00:00:00Z");
+        private static final Instant T2 = Instant.parse("2026-01-02T00:00:00Z");
+        private static final Instant T3 = Instant.parse("2026-01-03T00:00:00Z");
+
+        @Test
+        @DisplayName("(createdAt, id) 오름차순으로 fetchSize만큼 반환한다")
+        void returnsInKeysetOrder() {
+            saveListingAssets();
+
+            var result = queryDslRepository.findByCriteria(criteria(null, 2));
+
+            assertThat(result)
+                    .extracting(AssetJpaEntity::getId)
+                    .containsExactly("asset-l01", "asset-l02", "asset-l03");
+        }
+
+        @Test
+        @DisplayName("커서 이후의 Asset만 반환하며 같은 생성 시각은 ID로 구분한다")
+        void returnsEntitiesAfterCursor() {
+            saveListingAssets();
+
+            var cursor = AssetCursor.of(T1, "asset-l01");
+
+            var result = queryDslRepository.findByCriteria(criteria(cursor, 20));
+
+            assertThat(result)
+                    .extracting(AssetJpaEntity::getId)
+                    .containsExactly("asset-l02", "asset-l03", "asset-l04");
+        }
+
+        @Test
+        @DisplayName("내림차순이면 커서 이전의 Asset을 역순으로 반환한다")
+        void returnsDescendingBeforeCursor() {
+            saveListingAssets();
+            var criteria =
+                    AssetSearchCriteria.of(
+                            SOURCE,
+                            null,
+                            null,
+                            null,
+                            null,
+                            SortDirection.DESC,
+                            CursorPageRequest.of(AssetCursor.of(T2, "asset-l03").encode(), 20));
+
+            var result = queryDslRepository.findByCriteria(criteria);
+
+            assertThat(result)
+                    .extracting(AssetJpaEntity::getId)
+                    .containsExactly("asset-l02", "asset-l01");
+        }
+
+        @Test
+        @DisplayName("purpose, accessType, 생성 시각 범위로 필터링한다")
+        void filtersByPurposeAccessTypeAndRange() {
+            saveListingAssets();
+
+            var result =
+                    queryDslRepository.findByCriteria(
+                            AssetSearchCriteria.of(
+                                    SOURCE,
+                                    "product-image",
+                                    AccessType.PUBLIC,
+                                    T1,
+                                    T3,
+                                    SortDirection.ASC,
+                                    CursorPageRequest.first(20)));
+
+            assertThat(result)
+                    .extracting(AssetJpaEntity::getId)
+                    .containsExactly("asset-l01", "asset-l02");
+        }
+
+        @Test
+        @DisplayName("다른 source와 soft-deleted Asset은 조회되지 않는다")
+        void excludesOtherSourceAndDeleted() {
+            jpaRepository.save(
+                    AssetJpaEntityFixture.aListingAssetEntity(
+                            "asset-l01", SOURCE, "product-image", AccessType.PUBLIC, T1));
+            jpaRepository.save(
+                    AssetJpaEntityFixture.aListingAssetEntity(
+                            "asset-o01", "other-source", "product-image", AccessType.PUBLIC, T1));
+            jpaRepository.save(AssetJpaEntityFixture.aDeletedAssetEntity());
+            flushAndClear();
+
+            var result = queryDslRepository.findByCriteria(criteria(null, 20));
+
+            assertThat(result).extracting(AssetJpaEntity::getId).containsExactly("asset-l01");
+        }
+
+        @Test
+        @DisplayName("조건에 맞는 Asset이 없으면 빈 목록을 반환한다")
+        void returnsEmptyWhenNoMatch() {
+            var result = queryDslRepository.findByCriteria(criteria(null, 20));
+
+            assertThat(result).isEmpty();
+        }
+
+        private void saveListingAssets() {
+            jpaRepository.save(
+                    AssetJpaEntityFixture.aListingAssetEntity(
+                            "asset-l01", SOURCE, "product-image", AccessType.PUBLIC, T1));
+            jpaRepository.save(
+                    AssetJpaEntityFixture.aListingAssetEntity(
+                            "asset-l02", SOURCE, "product-image", AccessType.PUBLIC, T2));
+            jpaRepository.save(
+                    AssetJpaEntityFixture.aListingAssetEntity(
+                            "asset-l03", SOURCE, "banner", AccessType.INTERNAL, T2));
+            jpaRepository.save(
+                    AssetJpaEntityFixture.aListingAssetEntity(
+                            "asset-l04", SOURCE, "product-image", AccessType.PUBLIC, T3));
+            flushAndClear();
+        }
+
+        private AssetSearchCriteria criteria(AssetCursor cursor, int size) {
+            String encoded = cursor != null ? cursor.encode() : null;
+            return AssetSearchCriteria.of(
+                    SOURCE,
+                    null,
+                    null,
+                    null,
+                    null,
+                    SortDirection.ASC,
+                    CursorPageRequest.of(encoded, size));
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadQueueOutboxJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.download.mapper.DownloadQueueOutboxJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadQueueOutboxBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadQueueOutboxJpaRepository;
 import com.ryuqq.fileflow.domain.common.vo.OutboxStatus;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadQueueOutbox;
@@ -27,6 +28,7 @@ class DownloadQueueOutboxCommandAdapterTest {
 
     @InjectMocks private DownloadQueueOutboxCommandAdapter sut;
     @Mock private DownloadQueueOutboxJpaRepository jpaRepository;
+    @Mock private DownloadQueueOutboxBulkRepository bulkRepository;
     @Mock private DownloadQueueOutboxJpaMapper mapper;
 
     private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
@@ -53,6 +55,28 @@ class DownloadQueueOutboxCommandAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("persistAll 메서드")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("도메인 객체들을 엔티티로 변환하여 한 번에 INSERT한다")
+        void persistAll_MapsAndBulkInserts() {
+            DownloadQueueOutbox domain =
+                    DownloadQueueOutbox.forNew(
+                            DownloadQueueOutboxId.of("outbox-001"), "download-001", NOW);
+            DownloadQueueOutboxJpaEntity entity =
+                    DownloadQueueOutboxJpaEntity.create(
+                            "outbox-001", "download-001", OutboxStatus.PENDING, 0, null, NOW, null);
+            given(mapper.toEntity(domain)).willReturn(entity);
+
+            sut.persistAll(List.of(domain));
+
+            then(bulkRepository).should().insertAll(List.of(entity));
+            then(jpaRepository).shouldHaveNoInteractions();
+        }
+    }
+
     @Nested
     @DisplayName("persist 메서드 -- 업데이트 시나리오")
     class PersistUpdateTest {
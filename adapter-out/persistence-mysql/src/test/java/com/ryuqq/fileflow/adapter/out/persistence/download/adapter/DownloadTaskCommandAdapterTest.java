@@ -7,9 +7,11 @@ import static org.mockito.BDDMockito.then;
 import com.ryuqq.fileflow.adapter.out.persistence.download.DownloadTaskJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadTaskJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.download.mapper.DownloadTaskJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadTaskBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.download.repository.DownloadTaskJpaRepository;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTaskFixture;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -26,6 +28,7 @@ class DownloadTaskCommandAdapterTest {
 
     @InjectMocks private DownloadTaskCommandAdapter commandAdapter;
     @Mock private DownloadTaskJpaRepository jpaRepository;
+    @Mock private DownloadTaskBulkRepository bulkRepository;
     @Mock private DownloadTaskJpaMapper mapper;
 
     @Nested
@@ -50,4 +53,25 @@ class DownloadTaskCommandAdapterTest {
             assertThat(version).isEqualTo(entity.getVersion());
         }
     }
+
+    @Nested
+    @DisplayName("persistAll 메서드 테스트")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("도메인 객체들을 엔티티로 변환하여 한 번에 INSERT합니다")
+        void persistAll_shouldMapAndBulkInsert() {
+            // given
+            DownloadTask task = DownloadTaskFixture.aQueuedTask();
+            DownloadTaskJpaEntity entity = DownloadTaskJpaEntityFixture.aQueuedEntity();
+            given(mapper.toEntity(task)).willReturn(entity);
+
+            // when
+            commandAdapter.persistAll(List.of(task));
+
+            // then
+            then(bulkRepository).should().insertAll(List.of(entity));
+            then(jpaRepository).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package com.ryuqq.fileflow.adapter.out.persistence.download.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadQueueOutboxJpaEntity;
+import com.ryuqq.fileflow.domain.common.vo.OutboxStatus;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(DownloadQueueOutboxBulkRepository.class)
+@DisplayName("DownloadQueueOutboxBulkRepository 통합 테스트")
+class DownloadQueueOutboxBulkRepositoryTest extends AbstractRepositoryIntegrationTest {
+
+    private static final Instant BASE_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired private DownloadQueueOutboxBulkRepository bulkRepository;
+
+    @Autowired private DownloadQueueOutboxJpaRepository jpaRepository;
+
+    @Nested
+    @DisplayName("insertAll")
+    class InsertAll {
+
+        @Test
+        @DisplayName("여러 아웃박스를 PENDING 상태로 한 번에 저장한다")
+        void insertsAllOutboxes() {
+            bulkRepository.insertAll(
+                    List.of(
+                            DownloadQueueOutboxJpaEntity.create(
+                                    "outbox-001",
+                                    "dl-001",
+                                    OutboxStatus.PENDING,
+                                    0,
+                                    null,
+                                    BASE_TIME,
+                                    null),
+                            DownloadQueueOutboxJpaEntity.create(
+                                    "outbox-002",
+                                    "dl-002",
+                                    OutboxStatus.PENDING,
+                                    0,
+                                    null,
+                                    BASE_TIME,
+                                    null)));
+            flushAndClear();
+
+            var result = jpaRepository.findById("outbox-002");
+            assertThat(result).isPresent();
+            assertThat(result.get().getDownloadTaskId()).isEqualTo("dl-002");
+            assertThat(result.get().getOutboxStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(result.get().getCreatedAt()).isEqualTo(BASE_TIME);
+            assertThat(jpaRepository.findById("outbox-001")).isPresent();
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 저장하지 않는다")
+        void ignoresEmptyList() {
+            bulkRepository.insertAll(List.of());
+            flushAndClear();
+
+            assertThat(jpaRepository.count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ryuqq.fileflow.adapter.out.persistence.download.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import com.ryuqq.fileflow.adapter.out.persistence.download.DownloadTaskJpaEntityFixture;
+import com.ryuqq.fileflow.adapter.out.persistence.download.condition.DownloadConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.download.entity.DownloadTaskJpaEntity;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+    DownloadConditionBuilder.class,
+    DownloadTaskQueryDslRepository.class,
+    DownloadTaskBulkRepository.class
+})
+@DisplayName("DownloadTaskBulkRepository 통합 테스트")
+class DownloadTaskBulkRepositoryTest extends AbstractRepositoryIntegrationTest {
+
+    @Autowired private DownloadTaskBulkRepository bulkRepository;
+
+    @Autowired private DownloadTaskQueryDslRepository queryDslRepository;
+
+    @Autowired private DownloadTaskJpaRepository jpaRepository;
+
+    @Nested
+    @DisplayName("insertAll")
+    class InsertAll {
+
+        @Test
+        @DisplayName("여러 태스크를 한 번에 저장한다")
+        void insertsAllTasks() {
+            DownloadTaskJpaEntity queued = DownloadTaskJpaEntityFixture.aQueuedEntity();
+            DownloadTaskJpaEntity other =
+                    DownloadTaskJpaEntityFixture.anEntityWithId("download-100");
+
+            bulkRepository.insertAll(List.of(queued, other));
+            flushAndClear();
+
+            var result = queryDslRepository.findById(queued.getId());
+            assertThat(result).isPresent();
+            assertThat(result.get().getStatus()).isEqualTo(queued.getStatus());
+            assertThat(result.get().getAccessType()).isEqualTo(queued.getAccessType());
+            assertThat(result.get().getSourceUrl()).isEqualTo(queued.getSourceUrl());
+            assertThat(result.get().getCallbackUrl()).isEqualTo(queued.getCallbackUrl());
+            assertThat(queryDslRepository.findById("download-100")).isPresent();
+        }
+
+        @Test
+        @DisplayName("문장 하나의 행 수를 넘으면 나눠서 모두 저장한다")
+        void insertsAllTasksAcrossStatements() {
+            List<DownloadTaskJpaEntity> tasks =
+                    IntStream.range(0, 501)
+                            .mapToObj(
+                                    i ->
+                                            DownloadTaskJpaEntityFixture.anEntityWithId(
+                                                    "download-bulk-" + i))
+                            .toList();
+
+            bulkRepository.insertAll(tasks);
+            flushAndClear();
+
+            assertThat(jpaRepository.count()).isEqualTo(501);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 저장하지 않는다")
+        void ignoresEmptyList() {
+            bulkRepository.insertAll(List.of());
+            flushAndClear();
+
+            assertThat(jpaRepository.count()).isZero();
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.ryuqq.fileflow.adapter.out.persistence.session.adapter;
 
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
-import com.ryuqq.fileflow.adapter.out.persistence.session.CompletedPartJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.MultipartUploadSessionJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.mapper.MultipartUploadSessionJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.session.repository.CompletedPartBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.CompletedPartJpaRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionJpaRepository;
+import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionQueryDslRepository;
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartFixture;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +46,9 @@ class MultipartUploadSessionCommandAdapterTest {
 
     @InjectMocks private MultipartUploadSessionCommandAdapter commandAdapter;
     @Mock private MultipartUploadSessionJpaRepository jpaRepository;
+    @Mock private MultipartUploadSessionQueryDslRepository queryDslRepository;
     @Mock private CompletedPartJpaRepository completedPartJpaRepository;
+    @Mock private CompletedPartBulkRepository completedPartBulkRepository;
     @Mock private MultipartUploadSessionJpaMapper mapper;
 
     @Nested
@@ -40,47 +56,324 @@ class MultipartUploadSessionCommandAdapterTest {
     class PersistTest {
 
         @Test
-        @DisplayName("세션을 저장하고 기존 파트를 삭제 후 새 파트를 저장합니다")
-        void persist_withParts_shouldSaveSessionAndParts() {
+        @DisplayName("세션 행만 저장하고 파트는 다시 쓰지 않습니다")
+        void persist_withParts_shouldSaveSessionOnly() {
             // given
             MultipartUploadSession session = MultipartUploadSessionFixture.anUploadingSession();
             MultipartUploadSessionJpaEntity entity =
                     MultipartUploadSessionJpaEntityFixture.anInitiatedEntity();
-            List<CompletedPartJpaEntity> partEntities =
-                    List.of(
-                            CompletedPartJpaEntityFixture.aCompletedPartEntity(
-                                    session.idValue(), 1));
 
             given(mapper.toEntity(session)).willReturn(entity);
-            given(mapper.toPartEntities(eq(session.idValue()), anyList())).willReturn(partEntities);
 
             // when
             commandAdapter.persist(session);
 
             // then
             then(jpaRepository).should().save(entity);
-            then(completedPartJpaRepository).should().deleteBySessionId(session.idValue());
-            then(completedPartJpaRepository).should().saveAll(partEntities);
+            then(completedPartJpaRepository).shouldHaveNoInteractions();
         }
+    }
+
+    @Nested
+    @DisplayName("appendCompletedPart 메서드 테스트")
+    class AppendCompletedPartTest {
+
+        private static final List<String> PART_ACCEPTING_STATUSES =
+                List.of("INITIATED", "UPLOADING");
 
         @Test
-        @DisplayName("파트가 없는 세션은 파트 저장을 건너뜁니다")
-        void persist_withoutParts_shouldSkipPartSave() {
+        @DisplayName("파트를 받을 수 있는 상태 조건을 붙여 한 건을 추가합니다")
+        void appendCompletedPart_newPart_shouldInsertSingleRow() {
             // given
-            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
-            MultipartUploadSessionJpaEntity entity =
-                    MultipartUploadSessionJpaEntityFixture.anInitiatedEntity();
+            MultipartUploadSessionId sessionId = MultipartUploadSessionId.of("session-001");
+            CompletedPart part = CompletedPartFixture.aCompletedPart();
 
-            given(mapper.toEntity(session)).willReturn(entity);
-            given(mapper.toPartEntities(eq(session.idValue()), anyList())).willReturn(List.of());
+            given(
+                            completedPartJpaRepository.insertIfSessionIn(
+                                    "session-001",
+                                    part.partNumber(),
+                                    part.etag(),
+                                    part.size(),
+                                    part.createdAt(),
+                                    PART_ACCEPTING_STATUSES))
+                    .willReturn(1);
 
             // when
-            commandAdapter.persist(session);
+            CompletedPartAppendResult result = commandAdapter.appendCompletedPart(sessionId, part);
 
             // then
-            then(jpaRepository).should().save(entity);
-            then(completedPartJpaRepository).should().deleteBySessionId(session.idValue());
-            then(completedPartJpaRepository).should(never()).saveAll(anyList());
+            assertThat(result).isEqualTo(CompletedPartAppendResult.APPENDED);
+            then(jpaRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("세션 상태가 조건에 맞지 않아 추가되지 않으면 SESSION_INACTIVE를 반환합니다")
+        void appendCompletedPart_inactiveSession_shouldReturnSessionInactive() {
+            // given
+            MultipartUploadSessionId sessionId = MultipartUploadSessionId.of("session-001");
+            CompletedPart part = CompletedPartFixture.aCompletedPart();
+
+            given(
+                            completedPartJpaRepository.insertIfSessionIn(
+                                    anyString(), anyInt(), anyString(), anyLong(), any(), any()))
+                    .willReturn(0);
+
+            // when
+            CompletedPartAppendResult result = commandAdapter.appendCompletedPart(sessionId, part);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.SESSION_INACTIVE);
+        }
+
+        @Test
+        @DisplayName("유니크 키 위반이면 DUPLICATE를 반환합니다")
+        void appendCompletedPart_duplicateEntry_shouldReturnDuplicate() {
+            // given
+            MultipartUploadSessionId sessionId = MultipartUploadSessionId.of("session-001");
+            CompletedPart part = CompletedPartFixture.aCompletedPart();
+            SQLException duplicate =
+                    new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062);
+
+            given(
+                            completedPartJpaRepository.insertIfSessionIn(
+                                    anyString(), anyInt(), anyString(), anyLong(), any(), any()))
+                    .willThrow(new DataIntegrityViolationException("duplicate", duplicate));
+
+            // when
+            CompletedPartAppendResult result = commandAdapter.appendCompletedPart(sessionId, part);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.DUPLICATE);
+        }
+
+        @Test
+        @DisplayName("유니크 키 위반이 아닌 무결성 오류는 그대로 전파합니다")
+        void appendCompletedPart_otherIntegrityViolation_shouldPropagate() {
+            // given
+            MultipartUploadSessionId sessionId = MultipartUploadSessionId.of("session-001");
+            CompletedPart part = CompletedPartFixture.aCompletedPart();
+            SQLException tooLong =
+                    new SQLException("Data too long for column 'etag'", "22001", 1406);
+
+            given(
+                            completedPartJpaRepository.insertIfSessionIn(
+                                    anyString(), anyInt(), anyString(), anyLong(), any(), any()))
+                    .willThrow(new DataIntegrityViolationException("too long", tooLong));
+
+            // when & then
+            assertThatThrownBy(() -> commandAdapter.appendCompletedPart(sessionId, part))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("upsertCompletedParts 메서드 테스트")
+    class UpsertCompletedPartsTest {
+
+        private static final List<String> PART_ACCEPTING_STATUSES =
+                List.of("INITIATED", "UPLOADING");
+
+        private final MultipartUploadSessionId sessionId =
+                MultipartUploadSessionId.of("session-001");
+        private final List<CompletedPart> parts =
+                List.of(
+                        CompletedPartFixture.aCompletedPart(1),
+                        CompletedPartFixture.aCompletedPart(2));
+
+        private List<CompletedPartJpaEntity> entities() {
+            Instant createdAt = parts.get(0).createdAt();
+            return List.of(
+                    CompletedPartJpaEntity.create(
+                            "session-001", 1, "etag-1", 5_242_880L, createdAt),
+                    CompletedPartJpaEntity.create(
+                            "session-001", 2, "etag-2", 5_242_880L, createdAt));
+        }
+
+        @Test
+        @DisplayName("파트 기록을 허용하는 상태일 때만 파트 엔티티 목록을 한 번에 upsert합니다")
+        void upsertCompletedParts_shouldDelegateToBulkRepositoryWithStatusGuard() {
+            // given
+            List<CompletedPartJpaEntity> entities = entities();
+            given(mapper.toPartEntities("session-001", parts)).willReturn(entities);
+            given(
+                            completedPartBulkRepository.upsertAllIfSessionIn(
+                                    "session-001", entities, PART_ACCEPTING_STATUSES))
+                    .willReturn(2);
+
+            // when
+            CompletedPartAppendResult result =
+                    commandAdapter.upsertCompletedParts(sessionId, parts);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.APPENDED);
+            then(jpaRepository).shouldHaveNoInteractions();
+            then(completedPartJpaRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("영향받은 행이 없어도 세션이 아직 파트를 받는 상태면 APPENDED를 반환합니다")
+        void upsertCompletedParts_noRowsButSessionActive_shouldReturnAppended() {
+            // given
+            List<CompletedPartJpaEntity> entities = entities();
+            given(mapper.toPartEntities("session-001", parts)).willReturn(entities);
+            given(
+                            completedPartBulkRepository.upsertAllIfSessionIn(
+                                    "session-001", entities, PART_ACCEPTING_STATUSES))
+                    .willReturn(0);
+            given(
+                            jpaRepository.existsByIdAndStatusIn(
+                                    "session-001", MultipartSessionStatus.partAcceptingStatuses()))
+                    .willReturn(true);
+
+            // when
+            CompletedPartAppendResult result =
+                    commandAdapter.upsertCompletedParts(sessionId, parts);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.APPENDED);
+        }
+
+        @Test
+        @DisplayName("세션이 완료/중단/만료되었으면 SESSION_INACTIVE를 반환합니다")
+        void upsertCompletedParts_inactiveSession_shouldReturnSessionInactive() {
+            // given
+            List<CompletedPartJpaEntity> entities = entities();
+            given(mapper.toPartEntities("session-001", parts)).willReturn(entities);
+            given(
+                            completedPartBulkRepository.upsertAllIfSessionIn(
+                                    "session-001", entities, PART_ACCEPTING_STATUSES))
+                    .willReturn(0);
+            given(
+                            jpaRepository.existsByIdAndStatusIn(
+                                    "session-001", MultipartSessionStatus.partAcceptingStatuses()))
+                    .willReturn(false);
+
+            // when
+            CompletedPartAppendResult result =
+                    commandAdapter.upsertCompletedParts(sessionId, parts);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.SESSION_INACTIVE);
+        }
+    }
+
+    @Nested
+    @DisplayName("startUploading 메서드 테스트")
+    class StartUploadingTest {
+
+        @Test
+        @DisplayName("INITIATED 세션만 UPLOADING으로 바꾸고 세션 행 전체를 저장하지 않습니다")
+        void startUploading_initiatedSession_shouldTransitionWithGuardedUpdate() {
+            // given
+            MultipartUploadSessionId sessionId = MultipartUploadSessionId.of("session-001");
+            Instant now = Instant.parse("2026-01-01T00:00:10Z");
+
+            given(
+                            jpaRepository.transitionStatus(
+                                    "session-001",
+                                    MultipartSessionStatus.INITIATED,
+                                    MultipartSessionStatus.UPLOADING,
+                                    now))
+                    .willReturn(1);
+
+            // when
+            boolean result = commandAdapter.startUploading(sessionId, now);
+
+            // then
+            assertThat(result).isTrue();
+            then(jpaRepository).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("이미 INITIATED가 아니면 false를 반환합니다")
+        void startUploading_notInitiated_shouldReturnFalse() {
+            // given
+            MultipartUploadSessionId sessionId = MultipartUploadSessionId.of("session-001");
+            Instant now = Instant.parse("2026-01-01T00:00:10Z");
+
+            given(
+                            jpaRepository.transitionStatus(
+                                    "session-001",
+                                    MultipartSessionStatus.INITIATED,
+                                    MultipartSessionStatus.UPLOADING,
+                                    now))
+                    .willReturn(0);
+
+            // when
+            boolean result = commandAdapter.startUploading(sessionId, now);
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("expireAll 메서드 테스트")
+    class ExpireAllTest {
+
+        @Test
+        @DisplayName("잠근 만료 대상만 한 번의 UPDATE로 만료 처리하고 그 ID를 반환합니다")
+        void expireAll_shouldBulkUpdateLockedSessionsOnly() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            List<MultipartUploadSessionId> sessionIds =
+                    List.of(
+                            MultipartUploadSessionId.of("session-001"),
+                            MultipartUploadSessionId.of("session-002"));
+
+            given(
+                            queryDslRepository.findExpiredSessionsByIdsForUpdate(
+                                    List.of("session-001", "session-002"), now))
+                    .willReturn(
+                            List.of(
+                                    MultipartUploadSessionJpaEntityFixture.anEntityWithStatus(
+                                            "session-002", MultipartSessionStatus.UPLOADING)));
+            given(
+                            jpaRepository.expireAll(
+                                    List.of("session-002"),
+                                    List.of(
+                                            MultipartSessionStatus.INITIATED,
+                                            MultipartSessionStatus.UPLOADING),
+                                    MultipartSessionStatus.EXPIRED,
+                                    now))
+                    .willReturn(1);
+
+            // when
+            List<MultipartUploadSessionId> expired = commandAdapter.expireAll(sessionIds, now);
+
+            // then
+            assertThat(expired).containsExactly(MultipartUploadSessionId.of("session-002"));
+        }
+
+        @Test
+        @DisplayName("잠글 만료 대상이 없으면 UPDATE를 실행하지 않습니다")
+        void expireAll_noLockedSessions_shouldSkipUpdate() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            given(queryDslRepository.findExpiredSessionsByIdsForUpdate(List.of("session-001"), now))
+                    .willReturn(List.of());
+
+            // when
+            List<MultipartUploadSessionId> expired =
+                    commandAdapter.expireAll(
+                            List.of(MultipartUploadSessionId.of("session-001")), now);
+
+            // then
+            assertThat(expired).isEmpty();
+            then(jpaRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 쿼리를 실행하지 않습니다")
+        void expireAll_emptyIds_shouldSkipQuery() {
+            // when
+            List<MultipartUploadSessionId> expired =
+                    commandAdapter.expireAll(List.of(), Instant.now());
+
+            // then
+            assertThat(expired).isEmpty();
+            then(queryDslRepository).shouldHaveNoInteractions();
+            then(jpaRepository).shouldHaveNoInteractions();
         }
     }
 }
@@ -3,6 +3,7 @@ package com.ryuqq.fileflow.adapter.out.persistence.session.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.fileflow.adapter.out.persistence.session.CompletedPartJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.MultipartUploadSessionJpaEntityFixture;
@@ -13,8 +14,12 @@ import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUp
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -76,4 +81,151 @@ class MultipartUploadSessionQueryAdapterTest {
             then(mapper).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("findHeaderById 메서드 테스트")
+    class FindHeaderByIdTest {
+
+        @Test
+        @DisplayName("파트를 조회하지 않고 세션만 도메인 객체로 변환합니다")
+        void findHeaderById_existingId_shouldSkipParts() {
+            // given
+            MultipartUploadSessionId id = MultipartUploadSessionId.of("multipart-session-001");
+            MultipartUploadSessionJpaEntity entity =
+                    MultipartUploadSessionJpaEntityFixture.anInitiatedEntity();
+            MultipartUploadSession domain = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(queryDslRepository.findById(id.value())).willReturn(Optional.of(entity));
+            given(mapper.toDomain(entity, List.of())).willReturn(domain);
+
+            // when
+            Optional<MultipartUploadSession> result = queryAdapter.findHeaderById(id);
+
+            // then
+            assertThat(result).contains(domain);
+            then(queryDslRepository).should(never()).findCompletedPartsBySessionId(id.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("summarizeCompletedParts 메서드 테스트")
+    class SummarizeCompletedPartsTest {
+
+        @Test
+        @DisplayName("QueryDSL 집계 결과를 그대로 반환합니다")
+        void summarizeCompletedParts_shouldDelegateToRepository() {
+            // given
+            MultipartUploadSessionId id = MultipartUploadSessionId.of("multipart-session-001");
+            CompletedPartsSummary summary = CompletedPartsSummary.of(3, 300L, 3);
+
+            given(queryDslRepository.summarizeCompletedParts(id.value())).willReturn(summary);
+
+            // when
+            CompletedPartsSummary result = queryAdapter.summarizeCompletedParts(id);
+
+            // then
+            assertThat(result).isEqualTo(summary);
+        }
+    }
+
+    @Nested
+    @DisplayName("findCompletedParts 메서드 테스트")
+    class FindCompletedPartsTest {
+
+        @Test
+        @DisplayName("커서 이후 파트 엔티티를 도메인 파트로 변환해 반환합니다")
+        void findCompletedParts_shouldMapEntitiesToDomain() {
+            // given
+            MultipartUploadSessionId id = MultipartUploadSessionId.of("multipart-session-001");
+            List<CompletedPartJpaEntity> entities =
+                    List.of(CompletedPartJpaEntityFixture.aCompletedPartEntity(id.value(), 3));
+            List<CompletedPart> parts =
+                    List.of(
+                            CompletedPart.of(
+                                    3,
+                                    "etag-part-3",
+                                    5_242_880L,
+                                    Instant.parse("2026-01-01T00:00:10Z")));
+
+            given(queryDslRepository.findCompletedPartsAfter(id.value(), 2, 101))
+                    .willReturn(entities);
+            given(mapper.toPartDomains(entities)).willReturn(parts);
+
+            // when
+            List<CompletedPart> result = queryAdapter.findCompletedParts(id, 2, 101);
+
+            // then
+            assertThat(result).isEqualTo(parts);
+        }
+    }
+
+    @Nested
+    @DisplayName("findExpiredSessionsByIds 메서드 테스트")
+    class FindExpiredSessionsByIdsTest {
+
+        @Test
+        @DisplayName("주어진 ID 중 만료 대상 세션만 파트 없이 변환합니다")
+        void findExpiredSessionsByIds_shouldMapHeadersOnly() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            MultipartUploadSessionId id = MultipartUploadSessionId.of("multipart-session-001");
+            MultipartUploadSessionJpaEntity entity =
+                    MultipartUploadSessionJpaEntityFixture.anInitiatedEntity();
+            MultipartUploadSession domain = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(queryDslRepository.findExpiredSessionsByIds(List.of(id.value()), now))
+                    .willReturn(List.of(entity));
+            given(mapper.toDomain(entity, List.of())).willReturn(domain);
+
+            // when
+            List<MultipartUploadSession> result =
+                    queryAdapter.findExpiredSessionsByIds(List.of(id), now);
+
+            // then
+            assertThat(result).containsExactly(domain);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 조회하지 않습니다")
+        void findExpiredSessionsByIds_emptyIds_shouldSkipQuery() {
+            // when
+            List<MultipartUploadSession> result =
+                    queryAdapter.findExpiredSessionsByIds(List.of(), Instant.now());
+
+            // then
+            assertThat(result).isEmpty();
+            then(queryDslRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("findActiveUploadIds 메서드 테스트")
+    class FindActiveUploadIdsTest {
+
+        @Test
+        @DisplayName("활성 세션이 사용 중인 uploadId를 집합으로 반환합니다")
+        void findActiveUploadIds_shouldReturnSet() {
+            // given
+            List<String> uploadIds = List.of("upload-id-001", "upload-id-002");
+            given(queryDslRepository.findActiveUploadIds(uploadIds))
+                    .willReturn(List.of("upload-id-001"));
+
+            // when
+            Set<String> result = queryAdapter.findActiveUploadIds(uploadIds);
+
+            // then
+            assertThat(result).containsExactly("upload-id-001");
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 조회하지 않습니다")
+        void findActiveUploadIds_emptyIds_shouldSkipQuery() {
+            // when
+            Set<String> result = queryAdapter.findActiveUploadIds(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(queryDslRepository).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -1,13 +1,20 @@
 package com.ryuqq.fileflow.adapter.out.persistence.session.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.fileflow.adapter.out.persistence.session.SingleUploadSessionJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.mapper.SingleUploadSessionJpaMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionBulkRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionJpaRepository;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -24,6 +31,7 @@ class SingleUploadSessionCommandAdapterTest {
 
     @InjectMocks private SingleUploadSessionCommandAdapter commandAdapter;
     @Mock private SingleUploadSessionJpaRepository jpaRepository;
+    @Mock private SingleUploadSessionBulkRepository bulkRepository;
     @Mock private SingleUploadSessionJpaMapper mapper;
 
     @Nested
@@ -60,4 +68,67 @@ class SingleUploadSessionCommandAdapterTest {
             then(jpaRepository).should().save(entity);
         }
     }
+
+    @Nested
+    @DisplayName("persistAll 메서드 테스트")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("도메인 객체들을 엔티티로 변환하여 한 번에 INSERT합니다")
+        void persistAll_shouldMapAndBulkInsert() {
+            // given
+            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
+            SingleUploadSessionJpaEntity entity =
+                    SingleUploadSessionJpaEntityFixture.aCreatedEntity();
+            given(mapper.toEntity(session)).willReturn(entity);
+
+            // when
+            commandAdapter.persistAll(List.of(session));
+
+            // then
+            then(bulkRepository).should().insertAll(List.of(entity));
+            then(jpaRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("expireAll 메서드 테스트")
+    class ExpireAllTest {
+
+        @Test
+        @DisplayName("CREATED 상태 조건을 붙여 한 번의 UPDATE로 만료 처리합니다")
+        void expireAll_shouldBulkUpdateWithExpirableStatuses() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            List<SingleUploadSessionId> sessionIds =
+                    List.of(
+                            SingleUploadSessionId.of("session-001"),
+                            SingleUploadSessionId.of("session-002"));
+
+            given(
+                            jpaRepository.expireAll(
+                                    List.of("session-001", "session-002"),
+                                    List.of(SingleSessionStatus.CREATED),
+                                    SingleSessionStatus.EXPIRED,
+                                    now))
+                    .willReturn(1);
+
+            // when
+            int expired = commandAdapter.expireAll(sessionIds, now);
+
+            // then
+            assertThat(expired).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 쿼리를 실행하지 않습니다")
+        void expireAll_emptyIds_shouldSkipQuery() {
+            // when
+            int expired = commandAdapter.expireAll(List.of(), Instant.now());
+
+            // then
+            assertThat(expired).isZero();
+            then(jpaRepository).shouldHaveNoInteractions();
+        }
+    }
 }
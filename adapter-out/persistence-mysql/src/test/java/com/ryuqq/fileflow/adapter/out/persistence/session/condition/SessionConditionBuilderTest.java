@@ -3,6 +3,7 @@ package com.ryuqq.fileflow.adapter.out.persistence.session.condition;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -64,6 +65,58 @@ class SessionConditionBuilderTest {
         }
     }
 
+    @Nested
+    @DisplayName("multipartSessionIdIn 메서드 테스트")
+    class MultipartSessionIdInTest {
+
+        @Test
+        @DisplayName("ID 목록이 주어지면 BooleanExpression을 반환합니다")
+        void multipartSessionIdIn_withIds_shouldReturnExpression() {
+            // when
+            BooleanExpression result =
+                    conditionBuilder.multipartSessionIdIn(List.of("session-001", "session-002"));
+
+            // then
+            assertThat(result).isNotNull();
+        }
+
+        @Test
+        @DisplayName("ID 목록이 비어 있으면 null을 반환합니다")
+        void multipartSessionIdIn_withEmpty_shouldReturnNull() {
+            // when
+            BooleanExpression result = conditionBuilder.multipartSessionIdIn(List.of());
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("multipartUploadIdIn 메서드 테스트")
+    class MultipartUploadIdInTest {
+
+        @Test
+        @DisplayName("uploadId 목록이 주어지면 BooleanExpression을 반환합니다")
+        void multipartUploadIdIn_withIds_shouldReturnExpression() {
+            // when
+            BooleanExpression result =
+                    conditionBuilder.multipartUploadIdIn(List.of("upload-001", "upload-002"));
+
+            // then
+            assertThat(result).isNotNull();
+        }
+
+        @Test
+        @DisplayName("uploadId 목록이 비어 있으면 null을 반환합니다")
+        void multipartUploadIdIn_withEmpty_shouldReturnNull() {
+            // when
+            BooleanExpression result = conditionBuilder.multipartUploadIdIn(List.of());
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("completedPartSessionIdEq 메서드 테스트")
     class CompletedPartSessionIdEqTest {
@@ -88,4 +141,29 @@ class SessionConditionBuilderTest {
             assertThat(result).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("completedPartNumberGt 메서드 테스트")
+    class CompletedPartNumberGtTest {
+
+        @Test
+        @DisplayName("파트 번호가 주어지면 BooleanExpression을 반환합니다")
+        void completedPartNumberGt_withPartNumber_shouldReturnExpression() {
+            // when
+            BooleanExpression result = conditionBuilder.completedPartNumberGt(10);
+
+            // then
+            assertThat(result).isNotNull();
+        }
+
+        @Test
+        @DisplayName("null이 주어지면 null을 반환합니다")
+        void completedPartNumberGt_withNull_shouldReturnNull() {
+            // when
+            BooleanExpression result = conditionBuilder.completedPartNumberGt(null);
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
 }
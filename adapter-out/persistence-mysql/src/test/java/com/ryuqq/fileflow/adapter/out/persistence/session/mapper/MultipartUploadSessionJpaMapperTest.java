@@ -140,4 +140,29 @@ class MultipartUploadSessionJpaMapperTest {
             assertThat(entities).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("toPartDomains 메서드 테스트")
+    class ToPartDomainsTest {
+
+        @Test
+        @DisplayName("파트 엔티티 목록을 도메인 파트 목록으로 변환합니다")
+        void toPartDomains_shouldMapAllEntities() {
+            // given
+            List<CompletedPartJpaEntity> entities =
+                    List.of(
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(
+                                    "multipart-session-001", 3),
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(
+                                    "multipart-session-001", 4));
+
+            // when
+            List<CompletedPart> parts = mapper.toPartDomains(entities);
+
+            // then
+            assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(3, 4);
+            assertThat(parts.get(0).etag()).isEqualTo("etag-part-3");
+            assertThat(parts.get(0).size()).isEqualTo(5_242_880L);
+        }
+    }
 }
@@ -0,0 +1,172 @@
+package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import com.ryuqq.fileflow.adapter.out.persistence.session.CompletedPartJpaEntityFixture;
+import com.ryuqq.fileflow.adapter.out.persistence.session.MultipartUploadSessionJpaEntityFixture;
+import com.ryuqq.fileflow.adapter.out.persistence.session.condition.SessionConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+    SessionConditionBuilder.class,
+    MultipartUploadSessionQueryDslRepository.class,
+    CompletedPartBulkRepository.class
+})
+@DisplayName("CompletedPartBulkRepository 통합 테스트")
+class CompletedPartBulkRepositoryTest extends AbstractRepositoryIntegrationTest {
+
+    private static final String SESSION_ID = "multipart-session-001";
+    private static final List<String> PART_ACCEPTING_STATUSES = List.of("INITIATED", "UPLOADING");
+
+    @Autowired private CompletedPartBulkRepository bulkRepository;
+
+    @Autowired private MultipartUploadSessionQueryDslRepository queryDslRepository;
+
+    @Autowired private MultipartUploadSessionJpaRepository sessionJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+        flushAndClear();
+    }
+
+    @Nested
+    @DisplayName("upsertAllIfSessionIn")
+    class UpsertAllIfSessionIn {
+
+        @Test
+        @DisplayName("여러 파트를 한 번에 기록한다")
+        void insertsAllParts() {
+            upsert(
+                    List.of(
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(SESSION_ID, 1),
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(SESSION_ID, 2),
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(SESSION_ID, 3)));
+            flushAndClear();
+
+            var result = queryDslRepository.findCompletedPartsBySessionId(SESSION_ID);
+
+            assertThat(result)
+                    .extracting(CompletedPartJpaEntity::getPartNumber)
+                    .containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("같은 요청을 다시 보내도 행이 늘어나지 않는다")
+        void isIdempotentOnRetry() {
+            List<CompletedPartJpaEntity> parts =
+                    List.of(
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(SESSION_ID, 1),
+                            CompletedPartJpaEntityFixture.aCompletedPartEntity(SESSION_ID, 2));
+
+            upsert(parts);
+            upsert(parts);
+            flushAndClear();
+
+            assertThat(queryDslRepository.findCompletedPartsBySessionId(SESSION_ID)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("이미 있는 파트 번호는 ETag와 크기를 갱신한다")
+        void updatesEtagAndSizeOfExistingPart() {
+            upsert(List.of(CompletedPartJpaEntityFixture.aCompletedPartEntity(SESSION_ID, 1)));
+            upsert(
+                    List.of(
+                            CompletedPartJpaEntity.create(
+                                    SESSION_ID,
+                                    1,
+                                    "etag-part-1-retry",
+                                    1_024L,
+                                    Instant.parse("2026-01-01T00:01:00Z"))));
+            flushAndClear();
+
+            var result = queryDslRepository.findCompletedPartsBySessionId(SESSION_ID);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getEtag()).isEqualTo("etag-part-1-retry");
+            assertThat(result.get(0).getSize()).isEqualTo(1_024L);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 기록하지 않는다")
+        void ignoresEmptyList() {
+            upsert(List.of());
+            flushAndClear();
+
+            assertThat(queryDslRepository.findCompletedPartsBySessionId(SESSION_ID)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("중단된 세션에는 파트를 기록하지 않는다")
+        void skipsAbortedSession() {
+            saveSession("session-aborted", MultipartSessionStatus.ABORTED);
+
+            int affected =
+                    bulkRepository.upsertAllIfSessionIn(
+                            "session-aborted",
+                            List.of(
+                                    CompletedPartJpaEntityFixture.aCompletedPartEntity(
+                                            "session-aborted", 1),
+                                    CompletedPartJpaEntityFixture.aCompletedPartEntity(
+                                            "session-aborted", 2)),
+                            PART_ACCEPTING_STATUSES);
+            flushAndClear();
+
+            assertThat(affected).isZero();
+            assertThat(queryDslRepository.findCompletedPartsBySessionId("session-aborted"))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("완료된 세션의 기존 파트를 덮어쓰지 않는다")
+        void doesNotOverwritePartsOfCompletedSession() {
+            saveSession("session-completed", MultipartSessionStatus.COMPLETED);
+            upsertFor(
+                    "session-completed",
+                    CompletedPartJpaEntityFixture.aCompletedPartEntity("session-completed", 1),
+                    List.of("COMPLETED"));
+
+            int affected =
+                    upsertFor(
+                            "session-completed",
+                            CompletedPartJpaEntity.create(
+                                    "session-completed",
+                                    1,
+                                    "etag-part-1-late",
+                                    1_024L,
+                                    Instant.parse("2026-01-01T00:01:00Z")),
+                            PART_ACCEPTING_STATUSES);
+            flushAndClear();
+
+            var result = queryDslRepository.findCompletedPartsBySessionId("session-completed");
+
+            assertThat(affected).isZero();
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getEtag()).isNotEqualTo("etag-part-1-late");
+        }
+    }
+
+    private void upsert(List<CompletedPartJpaEntity> parts) {
+        bulkRepository.upsertAllIfSessionIn(SESSION_ID, parts, PART_ACCEPTING_STATUSES);
+    }
+
+    private int upsertFor(String sessionId, CompletedPartJpaEntity part, List<String> statuses) {
+        return bulkRepository.upsertAllIfSessionIn(sessionId, List.of(part), statuses);
+    }
+
+    private void saveSession(String sessionId, MultipartSessionStatus status) {
+        sessionJpaRepository.save(
+                MultipartUploadSessionJpaEntityFixture.anEntityWithStatus(sessionId, status));
+        flushAndClear();
+    }
+}
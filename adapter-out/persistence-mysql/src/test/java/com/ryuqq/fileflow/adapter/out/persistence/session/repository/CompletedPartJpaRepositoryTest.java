@@ -0,0 +1,96 @@
+package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import com.ryuqq.fileflow.adapter.out.persistence.session.MultipartUploadSessionJpaEntityFixture;
+import com.ryuqq.fileflow.adapter.out.persistence.session.condition.SessionConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@Import({SessionConditionBuilder.class, MultipartUploadSessionQueryDslRepository.class})
+@DisplayName("CompletedPartJpaRepository 통합 테스트")
+class CompletedPartJpaRepositoryTest extends AbstractRepositoryIntegrationTest {
+
+    private static final List<String> PART_ACCEPTING_STATUSES = List.of("INITIATED", "UPLOADING");
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:10Z");
+
+    @Autowired private CompletedPartJpaRepository completedPartJpaRepository;
+
+    @Autowired private MultipartUploadSessionJpaRepository sessionJpaRepository;
+
+    @Autowired private MultipartUploadSessionQueryDslRepository queryDslRepository;
+
+    @Nested
+    @DisplayName("insertIfSessionIn")
+    class InsertIfSessionIn {
+
+        @Test
+        @DisplayName("세션이 파트를 받을 수 있는 상태면 한 건을 기록한다")
+        void insertsWhenSessionAccepting() {
+            saveSession("session-active", MultipartSessionStatus.UPLOADING);
+
+            int inserted = insert("session-active", 1);
+            flushAndClear();
+
+            assertThat(inserted).isEqualTo(1);
+            assertThat(queryDslRepository.findCompletedPartsBySessionId("session-active"))
+                    .extracting(CompletedPartJpaEntity::getPartNumber)
+                    .containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("세션이 완료되었으면 기록하지 않고 0을 반환한다")
+        void skipsWhenSessionCompleted() {
+            saveSession("session-completed", MultipartSessionStatus.COMPLETED);
+
+            int inserted = insert("session-completed", 1);
+            flushAndClear();
+
+            assertThat(inserted).isZero();
+            assertThat(queryDslRepository.findCompletedPartsBySessionId("session-completed"))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("세션이 없으면 기록하지 않고 0을 반환한다")
+        void skipsWhenSessionMissing() {
+            assertThat(insert("session-missing", 1)).isZero();
+        }
+
+        @Test
+        @DisplayName("같은 파트 번호가 이미 있으면 유니크 키 위반 예외가 발생한다")
+        void throwsOnDuplicatePartNumber() {
+            saveSession("session-duplicate", MultipartSessionStatus.UPLOADING);
+            insert("session-duplicate", 1);
+
+            assertThatThrownBy(() -> insert("session-duplicate", 1))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+    }
+
+    private void saveSession(String sessionId, MultipartSessionStatus status) {
+        sessionJpaRepository.save(
+                MultipartUploadSessionJpaEntityFixture.anEntityWithStatus(sessionId, status));
+        flushAndClear();
+    }
+
+    private int insert(String sessionId, int partNumber) {
+        return completedPartJpaRepository.insertIfSessionIn(
+                sessionId,
+                partNumber,
+                "etag-part-" + partNumber,
+                5_242_880L,
+                CREATED_AT,
+                PART_ACCEPTING_STATUSES);
+    }
+}
@@ -6,6 +6,11 @@ import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryInteg
 import com.ryuqq.fileflow.adapter.out.persistence.session.CompletedPartJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.MultipartUploadSessionJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.condition.SessionConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJpaEntity;
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -109,4 +114,184 @@ class MultipartUploadSessionQueryDslRepositoryTest extends AbstractRepositoryInt
             assertThat(result.get(0).getSessionId()).isEqualTo("session-A");
         }
     }
+
+    @Nested
+    @DisplayName("findCompletedPartsAfter")
+    class FindCompletedPartsAfter {
+
+        @Test
+        @DisplayName("커서보다 큰 파트 번호를 오름차순으로 limit개까지 반환한다")
+        void returnsPartsAfterCursorWithLimit() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            for (int partNumber = 1; partNumber <= 5; partNumber++) {
+                partJpaRepository.save(
+                        CompletedPartJpaEntityFixture.aCompletedPartEntity(
+                                "multipart-session-001", partNumber));
+            }
+            flushAndClear();
+
+            var result =
+                    queryDslRepository.findCompletedPartsAfter("multipart-session-001", 2, 2);
+
+            assertThat(result)
+                    .extracting(CompletedPartJpaEntity::getPartNumber)
+                    .containsExactly(3, 4);
+        }
+
+        @Test
+        @DisplayName("마지막 파트 이후를 조회하면 빈 리스트를 반환한다")
+        void returnsEmptyAfterLastPart() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            partJpaRepository.save(
+                    CompletedPartJpaEntityFixture.aCompletedPartEntity("multipart-session-001", 1));
+            flushAndClear();
+
+            var result =
+                    queryDslRepository.findCompletedPartsAfter("multipart-session-001", 1, 10);
+
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("summarizeCompletedParts")
+    class SummarizeCompletedParts {
+
+        @Test
+        @DisplayName("파트 수, 크기 합계, 연속 완료된 마지막 파트 번호를 집계한다")
+        void summarizesPartsWithGap() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            for (int partNumber : new int[] {1, 2, 3, 5, 6}) {
+                partJpaRepository.save(
+                        CompletedPartJpaEntityFixture.aCompletedPartEntity(
+                                "multipart-session-001", partNumber));
+            }
+            flushAndClear();
+
+            var result = queryDslRepository.summarizeCompletedParts("multipart-session-001");
+
+            assertThat(result.partCount()).isEqualTo(5);
+            assertThat(result.totalSize()).isEqualTo(5 * 5_242_880L);
+            assertThat(result.highestContiguousPartNumber()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("1번 파트가 없으면 연속 완료된 마지막 파트 번호는 0이다")
+        void returnsZeroContiguousWhenFirstPartMissing() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            partJpaRepository.save(
+                    CompletedPartJpaEntityFixture.aCompletedPartEntity("multipart-session-001", 2));
+            partJpaRepository.save(
+                    CompletedPartJpaEntityFixture.aCompletedPartEntity("multipart-session-001", 3));
+            flushAndClear();
+
+            var result = queryDslRepository.summarizeCompletedParts("multipart-session-001");
+
+            assertThat(result.partCount()).isEqualTo(2);
+            assertThat(result.highestContiguousPartNumber()).isZero();
+        }
+
+        @Test
+        @DisplayName("파트가 없으면 빈 집계를 반환한다")
+        void returnsEmptyWhenNoParts() {
+            var result = queryDslRepository.summarizeCompletedParts("no-parts-session");
+
+            assertThat(result).isEqualTo(CompletedPartsSummary.empty());
+        }
+    }
+
+    @Nested
+    @DisplayName("findExpiredSessionsByIds")
+    class FindExpiredSessionsByIds {
+
+        @Test
+        @DisplayName("주어진 ID 중 만료 시각이 지난 활성 세션만 반환한다")
+        void returnsOnlyDueActiveSessions() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anUploadingEntity());
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.aCompletedEntity());
+            flushAndClear();
+            Instant afterExpiry =
+                    MultipartUploadSessionJpaEntityFixture.defaultExpiresAt().plusSeconds(1);
+
+            var result =
+                    queryDslRepository.findExpiredSessionsByIds(
+                            List.of(
+                                    "multipart-session-001",
+                                    "multipart-session-uploading",
+                                    "multipart-session-002",
+                                    "non-existent-id"),
+                            afterExpiry);
+
+            assertThat(result)
+                    .extracting(MultipartUploadSessionJpaEntity::getId)
+                    .containsExactlyInAnyOrder(
+                            "multipart-session-001", "multipart-session-uploading");
+        }
+
+        @Test
+        @DisplayName("만료 시각이 지나지 않았으면 반환하지 않는다")
+        void excludesSessionsNotYetDue() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            flushAndClear();
+
+            var result =
+                    queryDslRepository.findExpiredSessionsByIds(
+                            List.of("multipart-session-001"),
+                            MultipartUploadSessionJpaEntityFixture.defaultNow());
+
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findExpiredSessionsByIdsForUpdate")
+    class FindExpiredSessionsByIdsForUpdate {
+
+        @Test
+        @DisplayName("잠금을 걸고 주어진 ID 중 만료 시각이 지난 활성 세션만 반환한다")
+        void returnsOnlyDueActiveSessionsWithLock() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.aCompletedEntity());
+            flushAndClear();
+            Instant afterExpiry =
+                    MultipartUploadSessionJpaEntityFixture.defaultExpiresAt().plusSeconds(1);
+
+            var result =
+                    queryDslRepository.findExpiredSessionsByIdsForUpdate(
+                            List.of("multipart-session-001", "multipart-session-002"),
+                            afterExpiry);
+
+            assertThat(result)
+                    .extracting(MultipartUploadSessionJpaEntity::getId)
+                    .containsExactly("multipart-session-001");
+        }
+    }
+
+    @Nested
+    @DisplayName("findActiveUploadIds")
+    class FindActiveUploadIds {
+
+        @Test
+        @DisplayName("주어진 uploadId 중 활성 세션의 uploadId만 반환한다")
+        void returnsOnlyActiveUploadIds() {
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anInitiatedEntity());
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anUploadingEntity());
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anAbortedEntity());
+            sessionJpaRepository.save(MultipartUploadSessionJpaEntityFixture.anExpiredEntity());
+            flushAndClear();
+
+            var result =
+                    queryDslRepository.findActiveUploadIds(
+                            List.of(
+                                    "upload-id-001",
+                                    "upload-id-uploading",
+                                    "upload-id-aborted",
+                                    "upload-id-expired",
+                                    "upload-id-unknown"));
+
+            assertThat(result)
+                    .containsExactlyInAnyOrder("upload-id-001", "upload-id-uploading");
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package com.ryuqq.fileflow.adapter.out.persistence.session.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.adapter.out.persistence.common.AbstractRepositoryIntegrationTest;
+import com.ryuqq.fileflow.adapter.out.persistence.session.SingleUploadSessionJpaEntityFixture;
+import com.ryuqq.fileflow.adapter.out.persistence.session.condition.SessionConditionBuilder;
+import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+    SessionConditionBuilder.class,
+    SingleUploadSessionQueryDslRepository.class,
+    SingleUploadSessionBulkRepository.class
+})
+@DisplayName("SingleUploadSessionBulkRepository 통합 테스트")
+class SingleUploadSessionBulkRepositoryTest extends AbstractRepositoryIntegrationTest {
+
+    @Autowired private SingleUploadSessionBulkRepository bulkRepository;
+
+    @Autowired private SingleUploadSessionQueryDslRepository queryDslRepository;
+
+    @Nested
+    @DisplayName("insertAll")
+    class InsertAll {
+
+        @Test
+        @DisplayName("여러 세션을 한 번에 저장한다")
+        void insertsAllSessions() {
+            SingleUploadSessionJpaEntity created =
+                    SingleUploadSessionJpaEntityFixture.aCreatedEntity();
+            SingleUploadSessionJpaEntity other =
+                    SingleUploadSessionJpaEntityFixture.anEntityWithId("single-session-100");
+
+            bulkRepository.insertAll(List.of(created, other));
+            flushAndClear();
+
+            var result = queryDslRepository.findById(created.getId());
+            assertThat(result).isPresent();
+            assertThat(result.get().getStatus()).isEqualTo(created.getStatus());
+            assertThat(result.get().getAccessType()).isEqualTo(created.getAccessType());
+            assertThat(result.get().getPresignedUrl()).isEqualTo(created.getPresignedUrl());
+            assertThat(queryDslRepository.findById("single-session-100")).isPresent();
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 저장하지 않는다")
+        void ignoresEmptyList() {
+            bulkRepository.insertAll(List.of());
+            flushAndClear();
+
+            assertThat(queryDslRepository.findById("single-session-001")).isEmpty();
+        }
+    }
+}
@@ -136,6 +136,8 @@ class TransformRequestQueryDslRepositoryTest extends AbstractRepositoryIntegrati
                             null,
                             null,
                             null,
+                            null,
+                            null,
                             TWO_HOURS_LATER,
                             TWO_HOURS_LATER,
                             null,
@@ -156,6 +158,8 @@ class TransformRequestQueryDslRepositoryTest extends AbstractRepositoryIntegrati
                             null,
                             null,
                             null,
+                            null,
+                            null,
                             ONE_HOUR_LATER,
                             ONE_HOUR_LATER,
                             null,
@@ -70,6 +70,27 @@ public class AssetJpaEntityFixture {
                 null);
     }
 
+    public static AssetJpaEntity aListingAssetEntity(
+            String id, String source, String purpose, AccessType accessType, Instant createdAt) {
+        return AssetJpaEntity.create(
+                id,
+                "test-bucket",
+                "public/2026/02/" + id + ".jpg",
+                accessType,
+                "test.jpg",
+                1024L,
+                "image/jpeg",
+                "etag-" + id,
+                "jpg",
+                AssetOrigin.SINGLE_UPLOAD,
+                "origin-001",
+                purpose,
+                source,
+                createdAt,
+                createdAt,
+                null);
+    }
+
     public static Instant defaultNow() {
         return DEFAULT_NOW;
     }
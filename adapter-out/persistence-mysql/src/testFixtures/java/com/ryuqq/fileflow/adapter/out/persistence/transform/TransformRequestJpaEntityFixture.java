@@ -24,6 +24,8 @@ public class TransformRequestJpaEntityFixture {
                 null,
                 null,
                 null,
+                null,
+                null,
                 DEFAULT_NOW,
                 DEFAULT_NOW,
                 null,
@@ -45,6 +47,8 @@ public class TransformRequestJpaEntityFixture {
                 null,
                 null,
                 null,
+                null,
+                null,
                 DEFAULT_NOW,
                 DEFAULT_NOW.plusSeconds(30),
                 DEFAULT_NOW.plusSeconds(30),
@@ -66,6 +70,8 @@ public class TransformRequestJpaEntityFixture {
                 "webp",
                 null,
                 null,
+                null,
+                null,
                 DEFAULT_NOW,
                 DEFAULT_NOW,
                 null,
@@ -87,6 +93,8 @@ public class TransformRequestJpaEntityFixture {
                 null,
                 null,
                 null,
+                null,
+                null,
                 DEFAULT_NOW,
                 DEFAULT_NOW,
                 status == TransformStatus.COMPLETED ? DEFAULT_NOW.plusSeconds(30) : null,
@@ -108,6 +116,8 @@ public class TransformRequestJpaEntityFixture {
                 null,
                 null,
                 null,
+                null,
+                null,
                 DEFAULT_NOW,
                 DEFAULT_NOW,
                 null,
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.adapter;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.asset.codec.AssetMetadataCacheCodec;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.asset.config.AssetCacheProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.TwoLevelBinaryCacheAdapter;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssetMetadataCacheAdapter extends TwoLevelBinaryCacheAdapter<AssetMetadata> {
+
+    static final String CACHE_NAME = "asset-metadata";
+
+    public AssetMetadataCacheAdapter(
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            AssetMetadataCacheCodec codec,
+            AssetCacheProperties properties,
+            NearCacheRegistry nearCacheRegistry) {
+        super(binaryRedisTemplate, codec, properties.ttl(), CACHE_NAME, nearCacheRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.codec;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BinaryCacheCodec;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.CompactBinaryReader;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.CompactBinaryWriter;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetOrigin;
+import com.ryuqq.fileflow.domain.asset.vo.FileInfo;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.StorageInfo;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssetCacheCodec implements BinaryCacheCodec<Asset> {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    @Override
+    public byte[] encode(Asset asset) {
+        return new CompactBinaryWriter(INITIAL_BUFFER_SIZE)
+                .writeByte(FORMAT_VERSION)
+                .writeString(asset.idValue())
+                .writeString(asset.bucket())
+                .writeString(asset.s3Key())
+                .writeEnum(asset.accessType())
+                .writeString(asset.fileName())
+                .writeVarLong(asset.fileSize())
+                .writeString(asset.contentType())
+                .writeString(asset.etag())
+                .writeString(asset.extension())
+                .writeEnum(asset.origin())
+                .writeString(asset.originId())
+                .writeString(asset.purpose())
+                .writeString(asset.source())
+                .writeInstant(asset.createdAt())
+                .writeInstant(asset.updatedAt())
+                .writeInstant(asset.deletedAt())
+                .toByteArray();
+    }
+
+    @Override
+    public Asset decode(byte[] bytes) {
+        CompactBinaryReader reader = new CompactBinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported asset cache format: " + version);
+        }
+        AssetId id = AssetId.of(reader.readString());
+        StorageInfo storageInfo =
+                StorageInfo.of(
+                        reader.readString(),
+                        reader.readString(),
+                        reader.readEnum(AccessType.class));
+        FileInfo fileInfo =
+                FileInfo.of(
+                        reader.readString(),
+                        reader.readVarLong(),
+                        reader.readString(),
+                        reader.readString(),
+                        reader.readString());
+        Asset asset =
+                Asset.reconstitute(
+                        id,
+                        storageInfo,
+                        fileInfo,
+                        reader.readEnum(AssetOrigin.class),
+                        reader.readString(),
+                        reader.readString(),
+                        reader.readString(),
+                        reader.readInstant(),
+                        reader.readInstant(),
+                        reader.readInstant());
+        reader.expectFullyRead();
+        return asset;
+    }
+}
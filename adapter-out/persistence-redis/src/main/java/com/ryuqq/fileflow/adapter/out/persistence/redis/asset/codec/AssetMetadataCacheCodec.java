@@ -0,0 +1,51 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.codec;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BinaryCacheCodec;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.CompactBinaryReader;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.CompactBinaryWriter;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.id.AssetMetadataId;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssetMetadataCacheCodec implements BinaryCacheCodec<AssetMetadata> {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 96;
+
+    @Override
+    public byte[] encode(AssetMetadata metadata) {
+        return new CompactBinaryWriter(INITIAL_BUFFER_SIZE)
+                .writeByte(FORMAT_VERSION)
+                .writeString(metadata.idValue())
+                .writeString(metadata.assetIdValue())
+                .writeVarLong(metadata.width())
+                .writeVarLong(metadata.height())
+                .writeString(metadata.transformType())
+                .writeInstant(metadata.createdAt())
+                .writeInstant(metadata.updatedAt())
+                .toByteArray();
+    }
+
+    @Override
+    public AssetMetadata decode(byte[] bytes) {
+        CompactBinaryReader reader = new CompactBinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported asset metadata cache format: " + version);
+        }
+        AssetMetadata metadata =
+                AssetMetadata.reconstitute(
+                        AssetMetadataId.of(reader.readString()),
+                        AssetId.of(reader.readString()),
+                        Math.toIntExact(reader.readVarLong()),
+                        Math.toIntExact(reader.readVarLong()),
+                        reader.readString(),
+                        reader.readInstant(),
+                        reader.readInstant());
+        reader.expectFullyRead();
+        return metadata;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 에셋·메타데이터 Redis 캐시 설정 프로퍼티.
+ *
+ * @param ttl 항목 보관 시간. 무효화가 유실됐을 때의 최대 지연이기도 합니다 (기본값: 10분)
+ */
+@ConfigurationProperties(prefix = "fileflow.asset.cache")
+public record AssetCacheProperties(Duration ttl) {
+
+    public AssetCacheProperties {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            ttl = Duration.ofMinutes(10);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+/**
+ * 캐시 값 바이너리 코덱.
+ *
+ * <p>필드 이름이나 타입 정보 없이 정해진 순서로만 기록합니다. 구현체는 맨 앞에 형식 버전 1바이트를 두고, 읽을 때 버전이 다르면 예외를 던져 캐시
+ * 미스로 처리되게 합니다.
+ *
+ * @param <T> 캐시 대상 타입
+ */
+public interface BinaryCacheCodec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
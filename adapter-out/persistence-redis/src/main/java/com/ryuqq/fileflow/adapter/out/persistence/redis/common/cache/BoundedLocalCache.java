@@ -0,0 +1,221 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 크기와 TTL이 제한된 프로세스 내 캐시.
+ *
+ * <p>조회는 {@link ConcurrentHashMap}에서 잠금 없이 수행하고, 참조 비트만 표시합니다. 저장·제거만 캐시 단위로 직렬화합니다. 크기를 넘으면
+ * CLOCK(second-chance) 방식으로 삽입 순서를 돌며, 마지막으로 확인한 뒤 조회되지 않은 항목부터 제거합니다. 최근 조회한 항목은 한 바퀴
+ * 유예되므로 LRU에 가깝게 동작합니다.
+ *
+ * <p>무효화할 때마다 세대 번호를 올립니다. 하위 계층에서 값을 읽기 전에 세대를 기억해 두고 {@link #putIfUnchanged}로 넣으면, 읽는 사이
+ * 무효화가 지나간 경우 오래된 값이 다시 들어오지 않습니다. 세대는 캐시 단위라 다른 키의 무효화도 적재를 막지만, 다음 조회에서 다시 채워집니다.
+ *
+ * <p>값에 버전이 있으면 {@link #put(String, Object, Instant)}와 {@link #evict(String, Instant)}를 씁니다. 제거 시
+ * 버전을 툼스톤으로 남겨, 제거 직전에 읽은 오래된 스냅샷이 뒤늦게 다시 들어오지 않게 합니다. 툼스톤도 {@code maxSize}와 {@code ttl}을 넘지 않습니다.
+ *
+ * @param <V> 캐시 값 타입 (불변 객체)
+ */
+public class BoundedLocalCache<V> {
+
+    /** 항목이 제거된 원인. */
+    public enum RemovalCause {
+        SIZE,
+        EXPIRED,
+        INVALIDATED
+    }
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ObjIntConsumer<RemovalCause> removalListener;
+    private final ConcurrentMap<String, Node<V>> entries = new ConcurrentHashMap<>();
+
+    /** 제거 후보 순서. 교체·제거된 노드는 꺼낼 때 건너뛰고, 쌓이면 한꺼번에 정리합니다. 쓰기 잠금 안에서만 다룹니다. */
+    private final Deque<Node<V>> clockQueue = new ArrayDeque<>();
+
+    private final Map<String, Tombstone> tombstones;
+    private volatile long generation;
+
+    public BoundedLocalCache(
+            int maxSize, Duration ttl, ObjIntConsumer<RemovalCause> removalListener) {
+        this(maxSize, ttl, removalListener, Clock.systemUTC());
+    }
+
+    BoundedLocalCache(
+            int maxSize,
+            Duration ttl,
+            ObjIntConsumer<RemovalCause> removalListener,
+            Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.removalListener = removalListener;
+        this.tombstones =
+                new LinkedHashMap<>(16, 0.75f, false) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Tombstone> eldest) {
+                        return size() > maxSize;
+                    }
+                };
+    }
+
+    public Optional<V> get(String key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return Optional.empty();
+        }
+        if (node.isExpired(clock.instant())) {
+            if (entries.remove(key, node)) {
+                removalListener.accept(RemovalCause.EXPIRED, 1);
+            }
+            return Optional.empty();
+        }
+        node.referenced = true;
+        return Optional.of(node.value);
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    /** 기본 TTL과 주어진 TTL 중 짧은 쪽으로 보관합니다. 하위 계층보다 오래 남지 않게 하기 위함입니다. */
+    public synchronized void put(String key, V value, Duration ttl) {
+        Duration effective = ttl.compareTo(this.ttl) < 0 ? ttl : this.ttl;
+        insert(new Node<>(key, value, null, clock.instant().plus(effective)));
+    }
+
+    /** 주어진 세대 이후 무효화가 없었을 때만 넣습니다. */
+    public synchronized boolean putIfUnchanged(String key, V value, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return false;
+        }
+        insert(new Node<>(key, value, null, clock.instant().plus(ttl)));
+        return true;
+    }
+
+    /** 툼스톤 버전보다 오래된 값은 넣지 않습니다. */
+    public synchronized void put(String key, V value, Instant version) {
+        Instant now = clock.instant();
+        Tombstone tombstone = tombstones.get(key);
+        if (tombstone != null) {
+            if (tombstone.isExpired(now)) {
+                tombstones.remove(key);
+            } else if (tombstone.version().isAfter(version)) {
+                return;
+            }
+        }
+        insert(new Node<>(key, value, version, now.plus(ttl)));
+    }
+
+    public synchronized void evict(String key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            removalListener.accept(RemovalCause.INVALIDATED, 1);
+        }
+    }
+
+    /** 캐시된 값이 주어진 버전보다 새롭지 않으면 제거하고, 주어진 버전을 툼스톤으로 남깁니다. */
+    public synchronized void evict(String key, Instant version) {
+        generation++;
+        Node<V> node = entries.get(key);
+        if (node != null
+                && (node.version == null || !node.version.isAfter(version))
+                && entries.remove(key, node)) {
+            removalListener.accept(RemovalCause.INVALIDATED, 1);
+        }
+        Tombstone tombstone = tombstones.get(key);
+        if (tombstone == null || !tombstone.version().isAfter(version)) {
+            tombstones.put(key, new Tombstone(version, clock.instant().plus(ttl)));
+        }
+    }
+
+    /** 항목과 툼스톤을 모두 비웁니다. */
+    public synchronized void clear() {
+        generation++;
+        int removed = entries.size();
+        entries.clear();
+        clockQueue.clear();
+        tombstones.clear();
+        if (removed > 0) {
+            removalListener.accept(RemovalCause.INVALIDATED, removed);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void insert(Node<V> node) {
+        entries.put(node.key, node);
+        clockQueue.addLast(node);
+        evictOverflow();
+        if (clockQueue.size() > 2 * maxSize) {
+            clockQueue.removeIf(queued -> !isLive(queued));
+        }
+    }
+
+    /** 참조 비트가 켜진 항목은 비트를 끄고 뒤로 돌립니다. 조회가 계속 비트를 켜더라도 한 바퀴를 넘기면 그대로 제거합니다. */
+    private void evictOverflow() {
+        int secondChances = clockQueue.size();
+        while (entries.size() > maxSize) {
+            Node<V> candidate = clockQueue.pollFirst();
+            if (candidate == null) {
+                return;
+            }
+            if (!isLive(candidate)) {
+                continue;
+            }
+            if (candidate.referenced && secondChances-- > 0) {
+                candidate.referenced = false;
+                clockQueue.addLast(candidate);
+                continue;
+            }
+            if (entries.remove(candidate.key, candidate)) {
+                removalListener.accept(RemovalCause.SIZE, 1);
+            }
+        }
+    }
+
+    private boolean isLive(Node<V> node) {
+        return entries.get(node.key) == node;
+    }
+
+    private static final class Node<V> {
+
+        private final String key;
+        private final V value;
+        private final Instant version;
+        private final Instant expiresAt;
+        private volatile boolean referenced;
+
+        private Node(String key, V value, Instant version, Instant expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    private record Tombstone(Instant version, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/** {@link CompactBinaryWriter}가 기록한 바이트를 같은 순서로 읽는 reader. */
+public final class CompactBinaryReader {
+
+    private static final int MAX_VAR_LONG_SHIFT = 63;
+
+    private final byte[] bytes;
+    private int position;
+
+    public CompactBinaryReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public int readByte() {
+        ensureAvailable(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    public String readString() {
+        long lengthPlusOne = readVarLong();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        int length = Math.toIntExact(lengthPlusOne - 1);
+        ensureAvailable(length);
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+            if (shift > MAX_VAR_LONG_SHIFT) {
+                throw new IllegalStateException("Malformed var-long at position " + position);
+            }
+        }
+    }
+
+    public Instant readInstant() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = unZigZag(readVarLong());
+        long nanos = readVarLong();
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+    public void expectFullyRead() {
+        if (position != bytes.length) {
+            throw new IllegalStateException(
+                    "Unexpected trailing bytes: " + (bytes.length - position));
+        }
+    }
+
+    private void ensureAvailable(int length) {
+        if (length < 0 || position + length > bytes.length) {
+            throw new IllegalStateException(
+                    "Truncated cache value: need " + length + " bytes at position " + position);
+        }
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 캐시 값 직렬화용 바이너리 writer.
+ *
+ * <p>문자열은 {@code 길이+1}을 가변 길이 정수로 앞에 붙인 UTF-8 바이트로 기록하며, 0은 null을 뜻합니다. 정수는 모두 가변 길이로 기록해 작은
+ * 값이 1~2바이트에 들어가게 합니다.
+ */
+public final class CompactBinaryWriter {
+
+    private final ByteArrayOutputStream out;
+
+    public CompactBinaryWriter(int initialSize) {
+        this.out = new ByteArrayOutputStream(initialSize);
+    }
+
+    public CompactBinaryWriter writeByte(int value) {
+        out.write(value);
+        return this;
+    }
+
+    public CompactBinaryWriter writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return this;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+        return this;
+    }
+
+    public <E extends Enum<E>> CompactBinaryWriter writeEnum(E value) {
+        return writeString(value == null ? null : value.name());
+    }
+
+    public CompactBinaryWriter writeVarLong(long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+        return this;
+    }
+
+    public CompactBinaryWriter writeInstant(Instant value) {
+        if (value == null) {
+            out.write(0);
+            return this;
+        }
+        out.write(1);
+        writeVarLong(zigZag(value.getEpochSecond()));
+        writeVarLong(value.getNano());
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,174 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BoundedLocalCache.RemovalCause;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.config.NearCacheProperties;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
+import com.ryuqq.fileflow.application.common.port.out.NearCachePort;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 이름별 near-cache(L1) 보관소이자 무효화 전파 창구.
+ *
+ * <p>무효화 메시지 포맷: {@code {cacheName}|{key}[|{version}]}. 키 자리가 {@code *}이면 해당 캐시 전체를 비웁니다.
+ * 버전(ISO-8601 Instant)이 붙은 메시지는 {@link BoundedLocalCache#evict(String, java.time.Instant)}로 툼스톤을
+ * 남깁니다. 발행한 인스턴스도 같은 메시지를 받지만, 이미 비운 항목을 한 번 더 비울 뿐입니다.
+ */
+@Component
+public class NearCacheRegistry implements NearCachePort {
+
+    private static final Logger log = LoggerFactory.getLogger(NearCacheRegistry.class);
+
+    public static final String LOCAL_TIER = "local";
+    public static final String REDIS_TIER = "redis";
+
+    static final String MESSAGE_DELIMITER = "|";
+    static final String ALL_KEYS = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NearCacheProperties properties;
+    private final FileFlowMetrics metrics;
+    private final ConcurrentMap<String, BoundedLocalCache<?>> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Consumer<String>> evictionListeners =
+            new ConcurrentHashMap<>();
+
+    public NearCacheRegistry(
+            StringRedisTemplate redisTemplate,
+            NearCacheProperties properties,
+            FileFlowMetrics metrics) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 캐시 이름에 대한 L1을 만듭니다. 설정에서 꺼 둔 캐시는 빈 값을 반환합니다.
+     *
+     * @throws IllegalStateException 같은 이름이 이미 등록된 경우
+     */
+    public <V> Optional<BoundedLocalCache<V>> register(String cacheName) {
+        NearCacheProperties.Spec spec = properties.spec(cacheName);
+        if (!spec.enabled()) {
+            return Optional.empty();
+        }
+        BoundedLocalCache<V> cache =
+                new BoundedLocalCache<>(
+                        spec.maxSize(),
+                        spec.ttl(),
+                        (cause, count) -> recordRemoval(cacheName, cause, count));
+        if (caches.putIfAbsent(cacheName, cache) != null) {
+            throw new IllegalStateException("Near cache already registered: " + cacheName);
+        }
+        return Optional.of(cache);
+    }
+
+    /**
+     * 키 무효화를 L1 밖에서도 받아야 하는 캐시가 리스너를 등록합니다. 다른 인스턴스에서 전파된 무효화와 자기 인스턴스에서 발행한 무효화 모두에
+     * 대해 호출되며, L1을 꺼 둔 캐시에서도 호출됩니다.
+     *
+     * @throws IllegalStateException 같은 이름으로 이미 등록된 경우
+     */
+    public void onEvict(String cacheName, Consumer<String> listener) {
+        if (evictionListeners.putIfAbsent(cacheName, listener) != null) {
+            throw new IllegalStateException("Eviction listener already registered: " + cacheName);
+        }
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    /** 값에 버전이 있는 캐시의 무효화를 전파합니다. 받는 쪽은 주어진 버전을 툼스톤으로 남깁니다. */
+    public void publishEvict(String cacheName, String key, Instant version) {
+        publish(cacheName, key + MESSAGE_DELIMITER + version);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, ALL_KEYS);
+    }
+
+    @Override
+    public void evictLocal(String cacheName, String key) {
+        BoundedLocalCache<?> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+        Consumer<String> listener = evictionListeners.get(cacheName);
+        if (listener != null) {
+            listener.accept(key);
+        }
+    }
+
+    @Override
+    public void evictLocal(String cacheName, String key, Instant version) {
+        BoundedLocalCache<?> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evict(key, version);
+        }
+    }
+
+    @Override
+    public void clearLocal(String cacheName) {
+        BoundedLocalCache<?> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public void recordRequest(String cacheName, String tier, boolean hit) {
+        metrics.incrementCounter(
+                "cache_requests_total",
+                "cache",
+                cacheName,
+                "tier",
+                tier,
+                "result",
+                hit ? "hit" : "miss");
+    }
+
+    /** 여러 건을 한 번에 집계합니다. 0건이면 기록하지 않습니다. */
+    public void recordRequests(String cacheName, String tier, boolean hit, int count) {
+        if (count <= 0) {
+            return;
+        }
+        metrics.incrementCounter(
+                "cache_requests_total",
+                count,
+                "cache",
+                cacheName,
+                "tier",
+                tier,
+                "result",
+                hit ? "hit" : "miss");
+    }
+
+    public void recordEviction(String cacheName, String tier, String cause, int count) {
+        metrics.incrementCounter(
+                "cache_evictions_total", count, "cache", cacheName, "tier", tier, "cause", cause);
+    }
+
+    private void recordRemoval(String cacheName, RemovalCause cause, int count) {
+        recordEviction(cacheName, LOCAL_TIER, cause.name().toLowerCase(Locale.ROOT), count);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(
+                    properties.channel(), cacheName + MESSAGE_DELIMITER + key);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "near-cache 무효화 전파 실패 (L1 TTL 만료로 정리됨): cache={}, key={}, error={}",
+                    cacheName,
+                    key,
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * 바이너리 코덱 기반 Redis {@link CachePort} 공통 구현.
+ *
+ * <p>캐시는 DB의 보조 수단이므로 조회·저장·무효화·존재 확인·TTL 조회 중 Redis 오류나 디코딩 실패는 경고만 남기고 캐시 미스로
+ * 처리합니다. 무효화에 실패한 항목은 TTL 만료로 정리됩니다.
+ *
+ * <p>패턴 무효화는 {@code KEYS} 대신 {@code SCAN}으로 키를 모아 배치로 삭제합니다.
+ *
+ * @param <T> 캐시 대상 타입
+ */
+public abstract class RedisBinaryCacheAdapter<T> implements CachePort<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisBinaryCacheAdapter.class);
+
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final BinaryCacheCodec<T> codec;
+    private final Duration defaultTtl;
+
+    protected RedisBinaryCacheAdapter(
+            RedisTemplate<String, byte[]> redisTemplate,
+            BinaryCacheCodec<T> codec,
+            Duration defaultTtl) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.defaultTtl = defaultTtl;
+    }
+
+    @Override
+    public void set(String key, T value) {
+        set(key, value, defaultTtl);
+    }
+
+    @Override
+    public void set(String key, T value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, codec.encode(value), ttl);
+        } catch (RuntimeException e) {
+            log.warn("캐시 저장 실패 (다음 조회도 DB 사용): key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        byte[] bytes;
+        try {
+            bytes = redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("캐시 조회 실패 (DB 조회로 대체): key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+        if (bytes == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(codec.decode(bytes));
+        } catch (RuntimeException e) {
+            log.warn("캐시 값 디코딩 실패 (캐시 미스로 처리): key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<T> get(String key, Class<T> clazz) {
+        return get(key).filter(clazz::isInstance).map(clazz::cast);
+    }
+
+    @Override
+    public void evict(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 실패 (TTL 만료로 정리됨): key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictByPattern(String pattern) {
+        ScanOptions options =
+                ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    redisTemplate.delete(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.delete(List.copyOf(batch));
+            }
+        } catch (RuntimeException e) {
+            log.warn(
+                    "캐시 패턴 무효화 실패 (TTL 만료로 정리됨): pattern={}, error={}",
+                    pattern,
+                    e.getMessage());
+        }
+    }
+
+    /** 키 존재 여부를 반환합니다. Redis 오류는 키가 없는 것으로 처리합니다. */
+    @Override
+    public boolean exists(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        } catch (RuntimeException e) {
+            log.warn("캐시 존재 확인 실패 (없음으로 처리): key={}, error={}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /** 남은 TTL을 반환합니다. 키가 없거나 만료 시간이 없거나 Redis 오류가 나면 {@link Duration#ZERO}입니다. */
+    @Override
+    public Duration getTtl(String key) {
+        Long millis;
+        try {
+            millis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("캐시 TTL 조회 실패 (0으로 처리): key={}, error={}", key, e.getMessage());
+            return Duration.ZERO;
+        }
+        if (millis == null || millis < 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(millis);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import static com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry.LOCAL_TIER;
+import static com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry.REDIS_TIER;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 프로세스 내 캐시(L1)를 앞에 둔 2단계 {@link RedisBinaryCacheAdapter}.
+ *
+ * <p>조회는 L1 → Redis(L2) 순으로 하고, L2에서 찾은 값은 L1에 올립니다. 무효화는 L1과 L2를 비운 뒤 다른 인스턴스에 Pub/Sub으로
+ * 전파합니다. 계층별 hit/miss와 제거 건수는 {@code cache_requests_total}, {@code cache_evictions_total} 메트릭으로
+ * 남깁니다.
+ *
+ * <p>설정에서 L1을 끈 캐시는 Redis만 사용하며, 메트릭과 무효화 전파는 그대로 동작합니다.
+ *
+ * @param <T> 캐시 대상 타입 (불변 객체)
+ */
+public abstract class TwoLevelBinaryCacheAdapter<T> extends RedisBinaryCacheAdapter<T> {
+
+    private final String cacheName;
+    private final NearCacheRegistry nearCacheRegistry;
+    private final BoundedLocalCache<T> localCache;
+
+    protected TwoLevelBinaryCacheAdapter(
+            RedisTemplate<String, byte[]> redisTemplate,
+            BinaryCacheCodec<T> codec,
+            Duration defaultTtl,
+            String cacheName,
+            NearCacheRegistry nearCacheRegistry) {
+        super(redisTemplate, codec, defaultTtl);
+        this.cacheName = cacheName;
+        this.nearCacheRegistry = nearCacheRegistry;
+        this.localCache = nearCacheRegistry.<T>register(cacheName).orElse(null);
+    }
+
+    @Override
+    public void set(String key, T value, Duration ttl) {
+        super.set(key, value, ttl);
+        if (localCache != null) {
+            localCache.put(key, value, ttl);
+        }
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        if (localCache == null) {
+            return getFromRedis(key);
+        }
+        Optional<T> local = localCache.get(key);
+        nearCacheRegistry.recordRequest(cacheName, LOCAL_TIER, local.isPresent());
+        if (local.isPresent()) {
+            return local;
+        }
+        long generation = localCache.generation();
+        Optional<T> remote = getFromRedis(key);
+        remote.ifPresent(value -> localCache.putIfUnchanged(key, value, generation));
+        return remote;
+    }
+
+    @Override
+    public void evict(String key) {
+        if (localCache != null) {
+            localCache.evict(key);
+        }
+        super.evict(key);
+        nearCacheRegistry.recordEviction(cacheName, REDIS_TIER, "invalidated", 1);
+        nearCacheRegistry.publishEvict(cacheName, key);
+    }
+
+    /** L1은 패턴과 관계없이 캐시 전체를 비웁니다. */
+    @Override
+    public void evictByPattern(String pattern) {
+        if (localCache != null) {
+            localCache.clear();
+        }
+        super.evictByPattern(pattern);
+        nearCacheRegistry.publishClear(cacheName);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        if (localCache != null && localCache.get(key).isPresent()) {
+            return true;
+        }
+        return super.exists(key);
+    }
+
+    private Optional<T> getFromRedis(String key) {
+        Optional<T> remote = super.get(key);
+        nearCacheRegistry.recordRequest(cacheName, REDIS_TIER, remote.isPresent());
+        return remote;
+    }
+}
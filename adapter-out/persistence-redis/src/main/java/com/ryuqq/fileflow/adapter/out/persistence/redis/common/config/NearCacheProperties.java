@@ -0,0 +1,50 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Redis 앞단 near-cache(L1) 설정 프로퍼티.
+ *
+ * @param channel 인스턴스 간 무효화 전파 Pub/Sub 채널 (기본값: "fileflow:cache:invalidation")
+ * @param caches 캐시 이름별 설정. 설정이 없는 캐시는 {@link Spec}의 기본값을 사용합니다
+ */
+@ConfigurationProperties(prefix = "fileflow.cache.near")
+public record NearCacheProperties(String channel, Map<String, Spec> caches) {
+
+    public NearCacheProperties {
+        if (channel == null || channel.isBlank()) {
+            channel = "fileflow:cache:invalidation";
+        }
+        caches = caches == null ? Map.of() : Map.copyOf(caches);
+    }
+
+    public Spec spec(String cacheName) {
+        return caches.getOrDefault(cacheName, Spec.defaults());
+    }
+
+    /**
+     * 캐시 하나의 L1 설정.
+     *
+     * @param enabled L1 사용 여부. 끄면 Redis만 사용합니다 (기본값: true)
+     * @param maxSize 최대 보관 개수. 넘치면 가장 오래 쓰지 않은 항목부터 제거합니다 (기본값: 10,000)
+     * @param ttl 항목 보관 시간. 무효화 메시지를 놓쳤을 때의 최대 지연이기도 합니다 (기본값: 30초)
+     */
+    public record Spec(@DefaultValue("true") boolean enabled, int maxSize, Duration ttl) {
+
+        public Spec {
+            if (maxSize <= 0) {
+                maxSize = 10_000;
+            }
+            if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+                ttl = Duration.ofSeconds(30);
+            }
+        }
+
+        static Spec defaults() {
+            return new Spec(true, 0, null);
+        }
+    }
+}
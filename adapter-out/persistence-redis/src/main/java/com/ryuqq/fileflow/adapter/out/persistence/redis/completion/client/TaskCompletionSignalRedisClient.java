@@ -0,0 +1,33 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.completion.client;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.completion.config.TaskCompletionSignalProperties;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.port.out.client.TaskCompletionSignalClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종료 신호 Redis 클라이언트.
+ *
+ * <p>Pub/Sub 채널에 {@code {taskType}|{taskId}} 메시지를 발행합니다. 값은 저장하지 않으므로 구독 중인 web-api 인스턴스만 받습니다.
+ */
+@Component
+public class TaskCompletionSignalRedisClient implements TaskCompletionSignalClient {
+
+    static final String MESSAGE_DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public TaskCompletionSignalRedisClient(
+            StringRedisTemplate redisTemplate, TaskCompletionSignalProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.channel = properties.channel();
+    }
+
+    @Override
+    public void publish(TaskCompletionSignal signal) {
+        redisTemplate.convertAndSend(
+                channel, signal.taskType() + MESSAGE_DELIMITER + signal.taskId());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.completion.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 작업 종료 신호 설정 프로퍼티.
+ *
+ * @param channel 종료 신호 전파 Pub/Sub 채널 (기본값: "fileflow:task:completion")
+ */
+@ConfigurationProperties(prefix = "fileflow.task-completion")
+public record TaskCompletionSignalProperties(String channel) {
+
+    public TaskCompletionSignalProperties {
+        if (channel == null || channel.isBlank()) {
+            channel = "fileflow:task:completion";
+        }
+    }
+}
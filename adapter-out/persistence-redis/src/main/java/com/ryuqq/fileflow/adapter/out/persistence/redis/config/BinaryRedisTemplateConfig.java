@@ -0,0 +1,28 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 바이너리 캐시 값용 RedisTemplate 설정.
+ *
+ * <p>키는 문자열, 값은 코덱이 만든 바이트 배열을 그대로 저장합니다. JSON이나 JDK 직렬화를 거치지 않아 값 크기와 변환 비용이 작습니다.
+ */
+@Configuration
+public class BinaryRedisTemplateConfig {
+
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(
+            RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+}
@@ -1,51 +1,286 @@
 package com.ryuqq.fileflow.adapter.out.persistence.redis.download.adapter;
 
+import static com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry.LOCAL_TIER;
+import static com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry.REDIS_TIER;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.download.cache.DownloadUrlBlacklistLocalFilter;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.download.config.DownloadUrlBlacklistFilterProperties;
 import com.ryuqq.fileflow.application.download.port.out.cache.DownloadUrlBlacklistPort;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * 다운로드 URL 블랙리스트 Redis 어댑터.
+ *
+ * <p>조회는 대부분 "없음"이므로 {@link DownloadUrlBlacklistLocalFilter}가 확실히 없는 URL을 먼저 걸러내고, 있을 수도 있는 URL만
+ * Redis에 묻습니다. 필터는 첫 조회 시점부터 주기적으로 블랙리스트 버전 카운터만 읽고, 등록으로 버전이 바뀐 경우에만 키를 SCAN해 다시
+ * 만듭니다. 조회하지 않는 워커 인스턴스에서는 돌지 않습니다. 버전은 만료로 바뀌지 않으므로 만료된 URL은 다음 재구성까지 필터에 남지만, Redis
+ * 확인에서 없음으로 걸러집니다.
+ *
+ * <p>등록은 {@link NearCacheRegistry}로 {@value #CACHE_NAME} 키 무효화를 전파합니다. 받은 인스턴스는 해당 URL을 필터에 더하고
+ * negative cache에서 지우므로, 재구성을 기다리지 않고 바로 Redis 확인으로 넘어갑니다. 전파가 유실돼도 다음 주기의 버전 확인에서 다시
+ * 만듭니다. 로컬 판정은 {@code local} 계층, Redis 확인은 {@code redis} 계층 메트릭으로 남깁니다.
+ */
 @Component
-public class DownloadUrlBlacklistCacheAdapter implements DownloadUrlBlacklistPort {
+public class DownloadUrlBlacklistCacheAdapter implements DownloadUrlBlacklistPort, DisposableBean {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(DownloadUrlBlacklistCacheAdapter.class);
+
+    static final String CACHE_NAME = "download-blacklist";
 
     private static final String KEY_PREFIX = "fileflow:download:blacklist::";
+    private static final String VERSION_KEY = "fileflow:download:blacklist:version";
+    private static final int DIGEST_HEX_LENGTH = 64;
+    private static final int SCAN_BATCH_SIZE = 1_000;
+    private static final long AWAIT_TERMINATION_SECONDS = 5;
+    private static final HexFormat HEX = HexFormat.of();
 
     private final StringRedisTemplate redisTemplate;
+    private final NearCacheRegistry nearCacheRegistry;
+    private final DownloadUrlBlacklistLocalFilter localFilter;
+    private final ScheduledExecutorService scheduler;
+    private final long rebuildIntervalMillis;
+    private final AtomicBoolean rebuildStarted = new AtomicBoolean();
+    private String builtVersion;
 
-    public DownloadUrlBlacklistCacheAdapter(StringRedisTemplate redisTemplate) {
+    @Autowired
+    public DownloadUrlBlacklistCacheAdapter(
+            StringRedisTemplate redisTemplate,
+            DownloadUrlBlacklistFilterProperties properties,
+            NearCacheRegistry nearCacheRegistry) {
+        this(
+                redisTemplate,
+                properties,
+                nearCacheRegistry,
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform()
+                                .name("download-blacklist-filter")
+                                .daemon(true)
+                                .factory()));
+    }
+
+    DownloadUrlBlacklistCacheAdapter(
+            StringRedisTemplate redisTemplate,
+            DownloadUrlBlacklistFilterProperties properties,
+            NearCacheRegistry nearCacheRegistry,
+            ScheduledExecutorService scheduler) {
         this.redisTemplate = redisTemplate;
+        this.nearCacheRegistry = nearCacheRegistry;
+        this.localFilter =
+                properties.enabled()
+                        ? new DownloadUrlBlacklistLocalFilter(
+                                properties,
+                                nearCacheRegistry.<Boolean>register(CACHE_NAME).orElse(null))
+                        : null;
+        this.scheduler = scheduler;
+        this.rebuildIntervalMillis = properties.rebuildInterval().toMillis();
+        if (localFilter != null) {
+            nearCacheRegistry.onEvict(CACHE_NAME, this::onRegistered);
+        }
     }
 
     @Override
     public void register(String sourceUrl, String reason, Duration ttl) {
-        String key = generateKey(sourceUrl);
-        redisTemplate.opsForValue().set(key, reason, ttl);
+        byte[] digest = sha256(sourceUrl);
+        String digestHex = HEX.formatHex(digest);
+        redisTemplate.opsForValue().set(KEY_PREFIX + digestHex, reason, ttl);
+        redisTemplate.opsForValue().increment(VERSION_KEY);
+        if (localFilter != null) {
+            localFilter.add(digest, digestHex);
+        }
+        nearCacheRegistry.publishEvict(CACHE_NAME, digestHex);
     }
 
     @Override
     public boolean isBlacklisted(String sourceUrl) {
-        String key = generateKey(sourceUrl);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        byte[] digest = sha256(sourceUrl);
+        String digestHex = HEX.formatHex(digest);
+        if (localFilter == null) {
+            return hasKey(digestHex);
+        }
+        startRebuild();
+        boolean candidate = localFilter.mightBeBlacklisted(digest, digestHex);
+        nearCacheRegistry.recordRequest(CACHE_NAME, LOCAL_TIER, !candidate);
+        if (!candidate) {
+            return false;
+        }
+        long generation = localFilter.generation();
+        boolean blacklisted = hasKey(digestHex);
+        if (!blacklisted) {
+            localFilter.recordNegative(digestHex, generation);
+        }
+        return blacklisted;
     }
 
-    private String generateKey(String sourceUrl) {
-        return KEY_PREFIX + sha256(sourceUrl);
+    /** 로컬 필터를 통과하지 못한 URL만 모아 EXISTS를 파이프라인 한 번으로 보냅니다. */
+    @Override
+    public Set<String> findBlacklisted(Collection<String> sourceUrls) {
+        if (localFilter != null) {
+            startRebuild();
+        }
+        Map<String, String> candidates = new LinkedHashMap<>();
+        int localHits = 0;
+        for (String sourceUrl : sourceUrls) {
+            if (candidates.containsKey(sourceUrl)) {
+                continue;
+            }
+            byte[] digest = sha256(sourceUrl);
+            String digestHex = HEX.formatHex(digest);
+            if (localFilter == null || localFilter.mightBeBlacklisted(digest, digestHex)) {
+                candidates.put(sourceUrl, digestHex);
+            } else {
+                localHits++;
+            }
+        }
+        if (localFilter != null) {
+            nearCacheRegistry.recordRequests(CACHE_NAME, LOCAL_TIER, true, localHits);
+            nearCacheRegistry.recordRequests(CACHE_NAME, LOCAL_TIER, false, candidates.size());
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        long generation = localFilter != null ? localFilter.generation() : 0;
+        List<Object> exists =
+                redisTemplate.executePipelined(
+                        (RedisCallback<Object>)
+                                connection -> {
+                                    StringRedisConnection commands =
+                                            (StringRedisConnection) connection;
+                                    for (String digestHex : candidates.values()) {
+                                        commands.exists(KEY_PREFIX + digestHex);
+                                    }
+                                    return null;
+                                });
+
+        Set<String> blacklisted = new HashSet<>();
+        int index = 0;
+        for (Map.Entry<String, String> candidate : candidates.entrySet()) {
+            if (Boolean.TRUE.equals(exists.get(index++))) {
+                blacklisted.add(candidate.getKey());
+            } else if (localFilter != null) {
+                localFilter.recordNegative(candidate.getValue(), generation);
+            }
+        }
+        nearCacheRegistry.recordRequests(CACHE_NAME, REDIS_TIER, true, blacklisted.size());
+        nearCacheRegistry.recordRequests(
+                CACHE_NAME, REDIS_TIER, false, candidates.size() - blacklisted.size());
+        return blacklisted;
     }
 
-    private String sha256(String input) {
+    /**
+     * 블랙리스트 버전이 마지막 재구성 이후 바뀌었을 때만 Redis의 블랙리스트 키로 로컬 필터를 다시 만듭니다. 버전을 키보다 먼저 읽으므로, 읽는 사이
+     * 들어온 등록은 다음 주기에 다시 반영됩니다. 실패하면 이전 필터를 유지합니다.
+     */
+    void rebuild() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hex = new StringBuilder();
-            for (byte b : hash) {
-                hex.append(String.format("%02x", b));
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            if (localFilter.isBuilt() && Objects.equals(version, builtVersion)) {
+                localFilter.markFresh();
+                return;
             }
-            return hex.toString();
+            localFilter.beginRebuild();
+            List<byte[]> digests = scanDigests();
+            localFilter.replace(digests);
+            builtVersion = version;
+            log.debug("URL 블랙리스트 로컬 필터 재구성: count={}, version={}", digests.size(), version);
+        } catch (RuntimeException e) {
+            log.warn("URL 블랙리스트 로컬 필터 재구성 실패 (이전 필터 유지): error={}", e.getMessage());
+        }
+    }
+
+    /** 다른 인스턴스(또는 자신)의 등록 전파를 받아 필터에 더합니다. */
+    private void onRegistered(String digestHex) {
+        if (digestHex.length() != DIGEST_HEX_LENGTH) {
+            return;
+        }
+        try {
+            localFilter.add(HEX.parseHex(digestHex), digestHex);
+        } catch (IllegalArgumentException e) {
+            log.debug("URL 블랙리스트 전파 형식 오류 (무시): digest={}", digestHex);
+        }
+    }
+
+    private void startRebuild() {
+        if (rebuildStarted.get() || !rebuildStarted.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.scheduleWithFixedDelay(
+                    this::rebuild, 0, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("종료 중이므로 URL 블랙리스트 로컬 필터 재구성 예약 생략");
+        }
+    }
+
+    private List<byte[]> scanDigests() {
+        ScanOptions options =
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        List<byte[]> digests = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.length() != KEY_PREFIX.length() + DIGEST_HEX_LENGTH) {
+                    continue;
+                }
+                try {
+                    digests.add(HEX.parseHex(key, KEY_PREFIX.length(), key.length()));
+                } catch (IllegalArgumentException e) {
+                    log.debug("URL 블랙리스트 키 형식 오류 (필터에서 제외): key={}", key);
+                }
+            }
+        }
+        return digests;
+    }
+
+    private boolean hasKey(String digestHex) {
+        boolean exists = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + digestHex));
+        nearCacheRegistry.recordRequest(CACHE_NAME, REDIS_TIER, exists);
+        return exists;
+    }
+
+    private byte[] sha256(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(input.getBytes(StandardCharsets.UTF_8));
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 algorithm not available", e);
         }
     }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(AWAIT_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+            scheduler.shutdownNow();
+        }
+    }
 }
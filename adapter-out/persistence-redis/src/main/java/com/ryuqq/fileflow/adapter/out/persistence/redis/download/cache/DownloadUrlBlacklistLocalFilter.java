@@ -0,0 +1,133 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.download.cache;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BoundedLocalCache;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.download.config.DownloadUrlBlacklistFilterProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 다운로드 URL 블랙리스트의 로컬 앞단 필터.
+ *
+ * <p>주기적으로 다시 만드는 Bloom filter로 "확실히 없음"을 Redis 없이 판정하고, 필터 오탐으로 Redis까지 갔다가 없음으로 확인된 URL은 작은
+ * negative cache에 기억합니다. negative cache는 near-cache 레지스트리에 등록된 캐시라 크기와 TTL을 캐시 이름별로 설정하고, 필터를 다시
+ * 만들거나 어느 인스턴스에서든 등록이 일어나면 비웁니다. 설정에서 꺼 두면 오탐 URL은 매번 Redis로 확인합니다.
+ *
+ * <p>재구성은 {@link #beginRebuild()}로 시작하고 {@link #replace}로 끝냅니다. 그 사이 {@link #add}로 들어온 다이제스트는 새
+ * 필터에도 더하므로, 목록을 읽는 동안 등록된 URL이 빠지지 않습니다.
+ *
+ * <p>필터가 아직 만들어지지 않았거나 {@value #STALE_AFTER_INTERVALS}주기 넘게 재구성도 {@link #markFresh()}도 없어 오래되면
+ * 판정하지 않고 Redis 조회로 넘깁니다.
+ */
+public class DownloadUrlBlacklistLocalFilter {
+
+    static final int STALE_AFTER_INTERVALS = 3;
+
+    private final double falsePositiveRate;
+    private final Duration staleAfter;
+    private final Clock clock;
+    private final BoundedLocalCache<Boolean> negativeCache;
+    private volatile Snapshot snapshot;
+    private List<byte[]> addedDuringRebuild;
+
+    /** @param negativeCache 오탐 URL을 기억할 캐시. {@code null}이면 기억하지 않습니다 */
+    public DownloadUrlBlacklistLocalFilter(
+            DownloadUrlBlacklistFilterProperties properties,
+            BoundedLocalCache<Boolean> negativeCache) {
+        this(properties, negativeCache, Clock.systemUTC());
+    }
+
+    DownloadUrlBlacklistLocalFilter(
+            DownloadUrlBlacklistFilterProperties properties,
+            BoundedLocalCache<Boolean> negativeCache,
+            Clock clock) {
+        this.falsePositiveRate = properties.falsePositiveRate();
+        this.staleAfter = properties.rebuildInterval().multipliedBy(STALE_AFTER_INTERVALS);
+        this.clock = clock;
+        this.negativeCache = negativeCache;
+    }
+
+    /**
+     * Redis 확인이 필요한지 판정합니다.
+     *
+     * @return false이면 블랙리스트에 확실히 없음, true이면 Redis로 확인해야 함
+     */
+    public boolean mightBeBlacklisted(byte[] digest, String digestHex) {
+        Snapshot current = snapshot;
+        if (current == null || current.isStale(clock.instant(), staleAfter)) {
+            return true;
+        }
+        if (!current.filter().mightContain(digest)) {
+            return false;
+        }
+        return negativeCache == null || negativeCache.get(digestHex).isEmpty();
+    }
+
+    /** Redis 조회 전에 받아 두었다가 {@link #recordNegative}에 넘깁니다. */
+    public long generation() {
+        return negativeCache == null ? 0 : negativeCache.generation();
+    }
+
+    /** 조회하는 사이 재구성이나 등록이 없었을 때만 "없음"을 기억합니다. */
+    public void recordNegative(String digestHex, long generation) {
+        if (negativeCache != null) {
+            negativeCache.putIfUnchanged(digestHex, Boolean.TRUE, generation);
+        }
+    }
+
+    public void add(byte[] digest, String digestHex) {
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (current != null) {
+                current.filter().put(digest);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(digest);
+            }
+        }
+        if (negativeCache != null) {
+            negativeCache.evict(digestHex);
+        }
+    }
+
+    /** 재구성할 목록을 읽기 전에 호출합니다. 이후 {@link #add}로 들어온 다이제스트는 {@link #replace}에서 새 필터에 더합니다. */
+    public synchronized void beginRebuild() {
+        addedDuringRebuild = new ArrayList<>();
+    }
+
+    public void replace(Collection<byte[]> digests) {
+        UrlDigestBloomFilter filter = UrlDigestBloomFilter.of(digests, falsePositiveRate);
+        synchronized (this) {
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.forEach(filter::put);
+                addedDuringRebuild = null;
+            }
+            snapshot = new Snapshot(filter, clock.instant());
+        }
+        if (negativeCache != null) {
+            negativeCache.clear();
+        }
+    }
+
+    public boolean isBuilt() {
+        return snapshot != null;
+    }
+
+    /** 원본이 바뀌지 않았음을 확인했을 때 호출해, 다시 만들지 않고 현재 필터를 계속 씁니다. */
+    public synchronized void markFresh() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = new Snapshot(current.filter(), clock.instant());
+        }
+    }
+
+    private record Snapshot(UrlDigestBloomFilter filter, Instant verifiedAt) {
+
+        boolean isStale(Instant now, Duration staleAfter) {
+            return !now.isBefore(verifiedAt.plus(staleAfter));
+        }
+    }
+}
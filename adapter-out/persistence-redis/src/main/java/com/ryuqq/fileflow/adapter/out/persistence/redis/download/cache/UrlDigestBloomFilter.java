@@ -0,0 +1,88 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.download.cache;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트 전용 Bloom filter.
+ *
+ * <p>다이제스트가 이미 균등 분포이므로 별도 해시 없이 앞 16바이트를 두 개의 64비트 값으로 쪼개 이중 해싱(Kirsch–Mitzenmacher)으로 비트
+ * 위치를 구합니다. 조회는 락 없이 동작하고, {@link #put}은 재구성 사이에 들어온 항목을 더할 때만 씁니다.
+ */
+public final class UrlDigestBloomFilter {
+
+    private static final int MIN_EXPECTED_INSERTIONS = 1_024;
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private UrlDigestBloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray(Math.toIntExact(bitSize / Long.SIZE));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 다이제스트 목록으로 필터를 만듭니다. 재구성 사이에 추가될 항목을 위해 실제 개수의 두 배를 기준으로 크기를 잡습니다.
+     *
+     * @param digests SHA-256 다이제스트 목록 (각 32바이트)
+     * @param falsePositiveRate 목표 오탐률 (0 초과 1 미만)
+     */
+    public static UrlDigestBloomFilter of(Collection<byte[]> digests, double falsePositiveRate) {
+        long expected = Math.max((long) digests.size() * 2, MIN_EXPECTED_INSERTIONS);
+        long rawBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long bitSize = (rawBits + Long.SIZE - 1) / Long.SIZE * Long.SIZE;
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expected * LN2));
+        UrlDigestBloomFilter filter = new UrlDigestBloomFilter(bitSize, hashCount);
+        digests.forEach(filter::put);
+        return filter;
+    }
+
+    public void put(byte[] digest) {
+        long h1 = readLong(digest, 0);
+        long h2 = readLong(digest, Long.BYTES);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /** false이면 확실히 없고, true이면 있을 수도 있습니다. */
+    public boolean mightContain(byte[] digest) {
+        long h1 = readLong(digest, 0);
+        long h2 = readLong(digest, Long.BYTES);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.download.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 다운로드 URL 블랙리스트 로컬 필터 설정 프로퍼티.
+ *
+ * @param enabled 로컬 필터 사용 여부. 끄면 매번 Redis를 조회합니다 (기본값: true)
+ * @param rebuildInterval 블랙리스트 버전을 확인해 바뀌었으면 필터를 다시 만드는 주기. 등록 전파가 유실됐을 때 다른 인스턴스에 반영되기까지의
+ *     최대 지연이기도 합니다 (기본값: 10초)
+ * @param falsePositiveRate Bloom filter 목표 오탐률 (기본값: 0.01)
+ */
+@ConfigurationProperties(prefix = "fileflow.download.blacklist-filter")
+public record DownloadUrlBlacklistFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        Duration rebuildInterval,
+        double falsePositiveRate) {
+
+    public DownloadUrlBlacklistFilterProperties {
+        if (rebuildInterval == null || rebuildInterval.isZero() || rebuildInterval.isNegative()) {
+            rebuildInterval = Duration.ofSeconds(10);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            falsePositiveRate = 0.01;
+        }
+    }
+}
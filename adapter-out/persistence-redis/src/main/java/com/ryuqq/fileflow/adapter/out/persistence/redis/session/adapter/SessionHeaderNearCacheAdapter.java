@@ -0,0 +1,109 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.adapter;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BoundedLocalCache;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.MultipartSessionHeaderCacheData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionHeaderCacheData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SingleSessionCacheData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.mapper.SessionHeaderCacheMapper;
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 헤더 near-cache 어댑터.
+ *
+ * <p>{@link NearCacheRegistry}에 {@value #CACHE_NAME} 캐시로 등록하고 값은 인스턴스 메모리에만 둡니다. Redis는 무효화
+ * 메시지({@code session-header|sessionId|version}) 전파에만 사용합니다. 버전은 DB 컬럼 정밀도에 맞춰 마이크로초 단위로 비교합니다.
+ *
+ * <p>설정에서 꺼 둔 인스턴스는 항상 미스로 응답하지만, 무효화 전파는 그대로 합니다.
+ */
+@Component
+public class SessionHeaderNearCacheAdapter implements SessionHeaderCachePort {
+
+    static final String CACHE_NAME = "session-header";
+
+    private final SessionHeaderCacheMapper mapper;
+    private final NearCacheRegistry nearCacheRegistry;
+    private final BoundedLocalCache<SessionHeaderCacheData> localCache;
+
+    public SessionHeaderNearCacheAdapter(
+            SessionHeaderCacheMapper mapper, NearCacheRegistry nearCacheRegistry) {
+        this.mapper = mapper;
+        this.nearCacheRegistry = nearCacheRegistry;
+        this.localCache =
+                nearCacheRegistry.<SessionHeaderCacheData>register(CACHE_NAME).orElse(null);
+    }
+
+    @Override
+    public Optional<MultipartUploadSession> findMultipartHeader(MultipartUploadSessionId id) {
+        return find(id.value())
+                .flatMap(
+                        data ->
+                                data instanceof MultipartSessionHeaderCacheData multipart
+                                        ? Optional.of(mapper.toDomain(multipart))
+                                        : Optional.empty());
+    }
+
+    @Override
+    public void putMultipartHeader(MultipartUploadSession session) {
+        put(session.idValue(), mapper.toCacheData(session), session.updatedAt());
+    }
+
+    @Override
+    public Optional<SingleUploadSession> findSingle(SingleUploadSessionId id) {
+        return find(id.value())
+                .flatMap(
+                        data ->
+                                data instanceof SingleSessionCacheData single
+                                        ? Optional.of(mapper.toDomain(single))
+                                        : Optional.empty());
+    }
+
+    @Override
+    public void putSingle(SingleUploadSession session) {
+        put(session.idValue(), mapper.toCacheData(session), session.updatedAt());
+    }
+
+    @Override
+    public void invalidate(String sessionId, Instant version) {
+        Instant normalized = normalize(version);
+        if (localCache != null) {
+            localCache.evict(sessionId, normalized);
+        }
+        nearCacheRegistry.publishEvict(CACHE_NAME, sessionId, normalized);
+    }
+
+    @Override
+    public void clear() {
+        if (localCache != null) {
+            localCache.clear();
+        }
+    }
+
+    private Optional<SessionHeaderCacheData> find(String sessionId) {
+        if (localCache == null) {
+            return Optional.empty();
+        }
+        Optional<SessionHeaderCacheData> cached = localCache.get(sessionId);
+        nearCacheRegistry.recordRequest(
+                CACHE_NAME, NearCacheRegistry.LOCAL_TIER, cached.isPresent());
+        return cached;
+    }
+
+    private void put(String sessionId, SessionHeaderCacheData data, Instant version) {
+        if (localCache != null) {
+            localCache.put(sessionId, data, normalize(version));
+        }
+    }
+
+    private Instant normalize(Instant version) {
+        return version.truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -1,44 +1,117 @@
 package com.ryuqq.fileflow.adapter.out.persistence.redis.session.client;
 
 import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationRedisData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationWrite;
 import com.ryuqq.fileflow.adapter.out.persistence.redis.session.mapper.SessionExpirationRedisMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.writer.SessionExpirationPipelineWriter;
 import com.ryuqq.fileflow.application.session.port.out.client.SessionExpirationClient;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+/**
+ * 세션 만료 대기열 Redis 클라이언트.
+ *
+ * <p>세션 유형마다 Sorted Set 하나를 두고 만료 시각(epoch millis)을 score로 저장합니다. 선점은 Lua 스크립트로 만료 시각이 지난 항목을
+ * 가져오면서 score를 선점 만료 시각으로 옮기므로, 처리 도중 인스턴스가 죽어도 항목이 사라지지 않고 선점 시간이 지나면 다시 선점됩니다.
+ *
+ * <p>등록과 삭제는 요청 경로에서 호출되므로 {@link SessionExpirationPipelineWriter}에 넘겨 커밋 후 비동기로 모아 보냅니다. 선점과 확인은
+ * 스케줄러가 결과를 바로 써야 하므로 동기로 호출합니다.
+ */
 @Component
 public class SessionExpirationRedisClient implements SessionExpirationClient {
 
     private static final Logger log = LoggerFactory.getLogger(SessionExpirationRedisClient.class);
 
+    static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(
+                    """
+                    local ids = redis.call(
+                        'ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+                    for _, id in ipairs(ids) do
+                        redis.call('ZADD', KEYS[1], 'XX', ARGV[3], id)
+                    end
+                    return ids
+                    """,
+                    List.class);
+
     private final StringRedisTemplate redisTemplate;
     private final SessionExpirationRedisMapper mapper;
+    private final SessionExpirationPipelineWriter writer;
 
     public SessionExpirationRedisClient(
-            StringRedisTemplate redisTemplate, SessionExpirationRedisMapper mapper) {
+            StringRedisTemplate redisTemplate,
+            SessionExpirationRedisMapper mapper,
+            SessionExpirationPipelineWriter writer) {
         this.redisTemplate = redisTemplate;
         this.mapper = mapper;
+        this.writer = writer;
     }
 
     @Override
     public void registerExpiration(SessionExpiration expiration) {
-        SessionExpirationRedisData data = mapper.toRedisData(expiration);
+        SessionExpirationRedisData data = mapper.toRedisData(expiration, Instant.now());
+
+        log.debug(
+                "세션 만료 대기열 등록: key={}, sessionId={}, dueAt={}",
+                data.key(),
+                data.member(),
+                data.score());
+
+        writer.submit(List.of(SessionExpirationWrite.add(data)));
+    }
+
+    @Override
+    public void registerExpirations(List<SessionExpiration> expirations) {
+        Instant now = Instant.now();
+        List<SessionExpirationWrite> writes =
+                expirations.stream()
+                        .map(expiration -> mapper.toRedisData(expiration, now))
+                        .map(SessionExpirationWrite::add)
+                        .toList();
 
-        log.info(
-                "세션 만료 키 등록: key={}, sessionType={}, ttl={}", data.key(), data.value(), data.ttl());
+        log.debug("세션 만료 대기열 일괄 등록: count={}", writes.size());
 
-        redisTemplate.opsForValue().set(data.key(), data.value(), data.ttl());
+        writer.submit(writes);
     }
 
     @Override
     public void removeExpiration(String sessionType, String sessionId) {
-        String key = mapper.buildKey(sessionType, sessionId);
+        String key = mapper.buildKey(sessionType);
 
-        log.info("세션 만료 키 삭제: key={}", key);
+        log.debug("세션 만료 대기열 삭제: key={}, sessionId={}", key, sessionId);
 
-        redisTemplate.delete(key);
+        writer.submit(List.of(SessionExpirationWrite.remove(key, sessionId)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> claimDueExpirations(String sessionType, Instant now, int limit) {
+        String key = mapper.buildKey(sessionType);
+        List<String> claimed =
+                redisTemplate.execute(
+                        CLAIM_SCRIPT,
+                        List.of(key),
+                        String.valueOf(now.toEpochMilli()),
+                        String.valueOf(limit),
+                        String.valueOf(now.plus(CLAIM_LEASE).toEpochMilli()));
+        return claimed != null ? claimed : List.of();
+    }
+
+    @Override
+    public void acknowledgeExpirations(String sessionType, List<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(mapper.buildKey(sessionType), sessionIds.toArray());
     }
 }
@@ -0,0 +1,32 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 세션 만료 대기열 쓰기 버퍼 설정 프로퍼티.
+ *
+ * @param flushDelay 첫 쓰기 이후 모아서 보내기까지 기다리는 시간 (기본값: 5ms)
+ * @param maxBatchSize 파이프라인 한 번에 보내는 최대 명령 수 (기본값: 500)
+ * @param retryDelay Redis 실패 후 재시도까지 기다리는 시간 (기본값: 1초)
+ * @param maxPending 버퍼에 쌓아 둘 최대 명령 수. 넘치면 오래된 명령부터 버립니다 (기본값: 100,000)
+ */
+@ConfigurationProperties(prefix = "fileflow.session.expiration-writer")
+public record SessionExpirationWriterProperties(
+        Duration flushDelay, int maxBatchSize, Duration retryDelay, int maxPending) {
+
+    public SessionExpirationWriterProperties {
+        if (flushDelay == null || flushDelay.isNegative()) {
+            flushDelay = Duration.ofMillis(5);
+        }
+        if (maxBatchSize <= 0) {
+            maxBatchSize = 500;
+        }
+        if (retryDelay == null || retryDelay.isZero() || retryDelay.isNegative()) {
+            retryDelay = Duration.ofSeconds(1);
+        }
+        if (maxPending <= 0) {
+            maxPending = 100_000;
+        }
+    }
+}
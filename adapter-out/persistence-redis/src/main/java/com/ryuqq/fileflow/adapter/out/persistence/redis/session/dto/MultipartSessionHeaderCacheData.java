@@ -0,0 +1,19 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto;
+
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import com.ryuqq.fileflow.domain.session.vo.UploadTarget;
+import java.time.Instant;
+
+/** near-cache에 보관하는 멀티파트 세션 헤더 스냅샷. 완료 파트 목록은 담지 않습니다. */
+public record MultipartSessionHeaderCacheData(
+        String sessionId,
+        UploadTarget uploadTarget,
+        String uploadId,
+        long partSize,
+        String purpose,
+        String source,
+        MultipartSessionStatus status,
+        Instant expiresAt,
+        Instant createdAt,
+        Instant updatedAt)
+        implements SessionHeaderCacheData {}
@@ -1,5 +1,10 @@
 package com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto;
 
-import java.time.Duration;
-
-public record SessionExpirationRedisData(String key, String value, Duration ttl) {}
+/**
+ * 세션 만료 대기열(Sorted Set) 항목.
+ *
+ * @param key 세션 유형별 대기열 키
+ * @param member 세션 ID
+ * @param score 만료 시각 (epoch millis)
+ */
+public record SessionExpirationRedisData(String key, String member, long score) {}
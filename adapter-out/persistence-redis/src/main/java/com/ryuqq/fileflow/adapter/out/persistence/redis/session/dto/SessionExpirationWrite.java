@@ -0,0 +1,30 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto;
+
+/**
+ * 세션 만료 대기열 쓰기 명령 (ZADD 또는 ZREM).
+ *
+ * @param operation 쓰기 종류
+ * @param key 세션 유형별 대기열 키
+ * @param member 세션 ID
+ * @param score 만료 시각 (epoch millis, REMOVE에서는 사용하지 않음)
+ */
+public record SessionExpirationWrite(Operation operation, String key, String member, long score) {
+
+    public enum Operation {
+        ADD,
+        REMOVE
+    }
+
+    public static SessionExpirationWrite add(SessionExpirationRedisData data) {
+        return new SessionExpirationWrite(Operation.ADD, data.key(), data.member(), data.score());
+    }
+
+    public static SessionExpirationWrite remove(String key, String member) {
+        return new SessionExpirationWrite(Operation.REMOVE, key, member, 0L);
+    }
+
+    /** 같은 대기열의 같은 세션에 대한 쓰기는 마지막 것만 의미가 있습니다. */
+    public String target() {
+        return key + ":" + member;
+    }
+}
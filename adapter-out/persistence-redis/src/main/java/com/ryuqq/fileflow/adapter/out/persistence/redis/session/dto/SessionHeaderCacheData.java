@@ -0,0 +1,5 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto;
+
+/** near-cache에 보관하는 세션 스냅샷. 두 세션 유형이 한 캐시와 한 무효화 메시지를 공유합니다. */
+public sealed interface SessionHeaderCacheData
+        permits MultipartSessionHeaderCacheData, SingleSessionCacheData {}
@@ -0,0 +1,18 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto;
+
+import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
+import com.ryuqq.fileflow.domain.session.vo.UploadTarget;
+import java.time.Instant;
+
+/** near-cache에 보관하는 단건 업로드 세션 스냅샷. */
+public record SingleSessionCacheData(
+        String sessionId,
+        UploadTarget uploadTarget,
+        String presignedUrl,
+        String purpose,
+        String source,
+        SingleSessionStatus status,
+        Instant expiresAt,
+        Instant createdAt,
+        Instant updatedAt)
+        implements SessionHeaderCacheData {}
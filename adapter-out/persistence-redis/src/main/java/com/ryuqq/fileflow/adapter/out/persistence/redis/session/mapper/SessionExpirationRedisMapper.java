@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.adapter.out.persistence.redis.session.mapper;
 
 import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationRedisData;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
+import java.time.Instant;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -9,14 +10,14 @@ public class SessionExpirationRedisMapper {
 
     private static final String KEY_PREFIX = "session:expiration:";
 
-    public SessionExpirationRedisData toRedisData(SessionExpiration expiration) {
+    public SessionExpirationRedisData toRedisData(SessionExpiration expiration, Instant now) {
         return new SessionExpirationRedisData(
-                buildKey(expiration.sessionType(), expiration.sessionId()),
-                expiration.sessionType(),
-                expiration.ttl());
+                buildKey(expiration.sessionType()),
+                expiration.sessionId(),
+                now.plus(expiration.ttl()).toEpochMilli());
     }
 
-    public String buildKey(String sessionType, String sessionId) {
-        return KEY_PREFIX + sessionType + ":" + sessionId;
+    public String buildKey(String sessionType) {
+        return KEY_PREFIX + sessionType;
     }
 }
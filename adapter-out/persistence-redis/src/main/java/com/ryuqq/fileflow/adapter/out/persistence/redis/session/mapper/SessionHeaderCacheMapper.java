@@ -0,0 +1,74 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.mapper;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.MultipartSessionHeaderCacheData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SingleSessionCacheData;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 Aggregate와 near-cache 스냅샷 간 변환.
+ *
+ * <p>Aggregate는 가변 객체이므로 캐시에는 스냅샷만 보관하고, 조회할 때마다 새 인스턴스로 복원합니다.
+ */
+@Component
+public class SessionHeaderCacheMapper {
+
+    public MultipartSessionHeaderCacheData toCacheData(MultipartUploadSession session) {
+        return new MultipartSessionHeaderCacheData(
+                session.idValue(),
+                session.uploadTarget(),
+                session.uploadId(),
+                session.partSize(),
+                session.purposeValue(),
+                session.sourceValue(),
+                session.status(),
+                session.expiresAt(),
+                session.createdAt(),
+                session.updatedAt());
+    }
+
+    public MultipartUploadSession toDomain(MultipartSessionHeaderCacheData data) {
+        return MultipartUploadSession.reconstitute(
+                MultipartUploadSessionId.of(data.sessionId()),
+                data.uploadTarget(),
+                data.uploadId(),
+                data.partSize(),
+                data.purpose(),
+                data.source(),
+                data.status(),
+                data.expiresAt(),
+                data.createdAt(),
+                data.updatedAt(),
+                List.of());
+    }
+
+    public SingleSessionCacheData toCacheData(SingleUploadSession session) {
+        return new SingleSessionCacheData(
+                session.idValue(),
+                session.uploadTarget(),
+                session.presignedUrlValue(),
+                session.purposeValue(),
+                session.sourceValue(),
+                session.status(),
+                session.expiresAt(),
+                session.createdAt(),
+                session.updatedAt());
+    }
+
+    public SingleUploadSession toDomain(SingleSessionCacheData data) {
+        return SingleUploadSession.reconstitute(
+                SingleUploadSessionId.of(data.sessionId()),
+                data.uploadTarget(),
+                data.presignedUrl(),
+                data.purpose(),
+                data.source(),
+                data.status(),
+                data.expiresAt(),
+                data.createdAt(),
+                data.updatedAt());
+    }
+}
@@ -0,0 +1,264 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.writer;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.config.SessionExpirationWriterProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationWrite;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 세션 만료 대기열 쓰기를 모아 파이프라인 한 번으로 보내는 비동기 writer.
+ *
+ * <p>요청 스레드는 Redis를 기다리지 않습니다. 첫 쓰기가 들어오면 {@code flushDelay} 뒤에 flush가 예약되고, 그 사이에 들어온 쓰기는
+ * 같은 파이프라인에 실립니다. 같은 세션에 대한 쓰기는 마지막 것만 보냅니다.
+ *
+ * <p>전달 보장 (at-least-once):
+ *
+ * <ul>
+ *   <li>트랜잭션 안에서 호출되면 커밋 후에만 버퍼에 넣습니다. 롤백되면 보내지 않습니다.
+ *   <li>Redis 호출이 실패하면 명령을 버퍼 앞쪽에 되돌리고 {@code retryDelay} 뒤에 다시 보냅니다. ZADD/ZREM은 멱등이므로 중복 전송해도
+ *       결과가 같습니다.
+ *   <li>애플리케이션 종료 시 남은 명령을 모두 보냅니다. 프로세스가 비정상 종료되어 유실된 등록은 DB 기준 만료 복구 스케줄러가 처리합니다.
+ * </ul>
+ *
+ * <p>Redis 장애가 길어져도 메모리가 끝없이 늘지 않도록 버퍼는 {@code maxPending}개까지만 보관하고, 넘치면 가장 오래된 명령부터 버린 뒤
+ * {@code session_expiration_writes_dropped_total} 메트릭을 남깁니다. 버린 등록은 DB 기준 만료 복구 스케줄러가, 버린 제거는 만료
+ * 처리의 상태 조건이 걸러 냅니다.
+ */
+@Component
+public class SessionExpirationPipelineWriter implements DisposableBean {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SessionExpirationPipelineWriter.class);
+    private static final long AWAIT_TERMINATION_SECONDS = 5;
+    private static final String DROPPED_METRIC = "session_expiration_writes_dropped_total";
+
+    private final StringRedisTemplate redisTemplate;
+    private final FileFlowMetrics metrics;
+    private final ScheduledExecutorService scheduler;
+    private final long flushDelayMillis;
+    private final long retryDelayMillis;
+    private final int maxBatchSize;
+    private final int maxPending;
+
+    private final Deque<SessionExpirationWrite> pending = new ArrayDeque<>();
+    private boolean flushScheduled;
+
+    @Autowired
+    public SessionExpirationPipelineWriter(
+            StringRedisTemplate redisTemplate,
+            SessionExpirationWriterProperties properties,
+            FileFlowMetrics metrics) {
+        this(
+                redisTemplate,
+                properties,
+                metrics,
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform()
+                                .name("session-expiration-writer")
+                                .daemon(true)
+                                .factory()));
+    }
+
+    SessionExpirationPipelineWriter(
+            StringRedisTemplate redisTemplate,
+            SessionExpirationWriterProperties properties,
+            FileFlowMetrics metrics,
+            ScheduledExecutorService scheduler) {
+        this.redisTemplate = redisTemplate;
+        this.metrics = metrics;
+        this.scheduler = scheduler;
+        this.flushDelayMillis = properties.flushDelay().toMillis();
+        this.retryDelayMillis = properties.retryDelay().toMillis();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.maxPending = properties.maxPending();
+    }
+
+    /**
+     * 쓰기 명령을 버퍼에 넣습니다. 트랜잭션 안이면 커밋 후에 넣습니다.
+     *
+     * @param writes 쓰기 명령 목록
+     */
+    public void submit(List<SessionExpirationWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(writes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        enqueue(writes);
+                    }
+                });
+    }
+
+    private void enqueue(List<SessionExpirationWrite> writes) {
+        int dropped;
+        boolean scheduleFlush;
+        synchronized (pending) {
+            pending.addAll(writes);
+            dropped = dropOverflow();
+            scheduleFlush = !flushScheduled;
+            flushScheduled = true;
+        }
+        recordDropped(dropped);
+        if (scheduleFlush) {
+            schedule(flushDelayMillis);
+        }
+    }
+
+    private void schedule(long delayMillis) {
+        try {
+            scheduler.schedule(this::flushAndReschedule, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("종료 중이므로 flush 예약 생략, 남은 명령은 종료 처리에서 전송: pending={}", pendingCount());
+        }
+    }
+
+    private void flushAndReschedule() {
+        boolean sent = flush();
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                flushScheduled = false;
+                return;
+            }
+        }
+        schedule(sent ? 0 : retryDelayMillis);
+    }
+
+    /**
+     * 버퍼에서 최대 {@code maxBatchSize}개를 꺼내 파이프라인 한 번으로 보냅니다.
+     *
+     * @return 전송에 성공했거나 보낼 명령이 없으면 true, Redis 호출이 실패해 명령을 되돌렸으면 false
+     */
+    boolean flush() {
+        List<SessionExpirationWrite> batch = drain();
+        if (batch.isEmpty()) {
+            return true;
+        }
+        Collection<SessionExpirationWrite> coalesced = coalesce(batch);
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                StringRedisConnection commands = (StringRedisConnection) connection;
+                                for (SessionExpirationWrite write : coalesced) {
+                                    switch (write.operation()) {
+                                        case ADD ->
+                                                commands.zAdd(
+                                                        write.key(), write.score(), write.member());
+                                        case REMOVE -> commands.zRem(write.key(), write.member());
+                                    }
+                                }
+                                return null;
+                            });
+            log.debug(
+                    "세션 만료 대기열 파이프라인 전송: received={}, sent={}",
+                    batch.size(),
+                    coalesced.size());
+            return true;
+        } catch (RuntimeException e) {
+            int dropped = restore(batch);
+            recordDropped(dropped);
+            log.warn(
+                    "세션 만료 대기열 파이프라인 전송 실패, 재시도 예정: count={}, dropped={}",
+                    batch.size(),
+                    dropped,
+                    e);
+            return false;
+        }
+    }
+
+    private List<SessionExpirationWrite> drain() {
+        synchronized (pending) {
+            int size = Math.min(pending.size(), maxBatchSize);
+            List<SessionExpirationWrite> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(pending.pollFirst());
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * 실패한 명령을 이후에 들어온 명령보다 앞에 되돌려 순서를 유지합니다.
+     *
+     * @return 용량을 넘어 버린 명령 수
+     */
+    private int restore(List<SessionExpirationWrite> batch) {
+        synchronized (pending) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+            return dropOverflow();
+        }
+    }
+
+    /** {@code pending} 잠금을 잡은 상태에서 호출합니다. 용량을 넘은 만큼 가장 오래된 명령부터 버립니다. */
+    private int dropOverflow() {
+        int dropped = 0;
+        while (pending.size() > maxPending) {
+            pending.pollFirst();
+            dropped++;
+        }
+        return dropped;
+    }
+
+    private void recordDropped(int dropped) {
+        if (dropped > 0) {
+            metrics.incrementCounter(DROPPED_METRIC, dropped);
+        }
+    }
+
+    private static Collection<SessionExpirationWrite> coalesce(List<SessionExpirationWrite> batch) {
+        Map<String, SessionExpirationWrite> latest = new LinkedHashMap<>();
+        for (SessionExpirationWrite write : batch) {
+            latest.remove(write.target());
+            latest.put(write.target(), write);
+        }
+        return latest.values();
+    }
+
+    int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(AWAIT_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+            scheduler.shutdownNow();
+        }
+        while (pendingCount() > 0) {
+            if (!flush()) {
+                log.error("종료 중 세션 만료 대기열 전송 실패: remaining={}", pendingCount());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.transform.adapter;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.TwoLevelBinaryCacheAdapter;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.transform.codec.TransformRequestCacheCodec;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.transform.config.TransformRequestCacheProperties;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransformRequestCacheAdapter extends TwoLevelBinaryCacheAdapter<TransformRequest> {
+
+    static final String CACHE_NAME = "transform-request";
+
+    public TransformRequestCacheAdapter(
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            TransformRequestCacheCodec codec,
+            TransformRequestCacheProperties properties,
+            NearCacheRegistry nearCacheRegistry) {
+        super(binaryRedisTemplate, codec, properties.ttl(), CACHE_NAME, nearCacheRegistry);
+    }
+}
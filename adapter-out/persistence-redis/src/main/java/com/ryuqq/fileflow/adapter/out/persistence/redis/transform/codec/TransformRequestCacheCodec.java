@@ -0,0 +1,104 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.transform.codec;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BinaryCacheCodec;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.CompactBinaryReader;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.CompactBinaryWriter;
+import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
+import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
+import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
+import com.ryuqq.fileflow.domain.transform.vo.TransformType;
+import org.springframework.stereotype.Component;
+
+/** 변환 요청 캐시 codec. nullable 정수는 {@code 값+1}로 기록하며 0은 null을 뜻합니다. */
+@Component
+public class TransformRequestCacheCodec implements BinaryCacheCodec<TransformRequest> {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    @Override
+    public byte[] encode(TransformRequest request) {
+        TransformParams params = request.params();
+        CompactBinaryWriter writer =
+                new CompactBinaryWriter(INITIAL_BUFFER_SIZE)
+                        .writeByte(FORMAT_VERSION)
+                        .writeString(request.idValue())
+                        .writeString(request.sourceAssetIdValue())
+                        .writeString(request.sourceContentType())
+                        .writeEnum(request.type());
+        writeNullableInt(writer, params.width());
+        writeNullableInt(writer, params.height());
+        writer.writeByte(params.maintainAspectRatio() ? 1 : 0)
+                .writeString(params.targetFormat());
+        writeNullableInt(writer, params.quality());
+        return writer.writeString(request.callbackUrl())
+                .writeString(request.fingerprintValue())
+                .writeString(request.coalescedIntoValue())
+                .writeEnum(request.status())
+                .writeString(request.resultAssetIdValue())
+                .writeString(request.lastError())
+                .writeInstant(request.createdAt())
+                .writeInstant(request.updatedAt())
+                .writeInstant(request.completedAt())
+                .writeVarLong(request.version())
+                .toByteArray();
+    }
+
+    @Override
+    public TransformRequest decode(byte[] bytes) {
+        CompactBinaryReader reader = new CompactBinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException(
+                    "Unsupported transform request cache format: " + version);
+        }
+        TransformRequestId id = TransformRequestId.of(reader.readString());
+        AssetId sourceAssetId = AssetId.of(reader.readString());
+        String sourceContentType = reader.readString();
+        TransformType type = reader.readEnum(TransformType.class);
+        TransformParams params =
+                new TransformParams(
+                        readNullableInt(reader),
+                        readNullableInt(reader),
+                        reader.readByte() == 1,
+                        reader.readString(),
+                        readNullableInt(reader));
+        String callbackUrl = reader.readString();
+        String fingerprint = reader.readString();
+        String coalescedInto = reader.readString();
+        TransformStatus status = reader.readEnum(TransformStatus.class);
+        String resultAssetId = reader.readString();
+        TransformRequest request =
+                TransformRequest.reconstitute(
+                        id,
+                        sourceAssetId,
+                        sourceContentType,
+                        type,
+                        params,
+                        callbackUrl,
+                        fingerprint == null ? null : TransformFingerprint.of(fingerprint),
+                        coalescedInto == null ? null : TransformRequestId.of(coalescedInto),
+                        status,
+                        resultAssetId == null ? null : AssetId.of(resultAssetId),
+                        reader.readString(),
+                        reader.readInstant(),
+                        reader.readInstant(),
+                        reader.readInstant(),
+                        reader.readVarLong());
+        reader.expectFullyRead();
+        return request;
+    }
+
+    private static void writeNullableInt(CompactBinaryWriter writer, Integer value) {
+        writer.writeVarLong(value == null ? 0 : value + 1L);
+    }
+
+    private static Integer readNullableInt(CompactBinaryReader reader) {
+        long value = reader.readVarLong();
+        return value == 0 ? null : Math.toIntExact(value - 1);
+    }
+}
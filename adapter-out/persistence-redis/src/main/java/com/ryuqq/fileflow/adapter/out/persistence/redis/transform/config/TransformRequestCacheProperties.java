@@ -0,0 +1,21 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.transform.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 변환 요청 Redis 캐시 설정 프로퍼티.
+ *
+ * <p>완료·실패로 끝난 요청만 캐싱합니다.
+ *
+ * @param ttl 항목 보관 시간. 무효화가 유실됐을 때의 최대 지연이기도 합니다 (기본값: 10분)
+ */
+@ConfigurationProperties(prefix = "fileflow.transform.cache")
+public record TransformRequestCacheProperties(Duration ttl) {
+
+    public TransformRequestCacheProperties {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            ttl = Duration.ofMinutes(10);
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.asset.codec.AssetCacheCodec;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.asset.config.AssetCacheProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.config.NearCacheProperties;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AssetCacheAdapter 단위 테스트")
+class AssetCacheAdapterTest {
+
+    private static final String KEY = "cache:asset:asset-recon-001";
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final String CHANNEL = "fileflow:cache:invalidation";
+
+    private final AssetCacheCodec codec = new AssetCacheCodec();
+
+    private AssetCacheAdapter sut;
+    @Mock private RedisTemplate<String, byte[]> redisTemplate;
+    @Mock private ValueOperations<String, byte[]> valueOperations;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private FileFlowMetrics metrics;
+
+    private NearCacheRegistry nearCacheRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sut = createAdapter(true);
+    }
+
+    private AssetCacheAdapter createAdapter(boolean nearCacheEnabled) {
+        NearCacheProperties nearCacheProperties =
+                new NearCacheProperties(
+                        CHANNEL,
+                        Map.of(
+                                AssetCacheAdapter.CACHE_NAME,
+                                new NearCacheProperties.Spec(
+                                        nearCacheEnabled, 100, Duration.ofSeconds(30))));
+        nearCacheRegistry =
+                new NearCacheRegistry(stringRedisTemplate, nearCacheProperties, metrics);
+        return new AssetCacheAdapter(
+                redisTemplate, codec, new AssetCacheProperties(TTL), nearCacheRegistry);
+    }
+
+    @Nested
+    @DisplayName("set 메서드")
+    class SetTest {
+
+        @Test
+        @DisplayName("TTL을 지정하지 않으면 설정된 기본 TTL로 바이너리 값을 저장한다")
+        void set_WithoutTtl_UsesDefaultTtl() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            // when
+            sut.set(KEY, asset);
+
+            // then
+            then(valueOperations).should().set(KEY, codec.encode(asset), TTL);
+        }
+
+        @Test
+        @DisplayName("Redis 오류가 나도 예외를 던지지 않는다")
+        void set_RedisFails_DoesNotThrow() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            willThrow(new RedisConnectionFailureException("redis down"))
+                    .given(valueOperations)
+                    .set(eq(KEY), any(byte[].class), eq(TTL));
+
+            // when & then
+            assertThatCode(() -> sut.set(KEY, AssetFixture.aReconstitutedAsset()))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("get 메서드")
+    class GetTest {
+
+        @Test
+        @DisplayName("저장된 값을 디코딩해 반환한다")
+        void get_Hit_ReturnsDecodedAsset() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn(codec.encode(asset));
+
+            // when
+            Optional<Asset> result = sut.get(KEY);
+
+            // then
+            assertThat(result).get().usingRecursiveComparison().isEqualTo(asset);
+        }
+
+        @Test
+        @DisplayName("키가 없으면 빈 값을 반환한다")
+        void get_Miss_ReturnsEmpty() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn(null);
+
+            // when & then
+            assertThat(sut.get(KEY)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("디코딩할 수 없는 값은 캐시 미스로 처리한다")
+        void get_CorruptedValue_ReturnsEmpty() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn(new byte[] {99, 1, 2});
+
+            // when & then
+            assertThat(sut.get(KEY)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Redis 오류는 캐시 미스로 처리한다")
+        void get_RedisFails_ReturnsEmpty() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+
+            // when & then
+            assertThat(sut.get(KEY)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 메서드")
+    class EvictTest {
+
+        @Test
+        @DisplayName("키를 삭제한다")
+        void evict_DeletesKey() {
+            // when
+            sut.evict(KEY);
+
+            // then
+            then(redisTemplate).should().delete(KEY);
+        }
+
+        @Test
+        @DisplayName("Redis 오류가 나도 예외를 던지지 않는다")
+        void evict_RedisFails_DoesNotThrow() {
+            // given
+            given(redisTemplate.delete(KEY))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+
+            // when & then
+            assertThatCode(() -> sut.evict(KEY)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictByPattern 메서드")
+    class EvictByPatternTest {
+
+        @Test
+        @DisplayName("SCAN으로 찾은 키를 모아 삭제한다")
+        @SuppressWarnings("unchecked")
+        void evictByPattern_DeletesScannedKeys() {
+            // given
+            Cursor<String> cursor = mock(Cursor.class);
+            given(cursor.hasNext()).willReturn(true, true, false);
+            given(cursor.next()).willReturn("cache:asset:a", "cache:asset:b");
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+            // when
+            sut.evictByPattern("cache:asset:*");
+
+            // then
+            then(redisTemplate).should().delete(List.of("cache:asset:a", "cache:asset:b"));
+            then(cursor).should().close();
+        }
+
+        @Test
+        @DisplayName("일치하는 키가 없으면 삭제하지 않는다")
+        @SuppressWarnings("unchecked")
+        void evictByPattern_NoKeys_SkipsDelete() {
+            // given
+            Cursor<String> cursor = mock(Cursor.class);
+            given(cursor.hasNext()).willReturn(false);
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+            // when
+            sut.evictByPattern("cache:asset:*");
+
+            // then
+            then(redisTemplate).should(never()).delete(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Redis 오류가 나도 예외를 던지지 않는다")
+        void evictByPattern_RedisFails_DoesNotThrow() {
+            // given
+            given(redisTemplate.scan(any(ScanOptions.class)))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+
+            // when & then
+            assertThatCode(() -> sut.evictByPattern("cache:asset:*"))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("exists 메서드")
+    class ExistsTest {
+
+        @Test
+        @DisplayName("Redis 오류는 키가 없는 것으로 처리한다")
+        void exists_RedisFails_ReturnsFalse() {
+            // given
+            given(redisTemplate.hasKey(KEY))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+
+            // when & then
+            assertThat(sut.exists(KEY)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("getTtl 메서드")
+    class GetTtlTest {
+
+        @Test
+        @DisplayName("남은 TTL을 반환한다")
+        void getTtl_ReturnsRemainingTtl() {
+            // given
+            given(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).willReturn(1_500L);
+
+            // when & then
+            assertThat(sut.getTtl(KEY)).isEqualTo(Duration.ofMillis(1_500));
+        }
+
+        @Test
+        @DisplayName("키가 없으면 0을 반환한다")
+        void getTtl_MissingKey_ReturnsZero() {
+            // given
+            given(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).willReturn(-2L);
+
+            // when & then
+            assertThat(sut.getTtl(KEY)).isEqualTo(Duration.ZERO);
+        }
+
+        @Test
+        @DisplayName("Redis 오류는 0으로 처리한다")
+        void getTtl_RedisFails_ReturnsZero() {
+            // given
+            given(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+
+            // when & then
+            assertThat(sut.getTtl(KEY)).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Nested
+    @DisplayName("near-cache(L1)")
+    class NearCacheTest {
+
+        @Test
+        @DisplayName("저장한 값은 Redis를 거치지 않고 L1에서 반환한다")
+        void get_AfterSet_ServedFromLocal() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            sut.set(KEY, asset);
+
+            // when
+            Optional<Asset> result = sut.get(KEY);
+
+            // then
+            assertThat(result).containsSame(asset);
+            then(valueOperations).should(never()).get(KEY);
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            "cache_requests_total",
+                            "cache",
+                            "asset",
+                            "tier",
+                            "local",
+                            "result",
+                            "hit");
+        }
+
+        @Test
+        @DisplayName("Redis에서 찾은 값은 L1에 올려 다음 조회는 Redis를 거치지 않는다")
+        void get_RedisHit_PromotedToLocal() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn(codec.encode(asset));
+
+            // when
+            sut.get(KEY);
+            sut.get(KEY);
+
+            // then
+            then(valueOperations).should(times(1)).get(KEY);
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            "cache_requests_total",
+                            "cache",
+                            "asset",
+                            "tier",
+                            "redis",
+                            "result",
+                            "hit");
+        }
+
+        @Test
+        @DisplayName("evict는 L1과 Redis를 비우고 다른 인스턴스에 무효화를 발행한다")
+        void evict_ClearsBothTiersAndPublishes() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            sut.set(KEY, asset);
+
+            // when
+            sut.evict(KEY);
+            Optional<Asset> result = sut.get(KEY);
+
+            // then
+            assertThat(result).isEmpty();
+            then(redisTemplate).should().delete(KEY);
+            then(stringRedisTemplate).should().convertAndSend(CHANNEL, "asset|" + KEY);
+        }
+
+        @Test
+        @DisplayName("evictByPattern은 L1 전체를 비우고 전체 무효화를 발행한다")
+        @SuppressWarnings("unchecked")
+        void evictByPattern_ClearsLocalAndPublishesWildcard() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            sut.set(KEY, AssetFixture.aReconstitutedAsset());
+            Cursor<String> cursor = mock(Cursor.class);
+            given(cursor.hasNext()).willReturn(false);
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+            // when
+            sut.evictByPattern("cache:asset:*");
+
+            // then
+            assertThat(sut.get(KEY)).isEmpty();
+            then(stringRedisTemplate).should().convertAndSend(CHANNEL, "asset|*");
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 무효화를 받으면 다음 조회는 Redis를 다시 읽는다")
+        void get_AfterRemoteInvalidation_ReadsRedis() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            sut.set(KEY, asset);
+            nearCacheRegistry.evictLocal(AssetCacheAdapter.CACHE_NAME, KEY);
+
+            // when
+            sut.get(KEY);
+
+            // then
+            then(valueOperations).should().get(KEY);
+        }
+
+        @Test
+        @DisplayName("L1을 끄면 매번 Redis를 조회한다")
+        void get_NearCacheDisabled_AlwaysReadsRedis() {
+            // given
+            AssetCacheAdapter redisOnly = createAdapter(false);
+            Asset asset = AssetFixture.aReconstitutedAsset();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn(codec.encode(asset));
+
+            // when
+            redisOnly.get(KEY);
+            redisOnly.get(KEY);
+
+            // then
+            then(valueOperations).should(times(2)).get(KEY);
+        }
+    }
+}
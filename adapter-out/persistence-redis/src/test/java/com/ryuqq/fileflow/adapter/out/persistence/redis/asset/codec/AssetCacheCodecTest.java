@@ -0,0 +1,79 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("AssetCacheCodec 단위 테스트")
+class AssetCacheCodecTest {
+
+    private final AssetCacheCodec sut = new AssetCacheCodec();
+
+    @Nested
+    @DisplayName("encode/decode 왕복")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("인코딩한 에셋을 디코딩하면 모든 필드가 같다")
+        void roundTrip_PreservesAllFields() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedAsset();
+
+            // when
+            Asset decoded = sut.decode(sut.encode(asset));
+
+            // then
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(asset);
+        }
+
+        @Test
+        @DisplayName("삭제 시각이 있는 에셋도 그대로 복원한다")
+        void roundTrip_DeletedAsset_PreservesDeletedAt() {
+            // given
+            Asset asset = AssetFixture.aReconstitutedDeletedAsset();
+
+            // when
+            Asset decoded = sut.decode(sut.encode(asset));
+
+            // then
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(asset);
+            assertThat(decoded.isDeleted()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("decode 실패")
+    class DecodeFailureTest {
+
+        @Test
+        @DisplayName("형식 버전이 다르면 예외가 발생한다")
+        void decode_UnknownVersion_Throws() {
+            // given
+            byte[] bytes = sut.encode(AssetFixture.anAsset());
+            bytes[0] = (byte) (AssetCacheCodec.FORMAT_VERSION + 1);
+
+            // when & then
+            assertThatThrownBy(() -> sut.decode(bytes)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("값이 잘려 있으면 예외가 발생한다")
+        void decode_Truncated_Throws() {
+            // given
+            byte[] bytes = sut.encode(AssetFixture.anAsset());
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+            // when & then
+            assertThatThrownBy(() -> sut.decode(truncated))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.asset.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadataFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("AssetMetadataCacheCodec 단위 테스트")
+class AssetMetadataCacheCodecTest {
+
+    private final AssetMetadataCacheCodec sut = new AssetMetadataCacheCodec();
+
+    @Nested
+    @DisplayName("encode/decode 왕복")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("원본 이미지 메타데이터(transformType null)를 그대로 복원한다")
+        void roundTrip_OriginalMetadata_PreservesAllFields() {
+            // given
+            AssetMetadata metadata = AssetMetadataFixture.aReconstitutedImageMetadata();
+
+            // when
+            AssetMetadata decoded = sut.decode(sut.encode(metadata));
+
+            // then
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(metadata);
+        }
+
+        @Test
+        @DisplayName("변환 메타데이터를 그대로 복원한다")
+        void roundTrip_TransformedMetadata_PreservesAllFields() {
+            // given
+            AssetMetadata metadata = AssetMetadataFixture.aTransformedImageMetadata();
+
+            // when
+            AssetMetadata decoded = sut.decode(sut.encode(metadata));
+
+            // then
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(metadata);
+        }
+    }
+
+    @Nested
+    @DisplayName("decode 실패")
+    class DecodeFailureTest {
+
+        @Test
+        @DisplayName("형식 버전이 다르면 예외가 발생한다")
+        void decode_UnknownVersion_Throws() {
+            // given
+            byte[] bytes = sut.encode(AssetMetadataFixture.anImageMetadata());
+            bytes[0] = (byte) (AssetMetadataCacheCodec.FORMAT_VERSION + 1);
+
+            // when & then
+            assertThatThrownBy(() -> sut.decode(bytes)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
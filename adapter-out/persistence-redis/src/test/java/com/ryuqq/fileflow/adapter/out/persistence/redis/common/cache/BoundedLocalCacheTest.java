@@ -0,0 +1,373 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BoundedLocalCache.RemovalCause;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("BoundedLocalCache 단위 테스트")
+class BoundedLocalCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final Instant V1 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant V2 = V1.plusSeconds(10);
+
+    private final Map<RemovalCause, Integer> removals = new EnumMap<>(RemovalCause.class);
+
+    private MutableClock clock;
+    private BoundedLocalCache<String> sut;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(V1);
+        sut =
+                new BoundedLocalCache<>(
+                        2,
+                        TTL,
+                        (cause, count) -> removals.merge(cause, count, Integer::sum),
+                        clock);
+    }
+
+    @Nested
+    @DisplayName("get 메서드")
+    class GetTest {
+
+        @Test
+        @DisplayName("넣은 값을 TTL 안에서는 반환한다")
+        void get_WithinTtl_ReturnsValue() {
+            // given
+            sut.put("asset-1", "v1", TTL);
+            clock.advance(TTL.minusSeconds(1));
+
+            // when & then
+            assertThat(sut.get("asset-1")).contains("v1");
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 제거하고 만료로 집계한다")
+        void get_AfterTtl_RemovesAsExpired() {
+            // given
+            sut.put("asset-1", "v1", TTL);
+            clock.advance(TTL);
+
+            // when & then
+            assertThat(sut.get("asset-1")).isEmpty();
+            assertThat(sut.size()).isZero();
+            assertThat(removals).containsEntry(RemovalCause.EXPIRED, 1);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 마지막 확인 이후 조회되지 않은 항목을 제거하고 크기 초과로 집계한다")
+        void get_OverMaxSize_EvictsLeastRecentlyUsed() {
+            // given
+            sut.put("asset-1", "v1", TTL);
+            sut.put("asset-2", "v2", TTL);
+            sut.get("asset-1");
+
+            // when
+            sut.put("asset-3", "v3", TTL);
+
+            // then
+            assertThat(sut.get("asset-1")).contains("v1");
+            assertThat(sut.get("asset-2")).isEmpty();
+            assertThat(sut.get("asset-3")).contains("v3");
+            assertThat(removals).containsEntry(RemovalCause.SIZE, 1);
+        }
+
+        @Test
+        @DisplayName("모든 항목이 조회된 상태면 한 바퀴 유예한 뒤 가장 먼저 넣은 항목을 제거한다")
+        void get_AllReferenced_EvictsOldestAfterOneLap() {
+            // given
+            sut.put("asset-1", "v1", TTL);
+            sut.put("asset-2", "v2", TTL);
+            sut.get("asset-1");
+            sut.get("asset-2");
+
+            // when
+            sut.put("asset-3", "v3", TTL);
+
+            // then
+            assertThat(sut.size()).isEqualTo(2);
+            assertThat(sut.get("asset-1")).isEmpty();
+            assertThat(sut.get("asset-2")).contains("v2");
+            assertThat(removals).containsEntry(RemovalCause.SIZE, 1);
+        }
+
+        @Test
+        @DisplayName("같은 키를 여러 번 넣어도 최신 값 하나만 제거 대상으로 센다")
+        void put_SameKeyRepeatedly_CountsOnce() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                sut.put("asset-1", "v" + i, TTL);
+            }
+            sut.put("asset-2", "v2", TTL);
+
+            // when
+            sut.put("asset-3", "v3", TTL);
+
+            // then
+            assertThat(sut.get("asset-1")).isEmpty();
+            assertThat(sut.get("asset-2")).contains("v2");
+            assertThat(sut.get("asset-3")).contains("v3");
+            assertThat(removals).containsEntry(RemovalCause.SIZE, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("put 메서드")
+    class PutTest {
+
+        @Test
+        @DisplayName("기본 TTL보다 짧은 TTL이 주어지면 짧은 쪽으로 만료한다")
+        void put_ShorterTtl_ExpiresEarlier() {
+            // given
+            sut.put("asset-1", "v1", Duration.ofSeconds(5));
+            clock.advance(Duration.ofSeconds(5));
+
+            // when & then
+            assertThat(sut.get("asset-1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("기본 TTL보다 긴 TTL이 주어져도 기본 TTL에 만료한다")
+        void put_LongerTtl_CappedByDefaultTtl() {
+            // given
+            sut.put("asset-1", "v1", Duration.ofMinutes(10));
+            clock.advance(TTL);
+
+            // when & then
+            assertThat(sut.get("asset-1")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("putIfUnchanged 메서드")
+    class PutIfUnchangedTest {
+
+        @Test
+        @DisplayName("세대가 그대로면 값을 넣는다")
+        void putIfUnchanged_SameGeneration_Stores() {
+            // given
+            long generation = sut.generation();
+
+            // when
+            boolean stored = sut.putIfUnchanged("asset-1", "v1", generation);
+
+            // then
+            assertThat(stored).isTrue();
+            assertThat(sut.get("asset-1")).contains("v1");
+        }
+
+        @Test
+        @DisplayName("읽는 사이 무효화가 있었으면 오래된 값을 넣지 않는다")
+        void putIfUnchanged_InvalidatedInBetween_Skips() {
+            // given
+            long generation = sut.generation();
+            sut.evict("asset-1");
+
+            // when
+            boolean stored = sut.putIfUnchanged("asset-1", "stale", generation);
+
+            // then
+            assertThat(stored).isFalse();
+            assertThat(sut.get("asset-1")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict / clear 메서드")
+    class EvictTest {
+
+        @Test
+        @DisplayName("evict는 해당 항목만 제거하고 무효화로 집계한다")
+        void evict_RemovesOnlyKey() {
+            // given
+            sut.put("asset-1", "v1", TTL);
+            sut.put("asset-2", "v2", TTL);
+
+            // when
+            sut.evict("asset-1");
+
+            // then
+            assertThat(sut.get("asset-1")).isEmpty();
+            assertThat(sut.get("asset-2")).contains("v2");
+            assertThat(removals).containsEntry(RemovalCause.INVALIDATED, 1);
+        }
+
+        @Test
+        @DisplayName("없는 키를 evict하면 집계하지 않는다")
+        void evict_MissingKey_NotCounted() {
+            // when
+            sut.evict("asset-1");
+
+            // then
+            assertThat(removals).isEmpty();
+        }
+
+        @Test
+        @DisplayName("clear는 전체를 비우고 비운 개수만큼 집계한다")
+        void clear_RemovesAll() {
+            // given
+            sut.put("asset-1", "v1", TTL);
+            sut.put("asset-2", "v2", TTL);
+
+            // when
+            sut.clear();
+
+            // then
+            assertThat(sut.size()).isZero();
+            assertThat(removals).containsEntry(RemovalCause.INVALIDATED, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("버전 put / evict 메서드")
+    class VersionedTest {
+
+        @Test
+        @DisplayName("캐시된 버전이 같거나 오래되었으면 제거하고 무효화로 집계한다")
+        void evict_OlderOrSameVersion_RemovesEntry() {
+            // given
+            sut.put("session-1", "snapshot-v1", V1);
+
+            // when
+            sut.evict("session-1", V2);
+
+            // then
+            assertThat(sut.get("session-1")).isEmpty();
+            assertThat(removals).containsEntry(RemovalCause.INVALIDATED, 1);
+        }
+
+        @Test
+        @DisplayName("캐시된 버전이 더 새로우면 유지한다")
+        void evict_NewerCachedVersion_KeepsEntry() {
+            // given
+            sut.put("session-1", "snapshot-v2", V2);
+
+            // when
+            sut.evict("session-1", V1);
+
+            // then
+            assertThat(sut.get("session-1")).contains("snapshot-v2");
+            assertThat(removals).isEmpty();
+        }
+
+        @Test
+        @DisplayName("버전 없이 넣은 값은 버전 evict로 제거한다")
+        void evict_UnversionedEntry_RemovesEntry() {
+            // given
+            sut.put("session-1", "snapshot", TTL);
+
+            // when
+            sut.evict("session-1", V1);
+
+            // then
+            assertThat(sut.get("session-1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제거 후 툼스톤보다 오래된 스냅샷은 다시 넣지 않는다")
+        void evict_ThenPutOlderSnapshot_IsRejected() {
+            // given
+            sut.evict("session-1", V2);
+
+            // when
+            sut.put("session-1", "snapshot-v1", V1);
+
+            // then
+            assertThat(sut.get("session-1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제거 후 툼스톤 버전 이상의 스냅샷은 다시 넣는다")
+        void evict_ThenPutSameOrNewerSnapshot_IsAccepted() {
+            // given
+            sut.evict("session-1", V2);
+
+            // when
+            sut.put("session-1", "snapshot-v2", V2);
+
+            // then
+            assertThat(sut.get("session-1")).contains("snapshot-v2");
+        }
+
+        @Test
+        @DisplayName("툼스톤은 TTL이 지나면 더 이상 오래된 스냅샷을 막지 않는다")
+        void evict_TombstoneExpired_AcceptsOlderSnapshot() {
+            // given
+            sut.evict("session-1", V2);
+            clock.advance(TTL);
+
+            // when
+            sut.put("session-1", "snapshot-v1", V1);
+
+            // then
+            assertThat(sut.get("session-1")).contains("snapshot-v1");
+        }
+
+        @Test
+        @DisplayName("버전 evict도 세대를 올려 읽는 사이의 적재를 막는다")
+        void evict_Versioned_BumpsGeneration() {
+            // given
+            long generation = sut.generation();
+            sut.evict("session-1", V1);
+
+            // when & then
+            assertThat(sut.putIfUnchanged("session-1", "stale", generation)).isFalse();
+        }
+
+        @Test
+        @DisplayName("clear는 툼스톤도 비워 이후 어떤 버전이든 다시 넣는다")
+        void clear_RemovesTombstones() {
+            // given
+            sut.evict("session-1", V2);
+
+            // when
+            sut.clear();
+            sut.put("session-1", "snapshot-v1", V1);
+
+            // then
+            assertThat(sut.get("session-1")).contains("snapshot-v1");
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("CompactBinaryWriter/Reader 단위 테스트")
+class CompactBinaryReaderTest {
+
+    @Nested
+    @DisplayName("왕복 직렬화")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("문자열, enum, 정수, 시각을 기록한 순서대로 읽는다")
+        void roundTrip_ReadsValuesInWrittenOrder() {
+            // given
+            Instant instant = Instant.parse("2026-01-01T00:00:00.123456Z");
+            byte[] bytes =
+                    new CompactBinaryWriter(64)
+                            .writeString("에셋-001")
+                            .writeString(null)
+                            .writeString("")
+                            .writeEnum(AccessType.PUBLIC)
+                            .writeVarLong(0)
+                            .writeVarLong(Long.MAX_VALUE)
+                            .writeInstant(instant)
+                            .writeInstant(null)
+                            .writeInstant(Instant.EPOCH.minusSeconds(1))
+                            .toByteArray();
+
+            // when
+            CompactBinaryReader reader = new CompactBinaryReader(bytes);
+
+            // then
+            assertThat(reader.readString()).isEqualTo("에셋-001");
+            assertThat(reader.readString()).isNull();
+            assertThat(reader.readString()).isEmpty();
+            assertThat(reader.readEnum(AccessType.class)).isEqualTo(AccessType.PUBLIC);
+            assertThat(reader.readVarLong()).isZero();
+            assertThat(reader.readVarLong()).isEqualTo(Long.MAX_VALUE);
+            assertThat(reader.readInstant()).isEqualTo(instant);
+            assertThat(reader.readInstant()).isNull();
+            assertThat(reader.readInstant()).isEqualTo(Instant.EPOCH.minusSeconds(1));
+            reader.expectFullyRead();
+        }
+
+        @Test
+        @DisplayName("작은 정수는 1바이트로 기록한다")
+        void writeVarLong_SmallValue_UsesOneByte() {
+            // when
+            byte[] bytes = new CompactBinaryWriter(8).writeVarLong(127).toByteArray();
+
+            // then
+            assertThat(bytes).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("손상된 입력")
+    class MalformedInputTest {
+
+        @Test
+        @DisplayName("남은 바이트보다 긴 문자열은 예외가 발생한다")
+        void readString_Truncated_Throws() {
+            // given
+            byte[] bytes = new CompactBinaryWriter(16).writeString("abcdef").toByteArray();
+            byte[] truncated = Arrays.copyOf(bytes, 4);
+
+            // when & then
+            assertThatThrownBy(() -> new CompactBinaryReader(truncated).readString())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("다 읽지 않은 바이트가 남으면 예외가 발생한다")
+        void expectFullyRead_TrailingBytes_Throws() {
+            // given
+            byte[] bytes = new CompactBinaryWriter(8).writeVarLong(1).writeVarLong(2).toByteArray();
+            CompactBinaryReader reader = new CompactBinaryReader(bytes);
+            reader.readVarLong();
+
+            // when & then
+            assertThatThrownBy(reader::expectFullyRead).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
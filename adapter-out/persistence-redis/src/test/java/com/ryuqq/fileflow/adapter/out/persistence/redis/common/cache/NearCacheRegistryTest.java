@@ -0,0 +1,206 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.config.NearCacheProperties;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheRegistry 단위 테스트")
+class NearCacheRegistryTest {
+
+    private static final String CHANNEL = "fileflow:cache:invalidation";
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private FileFlowMetrics metrics;
+
+    private NearCacheRegistry sut;
+
+    @BeforeEach
+    void setUp() {
+        NearCacheProperties properties =
+                new NearCacheProperties(
+                        CHANNEL,
+                        Map.of(
+                                "asset", new NearCacheProperties.Spec(true, 100, TTL),
+                                "disabled", new NearCacheProperties.Spec(false, 100, TTL)));
+        sut = new NearCacheRegistry(redisTemplate, properties, metrics);
+    }
+
+    @Nested
+    @DisplayName("register 메서드")
+    class RegisterTest {
+
+        @Test
+        @DisplayName("설정이 없는 캐시도 기본값으로 L1을 만든다")
+        void register_Unconfigured_UsesDefaults() {
+            // when
+            Optional<BoundedLocalCache<String>> result = sut.register("unconfigured");
+
+            // then
+            assertThat(result).isPresent();
+        }
+
+        @Test
+        @DisplayName("꺼 둔 캐시는 L1을 만들지 않는다")
+        void register_Disabled_ReturnsEmpty() {
+            // when
+            Optional<BoundedLocalCache<String>> result = sut.register("disabled");
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 이름을 두 번 등록하면 예외가 발생한다")
+        void register_Duplicate_Throws() {
+            // given
+            sut.register("asset");
+
+            // when & then
+            assertThatThrownBy(() -> sut.register("asset"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("evictLocal / clearLocal 메서드")
+    class EvictLocalTest {
+
+        @Test
+        @DisplayName("등록된 캐시의 항목을 로컬에서만 제거하고 메트릭을 남긴다")
+        void evictLocal_RegisteredCache_EvictsEntry() {
+            // given
+            BoundedLocalCache<String> cache = sut.<String>register("asset").orElseThrow();
+            cache.put("cache:asset:asset-001", "value", TTL);
+
+            // when
+            sut.evictLocal("asset", "cache:asset:asset-001");
+
+            // then
+            assertThat(cache.get("cache:asset:asset-001")).isEmpty();
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            "cache_evictions_total",
+                            1,
+                            "cache",
+                            "asset",
+                            "tier",
+                            "local",
+                            "cause",
+                            "invalidated");
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("clearLocal은 등록된 캐시 전체를 비운다")
+        void clearLocal_RegisteredCache_ClearsAll() {
+            // given
+            BoundedLocalCache<String> cache = sut.<String>register("asset").orElseThrow();
+            cache.put("cache:asset:a", "a", TTL);
+            cache.put("cache:asset:b", "b", TTL);
+
+            // when
+            sut.clearLocal("asset");
+
+            // then
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 캐시 이름은 무시한다")
+        void evictLocal_UnknownCache_Ignored() {
+            // when & then
+            assertThatCode(() -> sut.evictLocal("unknown", "key")).doesNotThrowAnyException();
+            assertThatCode(() -> sut.clearLocal("unknown")).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("onEvict 메서드")
+    class OnEvictTest {
+
+        @Test
+        @DisplayName("키 무효화를 받으면 L1을 꺼 둔 캐시라도 리스너에 키를 넘긴다")
+        void evictLocal_WithListener_NotifiesKey() {
+            // given
+            List<String> received = new ArrayList<>();
+            sut.onEvict("disabled", received::add);
+
+            // when
+            sut.evictLocal("disabled", "key-1");
+
+            // then
+            assertThat(received).containsExactly("key-1");
+        }
+
+        @Test
+        @DisplayName("같은 이름으로 두 번 등록하면 예외가 발생한다")
+        void onEvict_Duplicate_Throws() {
+            // given
+            sut.onEvict("asset", key -> {});
+
+            // when & then
+            assertThatThrownBy(() -> sut.onEvict("asset", key -> {}))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("publish 메서드")
+    class PublishTest {
+
+        @Test
+        @DisplayName("키 무효화는 캐시 이름과 키를 채널에 발행한다")
+        void publishEvict_SendsCacheNameAndKey() {
+            // when
+            sut.publishEvict("asset", "cache:asset:asset-001");
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL, "asset|cache:asset:asset-001");
+        }
+
+        @Test
+        @DisplayName("전체 무효화는 키 자리에 *를 발행한다")
+        void publishClear_SendsWildcard() {
+            // when
+            sut.publishClear("asset");
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL, "asset|*");
+        }
+
+        @Test
+        @DisplayName("Redis 오류가 나도 예외를 던지지 않는다")
+        void publishEvict_RedisFails_DoesNotThrow() {
+            // given
+            given(redisTemplate.convertAndSend(CHANNEL, "asset|key"))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+
+            // when & then
+            assertThatCode(() -> sut.publishEvict("asset", "key")).doesNotThrowAnyException();
+        }
+    }
+}
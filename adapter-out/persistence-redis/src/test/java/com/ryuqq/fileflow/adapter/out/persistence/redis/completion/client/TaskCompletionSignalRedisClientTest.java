@@ -0,0 +1,49 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.completion.client;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.completion.config.TaskCompletionSignalProperties;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskCompletionSignalRedisClient 단위 테스트")
+class TaskCompletionSignalRedisClientTest {
+
+    private static final String CHANNEL = "fileflow:task:completion";
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private TaskCompletionSignalRedisClient sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new TaskCompletionSignalRedisClient(
+                        redisTemplate, new TaskCompletionSignalProperties(CHANNEL));
+    }
+
+    @Nested
+    @DisplayName("publish 메서드")
+    class PublishTest {
+
+        @Test
+        @DisplayName("작업 유형과 ID를 구분자로 이어 채널에 발행한다")
+        void publish_SendsTypeAndIdToChannel() {
+            // when
+            sut.publish(TaskCompletionSignal.download("download-001"));
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL, "DOWNLOAD|download-001");
+        }
+    }
+}
@@ -1,21 +1,46 @@
 package com.ryuqq.fileflow.adapter.out.persistence.redis.download.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.config.NearCacheProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.download.config.DownloadUrlBlacklistFilterProperties;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
@@ -25,10 +50,43 @@ import org.springframework.data.redis.core.ValueOperations;
 class DownloadUrlBlacklistCacheAdapterTest {
 
     private static final String KEY_PREFIX = "fileflow:download:blacklist::";
+    private static final String VERSION_KEY = "fileflow:download:blacklist:version";
+
+    private static final Duration REBUILD_INTERVAL = Duration.ofSeconds(10);
+
+    private static final String CHANNEL = "fileflow:cache:invalidation";
+    private static final String REQUESTS_TOTAL = "cache_requests_total";
 
-    @InjectMocks private DownloadUrlBlacklistCacheAdapter sut;
+    private DownloadUrlBlacklistCacheAdapter sut;
     @Mock private StringRedisTemplate redisTemplate;
     @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private ScheduledExecutorService scheduler;
+    @Mock private FileFlowMetrics metrics;
+
+    private NearCacheRegistry nearCacheRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sut = createAdapter(true);
+    }
+
+    private DownloadUrlBlacklistCacheAdapter createAdapter(boolean filterEnabled) {
+        nearCacheRegistry =
+                new NearCacheRegistry(
+                        redisTemplate,
+                        new NearCacheProperties(
+                                CHANNEL,
+                                Map.of(
+                                        DownloadUrlBlacklistCacheAdapter.CACHE_NAME,
+                                        new NearCacheProperties.Spec(
+                                                true, 100, REBUILD_INTERVAL))),
+                        metrics);
+        return new DownloadUrlBlacklistCacheAdapter(
+                redisTemplate,
+                new DownloadUrlBlacklistFilterProperties(filterEnabled, REBUILD_INTERVAL, 0.01),
+                nearCacheRegistry,
+                scheduler);
+    }
 
     @Nested
     @DisplayName("register 메서드")
@@ -51,6 +109,35 @@ class DownloadUrlBlacklistCacheAdapterTest {
             // then
             then(valueOperations).should().set(expectedKey, reason, ttl);
         }
+
+        @Test
+        @DisplayName("등록할 때마다 블랙리스트 버전을 올린다")
+        void register_IncrementsVersion() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            // when
+            sut.register("https://example.com/malicious.jpg", "403 Forbidden", Duration.ofHours(1));
+
+            // then
+            then(valueOperations).should().increment(VERSION_KEY);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 negative cache를 비우도록 키 무효화를 전파한다")
+        void register_PublishesNegativeCacheEviction() {
+            // given
+            String sourceUrl = "https://example.com/malicious.jpg";
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            // when
+            sut.register(sourceUrl, "403 Forbidden", Duration.ofHours(24));
+
+            // then
+            then(redisTemplate)
+                    .should()
+                    .convertAndSend(CHANNEL, "download-blacklist|" + sha256(sourceUrl));
+        }
     }
 
     @Nested
@@ -106,6 +193,99 @@ class DownloadUrlBlacklistCacheAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("findBlacklisted 메서드")
+    class FindBlacklistedTest {
+
+        @Test
+        @DisplayName("필터를 끄면 모든 URL의 EXISTS를 파이프라인 한 번으로 보내고 존재하는 URL만 반환한다")
+        void findBlacklisted_FilterDisabled_PipelinesAllUrls() {
+            // given
+            DownloadUrlBlacklistCacheAdapter redisOnly = createAdapter(false);
+            String blocked = "https://example.com/blocked.png";
+            String safe = "https://example.com/safe.png";
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .willReturn(List.of(Boolean.TRUE, Boolean.FALSE));
+
+            // when
+            Set<String> result = redisOnly.findBlacklisted(List.of(blocked, safe, blocked));
+
+            // then
+            assertThat(result).containsExactly(blocked);
+            StringRedisConnection connection = replayPipeline();
+            verify(connection).exists(KEY_PREFIX + sha256(blocked));
+            verify(connection).exists(KEY_PREFIX + sha256(safe));
+            verifyNoMoreInteractions(connection);
+        }
+
+        @Test
+        @DisplayName("필터를 만든 뒤에는 필터에 있는 URL만 파이프라인으로 확인한다")
+        void findBlacklisted_FilterBuilt_PipelinesOnlyCandidates() {
+            // given
+            String blocked = "https://example.com/blocked.png";
+            givenBlacklistKeys(KEY_PREFIX + sha256(blocked));
+            sut.rebuild();
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .willReturn(List.of(Boolean.TRUE));
+
+            // when
+            Set<String> result =
+                    sut.findBlacklisted(List.of("https://example.com/safe.png", blocked));
+
+            // then
+            assertThat(result).containsExactly(blocked);
+            StringRedisConnection connection = replayPipeline();
+            verify(connection).exists(KEY_PREFIX + sha256(blocked));
+            verifyNoMoreInteractions(connection);
+        }
+
+        @Test
+        @DisplayName("필터에 있는 URL이 없으면 Redis를 호출하지 않는다")
+        void findBlacklisted_NoCandidates_SkipsRedis() {
+            // given
+            givenBlacklistKeys(KEY_PREFIX + sha256("https://example.com/blocked.png"));
+            sut.rebuild();
+
+            // when
+            Set<String> result =
+                    sut.findBlacklisted(
+                            List.of("https://example.com/a.png", "https://example.com/b.png"));
+
+            // then
+            assertThat(result).isEmpty();
+            then(redisTemplate).should(never()).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("파이프라인에서 없음을 확인한 URL은 단건 조회에서 다시 Redis를 조회하지 않는다")
+        void findBlacklisted_FalsePositive_RemembersNegative() {
+            // given
+            String expired = "https://example.com/expired.png";
+            givenBlacklistKeys(KEY_PREFIX + sha256(expired));
+            sut.rebuild();
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .willReturn(List.of(Boolean.FALSE));
+
+            // when
+            sut.findBlacklisted(List.of(expired));
+            boolean result = sut.isBlacklisted(expired);
+
+            // then
+            assertThat(result).isFalse();
+            then(redisTemplate).should(never()).hasKey(anyString());
+        }
+
+        @SuppressWarnings("unchecked")
+        private StringRedisConnection replayPipeline() {
+            ArgumentCaptor<RedisCallback<Object>> captor =
+                    ArgumentCaptor.forClass(RedisCallback.class);
+            verify(redisTemplate).executePipelined(captor.capture());
+            StringRedisConnection connection = mock(StringRedisConnection.class);
+            captor.getValue().doInRedis(connection);
+            return connection;
+        }
+    }
+
     @Nested
     @DisplayName("generateKey SHA-256 일관성")
     class KeyGenerationTest {
@@ -143,6 +323,244 @@ class DownloadUrlBlacklistCacheAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("로컬 필터")
+    class LocalFilterTest {
+
+        @Test
+        @DisplayName("첫 조회 시 필터 재구성을 주기적으로 예약한다")
+        void isBlacklisted_FirstCall_SchedulesRebuildOnce() {
+            // given
+            given(redisTemplate.hasKey(anyString())).willReturn(Boolean.FALSE);
+
+            // when
+            sut.isBlacklisted("https://example.com/a.png");
+            sut.isBlacklisted("https://example.com/b.png");
+
+            // then
+            then(scheduler)
+                    .should(times(1))
+                    .scheduleWithFixedDelay(
+                            any(Runnable.class),
+                            eq(0L),
+                            eq(REBUILD_INTERVAL.toMillis()),
+                            eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("필터를 만든 뒤 필터에 없는 URL은 Redis를 조회하지 않는다")
+        void isBlacklisted_NotInFilter_SkipsRedis() {
+            // given
+            String blocked = "https://example.com/blocked.png";
+            givenBlacklistKeys(KEY_PREFIX + sha256(blocked));
+            sut.rebuild();
+
+            // when
+            boolean result = sut.isBlacklisted("https://example.com/safe.png");
+
+            // then
+            assertThat(result).isFalse();
+            then(redisTemplate).should(never()).hasKey(anyString());
+        }
+
+        @Test
+        @DisplayName("필터에 있는 URL은 Redis로 확인한다")
+        void isBlacklisted_InFilter_ChecksRedis() {
+            // given
+            String blocked = "https://example.com/blocked.png";
+            String key = KEY_PREFIX + sha256(blocked);
+            givenBlacklistKeys(key);
+            sut.rebuild();
+            given(redisTemplate.hasKey(key)).willReturn(Boolean.TRUE);
+
+            // when
+            boolean result = sut.isBlacklisted(blocked);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("필터 오탐으로 Redis에서 없음을 확인한 URL은 다시 Redis를 조회하지 않는다")
+        void isBlacklisted_FalsePositive_RemembersNegative() {
+            // given
+            String expired = "https://example.com/expired.png";
+            String key = KEY_PREFIX + sha256(expired);
+            givenBlacklistKeys(key);
+            sut.rebuild();
+            given(redisTemplate.hasKey(key)).willReturn(Boolean.FALSE);
+
+            // when
+            sut.isBlacklisted(expired);
+            boolean second = sut.isBlacklisted(expired);
+
+            // then
+            assertThat(second).isFalse();
+            then(redisTemplate).should(times(1)).hasKey(key);
+        }
+
+        @Test
+        @DisplayName("이 인스턴스에서 등록한 URL은 재구성 전에도 Redis로 확인한다")
+        void register_ThenIsBlacklisted_ChecksRedisBeforeRebuild() {
+            // given
+            givenBlacklistKeys(KEY_PREFIX + sha256("https://example.com/other.png"));
+            sut.rebuild();
+            String sourceUrl = "https://example.com/new-blocked.png";
+            String key = KEY_PREFIX + sha256(sourceUrl);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(redisTemplate.hasKey(key)).willReturn(Boolean.TRUE);
+
+            // when
+            sut.register(sourceUrl, "404 Not Found", Duration.ofHours(1));
+            boolean result = sut.isBlacklisted(sourceUrl);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 등록 전파를 받으면 기억한 없음을 지우고 Redis로 확인한다")
+        void evictLocal_FromOtherInstance_ForgetsNegative() {
+            // given
+            String sourceUrl = "https://example.com/flagged.png";
+            String digestHex = sha256(sourceUrl);
+            String key = KEY_PREFIX + digestHex;
+            givenBlacklistKeys(key);
+            sut.rebuild();
+            given(redisTemplate.hasKey(key)).willReturn(Boolean.FALSE, Boolean.TRUE);
+            sut.isBlacklisted(sourceUrl);
+
+            // when
+            nearCacheRegistry.evictLocal(DownloadUrlBlacklistCacheAdapter.CACHE_NAME, digestHex);
+            boolean result = sut.isBlacklisted(sourceUrl);
+
+            // then
+            assertThat(result).isTrue();
+            then(redisTemplate).should(times(2)).hasKey(key);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 등록 전파를 받으면 재구성 전에도 필터에 없던 URL을 Redis로 확인한다")
+        void evictLocal_FromOtherInstance_AddsToFilter() {
+            // given
+            givenBlacklistKeys(KEY_PREFIX + sha256("https://example.com/other.png"));
+            sut.rebuild();
+            String sourceUrl = "https://example.com/new-blocked.png";
+            String digestHex = sha256(sourceUrl);
+            given(redisTemplate.hasKey(KEY_PREFIX + digestHex)).willReturn(Boolean.TRUE);
+
+            // when
+            nearCacheRegistry.evictLocal(DownloadUrlBlacklistCacheAdapter.CACHE_NAME, digestHex);
+            boolean result = sut.isBlacklisted(sourceUrl);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("블랙리스트 버전이 그대로면 키를 다시 SCAN하지 않는다")
+        void rebuild_VersionUnchanged_SkipsScan() {
+            // given
+            givenBlacklistKeys(KEY_PREFIX + sha256("https://example.com/blocked.png"));
+            given(valueOperations.get(VERSION_KEY)).willReturn("3");
+
+            // when
+            sut.rebuild();
+            sut.rebuild();
+
+            // then
+            then(redisTemplate).should(times(1)).scan(any(ScanOptions.class));
+        }
+
+        @Test
+        @DisplayName("블랙리스트 버전이 바뀌면 필터를 다시 만든다")
+        void rebuild_VersionChanged_Rescans() {
+            // given
+            givenBlacklistKeys(KEY_PREFIX + sha256("https://example.com/blocked.png"));
+            given(valueOperations.get(VERSION_KEY)).willReturn("3", "4");
+
+            // when
+            sut.rebuild();
+            sut.rebuild();
+
+            // then
+            then(redisTemplate).should(times(2)).scan(any(ScanOptions.class));
+        }
+
+        @Test
+        @DisplayName("로컬 판정과 Redis 확인을 계층별 메트릭으로 남긴다")
+        void isBlacklisted_RecordsTierMetrics() {
+            // given
+            String blocked = "https://example.com/blocked.png";
+            String key = KEY_PREFIX + sha256(blocked);
+            givenBlacklistKeys(key);
+            sut.rebuild();
+            given(redisTemplate.hasKey(key)).willReturn(Boolean.TRUE);
+
+            // when
+            sut.isBlacklisted("https://example.com/safe.png");
+            sut.isBlacklisted(blocked);
+
+            // then
+            then(metrics).should().incrementCounter(REQUESTS_TOTAL, requestTags("local", "hit"));
+            then(metrics).should().incrementCounter(REQUESTS_TOTAL, requestTags("local", "miss"));
+            then(metrics).should().incrementCounter(REQUESTS_TOTAL, requestTags("redis", "hit"));
+        }
+
+        @Test
+        @DisplayName("재구성에 실패하면 필터 없이 Redis로 확인한다")
+        void rebuild_RedisFails_FallsBackToRedis() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(redisTemplate.scan(any(ScanOptions.class)))
+                    .willThrow(new RedisConnectionFailureException("redis down"));
+            sut.rebuild();
+            String sourceUrl = "https://example.com/safe.png";
+            given(redisTemplate.hasKey(KEY_PREFIX + sha256(sourceUrl))).willReturn(Boolean.FALSE);
+
+            // when
+            boolean result = sut.isBlacklisted(sourceUrl);
+
+            // then
+            assertThat(result).isFalse();
+            then(redisTemplate).should().hasKey(KEY_PREFIX + sha256(sourceUrl));
+        }
+
+        @Test
+        @DisplayName("필터를 끄면 재구성을 예약하지 않고 매번 Redis로 확인한다")
+        void isBlacklisted_FilterDisabled_AlwaysChecksRedis() {
+            // given
+            DownloadUrlBlacklistCacheAdapter redisOnly = createAdapter(false);
+            given(redisTemplate.hasKey(anyString())).willReturn(Boolean.FALSE);
+
+            // when
+            redisOnly.isBlacklisted("https://example.com/a.png");
+            redisOnly.isBlacklisted("https://example.com/a.png");
+
+            // then
+            then(redisTemplate).should(times(2)).hasKey(anyString());
+            then(scheduler)
+                    .should(never())
+                    .scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any());
+        }
+    }
+
+    private static String[] requestTags(String tier, String result) {
+        return new String[] {
+            "cache", DownloadUrlBlacklistCacheAdapter.CACHE_NAME, "tier", tier, "result", result
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBlacklistKeys(String... keys) {
+        Iterator<String> iterator = List.of(keys).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+        given(cursor.next()).willAnswer(invocation -> iterator.next());
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
     private static String sha256(String input) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -0,0 +1,260 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.download.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.BoundedLocalCache;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.download.config.DownloadUrlBlacklistFilterProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("DownloadUrlBlacklistLocalFilter 단위 테스트")
+class DownloadUrlBlacklistLocalFilterTest {
+
+    private static final Duration REBUILD_INTERVAL = Duration.ofSeconds(10);
+
+    private static final byte[] BLOCKED = sha256("https://example.com/blocked.jpg");
+    private static final String BLOCKED_HEX = HexFormat.of().formatHex(BLOCKED);
+    private static final byte[] SAFE = sha256("https://example.com/safe.jpg");
+    private static final String SAFE_HEX = HexFormat.of().formatHex(SAFE);
+
+    private MutableClock clock;
+    private DownloadUrlBlacklistLocalFilter sut;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        sut =
+                new DownloadUrlBlacklistLocalFilter(
+                        new DownloadUrlBlacklistFilterProperties(true, REBUILD_INTERVAL, 0.01),
+                        new BoundedLocalCache<>(100, REBUILD_INTERVAL, (cause, count) -> {}),
+                        clock);
+    }
+
+    @Nested
+    @DisplayName("mightBeBlacklisted 메서드")
+    class MightBeBlacklistedTest {
+
+        @Test
+        @DisplayName("필터를 만들기 전에는 Redis 확인이 필요하다고 판정한다")
+        void mightBeBlacklisted_NotBuilt_ReturnsTrue() {
+            // when & then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isTrue();
+        }
+
+        @Test
+        @DisplayName("필터에 없는 URL은 확실히 없음으로 판정한다")
+        void mightBeBlacklisted_NotInFilter_ReturnsFalse() {
+            // given
+            sut.replace(List.of(BLOCKED));
+
+            // when & then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isFalse();
+            assertThat(sut.mightBeBlacklisted(BLOCKED, BLOCKED_HEX)).isTrue();
+        }
+
+        @Test
+        @DisplayName("재구성이 오래 실패해 필터가 오래되면 Redis 확인으로 넘긴다")
+        void mightBeBlacklisted_StaleFilter_ReturnsTrue() {
+            // given
+            sut.replace(List.of(BLOCKED));
+            clock.advance(
+                    REBUILD_INTERVAL.multipliedBy(
+                            DownloadUrlBlacklistLocalFilter.STALE_AFTER_INTERVALS));
+
+            // when & then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isTrue();
+        }
+
+        @Test
+        @DisplayName("원본이 그대로임을 확인하면 다시 만들지 않아도 필터를 계속 쓴다")
+        void mightBeBlacklisted_MarkedFresh_KeepsFilter() {
+            // given
+            sut.replace(List.of(BLOCKED));
+            clock.advance(REBUILD_INTERVAL.multipliedBy(2));
+            sut.markFresh();
+            clock.advance(REBUILD_INTERVAL.multipliedBy(2));
+
+            // when & then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("replace 메서드")
+    class ReplaceTest {
+
+        @Test
+        @DisplayName("목록을 읽는 동안 등록된 URL은 새 필터에도 남는다")
+        void replace_AddedDuringRebuild_MergedIntoNewFilter() {
+            // given
+            sut.replace(List.of());
+            sut.beginRebuild();
+            sut.add(SAFE, SAFE_HEX);
+
+            // when
+            sut.replace(List.of(BLOCKED));
+
+            // then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isTrue();
+            assertThat(sut.mightBeBlacklisted(BLOCKED, BLOCKED_HEX)).isTrue();
+        }
+
+        @Test
+        @DisplayName("재구성이 끝나면 이후 등록은 다음 재구성에 넘기지 않는다")
+        void replace_AfterRebuild_StopsCollecting() {
+            // given
+            sut.beginRebuild();
+            sut.replace(List.of(BLOCKED));
+            sut.add(SAFE, SAFE_HEX);
+
+            // when
+            sut.replace(List.of(BLOCKED));
+
+            // then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("negative cache")
+    class NegativeCacheTest {
+
+        @Test
+        @DisplayName("Redis에서 없음으로 확인된 오탐 URL은 다음부터 Redis 확인 없이 없음으로 판정한다")
+        void recordNegative_FilterHit_SkipsRedisNextTime() {
+            // given
+            sut.replace(List.of(BLOCKED));
+            long generation = sut.generation();
+
+            // when
+            sut.recordNegative(BLOCKED_HEX, generation);
+
+            // then
+            assertThat(sut.mightBeBlacklisted(BLOCKED, BLOCKED_HEX)).isFalse();
+        }
+
+        @Test
+        @DisplayName("조회하는 사이 재구성되면 없음을 기억하지 않는다")
+        void recordNegative_RebuiltInBetween_Skips() {
+            // given
+            sut.replace(List.of(BLOCKED));
+            long generation = sut.generation();
+            sut.replace(List.of(BLOCKED));
+
+            // when
+            sut.recordNegative(BLOCKED_HEX, generation);
+
+            // then
+            assertThat(sut.mightBeBlacklisted(BLOCKED, BLOCKED_HEX)).isTrue();
+        }
+
+        @Test
+        @DisplayName("재구성하면 기억한 없음을 비운다")
+        void replace_ClearsNegativeCache() {
+            // given
+            sut.replace(List.of(BLOCKED));
+            sut.recordNegative(BLOCKED_HEX, sut.generation());
+
+            // when
+            sut.replace(List.of(BLOCKED));
+
+            // then
+            assertThat(sut.mightBeBlacklisted(BLOCKED, BLOCKED_HEX)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("negative cache를 끈 경우")
+    class WithoutNegativeCacheTest {
+
+        @Test
+        @DisplayName("오탐 URL을 기억하지 않고 매번 Redis 확인으로 넘긴다")
+        void recordNegative_NoNegativeCache_StillMightBeBlacklisted() {
+            // given
+            DownloadUrlBlacklistLocalFilter withoutNegativeCache =
+                    new DownloadUrlBlacklistLocalFilter(
+                            new DownloadUrlBlacklistFilterProperties(true, REBUILD_INTERVAL, 0.01),
+                            null,
+                            clock);
+            withoutNegativeCache.replace(List.of(BLOCKED));
+
+            // when
+            withoutNegativeCache.recordNegative(
+                    BLOCKED_HEX, withoutNegativeCache.generation());
+
+            // then
+            assertThat(withoutNegativeCache.mightBeBlacklisted(BLOCKED, BLOCKED_HEX)).isTrue();
+            assertThat(withoutNegativeCache.mightBeBlacklisted(SAFE, SAFE_HEX)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("add 메서드")
+    class AddTest {
+
+        @Test
+        @DisplayName("등록한 URL은 다음 재구성 전에도 Redis 확인 대상이 된다")
+        void add_RegisteredUrl_MightBeBlacklisted() {
+            // given
+            sut.replace(List.of());
+            sut.recordNegative(SAFE_HEX, sut.generation());
+
+            // when
+            sut.add(SAFE, SAFE_HEX);
+
+            // then
+            assertThat(sut.mightBeBlacklisted(SAFE, SAFE_HEX)).isTrue();
+        }
+    }
+
+    private static byte[] sha256(String input) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(input.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.download.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("UrlDigestBloomFilter 단위 테스트")
+class UrlDigestBloomFilterTest {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Nested
+    @DisplayName("mightContain 메서드")
+    class MightContainTest {
+
+        @Test
+        @DisplayName("넣은 다이제스트는 항상 있을 수도 있음으로 판정한다")
+        void mightContain_InsertedDigests_AlwaysTrue() {
+            // given
+            List<byte[]> digests = digests("https://example.com/blocked-", 5_000);
+
+            // when
+            UrlDigestBloomFilter sut = UrlDigestBloomFilter.of(digests, FALSE_POSITIVE_RATE);
+
+            // then
+            assertThat(digests).allMatch(sut::mightContain);
+        }
+
+        @Test
+        @DisplayName("넣지 않은 다이제스트의 오탐률이 목표 근처에 머문다")
+        void mightContain_OtherDigests_FalsePositiveRateBounded() {
+            // given
+            UrlDigestBloomFilter sut =
+                    UrlDigestBloomFilter.of(
+                            digests("https://example.com/blocked-", 5_000), FALSE_POSITIVE_RATE);
+            List<byte[]> others = digests("https://example.com/allowed-", 10_000);
+
+            // when
+            long falsePositives = others.stream().filter(sut::mightContain).count();
+
+            // then
+            assertThat(falsePositives).isLessThan(others.size() * 2 / 100);
+        }
+
+        @Test
+        @DisplayName("빈 필터는 어떤 다이제스트도 포함하지 않는다")
+        void mightContain_EmptyFilter_AlwaysFalse() {
+            // given
+            UrlDigestBloomFilter sut = UrlDigestBloomFilter.of(List.of(), FALSE_POSITIVE_RATE);
+
+            // when & then
+            assertThat(sut.mightContain(sha256("https://example.com/any"))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("put 메서드")
+    class PutTest {
+
+        @Test
+        @DisplayName("만든 뒤에 넣은 다이제스트도 있을 수도 있음으로 판정한다")
+        void put_AfterBuild_Contained() {
+            // given
+            UrlDigestBloomFilter sut = UrlDigestBloomFilter.of(List.of(), FALSE_POSITIVE_RATE);
+            byte[] digest = sha256("https://example.com/late.jpg");
+
+            // when
+            sut.put(digest);
+
+            // then
+            assertThat(sut.mightContain(digest)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("of 메서드")
+    class OfTest {
+
+        @Test
+        @DisplayName("비트 수는 64의 배수이고 해시 개수는 1 이상이다")
+        void of_SizesFilter() {
+            // when
+            UrlDigestBloomFilter sut =
+                    UrlDigestBloomFilter.of(
+                            digests("https://example.com/", 100), FALSE_POSITIVE_RATE);
+
+            // then
+            assertThat(sut.bitSize() % Long.SIZE).isZero();
+            assertThat(sut.hashCount()).isPositive();
+        }
+    }
+
+    private static List<byte[]> digests(String prefix, int count) {
+        List<byte[]> digests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            digests.add(sha256(prefix + i));
+        }
+        return digests;
+    }
+
+    private static byte[] sha256(String input) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(input.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.cache.NearCacheRegistry;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.config.NearCacheProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.mapper.SessionHeaderCacheMapper;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionHeaderNearCacheAdapter 단위 테스트")
+class SessionHeaderNearCacheAdapterTest {
+
+    private static final String CHANNEL = "fileflow:cache:invalidation";
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private FileFlowMetrics metrics;
+
+    private NearCacheRegistry nearCacheRegistry;
+    private SessionHeaderNearCacheAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = createAdapter(true);
+    }
+
+    private SessionHeaderNearCacheAdapter createAdapter(boolean nearCacheEnabled) {
+        NearCacheProperties properties =
+                new NearCacheProperties(
+                        CHANNEL,
+                        Map.of(
+                                SessionHeaderNearCacheAdapter.CACHE_NAME,
+                                new NearCacheProperties.Spec(
+                                        nearCacheEnabled, 100, Duration.ofSeconds(30))));
+        nearCacheRegistry = new NearCacheRegistry(redisTemplate, properties, metrics);
+        return new SessionHeaderNearCacheAdapter(new SessionHeaderCacheMapper(), nearCacheRegistry);
+    }
+
+    @Nested
+    @DisplayName("멀티파트 세션 헤더 캐시")
+    class MultipartHeaderTest {
+
+        @Test
+        @DisplayName("캐시한 세션과 같은 상태의 새 인스턴스를 반환한다")
+        void findMultipartHeader_Cached_ReturnsFreshCopy() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            sut.putMultipartHeader(session);
+
+            // when
+            Optional<MultipartUploadSession> result =
+                    sut.findMultipartHeader(MultipartUploadSessionId.of(session.idValue()));
+
+            // then
+            assertThat(result)
+                    .hasValueSatisfying(
+                            cached -> {
+                                assertThat(cached).isNotSameAs(session);
+                                assertThat(cached.idValue()).isEqualTo(session.idValue());
+                                assertThat(cached.uploadId()).isEqualTo(session.uploadId());
+                                assertThat(cached.status()).isEqualTo(session.status());
+                                assertThat(cached.updatedAt()).isEqualTo(session.updatedAt());
+                                assertThat(cached.completedParts()).isEmpty();
+                            });
+        }
+
+        @Test
+        @DisplayName("반환된 인스턴스를 변경해도 캐시된 스냅샷은 바뀌지 않는다")
+        void findMultipartHeader_MutateReturned_DoesNotAffectCache() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(session.idValue());
+            sut.putMultipartHeader(session);
+
+            MultipartUploadSession returned = sut.findMultipartHeader(id).orElseThrow();
+            returned.acceptCompletedPart(
+                    CompletedPart.of(1, "etag-part-1", 5_242_880L, session.createdAt()));
+
+            // when
+            MultipartUploadSession result = sut.findMultipartHeader(id).orElseThrow();
+
+            // then
+            assertThat(result.status()).isEqualTo(session.status());
+            assertThat(result.completedParts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 ID로 캐시된 값이 단건 세션이면 멀티파트로 반환하지 않는다")
+        void findMultipartHeader_CachedAsSingle_ReturnsEmpty() {
+            // given
+            SingleUploadSession single = SingleUploadSessionFixture.aCreatedSession();
+            sut.putSingle(single);
+
+            // when
+            Optional<MultipartUploadSession> result =
+                    sut.findMultipartHeader(MultipartUploadSessionId.of(single.idValue()));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("조회마다 로컬 계층 hit/miss 메트릭을 남긴다")
+        void findMultipartHeader_RecordsLocalTierMetric() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(session.idValue());
+            sut.findMultipartHeader(id);
+            sut.putMultipartHeader(session);
+
+            // when
+            sut.findMultipartHeader(id);
+
+            // then
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            "cache_requests_total",
+                            "cache",
+                            "session-header",
+                            "tier",
+                            "local",
+                            "result",
+                            "miss");
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            "cache_requests_total",
+                            "cache",
+                            "session-header",
+                            "tier",
+                            "local",
+                            "result",
+                            "hit");
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class InvalidateTest {
+
+        @Test
+        @DisplayName("로컬 캐시에서 제거하고 캐시 이름, 세션 ID, 버전을 공용 채널로 발행한다")
+        void invalidate_RemovesLocallyAndPublishes() {
+            // given
+            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
+            sut.putSingle(session);
+            Instant version = session.updatedAt().plusSeconds(5);
+
+            // when
+            sut.invalidate(session.idValue(), version);
+
+            // then
+            assertThat(sut.findSingle(SingleUploadSessionId.of(session.idValue()))).isEmpty();
+            then(redisTemplate)
+                    .should()
+                    .convertAndSend(CHANNEL, "session-header|" + session.idValue() + "|" + version);
+        }
+
+        @Test
+        @DisplayName("무효화 버전보다 오래된 스냅샷은 다시 캐싱하지 않는다")
+        void invalidate_ThenPutStaleSnapshot_IsNotCached() {
+            // given
+            SingleUploadSession staleSession = SingleUploadSessionFixture.aCreatedSession();
+            sut.invalidate(staleSession.idValue(), staleSession.updatedAt().plusSeconds(5));
+
+            // when
+            sut.putSingle(staleSession);
+
+            // then
+            assertThat(sut.findSingle(SingleUploadSessionId.of(staleSession.idValue()))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("다른 인스턴스의 무효화 반영")
+    class RemoteEvictTest {
+
+        @Test
+        @DisplayName("레지스트리의 버전 로컬 제거로 캐시에서 제거하고 오래된 스냅샷을 막는다")
+        void evictLocal_RemovesAndBlocksStaleSnapshot() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(session.idValue());
+            sut.putMultipartHeader(session);
+
+            // when
+            nearCacheRegistry.evictLocal(
+                    SessionHeaderNearCacheAdapter.CACHE_NAME,
+                    session.idValue(),
+                    session.updatedAt().plusSeconds(5));
+            sut.putMultipartHeader(session);
+
+            // then
+            assertThat(sut.findMultipartHeader(id)).isEmpty();
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("near-cache를 끈 경우")
+    class DisabledTest {
+
+        @Test
+        @DisplayName("캐싱하지 않지만 무효화는 전파한다")
+        void disabled_DoesNotCacheButPublishes() {
+            // given
+            SessionHeaderNearCacheAdapter disabled = createAdapter(false);
+            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
+            disabled.putSingle(session);
+
+            // when
+            disabled.invalidate(session.idValue(), session.updatedAt());
+
+            // then
+            assertThat(disabled.findSingle(SingleUploadSessionId.of(session.idValue()))).isEmpty();
+            then(redisTemplate)
+                    .should()
+                    .convertAndSend(
+                            CHANNEL,
+                            "session-header|" + session.idValue() + "|" + session.updatedAt());
+        }
+    }
+
+    @Nested
+    @DisplayName("clear 메서드")
+    class ClearTest {
+
+        @Test
+        @DisplayName("두 세션 유형의 로컬 캐시를 모두 비우고 발행하지 않는다")
+        void clear_RemovesAllLocallyWithoutPublishing() {
+            // given
+            MultipartUploadSession multipart = MultipartUploadSessionFixture.anInitiatedSession();
+            SingleUploadSession single = SingleUploadSessionFixture.aCreatedSession();
+            sut.putMultipartHeader(multipart);
+            sut.putSingle(single);
+
+            // when
+            sut.clear();
+
+            // then
+            assertThat(sut.findMultipartHeader(MultipartUploadSessionId.of(multipart.idValue())))
+                    .isEmpty();
+            assertThat(sut.findSingle(SingleUploadSessionId.of(single.idValue()))).isEmpty();
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -1,40 +1,51 @@
 package com.ryuqq.fileflow.adapter.out.persistence.redis.session.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationRedisData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationWrite;
 import com.ryuqq.fileflow.adapter.out.persistence.redis.session.mapper.SessionExpirationRedisMapper;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.writer.SessionExpirationPipelineWriter;
 import com.ryuqq.fileflow.application.session.port.out.client.SessionExpirationClient;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
 @Tag("unit")
 @DisplayName("SessionExpirationRedisClient 단위 테스트")
 class SessionExpirationRedisClientTest {
 
+    private static final String SINGLE_KEY = "session:expiration:SINGLE";
+
     private StringRedisTemplate redisTemplate;
-    private ValueOperations<String, String> valueOps;
+    private ZSetOperations<String, String> zSetOps;
     private SessionExpirationRedisMapper mapper;
+    private SessionExpirationPipelineWriter writer;
     private SessionExpirationRedisClient sut;
 
     @SuppressWarnings("unchecked")
     @BeforeEach
     void setUp() {
         redisTemplate = mock(StringRedisTemplate.class);
-        valueOps = mock(ValueOperations.class);
+        zSetOps = mock(ZSetOperations.class);
         mapper = mock(SessionExpirationRedisMapper.class);
-        given(redisTemplate.opsForValue()).willReturn(valueOps);
-        sut = new SessionExpirationRedisClient(redisTemplate, mapper);
+        writer = mock(SessionExpirationPipelineWriter.class);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOps);
+        sut = new SessionExpirationRedisClient(redisTemplate, mapper, writer);
     }
 
     @Nested
@@ -42,44 +53,52 @@ class SessionExpirationRedisClientTest {
     class RegisterExpiration {
 
         @Test
-        @DisplayName("성공: 매퍼가 변환한 RedisData로 Redis에 등록한다")
-        void shouldSetRedisKeyWithMappedData() {
+        @DisplayName("성공: 매퍼가 변환한 만료 시각을 score로 하는 ZADD를 writer에 넘긴다")
+        void shouldSubmitAddWithMappedScore() {
             // given
-            String sessionId = "session-001";
-            String sessionType = "SINGLE";
-            Duration ttl = Duration.ofMinutes(30);
-            SessionExpiration expiration = SessionExpiration.of(sessionId, sessionType, ttl);
-
-            String expectedKey = "session:expiration:" + sessionType + ":" + sessionId;
+            SessionExpiration expiration =
+                    SessionExpiration.of("session-001", "SINGLE", Duration.ofMinutes(30));
             SessionExpirationRedisData redisData =
-                    new SessionExpirationRedisData(expectedKey, sessionType, ttl);
-            given(mapper.toRedisData(expiration)).willReturn(redisData);
+                    new SessionExpirationRedisData(SINGLE_KEY, "session-001", 1_000L);
+            given(mapper.toRedisData(eq(expiration), any(Instant.class))).willReturn(redisData);
 
             // when
             sut.registerExpiration(expiration);
 
             // then
-            verify(mapper).toRedisData(expiration);
-            verify(valueOps).set(expectedKey, sessionType, ttl);
+            verify(writer).submit(List.of(SessionExpirationWrite.add(redisData)));
+            verifyNoInteractions(zSetOps);
         }
+    }
+
+    @Nested
+    @DisplayName("registerExpirations 메서드")
+    class RegisterExpirations {
 
         @Test
-        @DisplayName("성공: MULTIPART 세션 유형도 올바르게 등록한다")
-        void shouldRegisterMultipartSessionType() {
+        @DisplayName("성공: 만료 목록을 ZADD 명령 목록으로 바꿔 writer에 한 번에 넘긴다")
+        void shouldSubmitAllAdds() {
             // given
-            SessionExpiration expiration =
-                    SessionExpiration.of("session-002", "MULTIPART", Duration.ofHours(1));
-
-            String expectedKey = "session:expiration:MULTIPART:session-002";
-            SessionExpirationRedisData redisData =
-                    new SessionExpirationRedisData(expectedKey, "MULTIPART", Duration.ofHours(1));
-            given(mapper.toRedisData(expiration)).willReturn(redisData);
+            SessionExpiration first =
+                    SessionExpiration.of("session-001", "SINGLE", Duration.ofMinutes(30));
+            SessionExpiration second =
+                    SessionExpiration.of("session-002", "SINGLE", Duration.ofMinutes(30));
+            SessionExpirationRedisData firstData =
+                    new SessionExpirationRedisData(SINGLE_KEY, "session-001", 1_000L);
+            SessionExpirationRedisData secondData =
+                    new SessionExpirationRedisData(SINGLE_KEY, "session-002", 1_000L);
+            given(mapper.toRedisData(eq(first), any(Instant.class))).willReturn(firstData);
+            given(mapper.toRedisData(eq(second), any(Instant.class))).willReturn(secondData);
 
             // when
-            sut.registerExpiration(expiration);
+            sut.registerExpirations(List.of(first, second));
 
             // then
-            verify(valueOps).set(expectedKey, "MULTIPART", Duration.ofHours(1));
+            verify(writer)
+                    .submit(
+                            List.of(
+                                    SessionExpirationWrite.add(firstData),
+                                    SessionExpirationWrite.add(secondData)));
         }
     }
 
@@ -88,20 +107,17 @@ class SessionExpirationRedisClientTest {
     class RemoveExpiration {
 
         @Test
-        @DisplayName("성공: 매퍼가 생성한 키로 Redis에서 삭제한다")
-        void shouldDeleteRedisKeyUsingMapper() {
+        @DisplayName("성공: 세션 유형 대기열의 ZREM을 writer에 넘긴다")
+        void shouldSubmitRemove() {
             // given
-            String sessionType = "SINGLE";
-            String sessionId = "session-001";
-            String expectedKey = "session:expiration:" + sessionType + ":" + sessionId;
-            given(mapper.buildKey(sessionType, sessionId)).willReturn(expectedKey);
+            given(mapper.buildKey("SINGLE")).willReturn(SINGLE_KEY);
 
             // when
-            sut.removeExpiration(sessionType, sessionId);
+            sut.removeExpiration("SINGLE", "session-001");
 
             // then
-            verify(mapper).buildKey(sessionType, sessionId);
-            verify(redisTemplate).delete(expectedKey);
+            verify(writer)
+                    .submit(List.of(SessionExpirationWrite.remove(SINGLE_KEY, "session-001")));
         }
 
         @Test
@@ -110,4 +126,74 @@ class SessionExpirationRedisClientTest {
             assertThat(sut).isInstanceOf(SessionExpirationClient.class);
         }
     }
+
+    @Nested
+    @DisplayName("claimDueExpirations 메서드")
+    class ClaimDueExpirations {
+
+        @Test
+        @DisplayName("성공: 기준 시각과 선점 만료 시각을 인자로 스크립트를 실행한다")
+        void shouldExecuteClaimScriptWithLease() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            given(mapper.buildKey("SINGLE")).willReturn(SINGLE_KEY);
+            given(
+                            redisTemplate.execute(
+                                    SessionExpirationRedisClient.CLAIM_SCRIPT,
+                                    List.of(SINGLE_KEY),
+                                    String.valueOf(now.toEpochMilli()),
+                                    "100",
+                                    String.valueOf(
+                                            now.plus(SessionExpirationRedisClient.CLAIM_LEASE)
+                                                    .toEpochMilli())))
+                    .willReturn(List.of("session-001", "session-002"));
+
+            // when
+            List<String> result = sut.claimDueExpirations("SINGLE", now, 100);
+
+            // then
+            assertThat(result).containsExactly("session-001", "session-002");
+        }
+
+        @Test
+        @DisplayName("스크립트 결과가 null이면 빈 목록을 반환한다")
+        void shouldReturnEmptyWhenScriptReturnsNull() {
+            // given
+            given(mapper.buildKey("SINGLE")).willReturn(SINGLE_KEY);
+
+            // when
+            List<String> result = sut.claimDueExpirations("SINGLE", Instant.now(), 100);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("acknowledgeExpirations 메서드")
+    class AcknowledgeExpirations {
+
+        @Test
+        @DisplayName("성공: 처리한 세션을 한 번에 대기열에서 제거한다")
+        void shouldRemoveAllMembers() {
+            // given
+            given(mapper.buildKey("SINGLE")).willReturn(SINGLE_KEY);
+
+            // when
+            sut.acknowledgeExpirations("SINGLE", List.of("session-001", "session-002"));
+
+            // then
+            verify(zSetOps).remove(SINGLE_KEY, "session-001", "session-002");
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 Redis를 호출하지 않는다")
+        void shouldSkipWhenEmpty() {
+            // when
+            sut.acknowledgeExpirations("SINGLE", List.of());
+
+            // then
+            verifyNoInteractions(zSetOps);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationRedisData;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import java.time.Duration;
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Test;
 @DisplayName("SessionExpirationRedisMapper 단위 테스트")
 class SessionExpirationRedisMapperTest {
 
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
     private SessionExpirationRedisMapper sut;
 
     @BeforeEach
@@ -27,21 +30,20 @@ class SessionExpirationRedisMapperTest {
     class ToRedisData {
 
         @Test
-        @DisplayName("성공: SessionExpiration을 RedisData로 변환한다")
+        @DisplayName("성공: 세션 유형별 대기열 키에 만료 시각을 score로 변환한다")
         void shouldConvertToRedisData() {
             // given
-            String sessionId = "session-001";
-            String sessionType = "SINGLE";
-            Duration ttl = Duration.ofMinutes(30);
-            SessionExpiration expiration = SessionExpiration.of(sessionId, sessionType, ttl);
+            SessionExpiration expiration =
+                    SessionExpiration.of("session-001", "SINGLE", Duration.ofMinutes(30));
 
             // when
-            SessionExpirationRedisData result = sut.toRedisData(expiration);
+            SessionExpirationRedisData result = sut.toRedisData(expiration, NOW);
 
             // then
-            assertThat(result.key()).isEqualTo("session:expiration:SINGLE:session-001");
-            assertThat(result.value()).isEqualTo("SINGLE");
-            assertThat(result.ttl()).isEqualTo(Duration.ofMinutes(30));
+            assertThat(result.key()).isEqualTo("session:expiration:SINGLE");
+            assertThat(result.member()).isEqualTo("session-001");
+            assertThat(result.score())
+                    .isEqualTo(NOW.plus(Duration.ofMinutes(30)).toEpochMilli());
         }
 
         @Test
@@ -52,12 +54,12 @@ class SessionExpirationRedisMapperTest {
                     SessionExpiration.of("session-002", "MULTIPART", Duration.ofHours(1));
 
             // when
-            SessionExpirationRedisData result = sut.toRedisData(expiration);
+            SessionExpirationRedisData result = sut.toRedisData(expiration, NOW);
 
             // then
-            assertThat(result.key()).isEqualTo("session:expiration:MULTIPART:session-002");
-            assertThat(result.value()).isEqualTo("MULTIPART");
-            assertThat(result.ttl()).isEqualTo(Duration.ofHours(1));
+            assertThat(result.key()).isEqualTo("session:expiration:MULTIPART");
+            assertThat(result.member()).isEqualTo("session-002");
+            assertThat(result.score()).isEqualTo(NOW.plus(Duration.ofHours(1)).toEpochMilli());
         }
     }
 
@@ -66,13 +68,13 @@ class SessionExpirationRedisMapperTest {
     class BuildKey {
 
         @Test
-        @DisplayName("성공: sessionType과 sessionId에 prefix를 붙여 키를 생성한다")
+        @DisplayName("성공: sessionType에 prefix를 붙여 대기열 키를 생성한다")
         void shouldBuildKeyWithPrefix() {
             // when
-            String result = sut.buildKey("SINGLE", "session-001");
+            String result = sut.buildKey("SINGLE");
 
             // then
-            assertThat(result).isEqualTo("session:expiration:SINGLE:session-001");
+            assertThat(result).isEqualTo("session:expiration:SINGLE");
         }
     }
 }
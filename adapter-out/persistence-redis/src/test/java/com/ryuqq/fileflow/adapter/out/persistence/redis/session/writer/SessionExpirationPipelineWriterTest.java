@@ -0,0 +1,241 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.session.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.config.SessionExpirationWriterProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationRedisData;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.dto.SessionExpirationWrite;
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+@DisplayName("SessionExpirationPipelineWriter 단위 테스트")
+class SessionExpirationPipelineWriterTest {
+
+    private static final String SINGLE_KEY = "session:expiration:SINGLE";
+    private static final String DROPPED_METRIC = "session_expiration_writes_dropped_total";
+
+    private StringRedisTemplate redisTemplate;
+    private FileFlowMetrics metrics;
+    private ScheduledExecutorService scheduler;
+    private SessionExpirationPipelineWriter sut;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        metrics = mock(FileFlowMetrics.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        sut =
+                new SessionExpirationPipelineWriter(
+                        redisTemplate,
+                        new SessionExpirationWriterProperties(
+                                Duration.ofMillis(5), 2, Duration.ofSeconds(1), 3),
+                        metrics,
+                        scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static SessionExpirationWrite add(String sessionId) {
+        return SessionExpirationWrite.add(
+                new SessionExpirationRedisData(SINGLE_KEY, sessionId, 1_000L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisConnection replayPipeline() {
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(captor.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        captor.getValue().doInRedis(connection);
+        return connection;
+    }
+
+    @Nested
+    @DisplayName("submit 메서드")
+    class Submit {
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 바로 버퍼에 넣고, 연속 쓰기에는 flush를 한 번만 예약한다")
+        void shouldScheduleSingleFlushForBurst() {
+            // when
+            sut.submit(List.of(add("session-001")));
+            sut.submit(List.of(add("session-002")));
+
+            // then
+            assertThat(sut.pendingCount()).isEqualTo(2);
+            verify(scheduler, times(1))
+                    .schedule(any(Runnable.class), eq(5L), eq(TimeUnit.MILLISECONDS));
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 후에만 버퍼에 넣는다")
+        void shouldEnqueueOnlyAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            sut.submit(List.of(add("session-001")));
+
+            // then
+            assertThat(sut.pendingCount()).isZero();
+            verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(sut.pendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 하지 않는다")
+        void shouldIgnoreEmptyList() {
+            // when
+            sut.submit(List.of());
+
+            // then
+            assertThat(sut.pendingCount()).isZero();
+            verifyNoInteractions(scheduler);
+        }
+
+        @Test
+        @DisplayName("용량을 넘으면 가장 오래된 명령부터 버리고 메트릭을 남긴다")
+        void shouldDropOldestWhenOverCapacity() {
+            // when
+            sut.submit(
+                    List.of(
+                            add("session-001"),
+                            add("session-002"),
+                            add("session-003"),
+                            add("session-004")));
+            sut.flush();
+
+            // then
+            assertThat(sut.pendingCount()).isEqualTo(1);
+            verify(metrics).incrementCounter(DROPPED_METRIC, 1);
+            StringRedisConnection connection = replayPipeline();
+            verify(connection).zAdd(SINGLE_KEY, 1_000L, "session-002");
+            verify(connection).zAdd(SINGLE_KEY, 1_000L, "session-003");
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드")
+    class Flush {
+
+        @Test
+        @DisplayName("같은 세션에 대한 쓰기는 마지막 것만 파이프라인으로 보낸다")
+        void shouldCoalesceWritesForSameSession() {
+            // given
+            sut.submit(
+                    List.of(
+                            add("session-001"),
+                            SessionExpirationWrite.remove(SINGLE_KEY, "session-001")));
+
+            // when
+            boolean sent = sut.flush();
+
+            // then
+            assertThat(sent).isTrue();
+            assertThat(sut.pendingCount()).isZero();
+            StringRedisConnection connection = replayPipeline();
+            verify(connection).zRem(SINGLE_KEY, "session-001");
+            verify(connection, never()).zAdd(anyString(), anyDouble(), anyString());
+        }
+
+        @Test
+        @DisplayName("한 번에 최대 maxBatchSize개까지만 보낸다")
+        void shouldSendAtMostMaxBatchSize() {
+            // given
+            sut.submit(List.of(add("session-001"), add("session-002"), add("session-003")));
+
+            // when
+            sut.flush();
+
+            // then
+            assertThat(sut.pendingCount()).isEqualTo(1);
+            StringRedisConnection connection = replayPipeline();
+            verify(connection).zAdd(SINGLE_KEY, 1_000L, "session-001");
+            verify(connection).zAdd(SINGLE_KEY, 1_000L, "session-002");
+        }
+
+        @Test
+        @DisplayName("Redis 호출이 실패하면 명령을 버퍼에 되돌린다")
+        void shouldRestoreBatchOnFailure() {
+            // given
+            sut.submit(List.of(add("session-001"), add("session-002")));
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            // when
+            boolean sent = sut.flush();
+
+            // then
+            assertThat(sent).isFalse();
+            assertThat(sut.pendingCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("재시도 대기 중 쌓인 명령으로 용량을 넘으면 되돌린 오래된 명령부터 버린다")
+        void shouldDropOldestWhenRestoreOverflows() {
+            // given
+            sut.submit(List.of(add("session-001"), add("session-002"), add("session-003")));
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .willAnswer(
+                            invocation -> {
+                                sut.submit(List.of(add("session-004"), add("session-005")));
+                                throw new RedisConnectionFailureException("connection refused");
+                            });
+
+            // when
+            boolean sent = sut.flush();
+
+            // then
+            assertThat(sent).isFalse();
+            assertThat(sut.pendingCount()).isEqualTo(3);
+            verify(metrics).incrementCounter(DROPPED_METRIC, 2);
+        }
+
+        @Test
+        @DisplayName("버퍼가 비어 있으면 Redis를 호출하지 않는다")
+        void shouldSkipWhenEmpty() {
+            // when
+            boolean sent = sut.flush();
+
+            // then
+            assertThat(sent).isTrue();
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ryuqq.fileflow.adapter.out.persistence.redis.transform.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("TransformRequestCacheCodec 단위 테스트")
+class TransformRequestCacheCodecTest {
+
+    private final TransformRequestCacheCodec sut = new TransformRequestCacheCodec();
+
+    @Nested
+    @DisplayName("encode/decode 왕복")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("완료된 요청을 디코딩하면 이벤트를 제외한 모든 필드가 같다")
+        void roundTrip_CompletedRequest_PreservesAllFields() {
+            // given
+            TransformRequest request = TransformRequestFixture.aCompletedRequest();
+            request.updateVersion(3L);
+
+            // when
+            TransformRequest decoded = sut.decode(sut.encode(request));
+
+            // then
+            assertThat(decoded)
+                    .usingRecursiveComparison()
+                    .ignoringFields("events")
+                    .isEqualTo(request);
+        }
+
+        @Test
+        @DisplayName("비어 있는 파라미터와 에러 메시지도 그대로 복원한다")
+        void roundTrip_FailedConvertRequest_PreservesNullableFields() {
+            // given
+            TransformRequest request = TransformRequestFixture.aConvertRequest();
+            request.fail("Processing error", request.createdAt().plusSeconds(30));
+
+            // when
+            TransformRequest decoded = sut.decode(sut.encode(request));
+
+            // then
+            assertThat(decoded)
+                    .usingRecursiveComparison()
+                    .ignoringFields("events")
+                    .isEqualTo(request);
+            assertThat(decoded.params().width()).isNull();
+            assertThat(decoded.lastError()).isEqualTo("Processing error");
+        }
+
+        @Test
+        @DisplayName("콜백과 합류 대상이 있는 요청도 그대로 복원한다")
+        void roundTrip_Follower_PreservesCallbackAndLeader() {
+            // given
+            TransformRequest request =
+                    TransformRequestFixture.aFollowerOf(TransformRequestFixture.aResizeRequest());
+
+            // when
+            TransformRequest decoded = sut.decode(sut.encode(request));
+
+            // then
+            assertThat(decoded)
+                    .usingRecursiveComparison()
+                    .ignoringFields("events")
+                    .isEqualTo(request);
+        }
+    }
+
+    @Nested
+    @DisplayName("decode 실패")
+    class DecodeFailureTest {
+
+        @Test
+        @DisplayName("형식 버전이 다르면 예외가 발생한다")
+        void decode_UnknownVersion_Throws() {
+            // given
+            byte[] bytes = sut.encode(TransformRequestFixture.aCompletedRequest());
+            bytes[0] = (byte) (TransformRequestCacheCodec.FORMAT_VERSION + 1);
+
+            // when & then
+            assertThatThrownBy(() -> sut.decode(bytes)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("값이 잘려 있으면 예외가 발생한다")
+        void decode_Truncated_Throws() {
+            // given
+            byte[] bytes = sut.encode(TransformRequestFixture.aCompletedRequest());
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+            // when & then
+            assertThatThrownBy(() -> sut.decode(truncated))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
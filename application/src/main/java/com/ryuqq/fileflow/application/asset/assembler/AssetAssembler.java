@@ -1,7 +1,10 @@
 package com.ryuqq.fileflow.application.asset.assembler;
 
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCursor;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,6 +25,24 @@ public class AssetAssembler {
                 asset.originId(),
                 asset.purpose(),
                 asset.source(),
-                asset.createdAt());
+                asset.createdAt(),
+                asset.updatedAt());
+    }
+
+    /**
+     * size + 1개까지 조회한 Asset 목록을 슬라이스로 변환합니다.
+     *
+     * <p>초과분이 있으면 다음 페이지가 있는 것으로 보고, 마지막 Asset의 (createdAt, assetId)를 다음 커서로 사용합니다.
+     */
+    public SliceResponse<AssetResponse> toSlice(List<Asset> assets, int size) {
+        boolean hasNext = assets.size() > size;
+        List<Asset> page = assets.stream().limit(size).toList();
+        String nextCursor = null;
+        if (hasNext) {
+            Asset last = page.get(page.size() - 1);
+            nextCursor = AssetCursor.of(last.createdAt(), last.idValue()).encode();
+        }
+        return SliceResponse.of(
+                page.stream().map(this::toResponse).toList(), size, hasNext, nextCursor);
     }
 }
@@ -14,6 +14,7 @@ public class AssetMetadataAssembler {
                 metadata.width(),
                 metadata.height(),
                 metadata.transformType(),
-                metadata.createdAt());
+                metadata.createdAt(),
+                metadata.updatedAt());
     }
 }
@@ -0,0 +1,55 @@
+package com.ryuqq.fileflow.application.asset.dto.query;
+
+import com.ryuqq.fileflow.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+
+/**
+ * Asset 목록 키셋 페이지 조회 파라미터.
+ *
+ * <p>(createdAt, assetId) 순서로 정렬하며, 커서는 이전 응답의 nextCursor를 그대로 사용합니다.
+ *
+ * @param source 요청 출처 (필수)
+ * @param purpose 용도 (null이면 전체)
+ * @param accessType 접근 유형 (null이면 전체)
+ * @param createdFrom 생성 시각 하한, 포함 (null이면 제한 없음)
+ * @param createdTo 생성 시각 상한, 미포함 (null이면 제한 없음)
+ * @param direction 정렬 방향 (null이면 오름차순)
+ * @param cursorParams 커서와 페이지 크기
+ */
+public record AssetSearchParams(
+        String source,
+        String purpose,
+        AccessType accessType,
+        Instant createdFrom,
+        Instant createdTo,
+        SortDirection direction,
+        CommonCursorParams cursorParams) {
+
+    public AssetSearchParams {
+        if (cursorParams == null) {
+            cursorParams = CommonCursorParams.defaultPage();
+        }
+    }
+
+    public static AssetSearchParams of(
+            String source,
+            String purpose,
+            AccessType accessType,
+            Instant createdFrom,
+            Instant createdTo,
+            SortDirection direction,
+            CommonCursorParams cursorParams) {
+        return new AssetSearchParams(
+                source, purpose, accessType, createdFrom, createdTo, direction, cursorParams);
+    }
+
+    public String cursor() {
+        return cursorParams.cursor();
+    }
+
+    public Integer size() {
+        return cursorParams.size();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ryuqq.fileflow.application.asset.dto.response;
+
+import java.util.List;
+
+/**
+ * Asset 일괄 조회 응답.
+ *
+ * @param assets 조회된 Asset 목록 (요청 순서, 중복 ID 제외)
+ * @param notFoundAssetIds 존재하지 않거나 삭제된 Asset ID 목록 (요청 순서)
+ */
+public record AssetBatchResponse(List<AssetDetailResponse> assets, List<String> notFoundAssetIds) {
+
+    public AssetBatchResponse {
+        assets = List.copyOf(assets);
+        notFoundAssetIds = List.copyOf(notFoundAssetIds);
+    }
+}
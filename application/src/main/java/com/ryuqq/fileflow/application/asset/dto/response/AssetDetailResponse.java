@@ -0,0 +1,9 @@
+package com.ryuqq.fileflow.application.asset.dto.response;
+
+/**
+ * Asset과 메타데이터를 함께 담은 응답.
+ *
+ * @param asset Asset 정보
+ * @param metadata 메타데이터 (추출 전이면 null)
+ */
+public record AssetDetailResponse(AssetResponse asset, AssetMetadataResponse metadata) {}
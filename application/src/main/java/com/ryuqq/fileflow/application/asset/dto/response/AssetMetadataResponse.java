@@ -8,4 +8,5 @@ public record AssetMetadataResponse(
         int width,
         int height,
         String transformType,
-        Instant createdAt) {}
+        Instant createdAt,
+        Instant updatedAt) {}
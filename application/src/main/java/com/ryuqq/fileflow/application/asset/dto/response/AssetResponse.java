@@ -18,4 +18,5 @@ public record AssetResponse(
         String originId,
         String purpose,
         String source,
-        Instant createdAt) {}
+        Instant createdAt,
+        Instant updatedAt) {}
@@ -0,0 +1,21 @@
+package com.ryuqq.fileflow.application.asset.factory.query;
+
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.common.vo.CursorPageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssetQueryFactory {
+
+    public AssetSearchCriteria createCriteria(AssetSearchParams params) {
+        return AssetSearchCriteria.of(
+                params.source(),
+                params.purpose(),
+                params.accessType(),
+                params.createdFrom(),
+                params.createdTo(),
+                params.direction(),
+                CursorPageRequest.of(params.cursor(), params.size()));
+    }
+}
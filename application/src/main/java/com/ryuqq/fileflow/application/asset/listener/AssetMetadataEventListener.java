@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.asset.listener;
 
 import com.ryuqq.fileflow.application.asset.dto.command.RegisterAssetMetadataCommand;
 import com.ryuqq.fileflow.application.asset.factory.command.AssetMetadataCommandFactory;
+import com.ryuqq.fileflow.application.asset.manager.cache.AssetCacheManager;
 import com.ryuqq.fileflow.application.asset.manager.command.AssetMetadataCommandManager;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.transform.event.TransformCompletedEvent;
@@ -17,12 +18,15 @@ public class AssetMetadataEventListener {
 
     private final AssetMetadataCommandFactory assetMetadataCommandFactory;
     private final AssetMetadataCommandManager assetMetadataCommandManager;
+    private final AssetCacheManager assetCacheManager;
 
     public AssetMetadataEventListener(
             AssetMetadataCommandFactory assetMetadataCommandFactory,
-            AssetMetadataCommandManager assetMetadataCommandManager) {
+            AssetMetadataCommandManager assetMetadataCommandManager,
+            AssetCacheManager assetCacheManager) {
         this.assetMetadataCommandFactory = assetMetadataCommandFactory;
         this.assetMetadataCommandManager = assetMetadataCommandManager;
+        this.assetCacheManager = assetCacheManager;
     }
 
     @EventListener
@@ -37,6 +41,7 @@ public class AssetMetadataEventListener {
 
             AssetMetadata metadata = assetMetadataCommandFactory.createAssetMetadata(command);
             assetMetadataCommandManager.persist(metadata);
+            assetCacheManager.evictAssetMetadataAfterCommit(event.resultAssetId());
 
             log.info(
                     "AssetMetadata 등록 완료: resultAssetId={}, transformType={}, {}x{}",
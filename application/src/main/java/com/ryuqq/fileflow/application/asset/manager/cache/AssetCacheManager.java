@@ -0,0 +1,52 @@
+package com.ryuqq.fileflow.application.asset.manager.cache;
+
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCacheKey;
+import com.ryuqq.fileflow.domain.asset.vo.AssetMetadataCacheKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 에셋 캐시 무효화 Manager.
+ *
+ * <p>트랜잭션 안에서 호출되면 커밋 후에 무효화합니다. 커밋 전에 지우면 동시에 들어온 조회가 변경 전 상태를 다시 캐싱할 수 있기 때문입니다.
+ */
+@Component
+public class AssetCacheManager {
+
+    private final CachePort<Asset> assetCachePort;
+    private final CachePort<AssetMetadata> assetMetadataCachePort;
+
+    public AssetCacheManager(
+            CachePort<Asset> assetCachePort, CachePort<AssetMetadata> assetMetadataCachePort) {
+        this.assetCachePort = assetCachePort;
+        this.assetMetadataCachePort = assetMetadataCachePort;
+    }
+
+    public void evictAssetAfterCommit(String assetId) {
+        String cacheKey = AssetCacheKey.of(assetId).value();
+        runAfterCommit(() -> assetCachePort.evict(cacheKey));
+    }
+
+    public void evictAssetMetadataAfterCommit(String assetId) {
+        String cacheKey = AssetMetadataCacheKey.of(assetId).value();
+        runAfterCommit(() -> assetMetadataCachePort.evict(cacheKey));
+    }
+
+    private void runAfterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        eviction.run();
+                    }
+                });
+    }
+}
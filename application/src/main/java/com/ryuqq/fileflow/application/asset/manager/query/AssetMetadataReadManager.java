@@ -1,9 +1,13 @@
 package com.ryuqq.fileflow.application.asset.manager.query;
 
 import com.ryuqq.fileflow.application.asset.port.out.query.AssetMetadataQueryPort;
+import com.ryuqq.fileflow.application.common.component.CacheLoadCoalescer;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.exception.AssetMetadataNotFoundException;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetMetadataCacheKey;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +15,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AssetMetadataReadManager {
 
     private final AssetMetadataQueryPort assetMetadataQueryPort;
+    private final CachePort<AssetMetadata> assetMetadataCachePort;
+    private final CacheLoadCoalescer cacheLoadCoalescer;
 
-    public AssetMetadataReadManager(AssetMetadataQueryPort assetMetadataQueryPort) {
+    public AssetMetadataReadManager(
+            AssetMetadataQueryPort assetMetadataQueryPort,
+            CachePort<AssetMetadata> assetMetadataCachePort,
+            CacheLoadCoalescer cacheLoadCoalescer) {
         this.assetMetadataQueryPort = assetMetadataQueryPort;
+        this.assetMetadataCachePort = assetMetadataCachePort;
+        this.cacheLoadCoalescer = cacheLoadCoalescer;
     }
 
     @Transactional(readOnly = true)
@@ -22,4 +33,35 @@ public class AssetMetadataReadManager {
                 .findByAssetId(AssetId.of(assetId))
                 .orElseThrow(() -> new AssetMetadataNotFoundException(assetId));
     }
+
+    /**
+     * 에셋 메타데이터를 캐시 우선으로 조회합니다.
+     *
+     * <p>같은 에셋의 동시 캐시 미스는 한 번의 DB 조회로 합쳐집니다. 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+     */
+    public AssetMetadata getCachedAssetMetadata(String assetId) {
+        String cacheKey = AssetMetadataCacheKey.of(assetId).value();
+        return assetMetadataCachePort
+                .get(cacheKey)
+                .orElseGet(
+                        () -> cacheLoadCoalescer.load(cacheKey, () -> load(assetId, cacheKey)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AssetMetadata> findAssetMetadata(List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return List.of();
+        }
+        return assetMetadataQueryPort.findAllByAssetIds(
+                assetIds.stream().map(AssetId::of).toList());
+    }
+
+    private AssetMetadata load(String assetId, String cacheKey) {
+        AssetMetadata metadata =
+                assetMetadataQueryPort
+                        .findByAssetId(AssetId.of(assetId))
+                        .orElseThrow(() -> new AssetMetadataNotFoundException(assetId));
+        assetMetadataCachePort.set(cacheKey, metadata);
+        return metadata;
+    }
 }
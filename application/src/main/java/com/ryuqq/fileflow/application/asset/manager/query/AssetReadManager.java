@@ -1,9 +1,14 @@
 package com.ryuqq.fileflow.application.asset.manager.query;
 
 import com.ryuqq.fileflow.application.asset.port.out.query.AssetQueryPort;
+import com.ryuqq.fileflow.application.common.component.CacheLoadCoalescer;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.exception.AssetNotFoundException;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCacheKey;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AssetReadManager {
 
     private final AssetQueryPort assetQueryPort;
+    private final CachePort<Asset> assetCachePort;
+    private final CacheLoadCoalescer cacheLoadCoalescer;
 
-    public AssetReadManager(AssetQueryPort assetQueryPort) {
+    public AssetReadManager(
+            AssetQueryPort assetQueryPort,
+            CachePort<Asset> assetCachePort,
+            CacheLoadCoalescer cacheLoadCoalescer) {
         this.assetQueryPort = assetQueryPort;
+        this.assetCachePort = assetCachePort;
+        this.cacheLoadCoalescer = cacheLoadCoalescer;
     }
 
     @Transactional(readOnly = true)
@@ -22,4 +34,44 @@ public class AssetReadManager {
                 .findById(AssetId.of(assetId))
                 .orElseThrow(() -> new AssetNotFoundException(assetId));
     }
+
+    /**
+     * 에셋을 캐시 우선으로 조회합니다. 상태를 바꾸는 흐름은 {@link #getAsset}을 사용합니다.
+     *
+     * <p>같은 에셋의 동시 캐시 미스는 한 번의 DB 조회로 합쳐집니다. 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+     */
+    public Asset getCachedAsset(String assetId) {
+        String cacheKey = AssetCacheKey.of(assetId).value();
+        return assetCachePort
+                .get(cacheKey)
+                .orElseGet(
+                        () -> cacheLoadCoalescer.load(cacheKey, () -> load(assetId, cacheKey)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Asset> findAssets(List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return List.of();
+        }
+        return assetQueryPort.findAllByIds(assetIds.stream().map(AssetId::of).toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Asset> searchAssets(AssetSearchCriteria criteria) {
+        return assetQueryPort.findByCriteria(criteria);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsAsset(String assetId) {
+        return assetQueryPort.findById(AssetId.of(assetId)).isPresent();
+    }
+
+    private Asset load(String assetId, String cacheKey) {
+        Asset asset =
+                assetQueryPort
+                        .findById(AssetId.of(assetId))
+                        .orElseThrow(() -> new AssetNotFoundException(assetId));
+        assetCachePort.set(cacheKey, asset);
+        return asset;
+    }
 }
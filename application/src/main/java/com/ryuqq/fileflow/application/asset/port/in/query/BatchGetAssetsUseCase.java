@@ -0,0 +1,9 @@
+package com.ryuqq.fileflow.application.asset.port.in.query;
+
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
+import java.util.List;
+
+public interface BatchGetAssetsUseCase {
+
+    AssetBatchResponse execute(List<String> assetIds);
+}
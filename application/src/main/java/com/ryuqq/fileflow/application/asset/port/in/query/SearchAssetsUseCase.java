@@ -0,0 +1,11 @@
+package com.ryuqq.fileflow.application.asset.port.in.query;
+
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+
+/** Asset 목록 키셋 페이지 조회 UseCase (Query) */
+public interface SearchAssetsUseCase {
+
+    SliceResponse<AssetResponse> execute(AssetSearchParams params);
+}
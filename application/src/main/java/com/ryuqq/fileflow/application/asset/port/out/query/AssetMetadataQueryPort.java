@@ -2,9 +2,12 @@ package com.ryuqq.fileflow.application.asset.port.out.query;
 
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import java.util.List;
 import java.util.Optional;
 
 public interface AssetMetadataQueryPort {
 
     Optional<AssetMetadata> findByAssetId(AssetId assetId);
+
+    List<AssetMetadata> findAllByAssetIds(List<AssetId> assetIds);
 }
@@ -2,9 +2,21 @@ package com.ryuqq.fileflow.application.asset.port.out.query;
 
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import java.util.List;
 import java.util.Optional;
 
 public interface AssetQueryPort {
 
     Optional<Asset> findById(AssetId assetId);
+
+    List<Asset> findAllByIds(List<AssetId> assetIds);
+
+    /**
+     * 조건에 맞는 Asset을 (createdAt, assetId) 순서로 커서 이후부터 조회합니다.
+     *
+     * @param criteria 조회 조건
+     * @return 최대 criteria.fetchSize()개의 Asset
+     */
+    List<Asset> findByCriteria(AssetSearchCriteria criteria);
 }
@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.asset.service.command;
 
 import com.ryuqq.fileflow.application.asset.dto.command.DeleteAssetCommand;
 import com.ryuqq.fileflow.application.asset.factory.command.AssetCommandFactory;
+import com.ryuqq.fileflow.application.asset.manager.cache.AssetCacheManager;
 import com.ryuqq.fileflow.application.asset.manager.command.AssetCommandManager;
 import com.ryuqq.fileflow.application.asset.port.in.command.DeleteAssetUseCase;
 import com.ryuqq.fileflow.application.asset.validator.AssetPolicyValidator;
@@ -15,14 +16,17 @@ public class DeleteAssetService implements DeleteAssetUseCase {
     private final AssetCommandFactory assetCommandFactory;
     private final AssetPolicyValidator assetPolicyValidator;
     private final AssetCommandManager assetCommandManager;
+    private final AssetCacheManager assetCacheManager;
 
     public DeleteAssetService(
             AssetCommandFactory assetCommandFactory,
             AssetPolicyValidator assetPolicyValidator,
-            AssetCommandManager assetCommandManager) {
+            AssetCommandManager assetCommandManager,
+            AssetCacheManager assetCacheManager) {
         this.assetCommandFactory = assetCommandFactory;
         this.assetPolicyValidator = assetPolicyValidator;
         this.assetCommandManager = assetCommandManager;
+        this.assetCacheManager = assetCacheManager;
     }
 
     @Override
@@ -33,5 +37,6 @@ public class DeleteAssetService implements DeleteAssetUseCase {
         asset.delete(context.changedAt());
 
         assetCommandManager.persist(asset);
+        assetCacheManager.evictAssetAfterCommit(asset.idValue());
     }
 }
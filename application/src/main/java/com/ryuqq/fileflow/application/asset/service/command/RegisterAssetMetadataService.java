@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.asset.service.command;
 
 import com.ryuqq.fileflow.application.asset.dto.command.RegisterAssetMetadataCommand;
 import com.ryuqq.fileflow.application.asset.factory.command.AssetMetadataCommandFactory;
+import com.ryuqq.fileflow.application.asset.manager.cache.AssetCacheManager;
 import com.ryuqq.fileflow.application.asset.manager.command.AssetMetadataCommandManager;
 import com.ryuqq.fileflow.application.asset.port.in.command.RegisterAssetMetadataUseCase;
 import com.ryuqq.fileflow.application.asset.validator.AssetExistenceValidator;
@@ -15,14 +16,17 @@ public class RegisterAssetMetadataService implements RegisterAssetMetadataUseCas
     private final AssetExistenceValidator assetExistenceValidator;
     private final AssetMetadataCommandFactory assetMetadataCommandFactory;
     private final AssetMetadataCommandManager assetMetadataCommandManager;
+    private final AssetCacheManager assetCacheManager;
 
     public RegisterAssetMetadataService(
             AssetExistenceValidator assetExistenceValidator,
             AssetMetadataCommandFactory assetMetadataCommandFactory,
-            AssetMetadataCommandManager assetMetadataCommandManager) {
+            AssetMetadataCommandManager assetMetadataCommandManager,
+            AssetCacheManager assetCacheManager) {
         this.assetExistenceValidator = assetExistenceValidator;
         this.assetMetadataCommandFactory = assetMetadataCommandFactory;
         this.assetMetadataCommandManager = assetMetadataCommandManager;
+        this.assetCacheManager = assetCacheManager;
     }
 
     @Transactional
@@ -31,5 +35,6 @@ public class RegisterAssetMetadataService implements RegisterAssetMetadataUseCas
         assetExistenceValidator.validateExists(command.assetId());
         AssetMetadata metadata = assetMetadataCommandFactory.createAssetMetadata(command);
         assetMetadataCommandManager.persist(metadata);
+        assetCacheManager.evictAssetMetadataAfterCommit(command.assetId());
     }
 }
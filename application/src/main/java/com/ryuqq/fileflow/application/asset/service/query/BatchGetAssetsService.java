@@ -0,0 +1,74 @@
+package com.ryuqq.fileflow.application.asset.service.query;
+
+import com.ryuqq.fileflow.application.asset.assembler.AssetAssembler;
+import com.ryuqq.fileflow.application.asset.assembler.AssetMetadataAssembler;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetDetailResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
+import com.ryuqq.fileflow.application.asset.manager.query.AssetMetadataReadManager;
+import com.ryuqq.fileflow.application.asset.manager.query.AssetReadManager;
+import com.ryuqq.fileflow.application.asset.port.in.query.BatchGetAssetsUseCase;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asset 일괄 조회 서비스.
+ *
+ * <p>요청한 ID 전체를 Asset 한 번, 메타데이터 한 번의 IN 조회로 읽어 요청 순서대로 조립합니다.
+ */
+@Service
+public class BatchGetAssetsService implements BatchGetAssetsUseCase {
+
+    private final AssetReadManager assetReadManager;
+    private final AssetMetadataReadManager assetMetadataReadManager;
+    private final AssetAssembler assetAssembler;
+    private final AssetMetadataAssembler assetMetadataAssembler;
+
+    public BatchGetAssetsService(
+            AssetReadManager assetReadManager,
+            AssetMetadataReadManager assetMetadataReadManager,
+            AssetAssembler assetAssembler,
+            AssetMetadataAssembler assetMetadataAssembler) {
+        this.assetReadManager = assetReadManager;
+        this.assetMetadataReadManager = assetMetadataReadManager;
+        this.assetAssembler = assetAssembler;
+        this.assetMetadataAssembler = assetMetadataAssembler;
+    }
+
+    @Override
+    public AssetBatchResponse execute(List<String> assetIds) {
+        List<String> distinctIds = assetIds.stream().distinct().toList();
+
+        List<Asset> assets = assetReadManager.findAssets(distinctIds);
+        Map<String, Asset> assetsById =
+                assets.stream().collect(Collectors.toMap(Asset::idValue, Function.identity()));
+        Map<String, AssetMetadata> metadataByAssetId =
+                assetMetadataReadManager
+                        .findAssetMetadata(assets.stream().map(Asset::idValue).toList())
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        AssetMetadata::assetIdValue, Function.identity()));
+
+        List<AssetDetailResponse> found = new ArrayList<>(assetsById.size());
+        List<String> notFound = new ArrayList<>();
+        for (String assetId : distinctIds) {
+            Asset asset = assetsById.get(assetId);
+            if (asset == null) {
+                notFound.add(assetId);
+                continue;
+            }
+            AssetMetadata metadata = metadataByAssetId.get(assetId);
+            AssetMetadataResponse metadataResponse =
+                    metadata == null ? null : assetMetadataAssembler.toResponse(metadata);
+            found.add(new AssetDetailResponse(assetAssembler.toResponse(asset), metadataResponse));
+        }
+        return new AssetBatchResponse(found, notFound);
+    }
+}
@@ -22,7 +22,7 @@ public class GetAssetMetadataService implements GetAssetMetadataUseCase {
 
     @Override
     public AssetMetadataResponse execute(String assetId) {
-        AssetMetadata metadata = assetMetadataReadManager.getAssetMetadata(assetId);
+        AssetMetadata metadata = assetMetadataReadManager.getCachedAssetMetadata(assetId);
         return assetMetadataAssembler.toResponse(metadata);
     }
 }
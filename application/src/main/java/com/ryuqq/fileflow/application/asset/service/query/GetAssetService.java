@@ -20,7 +20,7 @@ public class GetAssetService implements GetAssetUseCase {
 
     @Override
     public AssetResponse execute(String assetId) {
-        Asset asset = assetReadManager.getAsset(assetId);
+        Asset asset = assetReadManager.getCachedAsset(assetId);
         return assetAssembler.toResponse(asset);
     }
 }
@@ -0,0 +1,38 @@
+package com.ryuqq.fileflow.application.asset.service.query;
+
+import com.ryuqq.fileflow.application.asset.assembler.AssetAssembler;
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.asset.factory.query.AssetQueryFactory;
+import com.ryuqq.fileflow.application.asset.manager.query.AssetReadManager;
+import com.ryuqq.fileflow.application.asset.port.in.query.SearchAssetsUseCase;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/** Asset 목록 키셋 페이지 조회 서비스 */
+@Service
+public class SearchAssetsService implements SearchAssetsUseCase {
+
+    private final AssetQueryFactory assetQueryFactory;
+    private final AssetReadManager assetReadManager;
+    private final AssetAssembler assetAssembler;
+
+    public SearchAssetsService(
+            AssetQueryFactory assetQueryFactory,
+            AssetReadManager assetReadManager,
+            AssetAssembler assetAssembler) {
+        this.assetQueryFactory = assetQueryFactory;
+        this.assetReadManager = assetReadManager;
+        this.assetAssembler = assetAssembler;
+    }
+
+    @Override
+    public SliceResponse<AssetResponse> execute(AssetSearchParams params) {
+        AssetSearchCriteria criteria = assetQueryFactory.createCriteria(params);
+        List<Asset> assets = assetReadManager.searchAssets(criteria);
+        return assetAssembler.toSlice(assets, criteria.size());
+    }
+}
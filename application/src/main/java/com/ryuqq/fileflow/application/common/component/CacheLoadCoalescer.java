@@ -0,0 +1,57 @@
+package com.ryuqq.fileflow.application.common.component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 미스 로드 병합기.
+ *
+ * <p>같은 키로 동시에 들어온 캐시 미스를 한 번의 로드로 합칩니다. 먼저 도착한 요청만 loader를 실행하고, 뒤따르는 요청은 그 결과(또는 예외)를
+ * 그대로 받습니다. 인기 있는 키가 만료되는 순간 DB로 같은 조회가 몰리는 것을 인스턴스 단위로 막습니다.
+ *
+ * <p>로드가 끝나면 키를 즉시 비우므로 결과를 보관하지 않습니다. 결과 보관은 캐시의 몫입니다.
+ */
+@Component
+public class CacheLoadCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+            new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+        try {
+            T value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
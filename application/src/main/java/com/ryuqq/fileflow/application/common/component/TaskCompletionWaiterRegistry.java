@@ -0,0 +1,115 @@
+package com.ryuqq.fileflow.application.common.component;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종료를 기다리는 요청의 인스턴스 메모리 대기열.
+ *
+ * <p>대기 요청은 스레드를 점유하지 않고 {@link CompletableFuture}로만 보관합니다. 종료 신호를 받거나 타임아웃이 지나면 Future가 완료되며,
+ * 완료 후속 작업(DB 재조회)은 신호 수신 스레드나 타이머 스레드가 아닌 virtual thread에서 실행됩니다. 먼저 완료되면 타임아웃 예약도
+ * 취소합니다.
+ *
+ * <p>인스턴스당 대기 요청은 {@value #MAX_WAITERS}건까지만 보관합니다. 가득 차면 이미 완료된 Future를 돌려주므로 호출자는 기다리지 않고
+ * 바로 조회합니다.
+ */
+@Component
+public class TaskCompletionWaiterRegistry implements DisposableBean {
+
+    static final int MAX_WAITERS = 10_000;
+
+    private final Map<TaskCompletionSignal, Set<CompletableFuture<Void>>> waiters =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final ExecutorService executor;
+    private final int maxWaiters;
+
+    public TaskCompletionWaiterRegistry() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), MAX_WAITERS);
+    }
+
+    TaskCompletionWaiterRegistry(ExecutorService executor, int maxWaiters) {
+        this.executor = executor;
+        this.maxWaiters = maxWaiters;
+    }
+
+    /**
+     * 종료 신호 또는 타임아웃 중 먼저 오는 쪽에 완료되는 대기 Future를 등록합니다.
+     *
+     * <p>더 기다릴 필요가 없어지면 {@code cancel}로 대기열에서 제거합니다. 대기열이 가득 차면 등록하지 않고 이미 완료된 Future를
+     * 반환합니다.
+     *
+     * @param signal 기다릴 작업
+     * @param timeout 최대 대기 시간
+     * @return 대기 Future (타임아웃이어도 정상 완료)
+     */
+    public CompletableFuture<Void> await(TaskCompletionSignal signal, Duration timeout) {
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.compute(
+                signal,
+                (key, registered) -> {
+                    Set<CompletableFuture<Void>> set =
+                            registered != null ? registered : ConcurrentHashMap.newKeySet();
+                    set.add(waiter);
+                    return set;
+                });
+        CompletableFuture<Void> timer =
+                new CompletableFuture<Void>()
+                        .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        timer.thenRunAsync(() -> waiter.complete(null), executor);
+        waiter.whenComplete(
+                (ignored, error) -> {
+                    timer.cancel(false);
+                    remove(signal, waiter);
+                    waiterCount.decrementAndGet();
+                });
+        return waiter;
+    }
+
+    /**
+     * 작업을 기다리는 모든 요청을 깨웁니다.
+     *
+     * @param signal 종료된 작업
+     */
+    public void signal(TaskCompletionSignal signal) {
+        Set<CompletableFuture<Void>> signalled = waiters.remove(signal);
+        if (signalled == null) {
+            return;
+        }
+        for (CompletableFuture<Void> waiter : signalled) {
+            executor.execute(() -> waiter.complete(null));
+        }
+    }
+
+    public int waitingCount() {
+        return waiters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remove(TaskCompletionSignal signal, CompletableFuture<Void> waiter) {
+        waiters.computeIfPresent(
+                signal,
+                (key, registered) -> {
+                    registered.remove(waiter);
+                    return registered.isEmpty() ? null : registered;
+                });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
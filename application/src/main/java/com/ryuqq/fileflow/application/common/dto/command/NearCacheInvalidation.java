@@ -0,0 +1,43 @@
+package com.ryuqq.fileflow.application.common.dto.command;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 다른 인스턴스가 전파한 near-cache 무효화 요청.
+ *
+ * @param cacheName 캐시 이름 (예: "asset")
+ * @param key 무효화할 캐시 키. {@code null}이면 해당 캐시 전체를 비웁니다
+ * @param version 변경 후 값의 버전. {@code null}이 아니면 이보다 오래된 값이 다시 캐싱되지 않게 합니다
+ */
+public record NearCacheInvalidation(String cacheName, String key, Instant version) {
+
+    public NearCacheInvalidation {
+        Objects.requireNonNull(cacheName, "cacheName must not be null");
+    }
+
+    public static NearCacheInvalidation key(String cacheName, String key) {
+        return new NearCacheInvalidation(
+                cacheName, Objects.requireNonNull(key, "key must not be null"), null);
+    }
+
+    public static NearCacheInvalidation versionedKey(
+            String cacheName, String key, Instant version) {
+        return new NearCacheInvalidation(
+                cacheName,
+                Objects.requireNonNull(key, "key must not be null"),
+                Objects.requireNonNull(version, "version must not be null"));
+    }
+
+    public static NearCacheInvalidation all(String cacheName) {
+        return new NearCacheInvalidation(cacheName, null, null);
+    }
+
+    public boolean isAll() {
+        return key == null;
+    }
+
+    public boolean isVersioned() {
+        return version != null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ryuqq.fileflow.application.common.dto.command;
+
+import java.util.Objects;
+
+/**
+ * 비동기 작업이 종료 상태(COMPLETED/FAILED)에 도달했음을 알리는 신호.
+ *
+ * <p>워커가 커밋 후 발행하고, web-api 인스턴스들이 받아 해당 작업의 완료를 기다리는 요청을 깨웁니다.
+ *
+ * @param taskType 작업 유형 ({@link #DOWNLOAD} 또는 {@link #TRANSFORM})
+ * @param taskId 작업 ID
+ */
+public record TaskCompletionSignal(String taskType, String taskId) {
+
+    public static final String DOWNLOAD = "DOWNLOAD";
+    public static final String TRANSFORM = "TRANSFORM";
+
+    public TaskCompletionSignal {
+        Objects.requireNonNull(taskType, "taskType must not be null");
+        Objects.requireNonNull(taskId, "taskId must not be null");
+    }
+
+    public static TaskCompletionSignal download(String downloadTaskId) {
+        return new TaskCompletionSignal(DOWNLOAD, downloadTaskId);
+    }
+
+    public static TaskCompletionSignal transform(String transformRequestId) {
+        return new TaskCompletionSignal(TRANSFORM, transformRequestId);
+    }
+}
@@ -3,7 +3,7 @@ package com.ryuqq.fileflow.application.common.dto.result;
 /**
  * 배치 처리 결과.
  *
- * <p>스케줄러 등 배치 작업의 처리 결과를 담습니다.
+ * <p>스케줄러 등 배치 작업의 처리 결과를 담습니다. 성공도 실패도 아닌 나머지는 처리할 필요가 없어 건너뛴 건수입니다.
  *
  * @param total 전체 처리 대상 수
  * @param success 성공 수
@@ -19,6 +19,10 @@ public record SchedulerBatchProcessingResult(int total, int success, int failed)
         return new SchedulerBatchProcessingResult(0, 0, 0);
     }
 
+    public int skipped() {
+        return total - success - failed;
+    }
+
     public boolean hasFailures() {
         return failed > 0;
     }
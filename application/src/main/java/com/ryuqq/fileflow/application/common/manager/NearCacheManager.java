@@ -0,0 +1,28 @@
+package com.ryuqq.fileflow.application.common.manager;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+import com.ryuqq.fileflow.application.common.port.out.NearCachePort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NearCacheManager {
+
+    private final NearCachePort nearCachePort;
+
+    public NearCacheManager(NearCachePort nearCachePort) {
+        this.nearCachePort = nearCachePort;
+    }
+
+    public void evictLocal(NearCacheInvalidation invalidation) {
+        if (invalidation.isAll()) {
+            nearCachePort.clearLocal(invalidation.cacheName());
+            return;
+        }
+        if (invalidation.isVersioned()) {
+            nearCachePort.evictLocal(
+                    invalidation.cacheName(), invalidation.key(), invalidation.version());
+            return;
+        }
+        nearCachePort.evictLocal(invalidation.cacheName(), invalidation.key());
+    }
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.fileflow.application.common.manager;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.port.out.client.TaskCompletionSignalClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 작업 종료 신호 발행 Manager.
+ *
+ * <p>트랜잭션 안에서 호출되면 커밋 후에 발행합니다. 깨어난 대기 요청이 DB를 다시 읽을 때 종료 상태가 보여야 하기 때문입니다. 발행 실패는
+ * 대기 요청이 타임아웃 후 재조회하므로 경고만 남깁니다.
+ */
+@Component
+public class TaskCompletionSignalManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCompletionSignalManager.class);
+
+    private final TaskCompletionSignalClient taskCompletionSignalClient;
+
+    public TaskCompletionSignalManager(TaskCompletionSignalClient taskCompletionSignalClient) {
+        this.taskCompletionSignalClient = taskCompletionSignalClient;
+    }
+
+    public void signalAfterCommit(TaskCompletionSignal signal) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(signal);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        publish(signal);
+                    }
+                });
+    }
+
+    private void publish(TaskCompletionSignal signal) {
+        try {
+            taskCompletionSignalClient.publish(signal);
+        } catch (Exception e) {
+            log.warn(
+                    "작업 종료 신호 발행 실패 (대기 요청은 타임아웃 후 재조회): taskType={}, taskId={}, error={}",
+                    signal.taskType(),
+                    signal.taskId(),
+                    e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.common.metric;
 
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
@@ -18,6 +19,8 @@ public class FileFlowMetrics {
     private final MeterRegistry meterRegistry;
     private final ConcurrentMap<String, Counter> counterCache = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Timer> timerCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> summaryCache =
+            new ConcurrentHashMap<>();
 
     public FileFlowMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -45,6 +48,11 @@ public class FileFlowMetrics {
         getOrCreateCounter(name, tags).increment();
     }
 
+    public void incrementCounter(String name, double amount, String... tags) {
+        validateTags(tags);
+        getOrCreateCounter(name, tags).increment(amount);
+    }
+
     public void recordBatchResult(
             String name, String category, SchedulerBatchProcessingResult result) {
         getOrCreateCounter(name + "_items_total", "category", category, "status", "total")
@@ -64,6 +72,19 @@ public class FileFlowMetrics {
         timer.record(duration);
     }
 
+    public void recordDistribution(String name, double amount, String... tags) {
+        validateTags(tags);
+        DistributionSummary summary =
+                summaryCache.computeIfAbsent(
+                        createCacheKey(name, tags),
+                        k ->
+                                DistributionSummary.builder(PREFIX + name)
+                                        .tags(tags)
+                                        .publishPercentileHistogram()
+                                        .register(meterRegistry));
+        summary.record(amount);
+    }
+
     private Counter getOrCreateCounter(String name, String... tags) {
         return counterCache.computeIfAbsent(
                 createCacheKey(name, tags),
@@ -0,0 +1,13 @@
+package com.ryuqq.fileflow.application.common.port.in.command;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+
+/**
+ * Near-cache 로컬 제거 UseCase
+ *
+ * <p>다른 인스턴스가 전파한 캐시 무효화 메시지를 받아, 이 인스턴스의 프로세스 내 캐시에서 해당 항목을 제거합니다.
+ */
+public interface EvictNearCacheUseCase {
+
+    void execute(NearCacheInvalidation invalidation);
+}
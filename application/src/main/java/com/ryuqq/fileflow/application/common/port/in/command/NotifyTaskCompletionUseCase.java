@@ -0,0 +1,13 @@
+package com.ryuqq.fileflow.application.common.port.in.command;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+
+/**
+ * 작업 종료 신호 수신 UseCase
+ *
+ * <p>워커가 전파한 종료 신호를 받아, 이 인스턴스에서 해당 작업의 종료를 기다리는 요청을 깨웁니다.
+ */
+public interface NotifyTaskCompletionUseCase {
+
+    void execute(TaskCompletionSignal signal);
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.fileflow.application.common.port.out;
+
+import java.time.Instant;
+
+/**
+ * Near-cache Port (출력 포트)
+ *
+ * <p>이 인스턴스의 프로세스 내 캐시(L1)만 비웁니다. Redis(L2) 삭제와 다른 인스턴스로의 전파는 {@link CachePort#evict}가
+ * 담당하므로, 전파 메시지를 받은 쪽에서만 사용합니다.
+ */
+public interface NearCachePort {
+
+    void evictLocal(String cacheName, String key);
+
+    /** 캐시된 값이 주어진 버전보다 새롭지 않으면 제거하고, 이후 더 오래된 값은 다시 넣지 않습니다. */
+    void evictLocal(String cacheName, String key, Instant version);
+
+    void clearLocal(String cacheName);
+}
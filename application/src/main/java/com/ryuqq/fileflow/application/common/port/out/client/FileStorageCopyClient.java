@@ -0,0 +1,11 @@
+package com.ryuqq.fileflow.application.common.port.out.client;
+
+public interface FileStorageCopyClient {
+
+    /**
+     * 스토리지 내부에서 객체를 복사합니다 (서버 측 복사, 데이터가 애플리케이션을 거치지 않음).
+     *
+     * @return 복사된 객체의 ETag
+     */
+    String copy(String sourceBucket, String sourceKey, String targetBucket, String targetKey);
+}
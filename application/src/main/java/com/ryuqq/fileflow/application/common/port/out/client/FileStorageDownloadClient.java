@@ -3,4 +3,14 @@ package com.ryuqq.fileflow.application.common.port.out.client;
 public interface FileStorageDownloadClient {
 
     byte[] download(String bucket, String s3Key);
+
+    /**
+     * 파일 앞부분만 다운로드합니다 (Range 요청). 파일이 더 짧으면 전체를 반환합니다.
+     *
+     * @param bucket 버킷
+     * @param s3Key 객체 키
+     * @param length 최대 바이트 수
+     * @return 앞부분 바이트
+     */
+    byte[] downloadHead(String bucket, String s3Key, int length);
 }
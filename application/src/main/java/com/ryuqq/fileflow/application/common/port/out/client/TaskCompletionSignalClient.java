@@ -0,0 +1,13 @@
+package com.ryuqq.fileflow.application.common.port.out.client;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+
+public interface TaskCompletionSignalClient {
+
+    /**
+     * 작업 종료 신호를 모든 web-api 인스턴스에 전파합니다.
+     *
+     * @param signal 종료 신호
+     */
+    void publish(TaskCompletionSignal signal);
+}
@@ -0,0 +1,21 @@
+package com.ryuqq.fileflow.application.common.service.command;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+import com.ryuqq.fileflow.application.common.manager.NearCacheManager;
+import com.ryuqq.fileflow.application.common.port.in.command.EvictNearCacheUseCase;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EvictNearCacheService implements EvictNearCacheUseCase {
+
+    private final NearCacheManager nearCacheManager;
+
+    public EvictNearCacheService(NearCacheManager nearCacheManager) {
+        this.nearCacheManager = nearCacheManager;
+    }
+
+    @Override
+    public void execute(NearCacheInvalidation invalidation) {
+        nearCacheManager.evictLocal(invalidation);
+    }
+}
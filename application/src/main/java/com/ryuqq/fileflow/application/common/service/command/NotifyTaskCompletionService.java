@@ -0,0 +1,22 @@
+package com.ryuqq.fileflow.application.common.service.command;
+
+import com.ryuqq.fileflow.application.common.component.TaskCompletionWaiterRegistry;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.port.in.command.NotifyTaskCompletionUseCase;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NotifyTaskCompletionService implements NotifyTaskCompletionUseCase {
+
+    private final TaskCompletionWaiterRegistry taskCompletionWaiterRegistry;
+
+    public NotifyTaskCompletionService(
+            TaskCompletionWaiterRegistry taskCompletionWaiterRegistry) {
+        this.taskCompletionWaiterRegistry = taskCompletionWaiterRegistry;
+    }
+
+    @Override
+    public void execute(TaskCompletionSignal signal) {
+        taskCompletionWaiterRegistry.signal(signal);
+    }
+}
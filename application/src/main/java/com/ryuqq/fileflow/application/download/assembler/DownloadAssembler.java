@@ -24,6 +24,7 @@ public class DownloadAssembler {
                 downloadTask.lastError(),
                 downloadTask.createdAt(),
                 downloadTask.startedAt(),
-                downloadTask.completedAt());
+                downloadTask.completedAt(),
+                downloadTask.version());
     }
 }
@@ -0,0 +1,15 @@
+package com.ryuqq.fileflow.application.download.dto.command;
+
+import java.util.List;
+
+/**
+ * 다운로드 태스크 일괄 생성 커맨드
+ *
+ * @param tasks 태스크별 생성 커맨드 목록
+ */
+public record CreateDownloadTasksCommand(List<CreateDownloadTaskCommand> tasks) {
+
+    public CreateDownloadTasksCommand {
+        tasks = List.copyOf(tasks);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ryuqq.fileflow.application.download.dto.response;
+
+/**
+ * 다운로드 태스크 일괄 생성의 개별 항목 결과
+ *
+ * @param sourceUrl 요청한 소스 URL
+ * @param success 생성 여부
+ * @param task 생성된 태스크 (실패 시 null)
+ * @param errorCode 실패 시 에러 코드 (성공 시 null)
+ * @param errorMessage 실패 시 에러 메시지 (성공 시 null)
+ */
+public record DownloadTaskBatchItemResponse(
+        String sourceUrl,
+        boolean success,
+        DownloadTaskResponse task,
+        String errorCode,
+        String errorMessage) {
+
+    public static DownloadTaskBatchItemResponse created(DownloadTaskResponse task) {
+        return new DownloadTaskBatchItemResponse(task.sourceUrl(), true, task, null, null);
+    }
+
+    public static DownloadTaskBatchItemResponse rejected(
+            String sourceUrl, String errorCode, String errorMessage) {
+        return new DownloadTaskBatchItemResponse(sourceUrl, false, null, errorCode, errorMessage);
+    }
+}
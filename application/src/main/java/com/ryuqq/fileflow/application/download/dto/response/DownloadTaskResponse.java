@@ -19,4 +19,5 @@ public record DownloadTaskResponse(
         String lastError,
         Instant createdAt,
         Instant startedAt,
-        Instant completedAt) {}
+        Instant completedAt,
+        long version) {}
@@ -24,6 +24,7 @@ import com.ryuqq.fileflow.domain.download.vo.CallbackInfo;
 import com.ryuqq.fileflow.domain.download.vo.DownloadedFileInfo;
 import com.ryuqq.fileflow.domain.download.vo.SourceUrl;
 import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -46,7 +47,16 @@ public class DownloadCommandFactory {
     }
 
     public DownloadTask create(CreateDownloadTaskCommand command) {
+        return create(command, timeProvider.now());
+    }
+
+    /** 여러 태스크를 같은 생성 시각으로 만듭니다. 반환 순서는 커맨드 순서와 같습니다. */
+    public List<DownloadTask> createAll(List<CreateDownloadTaskCommand> commands) {
         Instant now = timeProvider.now();
+        return commands.stream().map(command -> create(command, now)).toList();
+    }
+
+    private DownloadTask create(CreateDownloadTaskCommand command, Instant now) {
         String id = idGeneratorPort.generate();
         String extension = SourceUrl.of(command.sourceUrl()).extractExtension();
         String s3Key = S3PathResolver.resolve(command.accessType(), id, extension, now);
@@ -151,6 +161,19 @@ public class DownloadCommandFactory {
         return DownloadQueueOutbox.forNew(DownloadQueueOutboxId.of(id), downloadTaskId, now);
     }
 
+    /** 태스크마다 큐 아웃박스를 같은 생성 시각으로 만듭니다. */
+    public List<DownloadQueueOutbox> createQueueOutboxes(List<DownloadTask> downloadTasks) {
+        Instant now = timeProvider.now();
+        return downloadTasks.stream()
+                .map(
+                        task ->
+                                DownloadQueueOutbox.forNew(
+                                        DownloadQueueOutboxId.of(idGeneratorPort.generate()),
+                                        task.idValue(),
+                                        now))
+                .toList();
+    }
+
     public CallbackOutbox createCallbackOutbox(
             String downloadTaskId, String callbackUrl, String taskStatus) {
         String id = idGeneratorPort.generate();
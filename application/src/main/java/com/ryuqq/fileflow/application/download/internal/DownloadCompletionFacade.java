@@ -1,6 +1,8 @@
 package com.ryuqq.fileflow.application.download.internal;
 
 import com.ryuqq.fileflow.application.asset.manager.command.AssetCommandManager;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.manager.TaskCompletionSignalManager;
 import com.ryuqq.fileflow.application.download.dto.bundle.DownloadCompletionBundle;
 import com.ryuqq.fileflow.application.download.dto.bundle.DownloadFailureBundle;
 import com.ryuqq.fileflow.application.download.manager.command.CallbackOutboxCommandManager;
@@ -14,14 +16,17 @@ public class DownloadCompletionFacade {
     private final DownloadCommandManager downloadCommandManager;
     private final AssetCommandManager assetCommandManager;
     private final CallbackOutboxCommandManager callbackOutboxCommandManager;
+    private final TaskCompletionSignalManager taskCompletionSignalManager;
 
     public DownloadCompletionFacade(
             DownloadCommandManager downloadCommandManager,
             AssetCommandManager assetCommandManager,
-            CallbackOutboxCommandManager callbackOutboxCommandManager) {
+            CallbackOutboxCommandManager callbackOutboxCommandManager,
+            TaskCompletionSignalManager taskCompletionSignalManager) {
         this.downloadCommandManager = downloadCommandManager;
         this.assetCommandManager = assetCommandManager;
         this.callbackOutboxCommandManager = callbackOutboxCommandManager;
+        this.taskCompletionSignalManager = taskCompletionSignalManager;
     }
 
     @Transactional
@@ -32,6 +37,9 @@ public class DownloadCompletionFacade {
         if (bundle.hasCallbackOutbox()) {
             callbackOutboxCommandManager.persist(bundle.callbackOutbox());
         }
+
+        taskCompletionSignalManager.signalAfterCommit(
+                TaskCompletionSignal.download(bundle.downloadTask().idValue()));
     }
 
     @Transactional
@@ -41,5 +49,10 @@ public class DownloadCompletionFacade {
         if (bundle.hasCallbackOutbox()) {
             callbackOutboxCommandManager.persist(bundle.callbackOutbox());
         }
+
+        if (bundle.downloadTask().status().isTerminal()) {
+            taskCompletionSignalManager.signalAfterCommit(
+                    TaskCompletionSignal.download(bundle.downloadTask().idValue()));
+        }
     }
 }
@@ -2,6 +2,8 @@ package com.ryuqq.fileflow.application.download.manager.cache;
 
 import com.ryuqq.fileflow.application.download.port.out.cache.DownloadUrlBlacklistPort;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -36,4 +38,19 @@ public class DownloadUrlBlacklistManager {
             return false;
         }
     }
+
+    public Set<String> findBlacklisted(List<String> sourceUrls) {
+        if (sourceUrls.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            return downloadUrlBlacklistPort.findBlacklisted(sourceUrls);
+        } catch (Exception e) {
+            log.warn(
+                    "URL 블랙리스트 일괄 조회 실패 (통과 처리): count={}, error={}",
+                    sourceUrls.size(),
+                    e.getMessage());
+            return Set.of();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.download.manager.command;
 
 import com.ryuqq.fileflow.application.download.port.out.command.DownloadTaskPersistencePort;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,4 +19,12 @@ public class DownloadCommandManager {
     public void persist(DownloadTask downloadTask) {
         downloadTaskPersistencePort.persist(downloadTask);
     }
+
+    @Transactional
+    public void persistAll(List<DownloadTask> downloadTasks) {
+        if (downloadTasks.isEmpty()) {
+            return;
+        }
+        downloadTaskPersistencePort.persistAll(downloadTasks);
+    }
 }
@@ -26,6 +26,14 @@ public class DownloadQueueOutboxCommandManager {
         downloadQueueOutboxPersistencePort.persist(outbox);
     }
 
+    @Transactional
+    public void persistAll(List<DownloadQueueOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        downloadQueueOutboxPersistencePort.persistAll(outboxes);
+    }
+
     @Transactional
     public List<DownloadQueueOutbox> claimPendingMessages(int limit) {
         return downloadQueueOutboxQueryPort.claimPendingMessages(limit);
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.application.download.port.in.command;
+
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
+import java.util.List;
+
+/**
+ * 다운로드 태스크 일괄 생성 UseCase (Command)
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>URL 블랙리스트 일괄 조회 (Redis 파이프라인 한 번)
+ *   <li>블랙리스트가 아닌 URL만 태스크, 큐 아웃박스 일괄 생성 (생성 시각 공유)
+ *   <li>태스크, 큐 아웃박스를 한 트랜잭션에서 다중 행 INSERT로 저장
+ * </ol>
+ *
+ * <p>블랙리스트 URL은 해당 항목만 실패로 응답하고 나머지는 생성합니다. 응답 순서는 요청 순서와 같습니다.
+ */
+public interface CreateDownloadTasksUseCase {
+
+    List<DownloadTaskBatchItemResponse> execute(CreateDownloadTasksCommand command);
+}
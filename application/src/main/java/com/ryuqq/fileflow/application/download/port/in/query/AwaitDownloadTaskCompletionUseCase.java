@@ -0,0 +1,16 @@
+package com.ryuqq.fileflow.application.download.port.in.query;
+
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 다운로드 작업 종료 대기 UseCase
+ *
+ * <p>작업이 종료 상태(COMPLETED/FAILED)가 되거나 timeout이 지나면 그 시점의 작업 정보로 완료되는 Future를 반환합니다. 이미 종료된
+ * 작업이면 즉시 완료됩니다.
+ */
+public interface AwaitDownloadTaskCompletionUseCase {
+
+    CompletableFuture<DownloadTaskResponse> execute(String downloadTaskId, Duration timeout);
+}
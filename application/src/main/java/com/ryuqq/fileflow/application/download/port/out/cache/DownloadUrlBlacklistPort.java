@@ -1,6 +1,8 @@
 package com.ryuqq.fileflow.application.download.port.out.cache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
 
 /**
  * 다운로드 URL 블랙리스트 캐시 포트.
@@ -12,4 +14,12 @@ public interface DownloadUrlBlacklistPort {
     void register(String sourceUrl, String reason, Duration ttl);
 
     boolean isBlacklisted(String sourceUrl);
+
+    /**
+     * 여러 URL의 블랙리스트 여부를 한 번에 조회합니다.
+     *
+     * @param sourceUrls 조회할 URL 목록
+     * @return 블랙리스트에 있는 URL 집합
+     */
+    Set<String> findBlacklisted(Collection<String> sourceUrls);
 }
@@ -8,6 +8,8 @@ public interface DownloadQueueOutboxPersistencePort {
 
     void persist(DownloadQueueOutbox outbox);
 
+    void persistAll(List<DownloadQueueOutbox> outboxes);
+
     void bulkMarkSent(List<String> ids, Instant now);
 
     void bulkMarkFailed(List<String> ids, Instant now, String lastError);
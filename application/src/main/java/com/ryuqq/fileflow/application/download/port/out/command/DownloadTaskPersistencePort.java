@@ -1,8 +1,11 @@
 package com.ryuqq.fileflow.application.download.port.out.command;
 
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import java.util.List;
 
 public interface DownloadTaskPersistencePort {
 
     long persist(DownloadTask downloadTask);
+
+    void persistAll(List<DownloadTask> downloadTasks);
 }
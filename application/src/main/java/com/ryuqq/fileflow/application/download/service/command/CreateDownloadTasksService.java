@@ -0,0 +1,79 @@
+package com.ryuqq.fileflow.application.download.service.command;
+
+import com.ryuqq.fileflow.application.download.assembler.DownloadAssembler;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTaskCommand;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
+import com.ryuqq.fileflow.application.download.factory.command.DownloadCommandFactory;
+import com.ryuqq.fileflow.application.download.manager.cache.DownloadUrlBlacklistManager;
+import com.ryuqq.fileflow.application.download.manager.command.DownloadCommandManager;
+import com.ryuqq.fileflow.application.download.manager.command.DownloadQueueOutboxCommandManager;
+import com.ryuqq.fileflow.application.download.port.in.command.CreateDownloadTasksUseCase;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import com.ryuqq.fileflow.domain.download.exception.DownloadErrorCode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CreateDownloadTasksService implements CreateDownloadTasksUseCase {
+
+    private final DownloadCommandFactory downloadCommandFactory;
+    private final DownloadCommandManager downloadCommandManager;
+    private final DownloadQueueOutboxCommandManager downloadQueueOutboxCommandManager;
+    private final DownloadAssembler downloadAssembler;
+    private final DownloadUrlBlacklistManager downloadUrlBlacklistManager;
+
+    public CreateDownloadTasksService(
+            DownloadCommandFactory downloadCommandFactory,
+            DownloadCommandManager downloadCommandManager,
+            DownloadQueueOutboxCommandManager downloadQueueOutboxCommandManager,
+            DownloadAssembler downloadAssembler,
+            DownloadUrlBlacklistManager downloadUrlBlacklistManager) {
+        this.downloadCommandFactory = downloadCommandFactory;
+        this.downloadCommandManager = downloadCommandManager;
+        this.downloadQueueOutboxCommandManager = downloadQueueOutboxCommandManager;
+        this.downloadAssembler = downloadAssembler;
+        this.downloadUrlBlacklistManager = downloadUrlBlacklistManager;
+    }
+
+    @Transactional
+    @Override
+    public List<DownloadTaskBatchItemResponse> execute(CreateDownloadTasksCommand command) {
+        Set<String> blacklisted =
+                downloadUrlBlacklistManager.findBlacklisted(
+                        command.tasks().stream()
+                                .map(CreateDownloadTaskCommand::sourceUrl)
+                                .distinct()
+                                .toList());
+        List<CreateDownloadTaskCommand> accepted =
+                command.tasks().stream()
+                        .filter(task -> !blacklisted.contains(task.sourceUrl()))
+                        .toList();
+
+        List<DownloadTask> downloadTasks = downloadCommandFactory.createAll(accepted);
+        downloadCommandManager.persistAll(downloadTasks);
+        downloadQueueOutboxCommandManager.persistAll(
+                downloadCommandFactory.createQueueOutboxes(downloadTasks));
+
+        Iterator<DownloadTask> created = downloadTasks.iterator();
+        List<DownloadTaskBatchItemResponse> results = new ArrayList<>(command.tasks().size());
+        for (CreateDownloadTaskCommand task : command.tasks()) {
+            if (blacklisted.contains(task.sourceUrl())) {
+                results.add(
+                        DownloadTaskBatchItemResponse.rejected(
+                                task.sourceUrl(),
+                                DownloadErrorCode.SOURCE_URL_BLACKLISTED.getCode(),
+                                DownloadErrorCode.SOURCE_URL_BLACKLISTED.getMessage()));
+            } else {
+                results.add(
+                        DownloadTaskBatchItemResponse.created(
+                                downloadAssembler.toResponse(created.next())));
+            }
+        }
+        return results;
+    }
+}
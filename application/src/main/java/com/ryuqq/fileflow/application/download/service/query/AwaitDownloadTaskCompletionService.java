@@ -0,0 +1,60 @@
+package com.ryuqq.fileflow.application.download.service.query;
+
+import com.ryuqq.fileflow.application.common.component.TaskCompletionWaiterRegistry;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.download.assembler.DownloadAssembler;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import com.ryuqq.fileflow.application.download.manager.query.DownloadReadManager;
+import com.ryuqq.fileflow.application.download.port.in.query.AwaitDownloadTaskCompletionUseCase;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다운로드 작업 종료 대기 서비스.
+ *
+ * <p>상태를 읽기 전에 대기를 먼저 등록하므로, 조회와 등록 사이에 작업이 종료되어도 신호를 놓치지 않습니다.
+ * 대기열이 가득 차 대기를 등록하지 못하면 기다리지 않고 현재 상태로 응답합니다.
+ */
+@Service
+public class AwaitDownloadTaskCompletionService implements AwaitDownloadTaskCompletionUseCase {
+
+    private final DownloadReadManager downloadReadManager;
+    private final DownloadAssembler downloadAssembler;
+    private final TaskCompletionWaiterRegistry taskCompletionWaiterRegistry;
+
+    public AwaitDownloadTaskCompletionService(
+            DownloadReadManager downloadReadManager,
+            DownloadAssembler downloadAssembler,
+            TaskCompletionWaiterRegistry taskCompletionWaiterRegistry) {
+        this.downloadReadManager = downloadReadManager;
+        this.downloadAssembler = downloadAssembler;
+        this.taskCompletionWaiterRegistry = taskCompletionWaiterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<DownloadTaskResponse> execute(
+            String downloadTaskId, Duration timeout) {
+        CompletableFuture<Void> waiter =
+                taskCompletionWaiterRegistry.await(
+                        TaskCompletionSignal.download(downloadTaskId), timeout);
+
+        DownloadTask downloadTask;
+        try {
+            downloadTask = downloadReadManager.getDownloadTask(downloadTaskId);
+        } catch (RuntimeException e) {
+            waiter.cancel(false);
+            throw e;
+        }
+
+        if (downloadTask.status().isTerminal() || waiter.isDone()) {
+            waiter.cancel(false);
+            return CompletableFuture.completedFuture(downloadAssembler.toResponse(downloadTask));
+        }
+        return waiter.thenApply(
+                ignored ->
+                        downloadAssembler.toResponse(
+                                downloadReadManager.getDownloadTask(downloadTaskId)));
+    }
+}
@@ -1,10 +1,13 @@
 package com.ryuqq.fileflow.application.session.assembler;
 
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -50,6 +53,42 @@ public class SessionAssembler {
                 session.createdAt());
     }
 
+    public MultipartUploadSessionSummaryResponse toSummaryResponse(
+            MultipartUploadSession session, CompletedPartsSummary summary) {
+        return new MultipartUploadSessionSummaryResponse(
+                session.idValue(),
+                session.uploadId(),
+                session.s3Key(),
+                session.bucket(),
+                session.accessType(),
+                session.fileName(),
+                session.contentType(),
+                session.partSize(),
+                session.status().name(),
+                summary.partCount(),
+                summary.totalSize(),
+                summary.highestContiguousPartNumber(),
+                session.expiresAt(),
+                session.createdAt());
+    }
+
+    /**
+     * size + 1개로 조회한 파트 목록을 슬라이스로 변환합니다. 다음 커서는 마지막 파트 번호입니다.
+     *
+     * @param parts 파트 번호 오름차순 목록 (최대 size + 1개)
+     * @param size 페이지 크기
+     * @return 완료 파트 슬라이스
+     */
+    public SliceResponse<MultipartUploadSessionResponse.CompletedPartResponse> toPartSlice(
+            List<CompletedPart> parts, int size) {
+        boolean hasNext = parts.size() > size;
+        List<MultipartUploadSessionResponse.CompletedPartResponse> content =
+                parts.stream().limit(size).map(this::toPartResponse).toList();
+        String nextCursor =
+                hasNext ? String.valueOf(content.get(content.size() - 1).partNumber()) : null;
+        return SliceResponse.of(content, size, hasNext, nextCursor);
+    }
+
     private MultipartUploadSessionResponse.CompletedPartResponse toPartResponse(
             CompletedPart part) {
         return new MultipartUploadSessionResponse.CompletedPartResponse(
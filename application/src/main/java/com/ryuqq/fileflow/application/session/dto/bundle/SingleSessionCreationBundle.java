@@ -3,8 +3,10 @@ package com.ryuqq.fileflow.application.session.dto.bundle;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import com.ryuqq.fileflow.domain.session.vo.UploadTarget;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
 
@@ -99,6 +101,11 @@ public record SingleSessionCreationBundle(
                 expiration);
     }
 
+    /** 세션 만료 시각까지 유효한 Presigned URL 생성 스펙. */
+    public PresignedUploadSpec toPresignedUploadSpec() {
+        return PresignedUploadSpec.of(s3Key, contentType, Duration.between(createdAt, expiresAt));
+    }
+
     public SingleUploadSession toSession() {
         Objects.requireNonNull(
                 bucket, "bucket must be set via withBucket before calling toSession");
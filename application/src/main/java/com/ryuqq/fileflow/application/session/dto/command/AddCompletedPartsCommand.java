@@ -0,0 +1,18 @@
+package com.ryuqq.fileflow.application.session.dto.command;
+
+import java.util.List;
+
+/**
+ * 파트 업로드 완료 일괄 기록 커맨드
+ *
+ * @param sessionId 멀티파트 세션 ID
+ * @param parts 완료 파트 목록
+ */
+public record AddCompletedPartsCommand(String sessionId, List<PartItem> parts) {
+
+    public AddCompletedPartsCommand {
+        parts = List.copyOf(parts);
+    }
+
+    public record PartItem(int partNumber, String etag, long size) {}
+}
@@ -0,0 +1,15 @@
+package com.ryuqq.fileflow.application.session.dto.command;
+
+import java.util.List;
+
+/**
+ * 단건 업로드 세션 일괄 생성 커맨드
+ *
+ * @param sessions 세션별 생성 커맨드 목록
+ */
+public record CreateSingleUploadSessionsCommand(List<CreateSingleUploadSessionCommand> sessions) {
+
+    public CreateSingleUploadSessionsCommand {
+        sessions = List.copyOf(sessions);
+    }
+}
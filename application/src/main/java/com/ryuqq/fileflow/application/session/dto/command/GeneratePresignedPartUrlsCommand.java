@@ -0,0 +1,11 @@
+package com.ryuqq.fileflow.application.session.dto.command;
+
+/**
+ * 멀티파트 파트 범위 Presigned URL 일괄 발급 커맨드
+ *
+ * @param sessionId 멀티파트 세션 ID
+ * @param fromPartNumber 시작 파트 번호 (포함)
+ * @param toPartNumber 끝 파트 번호 (포함)
+ */
+public record GeneratePresignedPartUrlsCommand(
+        String sessionId, int fromPartNumber, int toPartNumber) {}
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.application.session.dto.command;
+
+import java.time.Instant;
+
+/**
+ * 고아 S3 멀티파트 업로드 정리 Command.
+ *
+ * @param pageSize ListMultipartUploads 한 번에 조회할 업로드 수
+ * @param maxAborts 한 번 실행에서 중단할 최대 업로드 수
+ * @param graceSeconds 시작된 지 이 시간이 지나지 않은 업로드는 세션 저장 전일 수 있어 건너뜁니다
+ */
+public record SweepOrphanedMultipartUploadsCommand(
+        int pageSize, int maxAborts, long graceSeconds) {
+
+    public static SweepOrphanedMultipartUploadsCommand of(
+            int pageSize, int maxAborts, long graceSeconds) {
+        return new SweepOrphanedMultipartUploadsCommand(pageSize, maxAborts, graceSeconds);
+    }
+
+    public Instant initiatedBefore(Instant now) {
+        return now.minusSeconds(graceSeconds);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ryuqq.fileflow.application.session.dto.query;
+
+/**
+ * 완료 파트 키셋 페이지 조회 파라미터.
+ *
+ * <p>파트 번호를 커서로 사용합니다. S3 ListParts와 같이 한 페이지는 최대 1,000개입니다.
+ *
+ * @param sessionId 세션 ID
+ * @param afterPartNumber 이 번호보다 큰 파트부터 조회 (null 또는 음수면 첫 페이지)
+ * @param size 페이지 크기 (기본: 100, 최대: 1,000)
+ */
+public record CompletedPartSearchParams(String sessionId, Integer afterPartNumber, Integer size) {
+
+    private static final int DEFAULT_SIZE = 100;
+    private static final int MAX_SIZE = 1_000;
+
+    public CompletedPartSearchParams {
+        if (afterPartNumber == null || afterPartNumber < 0) {
+            afterPartNumber = 0;
+        }
+        if (size == null || size <= 0) {
+            size = DEFAULT_SIZE;
+        }
+        if (size > MAX_SIZE) {
+            size = MAX_SIZE;
+        }
+    }
+
+    public static CompletedPartSearchParams of(
+            String sessionId, Integer afterPartNumber, Integer size) {
+        return new CompletedPartSearchParams(sessionId, afterPartNumber, size);
+    }
+
+    /** hasNext 판단을 위해 size + 1개를 조회합니다. */
+    public int fetchSize() {
+        return size + 1;
+    }
+}
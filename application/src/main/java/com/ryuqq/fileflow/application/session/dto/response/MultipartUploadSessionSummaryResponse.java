@@ -0,0 +1,38 @@
+package com.ryuqq.fileflow.application.session.dto.response;
+
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import java.time.Instant;
+
+/**
+ * 멀티파트 업로드 세션 요약 응답 (완료 파트 목록 제외)
+ *
+ * @param sessionId 세션 ID
+ * @param uploadId S3 멀티파트 업로드 ID
+ * @param s3Key S3 객체 키
+ * @param bucket S3 버킷명
+ * @param accessType 접근 유형
+ * @param fileName 원본 파일명
+ * @param contentType MIME 타입
+ * @param partSize 파트 크기 (bytes)
+ * @param status 세션 상태
+ * @param completedPartCount 완료된 파트 수
+ * @param uploadedBytes 완료된 파트 크기 합계 (bytes)
+ * @param highestContiguousPartNumber 1번부터 빠짐없이 완료된 마지막 파트 번호
+ * @param expiresAt 만료 시각
+ * @param createdAt 생성 시각
+ */
+public record MultipartUploadSessionSummaryResponse(
+        String sessionId,
+        String uploadId,
+        String s3Key,
+        String bucket,
+        AccessType accessType,
+        String fileName,
+        String contentType,
+        long partSize,
+        String status,
+        int completedPartCount,
+        long uploadedBytes,
+        int highestContiguousPartNumber,
+        Instant expiresAt,
+        Instant createdAt) {}
@@ -0,0 +1,16 @@
+package com.ryuqq.fileflow.application.session.dto.result;
+
+/**
+ * 완료 파트 한 건 추가 결과.
+ *
+ * <p>APPENDED: 새 파트 행이 기록됨
+ *
+ * <p>DUPLICATE: 같은 (session_id, part_number) 행이 이미 있어 기록하지 않음
+ *
+ * <p>SESSION_INACTIVE: 기록 시점에 세션이 파트를 받을 수 없는 상태(완료/중단/만료)여서 기록하지 않음
+ */
+public enum CompletedPartAppendResult {
+    APPENDED,
+    DUPLICATE,
+    SESSION_INACTIVE
+}
@@ -6,6 +6,7 @@ import com.ryuqq.fileflow.application.common.port.out.IdGeneratorPort;
 import com.ryuqq.fileflow.application.common.time.TimeProvider;
 import com.ryuqq.fileflow.application.session.dto.bundle.MultipartSessionCreationBundle;
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.dto.command.CreateMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.domain.common.service.S3PathResolver;
@@ -13,10 +14,12 @@ import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
 import com.ryuqq.fileflow.domain.session.vo.MultipartUploadSessionUpdateData;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpec;
 import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlSpec;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -70,16 +73,31 @@ public class MultipartSessionCommandFactory {
                 session.s3Key(), session.uploadId(), partNumber, session.expiresAt(), now);
     }
 
+    public PartPresignedUrlRangeSpec createPartPresignedUrlRangeSpec(
+            MultipartUploadSession session, int fromPartNumber, int toPartNumber) {
+        Instant now = timeProvider.now();
+        return PartPresignedUrlRangeSpec.of(
+                session.s3Key(),
+                session.uploadId(),
+                fromPartNumber,
+                toPartNumber,
+                session.expiresAt(),
+                now);
+    }
+
     public CompletedPart createCompletedPart(AddCompletedPartCommand command) {
         return CompletedPart.of(
                 command.partNumber(), command.etag(), command.size(), timeProvider.now());
     }
 
-    public StatusChangeContext<String> createAbortContext(String sessionId) {
-        return new StatusChangeContext<>(sessionId, timeProvider.now());
+    public List<CompletedPart> createCompletedParts(AddCompletedPartsCommand command) {
+        Instant now = timeProvider.now();
+        return command.parts().stream()
+                .map(part -> CompletedPart.of(part.partNumber(), part.etag(), part.size(), now))
+                .toList();
     }
 
-    public StatusChangeContext<String> createExpireContext(String sessionId) {
+    public StatusChangeContext<String> createAbortContext(String sessionId) {
         return new StatusChangeContext<>(sessionId, timeProvider.now());
     }
 
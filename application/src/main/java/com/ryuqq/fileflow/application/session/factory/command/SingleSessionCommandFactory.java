@@ -1,6 +1,5 @@
 package com.ryuqq.fileflow.application.session.factory.command;
 
-import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.common.dto.command.UpdateContext;
 import com.ryuqq.fileflow.application.common.port.out.IdGeneratorPort;
 import com.ryuqq.fileflow.application.common.time.TimeProvider;
@@ -13,6 +12,7 @@ import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import com.ryuqq.fileflow.domain.session.vo.SingleUploadSessionUpdateData;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -34,7 +34,18 @@ public class SingleSessionCommandFactory {
     }
 
     public SingleSessionCreationBundle create(CreateSingleUploadSessionCommand command) {
+        return create(command, timeProvider.now());
+    }
+
+    /** 같은 요청의 세션은 모두 같은 생성 시각과 만료 시각을 가집니다. */
+    public List<SingleSessionCreationBundle> createAll(
+            List<CreateSingleUploadSessionCommand> commands) {
         Instant now = timeProvider.now();
+        return commands.stream().map(command -> create(command, now)).toList();
+    }
+
+    private SingleSessionCreationBundle create(
+            CreateSingleUploadSessionCommand command, Instant now) {
         String sessionId = idGeneratorPort.generate();
         String extension = S3PathResolver.extractExtension(command.fileName());
         String s3Key = S3PathResolver.resolve(command.accessType(), sessionId, extension, now);
@@ -57,10 +68,6 @@ public class SingleSessionCommandFactory {
                 expiration);
     }
 
-    public StatusChangeContext<String> createExpireContext(String sessionId) {
-        return new StatusChangeContext<>(sessionId, timeProvider.now());
-    }
-
     public UpdateContext<String, SingleUploadSessionUpdateData> createCompleteContext(
             CompleteSingleUploadSessionCommand command) {
         return new UpdateContext<>(
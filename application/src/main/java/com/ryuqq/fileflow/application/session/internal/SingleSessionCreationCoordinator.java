@@ -8,6 +8,8 @@ import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationMa
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Component;
 
 /**
@@ -62,4 +64,37 @@ public class SingleSessionCreationCoordinator {
 
         return session;
     }
+
+    /**
+     * 여러 세션을 한 번에 생성합니다.
+     *
+     * <p>버킷 조회와 Presigned URL 서명은 한 번의 호출로, 영속화는 다중 행 INSERT 한 번으로, 만료 등록은 Redis 왕복 한 번으로
+     * 처리합니다. 반환 순서는 요청 순서와 같습니다.
+     */
+    public List<SingleUploadSession> createAll(List<CreateSingleUploadSessionCommand> commands) {
+        List<SingleSessionCreationBundle> bundles = singleFactory.createAll(commands);
+
+        String bucket = presignedUploadManager.getBucket();
+        List<String> presignedUrls =
+                presignedUploadManager.generatePresignedUploadUrls(
+                        bundles.stream()
+                                .map(SingleSessionCreationBundle::toPresignedUploadSpec)
+                                .toList());
+
+        List<SingleUploadSession> sessions =
+                IntStream.range(0, bundles.size())
+                        .mapToObj(
+                                i ->
+                                        bundles.get(i)
+                                                .withBucket(bucket)
+                                                .withPresignedUrl(presignedUrls.get(i))
+                                                .toSession())
+                        .toList();
+
+        sessionCommandManager.persistAll(sessions);
+        sessionExpirationManager.registerExpirations(
+                bundles.stream().map(SingleSessionCreationBundle::expiration).toList());
+
+        return sessions;
+    }
 }
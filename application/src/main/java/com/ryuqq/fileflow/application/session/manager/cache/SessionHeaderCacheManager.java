@@ -0,0 +1,45 @@
+package com.ryuqq.fileflow.application.session.manager.cache;
+
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SessionHeaderCacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionHeaderCacheManager.class);
+
+    private final SessionHeaderCachePort sessionHeaderCachePort;
+
+    public SessionHeaderCacheManager(SessionHeaderCachePort sessionHeaderCachePort) {
+        this.sessionHeaderCachePort = sessionHeaderCachePort;
+    }
+
+    public void invalidate(MultipartUploadSession session) {
+        invalidate(session.idValue(), session.updatedAt());
+    }
+
+    public void invalidate(SingleUploadSession session) {
+        invalidate(session.idValue(), session.updatedAt());
+    }
+
+    public void invalidateAll(List<String> sessionIds, Instant version) {
+        sessionIds.forEach(sessionId -> invalidate(sessionId, version));
+    }
+
+    private void invalidate(String sessionId, Instant version) {
+        try {
+            sessionHeaderCachePort.invalidate(sessionId, version);
+        } catch (Exception e) {
+            log.warn(
+                    "세션 캐시 무효화 전파 실패 (TTL 만료로 정리됨): sessionId={}, error={}",
+                    sessionId,
+                    e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.ryuqq.fileflow.application.session.manager.client;
 
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
 import com.ryuqq.fileflow.application.common.metric.annotation.OutboundClientMetric;
 import com.ryuqq.fileflow.application.session.port.out.client.MultipartUploadClient;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpec;
 import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlSpec;
 import java.util.List;
 import org.springframework.stereotype.Component;
@@ -11,9 +16,12 @@ import org.springframework.stereotype.Component;
 public class MultipartUploadManager {
 
     private final MultipartUploadClient multipartUploadClient;
+    private final FileFlowMetrics fileFlowMetrics;
 
-    public MultipartUploadManager(MultipartUploadClient multipartUploadClient) {
+    public MultipartUploadManager(
+            MultipartUploadClient multipartUploadClient, FileFlowMetrics fileFlowMetrics) {
         this.multipartUploadClient = multipartUploadClient;
+        this.fileFlowMetrics = fileFlowMetrics;
     }
 
     @OutboundClientMetric(system = "S3", operation = "multipart_create")
@@ -27,6 +35,16 @@ public class MultipartUploadManager {
                 spec.s3Key(), spec.uploadId(), spec.partNumber(), spec.ttl());
     }
 
+    @OutboundClientMetric(system = "S3", operation = "multipart_presign_range")
+    public List<String> generatePresignedPartUrls(PartPresignedUrlRangeSpec spec) {
+        return multipartUploadClient.generatePresignedPartUrls(
+                spec.s3Key(),
+                spec.uploadId(),
+                spec.fromPartNumber(),
+                spec.toPartNumber(),
+                spec.ttl());
+    }
+
     @OutboundClientMetric(system = "S3", operation = "multipart_complete")
     public String completeMultipartUpload(
             String s3Key, String uploadId, List<CompletedPart> parts) {
@@ -37,4 +55,33 @@ public class MultipartUploadManager {
     public void abortMultipartUpload(String s3Key, String uploadId) {
         multipartUploadClient.abortMultipartUpload(s3Key, uploadId);
     }
+
+    @OutboundClientMetric(system = "S3", operation = "multipart_abort_batch")
+    public List<MultipartUploadRef> abortMultipartUploads(List<MultipartUploadRef> uploads) {
+        if (uploads.isEmpty()) {
+            return List.of();
+        }
+        return multipartUploadClient.abortMultipartUploads(uploads);
+    }
+
+    @OutboundClientMetric(system = "S3", operation = "multipart_list")
+    public MultipartUploadListingPage listMultipartUploads(
+            String keyMarker, String uploadIdMarker, int maxUploads) {
+        return multipartUploadClient.listMultipartUploads(keyMarker, uploadIdMarker, maxUploads);
+    }
+
+    /** 고아 업로드를 중단하고 회수한 바이트 수를 메트릭으로 남깁니다. */
+    @OutboundClientMetric(system = "S3", operation = "multipart_reclaim")
+    public MultipartUploadReclaimResult reclaimMultipartUploads(List<MultipartUploadRef> uploads) {
+        if (uploads.isEmpty()) {
+            return MultipartUploadReclaimResult.empty();
+        }
+        MultipartUploadReclaimResult result =
+                multipartUploadClient.reclaimMultipartUploads(uploads);
+        fileFlowMetrics.incrementCounter(
+                "multipart_upload_reclaimed_bytes_total", result.reclaimedBytes());
+        fileFlowMetrics.incrementCounter(
+                "multipart_upload_reclaimed_total", uploads.size() - result.failed().size());
+        return result;
+    }
 }
@@ -2,7 +2,9 @@ package com.ryuqq.fileflow.application.session.manager.client;
 
 import com.ryuqq.fileflow.application.common.metric.annotation.OutboundClientMetric;
 import com.ryuqq.fileflow.application.session.port.out.client.PresignedUploadClient;
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import java.time.Duration;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,4 +24,12 @@ public class PresignedUploadManager {
     public String generatePresignedUploadUrl(String s3Key, String contentType, Duration ttl) {
         return presignedUploadClient.generatePresignedUploadUrl(s3Key, contentType, ttl);
     }
+
+    @OutboundClientMetric(system = "S3", operation = "presigned_upload_batch")
+    public List<String> generatePresignedUploadUrls(List<PresignedUploadSpec> specs) {
+        if (specs.isEmpty()) {
+            return List.of();
+        }
+        return presignedUploadClient.generatePresignedUploadUrls(specs);
+    }
 }
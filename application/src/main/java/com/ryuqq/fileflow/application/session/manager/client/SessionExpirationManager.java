@@ -2,6 +2,8 @@ package com.ryuqq.fileflow.application.session.manager.client;
 
 import com.ryuqq.fileflow.application.session.port.out.client.SessionExpirationClient;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,7 +19,25 @@ public class SessionExpirationManager {
         sessionExpirationClient.registerExpiration(expiration);
     }
 
+    public void registerExpirations(List<SessionExpiration> expirations) {
+        if (expirations.isEmpty()) {
+            return;
+        }
+        sessionExpirationClient.registerExpirations(expirations);
+    }
+
     public void removeExpiration(String sessionType, String sessionId) {
         sessionExpirationClient.removeExpiration(sessionType, sessionId);
     }
+
+    public List<String> claimDueExpirations(String sessionType, Instant now, int limit) {
+        return sessionExpirationClient.claimDueExpirations(sessionType, now, limit);
+    }
+
+    public void acknowledgeExpirations(String sessionType, List<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        sessionExpirationClient.acknowledgeExpirations(sessionType, sessionIds);
+    }
 }
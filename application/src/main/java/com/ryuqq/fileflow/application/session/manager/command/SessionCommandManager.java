@@ -1,9 +1,15 @@
 package com.ryuqq.fileflow.application.session.manager.command;
 
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.application.session.port.out.command.MultipartUploadSessionPersistencePort;
 import com.ryuqq.fileflow.application.session.port.out.command.SingleUploadSessionPersistencePort;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +31,49 @@ public class SessionCommandManager {
         singlePersistencePort.persist(session);
     }
 
+    @Transactional
+    public void persistAll(List<SingleUploadSession> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        singlePersistencePort.persistAll(sessions);
+    }
+
     @Transactional
     public void persist(MultipartUploadSession session) {
         multipartPersistencePort.persist(session);
     }
+
+    @Transactional
+    public CompletedPartAppendResult appendCompletedPart(
+            MultipartUploadSession session, CompletedPart completedPart) {
+        return multipartPersistencePort.appendCompletedPart(session.id(), completedPart);
+    }
+
+    @Transactional
+    public CompletedPartAppendResult upsertCompletedParts(
+            MultipartUploadSession session, List<CompletedPart> completedParts) {
+        return multipartPersistencePort.upsertCompletedParts(session.id(), completedParts);
+    }
+
+    @Transactional
+    public boolean startUploading(MultipartUploadSession session) {
+        return multipartPersistencePort.startUploading(session.id(), session.updatedAt());
+    }
+
+    @Transactional
+    public int expireSingleSessions(List<String> sessionIds, Instant now) {
+        List<SingleUploadSessionId> ids =
+                sessionIds.stream().map(SingleUploadSessionId::of).toList();
+        return singlePersistencePort.expireAll(ids, now);
+    }
+
+    @Transactional
+    public List<String> expireMultipartSessions(List<String> sessionIds, Instant now) {
+        List<MultipartUploadSessionId> ids =
+                sessionIds.stream().map(MultipartUploadSessionId::of).toList();
+        return multipartPersistencePort.expireAll(ids, now).stream()
+                .map(MultipartUploadSessionId::value)
+                .toList();
+    }
 }
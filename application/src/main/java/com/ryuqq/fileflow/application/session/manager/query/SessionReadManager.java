@@ -1,5 +1,6 @@
 package com.ryuqq.fileflow.application.session.manager.query;
 
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
 import com.ryuqq.fileflow.application.session.port.out.query.MultipartUploadSessionQueryPort;
 import com.ryuqq.fileflow.application.session.port.out.query.SingleUploadSessionQueryPort;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
@@ -7,8 +8,11 @@ import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.exception.SessionNotFoundException;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
 import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +21,15 @@ public class SessionReadManager {
 
     private final SingleUploadSessionQueryPort singleQueryPort;
     private final MultipartUploadSessionQueryPort multipartQueryPort;
+    private final SessionHeaderCachePort sessionHeaderCachePort;
 
     public SessionReadManager(
             SingleUploadSessionQueryPort singleQueryPort,
-            MultipartUploadSessionQueryPort multipartQueryPort) {
+            MultipartUploadSessionQueryPort multipartQueryPort,
+            SessionHeaderCachePort sessionHeaderCachePort) {
         this.singleQueryPort = singleQueryPort;
         this.multipartQueryPort = multipartQueryPort;
+        this.sessionHeaderCachePort = sessionHeaderCachePort;
     }
 
     @Transactional(readOnly = true)
@@ -39,6 +46,60 @@ public class SessionReadManager {
                 .orElseThrow(() -> new SessionNotFoundException(sessionId));
     }
 
+    /**
+     * 완료 파트 목록 없이 멀티파트 세션 헤더를 조회합니다.
+     *
+     * <p>near-cache를 먼저 확인하고, 없을 때만 DB에서 읽어 캐시에 채웁니다. 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+     */
+    public MultipartUploadSession getMultipartHeader(String sessionId) {
+        MultipartUploadSessionId id = MultipartUploadSessionId.of(sessionId);
+        return sessionHeaderCachePort
+                .findMultipartHeader(id)
+                .orElseGet(
+                        () -> {
+                            MultipartUploadSession session =
+                                    multipartQueryPort
+                                            .findHeaderById(id)
+                                            .orElseThrow(
+                                                    () -> new SessionNotFoundException(sessionId));
+                            sessionHeaderCachePort.putMultipartHeader(session);
+                            return session;
+                        });
+    }
+
+    /**
+     * 단건 업로드 세션을 near-cache 우선으로 조회합니다. 상태를 바꾸는 흐름은 {@link #getSingle}을 사용합니다.
+     *
+     * <p>캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+     */
+    public SingleUploadSession getSingleHeader(String sessionId) {
+        SingleUploadSessionId id = SingleUploadSessionId.of(sessionId);
+        return sessionHeaderCachePort
+                .findSingle(id)
+                .orElseGet(
+                        () -> {
+                            SingleUploadSession session =
+                                    singleQueryPort
+                                            .findById(id)
+                                            .orElseThrow(
+                                                    () -> new SessionNotFoundException(sessionId));
+                            sessionHeaderCachePort.putSingle(session);
+                            return session;
+                        });
+    }
+
+    @Transactional(readOnly = true)
+    public CompletedPartsSummary summarizeCompletedParts(String sessionId) {
+        return multipartQueryPort.summarizeCompletedParts(MultipartUploadSessionId.of(sessionId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompletedPart> findCompletedParts(
+            String sessionId, int afterPartNumber, int limit) {
+        return multipartQueryPort.findCompletedParts(
+                MultipartUploadSessionId.of(sessionId), afterPartNumber, limit);
+    }
+
     @Transactional(readOnly = true)
     public List<SingleUploadSession> findExpiredSingleSessions(Instant now, int limit) {
         return singleQueryPort.findExpiredSessions(now, limit);
@@ -48,4 +109,20 @@ public class SessionReadManager {
     public List<MultipartUploadSession> findExpiredMultipartSessions(Instant now, int limit) {
         return multipartQueryPort.findExpiredSessions(now, limit);
     }
+
+    @Transactional(readOnly = true)
+    public List<MultipartUploadSession> findExpiredMultipartSessions(
+            List<String> sessionIds, Instant now) {
+        List<MultipartUploadSessionId> ids =
+                sessionIds.stream().map(MultipartUploadSessionId::of).toList();
+        return multipartQueryPort.findExpiredSessionsByIds(ids, now);
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findActiveMultipartUploadIds(List<String> uploadIds) {
+        if (uploadIds.isEmpty()) {
+            return Set.of();
+        }
+        return multipartQueryPort.findActiveUploadIds(uploadIds);
+    }
 }
@@ -8,9 +8,11 @@ import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartComman
  * <p>처리 흐름:
  *
  * <ol>
- *   <li>멀티파트 세션 조회
- *   <li>session.addCompletedPart(partNumber, etag, size, now)
- *   <li>세션 저장
+ *   <li>멀티파트 세션 조회 (완료 파트 제외)
+ *   <li>session.acceptCompletedPart(part) - 상태 검증, 첫 파트면 UPLOADING 전이
+ *   <li>세션이 INITIATED/UPLOADING일 때만 완료 파트 한 건 추가 ((session_id, part_number) 유니크 키, 중복 시 409,
+ *       그 사이 완료/중단된 세션이면 400)
+ *   <li>UPLOADING 전이가 일어난 경우에만 세션 저장
  * </ol>
  */
 public interface AddCompletedPartUseCase {
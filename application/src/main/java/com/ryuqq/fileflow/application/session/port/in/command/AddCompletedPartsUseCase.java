@@ -0,0 +1,20 @@
+package com.ryuqq.fileflow.application.session.port.in.command;
+
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
+
+/**
+ * 파트 업로드 완료 일괄 기록 UseCase (Command)
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>멀티파트 세션 조회 (완료 파트 제외)
+ *   <li>session.acceptCompletedParts(parts) - 상태 검증, 요청 내 파트 번호 중복 검증, 첫 요청이면 UPLOADING 전이
+ *   <li>완료 파트 일괄 upsert ((session_id, part_number) 기준, 재시도해도 결과 동일)
+ *   <li>UPLOADING 전이가 일어난 경우에만 세션 저장
+ * </ol>
+ */
+public interface AddCompletedPartsUseCase {
+
+    void execute(AddCompletedPartsCommand command);
+}
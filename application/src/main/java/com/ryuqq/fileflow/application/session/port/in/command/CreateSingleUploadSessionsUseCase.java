@@ -0,0 +1,24 @@
+package com.ryuqq.fileflow.application.session.port.in.command;
+
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
+import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
+import java.util.List;
+
+/**
+ * 단건 업로드 세션 일괄 생성 UseCase (Command)
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>세션 ID, S3 경로 일괄 생성 (생성 시각 공유)
+ *   <li>Presigned URL 일괄 발급 (PresignedUploadClient, 건수가 많으면 병렬 서명)
+ *   <li>세션 일괄 저장 (다중 행 INSERT 한 번)
+ *   <li>Redis 만료 대기열 일괄 등록 (왕복 한 번)
+ * </ol>
+ *
+ * <p>응답 순서는 요청 순서와 같습니다.
+ */
+public interface CreateSingleUploadSessionsUseCase {
+
+    List<SingleUploadSessionResponse> execute(CreateSingleUploadSessionsCommand command);
+}
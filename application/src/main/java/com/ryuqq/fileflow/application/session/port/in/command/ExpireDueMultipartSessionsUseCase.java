@@ -0,0 +1,14 @@
+package com.ryuqq.fileflow.application.session.port.in.command;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+
+/**
+ * 만료 대기열에서 만료 시각이 지난 멀티파트 업로드 세션을 배치로 꺼내 EXPIRED 처리하는 UseCase.
+ *
+ * <p>세션별 락 없이 한 번의 UPDATE로 상태를 바꾼 뒤 S3 멀티파트 업로드를 중단합니다. 처리 중 실패한 배치는 선점 시간이 지난 뒤 다시
+ * 처리됩니다.
+ */
+public interface ExpireDueMultipartSessionsUseCase {
+
+    SchedulerBatchProcessingResult execute(int batchSize);
+}
@@ -0,0 +1,22 @@
+package com.ryuqq.fileflow.application.session.port.in.command;
+
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
+import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
+import java.util.List;
+
+/**
+ * 멀티파트 파트 범위 Presigned URL 일괄 발급 UseCase (Command)
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>멀티파트 세션 조회 (완료 파트 제외, 1회)
+ *   <li>파트 범위 검증 (1~10,000, 최대 1,000개)
+ *   <li>세션 상태/시간 만료 검증
+ *   <li>MultipartUploadManager를 통해 범위 전체 Presigned URL 생성
+ * </ol>
+ */
+public interface GeneratePresignedPartUrlsUseCase {
+
+    List<PresignedPartUrlResponse> execute(GeneratePresignedPartUrlsCommand command);
+}
@@ -5,7 +5,7 @@ import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessing
 /**
  * 만료 시간이 지났지만 CREATED 상태로 남아있는 고아 Single 세션을 복구(만료 처리)하는 UseCase.
  *
- * <p>Redis keyspace notification 유실로 인해 EXPIRED 전이가 누락된 세션을 주기적으로 정리합니다.
+ * <p>만료 대기열 등록 누락 등으로 EXPIRED 전이가 빠진 세션을 주기적으로 정리합니다.
  */
 public interface RecoverExpiredSingleSessionUseCase {
 
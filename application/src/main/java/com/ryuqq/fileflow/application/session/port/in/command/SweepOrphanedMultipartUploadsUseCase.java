@@ -0,0 +1,15 @@
+package com.ryuqq.fileflow.application.session.port.in.command;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.dto.command.SweepOrphanedMultipartUploadsCommand;
+
+/**
+ * 활성 세션이 없는 S3 멀티파트 업로드(고아 업로드)를 중단하는 UseCase.
+ *
+ * <p>세션은 만료/중단되었지만 S3 AbortMultipartUpload 호출이 빠진 업로드는 파트 저장 비용이 계속 청구되므로 버킷 전체를 주기적으로
+ * 훑어 정리합니다.
+ */
+public interface SweepOrphanedMultipartUploadsUseCase {
+
+    SchedulerBatchProcessingResult execute(SweepOrphanedMultipartUploadsCommand command);
+}
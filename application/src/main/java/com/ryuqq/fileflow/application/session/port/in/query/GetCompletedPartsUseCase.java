@@ -0,0 +1,11 @@
+package com.ryuqq.fileflow.application.session.port.in.query;
+
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+
+/** 멀티파트 업로드 세션 완료 파트 키셋 페이지 조회 UseCase (Query) */
+public interface GetCompletedPartsUseCase {
+
+    SliceResponse<CompletedPartResponse> execute(CompletedPartSearchParams params);
+}
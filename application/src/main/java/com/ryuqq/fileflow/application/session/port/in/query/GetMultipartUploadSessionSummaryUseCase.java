@@ -0,0 +1,9 @@
+package com.ryuqq.fileflow.application.session.port.in.query;
+
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
+
+/** 멀티파트 업로드 세션 요약 조회 UseCase (Query) - 완료 파트 목록 대신 집계만 반환 */
+public interface GetMultipartUploadSessionSummaryUseCase {
+
+    MultipartUploadSessionSummaryResponse execute(String sessionId);
+}
@@ -0,0 +1,39 @@
+package com.ryuqq.fileflow.application.session.port.out.cache;
+
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 세션 헤더 near-cache 포트.
+ *
+ * <p>프로세스 안에 크기와 TTL 상한이 있는 캐시를 두어, 같은 세션을 반복 조회하는 Presigned URL 발급과 파트 기록이 DB를 거치지 않게 합니다.
+ * 멀티파트 세션은 완료 파트 목록 없이 헤더만 보관합니다.
+ *
+ * <p>세션 버전은 {@code updatedAt}입니다. 상태가 바뀐 세션은 {@link #invalidate}로 로컬에서 제거하고 다른 인스턴스에도 전파하며, 무효화
+ * 버전보다 오래된 스냅샷은 이후에도 다시 캐싱하지 않습니다.
+ */
+public interface SessionHeaderCachePort {
+
+    Optional<MultipartUploadSession> findMultipartHeader(MultipartUploadSessionId id);
+
+    void putMultipartHeader(MultipartUploadSession session);
+
+    Optional<SingleUploadSession> findSingle(SingleUploadSessionId id);
+
+    void putSingle(SingleUploadSession session);
+
+    /**
+     * 로컬 캐시에서 제거하고 다른 인스턴스에 무효화를 전파합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param version 변경 후 세션 버전 (updatedAt)
+     */
+    void invalidate(String sessionId, Instant version);
+
+    /** 로컬 캐시를 모두 비웁니다. 다른 인스턴스에는 전파하지 않습니다. */
+    void clear();
+}
@@ -1,6 +1,9 @@
 package com.ryuqq.fileflow.application.session.port.out.client;
 
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import java.time.Duration;
 import java.util.List;
 
@@ -31,6 +34,19 @@ public interface MultipartUploadClient {
      */
     String generatePresignedPartUrl(String s3Key, String uploadId, int partNumber, Duration ttl);
 
+    /**
+     * 연속된 파트 범위의 Presigned URL 일괄 생성
+     *
+     * @param s3Key 객체 키
+     * @param uploadId 업로드 ID
+     * @param fromPartNumber 시작 파트 번호 (포함)
+     * @param toPartNumber 끝 파트 번호 (포함)
+     * @param ttl URL 유효 기간
+     * @return 파트 번호 오름차순 Presigned URL 목록
+     */
+    List<String> generatePresignedPartUrls(
+            String s3Key, String uploadId, int fromPartNumber, int toPartNumber, Duration ttl);
+
     /**
      * 멀티파트 업로드 완료
      *
@@ -48,4 +64,37 @@ public interface MultipartUploadClient {
      * @param uploadId 업로드 ID
      */
     void abortMultipartUpload(String s3Key, String uploadId);
+
+    /**
+     * 멀티파트 업로드 일괄 중단
+     *
+     * <p>개별 중단 실패는 예외로 던지지 않고 결과로 돌려줍니다. 이미 없는 업로드는 중단된 것으로 봅니다.
+     *
+     * @param uploads 중단할 업로드 목록
+     * @return 중단에 실패한 업로드 목록
+     */
+    List<MultipartUploadRef> abortMultipartUploads(List<MultipartUploadRef> uploads);
+
+    /**
+     * 버킷에서 진행 중인 멀티파트 업로드 목록 조회
+     *
+     * <p>첫 페이지는 두 마커를 null로 넘깁니다.
+     *
+     * @param keyMarker 이 객체 키 이후부터 조회
+     * @param uploadIdMarker keyMarker와 같은 키에서 이 uploadId 이후부터 조회
+     * @param maxUploads 최대 조회 수
+     * @return 업로드 목록 페이지
+     */
+    MultipartUploadListingPage listMultipartUploads(
+            String keyMarker, String uploadIdMarker, int maxUploads);
+
+    /**
+     * 업로드된 파트 크기를 합산한 뒤 멀티파트 업로드를 일괄 중단
+     *
+     * <p>개별 실패는 예외로 던지지 않고 결과로 돌려줍니다. 이미 없는 업로드는 회수할 크기 없이 중단된 것으로 봅니다.
+     *
+     * @param uploads 회수할 업로드 목록
+     * @return 회수 결과 (실패한 업로드, 회수한 바이트 수)
+     */
+    MultipartUploadReclaimResult reclaimMultipartUploads(List<MultipartUploadRef> uploads);
 }
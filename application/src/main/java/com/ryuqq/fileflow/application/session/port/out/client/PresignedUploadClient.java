@@ -1,6 +1,8 @@
 package com.ryuqq.fileflow.application.session.port.out.client;
 
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Presigned URL 생성 클라이언트
@@ -25,4 +27,12 @@ public interface PresignedUploadClient {
      * @return Presigned URL 문자열
      */
     String generatePresignedUploadUrl(String s3Key, String contentType, Duration ttl);
+
+    /**
+     * Presigned Upload URL 일괄 생성
+     *
+     * @param specs URL 생성 스펙 목록
+     * @return Presigned URL 목록 (스펙 순서와 같음)
+     */
+    List<String> generatePresignedUploadUrls(List<PresignedUploadSpec> specs);
 }
@@ -1,26 +1,56 @@
 package com.ryuqq.fileflow.application.session.port.out.client;
 
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * 세션 만료 관리 클라이언트
  *
- * <p>Redis에 세션 만료 키를 등록/삭제합니다. TTL 만료 시 Redis keyspace notification을 통해 만료 이벤트가 발생합니다.
+ * <p>세션 유형별 만료 대기열(만료 시각 순 정렬)에 세션을 등록/삭제하고, 만료 시각이 지난 세션을 배치 단위로 가져갑니다.
  */
 public interface SessionExpirationClient {
 
     /**
-     * 세션 만료 키 등록
+     * 세션 만료 등록
      *
      * @param expiration 세션 만료 정보
      */
     void registerExpiration(SessionExpiration expiration);
 
     /**
-     * 세션 만료 키 삭제 (세션 완료 시)
+     * 세션 만료 일괄 등록 (Redis 왕복 한 번)
+     *
+     * @param expirations 세션 만료 정보 목록
+     */
+    void registerExpirations(List<SessionExpiration> expirations);
+
+    /**
+     * 세션 만료 등록 삭제 (세션 완료 시)
      *
      * @param sessionType 세션 유형 ("SINGLE" 또는 "MULTIPART")
      * @param sessionId 세션 ID
      */
     void removeExpiration(String sessionType, String sessionId);
+
+    /**
+     * 만료 시각이 지난 세션을 원자적으로 선점합니다.
+     *
+     * <p>선점된 세션은 일정 시간 동안 다른 인스턴스에 노출되지 않습니다. {@link #acknowledgeExpirations}로 확인하지 않으면 선점 시간이
+     * 지난 뒤 다시 선점 대상이 됩니다.
+     *
+     * @param sessionType 세션 유형 ("SINGLE" 또는 "MULTIPART")
+     * @param now 기준 시각
+     * @param limit 최대 선점 개수
+     * @return 선점한 세션 ID 목록 (만료 시각 오름차순)
+     */
+    List<String> claimDueExpirations(String sessionType, Instant now, int limit);
+
+    /**
+     * 만료 처리를 마친 세션을 대기열에서 삭제합니다.
+     *
+     * @param sessionType 세션 유형 ("SINGLE" 또는 "MULTIPART")
+     * @param sessionIds 세션 ID 목록
+     */
+    void acknowledgeExpirations(String sessionType, List<String> sessionIds);
 }
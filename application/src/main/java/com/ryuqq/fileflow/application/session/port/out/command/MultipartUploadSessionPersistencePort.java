@@ -1,6 +1,11 @@
 package com.ryuqq.fileflow.application.session.port.out.command;
 
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import java.time.Instant;
+import java.util.List;
 
 /** MultipartUploadSession 영속화 포트 (Command) */
 public interface MultipartUploadSessionPersistencePort {
@@ -8,7 +13,62 @@ public interface MultipartUploadSessionPersistencePort {
     /**
      * 세션 저장 (신규 생성 또는 수정)
      *
+     * <p>세션 행만 저장합니다. 완료 파트는 {@link #appendCompletedPart}로 한 건씩 기록합니다.
+     *
      * @param session 저장할 세션
      */
     void persist(MultipartUploadSession session);
+
+    /**
+     * 완료 파트 한 건 추가 (session_id, part_number 유니크 키 기준)
+     *
+     * <p>세션 행과 기존 파트는 다시 쓰지 않습니다. 세션 상태 확인과 기록을 한 문장으로 수행하므로, 그 사이 완료/중단된 세션에는 파트가 기록되지
+     * 않습니다. 같은 파트 번호가 이미 기록되어 있으면 기존 행을 유지합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param completedPart 완료 파트
+     * @return 기록 결과
+     */
+    CompletedPartAppendResult appendCompletedPart(
+            MultipartUploadSessionId sessionId, CompletedPart completedPart);
+
+    /**
+     * 완료 파트 일괄 upsert (session_id, part_number 유니크 키 기준)
+     *
+     * <p>한 번의 배치 INSERT로 기록합니다. 같은 파트 번호가 이미 있으면 ETag와 크기를 요청 값으로 덮어쓰므로, 같은 요청을 재시도해도 결과가
+     * 같고 다시 업로드한 파트는 최신 ETag가 남습니다. 세션 상태 확인과 기록을 한 문장으로 수행하므로, 그 사이 완료/중단/만료된 세션에는 파트를
+     * 기록하거나 덮어쓰지 않습니다.
+     *
+     * @param sessionId 세션 ID
+     * @param completedParts 완료 파트 목록
+     * @return 기록 결과 ({@link CompletedPartAppendResult#APPENDED} 또는 {@link
+     *     CompletedPartAppendResult#SESSION_INACTIVE})
+     */
+    CompletedPartAppendResult upsertCompletedParts(
+            MultipartUploadSessionId sessionId, List<CompletedPart> completedParts);
+
+    /**
+     * INITIATED 세션을 한 번의 UPDATE로 UPLOADING 처리합니다.
+     *
+     * <p>세션 행 전체를 다시 쓰지 않고 현재 상태가 INITIATED일 때만 상태와 updatedAt을 바꾸므로, 캐시된 헤더가 오래되었더라도 그 사이
+     * 완료/중단/만료된 세션을 되살리지 않습니다.
+     *
+     * @param sessionId 세션 ID
+     * @param now 전이 시각 (updatedAt으로 기록)
+     * @return 이 호출이 상태를 바꿨으면 true
+     */
+    boolean startUploading(MultipartUploadSessionId sessionId, Instant now);
+
+    /**
+     * 만료 시각이 지난 활성 세션(INITIATED, UPLOADING)을 한 번의 UPDATE로 EXPIRED 처리합니다.
+     *
+     * <p>그 사이 완료/중단되었거나 만료 시각이 지나지 않은 세션은 건너뜁니다. 대상 행을 먼저 잠그므로, 반환한 세션은 이 호출이 실제로
+     * 상태를 바꾼 세션입니다. 호출자는 이 세션의 S3 업로드만 중단해야 합니다.
+     *
+     * @param sessionIds 세션 ID 목록
+     * @param now 기준 시각 (updatedAt으로 기록)
+     * @return 만료 처리된 세션 ID 목록
+     */
+    List<MultipartUploadSessionId> expireAll(
+            List<MultipartUploadSessionId> sessionIds, Instant now);
 }
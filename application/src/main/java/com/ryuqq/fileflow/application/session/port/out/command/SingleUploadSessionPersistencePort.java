@@ -1,6 +1,9 @@
 package com.ryuqq.fileflow.application.session.port.out.command;
 
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import java.time.Instant;
+import java.util.List;
 
 /** SingleUploadSession 영속화 포트 (Command) */
 public interface SingleUploadSessionPersistencePort {
@@ -11,4 +14,22 @@ public interface SingleUploadSessionPersistencePort {
      * @param session 저장할 세션
      */
     void persist(SingleUploadSession session);
+
+    /**
+     * 신규 세션을 한 번의 다중 행 INSERT로 저장
+     *
+     * @param sessions 저장할 신규 세션 목록
+     */
+    void persistAll(List<SingleUploadSession> sessions);
+
+    /**
+     * 만료 시각이 지난 CREATED 세션을 한 번의 UPDATE로 EXPIRED 처리합니다.
+     *
+     * <p>그 사이 완료되었거나 만료 시각이 지나지 않은 세션은 건너뜁니다.
+     *
+     * @param sessionIds 세션 ID 목록
+     * @param now 기준 시각 (updatedAt으로 기록)
+     * @return 만료 처리된 세션 수
+     */
+    int expireAll(List<SingleUploadSessionId> sessionIds, Instant now);
 }
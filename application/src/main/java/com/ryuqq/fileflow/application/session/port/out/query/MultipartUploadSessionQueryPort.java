@@ -2,9 +2,12 @@ package com.ryuqq.fileflow.application.session.port.out.query;
 
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /** MultipartUploadSession 조회 포트 (Query) */
 public interface MultipartUploadSessionQueryPort {
@@ -17,6 +20,37 @@ public interface MultipartUploadSessionQueryPort {
      */
     Optional<MultipartUploadSession> findById(MultipartUploadSessionId id);
 
+    /**
+     * ID로 세션 단건 조회 (완료 파트 제외)
+     *
+     * <p>파트 목록이 필요 없는 경로(파트 추가 등)에서 사용합니다. 반환된 세션의 completedParts는 비어 있습니다.
+     *
+     * @param id 세션 ID
+     * @return 세션 (Optional)
+     */
+    Optional<MultipartUploadSession> findHeaderById(MultipartUploadSessionId id);
+
+    /**
+     * 완료 파트 집계 조회
+     *
+     * <p>파트 엔티티를 읽지 않고 집계 쿼리로 파트 수, 크기 합계, 연속 완료된 마지막 파트 번호를 계산합니다.
+     *
+     * @param id 세션 ID
+     * @return 완료 파트 집계 (파트가 없으면 모두 0)
+     */
+    CompletedPartsSummary summarizeCompletedParts(MultipartUploadSessionId id);
+
+    /**
+     * 완료 파트 키셋 페이지 조회
+     *
+     * @param id 세션 ID
+     * @param afterPartNumber 이 번호보다 큰 파트부터 조회 (첫 페이지는 0)
+     * @param limit 최대 조회 수
+     * @return 파트 번호 오름차순 완료 파트 목록
+     */
+    List<CompletedPart> findCompletedParts(
+            MultipartUploadSessionId id, int afterPartNumber, int limit);
+
     /**
      * 만료 시간이 지났지만 활성 상태(INITIATED, UPLOADING)인 고아 세션 목록 조회
      *
@@ -25,4 +59,22 @@ public interface MultipartUploadSessionQueryPort {
      * @return 고아 세션 목록
      */
     List<MultipartUploadSession> findExpiredSessions(Instant now, int limit);
+
+    /**
+     * 주어진 세션 중 만료 시간이 지났고 활성 상태(INITIATED, UPLOADING)인 세션 목록 조회 (완료 파트 제외)
+     *
+     * @param ids 세션 ID 목록
+     * @param now 기준 시각
+     * @return 만료 대상 세션 목록
+     */
+    List<MultipartUploadSession> findExpiredSessionsByIds(
+            List<MultipartUploadSessionId> ids, Instant now);
+
+    /**
+     * 주어진 S3 uploadId 중 활성 상태(INITIATED, UPLOADING) 세션이 사용 중인 uploadId 조회
+     *
+     * @param uploadIds S3 멀티파트 업로드 ID 목록
+     * @return 활성 세션이 사용 중인 uploadId 집합
+     */
+    Set<String> findActiveUploadIds(List<String> uploadIds);
 }
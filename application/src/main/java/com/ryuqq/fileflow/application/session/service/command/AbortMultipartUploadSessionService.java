@@ -3,6 +3,7 @@ package com.ryuqq.fileflow.application.session.service.command;
 import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.session.dto.command.AbortMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
 import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
@@ -20,18 +21,21 @@ public class AbortMultipartUploadSessionService implements AbortMultipartUploadS
     private final SessionCommandManager sessionCommandManager;
     private final SessionExpirationManager sessionExpirationManager;
     private final MultipartUploadManager multipartUploadManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
 
     public AbortMultipartUploadSessionService(
             MultipartSessionCommandFactory multipartSessionCommandFactory,
             SessionReadManager sessionReadManager,
             SessionCommandManager sessionCommandManager,
             SessionExpirationManager sessionExpirationManager,
-            MultipartUploadManager multipartUploadManager) {
+            MultipartUploadManager multipartUploadManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
         this.multipartSessionCommandFactory = multipartSessionCommandFactory;
         this.sessionReadManager = sessionReadManager;
         this.sessionCommandManager = sessionCommandManager;
         this.sessionExpirationManager = sessionExpirationManager;
         this.multipartUploadManager = multipartUploadManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
     }
 
     @Transactional
@@ -47,6 +51,7 @@ public class AbortMultipartUploadSessionService implements AbortMultipartUploadS
         session.abort(context.changedAt());
 
         sessionCommandManager.persist(session);
+        sessionHeaderCacheManager.invalidate(session);
         sessionExpirationManager.removeExpiration("MULTIPART", context.id());
     }
 }
@@ -1,11 +1,15 @@
 package com.ryuqq.fileflow.application.session.service.command;
 
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
 import com.ryuqq.fileflow.application.session.port.in.command.AddCompletedPartUseCase;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.exception.SessionErrorCode;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,14 +20,17 @@ public class AddCompletedPartService implements AddCompletedPartUseCase {
     private final MultipartSessionCommandFactory multipartSessionCommandFactory;
     private final SessionReadManager sessionReadManager;
     private final SessionCommandManager sessionCommandManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
 
     public AddCompletedPartService(
             MultipartSessionCommandFactory multipartSessionCommandFactory,
             SessionReadManager sessionReadManager,
-            SessionCommandManager sessionCommandManager) {
+            SessionCommandManager sessionCommandManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
         this.multipartSessionCommandFactory = multipartSessionCommandFactory;
         this.sessionReadManager = sessionReadManager;
         this.sessionCommandManager = sessionCommandManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
     }
 
     @Transactional
@@ -31,9 +38,24 @@ public class AddCompletedPartService implements AddCompletedPartUseCase {
     public void execute(AddCompletedPartCommand command) {
         CompletedPart completedPart = multipartSessionCommandFactory.createCompletedPart(command);
 
-        MultipartUploadSession session = sessionReadManager.getMultipart(command.sessionId());
-        session.addCompletedPart(completedPart);
+        MultipartUploadSession session =
+                sessionReadManager.getMultipartHeader(command.sessionId());
+        boolean started = session.acceptCompletedPart(completedPart);
 
-        sessionCommandManager.persist(session);
+        CompletedPartAppendResult result =
+                sessionCommandManager.appendCompletedPart(session, completedPart);
+        if (result == CompletedPartAppendResult.DUPLICATE) {
+            throw new SessionException(
+                    SessionErrorCode.PART_NUMBER_DUPLICATE,
+                    "Part number already exists: " + completedPart.partNumber());
+        }
+        if (result == CompletedPartAppendResult.SESSION_INACTIVE) {
+            throw new SessionException(
+                    SessionErrorCode.INVALID_SESSION_STATUS,
+                    "Session no longer accepts parts: " + session.idValue());
+        }
+        if (started && sessionCommandManager.startUploading(session)) {
+            sessionHeaderCacheManager.invalidate(session);
+        }
     }
 }
@@ -0,0 +1,58 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
+import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
+import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.application.session.port.in.command.AddCompletedPartsUseCase;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.exception.SessionErrorCode;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AddCompletedPartsService implements AddCompletedPartsUseCase {
+
+    private final MultipartSessionCommandFactory multipartSessionCommandFactory;
+    private final SessionReadManager sessionReadManager;
+    private final SessionCommandManager sessionCommandManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
+
+    public AddCompletedPartsService(
+            MultipartSessionCommandFactory multipartSessionCommandFactory,
+            SessionReadManager sessionReadManager,
+            SessionCommandManager sessionCommandManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
+        this.multipartSessionCommandFactory = multipartSessionCommandFactory;
+        this.sessionReadManager = sessionReadManager;
+        this.sessionCommandManager = sessionCommandManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
+    }
+
+    @Transactional
+    @Override
+    public void execute(AddCompletedPartsCommand command) {
+        List<CompletedPart> completedParts =
+                multipartSessionCommandFactory.createCompletedParts(command);
+
+        MultipartUploadSession session =
+                sessionReadManager.getMultipartHeader(command.sessionId());
+        boolean started = session.acceptCompletedParts(completedParts);
+
+        CompletedPartAppendResult result =
+                sessionCommandManager.upsertCompletedParts(session, completedParts);
+        if (result == CompletedPartAppendResult.SESSION_INACTIVE) {
+            throw new SessionException(
+                    SessionErrorCode.INVALID_SESSION_STATUS,
+                    "Session no longer accepts parts: " + session.idValue());
+        }
+        if (started && sessionCommandManager.startUploading(session)) {
+            sessionHeaderCacheManager.invalidate(session);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ryuqq.fileflow.application.common.component.TransactionEventRegistry;
 import com.ryuqq.fileflow.application.common.dto.command.UpdateContext;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
@@ -22,18 +23,21 @@ public class CompleteMultipartUploadSessionService
     private final SessionCommandManager sessionCommandManager;
     private final SessionExpirationManager sessionExpirationManager;
     private final TransactionEventRegistry transactionEventRegistry;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
 
     public CompleteMultipartUploadSessionService(
             MultipartSessionCommandFactory multipartSessionCommandFactory,
             SessionReadManager sessionReadManager,
             SessionCommandManager sessionCommandManager,
             SessionExpirationManager sessionExpirationManager,
-            TransactionEventRegistry transactionEventRegistry) {
+            TransactionEventRegistry transactionEventRegistry,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
         this.multipartSessionCommandFactory = multipartSessionCommandFactory;
         this.sessionReadManager = sessionReadManager;
         this.sessionCommandManager = sessionCommandManager;
         this.sessionExpirationManager = sessionExpirationManager;
         this.transactionEventRegistry = transactionEventRegistry;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
     }
 
     @Transactional
@@ -46,6 +50,7 @@ public class CompleteMultipartUploadSessionService
         session.complete(context.updateData(), context.changedAt());
 
         sessionCommandManager.persist(session);
+        sessionHeaderCacheManager.invalidate(session);
         sessionExpirationManager.removeExpiration("MULTIPART", context.id());
         transactionEventRegistry.registerAllForPublish(session.pollEvents());
     }
@@ -4,6 +4,7 @@ import com.ryuqq.fileflow.application.common.component.TransactionEventRegistry;
 import com.ryuqq.fileflow.application.common.dto.command.UpdateContext;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteSingleUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.factory.command.SingleSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
@@ -21,18 +22,21 @@ public class CompleteSingleUploadSessionService implements CompleteSingleUploadS
     private final SessionCommandManager sessionCommandManager;
     private final SessionExpirationManager sessionExpirationManager;
     private final TransactionEventRegistry transactionEventRegistry;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
 
     public CompleteSingleUploadSessionService(
             SingleSessionCommandFactory singleSessionCommandFactory,
             SessionReadManager sessionReadManager,
             SessionCommandManager sessionCommandManager,
             SessionExpirationManager sessionExpirationManager,
-            TransactionEventRegistry transactionEventRegistry) {
+            TransactionEventRegistry transactionEventRegistry,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
         this.singleSessionCommandFactory = singleSessionCommandFactory;
         this.sessionReadManager = sessionReadManager;
         this.sessionCommandManager = sessionCommandManager;
         this.sessionExpirationManager = sessionExpirationManager;
         this.transactionEventRegistry = transactionEventRegistry;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
     }
 
     @Transactional
@@ -45,6 +49,7 @@ public class CompleteSingleUploadSessionService implements CompleteSingleUploadS
         session.complete(context.updateData(), context.changedAt());
 
         sessionCommandManager.persist(session);
+        sessionHeaderCacheManager.invalidate(session);
         sessionExpirationManager.removeExpiration("SINGLE", context.id());
         transactionEventRegistry.registerAllForPublish(session.pollEvents());
     }
@@ -0,0 +1,31 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import com.ryuqq.fileflow.application.session.assembler.SessionAssembler;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
+import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.internal.SingleSessionCreationCoordinator;
+import com.ryuqq.fileflow.application.session.port.in.command.CreateSingleUploadSessionsUseCase;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CreateSingleUploadSessionsService implements CreateSingleUploadSessionsUseCase {
+
+    private final SingleSessionCreationCoordinator singleSessionCreationCoordinator;
+    private final SessionAssembler sessionAssembler;
+
+    public CreateSingleUploadSessionsService(
+            SingleSessionCreationCoordinator singleSessionCreationCoordinator,
+            SessionAssembler sessionAssembler) {
+        this.singleSessionCreationCoordinator = singleSessionCreationCoordinator;
+        this.sessionAssembler = sessionAssembler;
+    }
+
+    @Override
+    public List<SingleUploadSessionResponse> execute(CreateSingleUploadSessionsCommand command) {
+        List<SingleUploadSession> sessions =
+                singleSessionCreationCoordinator.createAll(command.sessions());
+        return sessions.stream().map(sessionAssembler::toResponse).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
+import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
+import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
+import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueMultipartSessionsUseCase;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 만료 대기열 기반 멀티파트 세션 일괄 만료 서비스.
+ *
+ * <p>DB 상태를 먼저 EXPIRED로 바꾼 뒤, UPDATE가 실제로 만료시킨 세션의 S3 업로드만 한 번에 중단합니다. S3 중단에 실패한 업로드는
+ * 세션이 이미 만료되어 다시 처리되지 않으므로 실패 건수로 집계합니다.
+ */
+@Service
+public class ExpireDueMultipartSessionsService implements ExpireDueMultipartSessionsUseCase {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ExpireDueMultipartSessionsService.class);
+
+    private static final String SESSION_TYPE = "MULTIPART";
+
+    private final SessionExpirationManager sessionExpirationManager;
+    private final SessionReadManager sessionReadManager;
+    private final SessionCommandManager sessionCommandManager;
+    private final MultipartUploadManager multipartUploadManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
+
+    public ExpireDueMultipartSessionsService(
+            SessionExpirationManager sessionExpirationManager,
+            SessionReadManager sessionReadManager,
+            SessionCommandManager sessionCommandManager,
+            MultipartUploadManager multipartUploadManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
+        this.sessionExpirationManager = sessionExpirationManager;
+        this.sessionReadManager = sessionReadManager;
+        this.sessionCommandManager = sessionCommandManager;
+        this.multipartUploadManager = multipartUploadManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
+    }
+
+    @Override
+    public SchedulerBatchProcessingResult execute(int batchSize) {
+        Instant now = Instant.now();
+
+        List<String> dueIds =
+                sessionExpirationManager.claimDueExpirations(SESSION_TYPE, now, batchSize);
+        if (dueIds.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
+
+        List<MultipartUploadSession> targets;
+        try {
+            List<MultipartUploadSession> candidates =
+                    sessionReadManager.findExpiredMultipartSessions(dueIds, now);
+            Set<String> expiredIds =
+                    candidates.isEmpty()
+                            ? Set.of()
+                            : Set.copyOf(
+                                    sessionCommandManager.expireMultipartSessions(
+                                            idsOf(candidates), now));
+            targets = candidates.stream().filter(s -> expiredIds.contains(s.idValue())).toList();
+        } catch (Exception e) {
+            log.error(
+                    "멀티파트 세션 일괄 만료 실패 (선점 시간 후 재시도): count={}, error={}",
+                    dueIds.size(),
+                    e.getMessage(),
+                    e);
+            return SchedulerBatchProcessingResult.of(dueIds.size(), 0, dueIds.size());
+        }
+
+        List<MultipartUploadRef> abortFailed =
+                multipartUploadManager.abortMultipartUploads(
+                        targets.stream().map(MultipartUploadSession::uploadRef).toList());
+
+        sessionHeaderCacheManager.invalidateAll(idsOf(targets), now);
+        sessionExpirationManager.acknowledgeExpirations(SESSION_TYPE, dueIds);
+
+        log.info(
+                "멀티파트 세션 일괄 만료: claimed={}, expired={}, skipped={}, abortFailed={}",
+                dueIds.size(),
+                targets.size(),
+                dueIds.size() - targets.size(),
+                abortFailed.size());
+
+        return SchedulerBatchProcessingResult.of(
+                dueIds.size(), targets.size() - abortFailed.size(), abortFailed.size());
+    }
+
+    private List<String> idsOf(List<MultipartUploadSession> sessions) {
+        return sessions.stream().map(MultipartUploadSession::idValue).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
+import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
+import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueSingleSessionsUseCase;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ExpireDueSingleSessionsService implements ExpireDueSingleSessionsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpireDueSingleSessionsService.class);
+
+    private static final String SESSION_TYPE = "SINGLE";
+
+    private final SessionExpirationManager sessionExpirationManager;
+    private final SessionCommandManager sessionCommandManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
+
+    public ExpireDueSingleSessionsService(
+            SessionExpirationManager sessionExpirationManager,
+            SessionCommandManager sessionCommandManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
+        this.sessionExpirationManager = sessionExpirationManager;
+        this.sessionCommandManager = sessionCommandManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
+    }
+
+    @Override
+    public SchedulerBatchProcessingResult execute(int batchSize) {
+        Instant now = Instant.now();
+
+        List<String> dueIds =
+                sessionExpirationManager.claimDueExpirations(SESSION_TYPE, now, batchSize);
+        if (dueIds.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
+
+        int expiredCount;
+        try {
+            expiredCount = sessionCommandManager.expireSingleSessions(dueIds, now);
+        } catch (Exception e) {
+            log.error(
+                    "단건 세션 일괄 만료 실패 (선점 시간 후 재시도): count={}, error={}",
+                    dueIds.size(),
+                    e.getMessage(),
+                    e);
+            return SchedulerBatchProcessingResult.of(dueIds.size(), 0, dueIds.size());
+        }
+
+        sessionHeaderCacheManager.invalidateAll(dueIds, now);
+        sessionExpirationManager.acknowledgeExpirations(SESSION_TYPE, dueIds);
+
+        log.info(
+                "단건 세션 일괄 만료: claimed={}, expired={}, skipped={}",
+                dueIds.size(),
+                expiredCount,
+                dueIds.size() - expiredCount);
+
+        return SchedulerBatchProcessingResult.of(dueIds.size(), expiredCount, 0);
+    }
+}
@@ -28,7 +28,7 @@ public class GeneratePresignedPartUrlService implements GeneratePresignedPartUrl
 
     @Override
     public PresignedPartUrlResponse execute(GeneratePresignedPartUrlCommand command) {
-        MultipartUploadSession session = sessionReadManager.getMultipart(command.sessionId());
+        MultipartUploadSession session = sessionReadManager.getMultipartHeader(command.sessionId());
 
         PartPresignedUrlSpec spec =
                 multipartSessionCommandFactory.createPartPresignedUrlSpec(
@@ -0,0 +1,52 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
+import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
+import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.application.session.port.in.command.GeneratePresignedPartUrlsUseCase;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpec;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GeneratePresignedPartUrlsService implements GeneratePresignedPartUrlsUseCase {
+
+    private final SessionReadManager sessionReadManager;
+    private final MultipartSessionCommandFactory multipartSessionCommandFactory;
+    private final MultipartUploadManager multipartUploadManager;
+
+    public GeneratePresignedPartUrlsService(
+            SessionReadManager sessionReadManager,
+            MultipartSessionCommandFactory multipartSessionCommandFactory,
+            MultipartUploadManager multipartUploadManager) {
+        this.sessionReadManager = sessionReadManager;
+        this.multipartSessionCommandFactory = multipartSessionCommandFactory;
+        this.multipartUploadManager = multipartUploadManager;
+    }
+
+    @Override
+    public List<PresignedPartUrlResponse> execute(GeneratePresignedPartUrlsCommand command) {
+        MultipartUploadSession session =
+                sessionReadManager.getMultipartHeader(command.sessionId());
+
+        PartPresignedUrlRangeSpec spec =
+                multipartSessionCommandFactory.createPartPresignedUrlRangeSpec(
+                        session, command.fromPartNumber(), command.toPartNumber());
+
+        session.validateUploadable(spec.createdAt());
+
+        List<String> presignedUrls = multipartUploadManager.generatePresignedPartUrls(spec);
+
+        List<PresignedPartUrlResponse> responses = new ArrayList<>(presignedUrls.size());
+        for (int i = 0; i < presignedUrls.size(); i++) {
+            responses.add(
+                    new PresignedPartUrlResponse(
+                            presignedUrls.get(i), spec.fromPartNumber() + i, spec.ttlSeconds()));
+        }
+        return responses;
+    }
+}
@@ -1,19 +1,26 @@
 package com.ryuqq.fileflow.application.session.service.command;
 
-import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
-import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
 import com.ryuqq.fileflow.application.session.port.in.command.RecoverExpiredMultipartSessionUseCase;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * 고아 멀티파트 세션 복구 서비스.
+ *
+ * <p>만료 대상 세션을 한 번의 UPDATE로 일괄 만료 처리한 뒤, UPDATE가 실제로 만료시킨 세션의 S3 업로드만 한 번에 중단합니다. 조회와
+ * UPDATE 사이에 완료된 세션은 건너뜀으로 집계합니다. S3 중단에 실패한 업로드는 실패 건수로 집계하고 S3 lifecycle 규칙에 정리를 맡깁니다.
+ */
 @Service
 public class RecoverExpiredMultipartSessionService
         implements RecoverExpiredMultipartSessionUseCase {
@@ -22,50 +29,60 @@ public class RecoverExpiredMultipartSessionService
             LoggerFactory.getLogger(RecoverExpiredMultipartSessionService.class);
 
     private final SessionReadManager sessionReadManager;
-    private final MultipartSessionCommandFactory multipartSessionCommandFactory;
     private final SessionCommandManager sessionCommandManager;
     private final MultipartUploadManager multipartUploadManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
 
     public RecoverExpiredMultipartSessionService(
             SessionReadManager sessionReadManager,
-            MultipartSessionCommandFactory multipartSessionCommandFactory,
             SessionCommandManager sessionCommandManager,
-            MultipartUploadManager multipartUploadManager) {
+            MultipartUploadManager multipartUploadManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
         this.sessionReadManager = sessionReadManager;
-        this.multipartSessionCommandFactory = multipartSessionCommandFactory;
         this.sessionCommandManager = sessionCommandManager;
         this.multipartUploadManager = multipartUploadManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
     }
 
     @Override
     public SchedulerBatchProcessingResult execute(int batchSize) {
         Instant now = Instant.now();
-        int successCount = 0;
-        int failedCount = 0;
 
-        List<MultipartUploadSession> expired =
+        List<MultipartUploadSession> candidates =
                 sessionReadManager.findExpiredMultipartSessions(now, batchSize);
+        if (candidates.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
 
-        for (MultipartUploadSession session : expired) {
-            try {
-                multipartUploadManager.abortMultipartUpload(session.s3Key(), session.uploadId());
+        List<String> sessionIds =
+                candidates.stream().map(MultipartUploadSession::idValue).toList();
+        int total = sessionIds.size();
 
-                StatusChangeContext<String> context =
-                        multipartSessionCommandFactory.createExpireContext(session.idValue());
-                session.expire(context.changedAt());
-                sessionCommandManager.persist(session);
-                successCount++;
-            } catch (Exception e) {
-                log.error(
-                        "고아 멀티파트 세션 만료 처리 실패: sessionId={}, error={}",
-                        session.idValue(),
-                        e.getMessage(),
-                        e);
-                failedCount++;
-            }
+        Set<String> expiredIds;
+        try {
+            expiredIds = Set.copyOf(sessionCommandManager.expireMultipartSessions(sessionIds, now));
+        } catch (Exception e) {
+            log.error("고아 멀티파트 세션 일괄 만료 실패: count={}, error={}", total, e.getMessage(), e);
+            return SchedulerBatchProcessingResult.of(total, 0, total);
         }
 
-        int total = successCount + failedCount;
-        return SchedulerBatchProcessingResult.of(total, successCount, failedCount);
+        List<MultipartUploadSession> expired =
+                candidates.stream().filter(s -> expiredIds.contains(s.idValue())).toList();
+        List<MultipartUploadRef> abortFailed =
+                multipartUploadManager.abortMultipartUploads(
+                        expired.stream().map(MultipartUploadSession::uploadRef).toList());
+
+        sessionHeaderCacheManager.invalidateAll(
+                expired.stream().map(MultipartUploadSession::idValue).toList(), now);
+
+        log.info(
+                "고아 멀티파트 세션 일괄 만료: candidates={}, expired={}, skipped={}, abortFailed={}",
+                total,
+                expired.size(),
+                total - expired.size(),
+                abortFailed.size());
+
+        return SchedulerBatchProcessingResult.of(
+                total, expired.size() - abortFailed.size(), abortFailed.size());
     }
 }
@@ -1,8 +1,7 @@
 package com.ryuqq.fileflow.application.session.service.command;
 
-import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
-import com.ryuqq.fileflow.application.session.factory.command.SingleSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
 import com.ryuqq.fileflow.application.session.port.in.command.RecoverExpiredSingleSessionUseCase;
@@ -13,6 +12,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * 고아 단건 세션 복구 서비스.
+ *
+ * <p>만료 대상 세션을 한 번 조회한 뒤 한 번의 UPDATE로 일괄 만료 처리합니다. 조회와 UPDATE 사이에 완료된 세션은 UPDATE 조건에서 걸러집니다.
+ */
 @Service
 public class RecoverExpiredSingleSessionService implements RecoverExpiredSingleSessionUseCase {
 
@@ -20,45 +24,47 @@ public class RecoverExpiredSingleSessionService implements RecoverExpiredSingleS
             LoggerFactory.getLogger(RecoverExpiredSingleSessionService.class);
 
     private final SessionReadManager sessionReadManager;
-    private final SingleSessionCommandFactory singleSessionCommandFactory;
     private final SessionCommandManager sessionCommandManager;
+    private final SessionHeaderCacheManager sessionHeaderCacheManager;
 
     public RecoverExpiredSingleSessionService(
             SessionReadManager sessionReadManager,
-            SingleSessionCommandFactory singleSessionCommandFactory,
-            SessionCommandManager sessionCommandManager) {
+            SessionCommandManager sessionCommandManager,
+            SessionHeaderCacheManager sessionHeaderCacheManager) {
         this.sessionReadManager = sessionReadManager;
-        this.singleSessionCommandFactory = singleSessionCommandFactory;
         this.sessionCommandManager = sessionCommandManager;
+        this.sessionHeaderCacheManager = sessionHeaderCacheManager;
     }
 
     @Override
     public SchedulerBatchProcessingResult execute(int batchSize) {
         Instant now = Instant.now();
-        int successCount = 0;
-        int failedCount = 0;
 
         List<SingleUploadSession> expired =
                 sessionReadManager.findExpiredSingleSessions(now, batchSize);
+        if (expired.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
+
+        List<String> sessionIds = expired.stream().map(SingleUploadSession::idValue).toList();
+        int total = sessionIds.size();
 
-        for (SingleUploadSession session : expired) {
-            try {
-                StatusChangeContext<String> context =
-                        singleSessionCommandFactory.createExpireContext(session.idValue());
-                session.expire(context.changedAt());
-                sessionCommandManager.persist(session);
-                successCount++;
-            } catch (Exception e) {
-                log.error(
-                        "고아 단건 세션 만료 처리 실패: sessionId={}, error={}",
-                        session.idValue(),
-                        e.getMessage(),
-                        e);
-                failedCount++;
-            }
+        int expiredCount;
+        try {
+            expiredCount = sessionCommandManager.expireSingleSessions(sessionIds, now);
+        } catch (Exception e) {
+            log.error("고아 단건 세션 일괄 만료 실패: count={}, error={}", total, e.getMessage(), e);
+            return SchedulerBatchProcessingResult.of(total, 0, total);
         }
 
-        int total = successCount + failedCount;
-        return SchedulerBatchProcessingResult.of(total, successCount, failedCount);
+        sessionHeaderCacheManager.invalidateAll(sessionIds, now);
+
+        log.info(
+                "고아 단건 세션 일괄 만료: candidates={}, expired={}, skipped={}",
+                total,
+                expiredCount,
+                total - expiredCount);
+
+        return SchedulerBatchProcessingResult.of(total, expiredCount, 0);
     }
 }
@@ -0,0 +1,96 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.dto.command.SweepOrphanedMultipartUploadsCommand;
+import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.application.session.port.in.command.SweepOrphanedMultipartUploadsUseCase;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListing;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 고아 S3 멀티파트 업로드 정리 서비스.
+ *
+ * <p>ListMultipartUploads를 페이지 단위로 훑으며 페이지마다 uploadId를 한 번의 IN 쿼리로 활성 세션과 대조합니다. 활성 세션이 없는
+ * 업로드만 중단하며, 한 번 실행에서 중단하는 수는 {@code maxAborts}로 제한합니다. 중단된 업로드는 목록에서 사라지므로 다음 실행은 항상
+ * 첫 페이지부터 시작합니다.
+ */
+@Service
+public class SweepOrphanedMultipartUploadsService implements SweepOrphanedMultipartUploadsUseCase {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SweepOrphanedMultipartUploadsService.class);
+
+    private final MultipartUploadManager multipartUploadManager;
+    private final SessionReadManager sessionReadManager;
+
+    public SweepOrphanedMultipartUploadsService(
+            MultipartUploadManager multipartUploadManager, SessionReadManager sessionReadManager) {
+        this.multipartUploadManager = multipartUploadManager;
+        this.sessionReadManager = sessionReadManager;
+    }
+
+    @Override
+    public SchedulerBatchProcessingResult execute(SweepOrphanedMultipartUploadsCommand command) {
+        Instant initiatedBefore = command.initiatedBefore(Instant.now());
+
+        int scanned = 0;
+        int orphans = 0;
+        int failed = 0;
+        long reclaimedBytes = 0L;
+        String keyMarker = null;
+        String uploadIdMarker = null;
+        MultipartUploadListingPage page;
+        do {
+            page =
+                    multipartUploadManager.listMultipartUploads(
+                            keyMarker, uploadIdMarker, command.pageSize());
+            scanned += page.uploads().size();
+
+            List<MultipartUploadRef> targets =
+                    findOrphans(page, initiatedBefore, command.maxAborts() - orphans);
+            MultipartUploadReclaimResult result =
+                    multipartUploadManager.reclaimMultipartUploads(targets);
+
+            orphans += targets.size();
+            failed += result.failed().size();
+            reclaimedBytes += result.reclaimedBytes();
+            keyMarker = page.nextKeyMarker();
+            uploadIdMarker = page.nextUploadIdMarker();
+        } while (page.hasNext() && orphans < command.maxAborts());
+
+        if (orphans > 0) {
+            log.info(
+                    "고아 멀티파트 업로드 정리: scanned={}, orphans={}, failed={}, reclaimedBytes={}",
+                    scanned,
+                    orphans,
+                    failed,
+                    reclaimedBytes);
+        }
+        return SchedulerBatchProcessingResult.of(orphans, orphans - failed, failed);
+    }
+
+    private List<MultipartUploadRef> findOrphans(
+            MultipartUploadListingPage page, Instant initiatedBefore, int limit) {
+        List<MultipartUploadListing> candidates =
+                page.uploads().stream()
+                        .filter(upload -> upload.initiatedBefore(initiatedBefore))
+                        .toList();
+        Set<String> activeUploadIds =
+                sessionReadManager.findActiveMultipartUploadIds(
+                        candidates.stream().map(MultipartUploadListing::uploadId).toList());
+        return candidates.stream()
+                .filter(upload -> !activeUploadIds.contains(upload.uploadId()))
+                .map(MultipartUploadListing::ref)
+                .limit(limit)
+                .toList();
+    }
+}
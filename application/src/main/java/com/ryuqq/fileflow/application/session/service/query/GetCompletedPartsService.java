@@ -0,0 +1,34 @@
+package com.ryuqq.fileflow.application.session.service.query;
+
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.application.session.assembler.SessionAssembler;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.application.session.port.in.query.GetCompletedPartsUseCase;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/** 멀티파트 업로드 세션 완료 파트 키셋 페이지 조회 서비스 */
+@Service
+public class GetCompletedPartsService implements GetCompletedPartsUseCase {
+
+    private final SessionReadManager sessionReadManager;
+    private final SessionAssembler sessionAssembler;
+
+    public GetCompletedPartsService(
+            SessionReadManager sessionReadManager, SessionAssembler sessionAssembler) {
+        this.sessionReadManager = sessionReadManager;
+        this.sessionAssembler = sessionAssembler;
+    }
+
+    @Override
+    public SliceResponse<CompletedPartResponse> execute(CompletedPartSearchParams params) {
+        sessionReadManager.getMultipartHeader(params.sessionId());
+        List<CompletedPart> parts =
+                sessionReadManager.findCompletedParts(
+                        params.sessionId(), params.afterPartNumber(), params.fetchSize());
+        return sessionAssembler.toPartSlice(parts, params.size());
+    }
+}
@@ -0,0 +1,31 @@
+package com.ryuqq.fileflow.application.session.service.query;
+
+import com.ryuqq.fileflow.application.session.assembler.SessionAssembler;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.application.session.port.in.query.GetMultipartUploadSessionSummaryUseCase;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
+import org.springframework.stereotype.Service;
+
+/** 멀티파트 업로드 세션 요약 조회 서비스 - 세션 헤더와 파트 집계만 읽습니다. */
+@Service
+public class GetMultipartUploadSessionSummaryService
+        implements GetMultipartUploadSessionSummaryUseCase {
+
+    private final SessionReadManager sessionReadManager;
+    private final SessionAssembler sessionAssembler;
+
+    public GetMultipartUploadSessionSummaryService(
+            SessionReadManager sessionReadManager, SessionAssembler sessionAssembler) {
+        this.sessionReadManager = sessionReadManager;
+        this.sessionAssembler = sessionAssembler;
+    }
+
+    @Override
+    public MultipartUploadSessionSummaryResponse execute(String sessionId) {
+        MultipartUploadSession session = sessionReadManager.getMultipartHeader(sessionId);
+        CompletedPartsSummary summary = sessionReadManager.summarizeCompletedParts(sessionId);
+        return sessionAssembler.toSummaryResponse(session, summary);
+    }
+}
@@ -22,7 +22,7 @@ public class GetSingleUploadSessionService implements GetSingleUploadSessionUseC
 
     @Override
     public SingleUploadSessionResponse execute(String sessionId) {
-        SingleUploadSession session = sessionReadManager.getSingle(sessionId);
+        SingleUploadSession session = sessionReadManager.getSingleHeader(sessionId);
         return sessionAssembler.toResponse(session);
     }
 }
@@ -21,6 +21,7 @@ public class TransformAssembler {
                 request.resultAssetIdValue(),
                 request.lastError(),
                 request.createdAt(),
-                request.completedAt());
+                request.completedAt(),
+                request.version());
     }
 }
@@ -15,4 +15,5 @@ public record TransformRequestResponse(
         String resultAssetId,
         String lastError,
         Instant createdAt,
-        Instant completedAt) {}
+        Instant completedAt,
+        long version) {}
@@ -0,0 +1,35 @@
+package com.ryuqq.fileflow.application.transform.dto.result;
+
+import java.time.Duration;
+
+/**
+ * 변환 파이프라인 단계별 버퍼 크기.
+ *
+ * @param cpuParallelism CPU 변환 동시 실행 수
+ * @param prefetchDepth CPU 대기 중 미리 받아둘 원본 수
+ * @param uploadBuffer 업로드 대기/진행 중 보관할 결과 수
+ * @param drainTimeout 종료 시 진행 중인 요청이 끝나기를 기다릴 최대 시간
+ */
+public record TransformPipelineCapacity(
+        int cpuParallelism, int prefetchDepth, int uploadBuffer, Duration drainTimeout) {
+
+    public TransformPipelineCapacity {
+        if (cpuParallelism <= 0) {
+            throw new IllegalArgumentException("cpuParallelism must be positive");
+        }
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative");
+        }
+        if (uploadBuffer <= 0) {
+            throw new IllegalArgumentException("uploadBuffer must be positive");
+        }
+        if (drainTimeout == null || drainTimeout.isNegative()) {
+            throw new IllegalArgumentException("drainTimeout must not be negative");
+        }
+    }
+
+    /** 다운로드부터 CPU 처리 완료까지 동시에 머무를 수 있는 요청 수. */
+    public int fetchSlots() {
+        return cpuParallelism + prefetchDepth;
+    }
+}
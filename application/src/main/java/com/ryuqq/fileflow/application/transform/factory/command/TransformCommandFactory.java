@@ -44,6 +44,11 @@ public class TransformCommandFactory {
         return new StatusChangeContext<>(transformRequestId, timeProvider.now());
     }
 
+    /** 합류 요청 분류/종료(재사용, 리더 결과 반영, 지문 반납)에 사용할 컨텍스트. */
+    public StatusChangeContext<String> createCoalesceContext(String transformRequestId) {
+        return new StatusChangeContext<>(transformRequestId, timeProvider.now());
+    }
+
     public TransformCompletionBundle createCompletionBundle(
             ImageTransformResult result, TransformRequest request, Asset sourceAsset) {
         Asset resultAsset = createResultAsset(result, request, sourceAsset);
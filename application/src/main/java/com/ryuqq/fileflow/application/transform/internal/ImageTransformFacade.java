@@ -4,6 +4,8 @@ import com.ryuqq.fileflow.application.common.manager.StorageBucketManager;
 import com.ryuqq.fileflow.application.common.time.TimeProvider;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageProcessingResult;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageTransformResult;
+import com.ryuqq.fileflow.application.transform.dto.result.TransformPipelineCapacity;
+import com.ryuqq.fileflow.application.transform.manager.client.FileStorageCopyManager;
 import com.ryuqq.fileflow.application.transform.manager.client.FileStorageDownloadManager;
 import com.ryuqq.fileflow.application.transform.manager.client.FileStorageUploadManager;
 import com.ryuqq.fileflow.application.transform.manager.client.ImageProcessingManager;
@@ -13,72 +15,236 @@ import com.ryuqq.fileflow.domain.common.service.S3PathResolver;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.vo.ImageDimension;
+import com.ryuqq.fileflow.domain.transform.vo.ImageFormat;
+import com.ryuqq.fileflow.domain.transform.vo.ImageHeader;
+import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
+/**
+ * 이미지 변환 Facade.
+ *
+ * <p>{@link #transform}은 다운로드 → 처리 → 업로드를 호출 스레드에서 순차 실행합니다.
+ *
+ * <p>{@link #transformAsync}는 파이프라인 모드입니다. 각 요청은 가상 스레드에서 단계를 진행하며, 단계 사이에는 세마포어로 구현한 유한 버퍼가
+ * 있습니다.
+ *
+ * <ul>
+ *   <li>fetch 버퍼: CPU 처리 중인 요청 외에 {@code prefetchDepth}개의 원본을 미리 받아 둡니다.
+ *   <li>upload 버퍼: CPU 처리가 끝난 결과는 업로드 슬롯을 확보한 뒤 fetch 슬롯을 반환하므로, 업로드가 밀리면 다운로드도 멈춥니다.
+ * </ul>
+ *
+ * <p>종료 시에는 새 요청을 받지 않고, 파이프라인에 남은 요청이 {@code drainTimeout} 안에 끝나기를 기다립니다.
+ *
+ * <p>두 모드 모두 변환이 결과를 바꾸지 않는 경우(같은 포맷으로의 CONVERT, 이미 충분히 작은 원본의 COMPRESS)에는 원본 헤더만 확인한 뒤
+ * 스토리지 서버 측 복사로 결과 파일을 만들고 디코딩/인코딩을 생략합니다.
+ */
 @Component
-public class ImageTransformFacade {
+public class ImageTransformFacade implements DisposableBean {
 
     private static final Logger log = LoggerFactory.getLogger(ImageTransformFacade.class);
 
     private final FileStorageDownloadManager fileStorageDownloadManager;
     private final ImageProcessingManager imageProcessingManager;
     private final FileStorageUploadManager fileStorageUploadManager;
+    private final FileStorageCopyManager fileStorageCopyManager;
     private final StorageBucketManager storageBucketManager;
     private final TimeProvider timeProvider;
+    private final ExecutorService ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore fetchSlots;
+    private final Semaphore uploadSlots;
+    private final Duration drainTimeout;
 
     public ImageTransformFacade(
             FileStorageDownloadManager fileStorageDownloadManager,
             ImageProcessingManager imageProcessingManager,
             FileStorageUploadManager fileStorageUploadManager,
+            FileStorageCopyManager fileStorageCopyManager,
             StorageBucketManager storageBucketManager,
             TimeProvider timeProvider) {
         this.fileStorageDownloadManager = fileStorageDownloadManager;
         this.imageProcessingManager = imageProcessingManager;
         this.fileStorageUploadManager = fileStorageUploadManager;
+        this.fileStorageCopyManager = fileStorageCopyManager;
         this.storageBucketManager = storageBucketManager;
         this.timeProvider = timeProvider;
+        TransformPipelineCapacity capacity = imageProcessingManager.pipelineCapacity();
+        this.fetchSlots = new Semaphore(capacity.fetchSlots(), true);
+        this.uploadSlots = new Semaphore(capacity.uploadBuffer(), true);
+        this.drainTimeout = capacity.drainTimeout();
     }
 
     public ImageTransformResult transform(Asset sourceAsset, TransformRequest request) {
         try {
+            Optional<ImageTransformResult> copied = copyIfNoOp(sourceAsset, request);
+            if (copied.isPresent()) {
+                return copied.get();
+            }
+
             byte[] sourceBytes =
                     fileStorageDownloadManager.download(sourceAsset.bucket(), sourceAsset.s3Key());
 
             ImageProcessingResult processed =
                     imageProcessingManager.process(sourceBytes, request.type(), request.params());
 
-            Instant now = timeProvider.now();
-            String resultS3Key =
-                    generateResultS3Key(sourceAsset.accessType(), processed.extension(), now);
-            String bucket = storageBucketManager.getBucket();
-
-            String etag =
-                    fileStorageUploadManager.upload(
-                            bucket, resultS3Key, processed.data(), processed.contentType());
-
-            String resultFileName = extractFileName(resultS3Key);
-            FileInfo fileInfo =
-                    FileInfo.of(
-                            resultFileName,
-                            processed.fileSize(),
-                            processed.contentType(),
-                            etag,
-                            processed.extension());
-            ImageDimension dimension = ImageDimension.of(processed.width(), processed.height());
-
-            return ImageTransformResult.success(resultS3Key, bucket, fileInfo, dimension);
+            return upload(sourceAsset, processed);
         } catch (Exception e) {
-            log.error(
-                    "이미지 변환 실패: requestId={}, sourceAssetId={}, error={}",
-                    request.idValue(),
-                    sourceAsset.idValue(),
-                    e.getMessage(),
-                    e);
-            return ImageTransformResult.failure(e.getMessage());
+            return failure(sourceAsset, request, e);
+        }
+    }
+
+    public CompletableFuture<ImageTransformResult> transformAsync(
+            Asset sourceAsset, TransformRequest request) {
+        return CompletableFuture.supplyAsync(
+                () -> transformPipelined(sourceAsset, request), ioExecutor);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        ioExecutor.shutdown();
+        if (!ioExecutor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("변환 파이프라인 종료 대기 시간 초과, 진행 중인 요청을 중단합니다");
+            ioExecutor.shutdownNow();
+        }
+    }
+
+    private ImageTransformResult transformPipelined(Asset sourceAsset, TransformRequest request) {
+        try {
+            Optional<ImageTransformResult> copied = copyIfNoOp(sourceAsset, request);
+            if (copied.isPresent()) {
+                return copied.get();
+            }
+
+            ImageProcessingResult processed = fetchAndProcess(sourceAsset, request);
+            try {
+                return upload(sourceAsset, processed);
+            } finally {
+                uploadSlots.release();
+            }
+        } catch (Exception e) {
+            return failure(sourceAsset, request, e);
+        }
+    }
+
+    /** fetch 슬롯 안에서 다운로드와 CPU 처리를 수행하고, 업로드 슬롯을 확보한 상태로 반환합니다. */
+    private ImageProcessingResult fetchAndProcess(Asset sourceAsset, TransformRequest request) {
+        acquire(fetchSlots);
+        try {
+            byte[] sourceBytes =
+                    fileStorageDownloadManager.download(sourceAsset.bucket(), sourceAsset.s3Key());
+            ImageProcessingResult processed =
+                    imageProcessingManager.process(sourceBytes, request.type(), request.params());
+            acquire(uploadSlots);
+            return processed;
+        } finally {
+            fetchSlots.release();
+        }
+    }
+
+    /**
+     * 변환이 결과를 바꾸지 않으면 원본을 서버 측 복사하여 결과를 만듭니다.
+     *
+     * <p>Content-Type으로 후보를 거른 뒤에만 헤더를 Range 요청으로 읽고, 실제 시그니처가 Content-Type과 다르면 일반 경로로 처리합니다.
+     */
+    private Optional<ImageTransformResult> copyIfNoOp(Asset sourceAsset, TransformRequest request) {
+        TransformParams params = request.params();
+        ImageFormat declaredFormat =
+                ImageFormat.fromContentType(sourceAsset.contentType()).orElse(null);
+        if (!params.canSkipTranscode(request.type(), declaredFormat)) {
+            return Optional.empty();
+        }
+
+        byte[] head =
+                fileStorageDownloadManager.downloadHead(
+                        sourceAsset.bucket(), sourceAsset.s3Key(), ImageHeader.PROBE_LENGTH);
+        Optional<ImageHeader> header =
+                ImageHeader.probe(head).filter(probed -> probed.format() == declaredFormat);
+        if (header.isEmpty()
+                || !params.isNoOpFor(request.type(), header.get(), sourceAsset.fileSize())) {
+            return Optional.empty();
+        }
+
+        log.info(
+                "변환 생략, 원본 서버 측 복사: requestId={}, sourceAssetId={}, type={}",
+                request.idValue(),
+                sourceAsset.idValue(),
+                request.type());
+        String extension = params.resolveEncoding(request.type(), declaredFormat).extension();
+        return Optional.of(copy(sourceAsset, header.get(), extension));
+    }
+
+    private ImageTransformResult copy(Asset sourceAsset, ImageHeader header, String extension) {
+        Instant now = timeProvider.now();
+        String resultS3Key = generateResultS3Key(sourceAsset.accessType(), extension, now);
+        String bucket = storageBucketManager.getBucket();
+
+        String etag =
+                fileStorageCopyManager.copy(
+                        sourceAsset.bucket(), sourceAsset.s3Key(), bucket, resultS3Key);
+
+        FileInfo fileInfo =
+                FileInfo.of(
+                        extractFileName(resultS3Key),
+                        sourceAsset.fileSize(),
+                        header.format().contentType(),
+                        etag,
+                        extension);
+        ImageDimension dimension = ImageDimension.of(header.width(), header.height());
+
+        return ImageTransformResult.success(resultS3Key, bucket, fileInfo, dimension);
+    }
+
+    private ImageTransformResult upload(Asset sourceAsset, ImageProcessingResult processed) {
+        Instant now = timeProvider.now();
+        String resultS3Key =
+                generateResultS3Key(sourceAsset.accessType(), processed.extension(), now);
+        String bucket = storageBucketManager.getBucket();
+
+        String etag =
+                fileStorageUploadManager.upload(
+                        bucket, resultS3Key, processed.data(), processed.contentType());
+
+        String resultFileName = extractFileName(resultS3Key);
+        FileInfo fileInfo =
+                FileInfo.of(
+                        resultFileName,
+                        processed.fileSize(),
+                        processed.contentType(),
+                        etag,
+                        processed.extension());
+        ImageDimension dimension = ImageDimension.of(processed.width(), processed.height());
+
+        return ImageTransformResult.success(resultS3Key, bucket, fileInfo, dimension);
+    }
+
+    private ImageTransformResult failure(
+            Asset sourceAsset, TransformRequest request, Exception e) {
+        log.error(
+                "이미지 변환 실패: requestId={}, sourceAssetId={}, error={}",
+                request.idValue(),
+                sourceAsset.idValue(),
+                e.getMessage(),
+                e);
+        return ImageTransformResult.failure(e.getMessage());
+    }
+
+    private void acquire(Semaphore slots) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("변환 파이프라인 슬롯 대기 중 인터럽트 발생", e);
         }
     }
 
@@ -0,0 +1,167 @@
+package com.ryuqq.fileflow.application.transform.internal;
+
+import com.ryuqq.fileflow.application.asset.manager.query.AssetReadManager;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.manager.TaskCompletionSignalManager;
+import com.ryuqq.fileflow.application.transform.factory.command.TransformCommandFactory;
+import com.ryuqq.fileflow.application.transform.manager.command.TransformCallbackOutboxCommandManager;
+import com.ryuqq.fileflow.application.transform.manager.command.TransformCommandManager;
+import com.ryuqq.fileflow.application.transform.manager.command.TransformQueueOutboxCommandManager;
+import com.ryuqq.fileflow.application.transform.manager.query.TransformReadManager;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 동일 변환 요청 합류(single-flight) Facade.
+ *
+ * <p>{@link #register}는 새 요청을 지문으로 분류합니다.
+ *
+ * <ul>
+ *   <li>리더 없음: 새 리더로 저장하고 큐 아웃박스를 등록합니다.
+ *   <li>리더 완료: 결과 Asset을 재사용하여 즉시 완료합니다.
+ *   <li>리더 진행 중(QUEUED, PROCESSING): 리더에 합류하고 큐에는 넣지 않습니다.
+ * </ul>
+ *
+ * <p>리더가 종료되면 {@link #settleFollowers}가 같은 트랜잭션에서 합류 요청을 리더와 같은 결과로 종료하고 각자의 콜백을 등록합니다. 리더
+ * 종료 트랜잭션과 동시에 합류하여 누락된 요청은 좀비 복구 스케줄러가 {@link #settleFollower}로 정리합니다.
+ */
+@Component
+public class TransformCoalescingFacade {
+
+    private static final Logger log = LoggerFactory.getLogger(TransformCoalescingFacade.class);
+
+    private final TransformReadManager transformReadManager;
+    private final AssetReadManager assetReadManager;
+    private final TransformCommandFactory transformCommandFactory;
+    private final TransformCommandManager transformCommandManager;
+    private final TransformQueueOutboxCommandManager transformQueueOutboxCommandManager;
+    private final TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager;
+    private final TaskCompletionSignalManager taskCompletionSignalManager;
+
+    public TransformCoalescingFacade(
+            TransformReadManager transformReadManager,
+            AssetReadManager assetReadManager,
+            TransformCommandFactory transformCommandFactory,
+            TransformCommandManager transformCommandManager,
+            TransformQueueOutboxCommandManager transformQueueOutboxCommandManager,
+            TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager,
+            TaskCompletionSignalManager taskCompletionSignalManager) {
+        this.transformReadManager = transformReadManager;
+        this.assetReadManager = assetReadManager;
+        this.transformCommandFactory = transformCommandFactory;
+        this.transformCommandManager = transformCommandManager;
+        this.transformQueueOutboxCommandManager = transformQueueOutboxCommandManager;
+        this.transformCallbackOutboxCommandManager = transformCallbackOutboxCommandManager;
+        this.taskCompletionSignalManager = taskCompletionSignalManager;
+    }
+
+    /**
+     * 새 변환 요청을 등록합니다.
+     *
+     * <p>완료된 리더의 결과 Asset이 삭제되었으면 리더의 지문만 반납하고 empty를 반환합니다. 지문 반납(UPDATE)과 새 리더 저장(INSERT)을 한
+     * 트랜잭션에서 하면 UNIQUE 제약에 걸리므로, 호출자는 새 트랜잭션에서 다시 등록해야 합니다.
+     *
+     * @return 등록된 요청 (재시도가 필요하면 empty)
+     */
+    @Transactional
+    public Optional<TransformRequest> register(TransformRequest request) {
+        Optional<TransformRequest> found = transformReadManager.findLeader(request.fingerprint());
+        if (found.isEmpty()) {
+            return Optional.of(registerLeader(request));
+        }
+
+        TransformRequest leader = found.get();
+        Instant now = transformCommandFactory.createCoalesceContext(request.idValue()).changedAt();
+
+        if (leader.status() == TransformStatus.COMPLETED) {
+            if (!assetReadManager.existsAsset(leader.resultAssetIdValue())) {
+                log.info(
+                        "재사용할 결과 Asset이 없어 지문 반납: leaderId={}, resultAssetId={}",
+                        leader.idValue(),
+                        leader.resultAssetIdValue());
+                leader.releaseFingerprint(now);
+                transformCommandManager.persist(leader);
+                return Optional.empty();
+            }
+            request.reuseResultOf(leader, now);
+            transformCommandManager.persist(request);
+            registerCallback(request);
+            log.info(
+                    "완료된 변환 결과 재사용: requestId={}, leaderId={}, resultAssetId={}",
+                    request.idValue(),
+                    leader.idValue(),
+                    request.resultAssetIdValue());
+            return Optional.of(request);
+        }
+
+        request.attachTo(leader);
+        transformCommandManager.persist(request);
+        log.info("진행 중인 변환에 합류: requestId={}, leaderId={}", request.idValue(), leader.idValue());
+        return Optional.of(request);
+    }
+
+    /** 종료된 리더에 합류한 요청들을 같은 결과로 종료합니다. 리더 종료와 같은 트랜잭션에서 호출합니다. */
+    @Transactional
+    public void settleFollowers(TransformRequest leader, Instant now) {
+        List<TransformRequest> followers = transformReadManager.getQueuedFollowers(leader.id());
+        if (followers.isEmpty()) {
+            return;
+        }
+        for (TransformRequest follower : followers) {
+            settle(follower, leader, now);
+        }
+        log.info(
+                "합류 요청 종료: leaderId={}, status={}, count={}",
+                leader.idValue(),
+                leader.status(),
+                followers.size());
+    }
+
+    /**
+     * 리더가 이미 종료된 합류 요청 하나를 정리합니다.
+     *
+     * @return 정리했으면 true, 리더가 아직 진행 중이면 false
+     */
+    @Transactional
+    public boolean settleFollower(TransformRequest follower) {
+        TransformRequest leader =
+                transformReadManager.getTransformRequest(follower.coalescedIntoValue());
+        if (!leader.status().isTerminal()) {
+            return false;
+        }
+        Instant now = transformCommandFactory.createCoalesceContext(follower.idValue()).changedAt();
+        settle(follower, leader, now);
+        return true;
+    }
+
+    private TransformRequest registerLeader(TransformRequest request) {
+        transformCommandManager.persist(request);
+        transformQueueOutboxCommandManager.persist(
+                transformCommandFactory.createQueueOutbox(request.idValue()));
+        return request;
+    }
+
+    private void settle(TransformRequest follower, TransformRequest leader, Instant now) {
+        follower.settleWith(leader, now);
+        transformCommandManager.persist(follower);
+        registerCallback(follower);
+        taskCompletionSignalManager.signalAfterCommit(
+                TaskCompletionSignal.transform(follower.idValue()));
+    }
+
+    private void registerCallback(TransformRequest request) {
+        if (!request.hasCallback()) {
+            return;
+        }
+        transformCallbackOutboxCommandManager.persist(
+                transformCommandFactory.createCallbackOutbox(
+                        request.idValue(), request.callbackUrl(), request.status().name()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.ryuqq.fileflow.application.transform.internal;
 
 import com.ryuqq.fileflow.application.asset.manager.command.AssetCommandManager;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.manager.TaskCompletionSignalManager;
 import com.ryuqq.fileflow.application.transform.dto.bundle.TransformCompletionBundle;
 import com.ryuqq.fileflow.application.transform.dto.bundle.TransformFailureBundle;
 import com.ryuqq.fileflow.application.transform.manager.command.TransformCallbackOutboxCommandManager;
@@ -17,14 +19,20 @@ public class TransformCompletionFacade {
     private final AssetCommandManager assetCommandManager;
     private final TransformCommandManager transformCommandManager;
     private final TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager;
+    private final TransformCoalescingFacade transformCoalescingFacade;
+    private final TaskCompletionSignalManager taskCompletionSignalManager;
 
     public TransformCompletionFacade(
             AssetCommandManager assetCommandManager,
             TransformCommandManager transformCommandManager,
-            TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager) {
+            TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager,
+            TransformCoalescingFacade transformCoalescingFacade,
+            TaskCompletionSignalManager taskCompletionSignalManager) {
         this.assetCommandManager = assetCommandManager;
         this.transformCommandManager = transformCommandManager;
         this.transformCallbackOutboxCommandManager = transformCallbackOutboxCommandManager;
+        this.transformCoalescingFacade = transformCoalescingFacade;
+        this.taskCompletionSignalManager = taskCompletionSignalManager;
     }
 
     @Transactional
@@ -41,6 +49,10 @@ public class TransformCompletionFacade {
         if (bundle.hasCallback()) {
             transformCallbackOutboxCommandManager.persist(bundle.callbackOutbox());
         }
+
+        transformCoalescingFacade.settleFollowers(request, bundle.completedAt());
+        taskCompletionSignalManager.signalAfterCommit(
+                TaskCompletionSignal.transform(request.idValue()));
     }
 
     @Transactional
@@ -53,5 +65,9 @@ public class TransformCompletionFacade {
         if (bundle.hasCallback()) {
             transformCallbackOutboxCommandManager.persist(bundle.callbackOutbox());
         }
+
+        transformCoalescingFacade.settleFollowers(request, bundle.failedAt());
+        taskCompletionSignalManager.signalAfterCommit(
+                TaskCompletionSignal.transform(request.idValue()));
     }
 }
@@ -11,6 +11,8 @@ import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -40,40 +42,73 @@ public class TransformExecutionCoordinator {
     }
 
     public void execute(TransformRequest request, Asset sourceAsset) {
+        TransformRequest started = start(request);
+
+        try {
+            ImageTransformResult result = imageTransformFacade.transform(sourceAsset, started);
+            handleResult(started, sourceAsset, result);
+        } catch (Exception e) {
+            log.error("변환 중 예외 발생: requestId={}", started.idValue(), e);
+            safeFailTransform(started, e.getMessage());
+        }
+    }
+
+    /**
+     * 파이프라인 모드로 변환을 실행합니다.
+     *
+     * <p>시작 상태 persist는 호출 스레드에서 수행하고, 다운로드/처리/업로드와 완료 persist는 파이프라인 스레드에서 이어집니다. 반환된 Future는
+     * 결과가 성공이든 실패든 상태 반영이 끝나면 정상 완료됩니다.
+     */
+    public CompletableFuture<Void> executeAsync(TransformRequest request, Asset sourceAsset) {
+        TransformRequest started = start(request);
+
+        return imageTransformFacade
+                .transformAsync(sourceAsset, started)
+                .thenAccept(result -> handleResult(started, sourceAsset, result))
+                .exceptionally(
+                        e -> {
+                            Throwable cause = unwrap(e);
+                            log.error("변환 중 예외 발생: requestId={}", started.idValue(), cause);
+                            safeFailTransform(started, cause.getMessage());
+                            return null;
+                        });
+    }
+
+    private Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    private TransformRequest start(TransformRequest request) {
         StatusChangeContext<String> context =
                 transformCommandFactory.createStartContext(request.idValue());
         request.start(context.changedAt());
         transformCommandManager.persist(request);
-        request = transformReadManager.getTransformRequest(request.idValue());
+        TransformRequest started = transformReadManager.getTransformRequest(request.idValue());
 
         log.info(
-                "변환 시작 persist 완료: requestId={}, version={}", request.idValue(), request.version());
-
-        try {
-            ImageTransformResult result = imageTransformFacade.transform(sourceAsset, request);
+                "변환 시작 persist 완료: requestId={}, version={}", started.idValue(), started.version());
+        return started;
+    }
 
-            if (result.success()) {
-                TransformCompletionBundle bundle =
-                        transformCommandFactory.createCompletionBundle(
-                                result, request, sourceAsset);
-                transformCompletionFacade.complete(bundle);
-                log.info(
-                        "변환 완료: requestId={}, {}x{}",
-                        request.idValue(),
-                        result.dimension().width(),
-                        result.dimension().height());
-            } else {
-                TransformFailureBundle bundle =
-                        transformCommandFactory.createFailureBundle(request, result);
-                transformCompletionFacade.fail(bundle);
-                log.error(
-                        "변환 실패 처리: requestId={}, error={}",
-                        request.idValue(),
-                        result.errorMessage());
-            }
-        } catch (Exception e) {
-            log.error("변환 중 예외 발생: requestId={}", request.idValue(), e);
-            safeFailTransform(request, e.getMessage());
+    private void handleResult(
+            TransformRequest request, Asset sourceAsset, ImageTransformResult result) {
+        if (result.success()) {
+            TransformCompletionBundle bundle =
+                    transformCommandFactory.createCompletionBundle(result, request, sourceAsset);
+            transformCompletionFacade.complete(bundle);
+            log.info(
+                    "변환 완료: requestId={}, {}x{}",
+                    request.idValue(),
+                    result.dimension().width(),
+                    result.dimension().height());
+        } else {
+            TransformFailureBundle bundle =
+                    transformCommandFactory.createFailureBundle(request, result);
+            transformCompletionFacade.fail(bundle);
+            log.error("변환 실패 처리: requestId={}, error={}", request.idValue(), result.errorMessage());
         }
     }
 
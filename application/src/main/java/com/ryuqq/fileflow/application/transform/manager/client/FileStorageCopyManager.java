@@ -0,0 +1,28 @@
+package com.ryuqq.fileflow.application.transform.manager.client;
+
+import com.ryuqq.fileflow.application.common.metric.annotation.OutboundClientMetric;
+import com.ryuqq.fileflow.application.common.port.out.client.FileStorageCopyClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FileStorageCopyManager {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStorageCopyManager.class);
+
+    private final FileStorageCopyClient fileStorageCopyClient;
+
+    public FileStorageCopyManager(FileStorageCopyClient fileStorageCopyClient) {
+        this.fileStorageCopyClient = fileStorageCopyClient;
+    }
+
+    @OutboundClientMetric(system = "S3", operation = "storage_copy")
+    public String copy(
+            String sourceBucket, String sourceKey, String targetBucket, String targetKey) {
+        log.info("파일 스토리지 복사 시작: sourceKey={}, targetKey={}", sourceKey, targetKey);
+        String etag = fileStorageCopyClient.copy(sourceBucket, sourceKey, targetBucket, targetKey);
+        log.info("파일 스토리지 복사 완료: targetKey={}, etag={}", targetKey, etag);
+        return etag;
+    }
+}
@@ -24,4 +24,9 @@ public class FileStorageDownloadManager {
         log.info("파일 스토리지 다운로드 완료: s3Key={}, size={}", s3Key, data.length);
         return data;
     }
+
+    @OutboundClientMetric(system = "S3", operation = "storage_download_head")
+    public byte[] downloadHead(String bucket, String s3Key, int length) {
+        return fileStorageDownloadClient.downloadHead(bucket, s3Key, length);
+    }
 }
@@ -1,7 +1,10 @@
 package com.ryuqq.fileflow.application.transform.manager.client;
 
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageProcessingResult;
+import com.ryuqq.fileflow.application.transform.dto.result.TransformPipelineCapacity;
 import com.ryuqq.fileflow.application.transform.port.out.client.ImageTransformClient;
+import com.ryuqq.fileflow.application.transform.port.out.client.TransformExecutorPort;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
 import org.slf4j.Logger;
@@ -14,21 +17,49 @@ public class ImageProcessingManager {
     private static final Logger log = LoggerFactory.getLogger(ImageProcessingManager.class);
 
     private final ImageTransformClient imageTransformClient;
+    private final TransformExecutorPort transformExecutorPort;
+    private final FileFlowMetrics fileFlowMetrics;
 
-    public ImageProcessingManager(ImageTransformClient imageTransformClient) {
+    public ImageProcessingManager(
+            ImageTransformClient imageTransformClient,
+            TransformExecutorPort transformExecutorPort,
+            FileFlowMetrics fileFlowMetrics) {
         this.imageTransformClient = imageTransformClient;
+        this.transformExecutorPort = transformExecutorPort;
+        this.fileFlowMetrics = fileFlowMetrics;
     }
 
     public ImageProcessingResult process(
             byte[] sourceImageBytes, TransformType type, TransformParams params) {
         log.info("이미지 처리 시작: type={}, inputSize={}", type, sourceImageBytes.length);
-        ImageProcessingResult result = imageTransformClient.process(sourceImageBytes, type, params);
+        ImageProcessingResult result =
+                transformExecutorPort.execute(
+                        () -> imageTransformClient.process(sourceImageBytes, type, params));
         log.info(
                 "이미지 처리 완료: type={}, outputSize={}, {}x{}",
                 type,
                 result.fileSize(),
                 result.width(),
                 result.height());
+        recordSizeRatio(type, sourceImageBytes.length, result);
         return result;
     }
+
+    /** 출력/입력 바이트 비율. 1보다 크면 결과가 원본보다 커진 것입니다. */
+    private void recordSizeRatio(TransformType type, int inputSize, ImageProcessingResult result) {
+        if (inputSize == 0) {
+            return;
+        }
+        fileFlowMetrics.recordDistribution(
+                "transform_output_size_ratio",
+                (double) result.fileSize() / inputSize,
+                "type",
+                type.name(),
+                "format",
+                result.extension());
+    }
+
+    public TransformPipelineCapacity pipelineCapacity() {
+        return transformExecutorPort.pipelineCapacity();
+    }
 }
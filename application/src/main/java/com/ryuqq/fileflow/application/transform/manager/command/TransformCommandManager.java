@@ -1,22 +1,53 @@
 package com.ryuqq.fileflow.application.transform.manager.command;
 
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.application.transform.port.out.command.TransformRequestPersistencePort;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import com.ryuqq.fileflow.domain.transform.vo.TransformRequestCacheKey;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 변환 요청 영속화 Manager.
+ *
+ * <p>캐시에는 완료·실패로 끝난 요청만 올라가므로, 끝난 요청을 저장할 때만 커밋 후 캐시를 무효화합니다. 끝난 요청도 지문 반납 등으로 바뀔 수 있고,
+ * 끝나지 않은 요청은 캐시에 없기 때문입니다.
+ */
 @Component
 public class TransformCommandManager {
 
     private final TransformRequestPersistencePort persistencePort;
+    private final CachePort<TransformRequest> transformRequestCachePort;
 
-    public TransformCommandManager(TransformRequestPersistencePort persistencePort) {
+    public TransformCommandManager(
+            TransformRequestPersistencePort persistencePort,
+            CachePort<TransformRequest> transformRequestCachePort) {
         this.persistencePort = persistencePort;
+        this.transformRequestCachePort = transformRequestCachePort;
     }
 
     @Transactional
     public void persist(TransformRequest transformRequest) {
         long newVersion = persistencePort.persist(transformRequest);
         transformRequest.updateVersion(newVersion);
+        if (transformRequest.status().isTerminal()) {
+            evictAfterCommit(TransformRequestCacheKey.of(transformRequest.idValue()).value());
+        }
+    }
+
+    private void evictAfterCommit(String cacheKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transformRequestCachePort.evict(cacheKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        transformRequestCachePort.evict(cacheKey);
+                    }
+                });
     }
 }
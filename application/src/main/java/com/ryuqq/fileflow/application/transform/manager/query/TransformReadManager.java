@@ -1,12 +1,17 @@
 package com.ryuqq.fileflow.application.transform.manager.query;
 
+import com.ryuqq.fileflow.application.common.component.CacheLoadCoalescer;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.application.transform.port.out.query.TransformRequestQueryPort;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.exception.TransformRequestNotFoundException;
 import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
+import com.ryuqq.fileflow.domain.transform.vo.TransformRequestCacheKey;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +19,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class TransformReadManager {
 
     private final TransformRequestQueryPort queryPort;
+    private final CachePort<TransformRequest> transformRequestCachePort;
+    private final CacheLoadCoalescer cacheLoadCoalescer;
 
-    public TransformReadManager(TransformRequestQueryPort queryPort) {
+    public TransformReadManager(
+            TransformRequestQueryPort queryPort,
+            CachePort<TransformRequest> transformRequestCachePort,
+            CacheLoadCoalescer cacheLoadCoalescer) {
         this.queryPort = queryPort;
+        this.transformRequestCachePort = transformRequestCachePort;
+        this.cacheLoadCoalescer = cacheLoadCoalescer;
     }
 
     @Transactional(readOnly = true)
@@ -26,8 +38,50 @@ public class TransformReadManager {
                 .orElseThrow(() -> new TransformRequestNotFoundException(transformRequestId));
     }
 
+    /**
+     * 변환 요청을 캐시 우선으로 조회합니다. 상태를 바꾸는 흐름은 {@link #getTransformRequest}를 사용합니다.
+     *
+     * <p>완료·실패로 끝난 요청만 캐싱합니다. 진행 중인 요청은 곧 바뀌므로 캐싱하지 않고 매번 DB에서 읽습니다.
+     */
+    public TransformRequest getCachedTransformRequest(String transformRequestId) {
+        String cacheKey = TransformRequestCacheKey.of(transformRequestId).value();
+        return transformRequestCachePort
+                .get(cacheKey)
+                .orElseGet(
+                        () ->
+                                cacheLoadCoalescer.load(
+                                        cacheKey, () -> load(transformRequestId, cacheKey)));
+    }
+
     @Transactional(readOnly = true)
     public List<TransformRequest> getStaleQueuedRequests(Instant createdBefore, int limit) {
         return queryPort.findByStatusAndCreatedBefore(TransformStatus.QUEUED, createdBefore, limit);
     }
+
+    @Transactional(readOnly = true)
+    public Optional<TransformRequest> findLeader(TransformFingerprint fingerprint) {
+        return queryPort.findByFingerprint(fingerprint);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransformRequest> getQueuedFollowers(TransformRequestId leaderId) {
+        return queryPort.findByCoalescedIntoAndStatus(leaderId, TransformStatus.QUEUED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransformRequest> getOrphanedFollowers(Instant createdBefore, int limit) {
+        return queryPort.findOrphanedFollowers(createdBefore, limit);
+    }
+
+    private TransformRequest load(String transformRequestId, String cacheKey) {
+        TransformRequest transformRequest =
+                queryPort
+                        .findById(TransformRequestId.of(transformRequestId))
+                        .orElseThrow(
+                                () -> new TransformRequestNotFoundException(transformRequestId));
+        if (transformRequest.status().isTerminal()) {
+            transformRequestCachePort.set(cacheKey, transformRequest);
+        }
+        return transformRequest;
+    }
 }
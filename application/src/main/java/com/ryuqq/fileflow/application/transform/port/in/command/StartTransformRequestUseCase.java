@@ -1,6 +1,16 @@
 package com.ryuqq.fileflow.application.transform.port.in.command;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface StartTransformRequestUseCase {
 
     void execute(String transformRequestId);
+
+    /**
+     * 파이프라인 모드로 변환을 시작합니다.
+     *
+     * <p>시작 전 검증과 PROCESSING 전이는 호출 스레드에서 동기로 수행되며, 이 단계의 예외는 즉시 전파됩니다. 이후 단계는 반환된 Future가 완료될
+     * 때 끝납니다.
+     */
+    CompletableFuture<Void> executeAsync(String transformRequestId);
 }
@@ -0,0 +1,17 @@
+package com.ryuqq.fileflow.application.transform.port.in.query;
+
+import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이미지 변환 요청 종료 대기 UseCase
+ *
+ * <p>요청이 종료 상태(COMPLETED/FAILED)가 되거나 timeout이 지나면 그 시점의 요청 정보로 완료되는 Future를 반환합니다. 이미 종료된
+ * 요청이면 즉시 완료됩니다.
+ */
+public interface AwaitTransformRequestCompletionUseCase {
+
+    CompletableFuture<TransformRequestResponse> execute(
+            String transformRequestId, Duration timeout);
+}
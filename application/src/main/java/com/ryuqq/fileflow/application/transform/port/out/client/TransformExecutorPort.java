@@ -0,0 +1,29 @@
+package com.ryuqq.fileflow.application.transform.port.out.client;
+
+import com.ryuqq.fileflow.application.transform.dto.result.TransformPipelineCapacity;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 디코딩/리사이즈/인코딩 같은 CPU 바운드 작업 전용 실행기.
+ *
+ * <p>S3 다운로드/업로드, DB 접근 등 I/O는 호출 스레드(SQS 리스너)에 남기고, CPU 작업만 코어 수에 맞춘 전용 풀에서 실행합니다. 풀이
+ * 포화되면 호출 스레드가 대기하여 자연스럽게 백프레셔가 걸립니다.
+ */
+public interface TransformExecutorPort {
+
+    /**
+     * CPU 바운드 작업을 전용 풀에서 실행하고 결과를 반환할 때까지 대기합니다.
+     *
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    <T> T execute(Supplier<T> task);
+
+    /**
+     * 파이프라인 모드에서 사용할 단계별 버퍼 크기를 반환합니다.
+     *
+     * @return 파이프라인 용량
+     */
+    TransformPipelineCapacity pipelineCapacity();
+}
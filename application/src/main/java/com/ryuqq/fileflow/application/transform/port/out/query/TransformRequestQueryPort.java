@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.transform.port.out.query;
 
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import java.time.Instant;
 import java.util.List;
@@ -11,6 +12,17 @@ public interface TransformRequestQueryPort {
 
     Optional<TransformRequest> findById(TransformRequestId id);
 
+    /** 지정 상태이면서 createdBefore 이전에 생성된 요청 조회. 리더에 합류한 요청은 제외합니다. */
     List<TransformRequest> findByStatusAndCreatedBefore(
             TransformStatus status, Instant createdBefore, int limit);
+
+    /** 리더가 이미 종료(COMPLETED, FAILED)되었는데 아직 QUEUED로 남은 합류 요청 조회. */
+    List<TransformRequest> findOrphanedFollowers(Instant createdBefore, int limit);
+
+    /** 지문을 보유한 리더 요청 조회 (지문은 UNIQUE). */
+    Optional<TransformRequest> findByFingerprint(TransformFingerprint fingerprint);
+
+    /** 리더에 합류한 요청 중 지정 상태인 요청 조회. */
+    List<TransformRequest> findByCoalescedIntoAndStatus(
+            TransformRequestId leaderId, TransformStatus status);
 }
@@ -4,51 +4,71 @@ import com.ryuqq.fileflow.application.transform.assembler.TransformAssembler;
 import com.ryuqq.fileflow.application.transform.dto.command.CreateTransformRequestCommand;
 import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
 import com.ryuqq.fileflow.application.transform.factory.command.TransformCommandFactory;
-import com.ryuqq.fileflow.application.transform.manager.command.TransformCommandManager;
-import com.ryuqq.fileflow.application.transform.manager.command.TransformQueueOutboxCommandManager;
+import com.ryuqq.fileflow.application.transform.internal.TransformCoalescingFacade;
 import com.ryuqq.fileflow.application.transform.port.in.command.CreateTransformRequestUseCase;
 import com.ryuqq.fileflow.application.transform.validator.SourceAssetValidator;
-import com.ryuqq.fileflow.domain.transform.aggregate.TransformQueueOutbox;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 변환 요청 생성 서비스.
+ *
+ * <p>같은 원본/유형/파라미터의 요청은 {@link TransformCoalescingFacade}가 완료된 결과를 재사용하거나 진행 중인 요청에 합류시킵니다. 리더
+ * 지문은 UNIQUE이므로 동시에 같은 요청이 리더로 저장되면 한쪽이 제약 위반으로 롤백되고, 새 트랜잭션에서 다시 등록하면 먼저 저장된 리더에
+ * 합류합니다.
+ */
 @Service
 public class CreateTransformRequestService implements CreateTransformRequestUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(CreateTransformRequestService.class);
+
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
     private final SourceAssetValidator sourceAssetValidator;
     private final TransformCommandFactory transformCommandFactory;
-    private final TransformCommandManager transformCommandManager;
-    private final TransformQueueOutboxCommandManager transformQueueOutboxCommandManager;
+    private final TransformCoalescingFacade transformCoalescingFacade;
     private final TransformAssembler transformAssembler;
 
     public CreateTransformRequestService(
             SourceAssetValidator sourceAssetValidator,
             TransformCommandFactory transformCommandFactory,
-            TransformCommandManager transformCommandManager,
-            TransformQueueOutboxCommandManager transformQueueOutboxCommandManager,
+            TransformCoalescingFacade transformCoalescingFacade,
             TransformAssembler transformAssembler) {
         this.sourceAssetValidator = sourceAssetValidator;
         this.transformCommandFactory = transformCommandFactory;
-        this.transformCommandManager = transformCommandManager;
-        this.transformQueueOutboxCommandManager = transformQueueOutboxCommandManager;
+        this.transformCoalescingFacade = transformCoalescingFacade;
         this.transformAssembler = transformAssembler;
     }
 
-    @Transactional
     @Override
     public TransformRequestResponse execute(CreateTransformRequestCommand command) {
         String sourceContentType =
                 sourceAssetValidator.validateAndGetContentType(command.sourceAssetId());
 
-        TransformRequest transformRequest =
-                transformCommandFactory.createTransformRequest(command, sourceContentType);
-        transformCommandManager.persist(transformRequest);
-
-        TransformQueueOutbox outbox =
-                transformCommandFactory.createQueueOutbox(transformRequest.idValue());
-        transformQueueOutboxCommandManager.persist(outbox);
-
-        return transformAssembler.toResponse(transformRequest);
+        for (int attempt = 1; attempt <= MAX_REGISTER_ATTEMPTS; attempt++) {
+            TransformRequest transformRequest =
+                    transformCommandFactory.createTransformRequest(command, sourceContentType);
+            try {
+                Optional<TransformRequest> registered =
+                        transformCoalescingFacade.register(transformRequest);
+                if (registered.isPresent()) {
+                    return transformAssembler.toResponse(registered.get());
+                }
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_REGISTER_ATTEMPTS) {
+                    throw e;
+                }
+                log.info(
+                        "동일 변환 요청이 동시에 리더로 등록됨, 재시도: sourceAssetId={}, attempt={}",
+                        command.sourceAssetId(),
+                        attempt);
+            }
+        }
+        throw new IllegalStateException(
+                "변환 요청 등록 재시도 초과: sourceAssetId=" + command.sourceAssetId());
     }
 }
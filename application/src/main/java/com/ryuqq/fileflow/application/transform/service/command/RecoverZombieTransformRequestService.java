@@ -2,6 +2,7 @@ package com.ryuqq.fileflow.application.transform.service.command;
 
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.fileflow.application.transform.dto.command.RecoverZombieTransformRequestCommand;
+import com.ryuqq.fileflow.application.transform.internal.TransformCoalescingFacade;
 import com.ryuqq.fileflow.application.transform.manager.client.TransformQueueManager;
 import com.ryuqq.fileflow.application.transform.manager.query.TransformReadManager;
 import com.ryuqq.fileflow.application.transform.port.in.command.RecoverZombieTransformRequestUseCase;
@@ -19,12 +20,15 @@ public class RecoverZombieTransformRequestService implements RecoverZombieTransf
 
     private final TransformReadManager transformReadManager;
     private final TransformQueueManager transformQueueManager;
+    private final TransformCoalescingFacade transformCoalescingFacade;
 
     public RecoverZombieTransformRequestService(
             TransformReadManager transformReadManager,
-            TransformQueueManager transformQueueManager) {
+            TransformQueueManager transformQueueManager,
+            TransformCoalescingFacade transformCoalescingFacade) {
         this.transformReadManager = transformReadManager;
         this.transformQueueManager = transformQueueManager;
+        this.transformCoalescingFacade = transformCoalescingFacade;
     }
 
     @Override
@@ -51,6 +55,26 @@ public class RecoverZombieTransformRequestService implements RecoverZombieTransf
             }
         }
 
+        List<TransformRequest> orphanedFollowers =
+                transformReadManager.getOrphanedFollowers(
+                        command.timeoutThreshold(), command.batchSize());
+
+        total += orphanedFollowers.size();
+        for (TransformRequest follower : orphanedFollowers) {
+            try {
+                transformCoalescingFacade.settleFollower(follower);
+                successCount++;
+            } catch (Exception e) {
+                log.error(
+                        "합류 변환 요청 정리 실패: requestId={}, leaderId={}, error={}",
+                        follower.idValue(),
+                        follower.coalescedIntoValue(),
+                        e.getMessage(),
+                        e);
+                failedCount++;
+            }
+        }
+
         return SchedulerBatchProcessingResult.of(total, successCount, failedCount);
     }
 }
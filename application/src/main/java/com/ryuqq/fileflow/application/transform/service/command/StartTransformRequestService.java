@@ -8,6 +8,7 @@ import com.ryuqq.fileflow.application.transform.validator.TransformExecutionVali
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -37,13 +38,7 @@ public class StartTransformRequestService implements StartTransformRequestUseCas
     public void execute(String transformRequestId) {
         TransformRequest request =
                 transformExecutionValidator.getTransformRequest(transformRequestId);
-        TransformStatus currentStatus = request.status();
-
-        if (currentStatus != TransformStatus.QUEUED) {
-            log.warn(
-                    "QUEUED가 아닌 상태의 변환 요청, 처리 건너뜀: requestId={}, status={}",
-                    transformRequestId,
-                    currentStatus);
+        if (!isQueued(request)) {
             return;
         }
 
@@ -57,6 +52,36 @@ public class StartTransformRequestService implements StartTransformRequestUseCas
         }
     }
 
+    @Override
+    public CompletableFuture<Void> executeAsync(String transformRequestId) {
+        TransformRequest request =
+                transformExecutionValidator.getTransformRequest(transformRequestId);
+        if (!isQueued(request)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            Asset sourceAsset =
+                    transformExecutionValidator.getSourceAsset(request.sourceAssetIdValue());
+            return transformExecutionCoordinator.executeAsync(request, sourceAsset);
+        } catch (Exception e) {
+            safeFailRequest(request, e);
+            throw e;
+        }
+    }
+
+    private boolean isQueued(TransformRequest request) {
+        TransformStatus currentStatus = request.status();
+        if (currentStatus != TransformStatus.QUEUED) {
+            log.warn(
+                    "QUEUED가 아닌 상태의 변환 요청, 처리 건너뜀: requestId={}, status={}",
+                    request.idValue(),
+                    currentStatus);
+            return false;
+        }
+        return true;
+    }
+
     private void safeFailRequest(TransformRequest request, Exception e) {
         try {
             if (request.status() == TransformStatus.QUEUED) {
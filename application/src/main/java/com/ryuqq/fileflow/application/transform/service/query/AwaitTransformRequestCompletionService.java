@@ -0,0 +1,62 @@
+package com.ryuqq.fileflow.application.transform.service.query;
+
+import com.ryuqq.fileflow.application.common.component.TaskCompletionWaiterRegistry;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.transform.assembler.TransformAssembler;
+import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
+import com.ryuqq.fileflow.application.transform.manager.query.TransformReadManager;
+import com.ryuqq.fileflow.application.transform.port.in.query.AwaitTransformRequestCompletionUseCase;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이미지 변환 요청 종료 대기 서비스.
+ *
+ * <p>상태를 읽기 전에 대기를 먼저 등록하므로, 조회와 등록 사이에 요청이 종료되어도 신호를 놓치지 않습니다.
+ * 대기열이 가득 차 대기를 등록하지 못하면 기다리지 않고 현재 상태로 응답합니다.
+ */
+@Service
+public class AwaitTransformRequestCompletionService
+        implements AwaitTransformRequestCompletionUseCase {
+
+    private final TransformReadManager transformReadManager;
+    private final TransformAssembler transformAssembler;
+    private final TaskCompletionWaiterRegistry taskCompletionWaiterRegistry;
+
+    public AwaitTransformRequestCompletionService(
+            TransformReadManager transformReadManager,
+            TransformAssembler transformAssembler,
+            TaskCompletionWaiterRegistry taskCompletionWaiterRegistry) {
+        this.transformReadManager = transformReadManager;
+        this.transformAssembler = transformAssembler;
+        this.taskCompletionWaiterRegistry = taskCompletionWaiterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<TransformRequestResponse> execute(
+            String transformRequestId, Duration timeout) {
+        CompletableFuture<Void> waiter =
+                taskCompletionWaiterRegistry.await(
+                        TaskCompletionSignal.transform(transformRequestId), timeout);
+
+        TransformRequest transformRequest;
+        try {
+            transformRequest = transformReadManager.getTransformRequest(transformRequestId);
+        } catch (RuntimeException e) {
+            waiter.cancel(false);
+            throw e;
+        }
+
+        if (transformRequest.status().isTerminal() || waiter.isDone()) {
+            waiter.cancel(false);
+            return CompletableFuture.completedFuture(
+                    transformAssembler.toResponse(transformRequest));
+        }
+        return waiter.thenApply(
+                ignored ->
+                        transformAssembler.toResponse(
+                                transformReadManager.getTransformRequest(transformRequestId)));
+    }
+}
@@ -22,7 +22,7 @@ public class GetTransformRequestService implements GetTransformRequestUseCase {
     @Override
     public TransformRequestResponse execute(String transformRequestId) {
         TransformRequest transformRequest =
-                transformReadManager.getTransformRequest(transformRequestId);
+                transformReadManager.getCachedTransformRequest(transformRequestId);
         return transformAssembler.toResponse(transformRequest);
     }
 }
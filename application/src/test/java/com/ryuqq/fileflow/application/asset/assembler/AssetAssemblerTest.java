@@ -3,8 +3,11 @@ package com.ryuqq.fileflow.application.asset.assembler;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCursor;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -82,4 +85,47 @@ class AssetAssemblerTest {
             assertThat(result.fileSize()).isEqualTo(asset.fileSize());
         }
     }
+
+    @Nested
+    @DisplayName("toSlice 메서드")
+    class ToSliceTest {
+
+        @Test
+        @DisplayName("size보다 많이 조회되면 초과분을 버리고 마지막 Asset으로 다음 커서를 만든다")
+        void toSlice_MoreThanSize_ReturnsNextCursor() {
+            // given
+            List<Asset> assets =
+                    List.of(
+                            AssetFixture.anAssetWithId("asset-001"),
+                            AssetFixture.anAssetWithId("asset-002"),
+                            AssetFixture.anAssetWithId("asset-003"));
+
+            // when
+            SliceResponse<AssetResponse> result = sut.toSlice(assets, 2);
+
+            // then
+            assertThat(result.content())
+                    .extracting(AssetResponse::assetId)
+                    .containsExactly("asset-001", "asset-002");
+            assertThat(result.hasNext()).isTrue();
+            assertThat(AssetCursor.decode(result.nextCursor()))
+                    .isEqualTo(AssetCursor.of(assets.get(1).createdAt(), "asset-002"));
+        }
+
+        @Test
+        @DisplayName("size 이하로 조회되면 다음 페이지가 없다")
+        void toSlice_WithinSize_ReturnsLastSlice() {
+            // given
+            List<Asset> assets = List.of(AssetFixture.anAssetWithId("asset-001"));
+
+            // when
+            SliceResponse<AssetResponse> result = sut.toSlice(assets, 2);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.size()).isEqualTo(2);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.ryuqq.fileflow.application.asset.factory.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.fileflow.domain.asset.vo.AssetCursor;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("AssetQueryFactory 단위 테스트")
+class AssetQueryFactoryTest {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    private AssetQueryFactory sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new AssetQueryFactory();
+    }
+
+    @Nested
+    @DisplayName("createCriteria 메서드")
+    class CreateCriteriaTest {
+
+        @Test
+        @DisplayName("검색 파라미터를 커서 기반 조회 조건으로 변환한다")
+        void createCriteria_ValidParams_ReturnsCriteria() {
+            // given
+            AssetCursor cursor = AssetCursor.of(FROM, "asset-001");
+            AssetSearchParams params =
+                    AssetSearchParams.of(
+                            "commerce-api",
+                            "PRODUCT_IMAGE",
+                            AccessType.PUBLIC,
+                            FROM,
+                            TO,
+                            SortDirection.DESC,
+                            CommonCursorParams.of(cursor.encode(), 50));
+
+            // when
+            AssetSearchCriteria result = sut.createCriteria(params);
+
+            // then
+            assertThat(result.source()).isEqualTo("commerce-api");
+            assertThat(result.purpose()).isEqualTo("PRODUCT_IMAGE");
+            assertThat(result.accessType()).isEqualTo(AccessType.PUBLIC);
+            assertThat(result.createdFrom()).isEqualTo(FROM);
+            assertThat(result.createdTo()).isEqualTo(TO);
+            assertThat(result.direction()).isEqualTo(SortDirection.DESC);
+            assertThat(result.cursor()).isEqualTo(cursor);
+            assertThat(result.size()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("커서 파라미터가 없으면 첫 페이지 조건을 만든다")
+        void createCriteria_NoCursor_ReturnsFirstPage() {
+            // given
+            AssetSearchParams params =
+                    AssetSearchParams.of("commerce-api", null, null, null, null, null, null);
+
+            // when
+            AssetSearchCriteria result = sut.createCriteria(params);
+
+            // then
+            assertThat(result.cursor()).isNull();
+            assertThat(result.direction()).isEqualTo(SortDirection.ASC);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 예외가 발생한다")
+        void createCriteria_InvalidCursor_ThrowsException() {
+            // given
+            AssetSearchParams params =
+                    AssetSearchParams.of(
+                            "commerce-api",
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            CommonCursorParams.of("not-a-cursor", 20));
+
+            // when & then
+            assertThatThrownBy(() -> sut.createCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
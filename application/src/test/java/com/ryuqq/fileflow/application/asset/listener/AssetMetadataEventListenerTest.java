@@ -7,6 +7,7 @@ import static org.mockito.Mockito.never;
 
 import com.ryuqq.fileflow.application.asset.dto.command.RegisterAssetMetadataCommand;
 import com.ryuqq.fileflow.application.asset.factory.command.AssetMetadataCommandFactory;
+import com.ryuqq.fileflow.application.asset.manager.cache.AssetCacheManager;
 import com.ryuqq.fileflow.application.asset.manager.command.AssetMetadataCommandManager;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadataFixture;
@@ -29,6 +30,7 @@ class AssetMetadataEventListenerTest {
     @InjectMocks private AssetMetadataEventListener sut;
     @Mock private AssetMetadataCommandFactory assetMetadataCommandFactory;
     @Mock private AssetMetadataCommandManager assetMetadataCommandManager;
+    @Mock private AssetCacheManager assetCacheManager;
 
     @Nested
     @DisplayName("handleTransformCompleted 메서드")
@@ -62,6 +64,7 @@ class AssetMetadataEventListenerTest {
                     .should()
                     .createAssetMetadata(any(RegisterAssetMetadataCommand.class));
             then(assetMetadataCommandManager).should().persist(metadata);
+            then(assetCacheManager).should().evictAssetMetadataAfterCommit("result-asset-001");
         }
 
         @Test
@@ -88,6 +91,7 @@ class AssetMetadataEventListenerTest {
 
             // then
             then(assetMetadataCommandManager).should(never()).persist(any());
+            then(assetCacheManager).shouldHaveNoInteractions();
         }
     }
 }
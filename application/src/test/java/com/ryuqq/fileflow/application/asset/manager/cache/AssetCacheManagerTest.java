@@ -0,0 +1,104 @@
+package com.ryuqq.fileflow.application.asset.manager.cache;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AssetCacheManager 단위 테스트")
+class AssetCacheManagerTest {
+
+    private AssetCacheManager sut;
+    @Mock private CachePort<Asset> assetCachePort;
+    @Mock private CachePort<AssetMetadata> assetMetadataCachePort;
+
+    @BeforeEach
+    void setUp() {
+        sut = new AssetCacheManager(assetCachePort, assetMetadataCachePort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictAssetAfterCommit 메서드")
+    class EvictAssetAfterCommitTest {
+
+        @Test
+        @DisplayName("트랜잭션 밖이면 에셋 캐시를 즉시 무효화한다")
+        void evictAssetAfterCommit_NoTransaction_EvictsImmediately() {
+            // when
+            sut.evictAssetAfterCommit("asset-001");
+
+            // then
+            then(assetCachePort).should().evict("cache:asset:asset-001");
+            then(assetMetadataCachePort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안이면 커밋 후에 무효화한다")
+        void evictAssetAfterCommit_InTransaction_EvictsAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            sut.evictAssetAfterCommit("asset-001");
+
+            // then
+            then(assetCachePort).shouldHaveNoInteractions();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            then(assetCachePort).should().evict("cache:asset:asset-001");
+        }
+    }
+
+    @Nested
+    @DisplayName("evictAssetMetadataAfterCommit 메서드")
+    class EvictAssetMetadataAfterCommitTest {
+
+        @Test
+        @DisplayName("트랜잭션 밖이면 메타데이터 캐시를 즉시 무효화한다")
+        void evictAssetMetadataAfterCommit_NoTransaction_EvictsImmediately() {
+            // when
+            sut.evictAssetMetadataAfterCommit("asset-001");
+
+            // then
+            then(assetMetadataCachePort).should().evict("cache:asset-metadata:asset-001");
+            then(assetCachePort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안이면 커밋 후에 무효화한다")
+        void evictAssetMetadataAfterCommit_InTransaction_EvictsAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            sut.evictAssetMetadataAfterCommit("asset-001");
+
+            // then
+            then(assetMetadataCachePort).shouldHaveNoInteractions();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            then(assetMetadataCachePort).should().evict("cache:asset-metadata:asset-001");
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.ryuqq.fileflow.application.asset.manager.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.asset.port.out.query.AssetMetadataQueryPort;
+import com.ryuqq.fileflow.application.common.component.CacheLoadCoalescer;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadataFixture;
 import com.ryuqq.fileflow.domain.asset.exception.AssetMetadataNotFoundException;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @Tag("unit")
@@ -26,6 +31,8 @@ class AssetMetadataReadManagerTest {
 
     @InjectMocks private AssetMetadataReadManager sut;
     @Mock private AssetMetadataQueryPort assetMetadataQueryPort;
+    @Mock private CachePort<AssetMetadata> assetMetadataCachePort;
+    @Spy private CacheLoadCoalescer cacheLoadCoalescer = new CacheLoadCoalescer();
 
     @Nested
     @DisplayName("getAssetMetadata 메서드")
@@ -62,4 +69,88 @@ class AssetMetadataReadManagerTest {
                     .isInstanceOf(AssetMetadataNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("findAssetMetadata 메서드")
+    class FindAssetMetadataTest {
+
+        @Test
+        @DisplayName("Asset ID 목록의 메타데이터를 한 번에 조회한다")
+        void findAssetMetadata_DelegatesToPortOnce() {
+            // given
+            AssetMetadata metadata = AssetMetadataFixture.anImageMetadata();
+            given(assetMetadataQueryPort.findAllByAssetIds(List.of(AssetId.of("asset-001"))))
+                    .willReturn(List.of(metadata));
+
+            // when
+            List<AssetMetadata> result = sut.findAssetMetadata(List.of("asset-001"));
+
+            // then
+            assertThat(result).containsExactly(metadata);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void findAssetMetadata_Empty_SkipsPort() {
+            // when
+            List<AssetMetadata> result = sut.findAssetMetadata(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(assetMetadataQueryPort).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("getCachedAssetMetadata 메서드")
+    class GetCachedAssetMetadataTest {
+
+        private static final String ASSET_ID = "asset-001";
+        private static final String CACHE_KEY = "cache:asset-metadata:asset-001";
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않고 캐시 값을 반환한다")
+        void getCachedAssetMetadata_CacheHit_SkipsQueryPort() {
+            // given
+            AssetMetadata cachedMetadata = AssetMetadataFixture.anImageMetadata();
+            given(assetMetadataCachePort.get(CACHE_KEY)).willReturn(Optional.of(cachedMetadata));
+
+            // when
+            AssetMetadata result = sut.getCachedAssetMetadata(ASSET_ID);
+
+            // then
+            assertThat(result).isEqualTo(cachedMetadata);
+            then(assetMetadataQueryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("캐시 미스면 DB에서 조회해 캐시에 채운다")
+        void getCachedAssetMetadata_CacheMiss_LoadsAndCaches() {
+            // given
+            AssetMetadata metadata = AssetMetadataFixture.anImageMetadata();
+            given(assetMetadataCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(assetMetadataQueryPort.findByAssetId(AssetId.of(ASSET_ID)))
+                    .willReturn(Optional.of(metadata));
+
+            // when
+            AssetMetadata result = sut.getCachedAssetMetadata(ASSET_ID);
+
+            // then
+            assertThat(result).isEqualTo(metadata);
+            then(assetMetadataCachePort).should().set(CACHE_KEY, metadata);
+        }
+
+        @Test
+        @DisplayName("DB에도 없으면 AssetMetadataNotFoundException을 던진다")
+        void getCachedAssetMetadata_NotFound_Throws() {
+            // given
+            given(assetMetadataCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(assetMetadataQueryPort.findByAssetId(AssetId.of(ASSET_ID)))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getCachedAssetMetadata(ASSET_ID))
+                    .isInstanceOf(AssetMetadataNotFoundException.class);
+        }
+    }
 }
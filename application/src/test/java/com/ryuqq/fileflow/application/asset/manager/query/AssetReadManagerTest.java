@@ -2,13 +2,21 @@ package com.ryuqq.fileflow.application.asset.manager.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.fileflow.application.asset.port.out.query.AssetQueryPort;
+import com.ryuqq.fileflow.application.common.component.CacheLoadCoalescer;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
 import com.ryuqq.fileflow.domain.asset.exception.AssetNotFoundException;
 import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteriaFixture;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @Tag("unit")
@@ -26,6 +35,8 @@ class AssetReadManagerTest {
 
     @InjectMocks private AssetReadManager sut;
     @Mock private AssetQueryPort assetQueryPort;
+    @Mock private CachePort<Asset> assetCachePort;
+    @Spy private CacheLoadCoalescer cacheLoadCoalescer = new CacheLoadCoalescer();
 
     @Nested
     @DisplayName("getAsset 메서드")
@@ -61,4 +72,108 @@ class AssetReadManagerTest {
                     .isInstanceOf(AssetNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("findAssets 메서드")
+    class FindAssetsTest {
+
+        @Test
+        @DisplayName("Asset ID 목록을 한 번에 조회한다")
+        void findAssets_DelegatesToPortOnce() {
+            // given
+            Asset asset = AssetFixture.anAssetWithId("asset-001");
+            given(assetQueryPort.findAllByIds(
+                            List.of(AssetId.of("asset-001"), AssetId.of("asset-404"))))
+                    .willReturn(List.of(asset));
+
+            // when
+            List<Asset> result = sut.findAssets(List.of("asset-001", "asset-404"));
+
+            // then
+            assertThat(result).containsExactly(asset);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void findAssets_Empty_SkipsPort() {
+            // when
+            List<Asset> result = sut.findAssets(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(assetQueryPort).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("searchAssets 메서드")
+    class SearchAssetsTest {
+
+        @Test
+        @DisplayName("조회 조건을 포트에 위임한다")
+        void searchAssets_DelegatesToPort() {
+            // given
+            AssetSearchCriteria criteria = AssetSearchCriteriaFixture.aFilteredCriteria();
+            List<Asset> assets = List.of(AssetFixture.anAsset());
+            given(assetQueryPort.findByCriteria(criteria)).willReturn(assets);
+
+            // when
+            List<Asset> result = sut.searchAssets(criteria);
+
+            // then
+            assertThat(result).isEqualTo(assets);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCachedAsset 메서드")
+    class GetCachedAssetTest {
+
+        private static final String ASSET_ID = "asset-001";
+        private static final String CACHE_KEY = "cache:asset:asset-001";
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않고 캐시 값을 반환한다")
+        void getCachedAsset_CacheHit_SkipsQueryPort() {
+            // given
+            Asset cachedAsset = AssetFixture.anAsset();
+            given(assetCachePort.get(CACHE_KEY)).willReturn(Optional.of(cachedAsset));
+
+            // when
+            Asset result = sut.getCachedAsset(ASSET_ID);
+
+            // then
+            assertThat(result).isEqualTo(cachedAsset);
+            then(assetQueryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("캐시 미스면 DB에서 조회해 캐시에 채운다")
+        void getCachedAsset_CacheMiss_LoadsAndCaches() {
+            // given
+            Asset asset = AssetFixture.anAsset();
+            given(assetCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(assetQueryPort.findById(AssetId.of(ASSET_ID))).willReturn(Optional.of(asset));
+
+            // when
+            Asset result = sut.getCachedAsset(ASSET_ID);
+
+            // then
+            assertThat(result).isEqualTo(asset);
+            then(assetCachePort).should().set(CACHE_KEY, asset);
+        }
+
+        @Test
+        @DisplayName("DB에도 없으면 캐싱하지 않고 AssetNotFoundException을 던진다")
+        void getCachedAsset_NotFound_ThrowsWithoutCaching() {
+            // given
+            given(assetCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(assetQueryPort.findById(AssetId.of(ASSET_ID))).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getCachedAsset(ASSET_ID))
+                    .isInstanceOf(AssetNotFoundException.class);
+            then(assetCachePort).should(never()).set(any(), any());
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.asset.dto.command.DeleteAssetCommand;
 import com.ryuqq.fileflow.application.asset.factory.command.AssetCommandFactory;
+import com.ryuqq.fileflow.application.asset.manager.cache.AssetCacheManager;
 import com.ryuqq.fileflow.application.asset.manager.command.AssetCommandManager;
 import com.ryuqq.fileflow.application.asset.validator.AssetPolicyValidator;
 import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
@@ -29,6 +30,7 @@ class DeleteAssetServiceTest {
     @Mock private AssetCommandFactory assetCommandFactory;
     @Mock private AssetPolicyValidator assetPolicyValidator;
     @Mock private AssetCommandManager assetCommandManager;
+    @Mock private AssetCacheManager assetCacheManager;
 
     @Nested
     @DisplayName("execute 메서드")
@@ -56,6 +58,7 @@ class DeleteAssetServiceTest {
             then(assetCommandFactory).should().createDeleteContext(command);
             then(assetPolicyValidator).should().validateCanDelete(assetId, source);
             then(assetCommandManager).should().persist(asset);
+            then(assetCacheManager).should().evictAssetAfterCommit(asset.idValue());
         }
     }
 }
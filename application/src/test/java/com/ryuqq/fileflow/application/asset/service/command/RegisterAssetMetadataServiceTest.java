@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.asset.dto.command.RegisterAssetMetadataCommand;
 import com.ryuqq.fileflow.application.asset.factory.command.AssetMetadataCommandFactory;
+import com.ryuqq.fileflow.application.asset.manager.cache.AssetCacheManager;
 import com.ryuqq.fileflow.application.asset.manager.command.AssetMetadataCommandManager;
 import com.ryuqq.fileflow.application.asset.validator.AssetExistenceValidator;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
@@ -27,6 +28,7 @@ class RegisterAssetMetadataServiceTest {
     @Mock private AssetExistenceValidator assetExistenceValidator;
     @Mock private AssetMetadataCommandFactory assetMetadataCommandFactory;
     @Mock private AssetMetadataCommandManager assetMetadataCommandManager;
+    @Mock private AssetCacheManager assetCacheManager;
 
     @Nested
     @DisplayName("execute 메서드")
@@ -50,6 +52,7 @@ class RegisterAssetMetadataServiceTest {
             then(assetExistenceValidator).should().validateExists(assetId);
             then(assetMetadataCommandFactory).should().createAssetMetadata(command);
             then(assetMetadataCommandManager).should().persist(metadata);
+            then(assetCacheManager).should().evictAssetMetadataAfterCommit(assetId);
         }
     }
 }
@@ -0,0 +1,100 @@
+package com.ryuqq.fileflow.application.asset.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.asset.AssetResponseFixtures;
+import com.ryuqq.fileflow.application.asset.assembler.AssetAssembler;
+import com.ryuqq.fileflow.application.asset.assembler.AssetMetadataAssembler;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetBatchResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetDetailResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetMetadataResponse;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.asset.manager.query.AssetMetadataReadManager;
+import com.ryuqq.fileflow.application.asset.manager.query.AssetReadManager;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadataFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchGetAssetsService 단위 테스트")
+class BatchGetAssetsServiceTest {
+
+    @InjectMocks private BatchGetAssetsService sut;
+    @Mock private AssetReadManager assetReadManager;
+    @Mock private AssetMetadataReadManager assetMetadataReadManager;
+    @Mock private AssetAssembler assetAssembler;
+    @Mock private AssetMetadataAssembler assetMetadataAssembler;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("Asset과 메타데이터를 한 번씩 조회해 요청 순서대로 조립한다")
+        void execute_AssemblesInRequestOrder() {
+            // given
+            Asset first = AssetFixture.anAssetWithId("asset-001");
+            Asset second = AssetFixture.anAssetWithId("asset-002");
+            AssetMetadata metadata = AssetMetadataFixture.anImageMetadata();
+            AssetResponse firstResponse = AssetResponseFixtures.assetResponse("asset-001");
+            AssetResponse secondResponse = AssetResponseFixtures.assetResponse("asset-002");
+            AssetMetadataResponse metadataResponse =
+                    AssetResponseFixtures.assetMetadataResponse("meta-img-001", "asset-001");
+
+            given(assetReadManager.findAssets(List.of("asset-002", "asset-001")))
+                    .willReturn(List.of(first, second));
+            given(assetMetadataReadManager.findAssetMetadata(List.of("asset-001", "asset-002")))
+                    .willReturn(List.of(metadata));
+            given(assetAssembler.toResponse(first)).willReturn(firstResponse);
+            given(assetAssembler.toResponse(second)).willReturn(secondResponse);
+            given(assetMetadataAssembler.toResponse(metadata)).willReturn(metadataResponse);
+
+            // when
+            AssetBatchResponse result = sut.execute(List.of("asset-002", "asset-001"));
+
+            // then
+            assertThat(result.assets())
+                    .containsExactly(
+                            new AssetDetailResponse(secondResponse, null),
+                            new AssetDetailResponse(firstResponse, metadataResponse));
+            assertThat(result.notFoundAssetIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("중복 ID는 한 번만 조회하고 없는 ID는 notFoundAssetIds로 반환한다")
+        void execute_DeduplicatesAndCollectsNotFound() {
+            // given
+            Asset asset = AssetFixture.anAssetWithId("asset-001");
+            AssetResponse assetResponse = AssetResponseFixtures.assetResponse("asset-001");
+
+            given(assetReadManager.findAssets(List.of("asset-001", "asset-404")))
+                    .willReturn(List.of(asset));
+            given(assetMetadataReadManager.findAssetMetadata(List.of("asset-001")))
+                    .willReturn(List.of());
+            given(assetAssembler.toResponse(asset)).willReturn(assetResponse);
+
+            // when
+            AssetBatchResponse result =
+                    sut.execute(List.of("asset-001", "asset-404", "asset-001"));
+
+            // then
+            assertThat(result.assets())
+                    .containsExactly(new AssetDetailResponse(assetResponse, null));
+            assertThat(result.notFoundAssetIds()).containsExactly("asset-404");
+            then(assetMetadataAssembler).shouldHaveNoInteractions();
+        }
+    }
+}
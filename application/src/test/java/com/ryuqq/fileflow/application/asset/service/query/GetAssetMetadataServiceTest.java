@@ -44,9 +44,10 @@ class GetAssetMetadataServiceTest {
                             metadata.width(),
                             metadata.height(),
                             metadata.transformType(),
-                            metadata.createdAt());
+                            metadata.createdAt(),
+                            metadata.updatedAt());
 
-            given(assetMetadataReadManager.getAssetMetadata(assetId)).willReturn(metadata);
+            given(assetMetadataReadManager.getCachedAssetMetadata(assetId)).willReturn(metadata);
             given(assetMetadataAssembler.toResponse(metadata)).willReturn(expectedResponse);
 
             // when
@@ -54,7 +55,7 @@ class GetAssetMetadataServiceTest {
 
             // then
             assertThat(result).isEqualTo(expectedResponse);
-            then(assetMetadataReadManager).should().getAssetMetadata(assetId);
+            then(assetMetadataReadManager).should().getCachedAssetMetadata(assetId);
             then(assetMetadataAssembler).should().toResponse(metadata);
         }
     }
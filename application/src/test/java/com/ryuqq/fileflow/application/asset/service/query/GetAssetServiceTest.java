@@ -52,9 +52,10 @@ class GetAssetServiceTest {
                             asset.originId(),
                             asset.purpose(),
                             asset.source(),
-                            asset.createdAt());
+                            asset.createdAt(),
+                            asset.updatedAt());
 
-            given(assetReadManager.getAsset(assetId)).willReturn(asset);
+            given(assetReadManager.getCachedAsset(assetId)).willReturn(asset);
             given(assetAssembler.toResponse(asset)).willReturn(expectedResponse);
 
             // when
@@ -62,7 +63,7 @@ class GetAssetServiceTest {
 
             // then
             assertThat(result).isEqualTo(expectedResponse);
-            then(assetReadManager).should().getAsset(assetId);
+            then(assetReadManager).should().getCachedAsset(assetId);
             then(assetAssembler).should().toResponse(asset);
         }
     }
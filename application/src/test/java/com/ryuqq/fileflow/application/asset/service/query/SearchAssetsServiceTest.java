@@ -0,0 +1,69 @@
+package com.ryuqq.fileflow.application.asset.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.fileflow.application.asset.assembler.AssetAssembler;
+import com.ryuqq.fileflow.application.asset.dto.query.AssetSearchParams;
+import com.ryuqq.fileflow.application.asset.dto.response.AssetResponse;
+import com.ryuqq.fileflow.application.asset.factory.query.AssetQueryFactory;
+import com.ryuqq.fileflow.application.asset.manager.query.AssetReadManager;
+import com.ryuqq.fileflow.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteria;
+import com.ryuqq.fileflow.domain.asset.vo.AssetSearchCriteriaFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchAssetsService 단위 테스트")
+class SearchAssetsServiceTest {
+
+    @InjectMocks private SearchAssetsService sut;
+    @Mock private AssetQueryFactory assetQueryFactory;
+    @Mock private AssetReadManager assetReadManager;
+    @Mock private AssetAssembler assetAssembler;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("조회 조건으로 Asset을 조회하고 슬라이스로 변환한다")
+        void execute_ValidParams_ReturnsSlice() {
+            // given
+            AssetSearchParams params =
+                    AssetSearchParams.of(
+                            "commerce-api",
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            CommonCursorParams.first(20));
+            AssetSearchCriteria criteria = AssetSearchCriteriaFixture.aFirstPageCriteria();
+            List<Asset> assets = List.of(AssetFixture.anAsset());
+            SliceResponse<AssetResponse> expected = SliceResponse.of(List.of(), 20, false);
+
+            given(assetQueryFactory.createCriteria(params)).willReturn(criteria);
+            given(assetReadManager.searchAssets(criteria)).willReturn(assets);
+            given(assetAssembler.toSlice(assets, criteria.size())).willReturn(expected);
+
+            // when
+            SliceResponse<AssetResponse> result = sut.execute(params);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ryuqq.fileflow.application.common.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("CacheLoadCoalescer 단위 테스트")
+class CacheLoadCoalescerTest {
+
+    private final CacheLoadCoalescer sut = new CacheLoadCoalescer();
+
+    @Nested
+    @DisplayName("load 메서드")
+    class LoadTest {
+
+        @Test
+        @DisplayName("같은 키의 동시 로드는 loader를 한 번만 실행하고 결과를 공유한다")
+        void load_ConcurrentSameKey_RunsLoaderOnce() throws Exception {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLeader = new CountDownLatch(1);
+            AtomicReference<String> leaderResult = new AtomicReference<>();
+            AtomicReference<String> followerResult = new AtomicReference<>();
+
+            Thread leader =
+                    new Thread(
+                            () ->
+                                    leaderResult.set(
+                                            sut.load(
+                                                    "asset-001",
+                                                    () -> {
+                                                        loadCount.incrementAndGet();
+                                                        leaderStarted.countDown();
+                                                        await(releaseLeader);
+                                                        return "loaded";
+                                                    })));
+            Thread follower =
+                    new Thread(
+                            () ->
+                                    followerResult.set(
+                                            sut.load(
+                                                    "asset-001",
+                                                    () -> {
+                                                        loadCount.incrementAndGet();
+                                                        return "duplicate";
+                                                    })));
+
+            // when
+            leader.start();
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            follower.start();
+            awaitParked(follower);
+            releaseLeader.countDown();
+            leader.join(5_000);
+            follower.join(5_000);
+
+            // then
+            assertThat(leaderResult).hasValue("loaded");
+            assertThat(followerResult).hasValue("loaded");
+            assertThat(loadCount).hasValue(1);
+            assertThat(sut.inFlightCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("loader 예외는 호출자에게 그대로 전파되고 키를 비운다")
+        void load_LoaderThrows_PropagatesAndClearsKey() {
+            // when & then
+            assertThatThrownBy(
+                            () ->
+                                    sut.load(
+                                            "asset-001",
+                                            () -> {
+                                                throw new IllegalStateException("not found");
+                                            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("not found");
+            assertThat(sut.inFlightCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("로드가 끝난 키는 다음 호출에서 다시 loader를 실행한다")
+        void load_AfterCompletion_RunsLoaderAgain() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            sut.load("asset-001", loadCount::incrementAndGet);
+            sut.load("asset-001", loadCount::incrementAndGet);
+
+            // then
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ryuqq.fileflow.application.common.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("TaskCompletionWaiterRegistry 단위 테스트")
+class TaskCompletionWaiterRegistryTest {
+
+    private static final TaskCompletionSignal SIGNAL =
+            TaskCompletionSignal.download("download-001");
+
+    private final TaskCompletionWaiterRegistry sut = new TaskCompletionWaiterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        sut.destroy();
+    }
+
+    @Nested
+    @DisplayName("signal 메서드")
+    class SignalTest {
+
+        @Test
+        @DisplayName("같은 작업을 기다리는 모든 요청을 깨우고 대기열에서 제거한다")
+        void signal_CompletesAllWaitersForTask() {
+            // given
+            CompletableFuture<Void> first = sut.await(SIGNAL, Duration.ofMinutes(1));
+            CompletableFuture<Void> second = sut.await(SIGNAL, Duration.ofMinutes(1));
+            CompletableFuture<Void> other =
+                    sut.await(
+                            TaskCompletionSignal.transform("download-001"), Duration.ofMinutes(1));
+
+            // when
+            sut.signal(SIGNAL);
+
+            // then
+            first.orTimeout(5, TimeUnit.SECONDS).join();
+            second.orTimeout(5, TimeUnit.SECONDS).join();
+            assertThat(other).isNotDone();
+            assertThat(sut.waitingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("기다리는 요청이 없으면 아무 일도 하지 않는다")
+        void signal_NoWaiters_DoesNothing() {
+            // when
+            sut.signal(SIGNAL);
+
+            // then
+            assertThat(sut.waitingCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("await 메서드")
+    class AwaitTest {
+
+        @Test
+        @DisplayName("신호가 없으면 타임아웃 후 정상 완료되고 대기열에서 제거된다")
+        void await_Timeout_CompletesNormally() {
+            // given
+            CompletableFuture<Void> waiter = sut.await(SIGNAL, Duration.ofMillis(50));
+
+            // when
+            waiter.orTimeout(5, TimeUnit.SECONDS).join();
+
+            // then
+            assertThat(waiter).isCompletedWithValue(null);
+            assertThat(sut.waitingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("취소하면 대기열에서 제거된다")
+        void await_Cancel_RemovesWaiter() {
+            // given
+            CompletableFuture<Void> waiter = sut.await(SIGNAL, Duration.ofMinutes(1));
+
+            // when
+            waiter.cancel(false);
+
+            // then
+            assertThat(sut.waitingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 등록하지 않고 이미 완료된 Future를 반환한다")
+        void await_Full_ReturnsCompletedWithoutRegistering() {
+            // given
+            TaskCompletionWaiterRegistry bounded =
+                    new TaskCompletionWaiterRegistry(
+                            Executors.newVirtualThreadPerTaskExecutor(), 1);
+            CompletableFuture<Void> first = bounded.await(SIGNAL, Duration.ofMinutes(1));
+
+            // when
+            CompletableFuture<Void> second = bounded.await(SIGNAL, Duration.ofMinutes(1));
+
+            // then
+            assertThat(first).isNotDone();
+            assertThat(second).isCompletedWithValue(null);
+            assertThat(bounded.waitingCount()).isEqualTo(1);
+            bounded.destroy();
+        }
+
+        @Test
+        @DisplayName("먼저 끝난 대기의 자리는 다시 쓸 수 있다")
+        void await_AfterRelease_AcceptsAgain() {
+            // given
+            TaskCompletionWaiterRegistry bounded =
+                    new TaskCompletionWaiterRegistry(
+                            Executors.newVirtualThreadPerTaskExecutor(), 1);
+            bounded.await(SIGNAL, Duration.ofMinutes(1)).cancel(false);
+
+            // when
+            CompletableFuture<Void> next = bounded.await(SIGNAL, Duration.ofMinutes(1));
+
+            // then
+            assertThat(next).isNotDone();
+            assertThat(bounded.waitingCount()).isEqualTo(1);
+            bounded.destroy();
+        }
+    }
+}
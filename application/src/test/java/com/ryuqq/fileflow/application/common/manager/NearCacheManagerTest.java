@@ -0,0 +1,74 @@
+package com.ryuqq.fileflow.application.common.manager;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+import com.ryuqq.fileflow.application.common.port.out.NearCachePort;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheManager 단위 테스트")
+class NearCacheManagerTest {
+
+    @InjectMocks private NearCacheManager sut;
+    @Mock private NearCachePort nearCachePort;
+
+    @Nested
+    @DisplayName("evictLocal 메서드")
+    class EvictLocalTest {
+
+        @Test
+        @DisplayName("키가 있으면 해당 항목만 로컬에서 제거한다")
+        void evictLocal_WithKey_EvictsSingleEntry() {
+            // given
+            NearCacheInvalidation invalidation =
+                    NearCacheInvalidation.key("asset", "cache:asset:asset-001");
+
+            // when
+            sut.evictLocal(invalidation);
+
+            // then
+            then(nearCachePort).should().evictLocal("asset", "cache:asset:asset-001");
+            then(nearCachePort).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("버전이 있으면 버전과 함께 로컬에서 제거한다")
+        void evictLocal_WithVersion_EvictsWithVersion() {
+            // given
+            Instant version = Instant.parse("2026-01-01T00:00:00Z");
+            NearCacheInvalidation invalidation =
+                    NearCacheInvalidation.versionedKey("session-header", "session-001", version);
+
+            // when
+            sut.evictLocal(invalidation);
+
+            // then
+            then(nearCachePort).should().evictLocal("session-header", "session-001", version);
+            then(nearCachePort).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("전체 무효화이면 해당 캐시를 로컬에서 비운다")
+        void evictLocal_All_ClearsCache() {
+            // given
+            NearCacheInvalidation invalidation = NearCacheInvalidation.all("asset-metadata");
+
+            // when
+            sut.evictLocal(invalidation);
+
+            // then
+            then(nearCachePort).should().clearLocal("asset-metadata");
+            then(nearCachePort).shouldHaveNoMoreInteractions();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ryuqq.fileflow.application.common.manager;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.port.out.client.TaskCompletionSignalClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskCompletionSignalManager 단위 테스트")
+class TaskCompletionSignalManagerTest {
+
+    private static final TaskCompletionSignal SIGNAL =
+            TaskCompletionSignal.download("download-001");
+
+    @InjectMocks private TaskCompletionSignalManager sut;
+    @Mock private TaskCompletionSignalClient taskCompletionSignalClient;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("signalAfterCommit 메서드")
+    class SignalAfterCommitTest {
+
+        @Test
+        @DisplayName("트랜잭션 밖이면 즉시 발행한다")
+        void signalAfterCommit_NoTransaction_PublishesImmediately() {
+            // when
+            sut.signalAfterCommit(SIGNAL);
+
+            // then
+            then(taskCompletionSignalClient).should().publish(SIGNAL);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안이면 커밋 후에 발행한다")
+        void signalAfterCommit_InTransaction_PublishesAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            sut.signalAfterCommit(SIGNAL);
+
+            // then
+            then(taskCompletionSignalClient).shouldHaveNoInteractions();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            then(taskCompletionSignalClient).should().publish(SIGNAL);
+        }
+
+        @Test
+        @DisplayName("발행에 실패해도 예외를 던지지 않는다")
+        void signalAfterCommit_PublishFails_DoesNotThrow() {
+            // given
+            willThrow(new IllegalStateException("redis down"))
+                    .given(taskCompletionSignalClient)
+                    .publish(SIGNAL);
+
+            // when & then
+            assertThatCode(() -> sut.signalAfterCommit(SIGNAL)).doesNotThrowAnyException();
+        }
+    }
+}
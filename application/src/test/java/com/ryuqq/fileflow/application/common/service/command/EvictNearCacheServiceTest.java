@@ -0,0 +1,42 @@
+package com.ryuqq.fileflow.application.common.service.command;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.common.dto.command.NearCacheInvalidation;
+import com.ryuqq.fileflow.application.common.manager.NearCacheManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EvictNearCacheService 단위 테스트")
+class EvictNearCacheServiceTest {
+
+    @InjectMocks private EvictNearCacheService sut;
+    @Mock private NearCacheManager nearCacheManager;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("무효화 요청을 매니저에 전달한다")
+        void execute_DelegatesToManager() {
+            // given
+            NearCacheInvalidation invalidation =
+                    NearCacheInvalidation.key("asset", "cache:asset:asset-001");
+
+            // when
+            sut.execute(invalidation);
+
+            // then
+            then(nearCacheManager).should().evictLocal(invalidation);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ryuqq.fileflow.application.common.service.command;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.common.component.TaskCompletionWaiterRegistry;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotifyTaskCompletionService 단위 테스트")
+class NotifyTaskCompletionServiceTest {
+
+    @InjectMocks private NotifyTaskCompletionService sut;
+    @Mock private TaskCompletionWaiterRegistry taskCompletionWaiterRegistry;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("대기열에 종료 신호를 전달한다")
+        void execute_DelegatesToRegistry() {
+            // given
+            TaskCompletionSignal signal = TaskCompletionSignal.transform("transform-001");
+
+            // when
+            sut.execute(signal);
+
+            // then
+            then(taskCompletionWaiterRegistry).should().signal(signal);
+        }
+    }
+}
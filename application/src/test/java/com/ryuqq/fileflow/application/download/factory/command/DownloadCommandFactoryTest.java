@@ -17,12 +17,14 @@ import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.download.aggregate.CallbackOutbox;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadQueueOutbox;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTaskFixture;
 import com.ryuqq.fileflow.domain.download.vo.DownloadTaskStatus;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -114,6 +116,74 @@ class DownloadCommandFactoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("createAll 메서드")
+    class CreateAllTest {
+
+        @Test
+        @DisplayName("커맨드 순서대로 같은 생성 시각의 DownloadTask 목록을 생성한다")
+        void createAll_Commands_ReturnsTasksInOrder() {
+            // given
+            given(idGeneratorPort.generate()).willReturn("download-001", "download-002");
+            given(storageBucketManager.getBucket()).willReturn("test-bucket");
+
+            List<CreateDownloadTaskCommand> commands =
+                    List.of(
+                            new CreateDownloadTaskCommand(
+                                    "https://example.com/a.jpg",
+                                    AccessType.PUBLIC,
+                                    "product-image",
+                                    "commerce-service",
+                                    null),
+                            new CreateDownloadTaskCommand(
+                                    "https://example.com/b.png",
+                                    AccessType.INTERNAL,
+                                    "document",
+                                    "doc-service",
+                                    null));
+
+            // when
+            List<DownloadTask> result = sut.createAll(commands);
+
+            // then
+            assertThat(result)
+                    .extracting(DownloadTask::idValue)
+                    .containsExactly("download-001", "download-002");
+            assertThat(result)
+                    .extracting(DownloadTask::s3Key)
+                    .containsExactly(
+                            "public/2026/01/download-001.jpg",
+                            "internal/2026/01/download-002.png");
+            assertThat(result).extracting(DownloadTask::createdAt).containsOnly(NOW);
+        }
+    }
+
+    @Nested
+    @DisplayName("createQueueOutboxes 메서드")
+    class CreateQueueOutboxesTest {
+
+        @Test
+        @DisplayName("태스크마다 PENDING 상태의 큐 아웃박스를 생성한다")
+        void createQueueOutboxes_Tasks_ReturnsOutboxPerTask() {
+            // given
+            given(idGeneratorPort.generate()).willReturn("outbox-001", "outbox-002");
+            DownloadTask first = DownloadTaskFixture.aQueuedTask();
+            DownloadTask second = DownloadTaskFixture.aQueuedTask();
+
+            // when
+            List<DownloadQueueOutbox> result = sut.createQueueOutboxes(List.of(first, second));
+
+            // then
+            assertThat(result)
+                    .extracting(DownloadQueueOutbox::idValue)
+                    .containsExactly("outbox-001", "outbox-002");
+            assertThat(result)
+                    .extracting(DownloadQueueOutbox::downloadTaskId)
+                    .containsExactly(first.idValue(), second.idValue());
+            assertThat(result).extracting(DownloadQueueOutbox::createdAt).containsOnly(NOW);
+        }
+    }
+
     @Nested
     @DisplayName("createStartContext 메서드")
     class CreateStartContextTest {
@@ -3,6 +3,8 @@ package com.ryuqq.fileflow.application.download.internal;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.asset.manager.command.AssetCommandManager;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.manager.TaskCompletionSignalManager;
 import com.ryuqq.fileflow.application.download.dto.bundle.DownloadCompletionBundle;
 import com.ryuqq.fileflow.application.download.dto.bundle.DownloadFailureBundle;
 import com.ryuqq.fileflow.application.download.manager.command.CallbackOutboxCommandManager;
@@ -32,6 +34,7 @@ class DownloadCompletionFacadeTest {
     @Mock private DownloadCommandManager downloadCommandManager;
     @Mock private AssetCommandManager assetCommandManager;
     @Mock private CallbackOutboxCommandManager callbackOutboxCommandManager;
+    @Mock private TaskCompletionSignalManager taskCompletionSignalManager;
 
     @Nested
     @DisplayName("completeDownload 메서드")
@@ -53,6 +56,9 @@ class DownloadCompletionFacadeTest {
             then(downloadCommandManager).should().persist(downloadTask);
             then(assetCommandManager).should().persist(asset);
             then(callbackOutboxCommandManager).shouldHaveNoInteractions();
+            then(taskCompletionSignalManager)
+                    .should()
+                    .signalAfterCommit(TaskCompletionSignal.download(downloadTask.idValue()));
         }
 
         @Test
@@ -98,6 +104,24 @@ class DownloadCompletionFacadeTest {
             // then
             then(downloadCommandManager).should().persist(downloadTask);
             then(callbackOutboxCommandManager).shouldHaveNoInteractions();
+            then(taskCompletionSignalManager)
+                    .should()
+                    .signalAfterCommit(TaskCompletionSignal.download(downloadTask.idValue()));
+        }
+
+        @Test
+        @DisplayName("재시도 대기로 돌아간 태스크는 종료 신호를 보내지 않는다")
+        void failDownload_RetryQueued_DoesNotSignal() {
+            // given
+            DownloadTask downloadTask = DownloadTaskFixture.aQueuedTask();
+            DownloadFailureBundle bundle = new DownloadFailureBundle(downloadTask, null);
+
+            // when
+            sut.failDownload(bundle);
+
+            // then
+            then(downloadCommandManager).should().persist(downloadTask);
+            then(taskCompletionSignalManager).shouldHaveNoInteractions();
         }
 
         @Test
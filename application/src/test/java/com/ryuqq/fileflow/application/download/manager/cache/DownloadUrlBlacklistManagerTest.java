@@ -7,6 +7,8 @@ import static org.mockito.BDDMockito.willThrow;
 
 import com.ryuqq.fileflow.application.download.port.out.cache.DownloadUrlBlacklistPort;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -120,4 +122,53 @@ class DownloadUrlBlacklistManagerTest {
             then(downloadUrlBlacklistPort).should().isBlacklisted(sourceUrl);
         }
     }
+
+    @Nested
+    @DisplayName("findBlacklisted 메서드")
+    class FindBlacklistedTest {
+
+        @Test
+        @DisplayName("포트가 찾은 블랙리스트 URL 집합을 반환한다")
+        void findBlacklisted_DelegatesToPort() {
+            // given
+            List<String> sourceUrls =
+                    List.of("https://example.com/blocked.jpg", "https://example.com/ok.jpg");
+
+            given(downloadUrlBlacklistPort.findBlacklisted(sourceUrls))
+                    .willReturn(Set.of("https://example.com/blocked.jpg"));
+
+            // when
+            Set<String> result = sut.findBlacklisted(sourceUrls);
+
+            // then
+            assertThat(result).containsExactly("https://example.com/blocked.jpg");
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void findBlacklisted_Empty_SkipsPort() {
+            // when
+            Set<String> result = sut.findBlacklisted(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(downloadUrlBlacklistPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Redis 예외 발생 시 빈 집합을 반환하여 모두 통과 처리한다")
+        void findBlacklisted_RedisException_ReturnsEmptySet() {
+            // given
+            List<String> sourceUrls = List.of("https://example.com/image.jpg");
+
+            given(downloadUrlBlacklistPort.findBlacklisted(sourceUrls))
+                    .willThrow(new RuntimeException("Redis connection refused"));
+
+            // when
+            Set<String> result = sut.findBlacklisted(sourceUrls);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.then;
 import com.ryuqq.fileflow.application.download.port.out.command.DownloadTaskPersistencePort;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
 import com.ryuqq.fileflow.domain.download.aggregate.DownloadTaskFixture;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -39,4 +40,32 @@ class DownloadCommandManagerTest {
             then(downloadTaskPersistencePort).should().persist(downloadTask);
         }
     }
+
+    @Nested
+    @DisplayName("persistAll 메서드")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("DownloadTask 목록을 영속화 포트에 한 번에 위임한다")
+        void persistAll_DownloadTasks_DelegatesToPort() {
+            // given
+            List<DownloadTask> downloadTasks = List.of(DownloadTaskFixture.aQueuedTask());
+
+            // when
+            sut.persistAll(downloadTasks);
+
+            // then
+            then(downloadTaskPersistencePort).should().persistAll(downloadTasks);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void persistAll_Empty_SkipsPort() {
+            // when
+            sut.persistAll(List.of());
+
+            // then
+            then(downloadTaskPersistencePort).shouldHaveNoInteractions();
+        }
+    }
 }
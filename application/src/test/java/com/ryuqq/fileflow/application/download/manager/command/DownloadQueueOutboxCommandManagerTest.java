@@ -120,4 +120,32 @@ class DownloadQueueOutboxCommandManagerTest {
             then(downloadQueueOutboxPersistencePort).should().bulkMarkFailed(ids, NOW, "SQS error");
         }
     }
+
+    @Nested
+    @DisplayName("persistAll 메서드")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("아웃박스 목록의 일괄 저장을 영속화 포트에 위임한다")
+        void persistAll_DelegatesToPersistencePort() {
+            List<DownloadQueueOutbox> outboxes =
+                    List.of(
+                            DownloadQueueOutbox.forNew(
+                                    DownloadQueueOutboxId.of("outbox-001"), "download-001", NOW),
+                            DownloadQueueOutbox.forNew(
+                                    DownloadQueueOutboxId.of("outbox-002"), "download-002", NOW));
+
+            sut.persistAll(outboxes);
+
+            then(downloadQueueOutboxPersistencePort).should().persistAll(outboxes);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 영속화 포트를 호출하지 않는다")
+        void persistAll_Empty_SkipsPersistencePort() {
+            sut.persistAll(List.of());
+
+            then(downloadQueueOutboxPersistencePort).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -80,7 +80,8 @@ class CreateDownloadTaskServiceTest {
                             downloadTask.lastError(),
                             downloadTask.createdAt(),
                             downloadTask.startedAt(),
-                            downloadTask.completedAt());
+                            downloadTask.completedAt(),
+                            downloadTask.version());
 
             given(downloadUrlBlacklistManager.isBlacklisted(command.sourceUrl())).willReturn(false);
             given(downloadCommandFactory.create(command)).willReturn(downloadTask);
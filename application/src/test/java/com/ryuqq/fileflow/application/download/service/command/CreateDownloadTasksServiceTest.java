@@ -0,0 +1,180 @@
+package com.ryuqq.fileflow.application.download.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.download.assembler.DownloadAssembler;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTaskCommand;
+import com.ryuqq.fileflow.application.download.dto.command.CreateDownloadTasksCommand;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskBatchItemResponse;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import com.ryuqq.fileflow.application.download.factory.command.DownloadCommandFactory;
+import com.ryuqq.fileflow.application.download.manager.cache.DownloadUrlBlacklistManager;
+import com.ryuqq.fileflow.application.download.manager.command.DownloadCommandManager;
+import com.ryuqq.fileflow.application.download.manager.command.DownloadQueueOutboxCommandManager;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadQueueOutbox;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadTaskFixture;
+import com.ryuqq.fileflow.domain.download.id.DownloadQueueOutboxId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateDownloadTasksService 단위 테스트")
+class CreateDownloadTasksServiceTest {
+
+    private static final String FIRST_URL = "https://example.com/a.jpg";
+    private static final String BLOCKED_URL = "https://example.com/blocked.jpg";
+    private static final String SECOND_URL = "https://example.com/b.jpg";
+
+    @InjectMocks private CreateDownloadTasksService sut;
+    @Mock private DownloadCommandFactory downloadCommandFactory;
+    @Mock private DownloadCommandManager downloadCommandManager;
+    @Mock private DownloadQueueOutboxCommandManager downloadQueueOutboxCommandManager;
+    @Mock private DownloadAssembler downloadAssembler;
+    @Mock private DownloadUrlBlacklistManager downloadUrlBlacklistManager;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("블랙리스트 URL은 실패로, 나머지는 생성해 요청 순서대로 반환한다")
+        void execute_MixedUrls_ReturnsResultsInRequestOrder() {
+            // given
+            CreateDownloadTaskCommand first = command(FIRST_URL);
+            CreateDownloadTaskCommand blocked = command(BLOCKED_URL);
+            CreateDownloadTaskCommand second = command(SECOND_URL);
+            CreateDownloadTasksCommand command =
+                    new CreateDownloadTasksCommand(List.of(first, blocked, second));
+
+            DownloadTask firstTask = DownloadTaskFixture.aQueuedTaskWithId("download-001");
+            DownloadTask secondTask = DownloadTaskFixture.aQueuedTaskWithId("download-002");
+            List<DownloadTask> tasks = List.of(firstTask, secondTask);
+            List<DownloadQueueOutbox> outboxes =
+                    List.of(
+                            DownloadQueueOutbox.forNew(
+                                    DownloadQueueOutboxId.of("outbox-001"),
+                                    "download-001",
+                                    Instant.now()));
+            DownloadTaskResponse firstResponse = response("download-001", FIRST_URL);
+            DownloadTaskResponse secondResponse = response("download-002", SECOND_URL);
+
+            given(
+                            downloadUrlBlacklistManager.findBlacklisted(
+                                    List.of(FIRST_URL, BLOCKED_URL, SECOND_URL)))
+                    .willReturn(Set.of(BLOCKED_URL));
+            given(downloadCommandFactory.createAll(List.of(first, second))).willReturn(tasks);
+            given(downloadCommandFactory.createQueueOutboxes(tasks)).willReturn(outboxes);
+            given(downloadAssembler.toResponse(firstTask)).willReturn(firstResponse);
+            given(downloadAssembler.toResponse(secondTask)).willReturn(secondResponse);
+
+            // when
+            List<DownloadTaskBatchItemResponse> result = sut.execute(command);
+
+            // then
+            assertThat(result)
+                    .extracting(DownloadTaskBatchItemResponse::sourceUrl)
+                    .containsExactly(FIRST_URL, BLOCKED_URL, SECOND_URL);
+            assertThat(result)
+                    .extracting(DownloadTaskBatchItemResponse::success)
+                    .containsExactly(true, false, true);
+            assertThat(result.get(0).task()).isEqualTo(firstResponse);
+            assertThat(result.get(1).errorCode()).isEqualTo("DOWNLOAD-008");
+            assertThat(result.get(2).task()).isEqualTo(secondResponse);
+            then(downloadCommandManager).should().persistAll(tasks);
+            then(downloadQueueOutboxCommandManager).should().persistAll(outboxes);
+        }
+
+        @Test
+        @DisplayName("같은 URL이 여러 번 있으면 블랙리스트는 한 번만 조회하고 각각 생성한다")
+        void execute_DuplicateUrls_LooksUpOnceAndCreatesEach() {
+            // given
+            CreateDownloadTaskCommand first = command(FIRST_URL);
+            CreateDownloadTaskCommand duplicate = command(FIRST_URL);
+            CreateDownloadTasksCommand command =
+                    new CreateDownloadTasksCommand(List.of(first, duplicate));
+
+            DownloadTask firstTask = DownloadTaskFixture.aQueuedTaskWithId("download-001");
+            DownloadTask secondTask = DownloadTaskFixture.aQueuedTaskWithId("download-002");
+            List<DownloadTask> tasks = List.of(firstTask, secondTask);
+
+            given(downloadUrlBlacklistManager.findBlacklisted(List.of(FIRST_URL)))
+                    .willReturn(Set.of());
+            given(downloadCommandFactory.createAll(List.of(first, duplicate))).willReturn(tasks);
+            given(downloadCommandFactory.createQueueOutboxes(tasks)).willReturn(List.of());
+            given(downloadAssembler.toResponse(firstTask))
+                    .willReturn(response("download-001", FIRST_URL));
+            given(downloadAssembler.toResponse(secondTask))
+                    .willReturn(response("download-002", FIRST_URL));
+
+            // when
+            List<DownloadTaskBatchItemResponse> result = sut.execute(command);
+
+            // then
+            assertThat(result)
+                    .extracting(item -> item.task().downloadTaskId())
+                    .containsExactly("download-001", "download-002");
+        }
+
+        @Test
+        @DisplayName("모든 URL이 블랙리스트면 아무것도 저장하지 않고 모두 실패로 반환한다")
+        void execute_AllBlacklisted_PersistsNothing() {
+            // given
+            CreateDownloadTasksCommand command =
+                    new CreateDownloadTasksCommand(List.of(command(BLOCKED_URL)));
+
+            given(downloadUrlBlacklistManager.findBlacklisted(List.of(BLOCKED_URL)))
+                    .willReturn(Set.of(BLOCKED_URL));
+            given(downloadCommandFactory.createAll(List.of())).willReturn(List.of());
+            given(downloadCommandFactory.createQueueOutboxes(List.of())).willReturn(List.of());
+
+            // when
+            List<DownloadTaskBatchItemResponse> result = sut.execute(command);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).success()).isFalse();
+            assertThat(result.get(0).task()).isNull();
+            then(downloadAssembler).shouldHaveNoInteractions();
+        }
+    }
+
+    private static CreateDownloadTaskCommand command(String sourceUrl) {
+        return new CreateDownloadTaskCommand(
+                sourceUrl, AccessType.PUBLIC, "product-image", "commerce-service", null);
+    }
+
+    private static DownloadTaskResponse response(String downloadTaskId, String sourceUrl) {
+        return new DownloadTaskResponse(
+                downloadTaskId,
+                sourceUrl,
+                "public/2026/01/" + downloadTaskId + ".jpg",
+                "test-bucket",
+                AccessType.PUBLIC,
+                "product-image",
+                "commerce-service",
+                "QUEUED",
+                0,
+                3,
+                null,
+                null,
+                null,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                null,
+                null,
+                0L);
+    }
+}
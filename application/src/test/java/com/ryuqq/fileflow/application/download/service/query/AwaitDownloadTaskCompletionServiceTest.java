@@ -0,0 +1,142 @@
+package com.ryuqq.fileflow.application.download.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.fileflow.application.common.component.TaskCompletionWaiterRegistry;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.download.DownloadResponseFixtures;
+import com.ryuqq.fileflow.application.download.assembler.DownloadAssembler;
+import com.ryuqq.fileflow.application.download.dto.response.DownloadTaskResponse;
+import com.ryuqq.fileflow.application.download.manager.query.DownloadReadManager;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadTask;
+import com.ryuqq.fileflow.domain.download.aggregate.DownloadTaskFixture;
+import com.ryuqq.fileflow.domain.download.exception.DownloadTaskNotFoundException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AwaitDownloadTaskCompletionService 단위 테스트")
+class AwaitDownloadTaskCompletionServiceTest {
+
+    private static final String DOWNLOAD_TASK_ID = "download-001";
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @InjectMocks private AwaitDownloadTaskCompletionService sut;
+    @Mock private DownloadReadManager downloadReadManager;
+    @Mock private DownloadAssembler downloadAssembler;
+    @Mock private TaskCompletionWaiterRegistry taskCompletionWaiterRegistry;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("이미 종료된 작업이면 대기를 해제하고 현재 상태로 즉시 완료한다")
+        void execute_TerminalTask_CompletesImmediately() {
+            // given
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            DownloadTask downloadTask = DownloadTaskFixture.aCompletedTask();
+            DownloadTaskResponse response =
+                    DownloadResponseFixtures.completedResponse(DOWNLOAD_TASK_ID);
+
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.download(DOWNLOAD_TASK_ID), TIMEOUT))
+                    .willReturn(waiter);
+            given(downloadReadManager.getDownloadTask(DOWNLOAD_TASK_ID)).willReturn(downloadTask);
+            given(downloadAssembler.toResponse(downloadTask)).willReturn(response);
+
+            // when
+            CompletableFuture<DownloadTaskResponse> result =
+                    sut.execute(DOWNLOAD_TASK_ID, TIMEOUT);
+
+            // then
+            assertThat(result).isCompletedWithValue(response);
+            assertThat(waiter).isCancelled();
+        }
+
+        @Test
+        @DisplayName("진행 중인 작업이면 종료 신호를 받은 뒤 다시 조회한 상태로 완료한다")
+        void execute_InProgressTask_CompletesAfterSignal() {
+            // given
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            DownloadTask downloading = DownloadTaskFixture.aDownloadingTask();
+            DownloadTask completed = DownloadTaskFixture.aCompletedTask();
+            DownloadTaskResponse response =
+                    DownloadResponseFixtures.completedResponse(DOWNLOAD_TASK_ID);
+
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.download(DOWNLOAD_TASK_ID), TIMEOUT))
+                    .willReturn(waiter);
+            given(downloadReadManager.getDownloadTask(DOWNLOAD_TASK_ID))
+                    .willReturn(downloading, completed);
+            given(downloadAssembler.toResponse(completed)).willReturn(response);
+
+            // when
+            CompletableFuture<DownloadTaskResponse> result =
+                    sut.execute(DOWNLOAD_TASK_ID, TIMEOUT);
+            assertThat(result).isNotDone();
+            waiter.complete(null);
+
+            // then
+            assertThat(result).isCompletedWithValue(response);
+            then(downloadReadManager).should(times(2)).getDownloadTask(DOWNLOAD_TASK_ID);
+        }
+
+        @Test
+        @DisplayName("작업이 없으면 대기를 해제하고 예외를 그대로 던진다")
+        void execute_NotFound_ReleasesWaiterAndThrows() {
+            // given
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.download(DOWNLOAD_TASK_ID), TIMEOUT))
+                    .willReturn(waiter);
+            given(downloadReadManager.getDownloadTask(DOWNLOAD_TASK_ID))
+                    .willThrow(new DownloadTaskNotFoundException(DOWNLOAD_TASK_ID));
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(DOWNLOAD_TASK_ID, TIMEOUT))
+                    .isInstanceOf(DownloadTaskNotFoundException.class);
+            assertThat(waiter).isCancelled();
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차 대기가 이미 끝나 있으면 현재 상태로 즉시 완료한다")
+        void execute_WaiterRegistryFull_CompletesWithCurrentState() {
+            // given
+            DownloadTask downloading = DownloadTaskFixture.aDownloadingTask();
+            DownloadTaskResponse response =
+                    DownloadResponseFixtures.queuedResponse(DOWNLOAD_TASK_ID);
+
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.download(DOWNLOAD_TASK_ID), TIMEOUT))
+                    .willReturn(CompletableFuture.completedFuture(null));
+            given(downloadReadManager.getDownloadTask(DOWNLOAD_TASK_ID)).willReturn(downloading);
+            given(downloadAssembler.toResponse(downloading)).willReturn(response);
+
+            // when
+            CompletableFuture<DownloadTaskResponse> result =
+                    sut.execute(DOWNLOAD_TASK_ID, TIMEOUT);
+
+            // then
+            assertThat(result).isCompletedWithValue(response);
+            then(downloadReadManager).should(times(1)).getDownloadTask(DOWNLOAD_TASK_ID);
+        }
+    }
+}
@@ -54,7 +54,8 @@ class GetDownloadTaskServiceTest {
                             downloadTask.lastError(),
                             downloadTask.createdAt(),
                             downloadTask.startedAt(),
-                            downloadTask.completedAt());
+                            downloadTask.completedAt(),
+                            downloadTask.version());
 
             given(downloadReadManager.getDownloadTask(downloadTaskId)).willReturn(downloadTask);
             given(downloadAssembler.toResponse(downloadTask)).willReturn(expectedResponse);
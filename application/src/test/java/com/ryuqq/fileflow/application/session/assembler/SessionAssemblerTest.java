@@ -2,12 +2,19 @@ package com.ryuqq.fileflow.application.session.assembler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
 import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -129,4 +136,72 @@ class SessionAssemblerTest {
             assertThat(result.completedParts()).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("toSummaryResponse 메서드")
+    class ToSummaryResponseTest {
+
+        @Test
+        @DisplayName("세션 헤더와 파트 집계를 요약 응답으로 변환한다")
+        void toSummaryResponse_ReturnsHeaderWithAggregates() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            CompletedPartsSummary summary = CompletedPartsSummary.of(3, 15_728_640L, 2);
+
+            // when
+            MultipartUploadSessionSummaryResponse result =
+                    sut.toSummaryResponse(session, summary);
+
+            // then
+            assertThat(result.sessionId()).isEqualTo(session.idValue());
+            assertThat(result.uploadId()).isEqualTo(session.uploadId());
+            assertThat(result.status()).isEqualTo(session.status().name());
+            assertThat(result.completedPartCount()).isEqualTo(3);
+            assertThat(result.uploadedBytes()).isEqualTo(15_728_640L);
+            assertThat(result.highestContiguousPartNumber()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("toPartSlice 메서드")
+    class ToPartSliceTest {
+
+        private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        @Test
+        @DisplayName("size보다 많이 조회되면 size개만 담고 마지막 파트 번호를 다음 커서로 반환한다")
+        void toPartSlice_MoreThanSize_HasNextWithCursor() {
+            // given
+            List<CompletedPart> parts =
+                    List.of(
+                            CompletedPart.of(4, "etag-4", 100L, now),
+                            CompletedPart.of(5, "etag-5", 100L, now),
+                            CompletedPart.of(7, "etag-7", 100L, now));
+
+            // when
+            SliceResponse<CompletedPartResponse> result = sut.toPartSlice(parts, 2);
+
+            // then
+            assertThat(result.content())
+                    .extracting(CompletedPartResponse::partNumber)
+                    .containsExactly(4, 5);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo("5");
+        }
+
+        @Test
+        @DisplayName("size 이하로 조회되면 마지막 페이지로 반환한다")
+        void toPartSlice_WithinSize_IsLastPage() {
+            // given
+            List<CompletedPart> parts = List.of(CompletedPart.of(1, "etag-1", 100L, now));
+
+            // when
+            SliceResponse<CompletedPartResponse> result = sut.toPartSlice(parts, 2);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
 }
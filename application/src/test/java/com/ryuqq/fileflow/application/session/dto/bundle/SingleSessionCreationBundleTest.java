@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import java.time.Duration;
 import java.time.Instant;
@@ -155,4 +156,19 @@ class SingleSessionCreationBundleTest {
             assertThat(session.presignedUrlValue()).isEqualTo("https://s3.presigned-url.com/test");
         }
     }
+
+    @Nested
+    @DisplayName("toPresignedUploadSpec 메서드")
+    class ToPresignedUploadSpec {
+
+        @Test
+        @DisplayName("세션 만료 시각까지를 TTL로 하는 스펙을 만든다")
+        void createsSpecWithTtlUntilExpiry() {
+            PresignedUploadSpec spec = createBundle().toPresignedUploadSpec();
+
+            assertThat(spec.s3Key()).isEqualTo("public/2026/01/session-001.jpg");
+            assertThat(spec.contentType()).isEqualTo("image/jpeg");
+            assertThat(spec.ttl()).isEqualTo(Duration.ofHours(1));
+        }
+    }
 }
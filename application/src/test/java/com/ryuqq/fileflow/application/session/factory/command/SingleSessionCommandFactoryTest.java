@@ -12,6 +12,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -98,4 +99,27 @@ class SingleSessionCommandFactoryTest {
         assertThat(bundle.expiration().sessionType()).isEqualTo("SINGLE");
         assertThat(bundle.expiration().ttl()).isEqualTo(Duration.ofHours(1));
     }
+
+    @Test
+    @DisplayName("createAll - 요청 순서대로 같은 생성 시각의 번들을 만든다")
+    void createAllReturnsBundlesInOrderWithSharedTimestamp() {
+        given(idGeneratorPort.generate()).willReturn("session-001", "session-002");
+
+        List<CreateSingleUploadSessionCommand> commands =
+                List.of(
+                        new CreateSingleUploadSessionCommand(
+                                "a.jpg", "image/jpeg", AccessType.PUBLIC, "product-image", "svc"),
+                        new CreateSingleUploadSessionCommand(
+                                "b.pdf", "application/pdf", AccessType.INTERNAL, "doc", "svc"));
+
+        List<SingleSessionCreationBundle> bundles = factory.createAll(commands);
+
+        assertThat(bundles)
+                .extracting(SingleSessionCreationBundle::s3Key)
+                .containsExactly(
+                        "public/2026/01/session-001.jpg", "internal/2026/01/session-002.pdf");
+        assertThat(bundles)
+                .extracting(SingleSessionCreationBundle::createdAt)
+                .containsOnly(NOW);
+    }
 }
@@ -2,8 +2,10 @@ package com.ryuqq.fileflow.application.session.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.common.port.out.IdGeneratorPort;
@@ -20,6 +22,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -121,4 +124,35 @@ class SingleSessionCreationCoordinatorTest {
 
         then(sessionExpirationManager).should().registerExpiration(any(SessionExpiration.class));
     }
+
+    @Test
+    @DisplayName("createAll - 서명, 영속화, 만료 등록을 각각 한 번의 일괄 호출로 처리한다")
+    void createAllBatchesEachStep() {
+        given(idGeneratorPort.generate()).willReturn("session-001", "session-002");
+        given(presignedUploadManager.getBucket()).willReturn(BUCKET);
+        given(presignedUploadManager.generatePresignedUploadUrls(anyList()))
+                .willReturn(
+                        List.of("https://s3.presigned-url.com/1", "https://s3.presigned-url.com/2"));
+
+        List<CreateSingleUploadSessionCommand> commands =
+                List.of(
+                        new CreateSingleUploadSessionCommand(
+                                "a.jpg", "image/jpeg", AccessType.PUBLIC, "product-image", "svc"),
+                        new CreateSingleUploadSessionCommand(
+                                "b.png", "image/png", AccessType.PUBLIC, "product-image", "svc"));
+
+        List<SingleUploadSession> sessions = coordinator.createAll(commands);
+
+        assertThat(sessions)
+                .extracting(SingleUploadSession::idValue)
+                .containsExactly("session-001", "session-002");
+        assertThat(sessions)
+                .extracting(SingleUploadSession::presignedUrlValue)
+                .containsExactly(
+                        "https://s3.presigned-url.com/1", "https://s3.presigned-url.com/2");
+        then(presignedUploadManager).should().generatePresignedUploadUrls(anyList());
+        then(sessionCommandManager).should().persistAll(sessions);
+        then(sessionExpirationManager).should().registerExpirations(anyList());
+        then(sessionCommandManager).should(never()).persist(any(SingleUploadSession.class));
+    }
 }
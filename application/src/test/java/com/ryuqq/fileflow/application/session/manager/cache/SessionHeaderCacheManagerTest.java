@@ -0,0 +1,118 @@
+package com.ryuqq.fileflow.application.session.manager.cache;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionHeaderCacheManager 단위 테스트")
+class SessionHeaderCacheManagerTest {
+
+    @InjectMocks private SessionHeaderCacheManager sut;
+    @Mock private SessionHeaderCachePort sessionHeaderCachePort;
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class InvalidateTest {
+
+        @Test
+        @DisplayName("멀티파트 세션의 ID와 updatedAt 버전으로 무효화한다")
+        void invalidate_MultipartSession_InvalidatesWithUpdatedAt() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            // when
+            sut.invalidate(session);
+
+            // then
+            then(sessionHeaderCachePort)
+                    .should()
+                    .invalidate(session.idValue(), session.updatedAt());
+        }
+
+        @Test
+        @DisplayName("단건 세션의 ID와 updatedAt 버전으로 무효화한다")
+        void invalidate_SingleSession_InvalidatesWithUpdatedAt() {
+            // given
+            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
+
+            // when
+            sut.invalidate(session);
+
+            // then
+            then(sessionHeaderCachePort)
+                    .should()
+                    .invalidate(session.idValue(), session.updatedAt());
+        }
+
+        @Test
+        @DisplayName("전파 중 예외가 발생해도 무시하고 정상 종료한다")
+        void invalidate_PublishFails_IgnoresAndContinues() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            willThrow(new RuntimeException("Redis connection refused"))
+                    .given(sessionHeaderCachePort)
+                    .invalidate(session.idValue(), session.updatedAt());
+
+            // when
+            sut.invalidate(session);
+
+            // then
+            then(sessionHeaderCachePort)
+                    .should()
+                    .invalidate(session.idValue(), session.updatedAt());
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateAll 메서드")
+    class InvalidateAllTest {
+
+        @Test
+        @DisplayName("일괄 갱신한 세션을 같은 버전으로 모두 무효화한다")
+        void invalidateAll_InvalidatesEachSession() {
+            // given
+            Instant version = Instant.parse("2026-01-01T00:00:00Z");
+
+            // when
+            sut.invalidateAll(List.of("s-1", "s-2"), version);
+
+            // then
+            then(sessionHeaderCachePort).should().invalidate("s-1", version);
+            then(sessionHeaderCachePort).should().invalidate("s-2", version);
+        }
+
+        @Test
+        @DisplayName("한 세션의 전파가 실패해도 나머지 세션을 무효화한다")
+        void invalidateAll_ContinuesOnFailure() {
+            // given
+            Instant version = Instant.parse("2026-01-01T00:00:00Z");
+            willThrow(new RuntimeException("redis down"))
+                    .given(sessionHeaderCachePort)
+                    .invalidate("s-1", version);
+
+            // when
+            sut.invalidateAll(List.of("s-1", "s-2"), version);
+
+            // then
+            then(sessionHeaderCachePort).should().invalidate("s-2", version);
+        }
+    }
+}
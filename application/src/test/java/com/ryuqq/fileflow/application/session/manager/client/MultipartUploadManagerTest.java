@@ -4,11 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
 import com.ryuqq.fileflow.application.session.port.out.client.MultipartUploadClient;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPartFixture;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListing;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpec;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpecFixture;
 import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlSpec;
 import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlSpecFixture;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +34,7 @@ class MultipartUploadManagerTest {
 
     @InjectMocks private MultipartUploadManager sut;
     @Mock private MultipartUploadClient multipartUploadClient;
+    @Mock private FileFlowMetrics fileFlowMetrics;
 
     @Nested
     @DisplayName("createMultipartUpload 메서드")
@@ -78,6 +87,30 @@ class MultipartUploadManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("generatePresignedPartUrls 메서드")
+    class GeneratePresignedPartUrlsTest {
+
+        @Test
+        @DisplayName("PartPresignedUrlRangeSpec의 범위와 TTL로 클라이언트에 한 번 위임한다")
+        void generatePresignedPartUrls_DelegatesToClient() {
+            // given
+            PartPresignedUrlRangeSpec spec =
+                    PartPresignedUrlRangeSpecFixture.aPartPresignedUrlRangeSpec(1, 2);
+
+            given(
+                            multipartUploadClient.generatePresignedPartUrls(
+                                    spec.s3Key(), spec.uploadId(), 1, 2, spec.ttl()))
+                    .willReturn(List.of("url-1", "url-2"));
+
+            // when
+            List<String> result = sut.generatePresignedPartUrls(spec);
+
+            // then
+            assertThat(result).containsExactly("url-1", "url-2");
+        }
+    }
+
     @Nested
     @DisplayName("completeMultipartUpload 메서드")
     class CompleteMultipartUploadTest {
@@ -120,4 +153,102 @@ class MultipartUploadManagerTest {
             then(multipartUploadClient).should().abortMultipartUpload(s3Key, uploadId);
         }
     }
+
+    @Nested
+    @DisplayName("abortMultipartUploads 메서드")
+    class AbortMultipartUploadsTest {
+
+        @Test
+        @DisplayName("클라이언트에 위임하고 중단에 실패한 업로드를 반환한다")
+        void abortMultipartUploads_DelegatesToClient() {
+            // given
+            MultipartUploadRef first = MultipartUploadRef.of("public/2026/01/a.jpg", "upload-a");
+            MultipartUploadRef second = MultipartUploadRef.of("public/2026/01/b.jpg", "upload-b");
+            given(multipartUploadClient.abortMultipartUploads(List.of(first, second)))
+                    .willReturn(List.of(second));
+
+            // when
+            List<MultipartUploadRef> result = sut.abortMultipartUploads(List.of(first, second));
+
+            // then
+            assertThat(result).containsExactly(second);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 클라이언트를 호출하지 않는다")
+        void abortMultipartUploads_Empty_SkipsClient() {
+            // when
+            List<MultipartUploadRef> result = sut.abortMultipartUploads(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(multipartUploadClient).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("listMultipartUploads 메서드")
+    class ListMultipartUploadsTest {
+
+        @Test
+        @DisplayName("클라이언트에 위임하여 업로드 목록 페이지를 반환한다")
+        void listMultipartUploads_DelegatesToClient() {
+            // given
+            MultipartUploadListingPage page =
+                    MultipartUploadListingPage.last(
+                            List.of(
+                                    MultipartUploadListing.of(
+                                            MultipartUploadRef.of("public/a.jpg", "upload-a"),
+                                            Instant.parse("2026-01-01T00:00:00Z"))));
+            given(multipartUploadClient.listMultipartUploads(null, null, 1000)).willReturn(page);
+
+            // when
+            MultipartUploadListingPage result = sut.listMultipartUploads(null, null, 1000);
+
+            // then
+            assertThat(result).isEqualTo(page);
+        }
+    }
+
+    @Nested
+    @DisplayName("reclaimMultipartUploads 메서드")
+    class ReclaimMultipartUploadsTest {
+
+        @Test
+        @DisplayName("클라이언트에 위임하고 회수한 바이트 수와 건수를 메트릭으로 남긴다")
+        void reclaimMultipartUploads_RecordsReclaimedBytes() {
+            // given
+            MultipartUploadRef first = MultipartUploadRef.of("public/2026/01/a.jpg", "upload-a");
+            MultipartUploadRef second = MultipartUploadRef.of("public/2026/01/b.jpg", "upload-b");
+            MultipartUploadReclaimResult reclaimed =
+                    MultipartUploadReclaimResult.of(List.of(second), 5_242_880L);
+            given(multipartUploadClient.reclaimMultipartUploads(List.of(first, second)))
+                    .willReturn(reclaimed);
+
+            // when
+            MultipartUploadReclaimResult result =
+                    sut.reclaimMultipartUploads(List.of(first, second));
+
+            // then
+            assertThat(result).isEqualTo(reclaimed);
+            then(fileFlowMetrics)
+                    .should()
+                    .incrementCounter("multipart_upload_reclaimed_bytes_total", 5_242_880.0);
+            then(fileFlowMetrics)
+                    .should()
+                    .incrementCounter("multipart_upload_reclaimed_total", 1.0);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 클라이언트를 호출하지 않는다")
+        void reclaimMultipartUploads_Empty_SkipsClient() {
+            // when
+            MultipartUploadReclaimResult result = sut.reclaimMultipartUploads(List.of());
+
+            // then
+            assertThat(result.reclaimedBytes()).isZero();
+            then(multipartUploadClient).shouldHaveNoInteractions();
+            then(fileFlowMetrics).shouldHaveNoInteractions();
+        }
+    }
 }
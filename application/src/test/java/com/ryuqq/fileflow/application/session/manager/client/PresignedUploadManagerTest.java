@@ -5,7 +5,9 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.session.port.out.client.PresignedUploadClient;
+import com.ryuqq.fileflow.domain.session.vo.PresignedUploadSpec;
 import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -68,4 +70,38 @@ class PresignedUploadManagerTest {
                     .generatePresignedUploadUrl(s3Key, contentType, ttl);
         }
     }
+
+    @Nested
+    @DisplayName("generatePresignedUploadUrls 메서드")
+    class GeneratePresignedUploadUrlsTest {
+
+        @Test
+        @DisplayName("클라이언트에 위임하여 스펙 순서대로 URL 목록을 반환한다")
+        void generatePresignedUploadUrls_DelegatesToClient() {
+            // given
+            List<PresignedUploadSpec> specs =
+                    List.of(
+                            PresignedUploadSpec.of("a.jpg", "image/jpeg", Duration.ofHours(1)),
+                            PresignedUploadSpec.of("b.jpg", "image/jpeg", Duration.ofHours(1)));
+            given(presignedUploadClient.generatePresignedUploadUrls(specs))
+                    .willReturn(List.of("https://s3/a", "https://s3/b"));
+
+            // when
+            List<String> result = sut.generatePresignedUploadUrls(specs);
+
+            // then
+            assertThat(result).containsExactly("https://s3/a", "https://s3/b");
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 클라이언트를 호출하지 않는다")
+        void generatePresignedUploadUrls_Empty_SkipsClient() {
+            // when
+            List<String> result = sut.generatePresignedUploadUrls(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(presignedUploadClient).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -1,10 +1,14 @@
 package com.ryuqq.fileflow.application.session.manager.client;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.session.port.out.client.SessionExpirationClient;
 import com.ryuqq.fileflow.domain.session.vo.SessionExpiration;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -59,4 +63,83 @@ class SessionExpirationManagerTest {
             then(sessionExpirationClient).should().removeExpiration(sessionType, sessionId);
         }
     }
+
+    @Nested
+    @DisplayName("claimDueExpirations 메서드")
+    class ClaimDueExpirationsTest {
+
+        @Test
+        @DisplayName("클라이언트가 선점한 세션 ID 목록을 반환한다")
+        void claimDueExpirations_ReturnsClaimedIds() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            given(sessionExpirationClient.claimDueExpirations("SINGLE", now, 100))
+                    .willReturn(List.of("session-001", "session-002"));
+
+            // when
+            List<String> result = sut.claimDueExpirations("SINGLE", now, 100);
+
+            // then
+            assertThat(result).containsExactly("session-001", "session-002");
+        }
+    }
+
+    @Nested
+    @DisplayName("acknowledgeExpirations 메서드")
+    class AcknowledgeExpirationsTest {
+
+        @Test
+        @DisplayName("클라이언트에 위임하여 처리한 세션을 대기열에서 삭제한다")
+        void acknowledgeExpirations_DelegatesToClient() {
+            // given
+            List<String> sessionIds = List.of("session-001");
+
+            // when
+            sut.acknowledgeExpirations("MULTIPART", sessionIds);
+
+            // then
+            then(sessionExpirationClient).should().acknowledgeExpirations("MULTIPART", sessionIds);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 클라이언트를 호출하지 않는다")
+        void acknowledgeExpirations_Empty_SkipsClient() {
+            // when
+            sut.acknowledgeExpirations("MULTIPART", List.of());
+
+            // then
+            then(sessionExpirationClient).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("registerExpirations 메서드")
+    class RegisterExpirationsTest {
+
+        @Test
+        @DisplayName("클라이언트에 위임하여 만료를 일괄 등록한다")
+        void registerExpirations_DelegatesToClient() {
+            // given
+            List<SessionExpiration> expirations =
+                    List.of(
+                            SessionExpiration.of("session-001", "SINGLE", Duration.ofHours(1)),
+                            SessionExpiration.of("session-002", "SINGLE", Duration.ofHours(1)));
+
+            // when
+            sut.registerExpirations(expirations);
+
+            // then
+            then(sessionExpirationClient).should().registerExpirations(expirations);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 클라이언트를 호출하지 않는다")
+        void registerExpirations_Empty_SkipsClient() {
+            // when
+            sut.registerExpirations(List.of());
+
+            // then
+            then(sessionExpirationClient).shouldHaveNoInteractions();
+        }
+    }
 }
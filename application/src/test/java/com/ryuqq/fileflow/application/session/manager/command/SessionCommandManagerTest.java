@@ -1,13 +1,22 @@
 package com.ryuqq.fileflow.application.session.manager.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.application.session.port.out.command.MultipartUploadSessionPersistencePort;
 import com.ryuqq.fileflow.application.session.port.out.command.SingleUploadSessionPersistencePort;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
+import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartFixture;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -61,4 +70,143 @@ class SessionCommandManagerTest {
             then(multipartPersistencePort).should().persist(session);
         }
     }
+
+    @Nested
+    @DisplayName("appendCompletedPart 메서드")
+    class AppendCompletedPartTest {
+
+        @Test
+        @DisplayName("완료 파트 한 건을 세션 ID로 추가한다")
+        void appendCompletedPart_DelegatesToPort() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            CompletedPart part = CompletedPartFixture.aCompletedPart();
+
+            given(multipartPersistencePort.appendCompletedPart(session.id(), part))
+                    .willReturn(CompletedPartAppendResult.APPENDED);
+
+            // when
+            CompletedPartAppendResult result = sut.appendCompletedPart(session, part);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.APPENDED);
+        }
+    }
+
+    @Nested
+    @DisplayName("upsertCompletedParts 메서드")
+    class UpsertCompletedPartsTest {
+
+        @Test
+        @DisplayName("완료 파트 목록을 세션 ID로 일괄 upsert한다")
+        void upsertCompletedParts_DelegatesToPort() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anUploadingSession();
+            List<CompletedPart> parts =
+                    List.of(
+                            CompletedPartFixture.aCompletedPart(1),
+                            CompletedPartFixture.aCompletedPart(2));
+
+            given(multipartPersistencePort.upsertCompletedParts(session.id(), parts))
+                    .willReturn(CompletedPartAppendResult.SESSION_INACTIVE);
+
+            // when
+            CompletedPartAppendResult result = sut.upsertCompletedParts(session, parts);
+
+            // then
+            assertThat(result).isEqualTo(CompletedPartAppendResult.SESSION_INACTIVE);
+        }
+    }
+
+    @Nested
+    @DisplayName("startUploading 메서드")
+    class StartUploadingTest {
+
+        @Test
+        @DisplayName("세션 ID와 세션의 updatedAt으로 UPLOADING 전이를 요청한다")
+        void startUploading_DelegatesToPort() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            given(multipartPersistencePort.startUploading(session.id(), session.updatedAt()))
+                    .willReturn(true);
+
+            // when
+            boolean result = sut.startUploading(session);
+
+            // then
+            assertThat(result).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("expireSingleSessions 메서드")
+    class ExpireSingleSessionsTest {
+
+        @Test
+        @DisplayName("세션 ID 목록을 일괄 만료하고 만료된 수를 반환한다")
+        void expireSingleSessions_DelegatesToPort() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            List<SingleUploadSessionId> ids =
+                    List.of(SingleUploadSessionId.of("s-1"), SingleUploadSessionId.of("s-2"));
+            given(singlePersistencePort.expireAll(ids, now)).willReturn(1);
+
+            // when
+            int result = sut.expireSingleSessions(List.of("s-1", "s-2"), now);
+
+            // then
+            assertThat(result).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("expireMultipartSessions 메서드")
+    class ExpireMultipartSessionsTest {
+
+        @Test
+        @DisplayName("세션 ID 목록을 일괄 만료하고 실제로 만료된 세션 ID를 반환한다")
+        void expireMultipartSessions_DelegatesToPort() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            List<MultipartUploadSessionId> ids =
+                    List.of(MultipartUploadSessionId.of("m-1"), MultipartUploadSessionId.of("m-2"));
+            given(multipartPersistencePort.expireAll(ids, now))
+                    .willReturn(List.of(MultipartUploadSessionId.of("m-2")));
+
+            // when
+            List<String> result = sut.expireMultipartSessions(List.of("m-1", "m-2"), now);
+
+            // then
+            assertThat(result).containsExactly("m-2");
+        }
+    }
+
+    @Nested
+    @DisplayName("persistAll 메서드")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("SingleUploadSession 목록을 한 번에 영속화한다")
+        void persistAll_DelegatesToPort() {
+            // given
+            List<SingleUploadSession> sessions =
+                    List.of(SingleUploadSessionFixture.aCreatedSession());
+
+            // when
+            sut.persistAll(sessions);
+
+            // then
+            then(singlePersistencePort).should().persistAll(sessions);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void persistAll_Empty_SkipsPort() {
+            // when
+            sut.persistAll(List.of());
+
+            // then
+            then(singlePersistencePort).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -2,8 +2,12 @@ package com.ryuqq.fileflow.application.session.manager.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
 import com.ryuqq.fileflow.application.session.port.out.query.MultipartUploadSessionQueryPort;
 import com.ryuqq.fileflow.application.session.port.out.query.SingleUploadSessionQueryPort;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
@@ -13,7 +17,12 @@ import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
 import com.ryuqq.fileflow.domain.session.exception.SessionNotFoundException;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
 import com.ryuqq.fileflow.domain.session.id.SingleUploadSessionId;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -31,6 +40,7 @@ class SessionReadManagerTest {
     @InjectMocks private SessionReadManager sut;
     @Mock private SingleUploadSessionQueryPort singleQueryPort;
     @Mock private MultipartUploadSessionQueryPort multipartQueryPort;
+    @Mock private SessionHeaderCachePort sessionHeaderCachePort;
 
     @Nested
     @DisplayName("getSingle 메서드")
@@ -104,4 +114,223 @@ class SessionReadManagerTest {
                     .isInstanceOf(SessionNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("getMultipartHeader 메서드")
+    class GetMultipartHeaderTest {
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않고 캐시된 세션을 반환한다")
+        void getMultipartHeader_CacheHit_ReturnsCachedSession() {
+            // given
+            String sessionId = "multipart-session-001";
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(sessionId);
+            MultipartUploadSession cachedSession =
+                    MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(sessionHeaderCachePort.findMultipartHeader(id))
+                    .willReturn(Optional.of(cachedSession));
+
+            // when
+            MultipartUploadSession result = sut.getMultipartHeader(sessionId);
+
+            // then
+            assertThat(result).isEqualTo(cachedSession);
+            then(multipartQueryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("캐시에 없으면 파트 없이 조회한 세션을 캐시에 채우고 반환한다")
+        void getMultipartHeader_CacheMiss_LoadsAndCachesSession() {
+            // given
+            String sessionId = "multipart-session-001";
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(sessionId);
+            MultipartUploadSession expectedSession =
+                    MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(sessionHeaderCachePort.findMultipartHeader(id)).willReturn(Optional.empty());
+            given(multipartQueryPort.findHeaderById(id)).willReturn(Optional.of(expectedSession));
+
+            // when
+            MultipartUploadSession result = sut.getMultipartHeader(sessionId);
+
+            // then
+            assertThat(result).isEqualTo(expectedSession);
+            then(sessionHeaderCachePort).should().putMultipartHeader(expectedSession);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 세션 ID로 SessionNotFoundException을 던지고 캐시에 넣지 않는다")
+        void getMultipartHeader_NonExistingId_ThrowsSessionNotFoundException() {
+            // given
+            String sessionId = "non-existing-session";
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(sessionId);
+
+            given(sessionHeaderCachePort.findMultipartHeader(id)).willReturn(Optional.empty());
+            given(multipartQueryPort.findHeaderById(id)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getMultipartHeader(sessionId))
+                    .isInstanceOf(SessionNotFoundException.class);
+            then(sessionHeaderCachePort).should(never()).putMultipartHeader(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getSingleHeader 메서드")
+    class GetSingleHeaderTest {
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않고 캐시된 세션을 반환한다")
+        void getSingleHeader_CacheHit_ReturnsCachedSession() {
+            // given
+            String sessionId = "single-session-001";
+            SingleUploadSessionId id = SingleUploadSessionId.of(sessionId);
+            SingleUploadSession cachedSession = SingleUploadSessionFixture.aCreatedSession();
+
+            given(sessionHeaderCachePort.findSingle(id)).willReturn(Optional.of(cachedSession));
+
+            // when
+            SingleUploadSession result = sut.getSingleHeader(sessionId);
+
+            // then
+            assertThat(result).isEqualTo(cachedSession);
+            then(singleQueryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("캐시에 없으면 DB에서 조회한 세션을 캐시에 채우고 반환한다")
+        void getSingleHeader_CacheMiss_LoadsAndCachesSession() {
+            // given
+            String sessionId = "single-session-001";
+            SingleUploadSessionId id = SingleUploadSessionId.of(sessionId);
+            SingleUploadSession expectedSession = SingleUploadSessionFixture.aCreatedSession();
+
+            given(sessionHeaderCachePort.findSingle(id)).willReturn(Optional.empty());
+            given(singleQueryPort.findById(id)).willReturn(Optional.of(expectedSession));
+
+            // when
+            SingleUploadSession result = sut.getSingleHeader(sessionId);
+
+            // then
+            assertThat(result).isEqualTo(expectedSession);
+            then(sessionHeaderCachePort).should().putSingle(expectedSession);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 세션 ID로 SessionNotFoundException을 던진다")
+        void getSingleHeader_NonExistingId_ThrowsSessionNotFoundException() {
+            // given
+            String sessionId = "non-existing-session";
+            SingleUploadSessionId id = SingleUploadSessionId.of(sessionId);
+
+            given(sessionHeaderCachePort.findSingle(id)).willReturn(Optional.empty());
+            given(singleQueryPort.findById(id)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getSingleHeader(sessionId))
+                    .isInstanceOf(SessionNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("summarizeCompletedParts 메서드")
+    class SummarizeCompletedPartsTest {
+
+        @Test
+        @DisplayName("세션의 완료 파트 집계를 반환한다")
+        void summarizeCompletedParts_ReturnsSummary() {
+            // given
+            String sessionId = "multipart-session-001";
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(sessionId);
+            CompletedPartsSummary summary = CompletedPartsSummary.of(2, 200L, 2);
+
+            given(multipartQueryPort.summarizeCompletedParts(id)).willReturn(summary);
+
+            // when
+            CompletedPartsSummary result = sut.summarizeCompletedParts(sessionId);
+
+            // then
+            assertThat(result).isEqualTo(summary);
+        }
+    }
+
+    @Nested
+    @DisplayName("findCompletedParts 메서드")
+    class FindCompletedPartsTest {
+
+        @Test
+        @DisplayName("커서 이후의 완료 파트를 조회한다")
+        void findCompletedParts_ReturnsPartsAfterCursor() {
+            // given
+            String sessionId = "multipart-session-001";
+            MultipartUploadSessionId id = MultipartUploadSessionId.of(sessionId);
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            List<CompletedPart> parts = List.of(CompletedPart.of(11, "etag-11", 100L, createdAt));
+
+            given(multipartQueryPort.findCompletedParts(id, 10, 21)).willReturn(parts);
+
+            // when
+            List<CompletedPart> result = sut.findCompletedParts(sessionId, 10, 21);
+
+            // then
+            assertThat(result).isEqualTo(parts);
+        }
+    }
+
+    @Nested
+    @DisplayName("findExpiredMultipartSessions(List, Instant) 메서드")
+    class FindExpiredMultipartSessionsByIdsTest {
+
+        @Test
+        @DisplayName("세션 ID 문자열을 ID 객체로 바꿔 만료 대상 세션을 조회한다")
+        void findExpiredMultipartSessions_ByIds_DelegatesToPort() {
+            // given
+            Instant now = Instant.parse("2026-01-01T00:00:00Z");
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            List<MultipartUploadSessionId> ids =
+                    List.of(MultipartUploadSessionId.of(session.idValue()));
+
+            given(multipartQueryPort.findExpiredSessionsByIds(ids, now))
+                    .willReturn(List.of(session));
+
+            // when
+            List<MultipartUploadSession> result =
+                    sut.findExpiredMultipartSessions(List.of(session.idValue()), now);
+
+            // then
+            assertThat(result).containsExactly(session);
+        }
+    }
+
+    @Nested
+    @DisplayName("findActiveMultipartUploadIds 메서드")
+    class FindActiveMultipartUploadIdsTest {
+
+        @Test
+        @DisplayName("활성 세션이 사용 중인 uploadId를 조회한다")
+        void findActiveMultipartUploadIds_DelegatesToPort() {
+            // given
+            List<String> uploadIds = List.of("upload-a", "upload-b");
+            given(multipartQueryPort.findActiveUploadIds(uploadIds))
+                    .willReturn(Set.of("upload-a"));
+
+            // when
+            Set<String> result = sut.findActiveMultipartUploadIds(uploadIds);
+
+            // then
+            assertThat(result).containsExactly("upload-a");
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void findActiveMultipartUploadIds_Empty_SkipsPort() {
+            // when
+            Set<String> result = sut.findActiveMultipartUploadIds(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(multipartQueryPort).should(never()).findActiveUploadIds(any());
+        }
+    }
 }
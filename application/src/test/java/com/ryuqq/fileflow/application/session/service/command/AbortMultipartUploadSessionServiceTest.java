@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.then;
 import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.session.dto.command.AbortMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
 import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
@@ -31,6 +32,7 @@ class AbortMultipartUploadSessionServiceTest {
     @Mock private MultipartSessionCommandFactory multipartSessionCommandFactory;
     @Mock private SessionReadManager sessionReadManager;
     @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
     @Mock private SessionExpirationManager sessionExpirationManager;
     @Mock private MultipartUploadManager multipartUploadManager;
 
@@ -64,6 +66,7 @@ class AbortMultipartUploadSessionServiceTest {
                     .should()
                     .abortMultipartUpload(session.s3Key(), session.uploadId());
             then(sessionCommandManager).should().persist(session);
+            then(sessionHeaderCacheManager).should().invalidate(session);
             then(sessionExpirationManager).should().removeExpiration("MULTIPART", sessionId);
         }
     }
@@ -1,16 +1,25 @@
 package com.ryuqq.fileflow.application.session.service.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartCommand;
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
 import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
 import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.exception.SessionErrorCode;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPartFixture;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -29,14 +38,15 @@ class AddCompletedPartServiceTest {
     @Mock private MultipartSessionCommandFactory multipartSessionCommandFactory;
     @Mock private SessionReadManager sessionReadManager;
     @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
 
     @Nested
     @DisplayName("execute 메서드")
     class ExecuteTest {
 
         @Test
-        @DisplayName("완료된 파트를 생성하고 세션에 추가한 뒤 영속화한다")
-        void execute_ValidCommand_AddsPartAndPersists() {
+        @DisplayName("첫 파트면 파트를 추가하고 세션 행 저장 없이 UPLOADING 전이를 요청한다")
+        void execute_FirstPart_AppendsPartAndStartsUploading() {
             // given
             String sessionId = "multipart-session-001";
             AddCompletedPartCommand command =
@@ -47,15 +57,101 @@ class AddCompletedPartServiceTest {
 
             given(multipartSessionCommandFactory.createCompletedPart(command))
                     .willReturn(completedPart);
-            given(sessionReadManager.getMultipart(sessionId)).willReturn(session);
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(sessionCommandManager.appendCompletedPart(session, completedPart))
+                    .willReturn(CompletedPartAppendResult.APPENDED);
+            given(sessionCommandManager.startUploading(session)).willReturn(true);
 
             // when
             sut.execute(command);
 
             // then
-            then(multipartSessionCommandFactory).should().createCompletedPart(command);
-            then(sessionReadManager).should().getMultipart(sessionId);
-            then(sessionCommandManager).should().persist(session);
+            assertThat(session.status()).isEqualTo(MultipartSessionStatus.UPLOADING);
+            then(sessionReadManager).should(never()).getMultipart(sessionId);
+            then(sessionCommandManager).should(never()).persist(any(MultipartUploadSession.class));
+            then(sessionHeaderCacheManager).should().invalidate(session);
+        }
+
+        @Test
+        @DisplayName("이미 업로드 중인 세션이면 파트만 추가하고 상태 전이를 요청하지 않는다")
+        void execute_UploadingSession_AppendsPartOnly() {
+            // given
+            String sessionId = "multipart-session-001";
+            AddCompletedPartCommand command =
+                    new AddCompletedPartCommand(sessionId, 2, "etag-part-2", 5_242_880L);
+
+            CompletedPart completedPart = CompletedPartFixture.aCompletedPart(2);
+            MultipartUploadSession session = MultipartUploadSessionFixture.anUploadingSession();
+
+            given(multipartSessionCommandFactory.createCompletedPart(command))
+                    .willReturn(completedPart);
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(sessionCommandManager.appendCompletedPart(session, completedPart))
+                    .willReturn(CompletedPartAppendResult.APPENDED);
+
+            // when
+            sut.execute(command);
+
+            // then
+            then(sessionCommandManager).should().appendCompletedPart(session, completedPart);
+            then(sessionCommandManager).should(never()).startUploading(session);
+        }
+
+        @Test
+        @DisplayName("같은 파트 번호가 이미 기록되어 있으면 SessionException을 던진다")
+        void execute_DuplicatePart_ThrowsSessionException() {
+            // given
+            String sessionId = "multipart-session-001";
+            AddCompletedPartCommand command =
+                    new AddCompletedPartCommand(sessionId, 1, "etag-part-1", 5_242_880L);
+
+            CompletedPart completedPart = CompletedPartFixture.aCompletedPart();
+            MultipartUploadSession session = MultipartUploadSessionFixture.anUploadingSession();
+
+            given(multipartSessionCommandFactory.createCompletedPart(command))
+                    .willReturn(completedPart);
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(sessionCommandManager.appendCompletedPart(session, completedPart))
+                    .willReturn(CompletedPartAppendResult.DUPLICATE);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command))
+                    .isInstanceOf(SessionException.class)
+                    .satisfies(
+                            e -> {
+                                SessionException ex = (SessionException) e;
+                                assertThat(ex.getErrorCode())
+                                        .isEqualTo(SessionErrorCode.PART_NUMBER_DUPLICATE);
+                            });
+        }
+
+        @Test
+        @DisplayName("기록 시점에 세션이 완료/중단되어 있으면 SessionException을 던지고 상태 전이를 요청하지 않는다")
+        void execute_SessionNoLongerAccepting_ThrowsSessionException() {
+            // given
+            String sessionId = "multipart-session-001";
+            AddCompletedPartCommand command =
+                    new AddCompletedPartCommand(sessionId, 1, "etag-part-1", 5_242_880L);
+
+            CompletedPart completedPart = CompletedPartFixture.aCompletedPart();
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(multipartSessionCommandFactory.createCompletedPart(command))
+                    .willReturn(completedPart);
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(sessionCommandManager.appendCompletedPart(session, completedPart))
+                    .willReturn(CompletedPartAppendResult.SESSION_INACTIVE);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command))
+                    .isInstanceOf(SessionException.class)
+                    .satisfies(
+                            e -> {
+                                SessionException ex = (SessionException) e;
+                                assertThat(ex.getErrorCode())
+                                        .isEqualTo(SessionErrorCode.INVALID_SESSION_STATUS);
+                            });
+            then(sessionCommandManager).should(never()).startUploading(session);
         }
     }
 }
@@ -0,0 +1,192 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand;
+import com.ryuqq.fileflow.application.session.dto.command.AddCompletedPartsCommand.PartItem;
+import com.ryuqq.fileflow.application.session.dto.result.CompletedPartAppendResult;
+import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
+import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.exception.SessionErrorCode;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartFixture;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddCompletedPartsService 단위 테스트")
+class AddCompletedPartsServiceTest {
+
+    private static final String SESSION_ID = "multipart-session-001";
+
+    @InjectMocks private AddCompletedPartsService sut;
+    @Mock private MultipartSessionCommandFactory multipartSessionCommandFactory;
+    @Mock private SessionReadManager sessionReadManager;
+    @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("첫 요청이면 파트를 일괄 upsert하고 세션 행 저장 없이 UPLOADING 전이를 요청한다")
+        void execute_FirstBatch_UpsertsPartsAndStartsUploading() {
+            // given
+            AddCompletedPartsCommand command =
+                    new AddCompletedPartsCommand(
+                            SESSION_ID,
+                            List.of(
+                                    new PartItem(1, "etag-part-1", 5_242_880L),
+                                    new PartItem(2, "etag-part-2", 5_242_880L)));
+
+            List<CompletedPart> completedParts =
+                    List.of(
+                            CompletedPartFixture.aCompletedPart(1),
+                            CompletedPartFixture.aCompletedPart(2));
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(multipartSessionCommandFactory.createCompletedParts(command))
+                    .willReturn(completedParts);
+            given(sessionReadManager.getMultipartHeader(SESSION_ID)).willReturn(session);
+            given(sessionCommandManager.upsertCompletedParts(session, completedParts))
+                    .willReturn(CompletedPartAppendResult.APPENDED);
+            given(sessionCommandManager.startUploading(session)).willReturn(true);
+
+            // when
+            sut.execute(command);
+
+            // then
+            assertThat(session.status()).isEqualTo(MultipartSessionStatus.UPLOADING);
+            then(sessionCommandManager).should(never()).persist(any(MultipartUploadSession.class));
+            then(sessionHeaderCacheManager).should().invalidate(session);
+        }
+
+        @Test
+        @DisplayName("그 사이 다른 요청이 이미 전이시켰으면 캐시를 다시 무효화하지 않는다")
+        void execute_AlreadyStartedConcurrently_SkipsInvalidation() {
+            // given
+            AddCompletedPartsCommand command =
+                    new AddCompletedPartsCommand(
+                            SESSION_ID, List.of(new PartItem(1, "etag-part-1", 5_242_880L)));
+
+            List<CompletedPart> completedParts = List.of(CompletedPartFixture.aCompletedPart(1));
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(multipartSessionCommandFactory.createCompletedParts(command))
+                    .willReturn(completedParts);
+            given(sessionReadManager.getMultipartHeader(SESSION_ID)).willReturn(session);
+            given(sessionCommandManager.upsertCompletedParts(session, completedParts))
+                    .willReturn(CompletedPartAppendResult.APPENDED);
+            given(sessionCommandManager.startUploading(session)).willReturn(false);
+
+            // when
+            sut.execute(command);
+
+            // then
+            then(sessionHeaderCacheManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("이미 업로드 중인 세션이면 파트만 upsert하고 상태 전이를 요청하지 않는다")
+        void execute_UploadingSession_UpsertsPartsOnly() {
+            // given
+            AddCompletedPartsCommand command =
+                    new AddCompletedPartsCommand(
+                            SESSION_ID, List.of(new PartItem(3, "etag-part-3", 5_242_880L)));
+
+            List<CompletedPart> completedParts = List.of(CompletedPartFixture.aCompletedPart(3));
+            MultipartUploadSession session = MultipartUploadSessionFixture.anUploadingSession();
+
+            given(multipartSessionCommandFactory.createCompletedParts(command))
+                    .willReturn(completedParts);
+            given(sessionReadManager.getMultipartHeader(SESSION_ID)).willReturn(session);
+            given(sessionCommandManager.upsertCompletedParts(session, completedParts))
+                    .willReturn(CompletedPartAppendResult.APPENDED);
+
+            // when
+            sut.execute(command);
+
+            // then
+            then(sessionCommandManager).should(never()).startUploading(session);
+        }
+
+        @Test
+        @DisplayName("요청 안에 같은 파트 번호가 있으면 아무것도 기록하지 않고 예외가 발생한다")
+        void execute_RepeatedPartNumber_ThrowsWithoutWriting() {
+            // given
+            AddCompletedPartsCommand command =
+                    new AddCompletedPartsCommand(
+                            SESSION_ID,
+                            List.of(
+                                    new PartItem(1, "etag-part-1", 5_242_880L),
+                                    new PartItem(1, "etag-part-1b", 5_242_880L)));
+
+            List<CompletedPart> completedParts =
+                    List.of(
+                            CompletedPartFixture.aCompletedPart(1),
+                            CompletedPartFixture.aCompletedPart(1));
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(multipartSessionCommandFactory.createCompletedParts(command))
+                    .willReturn(completedParts);
+            given(sessionReadManager.getMultipartHeader(SESSION_ID)).willReturn(session);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command))
+                    .isInstanceOf(SessionException.class)
+                    .satisfies(
+                            e ->
+                                    assertThat(((SessionException) e).getErrorCode())
+                                            .isEqualTo(SessionErrorCode.PART_NUMBER_DUPLICATE));
+            then(sessionCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("기록 시점에 세션이 완료/중단/만료되어 있으면 SessionException을 던지고 세션을 저장하지 않는다")
+        void execute_SessionNoLongerAccepting_ThrowsSessionException() {
+            // given
+            AddCompletedPartsCommand command =
+                    new AddCompletedPartsCommand(
+                            SESSION_ID, List.of(new PartItem(1, "etag-part-1", 5_242_880L)));
+
+            List<CompletedPart> completedParts = List.of(CompletedPartFixture.aCompletedPart(1));
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+
+            given(multipartSessionCommandFactory.createCompletedParts(command))
+                    .willReturn(completedParts);
+            given(sessionReadManager.getMultipartHeader(SESSION_ID)).willReturn(session);
+            given(sessionCommandManager.upsertCompletedParts(session, completedParts))
+                    .willReturn(CompletedPartAppendResult.SESSION_INACTIVE);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command))
+                    .isInstanceOf(SessionException.class)
+                    .satisfies(
+                            e ->
+                                    assertThat(((SessionException) e).getErrorCode())
+                                            .isEqualTo(SessionErrorCode.INVALID_SESSION_STATUS));
+            then(sessionCommandManager).should(never()).persist(any(MultipartUploadSession.class));
+            then(sessionHeaderCacheManager).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.ryuqq.fileflow.application.common.component.TransactionEventRegistry;
 import com.ryuqq.fileflow.application.common.dto.command.UpdateContext;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteMultipartUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
@@ -33,6 +34,7 @@ class CompleteMultipartUploadSessionServiceTest {
     @Mock private MultipartSessionCommandFactory multipartSessionCommandFactory;
     @Mock private SessionReadManager sessionReadManager;
     @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
     @Mock private SessionExpirationManager sessionExpirationManager;
     @Mock private TransactionEventRegistry transactionEventRegistry;
 
@@ -68,6 +70,7 @@ class CompleteMultipartUploadSessionServiceTest {
             then(multipartSessionCommandFactory).should().createCompleteContext(command);
             then(sessionReadManager).should().getMultipart(sessionId);
             then(sessionCommandManager).should().persist(session);
+            then(sessionHeaderCacheManager).should().invalidate(session);
             then(sessionExpirationManager).should().removeExpiration("MULTIPART", sessionId);
             then(transactionEventRegistry).should().registerAllForPublish(any());
         }
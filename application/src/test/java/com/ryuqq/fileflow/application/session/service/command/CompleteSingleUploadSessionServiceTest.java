@@ -8,6 +8,7 @@ import com.ryuqq.fileflow.application.common.component.TransactionEventRegistry;
 import com.ryuqq.fileflow.application.common.dto.command.UpdateContext;
 import com.ryuqq.fileflow.application.session.dto.command.CompleteSingleUploadSessionCommand;
 import com.ryuqq.fileflow.application.session.factory.command.SingleSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
@@ -33,6 +34,7 @@ class CompleteSingleUploadSessionServiceTest {
     @Mock private SingleSessionCommandFactory singleSessionCommandFactory;
     @Mock private SessionReadManager sessionReadManager;
     @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
     @Mock private SessionExpirationManager sessionExpirationManager;
     @Mock private TransactionEventRegistry transactionEventRegistry;
 
@@ -66,6 +68,7 @@ class CompleteSingleUploadSessionServiceTest {
             then(singleSessionCommandFactory).should().createCompleteContext(command);
             then(sessionReadManager).should().getSingle(sessionId);
             then(sessionCommandManager).should().persist(session);
+            then(sessionHeaderCacheManager).should().invalidate(session);
             then(sessionExpirationManager).should().removeExpiration("SINGLE", sessionId);
             then(transactionEventRegistry).should().registerAllForPublish(any());
         }
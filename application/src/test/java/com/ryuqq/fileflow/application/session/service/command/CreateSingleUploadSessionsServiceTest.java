@@ -0,0 +1,81 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.session.assembler.SessionAssembler;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionCommand;
+import com.ryuqq.fileflow.application.session.dto.command.CreateSingleUploadSessionsCommand;
+import com.ryuqq.fileflow.application.session.dto.response.SingleUploadSessionResponse;
+import com.ryuqq.fileflow.application.session.internal.SingleSessionCreationCoordinator;
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSessionFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateSingleUploadSessionsService 단위 테스트")
+class CreateSingleUploadSessionsServiceTest {
+
+    @InjectMocks private CreateSingleUploadSessionsService sut;
+    @Mock private SingleSessionCreationCoordinator singleSessionCreationCoordinator;
+    @Mock private SessionAssembler sessionAssembler;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("코디네이터로 세션을 일괄 생성하고 응답 목록으로 변환한다")
+        void execute_ValidCommand_ReturnsResponses() {
+            // given
+            CreateSingleUploadSessionCommand item =
+                    new CreateSingleUploadSessionCommand(
+                            "product-image.jpg",
+                            "image/jpeg",
+                            AccessType.PUBLIC,
+                            "product-image",
+                            "commerce-service");
+            CreateSingleUploadSessionsCommand command =
+                    new CreateSingleUploadSessionsCommand(List.of(item, item));
+
+            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
+            SingleUploadSessionResponse response = toResponse(session);
+
+            given(singleSessionCreationCoordinator.createAll(command.sessions()))
+                    .willReturn(List.of(session, session));
+            given(sessionAssembler.toResponse(session)).willReturn(response);
+
+            // when
+            List<SingleUploadSessionResponse> result = sut.execute(command);
+
+            // then
+            assertThat(result).containsExactly(response, response);
+            then(singleSessionCreationCoordinator).should().createAll(command.sessions());
+        }
+
+        private SingleUploadSessionResponse toResponse(SingleUploadSession session) {
+            return new SingleUploadSessionResponse(
+                    session.idValue(),
+                    session.presignedUrlValue(),
+                    session.s3Key(),
+                    session.bucket(),
+                    session.accessType(),
+                    session.fileName(),
+                    session.contentType(),
+                    session.status().name(),
+                    session.expiresAt(),
+                    session.createdAt());
+        }
+    }
+}
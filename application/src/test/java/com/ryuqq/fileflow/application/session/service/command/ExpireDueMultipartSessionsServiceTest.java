@@ -0,0 +1,199 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
+import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
+import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
+import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpireDueMultipartSessionsService 단위 테스트")
+class ExpireDueMultipartSessionsServiceTest {
+
+    @InjectMocks private ExpireDueMultipartSessionsService sut;
+    @Mock private SessionExpirationManager sessionExpirationManager;
+    @Mock private SessionReadManager sessionReadManager;
+    @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private MultipartUploadManager multipartUploadManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("만료 대상이 없으면 empty를 반환한다")
+        void execute_NoDue_ReturnsEmpty() {
+            // given
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("MULTIPART"), any(Instant.class), eq(100)))
+                    .willReturn(List.of());
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result).isEqualTo(SchedulerBatchProcessingResult.empty());
+            then(sessionReadManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("활성 세션만 일괄 만료하고 S3 업로드를 중단한 뒤 대기열에서 삭제한다")
+        void execute_DueSessions_ExpiresActiveAndAborts() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            List<String> dueIds = List.of(session.idValue(), "already-completed");
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("MULTIPART"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionReadManager.findExpiredMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(List.of(session));
+            given(
+                            sessionCommandManager.expireMultipartSessions(
+                                    eq(List.of(session.idValue())), any(Instant.class)))
+                    .willReturn(List.of(session.idValue()));
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.failed()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
+            then(sessionCommandManager)
+                    .should()
+                    .expireMultipartSessions(eq(List.of(session.idValue())), any(Instant.class));
+            then(multipartUploadManager)
+                    .should()
+                    .abortMultipartUploads(List.of(session.uploadRef()));
+            then(sessionExpirationManager).should().acknowledgeExpirations("MULTIPART", dueIds);
+        }
+
+        @Test
+        @DisplayName("활성 세션이 없으면 UPDATE 없이 대기열에서만 삭제한다")
+        void execute_NoActiveSession_OnlyAcknowledges() {
+            // given
+            List<String> dueIds = List.of("already-completed");
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("MULTIPART"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionReadManager.findExpiredMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(List.of());
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.success()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
+            then(sessionCommandManager).shouldHaveNoInteractions();
+            then(sessionExpirationManager).should().acknowledgeExpirations("MULTIPART", dueIds);
+        }
+
+        @Test
+        @DisplayName("S3 중단 실패는 실패로 집계하지만 세션은 대기열에서 삭제한다")
+        void execute_AbortFails_CountsFailureAndAcknowledges() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            List<String> dueIds = List.of(session.idValue());
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("MULTIPART"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionReadManager.findExpiredMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(List.of(session));
+            given(sessionCommandManager.expireMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(dueIds);
+            given(multipartUploadManager.abortMultipartUploads(List.of(session.uploadRef())))
+                    .willReturn(List.of(session.uploadRef()));
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.success()).isZero();
+            assertThat(result.failed()).isEqualTo(1);
+            then(sessionExpirationManager).should().acknowledgeExpirations("MULTIPART", dueIds);
+        }
+
+        @Test
+        @DisplayName("조회 후 완료되어 UPDATE가 건너뛴 세션의 S3 업로드는 중단하지 않는다")
+        void execute_SessionSkippedByUpdate_DoesNotAbort() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            List<String> dueIds = List.of(session.idValue());
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("MULTIPART"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionReadManager.findExpiredMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(List.of(session));
+            given(sessionCommandManager.expireMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(List.of());
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.success()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
+            then(multipartUploadManager).should().abortMultipartUploads(List.of());
+            then(sessionExpirationManager).should().acknowledgeExpirations("MULTIPART", dueIds);
+        }
+
+        @Test
+        @DisplayName("DB 갱신이 실패하면 S3 중단과 대기열 삭제를 하지 않는다")
+        void execute_UpdateFails_SkipsAbortAndAcknowledge() {
+            // given
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            List<String> dueIds = List.of(session.idValue());
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("MULTIPART"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionReadManager.findExpiredMultipartSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(List.of(session));
+            given(sessionCommandManager.expireMultipartSessions(anyList(), any(Instant.class)))
+                    .willThrow(new RuntimeException("DB 장애"));
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.failed()).isEqualTo(1);
+            then(multipartUploadManager).shouldHaveNoInteractions();
+            then(sessionExpirationManager)
+                    .should(never())
+                    .acknowledgeExpirations(anyString(), anyList());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
+import com.ryuqq.fileflow.application.session.manager.client.SessionExpirationManager;
+import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpireDueSingleSessionsService 단위 테스트")
+class ExpireDueSingleSessionsServiceTest {
+
+    @InjectMocks private ExpireDueSingleSessionsService sut;
+    @Mock private SessionExpirationManager sessionExpirationManager;
+    @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("만료 대상이 없으면 DB를 갱신하지 않고 empty를 반환한다")
+        void execute_NoDue_ReturnsEmpty() {
+            // given
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("SINGLE"), any(Instant.class), eq(100)))
+                    .willReturn(List.of());
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result).isEqualTo(SchedulerBatchProcessingResult.empty());
+            then(sessionCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("선점한 세션을 한 번에 만료하고 실제 갱신 건수만 성공으로 집계한다")
+        void execute_DueSessions_ExpiresInBulkAndAcknowledges() {
+            // given
+            List<String> dueIds = List.of("s-1", "s-2", "s-3");
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("SINGLE"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionCommandManager.expireSingleSessions(eq(dueIds), any(Instant.class)))
+                    .willReturn(2);
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.success()).isEqualTo(2);
+            assertThat(result.failed()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
+            then(sessionHeaderCacheManager)
+                    .should()
+                    .invalidateAll(eq(dueIds), any(Instant.class));
+            then(sessionExpirationManager).should().acknowledgeExpirations("SINGLE", dueIds);
+        }
+
+        @Test
+        @DisplayName("DB 갱신이 실패하면 대기열에서 삭제하지 않고 전체를 실패로 집계한다")
+        void execute_UpdateFails_DoesNotAcknowledge() {
+            // given
+            List<String> dueIds = List.of("s-1", "s-2");
+            given(
+                            sessionExpirationManager.claimDueExpirations(
+                                    eq("SINGLE"), any(Instant.class), eq(100)))
+                    .willReturn(dueIds);
+            given(sessionCommandManager.expireSingleSessions(eq(dueIds), any(Instant.class)))
+                    .willThrow(new RuntimeException("DB 장애"));
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(100);
+
+            // then
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(2);
+            then(sessionExpirationManager)
+                    .should(never())
+                    .acknowledgeExpirations(anyString(), anyList());
+            then(sessionHeaderCacheManager).shouldHaveNoInteractions();
+        }
+    }
+}
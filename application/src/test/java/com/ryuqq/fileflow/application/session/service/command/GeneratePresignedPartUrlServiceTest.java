@@ -49,7 +49,7 @@ class GeneratePresignedPartUrlServiceTest {
             PartPresignedUrlSpec spec = PartPresignedUrlSpecFixture.aPartPresignedUrlSpec();
             String expectedUrl = "https://s3.presigned-part-url.com/test";
 
-            given(sessionReadManager.getMultipart(sessionId)).willReturn(session);
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
             given(multipartSessionCommandFactory.createPartPresignedUrlSpec(session, partNumber))
                     .willReturn(spec);
             given(multipartUploadManager.generatePresignedPartUrl(spec)).willReturn(expectedUrl);
@@ -61,7 +61,7 @@ class GeneratePresignedPartUrlServiceTest {
             assertThat(result.presignedUrl()).isEqualTo(expectedUrl);
             assertThat(result.partNumber()).isEqualTo(spec.partNumber());
             assertThat(result.expiresInSeconds()).isEqualTo(spec.ttlSeconds());
-            then(sessionReadManager).should().getMultipart(sessionId);
+            then(sessionReadManager).should().getMultipartHeader(sessionId);
             then(multipartSessionCommandFactory)
                     .should()
                     .createPartPresignedUrlSpec(session, partNumber);
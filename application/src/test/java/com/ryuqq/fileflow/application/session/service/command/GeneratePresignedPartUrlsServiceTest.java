@@ -0,0 +1,96 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.session.dto.command.GeneratePresignedPartUrlsCommand;
+import com.ryuqq.fileflow.application.session.dto.response.PresignedPartUrlResponse;
+import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpec;
+import com.ryuqq.fileflow.domain.session.vo.PartPresignedUrlRangeSpecFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GeneratePresignedPartUrlsService 단위 테스트")
+class GeneratePresignedPartUrlsServiceTest {
+
+    @InjectMocks private GeneratePresignedPartUrlsService sut;
+    @Mock private SessionReadManager sessionReadManager;
+    @Mock private MultipartSessionCommandFactory multipartSessionCommandFactory;
+    @Mock private MultipartUploadManager multipartUploadManager;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("세션을 한 번만 조회하고 범위 전체 URL을 파트 번호 순서로 반환한다")
+        void execute_ValidRange_ReturnsUrlsInPartOrder() {
+            // given
+            String sessionId = "multipart-session-001";
+            GeneratePresignedPartUrlsCommand command =
+                    new GeneratePresignedPartUrlsCommand(sessionId, 3, 5);
+
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            PartPresignedUrlRangeSpec spec =
+                    PartPresignedUrlRangeSpecFixture.aPartPresignedUrlRangeSpec(3, 5);
+
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(multipartSessionCommandFactory.createPartPresignedUrlRangeSpec(session, 3, 5))
+                    .willReturn(spec);
+            given(multipartUploadManager.generatePresignedPartUrls(spec))
+                    .willReturn(List.of("url-3", "url-4", "url-5"));
+
+            // when
+            List<PresignedPartUrlResponse> result = sut.execute(command);
+
+            // then
+            assertThat(result)
+                    .extracting(PresignedPartUrlResponse::partNumber)
+                    .containsExactly(3, 4, 5);
+            assertThat(result)
+                    .extracting(PresignedPartUrlResponse::presignedUrl)
+                    .containsExactly("url-3", "url-4", "url-5");
+            assertThat(result)
+                    .allSatisfy(r -> assertThat(r.expiresInSeconds()).isEqualTo(3600L));
+            then(sessionReadManager).should().getMultipartHeader(sessionId);
+        }
+
+        @Test
+        @DisplayName("완료된 세션이면 URL을 생성하지 않고 SessionException을 던진다")
+        void execute_CompletedSession_ThrowsSessionException() {
+            // given
+            String sessionId = "multipart-session-001";
+            GeneratePresignedPartUrlsCommand command =
+                    new GeneratePresignedPartUrlsCommand(sessionId, 1, 10);
+
+            MultipartUploadSession session = MultipartUploadSessionFixture.aCompletedSession();
+            PartPresignedUrlRangeSpec spec =
+                    PartPresignedUrlRangeSpecFixture.aPartPresignedUrlRangeSpec(1, 10);
+
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(multipartSessionCommandFactory.createPartPresignedUrlRangeSpec(session, 1, 10))
+                    .willReturn(spec);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command)).isInstanceOf(SessionException.class);
+            then(multipartUploadManager).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -3,14 +3,13 @@ package com.ryuqq.fileflow.application.session.service.command;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
-import static org.mockito.BDDMockito.willThrow;
 
-import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
-import com.ryuqq.fileflow.application.session.factory.command.MultipartSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
@@ -37,11 +36,21 @@ class RecoverExpiredMultipartSessionServiceTest {
 
     @InjectMocks private RecoverExpiredMultipartSessionService sut;
     @Mock private SessionReadManager sessionReadManager;
-    @Mock private MultipartSessionCommandFactory multipartSessionCommandFactory;
     @Mock private SessionCommandManager sessionCommandManager;
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
     @Mock private MultipartUploadManager multipartUploadManager;
 
-    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static MultipartUploadSession secondSession() {
+        return MultipartUploadSession.forNew(
+                MultipartUploadSessionId.of("multipart-session-002"),
+                UploadTargetFixture.anInternalUploadTarget(),
+                "upload-id-002",
+                5_242_880L,
+                "product-image",
+                "commerce-service",
+                MultipartUploadSessionFixture.defaultExpiresAt(),
+                MultipartUploadSessionFixture.defaultNow());
+    }
 
     @Nested
     @DisplayName("execute 메서드")
@@ -58,92 +67,95 @@ class RecoverExpiredMultipartSessionServiceTest {
             assertThat(result.total()).isZero();
             assertThat(result.success()).isZero();
             assertThat(result.failed()).isZero();
+            then(multipartUploadManager).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("만료된 세션을 S3 abort 후 expire 처리한다")
-        void execute_ExpiredSession_AbortsAndExpires() {
-            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+        @DisplayName("만료된 세션을 일괄 만료한 뒤 S3 업로드를 한 번에 중단한다")
+        void execute_ExpiredSessions_ExpiresThenAbortsInBatch() {
+            MultipartUploadSession session1 = MultipartUploadSessionFixture.anInitiatedSession();
+            MultipartUploadSession session2 = secondSession();
+            List<String> sessionIds = List.of(session1.idValue(), session2.idValue());
             given(sessionReadManager.findExpiredMultipartSessions(any(Instant.class), anyInt()))
-                    .willReturn(List.of(session));
-            given(multipartSessionCommandFactory.createExpireContext(session.idValue()))
-                    .willReturn(new StatusChangeContext<>(session.idValue(), NOW));
+                    .willReturn(List.of(session1, session2));
+            given(sessionCommandManager.expireMultipartSessions(eq(sessionIds), any(Instant.class)))
+                    .willReturn(sessionIds);
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
-            assertThat(result.total()).isEqualTo(1);
-            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(2);
             assertThat(result.failed()).isZero();
+            then(sessionCommandManager)
+                    .should()
+                    .expireMultipartSessions(eq(sessionIds), any(Instant.class));
             then(multipartUploadManager)
                     .should()
-                    .abortMultipartUpload(session.s3Key(), session.uploadId());
-            then(sessionCommandManager).should().persist(session);
+                    .abortMultipartUploads(List.of(session1.uploadRef(), session2.uploadRef()));
+            then(sessionHeaderCacheManager)
+                    .should()
+                    .invalidateAll(eq(sessionIds), any(Instant.class));
         }
 
         @Test
-        @DisplayName("S3 abort 중 예외 발생 시 failedCount를 증가시킨다")
-        void execute_AbortThrows_IncrementsFailedCount() {
-            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+        @DisplayName("S3 중단에 실패한 업로드만 실패로 집계한다")
+        void execute_PartialAbortFailure_CountsFailedUploads() {
+            MultipartUploadSession session1 = MultipartUploadSessionFixture.anInitiatedSession();
+            MultipartUploadSession session2 = secondSession();
             given(sessionReadManager.findExpiredMultipartSessions(any(Instant.class), anyInt()))
-                    .willReturn(List.of(session));
-            willThrow(new RuntimeException("S3 abort 실패"))
-                    .given(multipartUploadManager)
-                    .abortMultipartUpload(session.s3Key(), session.uploadId());
+                    .willReturn(List.of(session1, session2));
+            given(sessionCommandManager.expireMultipartSessions(anyList(), any(Instant.class)))
+                    .willReturn(List.of(session1.idValue(), session2.idValue()));
+            given(multipartUploadManager.abortMultipartUploads(anyList()))
+                    .willReturn(List.of(session2.uploadRef()));
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
-            assertThat(result.total()).isEqualTo(1);
-            assertThat(result.success()).isZero();
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(1);
             assertThat(result.failed()).isEqualTo(1);
-            then(sessionCommandManager).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("expire 처리 중 예외 발생 시 failedCount를 증가시킨다")
-        void execute_ExpireThrows_IncrementsFailedCount() {
-            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+        @DisplayName("조회 후 완료되어 UPDATE가 건너뛴 세션의 S3 업로드는 중단하지 않는다")
+        void execute_SessionSkippedByUpdate_AbortsOnlyExpired() {
+            MultipartUploadSession session1 = MultipartUploadSessionFixture.anInitiatedSession();
+            MultipartUploadSession session2 = secondSession();
             given(sessionReadManager.findExpiredMultipartSessions(any(Instant.class), anyInt()))
-                    .willReturn(List.of(session));
-            given(multipartSessionCommandFactory.createExpireContext(session.idValue()))
-                    .willThrow(new RuntimeException("expire context 실패"));
+                    .willReturn(List.of(session1, session2));
+            given(sessionCommandManager.expireMultipartSessions(anyList(), any(Instant.class)))
+                    .willReturn(List.of(session2.idValue()));
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
-            assertThat(result.total()).isEqualTo(1);
-            assertThat(result.success()).isZero();
-            assertThat(result.failed()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.failed()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
+            then(multipartUploadManager)
+                    .should()
+                    .abortMultipartUploads(List.of(session2.uploadRef()));
+            then(sessionHeaderCacheManager)
+                    .should()
+                    .invalidateAll(eq(List.of(session2.idValue())), any(Instant.class));
         }
 
         @Test
-        @DisplayName("복수 세션 중 일부 성공, 일부 실패 시 각각 카운트한다")
-        void execute_MixedResults_CountsCorrectly() {
-            MultipartUploadSession session1 = MultipartUploadSessionFixture.anInitiatedSession();
-            MultipartUploadSession session2 =
-                    MultipartUploadSession.forNew(
-                            MultipartUploadSessionId.of("multipart-session-002"),
-                            UploadTargetFixture.anInternalUploadTarget(),
-                            "upload-id-002",
-                            5_242_880L,
-                            "product-image",
-                            "commerce-service",
-                            MultipartUploadSessionFixture.defaultExpiresAt(),
-                            MultipartUploadSessionFixture.defaultNow());
+        @DisplayName("일괄 UPDATE가 실패하면 S3 업로드를 중단하지 않는다")
+        void execute_UpdateThrows_SkipsAbort() {
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
             given(sessionReadManager.findExpiredMultipartSessions(any(Instant.class), anyInt()))
-                    .willReturn(List.of(session1, session2));
-            willDoNothing()
-                    .given(multipartUploadManager)
-                    .abortMultipartUpload(session1.s3Key(), session1.uploadId());
-            given(multipartSessionCommandFactory.createExpireContext(session1.idValue()))
-                    .willReturn(new StatusChangeContext<>(session1.idValue(), NOW));
-            willThrow(new RuntimeException("S3 abort 실패"))
-                    .given(multipartUploadManager)
-                    .abortMultipartUpload(session2.s3Key(), session2.uploadId());
+                    .willReturn(List.of(session));
+            given(sessionCommandManager.expireMultipartSessions(anyList(), any(Instant.class)))
+                    .willThrow(new RuntimeException("DB 장애"));
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
-            assertThat(result.total()).isEqualTo(2);
-            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.success()).isZero();
             assertThat(result.failed()).isEqualTo(1);
+            then(multipartUploadManager).shouldHaveNoInteractions();
+            then(sessionHeaderCacheManager).shouldHaveNoInteractions();
         }
     }
 }
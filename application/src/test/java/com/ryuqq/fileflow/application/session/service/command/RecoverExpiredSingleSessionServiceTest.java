@@ -3,12 +3,13 @@ package com.ryuqq.fileflow.application.session.service.command;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
-import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
-import com.ryuqq.fileflow.application.session.factory.command.SingleSessionCommandFactory;
+import com.ryuqq.fileflow.application.session.manager.cache.SessionHeaderCacheManager;
 import com.ryuqq.fileflow.application.session.manager.command.SessionCommandManager;
 import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
 import com.ryuqq.fileflow.domain.session.aggregate.SingleUploadSession;
@@ -34,10 +35,8 @@ class RecoverExpiredSingleSessionServiceTest {
 
     @InjectMocks private RecoverExpiredSingleSessionService sut;
     @Mock private SessionReadManager sessionReadManager;
-    @Mock private SingleSessionCommandFactory singleSessionCommandFactory;
     @Mock private SessionCommandManager sessionCommandManager;
-
-    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    @Mock private SessionHeaderCacheManager sessionHeaderCacheManager;
 
     @Nested
     @DisplayName("execute 메서드")
@@ -54,67 +53,70 @@ class RecoverExpiredSingleSessionServiceTest {
             assertThat(result.total()).isZero();
             assertThat(result.success()).isZero();
             assertThat(result.failed()).isZero();
+            then(sessionCommandManager).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("만료된 세션을 성공적으로 expire 처리한다")
-        void execute_ExpiredSession_ExpiresSuccessfully() {
-            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
+        @DisplayName("만료된 세션을 한 번의 UPDATE로 일괄 만료하고 캐시를 무효화한다")
+        void execute_ExpiredSessions_ExpiresInOneUpdate() {
+            SingleUploadSession session1 = SingleUploadSessionFixture.aCreatedSession();
+            SingleUploadSession session2 =
+                    SingleUploadSession.forNew(
+                            SingleUploadSessionId.of("single-session-002"),
+                            UploadTargetFixture.anUploadTarget(),
+                            "https://s3.presigned-url.com/test-2",
+                            "product-image",
+                            "commerce-service",
+                            SingleUploadSessionFixture.defaultExpiresAt(),
+                            SingleUploadSessionFixture.defaultNow());
+            List<String> sessionIds = List.of(session1.idValue(), session2.idValue());
             given(sessionReadManager.findExpiredSingleSessions(any(Instant.class), anyInt()))
-                    .willReturn(List.of(session));
-            given(singleSessionCommandFactory.createExpireContext(session.idValue()))
-                    .willReturn(new StatusChangeContext<>(session.idValue(), NOW));
+                    .willReturn(List.of(session1, session2));
+            given(sessionCommandManager.expireSingleSessions(eq(sessionIds), any(Instant.class)))
+                    .willReturn(2);
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
-            assertThat(result.total()).isEqualTo(1);
-            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(2);
             assertThat(result.failed()).isZero();
-            then(sessionCommandManager).should().persist(session);
+            then(sessionHeaderCacheManager)
+                    .should()
+                    .invalidateAll(eq(sessionIds), any(Instant.class));
         }
 
         @Test
-        @DisplayName("expire 처리 중 예외 발생 시 failedCount를 증가시킨다")
-        void execute_ExpireThrows_IncrementsFailedCount() {
+        @DisplayName("조회 후 완료되어 UPDATE가 건너뛴 세션은 성공으로 집계하지 않는다")
+        void execute_SomeSkippedByUpdate_CountsOnlyUpdatedAsSuccess() {
             SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
             given(sessionReadManager.findExpiredSingleSessions(any(Instant.class), anyInt()))
                     .willReturn(List.of(session));
-            given(singleSessionCommandFactory.createExpireContext(session.idValue()))
-                    .willThrow(new RuntimeException("expire 실패"));
+            given(sessionCommandManager.expireSingleSessions(anyList(), any(Instant.class)))
+                    .willReturn(0);
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
             assertThat(result.total()).isEqualTo(1);
             assertThat(result.success()).isZero();
-            assertThat(result.failed()).isEqualTo(1);
-            then(sessionCommandManager).shouldHaveNoInteractions();
+            assertThat(result.failed()).isZero();
+            assertThat(result.skipped()).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("복수 세션 중 일부 성공, 일부 실패 시 각각 카운트한다")
-        void execute_MixedResults_CountsCorrectly() {
-            SingleUploadSession session1 = SingleUploadSessionFixture.aCreatedSession();
-            SingleUploadSession session2 =
-                    SingleUploadSession.forNew(
-                            SingleUploadSessionId.of("single-session-002"),
-                            UploadTargetFixture.anUploadTarget(),
-                            "https://s3.presigned-url.com/test-2",
-                            "product-image",
-                            "commerce-service",
-                            SingleUploadSessionFixture.defaultExpiresAt(),
-                            SingleUploadSessionFixture.defaultNow());
+        @DisplayName("일괄 UPDATE가 실패하면 전체를 실패로 집계하고 캐시를 건드리지 않는다")
+        void execute_UpdateThrows_CountsAllFailed() {
+            SingleUploadSession session = SingleUploadSessionFixture.aCreatedSession();
             given(sessionReadManager.findExpiredSingleSessions(any(Instant.class), anyInt()))
-                    .willReturn(List.of(session1, session2));
-            given(singleSessionCommandFactory.createExpireContext(session1.idValue()))
-                    .willReturn(new StatusChangeContext<>(session1.idValue(), NOW));
-            given(singleSessionCommandFactory.createExpireContext(session2.idValue()))
-                    .willThrow(new RuntimeException("expire 실패"));
+                    .willReturn(List.of(session));
+            given(sessionCommandManager.expireSingleSessions(anyList(), any(Instant.class)))
+                    .willThrow(new RuntimeException("DB 장애"));
 
             SchedulerBatchProcessingResult result = sut.execute(100);
 
-            assertThat(result.total()).isEqualTo(2);
-            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.success()).isZero();
             assertThat(result.failed()).isEqualTo(1);
+            then(sessionHeaderCacheManager).shouldHaveNoInteractions();
         }
     }
 }
@@ -0,0 +1,146 @@
+package com.ryuqq.fileflow.application.session.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.dto.command.SweepOrphanedMultipartUploadsCommand;
+import com.ryuqq.fileflow.application.session.manager.client.MultipartUploadManager;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListing;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadListingPage;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadReclaimResult;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SweepOrphanedMultipartUploadsService 단위 테스트")
+class SweepOrphanedMultipartUploadsServiceTest {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final Instant OLD = Instant.parse("2026-01-01T00:00:00Z");
+
+    @InjectMocks private SweepOrphanedMultipartUploadsService sut;
+    @Mock private MultipartUploadManager multipartUploadManager;
+    @Mock private SessionReadManager sessionReadManager;
+
+    private static MultipartUploadListing listing(String uploadId, Instant initiatedAt) {
+        return MultipartUploadListing.of(
+                MultipartUploadRef.of("public/2026/01/" + uploadId + ".zip", uploadId),
+                initiatedAt);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("진행 중인 업로드가 없으면 total 0을 반환한다")
+        void execute_NoUploads_ReturnsEmpty() {
+            // given
+            given(multipartUploadManager.listMultipartUploads(null, null, PAGE_SIZE))
+                    .willReturn(MultipartUploadListingPage.last(List.of()));
+            given(sessionReadManager.findActiveMultipartUploadIds(List.of())).willReturn(Set.of());
+            given(multipartUploadManager.reclaimMultipartUploads(List.of()))
+                    .willReturn(MultipartUploadReclaimResult.empty());
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    sut.execute(SweepOrphanedMultipartUploadsCommand.of(PAGE_SIZE, 100, 3600));
+
+            // then
+            assertThat(result.total()).isZero();
+        }
+
+        @Test
+        @DisplayName("활성 세션이 없고 유예 시간이 지난 업로드만 회수한다")
+        void execute_ReclaimsOnlyOrphans() {
+            // given
+            MultipartUploadListing active = listing("upload-active", OLD);
+            MultipartUploadListing orphan = listing("upload-orphan", OLD);
+            MultipartUploadListing fresh = listing("upload-fresh", Instant.now());
+            given(multipartUploadManager.listMultipartUploads(null, null, PAGE_SIZE))
+                    .willReturn(MultipartUploadListingPage.last(List.of(active, orphan, fresh)));
+            given(
+                            sessionReadManager.findActiveMultipartUploadIds(
+                                    List.of("upload-active", "upload-orphan")))
+                    .willReturn(Set.of("upload-active"));
+            given(multipartUploadManager.reclaimMultipartUploads(List.of(orphan.ref())))
+                    .willReturn(MultipartUploadReclaimResult.of(List.of(), 10_485_760L));
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    sut.execute(SweepOrphanedMultipartUploadsCommand.of(PAGE_SIZE, 100, 3600));
+
+            // then
+            assertThat(result).isEqualTo(SchedulerBatchProcessingResult.of(1, 1, 0));
+        }
+
+        @Test
+        @DisplayName("다음 페이지 마커로 이어서 조회하고 중단 실패 건을 집계한다")
+        void execute_FollowsMarkersAndCountsFailures() {
+            // given
+            MultipartUploadListing first = listing("upload-a", OLD);
+            MultipartUploadListing second = listing("upload-b", OLD);
+            given(multipartUploadManager.listMultipartUploads(null, null, PAGE_SIZE))
+                    .willReturn(
+                            MultipartUploadListingPage.of(
+                                    List.of(first), first.ref().s3Key(), "upload-a"));
+            given(
+                            multipartUploadManager.listMultipartUploads(
+                                    first.ref().s3Key(), "upload-a", PAGE_SIZE))
+                    .willReturn(MultipartUploadListingPage.last(List.of(second)));
+            given(sessionReadManager.findActiveMultipartUploadIds(anyList())).willReturn(Set.of());
+            given(multipartUploadManager.reclaimMultipartUploads(List.of(first.ref())))
+                    .willReturn(MultipartUploadReclaimResult.of(List.of(), 5_242_880L));
+            given(multipartUploadManager.reclaimMultipartUploads(List.of(second.ref())))
+                    .willReturn(MultipartUploadReclaimResult.of(List.of(second.ref()), 0L));
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    sut.execute(SweepOrphanedMultipartUploadsCommand.of(PAGE_SIZE, 100, 3600));
+
+            // then
+            assertThat(result).isEqualTo(SchedulerBatchProcessingResult.of(2, 1, 1));
+        }
+
+        @Test
+        @DisplayName("실행당 최대 중단 수에 도달하면 다음 페이지를 조회하지 않는다")
+        void execute_StopsAtMaxAborts() {
+            // given
+            MultipartUploadListing first = listing("upload-a", OLD);
+            MultipartUploadListing second = listing("upload-b", OLD);
+            given(multipartUploadManager.listMultipartUploads(null, null, PAGE_SIZE))
+                    .willReturn(
+                            MultipartUploadListingPage.of(
+                                    List.of(first, second), second.ref().s3Key(), "upload-b"));
+            given(sessionReadManager.findActiveMultipartUploadIds(anyList())).willReturn(Set.of());
+            given(multipartUploadManager.reclaimMultipartUploads(List.of(first.ref())))
+                    .willReturn(MultipartUploadReclaimResult.of(List.of(), 5_242_880L));
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    sut.execute(SweepOrphanedMultipartUploadsCommand.of(PAGE_SIZE, 1, 3600));
+
+            // then
+            assertThat(result).isEqualTo(SchedulerBatchProcessingResult.of(1, 1, 0));
+            then(multipartUploadManager)
+                    .should(never())
+                    .listMultipartUploads(second.ref().s3Key(), "upload-b", PAGE_SIZE);
+        }
+    }
+}
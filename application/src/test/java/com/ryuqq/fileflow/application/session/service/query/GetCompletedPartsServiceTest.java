@@ -0,0 +1,95 @@
+package com.ryuqq.fileflow.application.session.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.fileflow.application.common.response.SliceResponse;
+import com.ryuqq.fileflow.application.session.assembler.SessionAssembler;
+import com.ryuqq.fileflow.application.session.dto.query.CompletedPartSearchParams;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionResponse.CompletedPartResponse;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.exception.SessionNotFoundException;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCompletedPartsService 단위 테스트")
+class GetCompletedPartsServiceTest {
+
+    @InjectMocks private GetCompletedPartsService sut;
+    @Mock private SessionReadManager sessionReadManager;
+    @Mock private SessionAssembler sessionAssembler;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("커서 이후 파트를 size + 1개 조회해 슬라이스로 변환한다")
+        void execute_ValidParams_ReturnsSlice() {
+            // given
+            String sessionId = "multipart-session-001";
+            CompletedPartSearchParams params = CompletedPartSearchParams.of(sessionId, 10, 2);
+            MultipartUploadSession session = MultipartUploadSessionFixture.anUploadingSession();
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            List<CompletedPart> parts =
+                    List.of(
+                            CompletedPart.of(11, "etag-11", 100L, createdAt),
+                            CompletedPart.of(12, "etag-12", 100L, createdAt),
+                            CompletedPart.of(13, "etag-13", 100L, createdAt));
+            SliceResponse<CompletedPartResponse> expected =
+                    SliceResponse.of(
+                            List.of(
+                                    new CompletedPartResponse(11, "etag-11", 100L),
+                                    new CompletedPartResponse(12, "etag-12", 100L)),
+                            2,
+                            true,
+                            "12");
+
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(sessionReadManager.findCompletedParts(sessionId, 10, 3)).willReturn(parts);
+            given(sessionAssembler.toPartSlice(parts, 2)).willReturn(expected);
+
+            // when
+            SliceResponse<CompletedPartResponse> result = sut.execute(params);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("세션이 없으면 SessionNotFoundException을 던지고 파트를 조회하지 않는다")
+        void execute_NonExistingSession_ThrowsSessionNotFoundException() {
+            // given
+            String sessionId = "non-existing-session";
+            CompletedPartSearchParams params = CompletedPartSearchParams.of(sessionId, null, null);
+
+            given(sessionReadManager.getMultipartHeader(sessionId))
+                    .willThrow(new SessionNotFoundException(sessionId));
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(params))
+                    .isInstanceOf(SessionNotFoundException.class);
+            then(sessionReadManager)
+                    .should(never())
+                    .findCompletedParts(anyString(), anyInt(), anyInt());
+        }
+    }
+}
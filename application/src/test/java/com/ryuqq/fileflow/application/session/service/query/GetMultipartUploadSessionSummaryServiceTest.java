@@ -0,0 +1,73 @@
+package com.ryuqq.fileflow.application.session.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.session.assembler.SessionAssembler;
+import com.ryuqq.fileflow.application.session.dto.response.MultipartUploadSessionSummaryResponse;
+import com.ryuqq.fileflow.application.session.manager.query.SessionReadManager;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSession;
+import com.ryuqq.fileflow.domain.session.aggregate.MultipartUploadSessionFixture;
+import com.ryuqq.fileflow.domain.session.vo.CompletedPartsSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetMultipartUploadSessionSummaryService 단위 테스트")
+class GetMultipartUploadSessionSummaryServiceTest {
+
+    @InjectMocks private GetMultipartUploadSessionSummaryService sut;
+    @Mock private SessionReadManager sessionReadManager;
+    @Mock private SessionAssembler sessionAssembler;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("파트 목록 없이 세션 헤더와 파트 집계로 요약 응답을 만든다")
+        void execute_ValidSessionId_ReturnsSummaryWithoutLoadingParts() {
+            // given
+            String sessionId = "multipart-session-001";
+            MultipartUploadSession session = MultipartUploadSessionFixture.anInitiatedSession();
+            CompletedPartsSummary summary = CompletedPartsSummary.of(3, 15_728_640L, 3);
+            MultipartUploadSessionSummaryResponse expectedResponse =
+                    new MultipartUploadSessionSummaryResponse(
+                            session.idValue(),
+                            session.uploadId(),
+                            session.s3Key(),
+                            session.bucket(),
+                            session.accessType(),
+                            session.fileName(),
+                            session.contentType(),
+                            session.partSize(),
+                            session.status().name(),
+                            3,
+                            15_728_640L,
+                            3,
+                            session.expiresAt(),
+                            session.createdAt());
+
+            given(sessionReadManager.getMultipartHeader(sessionId)).willReturn(session);
+            given(sessionReadManager.summarizeCompletedParts(sessionId)).willReturn(summary);
+            given(sessionAssembler.toSummaryResponse(session, summary))
+                    .willReturn(expectedResponse);
+
+            // when
+            MultipartUploadSessionSummaryResponse result = sut.execute(sessionId);
+
+            // then
+            assertThat(result).isEqualTo(expectedResponse);
+            then(sessionReadManager).should().getMultipartHeader(sessionId);
+            then(sessionReadManager).shouldHaveNoMoreInteractions();
+        }
+    }
+}
@@ -50,7 +50,7 @@ class GetSingleUploadSessionServiceTest {
                             session.expiresAt(),
                             session.createdAt());
 
-            given(sessionReadManager.getSingle(sessionId)).willReturn(session);
+            given(sessionReadManager.getSingleHeader(sessionId)).willReturn(session);
             given(sessionAssembler.toResponse(session)).willReturn(expectedResponse);
 
             // when
@@ -58,7 +58,7 @@ class GetSingleUploadSessionServiceTest {
 
             // then
             assertThat(result).isEqualTo(expectedResponse);
-            then(sessionReadManager).should().getSingle(sessionId);
+            then(sessionReadManager).should().getSingleHeader(sessionId);
             then(sessionAssembler).should().toResponse(session);
         }
     }
@@ -1,15 +1,20 @@
 package com.ryuqq.fileflow.application.transform.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.fileflow.application.common.manager.StorageBucketManager;
 import com.ryuqq.fileflow.application.common.time.TimeProvider;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageProcessingResult;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageTransformResult;
+import com.ryuqq.fileflow.application.transform.dto.result.TransformPipelineCapacity;
+import com.ryuqq.fileflow.application.transform.manager.client.FileStorageCopyManager;
 import com.ryuqq.fileflow.application.transform.manager.client.FileStorageDownloadManager;
 import com.ryuqq.fileflow.application.transform.manager.client.FileStorageUploadManager;
 import com.ryuqq.fileflow.application.transform.manager.client.ImageProcessingManager;
@@ -17,9 +22,14 @@ import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
 import com.ryuqq.fileflow.domain.asset.aggregate.AssetFixture;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
+import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
+import com.ryuqq.fileflow.domain.transform.vo.TransformType;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +49,7 @@ class ImageTransformFacadeTest {
     @Mock private FileStorageDownloadManager fileStorageDownloadManager;
     @Mock private ImageProcessingManager imageProcessingManager;
     @Mock private FileStorageUploadManager fileStorageUploadManager;
+    @Mock private FileStorageCopyManager fileStorageCopyManager;
     @Mock private StorageBucketManager storageBucketManager;
 
     private ImageTransformFacade sut;
@@ -46,11 +57,14 @@ class ImageTransformFacadeTest {
     @BeforeEach
     void setUp() {
         TimeProvider timeProvider = new TimeProvider(Clock.fixed(NOW, ZoneOffset.UTC));
+        given(imageProcessingManager.pipelineCapacity())
+                .willReturn(new TransformPipelineCapacity(1, 1, 1, Duration.ofSeconds(5)));
         sut =
                 new ImageTransformFacade(
                         fileStorageDownloadManager,
                         imageProcessingManager,
                         fileStorageUploadManager,
+                        fileStorageCopyManager,
                         storageBucketManager,
                         timeProvider);
     }
@@ -141,4 +155,207 @@ class ImageTransformFacadeTest {
             then(fileStorageUploadManager).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("transformAsync 메서드")
+    class TransformAsyncTest {
+
+        @Test
+        @DisplayName("성공: 파이프라인 단계를 거쳐 성공 결과로 완료된다")
+        void transformAsync_Success_CompletesWithSuccessResult() {
+            // given
+            Asset sourceAsset = AssetFixture.anAsset();
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+
+            byte[] sourceBytes = "source-image-bytes".getBytes();
+            given(fileStorageDownloadManager.download(sourceAsset.bucket(), sourceAsset.s3Key()))
+                    .willReturn(sourceBytes);
+            byte[] processedBytes = "processed-image-bytes".getBytes();
+            given(imageProcessingManager.process(sourceBytes, request.type(), request.params()))
+                    .willReturn(
+                            new ImageProcessingResult(
+                                    processedBytes, 800, 600, "image/png", "png"));
+            given(storageBucketManager.getBucket()).willReturn("test-bucket");
+            given(
+                            fileStorageUploadManager.upload(
+                                    eq("test-bucket"),
+                                    anyString(),
+                                    eq(processedBytes),
+                                    eq("image/png")))
+                    .willReturn("\"etag-result\"");
+
+            // when
+            ImageTransformResult result = sut.transformAsync(sourceAsset, request).join();
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(result.fileInfo().etag()).isEqualTo("\"etag-result\"");
+        }
+
+        @Test
+        @DisplayName("성공: 실패한 요청이 슬롯을 반환하여 다음 요청이 진행된다")
+        void transformAsync_FailureReleasesSlots_NextRequestProceeds() {
+            // given
+            Asset sourceAsset = AssetFixture.anAsset();
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+
+            given(fileStorageDownloadManager.download(sourceAsset.bucket(), sourceAsset.s3Key()))
+                    .willThrow(new RuntimeException("S3 download failed"));
+
+            // when
+            ImageTransformResult first = sut.transformAsync(sourceAsset, request).join();
+            ImageTransformResult second = sut.transformAsync(sourceAsset, request).join();
+
+            // then
+            assertThat(first.success()).isFalse();
+            assertThat(second.success()).isFalse();
+            assertThat(second.errorMessage()).isEqualTo("S3 download failed");
+            then(fileStorageUploadManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("destroy 메서드")
+    class DestroyTest {
+
+        @Test
+        @DisplayName("파이프라인에서 진행 중인 요청이 끝날 때까지 기다린다")
+        void destroy_InFlightRequest_DrainsBeforeReturning() throws InterruptedException {
+            // given
+            Asset sourceAsset = AssetFixture.anAsset();
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+
+            given(fileStorageDownloadManager.download(sourceAsset.bucket(), sourceAsset.s3Key()))
+                    .willAnswer(
+                            invocation -> {
+                                Thread.sleep(200);
+                                throw new RuntimeException("S3 download failed");
+                            });
+            CompletableFuture<ImageTransformResult> inFlight =
+                    sut.transformAsync(sourceAsset, request);
+
+            // when
+            sut.destroy();
+
+            // then
+            assertThat(inFlight).isDone();
+            assertThat(inFlight.join().errorMessage()).isEqualTo("S3 download failed");
+        }
+    }
+
+    @Nested
+    @DisplayName("재인코딩 생략 (서버 측 복사)")
+    class NoOpCopyTest {
+
+        private static final byte[] JPEG_800X600_HEADER = {
+            (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xC0, 0x00, 0x11, 0x08, 0x02, 0x58, 0x03,
+            0x20
+        };
+
+        @Test
+        @DisplayName("성공: 같은 포맷으로의 CONVERT는 다운로드 없이 원본을 복사한다")
+        void transform_ConvertToSameFormat_CopiesSource() {
+            // given
+            Asset sourceAsset = AssetFixture.anAsset();
+            TransformRequest request =
+                    TransformRequest.forNew(
+                            TransformRequestId.of("transform-copy"),
+                            sourceAsset.id(),
+                            "image/jpeg",
+                            TransformType.CONVERT,
+                            TransformParams.forConvert("jpg"),
+                            null,
+                            NOW);
+
+            given(
+                            fileStorageDownloadManager.downloadHead(
+                                    eq(sourceAsset.bucket()), eq(sourceAsset.s3Key()), anyInt()))
+                    .willReturn(JPEG_800X600_HEADER);
+            given(storageBucketManager.getBucket()).willReturn("test-bucket");
+            given(
+                            fileStorageCopyManager.copy(
+                                    eq(sourceAsset.bucket()),
+                                    eq(sourceAsset.s3Key()),
+                                    eq("test-bucket"),
+                                    anyString()))
+                    .willReturn("\"etag-copy\"");
+
+            // when
+            ImageTransformResult result = sut.transform(sourceAsset, request);
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(result.s3Key()).endsWith(".jpg");
+            assertThat(result.fileInfo().fileSize()).isEqualTo(sourceAsset.fileSize());
+            assertThat(result.fileInfo().etag()).isEqualTo("\"etag-copy\"");
+            assertThat(result.dimension().width()).isEqualTo(800);
+            assertThat(result.dimension().height()).isEqualTo(600);
+            then(fileStorageDownloadManager).should(never()).download(anyString(), anyString());
+            then(imageProcessingManager).should(never()).process(any(), any(), any());
+            then(fileStorageUploadManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 이미 충분히 작은 원본의 COMPRESS는 파이프라인 모드에서도 복사한다")
+        void transformAsync_CompressSmallSource_CopiesSource() {
+            // given
+            Asset sourceAsset = AssetFixture.anAsset();
+            TransformRequest request =
+                    TransformRequest.forNew(
+                            TransformRequestId.of("transform-copy"),
+                            sourceAsset.id(),
+                            "image/jpeg",
+                            TransformType.COMPRESS,
+                            TransformParams.forCompress(80),
+                            null,
+                            NOW);
+
+            given(
+                            fileStorageDownloadManager.downloadHead(
+                                    eq(sourceAsset.bucket()), eq(sourceAsset.s3Key()), anyInt()))
+                    .willReturn(JPEG_800X600_HEADER);
+            given(storageBucketManager.getBucket()).willReturn("test-bucket");
+            given(fileStorageCopyManager.copy(anyString(), anyString(), anyString(), anyString()))
+                    .willReturn("\"etag-copy\"");
+
+            // when
+            ImageTransformResult result = sut.transformAsync(sourceAsset, request).join();
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(result.fileInfo().contentType()).isEqualTo("image/jpeg");
+            then(imageProcessingManager).should(never()).process(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 실제 시그니처가 Content-Type과 다르면 일반 변환 경로로 처리한다")
+        void transform_SignatureMismatch_FallsBackToTranscode() {
+            // given
+            Asset sourceAsset = AssetFixture.anAsset();
+            TransformRequest request =
+                    TransformRequest.forNew(
+                            TransformRequestId.of("transform-copy"),
+                            sourceAsset.id(),
+                            "image/jpeg",
+                            TransformType.CONVERT,
+                            TransformParams.forConvert("jpg"),
+                            null,
+                            NOW);
+
+            byte[] pngHeader = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+            given(
+                            fileStorageDownloadManager.downloadHead(
+                                    eq(sourceAsset.bucket()), eq(sourceAsset.s3Key()), anyInt()))
+                    .willReturn(pngHeader);
+            given(fileStorageDownloadManager.download(sourceAsset.bucket(), sourceAsset.s3Key()))
+                    .willThrow(new RuntimeException("S3 download failed"));
+
+            // when
+            ImageTransformResult result = sut.transform(sourceAsset, request);
+
+            // then
+            assertThat(result.success()).isFalse();
+            then(fileStorageCopyManager).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -0,0 +1,240 @@
+package com.ryuqq.fileflow.application.transform.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.fileflow.application.asset.manager.query.AssetReadManager;
+import com.ryuqq.fileflow.application.common.dto.command.StatusChangeContext;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.manager.TaskCompletionSignalManager;
+import com.ryuqq.fileflow.application.transform.factory.command.TransformCommandFactory;
+import com.ryuqq.fileflow.application.transform.manager.command.TransformCallbackOutboxCommandManager;
+import com.ryuqq.fileflow.application.transform.manager.command.TransformCommandManager;
+import com.ryuqq.fileflow.application.transform.manager.command.TransformQueueOutboxCommandManager;
+import com.ryuqq.fileflow.application.transform.manager.query.TransformReadManager;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformCallbackOutbox;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformQueueOutbox;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
+import com.ryuqq.fileflow.domain.transform.id.TransformCallbackOutboxId;
+import com.ryuqq.fileflow.domain.transform.id.TransformQueueOutboxId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransformCoalescingFacade 단위 테스트")
+class TransformCoalescingFacadeTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:01:00Z");
+
+    @InjectMocks private TransformCoalescingFacade sut;
+    @Mock private TransformReadManager transformReadManager;
+    @Mock private AssetReadManager assetReadManager;
+    @Mock private TransformCommandFactory transformCommandFactory;
+    @Mock private TransformCommandManager transformCommandManager;
+    @Mock private TransformQueueOutboxCommandManager transformQueueOutboxCommandManager;
+    @Mock private TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager;
+    @Mock private TaskCompletionSignalManager taskCompletionSignalManager;
+
+    private void givenNow() {
+        given(transformCommandFactory.createCoalesceContext(anyString()))
+                .willAnswer(
+                        invocation -> new StatusChangeContext<>(invocation.getArgument(0), NOW));
+    }
+
+    private void givenCallbackOutbox() {
+        given(transformCommandFactory.createCallbackOutbox(anyString(), anyString(), anyString()))
+                .willAnswer(
+                        invocation ->
+                                TransformCallbackOutbox.forNew(
+                                        TransformCallbackOutboxId.of("callback-001"),
+                                        invocation.getArgument(0),
+                                        invocation.getArgument(1),
+                                        invocation.getArgument(2),
+                                        NOW));
+    }
+
+    @Nested
+    @DisplayName("register 메서드")
+    class RegisterTest {
+
+        @Test
+        @DisplayName("리더가 없으면 새 리더로 저장하고 큐 아웃박스를 등록한다")
+        void register_NoLeader_PersistsLeaderWithQueueOutbox() {
+            // given
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+            TransformQueueOutbox outbox =
+                    TransformQueueOutbox.forNew(
+                            TransformQueueOutboxId.of("outbox-001"), request.idValue(), NOW);
+
+            given(transformReadManager.findLeader(request.fingerprint()))
+                    .willReturn(Optional.empty());
+            given(transformCommandFactory.createQueueOutbox(request.idValue())).willReturn(outbox);
+
+            // when
+            Optional<TransformRequest> result = sut.register(request);
+
+            // then
+            assertThat(result).contains(request);
+            assertThat(request.fingerprint()).isNotNull();
+            then(transformCommandManager).should().persist(request);
+            then(transformQueueOutboxCommandManager).should().persist(outbox);
+        }
+
+        @Test
+        @DisplayName("완료된 리더가 있으면 결과 Asset을 재사용하여 즉시 완료하고 콜백을 등록한다")
+        void register_CompletedLeader_ReusesResult() {
+            // given
+            TransformRequest leader = TransformRequestFixture.aCompletedRequest();
+            TransformRequest request = TransformRequestFixture.aResizeRequestWithCallback();
+
+            given(transformReadManager.findLeader(request.fingerprint()))
+                    .willReturn(Optional.of(leader));
+            given(assetReadManager.existsAsset("result-001")).willReturn(true);
+            givenNow();
+            givenCallbackOutbox();
+
+            // when
+            Optional<TransformRequest> result = sut.register(request);
+
+            // then
+            assertThat(result).contains(request);
+            assertThat(request.status()).isEqualTo(TransformStatus.COMPLETED);
+            assertThat(request.resultAssetIdValue()).isEqualTo("result-001");
+            then(transformCommandManager).should().persist(request);
+            then(transformCallbackOutboxCommandManager).should().persist(any());
+            then(transformQueueOutboxCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("완료된 리더의 결과 Asset이 삭제되었으면 리더의 지문을 반납하고 재시도를 요청한다")
+        void register_CompletedLeaderWithDeletedResult_ReleasesFingerprint() {
+            // given
+            TransformRequest leader = TransformRequestFixture.aCompletedRequest();
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+
+            given(transformReadManager.findLeader(request.fingerprint()))
+                    .willReturn(Optional.of(leader));
+            given(assetReadManager.existsAsset("result-001")).willReturn(false);
+            givenNow();
+
+            // when
+            Optional<TransformRequest> result = sut.register(request);
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(leader.fingerprint()).isNull();
+            then(transformCommandManager).should().persist(leader);
+        }
+
+        @Test
+        @DisplayName("진행 중인 리더가 있으면 합류하고 큐에는 넣지 않는다")
+        void register_InFlightLeader_AttachesToLeader() {
+            // given
+            TransformRequest leader = TransformRequestFixture.aProcessingRequest();
+            TransformRequest request = TransformRequestFixture.aResizeRequestWithCallback();
+
+            given(transformReadManager.findLeader(request.fingerprint()))
+                    .willReturn(Optional.of(leader));
+            givenNow();
+
+            // when
+            Optional<TransformRequest> result = sut.register(request);
+
+            // then
+            assertThat(result).contains(request);
+            assertThat(request.status()).isEqualTo(TransformStatus.QUEUED);
+            assertThat(request.coalescedIntoValue()).isEqualTo(leader.idValue());
+            then(transformCommandManager).should().persist(request);
+            then(transformQueueOutboxCommandManager).shouldHaveNoInteractions();
+            then(transformCallbackOutboxCommandManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("settleFollowers 메서드")
+    class SettleFollowersTest {
+
+        @Test
+        @DisplayName("완료된 리더에 합류한 요청을 같은 결과로 완료하고 각자의 콜백을 등록한다")
+        void settleFollowers_CompletedLeader_CompletesFollowers() {
+            // given
+            TransformRequest processing = TransformRequestFixture.aProcessingRequest();
+            TransformRequest follower = TransformRequestFixture.aFollowerOf(processing);
+            TransformRequest leader = TransformRequestFixture.aCompletedRequest();
+
+            given(transformReadManager.getQueuedFollowers(leader.id()))
+                    .willReturn(List.of(follower));
+            givenCallbackOutbox();
+
+            // when
+            sut.settleFollowers(leader, NOW);
+
+            // then
+            assertThat(follower.status()).isEqualTo(TransformStatus.COMPLETED);
+            assertThat(follower.resultAssetIdValue()).isEqualTo("result-001");
+            then(transformCommandManager).should().persist(follower);
+            then(transformCallbackOutboxCommandManager).should().persist(any());
+            then(taskCompletionSignalManager)
+                    .should()
+                    .signalAfterCommit(TaskCompletionSignal.transform(follower.idValue()));
+        }
+
+        @Test
+        @DisplayName("실패한 리더에 합류한 요청은 같은 오류로 실패 처리한다")
+        void settleFollowers_FailedLeader_FailsFollowers() {
+            // given
+            TransformRequest processing = TransformRequestFixture.aProcessingRequest();
+            TransformRequest follower = TransformRequestFixture.aFollowerOf(processing);
+            TransformRequest leader = TransformRequestFixture.aFailedRequest();
+
+            given(transformReadManager.getQueuedFollowers(leader.id()))
+                    .willReturn(List.of(follower));
+            givenCallbackOutbox();
+
+            // when
+            sut.settleFollowers(leader, NOW);
+
+            // then
+            assertThat(follower.status()).isEqualTo(TransformStatus.FAILED);
+            assertThat(follower.lastError()).isEqualTo("Processing error");
+        }
+    }
+
+    @Nested
+    @DisplayName("settleFollower 메서드")
+    class SettleFollowerTest {
+
+        @Test
+        @DisplayName("리더가 아직 진행 중이면 정리하지 않는다")
+        void settleFollower_InFlightLeader_ReturnsFalse() {
+            // given
+            TransformRequest leader = TransformRequestFixture.aProcessingRequest();
+            TransformRequest follower = TransformRequestFixture.aFollowerOf(leader);
+
+            given(transformReadManager.getTransformRequest(leader.idValue())).willReturn(leader);
+
+            // when
+            boolean settled = sut.settleFollower(follower);
+
+            // then
+            assertThat(settled).isFalse();
+            assertThat(follower.status()).isEqualTo(TransformStatus.QUEUED);
+            then(transformCommandManager).shouldHaveNoInteractions();
+        }
+    }
+}
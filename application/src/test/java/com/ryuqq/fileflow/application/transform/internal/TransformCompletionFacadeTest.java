@@ -3,6 +3,8 @@ package com.ryuqq.fileflow.application.transform.internal;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.fileflow.application.asset.manager.command.AssetCommandManager;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.common.manager.TaskCompletionSignalManager;
 import com.ryuqq.fileflow.application.transform.dto.bundle.TransformCompletionBundle;
 import com.ryuqq.fileflow.application.transform.dto.bundle.TransformFailureBundle;
 import com.ryuqq.fileflow.application.transform.manager.command.TransformCallbackOutboxCommandManager;
@@ -31,6 +33,8 @@ class TransformCompletionFacadeTest {
     @Mock private AssetCommandManager assetCommandManager;
     @Mock private TransformCommandManager transformCommandManager;
     @Mock private TransformCallbackOutboxCommandManager transformCallbackOutboxCommandManager;
+    @Mock private TransformCoalescingFacade transformCoalescingFacade;
+    @Mock private TaskCompletionSignalManager taskCompletionSignalManager;
 
     @Nested
     @DisplayName("complete 메서드")
@@ -55,6 +59,10 @@ class TransformCompletionFacadeTest {
             // then
             then(assetCommandManager).should().persist(resultAsset);
             then(transformCommandManager).should().persist(request);
+            then(transformCoalescingFacade).should().settleFollowers(request, completedAt);
+            then(taskCompletionSignalManager)
+                    .should()
+                    .signalAfterCommit(TaskCompletionSignal.transform(request.idValue()));
         }
     }
 
@@ -77,6 +85,10 @@ class TransformCompletionFacadeTest {
 
             // then
             then(transformCommandManager).should().persist(request);
+            then(transformCoalescingFacade).should().settleFollowers(request, failedAt);
+            then(taskCompletionSignalManager)
+                    .should()
+                    .signalAfterCommit(TaskCompletionSignal.transform(request.idValue()));
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.ryuqq.fileflow.application.transform.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -20,6 +21,7 @@ import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
 import com.ryuqq.fileflow.domain.transform.vo.ImageDimension;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -225,4 +227,77 @@ class TransformExecutionCoordinatorTest {
             then(transformReadManager).should(times(2)).getTransformRequest(request.idValue());
         }
     }
+
+    @Nested
+    @DisplayName("executeAsync 메서드")
+    class ExecuteAsyncTest {
+
+        @Test
+        @DisplayName("파이프라인 변환 성공 시 완료 처리 후 Future가 정상 완료된다")
+        void executeAsync_TransformSuccess_CompletesFuture() {
+            // given
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+            Asset sourceAsset = AssetFixture.anAsset();
+
+            given(transformCommandFactory.createStartContext(request.idValue()))
+                    .willReturn(new StatusChangeContext<>(request.idValue(), NOW));
+            given(transformReadManager.getTransformRequest(request.idValue())).willReturn(request);
+
+            FileInfo fileInfo =
+                    FileInfo.of("resized.jpg", 2048L, "image/jpeg", "etag-resized", "jpg");
+            ImageDimension dimension = ImageDimension.of(800, 600);
+            ImageTransformResult successResult =
+                    ImageTransformResult.success(
+                            "result/resized.jpg", "fileflow-bucket", fileInfo, dimension);
+            given(imageTransformFacade.transformAsync(sourceAsset, request))
+                    .willReturn(CompletableFuture.completedFuture(successResult));
+
+            TransformCompletionBundle completionBundle =
+                    new TransformCompletionBundle(
+                            AssetFixture.anAssetWithId("result-001"),
+                            request,
+                            dimension,
+                            NOW.plusSeconds(30),
+                            null);
+            given(
+                            transformCommandFactory.createCompletionBundle(
+                                    successResult, request, sourceAsset))
+                    .willReturn(completionBundle);
+
+            // when
+            CompletableFuture<Void> future = sut.executeAsync(request, sourceAsset);
+
+            // then
+            assertThat(future).isCompleted();
+            then(transformCommandManager).should().persist(request);
+            then(transformCompletionFacade).should().complete(completionBundle);
+        }
+
+        @Test
+        @DisplayName("파이프라인이 예외로 끝나면 실패 처리 후 Future는 정상 완료된다")
+        void executeAsync_PipelineFails_SafeFailsAndCompletes() {
+            // given
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+            Asset sourceAsset = AssetFixture.anAsset();
+
+            given(transformCommandFactory.createStartContext(request.idValue()))
+                    .willReturn(new StatusChangeContext<>(request.idValue(), NOW));
+            given(transformReadManager.getTransformRequest(request.idValue())).willReturn(request);
+            given(imageTransformFacade.transformAsync(sourceAsset, request))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("crash")));
+
+            TransformFailureBundle failureBundle =
+                    new TransformFailureBundle(request, "crash", NOW, null);
+            given(transformCommandFactory.createFailureBundle(any(), any()))
+                    .willReturn(failureBundle);
+
+            // when
+            CompletableFuture<Void> future = sut.executeAsync(request, sourceAsset);
+
+            // then
+            assertThat(future).isCompleted();
+            assertThat(future).isNotCompletedExceptionally();
+            then(transformCompletionFacade).should().fail(failureBundle);
+        }
+    }
 }
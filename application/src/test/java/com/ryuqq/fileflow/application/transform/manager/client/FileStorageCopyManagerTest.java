@@ -0,0 +1,45 @@
+package com.ryuqq.fileflow.application.transform.manager.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.fileflow.application.common.port.out.client.FileStorageCopyClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileStorageCopyManager 단위 테스트")
+class FileStorageCopyManagerTest {
+
+    @InjectMocks private FileStorageCopyManager sut;
+    @Mock private FileStorageCopyClient fileStorageCopyClient;
+
+    @Nested
+    @DisplayName("copy 메서드")
+    class CopyTest {
+
+        @Test
+        @DisplayName("성공: 서버 측 복사 후 ETag를 반환한다")
+        void copy_Success_ReturnsEtag() {
+            // given
+            given(
+                            fileStorageCopyClient.copy(
+                                    "source-bucket", "public/a.jpg", "test-bucket", "public/b.jpg"))
+                    .willReturn("\"etag-copy\"");
+
+            // when
+            String etag =
+                    sut.copy("source-bucket", "public/a.jpg", "test-bucket", "public/b.jpg");
+
+            // then
+            assertThat(etag).isEqualTo("\"etag-copy\"");
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.ryuqq.fileflow.application.transform.manager.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.fileflow.application.common.metric.FileFlowMetrics;
 import com.ryuqq.fileflow.application.transform.dto.result.ImageProcessingResult;
 import com.ryuqq.fileflow.application.transform.port.out.client.ImageTransformClient;
+import com.ryuqq.fileflow.application.transform.port.out.client.TransformExecutorPort;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -25,6 +30,14 @@ class ImageProcessingManagerTest {
 
     @InjectMocks private ImageProcessingManager sut;
     @Mock private ImageTransformClient imageTransformClient;
+    @Mock private TransformExecutorPort transformExecutorPort;
+    @Mock private FileFlowMetrics fileFlowMetrics;
+
+    @BeforeEach
+    void setUp() {
+        given(transformExecutorPort.execute(any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
 
     @Nested
     @DisplayName("process 메서드")
@@ -50,6 +63,16 @@ class ImageProcessingManagerTest {
             // then
             assertThat(result).isEqualTo(expected);
             then(imageTransformClient).should().process(sourceBytes, type, params);
+            then(transformExecutorPort).should().execute(any());
+            then(fileFlowMetrics)
+                    .should()
+                    .recordDistribution(
+                            "transform_output_size_ratio",
+                            (double) processedBytes.length / sourceBytes.length,
+                            "type",
+                            "RESIZE",
+                            "format",
+                            "jpg");
         }
 
         @Test
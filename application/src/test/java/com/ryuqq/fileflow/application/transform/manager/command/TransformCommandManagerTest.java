@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.application.transform.port.out.command.TransformRequestPersistencePort;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +27,14 @@ class TransformCommandManagerTest {
 
     @InjectMocks private TransformCommandManager sut;
     @Mock private TransformRequestPersistencePort persistencePort;
+    @Mock private CachePort<TransformRequest> transformRequestCachePort;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 
     @Nested
     @DisplayName("persist 메서드")
@@ -43,5 +55,55 @@ class TransformCommandManagerTest {
             then(persistencePort).should().persist(transformRequest);
             assertThat(transformRequest.version()).isEqualTo(expectedVersion);
         }
+
+        @Test
+        @DisplayName("진행 중인 요청은 캐시를 무효화하지 않는다")
+        void persist_InProgressRequest_DoesNotEvictCache() {
+            // given
+            TransformRequest transformRequest = TransformRequestFixture.aProcessingRequest();
+            given(persistencePort.persist(transformRequest)).willReturn(1L);
+
+            // when
+            sut.persist(transformRequest);
+
+            // then
+            then(transformRequestCachePort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("끝난 요청은 트랜잭션이 없으면 즉시 캐시를 무효화한다")
+        void persist_TerminalRequest_EvictsCache() {
+            // given
+            TransformRequest transformRequest = TransformRequestFixture.aCompletedRequest();
+            given(persistencePort.persist(transformRequest)).willReturn(2L);
+
+            // when
+            sut.persist(transformRequest);
+
+            // then
+            then(transformRequestCachePort)
+                    .should()
+                    .evict("cache:transform-request:" + transformRequest.idValue());
+        }
+
+        @Test
+        @DisplayName("끝난 요청을 트랜잭션 안에서 저장하면 커밋 후에 무효화한다")
+        void persist_TerminalRequestInTransaction_EvictsAfterCommit() {
+            // given
+            TransformRequest transformRequest = TransformRequestFixture.aFailedRequest();
+            given(persistencePort.persist(transformRequest)).willReturn(2L);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            sut.persist(transformRequest);
+
+            // then
+            then(transformRequestCachePort).shouldHaveNoInteractions();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            then(transformRequestCachePort)
+                    .should()
+                    .evict("cache:transform-request:" + transformRequest.idValue());
+        }
     }
 }
@@ -2,8 +2,13 @@ package com.ryuqq.fileflow.application.transform.manager.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.ryuqq.fileflow.application.common.component.CacheLoadCoalescer;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.application.transform.port.out.query.TransformRequestQueryPort;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @Tag("unit")
@@ -29,6 +35,8 @@ class TransformReadManagerTest {
 
     @InjectMocks private TransformReadManager sut;
     @Mock private TransformRequestQueryPort queryPort;
+    @Mock private CachePort<TransformRequest> transformRequestCachePort;
+    @Spy private CacheLoadCoalescer cacheLoadCoalescer = new CacheLoadCoalescer();
 
     @Nested
     @DisplayName("getTransformRequest 메서드")
@@ -66,6 +74,77 @@ class TransformReadManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("getCachedTransformRequest 메서드")
+    class GetCachedTransformRequestTest {
+
+        private static final String TRANSFORM_REQUEST_ID = "transform-001";
+        private static final String CACHE_KEY = "cache:transform-request:transform-001";
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않고 캐시 값을 반환한다")
+        void getCachedTransformRequest_CacheHit_SkipsQueryPort() {
+            // given
+            TransformRequest cached = TransformRequestFixture.aCompletedRequest();
+            given(transformRequestCachePort.get(CACHE_KEY)).willReturn(Optional.of(cached));
+
+            // when
+            TransformRequest result = sut.getCachedTransformRequest(TRANSFORM_REQUEST_ID);
+
+            // then
+            assertThat(result).isEqualTo(cached);
+            then(queryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("캐시 미스에 끝난 요청이면 DB에서 조회해 캐시에 채운다")
+        void getCachedTransformRequest_TerminalMiss_LoadsAndCaches() {
+            // given
+            TransformRequest completed = TransformRequestFixture.aCompletedRequest();
+            given(transformRequestCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(queryPort.findById(TransformRequestId.of(TRANSFORM_REQUEST_ID)))
+                    .willReturn(Optional.of(completed));
+
+            // when
+            TransformRequest result = sut.getCachedTransformRequest(TRANSFORM_REQUEST_ID);
+
+            // then
+            assertThat(result).isEqualTo(completed);
+            then(transformRequestCachePort).should().set(CACHE_KEY, completed);
+        }
+
+        @Test
+        @DisplayName("진행 중인 요청은 캐싱하지 않는다")
+        void getCachedTransformRequest_InProgress_DoesNotCache() {
+            // given
+            TransformRequest processing = TransformRequestFixture.aProcessingRequest();
+            given(transformRequestCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(queryPort.findById(TransformRequestId.of(TRANSFORM_REQUEST_ID)))
+                    .willReturn(Optional.of(processing));
+
+            // when
+            TransformRequest result = sut.getCachedTransformRequest(TRANSFORM_REQUEST_ID);
+
+            // then
+            assertThat(result).isEqualTo(processing);
+            then(transformRequestCachePort).should(never()).set(any(), any());
+        }
+
+        @Test
+        @DisplayName("DB에도 없으면 캐싱하지 않고 TransformRequestNotFoundException을 던진다")
+        void getCachedTransformRequest_NotFound_ThrowsWithoutCaching() {
+            // given
+            given(transformRequestCachePort.get(CACHE_KEY)).willReturn(Optional.empty());
+            given(queryPort.findById(TransformRequestId.of(TRANSFORM_REQUEST_ID)))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getCachedTransformRequest(TRANSFORM_REQUEST_ID))
+                    .isInstanceOf(TransformRequestNotFoundException.class);
+            then(transformRequestCachePort).should(never()).set(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getStaleQueuedRequests 메서드")
     class GetStaleQueuedRequestsTest {
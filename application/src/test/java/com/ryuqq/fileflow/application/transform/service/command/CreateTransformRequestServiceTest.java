@@ -1,22 +1,20 @@
 package com.ryuqq.fileflow.application.transform.service.command;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import com.ryuqq.fileflow.application.transform.assembler.TransformAssembler;
 import com.ryuqq.fileflow.application.transform.dto.command.CreateTransformRequestCommand;
 import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
 import com.ryuqq.fileflow.application.transform.factory.command.TransformCommandFactory;
-import com.ryuqq.fileflow.application.transform.manager.command.TransformCommandManager;
-import com.ryuqq.fileflow.application.transform.manager.command.TransformQueueOutboxCommandManager;
+import com.ryuqq.fileflow.application.transform.internal.TransformCoalescingFacade;
 import com.ryuqq.fileflow.application.transform.validator.SourceAssetValidator;
-import com.ryuqq.fileflow.domain.transform.aggregate.TransformQueueOutbox;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
-import com.ryuqq.fileflow.domain.transform.id.TransformQueueOutboxId;
-import java.time.Instant;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -25,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -34,67 +33,106 @@ class CreateTransformRequestServiceTest {
     @InjectMocks private CreateTransformRequestService sut;
     @Mock private SourceAssetValidator sourceAssetValidator;
     @Mock private TransformCommandFactory transformCommandFactory;
-    @Mock private TransformCommandManager transformCommandManager;
-    @Mock private TransformQueueOutboxCommandManager transformQueueOutboxCommandManager;
+    @Mock private TransformCoalescingFacade transformCoalescingFacade;
     @Mock private TransformAssembler transformAssembler;
 
+    private static final CreateTransformRequestCommand COMMAND =
+            new CreateTransformRequestCommand("asset-001", "RESIZE", 800, 600, null, null, null);
+
+    private static TransformRequestResponse responseOf(TransformRequest transformRequest) {
+        return new TransformRequestResponse(
+                transformRequest.idValue(),
+                transformRequest.sourceAssetIdValue(),
+                transformRequest.sourceContentType(),
+                transformRequest.type().name(),
+                transformRequest.params().width(),
+                transformRequest.params().height(),
+                transformRequest.params().quality(),
+                transformRequest.params().targetFormat(),
+                transformRequest.status().name(),
+                transformRequest.resultAssetIdValue(),
+                transformRequest.lastError(),
+                transformRequest.createdAt(),
+                transformRequest.completedAt(),
+                transformRequest.version());
+    }
+
     @Nested
     @DisplayName("execute 메서드")
     class ExecuteTest {
 
         @Test
-        @DisplayName("유효한 커맨드로 변환 요청을 생성하고 아웃박스에 기록한 후 응답을 반환한다")
-        void execute_ValidCommand_CreatesRequestAndOutboxAndReturnsResponse() {
+        @DisplayName("유효한 커맨드로 변환 요청을 생성하여 등록한 후 응답을 반환한다")
+        void execute_ValidCommand_RegistersRequestAndReturnsResponse() {
             // given
-            CreateTransformRequestCommand command =
-                    new CreateTransformRequestCommand(
-                            "asset-001", "RESIZE", 800, 600, null, null, null);
-            String sourceContentType = "image/jpeg";
             TransformRequest transformRequest = TransformRequestFixture.aResizeRequest();
-            TransformQueueOutbox outbox =
-                    TransformQueueOutbox.forNew(
-                            TransformQueueOutboxId.of("outbox-001"),
-                            transformRequest.idValue(),
-                            Instant.now());
-            TransformRequestResponse expectedResponse =
-                    new TransformRequestResponse(
-                            transformRequest.idValue(),
-                            transformRequest.sourceAssetIdValue(),
-                            transformRequest.sourceContentType(),
-                            transformRequest.type().name(),
-                            transformRequest.params().width(),
-                            transformRequest.params().height(),
-                            transformRequest.params().quality(),
-                            transformRequest.params().targetFormat(),
-                            transformRequest.status().name(),
-                            transformRequest.resultAssetIdValue(),
-                            transformRequest.lastError(),
-                            transformRequest.createdAt(),
-                            transformRequest.completedAt());
+            TransformRequestResponse expectedResponse = responseOf(transformRequest);
 
             given(sourceAssetValidator.validateAndGetContentType("asset-001"))
-                    .willReturn(sourceContentType);
-            given(transformCommandFactory.createTransformRequest(command, sourceContentType))
+                    .willReturn("image/jpeg");
+            given(transformCommandFactory.createTransformRequest(COMMAND, "image/jpeg"))
                     .willReturn(transformRequest);
-            given(transformCommandFactory.createQueueOutbox(transformRequest.idValue()))
-                    .willReturn(outbox);
+            given(transformCoalescingFacade.register(transformRequest))
+                    .willReturn(Optional.of(transformRequest));
             given(transformAssembler.toResponse(transformRequest)).willReturn(expectedResponse);
 
             // when
-            TransformRequestResponse result = sut.execute(command);
+            TransformRequestResponse result = sut.execute(COMMAND);
 
             // then
             assertThat(result).isEqualTo(expectedResponse);
             then(sourceAssetValidator).should().validateAndGetContentType("asset-001");
+            then(transformCoalescingFacade).should().register(transformRequest);
+        }
+
+        @Test
+        @DisplayName("동시에 같은 리더가 등록되어 제약 위반이 나면 새 요청으로 다시 등록한다")
+        void execute_LeaderRace_RetriesWithNewRequest() {
+            // given
+            TransformRequest first = TransformRequestFixture.aResizeRequest();
+            TransformRequest second = TransformRequestFixture.aResizeRequestWithCallback();
+            TransformRequestResponse expectedResponse = responseOf(second);
+
+            given(sourceAssetValidator.validateAndGetContentType("asset-001"))
+                    .willReturn("image/jpeg");
+            given(transformCommandFactory.createTransformRequest(COMMAND, "image/jpeg"))
+                    .willReturn(first, second);
+            given(transformCoalescingFacade.register(first))
+                    .willThrow(
+                            new DataIntegrityViolationException(
+                                    "uk_transform_request_fingerprint"));
+            given(transformCoalescingFacade.register(second)).willReturn(Optional.of(second));
+            given(transformAssembler.toResponse(second)).willReturn(expectedResponse);
+
+            // when
+            TransformRequestResponse result = sut.execute(COMMAND);
+
+            // then
+            assertThat(result).isEqualTo(expectedResponse);
             then(transformCommandFactory)
-                    .should()
-                    .createTransformRequest(command, sourceContentType);
-            then(transformCommandManager).should().persist(transformRequest);
-            then(transformCommandFactory).should().createQueueOutbox(transformRequest.idValue());
-            then(transformQueueOutboxCommandManager)
-                    .should()
-                    .persist(any(TransformQueueOutbox.class));
-            then(transformAssembler).should().toResponse(transformRequest);
+                    .should(times(2))
+                    .createTransformRequest(COMMAND, "image/jpeg");
+        }
+
+        @Test
+        @DisplayName("재시도 횟수를 넘기면 제약 위반 예외를 그대로 던진다")
+        void execute_RepeatedViolation_Throws() {
+            // given
+            TransformRequest transformRequest = TransformRequestFixture.aResizeRequest();
+
+            given(sourceAssetValidator.validateAndGetContentType("asset-001"))
+                    .willReturn("image/jpeg");
+            given(transformCommandFactory.createTransformRequest(COMMAND, "image/jpeg"))
+                    .willReturn(transformRequest);
+            given(transformCoalescingFacade.register(transformRequest))
+                    .willThrow(
+                            new DataIntegrityViolationException(
+                                    "uk_transform_request_fingerprint"));
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(COMMAND))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            then(transformCoalescingFacade).should(times(3)).register(transformRequest);
         }
     }
 }
@@ -9,6 +9,7 @@ import static org.mockito.BDDMockito.willThrow;
 
 import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.fileflow.application.transform.dto.command.RecoverZombieTransformRequestCommand;
+import com.ryuqq.fileflow.application.transform.internal.TransformCoalescingFacade;
 import com.ryuqq.fileflow.application.transform.manager.client.TransformQueueManager;
 import com.ryuqq.fileflow.application.transform.manager.query.TransformReadManager;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
@@ -32,6 +33,7 @@ class RecoverZombieTransformRequestServiceTest {
     @InjectMocks private RecoverZombieTransformRequestService sut;
     @Mock private TransformReadManager transformReadManager;
     @Mock private TransformQueueManager transformQueueManager;
+    @Mock private TransformCoalescingFacade transformCoalescingFacade;
 
     @Nested
     @DisplayName("execute 메서드")
@@ -103,5 +105,31 @@ class RecoverZombieTransformRequestServiceTest {
             assertThat(result.success()).isZero();
             assertThat(result.failed()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("리더가 종료된 합류 요청은 재큐잉하지 않고 리더 결과로 정리한다")
+        void execute_OrphanedFollowers_SettlesWithLeader() {
+            // given
+            RecoverZombieTransformRequestCommand command =
+                    RecoverZombieTransformRequestCommand.of(100, 300);
+
+            TransformRequest leader = TransformRequestFixture.aResizeRequest();
+            TransformRequest follower = TransformRequestFixture.aResizeRequestWithCallback();
+            follower.attachTo(leader);
+
+            given(transformReadManager.getStaleQueuedRequests(any(Instant.class), eq(100)))
+                    .willReturn(List.of());
+            given(transformReadManager.getOrphanedFollowers(any(Instant.class), eq(100)))
+                    .willReturn(List.of(follower));
+            given(transformCoalescingFacade.settleFollower(follower)).willReturn(true);
+
+            // when
+            SchedulerBatchProcessingResult result = sut.execute(command);
+
+            // then
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.success()).isEqualTo(1);
+            then(transformQueueManager).shouldHaveNoInteractions();
+        }
     }
 }
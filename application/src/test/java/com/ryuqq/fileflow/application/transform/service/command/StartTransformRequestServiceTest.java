@@ -1,5 +1,6 @@
 package com.ryuqq.fileflow.application.transform.service.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -16,6 +17,7 @@ import com.ryuqq.fileflow.domain.asset.exception.AssetNotFoundException;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -135,4 +137,50 @@ class StartTransformRequestServiceTest {
             then(transformCommandManager).should().persist(request);
         }
     }
+
+    @Nested
+    @DisplayName("executeAsync 메서드")
+    class ExecuteAsyncTest {
+
+        @Test
+        @DisplayName("변환 요청을 검증하고 코디네이터의 파이프라인 Future를 반환한다")
+        void executeAsync_ValidId_ReturnsCoordinatorFuture() {
+            // given
+            String transformRequestId = "transform-001";
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+            Asset sourceAsset = AssetFixture.anAsset();
+            CompletableFuture<Void> pipeline = new CompletableFuture<>();
+
+            given(transformExecutionValidator.getTransformRequest(transformRequestId))
+                    .willReturn(request);
+            given(transformExecutionValidator.getSourceAsset(request.sourceAssetIdValue()))
+                    .willReturn(sourceAsset);
+            given(transformExecutionCoordinator.executeAsync(request, sourceAsset))
+                    .willReturn(pipeline);
+
+            // when
+            CompletableFuture<Void> result = sut.executeAsync(transformRequestId);
+
+            // then
+            assertThat(result).isSameAs(pipeline);
+        }
+
+        @Test
+        @DisplayName("이미 COMPLETED 상태이면 완료된 Future를 반환하고 코디네이터를 호출하지 않는다")
+        void executeAsync_AlreadyCompleted_ReturnsCompletedFuture() {
+            // given
+            String transformRequestId = "transform-001";
+            TransformRequest request = TransformRequestFixture.aCompletedRequest();
+
+            given(transformExecutionValidator.getTransformRequest(transformRequestId))
+                    .willReturn(request);
+
+            // when
+            CompletableFuture<Void> result = sut.executeAsync(transformRequestId);
+
+            // then
+            assertThat(result).isCompleted();
+            then(transformExecutionCoordinator).shouldHaveNoInteractions();
+        }
+    }
 }
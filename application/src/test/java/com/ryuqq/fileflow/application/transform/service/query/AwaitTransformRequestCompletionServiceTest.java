@@ -0,0 +1,125 @@
+package com.ryuqq.fileflow.application.transform.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.fileflow.application.common.component.TaskCompletionWaiterRegistry;
+import com.ryuqq.fileflow.application.common.dto.command.TaskCompletionSignal;
+import com.ryuqq.fileflow.application.transform.TransformResponseFixtures;
+import com.ryuqq.fileflow.application.transform.assembler.TransformAssembler;
+import com.ryuqq.fileflow.application.transform.dto.response.TransformRequestResponse;
+import com.ryuqq.fileflow.application.transform.manager.query.TransformReadManager;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequestFixture;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AwaitTransformRequestCompletionService 단위 테스트")
+class AwaitTransformRequestCompletionServiceTest {
+
+    private static final String TRANSFORM_REQUEST_ID = "transform-001";
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @InjectMocks private AwaitTransformRequestCompletionService sut;
+    @Mock private TransformReadManager transformReadManager;
+    @Mock private TransformAssembler transformAssembler;
+    @Mock private TaskCompletionWaiterRegistry taskCompletionWaiterRegistry;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("이미 종료된 요청이면 대기를 해제하고 현재 상태로 즉시 완료한다")
+        void execute_TerminalRequest_CompletesImmediately() {
+            // given
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            TransformRequest request = TransformRequestFixture.aFailedRequest();
+            TransformRequestResponse response =
+                    TransformResponseFixtures.completedResponse(TRANSFORM_REQUEST_ID);
+
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.transform(TRANSFORM_REQUEST_ID),
+                                    TIMEOUT))
+                    .willReturn(waiter);
+            given(transformReadManager.getTransformRequest(TRANSFORM_REQUEST_ID))
+                    .willReturn(request);
+            given(transformAssembler.toResponse(request)).willReturn(response);
+
+            // when
+            CompletableFuture<TransformRequestResponse> result =
+                    sut.execute(TRANSFORM_REQUEST_ID, TIMEOUT);
+
+            // then
+            assertThat(result).isCompletedWithValue(response);
+            assertThat(waiter).isCancelled();
+        }
+
+        @Test
+        @DisplayName("타임아웃으로 대기가 끝나면 그 시점의 상태로 완료한다")
+        void execute_Timeout_CompletesWithCurrentState() {
+            // given
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            TransformRequest processing = TransformRequestFixture.aProcessingRequest();
+            TransformRequestResponse response =
+                    TransformResponseFixtures.resizeResponse(TRANSFORM_REQUEST_ID);
+
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.transform(TRANSFORM_REQUEST_ID),
+                                    TIMEOUT))
+                    .willReturn(waiter);
+            given(transformReadManager.getTransformRequest(TRANSFORM_REQUEST_ID))
+                    .willReturn(processing);
+            given(transformAssembler.toResponse(processing)).willReturn(response);
+
+            // when
+            CompletableFuture<TransformRequestResponse> result =
+                    sut.execute(TRANSFORM_REQUEST_ID, TIMEOUT);
+            waiter.complete(null);
+
+            // then
+            assertThat(result).isCompletedWithValue(response);
+            then(transformReadManager).should(times(2)).getTransformRequest(TRANSFORM_REQUEST_ID);
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차 대기가 이미 끝나 있으면 현재 상태로 즉시 완료한다")
+        void execute_WaiterRegistryFull_CompletesWithCurrentState() {
+            // given
+            TransformRequest processing = TransformRequestFixture.aProcessingRequest();
+            TransformRequestResponse response =
+                    TransformResponseFixtures.resizeResponse(TRANSFORM_REQUEST_ID);
+
+            given(
+                            taskCompletionWaiterRegistry.await(
+                                    TaskCompletionSignal.transform(TRANSFORM_REQUEST_ID),
+                                    TIMEOUT))
+                    .willReturn(CompletableFuture.completedFuture(null));
+            given(transformReadManager.getTransformRequest(TRANSFORM_REQUEST_ID))
+                    .willReturn(processing);
+            given(transformAssembler.toResponse(processing)).willReturn(response);
+
+            // when
+            CompletableFuture<TransformRequestResponse> result =
+                    sut.execute(TRANSFORM_REQUEST_ID, TIMEOUT);
+
+            // then
+            assertThat(result).isCompletedWithValue(response);
+            then(transformReadManager).should(times(1)).getTransformRequest(TRANSFORM_REQUEST_ID);
+        }
+    }
+}
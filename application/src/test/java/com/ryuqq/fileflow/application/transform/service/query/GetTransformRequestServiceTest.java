@@ -51,9 +51,10 @@ class GetTransformRequestServiceTest {
                             transformRequest.resultAssetIdValue(),
                             transformRequest.lastError(),
                             transformRequest.createdAt(),
-                            transformRequest.completedAt());
+                            transformRequest.completedAt(),
+                            transformRequest.version());
 
-            given(transformReadManager.getTransformRequest(transformRequestId))
+            given(transformReadManager.getCachedTransformRequest(transformRequestId))
                     .willReturn(transformRequest);
             given(transformAssembler.toResponse(transformRequest)).willReturn(expectedResponse);
 
@@ -62,7 +63,7 @@ class GetTransformRequestServiceTest {
 
             // then
             assertThat(result).isEqualTo(expectedResponse);
-            then(transformReadManager).should().getTransformRequest(transformRequestId);
+            then(transformReadManager).should().getCachedTransformRequest(transformRequestId);
             then(transformAssembler).should().toResponse(transformRequest);
         }
     }
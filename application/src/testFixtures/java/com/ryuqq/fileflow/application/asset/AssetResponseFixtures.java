@@ -39,6 +39,7 @@ public final class AssetResponseFixtures {
                 "origin-001",
                 "product-image",
                 "commerce-service",
+                NOW,
                 NOW);
     }
 
@@ -49,6 +50,6 @@ public final class AssetResponseFixtures {
     }
 
     public static AssetMetadataResponse assetMetadataResponse(String metadataId, String assetId) {
-        return new AssetMetadataResponse(metadataId, assetId, 1920, 1080, "RESIZE", NOW);
+        return new AssetMetadataResponse(metadataId, assetId, 1920, 1080, "RESIZE", NOW, NOW);
     }
 }
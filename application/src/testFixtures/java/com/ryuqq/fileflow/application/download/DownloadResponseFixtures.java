@@ -40,7 +40,8 @@ public final class DownloadResponseFixtures {
                 null,
                 NOW,
                 null,
-                null);
+                null,
+                0L);
     }
 
     public static DownloadTaskResponse completedResponse(String downloadTaskId) {
@@ -60,7 +61,8 @@ public final class DownloadResponseFixtures {
                 null,
                 NOW,
                 NOW.plusSeconds(10),
-                NOW.plusSeconds(30));
+                NOW.plusSeconds(30),
+                0L);
     }
 
     // ===== FileDownloadResult Fixtures =====
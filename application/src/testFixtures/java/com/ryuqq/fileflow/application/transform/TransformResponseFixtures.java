@@ -35,7 +35,8 @@ public final class TransformResponseFixtures {
                 null,
                 null,
                 NOW,
-                null);
+                null,
+                0L);
     }
 
     public static TransformRequestResponse convertResponse(String transformRequestId) {
@@ -52,7 +53,8 @@ public final class TransformResponseFixtures {
                 null,
                 null,
                 NOW,
-                null);
+                null,
+                0L);
     }
 
     public static TransformRequestResponse completedResponse(String transformRequestId) {
@@ -69,6 +71,7 @@ public final class TransformResponseFixtures {
                 "result-001",
                 null,
                 NOW,
-                NOW.plusSeconds(30));
+                NOW.plusSeconds(30),
+                0L);
     }
 }
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import com.ryuqq.fileflow.domain.common.vo.CacheKey;
+
+public record AssetCacheKey(String assetId) implements CacheKey {
+
+    private static final String PREFIX = "cache:asset:";
+
+    public AssetCacheKey {
+        if (assetId == null || assetId.isBlank()) {
+            throw new IllegalArgumentException("assetId must not be blank");
+        }
+    }
+
+    public static AssetCacheKey of(String assetId) {
+        return new AssetCacheKey(assetId);
+    }
+
+    @Override
+    public String value() {
+        return PREFIX + assetId;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Asset 목록 키셋 커서.
+ *
+ * <p>(createdAt, assetId) 정렬 키의 마지막 값을 담습니다. API 경계에서는 URL-safe Base64 문자열로 주고받습니다.
+ *
+ * @param createdAt 이전 페이지 마지막 Asset의 생성 시각
+ * @param assetId 이전 페이지 마지막 Asset의 ID (같은 시각의 Asset 구분용)
+ */
+public record AssetCursor(Instant createdAt, String assetId) {
+
+    private static final String DELIMITER = "|";
+
+    public AssetCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        if (assetId == null || assetId.isBlank()) {
+            throw new IllegalArgumentException("assetId must not be null or blank");
+        }
+    }
+
+    public static AssetCursor of(Instant createdAt, String assetId) {
+        return new AssetCursor(createdAt, assetId);
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param encoded {@link #encode()}로 만든 문자열
+     * @return AssetCursor
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static AssetCursor decode(String encoded) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid asset cursor: " + encoded, e);
+        }
+        int delimiterIndex = raw.indexOf(DELIMITER);
+        if (delimiterIndex <= 0) {
+            throw new IllegalArgumentException("invalid asset cursor: " + encoded);
+        }
+        try {
+            return new AssetCursor(
+                    Instant.parse(raw.substring(0, delimiterIndex)),
+                    raw.substring(delimiterIndex + 1));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("invalid asset cursor: " + encoded, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + assetId;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import com.ryuqq.fileflow.domain.common.vo.CacheKey;
+
+public record AssetMetadataCacheKey(String assetId) implements CacheKey {
+
+    private static final String PREFIX = "cache:asset-metadata:";
+
+    public AssetMetadataCacheKey {
+        if (assetId == null || assetId.isBlank()) {
+            throw new IllegalArgumentException("assetId must not be blank");
+        }
+    }
+
+    public static AssetMetadataCacheKey of(String assetId) {
+        return new AssetMetadataCacheKey(assetId);
+    }
+
+    @Override
+    public String value() {
+        return PREFIX + assetId;
+    }
+}
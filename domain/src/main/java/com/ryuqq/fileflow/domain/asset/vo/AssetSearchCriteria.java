@@ -0,0 +1,81 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.CursorPageRequest;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+
+/**
+ * Asset 목록 조회 조건.
+ *
+ * <p>(createdAt, assetId) 순서의 키셋 페이징입니다. OFFSET 없이 커서 이후부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+ *
+ * @param source 요청 출처 (필수)
+ * @param purpose 용도 (null이면 전체)
+ * @param accessType 접근 유형 (null이면 전체)
+ * @param createdFrom 생성 시각 하한, 포함 (null이면 제한 없음)
+ * @param createdTo 생성 시각 상한, 미포함 (null이면 제한 없음)
+ * @param direction 정렬 방향 (null이면 오름차순)
+ * @param pageRequest 커서와 페이지 크기
+ */
+public record AssetSearchCriteria(
+        String source,
+        String purpose,
+        AccessType accessType,
+        Instant createdFrom,
+        Instant createdTo,
+        SortDirection direction,
+        CursorPageRequest pageRequest) {
+
+    public AssetSearchCriteria {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("source must not be null or blank");
+        }
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException(
+                    "createdFrom must be before createdTo, got: "
+                            + createdFrom
+                            + " ~ "
+                            + createdTo);
+        }
+        if (purpose != null && purpose.isBlank()) {
+            purpose = null;
+        }
+        if (direction == null) {
+            direction = SortDirection.ASC;
+        }
+        if (pageRequest == null) {
+            pageRequest = CursorPageRequest.defaultPage();
+        }
+        if (pageRequest.hasCursor()) {
+            // 잘못된 커서는 조회 전에 거부합니다.
+            AssetCursor.decode(pageRequest.cursor());
+        }
+    }
+
+    public static AssetSearchCriteria of(
+            String source,
+            String purpose,
+            AccessType accessType,
+            Instant createdFrom,
+            Instant createdTo,
+            SortDirection direction,
+            CursorPageRequest pageRequest) {
+        return new AssetSearchCriteria(
+                source, purpose, accessType, createdFrom, createdTo, direction, pageRequest);
+    }
+
+    /** 이전 페이지의 마지막 정렬 키. 첫 페이지면 null입니다. */
+    public AssetCursor cursor() {
+        return pageRequest.hasCursor() ? AssetCursor.decode(pageRequest.cursor()) : null;
+    }
+
+    public int size() {
+        return pageRequest.size();
+    }
+
+    /** hasNext 판단을 위해 size + 1개를 조회합니다. */
+    public int fetchSize() {
+        return pageRequest.fetchSize();
+    }
+}
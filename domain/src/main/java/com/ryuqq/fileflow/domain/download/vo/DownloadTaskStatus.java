@@ -9,7 +9,7 @@ package com.ryuqq.fileflow.domain.download.vo;
  *
  * <p>COMPLETED: 다운로드 완료, S3 업로드 완료
  *
- * <p>FAILED: 다운로드 실패 (재시도 가능)
+ * <p>FAILED: 다운로드 실패 (재시도 횟수 소진 또는 영구 실패)
  */
 public enum DownloadTaskStatus {
     QUEUED("대기 중"),
@@ -26,4 +26,8 @@ public enum DownloadTaskStatus {
     public String displayName() {
         return displayName;
     }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
 }
@@ -8,6 +8,7 @@ import com.ryuqq.fileflow.domain.session.exception.SessionException;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
 import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import com.ryuqq.fileflow.domain.session.vo.MultipartUploadSessionUpdateData;
 import com.ryuqq.fileflow.domain.session.vo.UploadPurpose;
 import com.ryuqq.fileflow.domain.session.vo.UploadSource;
@@ -15,8 +16,10 @@ import com.ryuqq.fileflow.domain.session.vo.UploadTarget;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * 멀티파트 업로드 세션.
@@ -115,17 +118,46 @@ public class MultipartUploadSession {
                 completedParts);
     }
 
-    /** 파트 업로드 완료를 기록합니다. */
-    public void addCompletedPart(CompletedPart completedPart) {
+    /**
+     * 파트 목록을 불러오지 않은 세션에 파트 업로드 완료를 반영합니다.
+     *
+     * <p>파트는 세션과 별도로 한 건씩 기록되고 파트 번호 중복은 저장소의 유니크 키로 판정하므로, 여기서는 상태 검증과 첫 파트에 의한 상태 전이만
+     * 수행합니다.
+     *
+     * @return INITIATED에서 UPLOADING으로 전이되어 세션 저장이 필요하면 true
+     */
+    public boolean acceptCompletedPart(CompletedPart completedPart) {
         validateActive();
-        validatePartNotDuplicate(completedPart.partNumber());
-
-        completedParts.add(completedPart);
+        if (this.status != MultipartSessionStatus.INITIATED) {
+            return false;
+        }
+        this.status = MultipartSessionStatus.UPLOADING;
         this.updatedAt = completedPart.createdAt();
-
-        if (this.status == MultipartSessionStatus.INITIATED) {
-            this.status = MultipartSessionStatus.UPLOADING;
+        return true;
+    }
+
+    /**
+     * 파트 목록을 불러오지 않은 세션에 여러 파트의 업로드 완료를 한 번에 반영합니다.
+     *
+     * <p>요청 안에서 같은 파트 번호가 두 번 나오면 거부합니다. 이미 기록된 파트와의 관계는 저장소가 (session_id, part_number) 기준으로
+     * 덮어써 판정하므로, 같은 요청을 재시도해도 결과가 같습니다.
+     *
+     * @return INITIATED에서 UPLOADING으로 전이되어 세션 저장이 필요하면 true
+     */
+    public boolean acceptCompletedParts(List<CompletedPart> parts) {
+        if (parts.isEmpty()) {
+            throw new SessionException(
+                    SessionErrorCode.PART_NUMBER_INVALID, "Completed parts must not be empty");
+        }
+        Set<Integer> partNumbers = new HashSet<>();
+        for (CompletedPart part : parts) {
+            if (!partNumbers.add(part.partNumber())) {
+                throw new SessionException(
+                        SessionErrorCode.PART_NUMBER_DUPLICATE,
+                        "Part number repeated in request: " + part.partNumber());
+            }
         }
+        return acceptCompletedPart(parts.get(0));
     }
 
     /** 멀티파트 업로드 완료 처리. S3 CompleteMultipartUpload 호출 후 검증된 결과로 이벤트를 발행합니다. */
@@ -223,6 +255,10 @@ public class MultipartUploadSession {
         return uploadId;
     }
 
+    public MultipartUploadRef uploadRef() {
+        return MultipartUploadRef.of(s3Key(), uploadId);
+    }
+
     public long partSize() {
         return partSize;
     }
@@ -299,15 +335,6 @@ public class MultipartUploadSession {
         }
     }
 
-    private void validatePartNotDuplicate(int partNumber) {
-        boolean exists = completedParts.stream().anyMatch(p -> p.partNumber() == partNumber);
-        if (exists) {
-            throw new SessionException(
-                    SessionErrorCode.PART_NUMBER_DUPLICATE,
-                    "Part number already exists: " + partNumber);
-        }
-    }
-
     // -- equals/hashCode ID 기반 --
 
     @Override
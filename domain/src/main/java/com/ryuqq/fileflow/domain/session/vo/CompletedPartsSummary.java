@@ -0,0 +1,44 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+/**
+ * 멀티파트 업로드 세션의 완료 파트 집계.
+ *
+ * <p>파트 목록을 읽지 않고 진행 상황만 확인할 때 사용합니다.
+ *
+ * @param partCount 완료된 파트 수
+ * @param totalSize 완료된 파트 크기 합계 (bytes)
+ * @param highestContiguousPartNumber 1번부터 빠짐없이 이어진 마지막 파트 번호 (1번 파트가 없으면 0)
+ */
+public record CompletedPartsSummary(
+        int partCount, long totalSize, int highestContiguousPartNumber) {
+
+    public CompletedPartsSummary {
+        if (partCount < 0) {
+            throw new IllegalArgumentException("partCount must be >= 0, got: " + partCount);
+        }
+        if (totalSize < 0) {
+            throw new IllegalArgumentException("totalSize must be >= 0, got: " + totalSize);
+        }
+        if (highestContiguousPartNumber < 0 || highestContiguousPartNumber > partCount) {
+            throw new IllegalArgumentException(
+                    "highestContiguousPartNumber must be between 0 and "
+                            + partCount
+                            + ", got: "
+                            + highestContiguousPartNumber);
+        }
+    }
+
+    public static CompletedPartsSummary of(
+            int partCount, long totalSize, int highestContiguousPartNumber) {
+        return new CompletedPartsSummary(partCount, totalSize, highestContiguousPartNumber);
+    }
+
+    public static CompletedPartsSummary empty() {
+        return new CompletedPartsSummary(0, 0L, 0);
+    }
+
+    /** 빠진 파트 없이 1번부터 연속으로 완료되었는지 여부. */
+    public boolean isContiguous() {
+        return highestContiguousPartNumber == partCount;
+    }
+}
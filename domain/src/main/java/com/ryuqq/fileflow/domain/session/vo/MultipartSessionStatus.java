@@ -1,5 +1,7 @@
 package com.ryuqq.fileflow.domain.session.vo;
 
+import java.util.List;
+
 /**
  * MultipartUploadSession 상태.
  *
@@ -29,4 +31,14 @@ public enum MultipartSessionStatus {
     public String displayName() {
         return displayName;
     }
+
+    /** 만료 전이가 가능한 상태 목록. 만료 대상 일괄 갱신의 조건으로 사용합니다. */
+    public static List<MultipartSessionStatus> expirableStatuses() {
+        return List.of(INITIATED, UPLOADING);
+    }
+
+    /** 완료 파트를 받을 수 있는 상태 목록. 파트 기록 시 세션 상태 조건으로 사용합니다. */
+    public static List<MultipartSessionStatus> partAcceptingStatuses() {
+        return List.of(INITIATED, UPLOADING);
+    }
 }
@@ -0,0 +1,31 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 버킷에서 진행 중인 S3 멀티파트 업로드 한 건.
+ *
+ * @param ref 멀티파트 업로드 식별자
+ * @param initiatedAt S3에서 업로드가 시작된 시각
+ */
+public record MultipartUploadListing(MultipartUploadRef ref, Instant initiatedAt) {
+
+    public MultipartUploadListing {
+        Objects.requireNonNull(ref, "ref must not be null");
+        Objects.requireNonNull(initiatedAt, "initiatedAt must not be null");
+    }
+
+    public static MultipartUploadListing of(MultipartUploadRef ref, Instant initiatedAt) {
+        return new MultipartUploadListing(ref, initiatedAt);
+    }
+
+    /** 기준 시각보다 먼저 시작된 업로드인지 여부. */
+    public boolean initiatedBefore(Instant threshold) {
+        return initiatedAt.isBefore(threshold);
+    }
+
+    public String uploadId() {
+        return ref.uploadId();
+    }
+}
@@ -0,0 +1,33 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import java.util.List;
+
+/**
+ * 진행 중인 S3 멀티파트 업로드 목록의 한 페이지.
+ *
+ * <p>S3 ListMultipartUploads는 (객체 키, uploadId) 순서의 마커로 페이지를 넘깁니다. 다음 페이지가 없으면 두 마커 모두 null입니다.
+ *
+ * @param uploads 이 페이지의 업로드 목록
+ * @param nextKeyMarker 다음 페이지 시작 객체 키 마커
+ * @param nextUploadIdMarker 다음 페이지 시작 uploadId 마커
+ */
+public record MultipartUploadListingPage(
+        List<MultipartUploadListing> uploads, String nextKeyMarker, String nextUploadIdMarker) {
+
+    public MultipartUploadListingPage {
+        uploads = uploads == null ? List.of() : List.copyOf(uploads);
+    }
+
+    public static MultipartUploadListingPage of(
+            List<MultipartUploadListing> uploads, String nextKeyMarker, String nextUploadIdMarker) {
+        return new MultipartUploadListingPage(uploads, nextKeyMarker, nextUploadIdMarker);
+    }
+
+    public static MultipartUploadListingPage last(List<MultipartUploadListing> uploads) {
+        return new MultipartUploadListingPage(uploads, null, null);
+    }
+
+    public boolean hasNext() {
+        return nextKeyMarker != null;
+    }
+}
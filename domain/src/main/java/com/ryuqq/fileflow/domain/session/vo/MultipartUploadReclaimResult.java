@@ -0,0 +1,29 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import java.util.List;
+
+/**
+ * 멀티파트 업로드 회수 결과.
+ *
+ * @param failed 중단하지 못한 업로드 목록
+ * @param reclaimedBytes 중단한 업로드에 남아 있던 파트 크기 합계 (bytes)
+ */
+public record MultipartUploadReclaimResult(List<MultipartUploadRef> failed, long reclaimedBytes) {
+
+    public MultipartUploadReclaimResult {
+        failed = failed == null ? List.of() : List.copyOf(failed);
+        if (reclaimedBytes < 0) {
+            throw new IllegalArgumentException(
+                    "reclaimedBytes must be >= 0, got: " + reclaimedBytes);
+        }
+    }
+
+    public static MultipartUploadReclaimResult of(
+            List<MultipartUploadRef> failed, long reclaimedBytes) {
+        return new MultipartUploadReclaimResult(failed, reclaimedBytes);
+    }
+
+    public static MultipartUploadReclaimResult empty() {
+        return new MultipartUploadReclaimResult(List.of(), 0L);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import java.util.Objects;
+
+/**
+ * S3 멀티파트 업로드 식별자 Value Object.
+ *
+ * <p>S3에서 멀티파트 업로드 하나를 가리키려면 객체 키와 uploadId가 함께 필요합니다.
+ *
+ * @param s3Key S3 객체 키
+ * @param uploadId S3 멀티파트 업로드 ID
+ */
+public record MultipartUploadRef(String s3Key, String uploadId) {
+
+    public MultipartUploadRef {
+        Objects.requireNonNull(s3Key, "s3Key must not be null");
+        Objects.requireNonNull(uploadId, "uploadId must not be null");
+    }
+
+    public static MultipartUploadRef of(String s3Key, String uploadId) {
+        return new MultipartUploadRef(s3Key, uploadId);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import com.ryuqq.fileflow.domain.session.exception.SessionErrorCode;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 연속된 파트 범위의 Presigned URL 일괄 생성 스펙.
+ *
+ * <p>범위의 모든 파트에 같은 TTL(세션 남은 시간과 기본 TTL 중 짧은 값)을 적용합니다. 파트 번호는 S3 제한(1~10,000) 안이어야 하고, 한 번에
+ * 최대 {@value #MAX_RANGE_SIZE}개까지 발급합니다.
+ *
+ * @param s3Key S3 객체 키
+ * @param uploadId S3 멀티파트 업로드 ID
+ * @param fromPartNumber 시작 파트 번호 (포함)
+ * @param toPartNumber 끝 파트 번호 (포함)
+ * @param ttl Presigned URL 유효 기간
+ * @param createdAt 스펙 생성 시각 (검증용)
+ */
+public record PartPresignedUrlRangeSpec(
+        String s3Key,
+        String uploadId,
+        int fromPartNumber,
+        int toPartNumber,
+        Duration ttl,
+        Instant createdAt) {
+
+    public static final int MAX_PART_NUMBER = 10_000;
+    public static final int MAX_RANGE_SIZE = 1_000;
+
+    public PartPresignedUrlRangeSpec {
+        Objects.requireNonNull(s3Key, "s3Key must not be null");
+        Objects.requireNonNull(uploadId, "uploadId must not be null");
+        Objects.requireNonNull(ttl, "ttl must not be null");
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        if (fromPartNumber < 1 || toPartNumber > MAX_PART_NUMBER || fromPartNumber > toPartNumber) {
+            throw new SessionException(
+                    SessionErrorCode.PART_NUMBER_INVALID,
+                    "Invalid part range: " + fromPartNumber + "-" + toPartNumber);
+        }
+        if (toPartNumber - fromPartNumber + 1 > MAX_RANGE_SIZE) {
+            throw new SessionException(
+                    SessionErrorCode.PART_NUMBER_INVALID,
+                    "Part range must not exceed " + MAX_RANGE_SIZE + " parts");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+    }
+
+    public static PartPresignedUrlRangeSpec of(
+            String s3Key,
+            String uploadId,
+            int fromPartNumber,
+            int toPartNumber,
+            Instant expiresAt,
+            Instant now) {
+        return new PartPresignedUrlRangeSpec(
+                s3Key,
+                uploadId,
+                fromPartNumber,
+                toPartNumber,
+                PartPresignedUrlSpec.resolveTtl(expiresAt, now),
+                now);
+    }
+
+    public int partCount() {
+        return toPartNumber - fromPartNumber + 1;
+    }
+
+    public long ttlSeconds() {
+        return ttl.toSeconds();
+    }
+}
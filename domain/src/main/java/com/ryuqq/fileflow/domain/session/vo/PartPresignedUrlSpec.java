@@ -35,10 +35,14 @@ public record PartPresignedUrlSpec(
 
     public static PartPresignedUrlSpec of(
             String s3Key, String uploadId, int partNumber, Instant expiresAt, Instant now) {
+        return new PartPresignedUrlSpec(
+                s3Key, uploadId, partNumber, resolveTtl(expiresAt, now), now);
+    }
+
+    /** 세션 남은 시간과 기본 TTL 중 짧은 값. */
+    static Duration resolveTtl(Instant expiresAt, Instant now) {
         Duration remaining = Duration.between(now, expiresAt);
-        Duration resolvedTtl =
-                remaining.compareTo(DEFAULT_PART_URL_TTL) < 0 ? remaining : DEFAULT_PART_URL_TTL;
-        return new PartPresignedUrlSpec(s3Key, uploadId, partNumber, resolvedTtl, now);
+        return remaining.compareTo(DEFAULT_PART_URL_TTL) < 0 ? remaining : DEFAULT_PART_URL_TTL;
     }
 
     public long ttlSeconds() {
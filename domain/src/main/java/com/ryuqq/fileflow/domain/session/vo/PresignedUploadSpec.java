@@ -0,0 +1,27 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 단건 업로드용 Presigned PUT URL 생성 스펙.
+ *
+ * @param s3Key S3 객체 키
+ * @param contentType MIME 타입
+ * @param ttl Presigned URL 유효 기간
+ */
+public record PresignedUploadSpec(String s3Key, String contentType, Duration ttl) {
+
+    public PresignedUploadSpec {
+        Objects.requireNonNull(s3Key, "s3Key must not be null");
+        Objects.requireNonNull(contentType, "contentType must not be null");
+        Objects.requireNonNull(ttl, "ttl must not be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+    }
+
+    public static PresignedUploadSpec of(String s3Key, String contentType, Duration ttl) {
+        return new PresignedUploadSpec(s3Key, contentType, ttl);
+    }
+}
@@ -6,7 +6,7 @@ import java.util.Objects;
 /**
  * 세션 만료 정보 Value Object.
  *
- * <p>세션 만료 키 등록에 필요한 정보를 묶습니다.
+ * <p>세션 만료 대기열 등록에 필요한 정보를 묶습니다.
  *
  * @param sessionId 세션 ID
  * @param sessionType 세션 유형 ("SINGLE" 또는 "MULTIPART")
@@ -1,5 +1,7 @@
 package com.ryuqq.fileflow.domain.session.vo;
 
+import java.util.List;
+
 /**
  * SingleUploadSession 상태.
  *
@@ -23,4 +25,9 @@ public enum SingleSessionStatus {
     public String displayName() {
         return displayName;
     }
+
+    /** 만료 전이가 가능한 상태 목록. 만료 대상 일괄 갱신의 조건으로 사용합니다. */
+    public static List<SingleSessionStatus> expirableStatuses() {
+        return List.of(CREATED);
+    }
 }
@@ -5,6 +5,7 @@ import com.ryuqq.fileflow.domain.common.event.DomainEvent;
 import com.ryuqq.fileflow.domain.transform.exception.TransformErrorCode;
 import com.ryuqq.fileflow.domain.transform.exception.TransformException;
 import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
@@ -22,6 +23,10 @@ import java.util.Objects;
  * <p>라이프사이클: QUEUED → PROCESSING → COMPLETED | FAILED
  *
  * <p><strong>비즈니스 룰:</strong> 이미지 파일(image/*)만 변환 요청 가능합니다.
+ *
+ * <p><strong>중복 요청 합류:</strong> 같은 {@link TransformFingerprint}의 요청은 한 번만 변환합니다. 실제 변환을 수행하는 리더만
+ * 지문을 보유하고(유일), 리더가 진행 중일 때 들어온 요청은 리더에 합류({@code coalescedInto})하여 리더의 결과로 함께 종료됩니다. 리더가 이미
+ * 완료되었으면 결과 Asset을 즉시 재사용합니다. 실패한 리더는 지문을 반납하여 다음 요청이 새 리더가 될 수 있게 합니다.
  */
 public class TransformRequest {
 
@@ -31,6 +36,8 @@ public class TransformRequest {
     private final TransformType type;
     private final TransformParams params;
     private final String callbackUrl;
+    private TransformFingerprint fingerprint;
+    private TransformRequestId coalescedInto;
     private TransformStatus status;
     private AssetId resultAssetId;
     private String lastError;
@@ -48,6 +55,8 @@ public class TransformRequest {
             TransformType type,
             TransformParams params,
             String callbackUrl,
+            TransformFingerprint fingerprint,
+            TransformRequestId coalescedInto,
             TransformStatus status,
             AssetId resultAssetId,
             String lastError,
@@ -61,6 +70,8 @@ public class TransformRequest {
         this.type = type;
         this.params = params;
         this.callbackUrl = callbackUrl;
+        this.fingerprint = fingerprint;
+        this.coalescedInto = coalescedInto;
         this.status = status;
         this.resultAssetId = resultAssetId;
         this.lastError = lastError;
@@ -94,6 +105,8 @@ public class TransformRequest {
                 type,
                 params,
                 callbackUrl,
+                TransformFingerprint.of(sourceAssetId, type, params),
+                null,
                 TransformStatus.QUEUED,
                 null,
                 null,
@@ -110,6 +123,8 @@ public class TransformRequest {
             TransformType type,
             TransformParams params,
             String callbackUrl,
+            TransformFingerprint fingerprint,
+            TransformRequestId coalescedInto,
             TransformStatus status,
             AssetId resultAssetId,
             String lastError,
@@ -124,6 +139,8 @@ public class TransformRequest {
                 type,
                 params,
                 callbackUrl,
+                fingerprint,
+                coalescedInto,
                 status,
                 resultAssetId,
                 lastError,
@@ -160,12 +177,79 @@ public class TransformRequest {
         this.lastError = null;
     }
 
-    /** 변환 실패 처리. */
+    /** 변환 실패 처리. 지문을 반납하여 같은 요청이 다시 변환될 수 있게 합니다. */
     public void fail(String errorMessage, Instant now) {
         this.status = TransformStatus.FAILED;
         this.lastError = errorMessage;
         this.completedAt = now;
         this.updatedAt = now;
+        this.fingerprint = null;
+    }
+
+    /** 진행 중인 리더 요청에 합류합니다. 변환은 수행하지 않고 리더의 결과로 종료됩니다. */
+    public void attachTo(TransformRequest leader) {
+        validateQueued("attach");
+        if (leader.status.isTerminal()) {
+            throw new TransformException(
+                    TransformErrorCode.INVALID_TRANSFORM_STATUS,
+                    "Cannot attach to leader in status: " + leader.status);
+        }
+        this.coalescedInto = leader.id;
+        this.fingerprint = null;
+    }
+
+    /** 이미 완료된 리더의 결과 Asset을 재사용하여 즉시 완료합니다. */
+    public void reuseResultOf(TransformRequest leader, Instant now) {
+        validateQueued("reuse result");
+        if (leader.status != TransformStatus.COMPLETED) {
+            throw new TransformException(
+                    TransformErrorCode.INVALID_TRANSFORM_STATUS,
+                    "Cannot reuse result of leader in status: " + leader.status);
+        }
+        this.coalescedInto = leader.id;
+        this.fingerprint = null;
+        completeWith(leader.resultAssetId, now);
+    }
+
+    /** 합류한 리더가 종료되면 리더와 같은 결과(완료 또는 실패)로 종료합니다. */
+    public void settleWith(TransformRequest leader, Instant now) {
+        validateQueued("settle");
+        if (!leader.id.equals(this.coalescedInto)) {
+            throw new TransformException(
+                    TransformErrorCode.INVALID_TRANSFORM_STATUS,
+                    "Request " + id.value() + " is not coalesced into " + leader.id.value());
+        }
+        switch (leader.status) {
+            case COMPLETED -> completeWith(leader.resultAssetId, now);
+            case FAILED -> fail(leader.lastError, now);
+            default ->
+                    throw new TransformException(
+                            TransformErrorCode.INVALID_TRANSFORM_STATUS,
+                            "Cannot settle with leader in status: " + leader.status);
+        }
+    }
+
+    /** 완료된 결과를 더 이상 재사용할 수 없을 때(결과 Asset 삭제 등) 지문을 반납합니다. */
+    public void releaseFingerprint(Instant now) {
+        this.fingerprint = null;
+        this.updatedAt = now;
+    }
+
+    private void completeWith(AssetId resultAssetId, Instant now) {
+        Objects.requireNonNull(resultAssetId, "resultAssetId must not be null");
+        this.status = TransformStatus.COMPLETED;
+        this.resultAssetId = resultAssetId;
+        this.completedAt = now;
+        this.updatedAt = now;
+        this.lastError = null;
+    }
+
+    private void validateQueued(String action) {
+        if (this.status != TransformStatus.QUEUED) {
+            throw new TransformException(
+                    TransformErrorCode.INVALID_TRANSFORM_STATUS,
+                    "Cannot " + action + " in status: " + this.status);
+        }
     }
 
     // -- query methods --
@@ -206,6 +290,27 @@ public class TransformRequest {
         return callbackUrl != null && !callbackUrl.isBlank();
     }
 
+    public TransformFingerprint fingerprint() {
+        return fingerprint;
+    }
+
+    public String fingerprintValue() {
+        return fingerprint != null ? fingerprint.value() : null;
+    }
+
+    public TransformRequestId coalescedInto() {
+        return coalescedInto;
+    }
+
+    public String coalescedIntoValue() {
+        return coalescedInto != null ? coalescedInto.value() : null;
+    }
+
+    /** 다른 리더 요청에 합류한 요청인지 여부. */
+    public boolean isCoalesced() {
+        return coalescedInto != null;
+    }
+
     public TransformStatus status() {
         return status;
     }
@@ -0,0 +1,118 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 변환 결과로 인코딩 가능한 이미지 포맷.
+ *
+ * <p>포맷 이름, Content-Type, 파일 시그니처(매직 바이트)로부터 포맷을 판별합니다.
+ */
+public enum ImageFormat {
+    JPEG("jpg", "image/jpeg", true),
+    PNG("png", "image/png", false),
+    WEBP("webp", "image/webp", true),
+    GIF("gif", "image/gif", false);
+
+    /** 시그니처 판별에 필요한 최소 헤더 길이. */
+    public static final int SIGNATURE_LENGTH = 12;
+
+    private final String extension;
+    private final String contentType;
+    private final boolean lossy;
+
+    ImageFormat(String extension, String contentType, boolean lossy) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.lossy = lossy;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /** 품질(quality) 파라미터로 출력 크기를 조절할 수 있는 손실 포맷인지 여부. */
+    public boolean isLossy() {
+        return lossy;
+    }
+
+    /**
+     * 포맷 이름(확장자)으로 포맷을 찾습니다. 예: "jpg", "jpeg", "png", "webp", "gif".
+     *
+     * @param name 포맷 이름 (대소문자 무관)
+     * @return 포맷 (지원하지 않으면 empty)
+     */
+    public static Optional<ImageFormat> fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "jpg", "jpeg" -> Optional.of(JPEG);
+            case "png" -> Optional.of(PNG);
+            case "webp" -> Optional.of(WEBP);
+            case "gif" -> Optional.of(GIF);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Content-Type으로 포맷을 찾습니다. 파라미터(예: {@code ;charset=})는 무시합니다.
+     *
+     * @param contentType MIME 타입
+     * @return 포맷 (지원하지 않으면 empty)
+     */
+    public static Optional<ImageFormat> fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return Optional.empty();
+        }
+        String mimeType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return switch (mimeType) {
+            case "image/jpeg", "image/jpg", "image/pjpeg" -> Optional.of(JPEG);
+            case "image/png" -> Optional.of(PNG);
+            case "image/webp" -> Optional.of(WEBP);
+            case "image/gif" -> Optional.of(GIF);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * 파일 앞부분의 시그니처로 실제 포맷을 판별합니다.
+     *
+     * @param header 파일 앞부분 바이트 ({@link #SIGNATURE_LENGTH} 이상 권장)
+     * @return 포맷 (판별 불가 시 empty)
+     */
+    public static Optional<ImageFormat> detect(byte[] header) {
+        if (header == null || header.length < 3) {
+            return Optional.empty();
+        }
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(header, 0, 'G', 'I', 'F', '8')) {
+            return Optional.of(GIF);
+        }
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... signature) {
+        if (bytes.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((bytes[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
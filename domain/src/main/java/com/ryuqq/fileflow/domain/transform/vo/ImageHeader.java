@@ -0,0 +1,163 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 파일 앞부분만 읽어 판별한 이미지 포맷과 크기.
+ *
+ * <p>전체 디코딩 없이 시그니처와 헤더 필드(JPEG SOF, PNG IHDR, GIF 논리 화면, WebP VP8/VP8L/VP8X)만 해석합니다.
+ *
+ * @param format 실제 포맷
+ * @param width 너비 (px)
+ * @param height 높이 (px)
+ */
+public record ImageHeader(ImageFormat format, int width, int height) {
+
+    /** 헤더 판별에 사용하는 앞부분 길이. JPEG는 EXIF(APP1) 세그먼트 뒤에 SOF가 오므로 여유를 둡니다. */
+    public static final int PROBE_LENGTH = 64 * 1024;
+
+    public ImageHeader {
+        if (format == null) {
+            throw new IllegalArgumentException("format must not be null");
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(
+                    "dimension must be positive, got: " + width + "x" + height);
+        }
+    }
+
+    /**
+     * 헤더 바이트에서 포맷과 크기를 판별합니다.
+     *
+     * @param header 파일 앞부분 바이트
+     * @return 판별 결과 (지원하지 않는 포맷이거나 크기 필드가 범위 밖이면 empty)
+     */
+    public static Optional<ImageHeader> probe(byte[] header) {
+        Optional<ImageFormat> format = ImageFormat.detect(header);
+        if (format.isEmpty()) {
+            return Optional.empty();
+        }
+        return switch (format.get()) {
+            case JPEG -> probeJpeg(header);
+            case PNG -> probePng(header);
+            case GIF -> probeGif(header);
+            case WEBP -> probeWebp(header);
+        };
+    }
+
+    /** 원본 크기 기준 픽셀당 비트 수. */
+    public double bitsPerPixel(long fileSize) {
+        return fileSize * 8.0 / ((long) width * height);
+    }
+
+    private static Optional<ImageHeader> probeJpeg(byte[] b) {
+        int pos = 2;
+        while (pos + 3 < b.length) {
+            if ((b[pos] & 0xFF) != 0xFF) {
+                return Optional.empty();
+            }
+            int marker = b[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                pos += 2;
+                continue;
+            }
+            if (isStartOfFrame(marker)) {
+                if (pos + 8 >= b.length) {
+                    return Optional.empty();
+                }
+                int height = uint16BigEndian(b, pos + 5);
+                int width = uint16BigEndian(b, pos + 7);
+                return of(ImageFormat.JPEG, width, height);
+            }
+            if (marker == 0xDA) {
+                return Optional.empty();
+            }
+            pos += 2 + uint16BigEndian(b, pos + 2);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0
+                && marker <= 0xCF
+                && marker != 0xC4
+                && marker != 0xC8
+                && marker != 0xCC;
+    }
+
+    private static Optional<ImageHeader> probePng(byte[] b) {
+        if (b.length < 24) {
+            return Optional.empty();
+        }
+        return of(ImageFormat.PNG, int32BigEndian(b, 16), int32BigEndian(b, 20));
+    }
+
+    private static Optional<ImageHeader> probeGif(byte[] b) {
+        if (b.length < 10) {
+            return Optional.empty();
+        }
+        return of(ImageFormat.GIF, uint16LittleEndian(b, 6), uint16LittleEndian(b, 8));
+    }
+
+    private static Optional<ImageHeader> probeWebp(byte[] b) {
+        if (b.length < 30) {
+            return Optional.empty();
+        }
+        String chunk = new String(b, 12, 4, StandardCharsets.US_ASCII);
+        return switch (chunk) {
+            case "VP8 " ->
+                    of(
+                            ImageFormat.WEBP,
+                            uint16LittleEndian(b, 26) & 0x3FFF,
+                            uint16LittleEndian(b, 28) & 0x3FFF);
+            case "VP8L" -> {
+                int b0 = b[21] & 0xFF;
+                int b1 = b[22] & 0xFF;
+                int b2 = b[23] & 0xFF;
+                int b3 = b[24] & 0xFF;
+                int width = 1 + (((b1 & 0x3F) << 8) | b0);
+                int height = 1 + (((b3 & 0x0F) << 10) | (b2 << 2) | ((b1 & 0xC0) >> 6));
+                yield of(ImageFormat.WEBP, width, height);
+            }
+            case "VP8X" ->
+                    of(
+                            ImageFormat.WEBP,
+                            1 + uint24LittleEndian(b, 24),
+                            1 + uint24LittleEndian(b, 27));
+            default -> Optional.empty();
+        };
+    }
+
+    private static Optional<ImageHeader> of(ImageFormat format, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new ImageHeader(format, width, height));
+    }
+
+    private static int uint16BigEndian(byte[] b, int offset) {
+        return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+    }
+
+    private static int int32BigEndian(byte[] b, int offset) {
+        return ((b[offset] & 0xFF) << 24)
+                | ((b[offset + 1] & 0xFF) << 16)
+                | ((b[offset + 2] & 0xFF) << 8)
+                | (b[offset + 3] & 0xFF);
+    }
+
+    private static int uint16LittleEndian(byte[] b, int offset) {
+        return (b[offset] & 0xFF) | ((b[offset + 1] & 0xFF) << 8);
+    }
+
+    private static int uint24LittleEndian(byte[] b, int offset) {
+        return (b[offset] & 0xFF)
+                | ((b[offset + 1] & 0xFF) << 8)
+                | ((b[offset + 2] & 0xFF) << 16);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import java.util.Objects;
+
+/**
+ * 변환 결과 인코딩 정책.
+ *
+ * @param format 출력 포맷
+ * @param extension 결과 파일 확장자 (요청한 포맷 이름을 보존, 예: "jpeg")
+ * @param quality 손실 포맷 품질 (1-100, null이면 인코더 기본값)
+ */
+public record OutputEncoding(ImageFormat format, String extension, Integer quality) {
+
+    public OutputEncoding {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(extension, "extension must not be null");
+        if (quality != null && (quality < 1 || quality > 100)) {
+            throw new IllegalArgumentException("quality must be 1-100, got: " + quality);
+        }
+    }
+
+    public static OutputEncoding of(ImageFormat format, Integer quality) {
+        return new OutputEncoding(format, format.extension(), quality);
+    }
+
+    public String contentType() {
+        return format.contentType();
+    }
+
+    public boolean sameFormatAs(ImageFormat other) {
+        return format == other;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 변환 요청 지문.
+ *
+ * <p>같은 원본에 같은 변환을 요청하면 같은 지문이 나옵니다. 원본 Asset ID, 변환 유형, 파라미터를 정규화한 문자열의 SHA-256 값(hex 64자)입니다.
+ *
+ * @param value SHA-256 hex 문자열
+ */
+public record TransformFingerprint(String value) {
+
+    private static final int LENGTH = 64;
+    private static final String VERSION = "v1";
+
+    public TransformFingerprint {
+        Objects.requireNonNull(value, "TransformFingerprint must not be null");
+        if (value.length() != LENGTH) {
+            throw new IllegalArgumentException(
+                    "TransformFingerprint must be " + LENGTH + " hex chars, got: " + value);
+        }
+    }
+
+    public static TransformFingerprint of(String value) {
+        return new TransformFingerprint(value);
+    }
+
+    public static TransformFingerprint of(
+            AssetId sourceAssetId, TransformType type, TransformParams params) {
+        String canonical =
+                String.join(
+                        "|",
+                        VERSION,
+                        sourceAssetId.value(),
+                        type.name(),
+                        String.valueOf(params.width()),
+                        String.valueOf(params.height()),
+                        String.valueOf(params.maintainAspectRatio()),
+                        normalizeFormat(params.targetFormat()),
+                        String.valueOf(params.quality()));
+        return new TransformFingerprint(sha256Hex(canonical));
+    }
+
+    private static String normalizeFormat(String targetFormat) {
+        if (targetFormat == null || targetFormat.isBlank()) {
+            return "null";
+        }
+        return targetFormat.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256Hex(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ryuqq.fileflow.domain.transform.vo;
 
+import java.util.Locale;
+
 /**
  * 이미지 변환 파라미터.
  *
@@ -12,11 +14,14 @@ package com.ryuqq.fileflow.domain.transform.vo;
  *   <li>THUMBNAIL: width, height (고정 작은 사이즈)
  * </ul>
  *
+ * <p>출력 인코딩은 모든 유형에서 {@link #resolveEncoding}으로 결정됩니다. targetFormat을 지정하지 않으면 원본 포맷을 유지하고,
+ * quality를 지정하면 손실 포맷(JPEG, WebP) 인코딩에 적용합니다.
+ *
  * @param width 대상 너비 (px, nullable)
  * @param height 대상 높이 (px, nullable)
  * @param maintainAspectRatio 비율 유지 여부 (RESIZE 시)
- * @param targetFormat 대상 포맷 (CONVERT 시, 예: "webp", "png", "jpeg")
- * @param quality 압축 품질 (COMPRESS 시, 1-100)
+ * @param targetFormat 출력 포맷 (CONVERT 시 필수, 그 외 선택. 예: "webp", "png", "jpeg")
+ * @param quality 손실 포맷 품질 (COMPRESS 시 필수, 그 외 선택. 1-100)
  */
 public record TransformParams(
         Integer width,
@@ -25,6 +30,8 @@ public record TransformParams(
         String targetFormat,
         Integer quality) {
 
+    private static final double COMPRESS_QUALITY_PER_BIT = 40.0;
+
     public TransformParams {
         if (width != null && width <= 0) {
             throw new IllegalArgumentException("width must be positive, got: " + width);
@@ -55,4 +62,89 @@ public record TransformParams(
     public static TransformParams forThumbnail(int width, int height) {
         return new TransformParams(width, height, true, null, null);
     }
+
+    /**
+     * 출력 인코딩 정책을 결정합니다.
+     *
+     * <ul>
+     *   <li>targetFormat 지정 시: 해당 포맷 (확장자는 요청한 이름 유지)
+     *   <li>미지정 시: 원본 포맷 유지. 원본 포맷을 알 수 없으면 PNG
+     *   <li>COMPRESS이면서 원본이 무손실 포맷(PNG, GIF)이면: 품질 조절이 가능한 JPEG
+     * </ul>
+     *
+     * @param type 변환 유형
+     * @param sourceFormat 원본 포맷 (nullable)
+     * @return 출력 인코딩
+     */
+    public OutputEncoding resolveEncoding(TransformType type, ImageFormat sourceFormat) {
+        if (targetFormat != null && !targetFormat.isBlank()) {
+            ImageFormat format =
+                    ImageFormat.fromName(targetFormat)
+                            .orElseThrow(
+                                    () ->
+                                            new IllegalArgumentException(
+                                                    "지원하지 않는 포맷: " + targetFormat));
+            String extension = targetFormat.trim().toLowerCase(Locale.ROOT);
+            return new OutputEncoding(format, extension, quality);
+        }
+
+        ImageFormat format = sourceFormat != null ? sourceFormat : ImageFormat.PNG;
+        if (type == TransformType.COMPRESS && !format.isLossy()) {
+            format = ImageFormat.JPEG;
+        }
+        return OutputEncoding.of(format, quality);
+    }
+
+    /**
+     * 원본 Content-Type만으로 재인코딩을 생략할 수 있는 후보인지 판단합니다.
+     *
+     * <ul>
+     *   <li>CONVERT: 출력 포맷이 원본과 같고 quality를 지정하지 않은 경우
+     *   <li>COMPRESS: 출력 포맷이 원본과 같은 손실 포맷인 경우 (최종 판단은 {@link #isNoOpFor})
+     * </ul>
+     *
+     * @param type 변환 유형
+     * @param declaredFormat 원본 Content-Type으로 판별한 포맷 (nullable)
+     * @return 후보 여부
+     */
+    public boolean canSkipTranscode(TransformType type, ImageFormat declaredFormat) {
+        if (declaredFormat == null) {
+            return false;
+        }
+        OutputEncoding encoding;
+        try {
+            encoding = resolveEncoding(type, declaredFormat);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (!encoding.sameFormatAs(declaredFormat)) {
+            return false;
+        }
+        return switch (type) {
+            case CONVERT -> quality == null;
+            case COMPRESS -> quality != null && declaredFormat.isLossy();
+            case RESIZE, THUMBNAIL -> false;
+        };
+    }
+
+    /**
+     * 헤더를 확인한 원본에 대해 변환이 결과를 바꾸지 않는지 판단합니다.
+     *
+     * <p>COMPRESS는 원본의 픽셀당 비트 수가 요청 품질로 재인코딩했을 때의 예상 상한({@code quality / 40} bpp, 예: 80 → 2bpp)
+     * 이하이면 이미 충분히 작은 것으로 봅니다.
+     *
+     * @param type 변환 유형
+     * @param source 원본 헤더
+     * @param sourceSize 원본 크기 (bytes)
+     * @return 원본을 그대로 복사해도 되는지 여부
+     */
+    public boolean isNoOpFor(TransformType type, ImageHeader source, long sourceSize) {
+        if (!canSkipTranscode(type, source.format())) {
+            return false;
+        }
+        if (type == TransformType.CONVERT) {
+            return true;
+        }
+        return source.bitsPerPixel(sourceSize) <= quality / COMPRESS_QUALITY_PER_BIT;
+    }
 }
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import com.ryuqq.fileflow.domain.common.vo.CacheKey;
+
+public record TransformRequestCacheKey(String transformRequestId) implements CacheKey {
+
+    private static final String PREFIX = "cache:transform-request:";
+
+    public TransformRequestCacheKey {
+        if (transformRequestId == null || transformRequestId.isBlank()) {
+            throw new IllegalArgumentException("transformRequestId must not be blank");
+        }
+    }
+
+    public static TransformRequestCacheKey of(String transformRequestId) {
+        return new TransformRequestCacheKey(transformRequestId);
+    }
+
+    @Override
+    public String value() {
+        return PREFIX + transformRequestId;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("AssetCursor Value Object 단위 테스트")
+class AssetCursorTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00.123456Z");
+
+    @Nested
+    @DisplayName("of - 생성")
+    class Of {
+
+        @Test
+        @DisplayName("createdAt이 null이면 예외가 발생한다")
+        void nullCreatedAtThrows() {
+            assertThatThrownBy(() -> AssetCursor.of(null, "asset-001"))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("assetId가 비어 있으면 예외가 발생한다")
+        void blankAssetIdThrows() {
+            assertThatThrownBy(() -> AssetCursor.of(CREATED_AT, " "))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("encode / decode")
+    class EncodeDecode {
+
+        @Test
+        @DisplayName("인코딩한 커서를 그대로 복원한다")
+        void roundTrip() {
+            AssetCursor cursor = AssetCursor.of(CREATED_AT, "asset-001");
+
+            AssetCursor decoded = AssetCursor.decode(cursor.encode());
+
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("인코딩 결과는 URL-safe 문자만 사용한다")
+        void encodesUrlSafe() {
+            String encoded = AssetCursor.of(CREATED_AT, "asset-001").encode();
+
+            assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        }
+
+        @Test
+        @DisplayName("Base64가 아니면 예외가 발생한다")
+        void invalidBase64Throws() {
+            assertThatThrownBy(() -> AssetCursor.decode("!!not-base64!!"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("구분자나 시각 형식이 올바르지 않으면 예외가 발생한다")
+        void invalidFormatThrows() {
+            String noDelimiter = encodeRaw("2026-01-01T00:00:00Z");
+            String invalidInstant = encodeRaw("yesterday|asset-001");
+
+            assertThatThrownBy(() -> AssetCursor.decode(noDelimiter))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> AssetCursor.decode(invalidInstant))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
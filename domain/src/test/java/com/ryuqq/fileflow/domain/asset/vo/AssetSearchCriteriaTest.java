@@ -0,0 +1,90 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.common.vo.CursorPageRequest;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("AssetSearchCriteria Value Object 단위 테스트")
+class AssetSearchCriteriaTest {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("of - 생성")
+    class Of {
+
+        @Test
+        @DisplayName("정렬 방향과 페이지 요청이 없으면 오름차순 기본 페이지로 생성한다")
+        void appliesDefaults() {
+            AssetSearchCriteria criteria =
+                    AssetSearchCriteria.of("commerce-api", " ", null, null, null, null, null);
+
+            assertThat(criteria.purpose()).isNull();
+            assertThat(criteria.direction()).isEqualTo(SortDirection.ASC);
+            assertThat(criteria.size()).isEqualTo(CursorPageRequest.DEFAULT_SIZE);
+            assertThat(criteria.fetchSize()).isEqualTo(CursorPageRequest.DEFAULT_SIZE + 1);
+            assertThat(criteria.cursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("source가 비어 있으면 예외가 발생한다")
+        void blankSourceThrows() {
+            assertThatThrownBy(
+                            () -> AssetSearchCriteria.of(" ", null, null, null, null, null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("createdFrom이 createdTo보다 늦거나 같으면 예외가 발생한다")
+        void invalidRangeThrows() {
+            assertThatThrownBy(
+                            () ->
+                                    AssetSearchCriteria.of(
+                                            "commerce-api", null, null, TO, FROM, null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 생성 시점에 예외가 발생한다")
+        void invalidCursorThrows() {
+            CursorPageRequest pageRequest = CursorPageRequest.of("!!invalid!!", 20);
+
+            assertThatThrownBy(
+                            () ->
+                                    AssetSearchCriteria.of(
+                                            "commerce-api",
+                                            null,
+                                            null,
+                                            null,
+                                            null,
+                                            null,
+                                            pageRequest))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("cursor - 커서 해석")
+    class Cursor {
+
+        @Test
+        @DisplayName("페이지 요청의 커서를 AssetCursor로 복원한다")
+        void decodesCursor() {
+            AssetCursor cursor = AssetCursor.of(FROM, "asset-001");
+
+            AssetSearchCriteria criteria = AssetSearchCriteriaFixture.aNextPageCriteria(cursor, 50);
+
+            assertThat(criteria.cursor()).isEqualTo(cursor);
+            assertThat(criteria.size()).isEqualTo(50);
+        }
+    }
+}
@@ -42,4 +42,18 @@ class DownloadTaskStatusTest {
     void failedDisplayName() {
         assertThat(DownloadTaskStatus.FAILED.displayName()).isEqualTo("실패");
     }
+
+    @Test
+    @DisplayName("COMPLETED와 FAILED는 terminal 상태이다")
+    void terminalStates() {
+        assertThat(DownloadTaskStatus.COMPLETED.isTerminal()).isTrue();
+        assertThat(DownloadTaskStatus.FAILED.isTerminal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("QUEUED와 DOWNLOADING은 terminal 상태가 아니다")
+    void nonTerminalStates() {
+        assertThat(DownloadTaskStatus.QUEUED.isTerminal()).isFalse();
+        assertThat(DownloadTaskStatus.DOWNLOADING.isTerminal()).isFalse();
+    }
 }
@@ -12,6 +12,7 @@ import com.ryuqq.fileflow.domain.session.exception.SessionException;
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
 import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
+import com.ryuqq.fileflow.domain.session.vo.MultipartUploadRef;
 import com.ryuqq.fileflow.domain.session.vo.MultipartUploadSessionUpdateData;
 import com.ryuqq.fileflow.domain.session.vo.UploadTargetFixture;
 import java.time.Duration;
@@ -41,6 +42,22 @@ class MultipartUploadSessionTest {
                 NOW);
     }
 
+    private MultipartUploadSession createUploadingSession() {
+        Instant partTime = NOW.plusSeconds(10);
+        return MultipartUploadSession.reconstitute(
+                MultipartUploadSessionId.of("multipart-001"),
+                UploadTargetFixture.anUploadTarget(),
+                "upload-id-001",
+                5_242_880L,
+                "product-image",
+                "commerce-service",
+                MultipartSessionStatus.UPLOADING,
+                EXPIRES_AT,
+                NOW,
+                partTime,
+                List.of(CompletedPart.of(1, "etag-1", 5_242_880L, partTime)));
+    }
+
     @Nested
     @DisplayName("forNew - 세션 생성")
     class ForNew {
@@ -66,6 +83,9 @@ class MultipartUploadSessionTest {
             assertThat(session.accessType()).isEqualTo(AccessType.PUBLIC);
             assertThat(session.fileName()).isEqualTo("product-image.jpg");
             assertThat(session.contentType()).isEqualTo("image/jpeg");
+            assertThat(session.uploadRef())
+                    .isEqualTo(
+                            MultipartUploadRef.of("public/2026/01/file-001.jpg", "upload-id-001"));
         }
 
         @Test
@@ -78,79 +98,65 @@ class MultipartUploadSessionTest {
     }
 
     @Nested
-    @DisplayName("addCompletedPart - 파트 업로드 완료")
-    class AddCompletedPart {
+    @DisplayName("acceptCompletedPart - 파트 단위 기록")
+    class AcceptCompletedPart {
 
         @Test
-        @DisplayName("첫 번째 파트 추가 시 INITIATED에서 UPLOADING으로 전환된다")
+        @DisplayName("첫 파트면 UPLOADING으로 전이하고 true를 반환한다")
         void transitionsToUploadingOnFirstPart() {
             MultipartUploadSession session = createSession();
             Instant partTime = NOW.plusSeconds(10);
 
-            session.addCompletedPart(CompletedPart.of(1, "etag-part-1", 5_242_880L, partTime));
+            boolean started =
+                    session.acceptCompletedPart(
+                            CompletedPart.of(1, "etag-1", 5_242_880L, partTime));
 
+            assertThat(started).isTrue();
             assertThat(session.status()).isEqualTo(MultipartSessionStatus.UPLOADING);
-            assertThat(session.completedPartCount()).isEqualTo(1);
-            assertThat(session.completedParts().get(0).partNumber()).isEqualTo(1);
-            assertThat(session.completedParts().get(0).etag()).isEqualTo("etag-part-1");
-            assertThat(session.completedParts().get(0).size()).isEqualTo(5_242_880L);
-            assertThat(session.completedParts().get(0).createdAt()).isEqualTo(partTime);
             assertThat(session.updatedAt()).isEqualTo(partTime);
+            assertThat(session.completedParts()).isEmpty();
         }
 
         @Test
-        @DisplayName("여러 파트를 추가할 수 있다")
-        void addsMultipleParts() {
+        @DisplayName("이미 UPLOADING이면 상태를 바꾸지 않고 false를 반환한다")
+        void keepsStateWhenAlreadyUploading() {
             MultipartUploadSession session = createSession();
-
-            session.addCompletedPart(
+            session.acceptCompletedPart(
                     CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
-            session.addCompletedPart(
-                    CompletedPart.of(2, "etag-2", 5_242_880L, NOW.plusSeconds(20)));
-            session.addCompletedPart(
-                    CompletedPart.of(3, "etag-3", 3_000_000L, NOW.plusSeconds(30)));
 
-            assertThat(session.completedPartCount()).isEqualTo(3);
-            assertThat(session.status()).isEqualTo(MultipartSessionStatus.UPLOADING);
+            boolean started =
+                    session.acceptCompletedPart(
+                            CompletedPart.of(2, "etag-2", 5_242_880L, NOW.plusSeconds(20)));
+
+            assertThat(started).isFalse();
+            assertThat(session.updatedAt()).isEqualTo(NOW.plusSeconds(10));
         }
 
         @Test
-        @DisplayName("중복 partNumber 추가 시 SessionException이 발생한다")
-        void throwsOnDuplicatePartNumber() {
+        @DisplayName("ABORTED 상태에서 호출 시 SessionException이 발생한다")
+        void throwsWhenAborted() {
             MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            session.abort(NOW.plusSeconds(10));
 
             assertThatThrownBy(
                             () ->
-                                    session.addCompletedPart(
+                                    session.acceptCompletedPart(
                                             CompletedPart.of(
-                                                    1,
-                                                    "etag-1-dup",
-                                                    5_242_880L,
-                                                    NOW.plusSeconds(20))))
-                    .isInstanceOf(SessionException.class)
-                    .satisfies(
-                            e -> {
-                                SessionException ex = (SessionException) e;
-                                assertThat(ex.getErrorCode())
-                                        .isEqualTo(SessionErrorCode.PART_NUMBER_DUPLICATE);
-                            });
+                                                    1, "etag-1", 5_242_880L, NOW.plusSeconds(20))))
+                    .isInstanceOf(SessionException.class);
         }
 
         @Test
-        @DisplayName("COMPLETED 상태에서 addCompletedPart 호출 시 SessionException이 발생한다")
+        @DisplayName("COMPLETED 상태에서 호출 시 SESSION_ALREADY_COMPLETED 예외가 발생한다")
         void throwsWhenCompleted() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             session.complete(
                     MultipartUploadSessionUpdateData.of(10_000_000L, "etag-final"),
                     NOW.plusSeconds(30));
 
             assertThatThrownBy(
                             () ->
-                                    session.addCompletedPart(
+                                    session.acceptCompletedPart(
                                             CompletedPart.of(
                                                     2, "etag-2", 5_242_880L, NOW.plusSeconds(40))))
                     .isInstanceOf(SessionException.class)
@@ -163,46 +169,78 @@ class MultipartUploadSessionTest {
         }
 
         @Test
-        @DisplayName("ABORTED 상태에서 addCompletedPart 호출 시 SessionException이 발생한다")
-        void throwsWhenAborted() {
+        @DisplayName("EXPIRED 상태에서 호출 시 SESSION_EXPIRED 예외가 발생한다")
+        void throwsWhenExpired() {
             MultipartUploadSession session = createSession();
-            session.abort(NOW.plusSeconds(10));
+            session.expire(EXPIRES_AT.plusSeconds(1));
 
             assertThatThrownBy(
                             () ->
-                                    session.addCompletedPart(
+                                    session.acceptCompletedPart(
                                             CompletedPart.of(
-                                                    1, "etag-1", 5_242_880L, NOW.plusSeconds(20))))
+                                                    1,
+                                                    "etag-1",
+                                                    5_242_880L,
+                                                    EXPIRES_AT.plusSeconds(2))))
                     .isInstanceOf(SessionException.class)
                     .satisfies(
                             e -> {
                                 SessionException ex = (SessionException) e;
                                 assertThat(ex.getErrorCode())
-                                        .isEqualTo(SessionErrorCode.SESSION_ALREADY_ABORTED);
+                                        .isEqualTo(SessionErrorCode.SESSION_EXPIRED);
                             });
         }
+    }
+
+    @Nested
+    @DisplayName("acceptCompletedParts - 파트 일괄 기록")
+    class AcceptCompletedParts {
 
         @Test
-        @DisplayName("EXPIRED 상태에서 addCompletedPart 호출 시 SessionException이 발생한다")
-        void throwsWhenExpired() {
+        @DisplayName("첫 요청이면 UPLOADING으로 전이하고 true를 반환한다")
+        void transitionsToUploadingOnFirstBatch() {
             MultipartUploadSession session = createSession();
-            session.expire(EXPIRES_AT.plusSeconds(1));
+            Instant partTime = NOW.plusSeconds(10);
 
-            assertThatThrownBy(
-                            () ->
-                                    session.addCompletedPart(
-                                            CompletedPart.of(
-                                                    1,
-                                                    "etag-1",
-                                                    5_242_880L,
-                                                    EXPIRES_AT.plusSeconds(2))))
+            boolean started =
+                    session.acceptCompletedParts(
+                            List.of(
+                                    CompletedPart.of(1, "etag-1", 5_242_880L, partTime),
+                                    CompletedPart.of(2, "etag-2", 5_242_880L, partTime)));
+
+            assertThat(started).isTrue();
+            assertThat(session.status()).isEqualTo(MultipartSessionStatus.UPLOADING);
+            assertThat(session.updatedAt()).isEqualTo(partTime);
+        }
+
+        @Test
+        @DisplayName("요청 안에 같은 파트 번호가 있으면 PART_NUMBER_DUPLICATE 예외가 발생한다")
+        void throwsWhenPartNumberRepeated() {
+            MultipartUploadSession session = createSession();
+            Instant partTime = NOW.plusSeconds(10);
+            List<CompletedPart> parts =
+                    List.of(
+                            CompletedPart.of(1, "etag-1", 5_242_880L, partTime),
+                            CompletedPart.of(1, "etag-1b", 5_242_880L, partTime));
+
+            assertThatThrownBy(() -> session.acceptCompletedParts(parts))
                     .isInstanceOf(SessionException.class)
                     .satisfies(
                             e -> {
                                 SessionException ex = (SessionException) e;
                                 assertThat(ex.getErrorCode())
-                                        .isEqualTo(SessionErrorCode.SESSION_EXPIRED);
+                                        .isEqualTo(SessionErrorCode.PART_NUMBER_DUPLICATE);
                             });
+            assertThat(session.status()).isEqualTo(MultipartSessionStatus.INITIATED);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 SessionException이 발생한다")
+        void throwsWhenEmpty() {
+            MultipartUploadSession session = createSession();
+
+            assertThatThrownBy(() -> session.acceptCompletedParts(List.of()))
+                    .isInstanceOf(SessionException.class);
         }
     }
 
@@ -213,9 +251,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("UPLOADING 상태에서 complete 호출 시 COMPLETED로 전환된다")
         void transitionsToCompleted() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             Instant completeTime = NOW.plusSeconds(30);
 
             session.complete(
@@ -228,9 +264,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("complete 호출 시 UploadCompletedEvent가 발행된다")
         void publishesUploadCompletedEvent() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             Instant completeTime = NOW.plusSeconds(30);
 
             session.complete(
@@ -274,9 +308,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("COMPLETED 상태에서 complete 호출 시 SessionException이 발생한다")
         void throwsWhenAlreadyCompleted() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             session.complete(
                     MultipartUploadSessionUpdateData.of(10_000_000L, "etag-final"),
                     NOW.plusSeconds(30));
@@ -299,9 +331,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("시간이 만료된 상태에서 complete 호출 시 SessionException이 발생한다")
         void throwsWhenTimeExpired() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
 
             assertThatThrownBy(
                             () ->
@@ -338,9 +368,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("UPLOADING 상태에서 abort 호출 시 ABORTED로 전환된다")
         void abortsFromUploading() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             Instant abortTime = NOW.plusSeconds(30);
 
             session.abort(abortTime);
@@ -352,9 +380,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("COMPLETED 상태에서 abort 호출 시 SessionException이 발생한다")
         void throwsWhenCompleted() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             session.complete(
                     MultipartUploadSessionUpdateData.of(10_000_000L, "etag-final"),
                     NOW.plusSeconds(30));
@@ -389,9 +415,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("UPLOADING 상태에서 expire 호출 시 EXPIRED로 전환된다")
         void expiresFromUploading() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
 
             session.expire(EXPIRES_AT.plusSeconds(1));
 
@@ -401,9 +425,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("COMPLETED 상태에서 expire 호출 시 상태가 변경되지 않는다")
         void ignoresWhenCompleted() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             session.complete(
                     MultipartUploadSessionUpdateData.of(10_000_000L, "etag-final"),
                     NOW.plusSeconds(30));
@@ -453,9 +475,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("pollEvents 호출 후 이벤트가 비워진다")
         void clearsEventsAfterPoll() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             session.complete(
                     MultipartUploadSessionUpdateData.of(10_485_760L, "etag-final"),
                     NOW.plusSeconds(30));
@@ -510,9 +530,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("UPLOADING 상태에서 만료 전이면 예외가 발생하지 않는다")
         void doesNotThrowWhenUploadingAndNotExpired() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
 
             assertThatCode(() -> session.validateUploadable(NOW.plusSeconds(30)))
                     .doesNotThrowAnyException();
@@ -521,9 +539,7 @@ class MultipartUploadSessionTest {
         @Test
         @DisplayName("COMPLETED 상태에서 호출 시 SessionException이 발생한다")
         void throwsWhenCompleted() {
-            MultipartUploadSession session = createSession();
-            session.addCompletedPart(
-                    CompletedPart.of(1, "etag-1", 5_242_880L, NOW.plusSeconds(10)));
+            MultipartUploadSession session = createUploadingSession();
             session.complete(
                     MultipartUploadSessionUpdateData.of(10_000_000L, "etag-final"),
                     NOW.plusSeconds(30));
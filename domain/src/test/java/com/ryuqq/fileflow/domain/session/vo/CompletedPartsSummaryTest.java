@@ -0,0 +1,70 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("CompletedPartsSummary Value Object 단위 테스트")
+class CompletedPartsSummaryTest {
+
+    @Nested
+    @DisplayName("of - 생성")
+    class Of {
+
+        @Test
+        @DisplayName("유효한 값으로 생성할 수 있다")
+        void createsWithValidValues() {
+            CompletedPartsSummary summary = CompletedPartsSummary.of(3, 15_728_640L, 2);
+
+            assertThat(summary.partCount()).isEqualTo(3);
+            assertThat(summary.totalSize()).isEqualTo(15_728_640L);
+            assertThat(summary.highestContiguousPartNumber()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("empty는 모든 값이 0이다")
+        void emptyHasZeroValues() {
+            CompletedPartsSummary summary = CompletedPartsSummary.empty();
+
+            assertThat(summary.partCount()).isZero();
+            assertThat(summary.totalSize()).isZero();
+            assertThat(summary.highestContiguousPartNumber()).isZero();
+        }
+
+        @Test
+        @DisplayName("음수 partCount는 예외가 발생한다")
+        void negativePartCountThrows() {
+            assertThatThrownBy(() -> CompletedPartsSummary.of(-1, 0L, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("highestContiguousPartNumber가 partCount보다 크면 예외가 발생한다")
+        void contiguousGreaterThanCountThrows() {
+            assertThatThrownBy(() -> CompletedPartsSummary.of(2, 10L, 3))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("isContiguous - 연속 여부")
+    class IsContiguous {
+
+        @Test
+        @DisplayName("1번부터 모든 파트가 이어져 있으면 true")
+        void allContiguousReturnsTrue() {
+            assertThat(CompletedPartsSummary.of(3, 30L, 3).isContiguous()).isTrue();
+        }
+
+        @Test
+        @DisplayName("중간에 빠진 파트가 있으면 false")
+        void gapReturnsFalse() {
+            assertThat(CompletedPartsSummary.of(3, 30L, 1).isContiguous()).isFalse();
+        }
+    }
+}
@@ -45,4 +45,20 @@ class MultipartSessionStatusTest {
     void hasFiveValues() {
         assertThat(MultipartSessionStatus.values()).hasSize(5);
     }
+
+    @Test
+    @DisplayName("만료 가능한 상태는 INITIATED, UPLOADING이다")
+    void expirableStatuses() {
+        assertThat(MultipartSessionStatus.expirableStatuses())
+                .containsExactly(
+                        MultipartSessionStatus.INITIATED, MultipartSessionStatus.UPLOADING);
+    }
+
+    @Test
+    @DisplayName("파트를 받을 수 있는 상태는 INITIATED, UPLOADING이다")
+    void partAcceptingStatuses() {
+        assertThat(MultipartSessionStatus.partAcceptingStatuses())
+                .containsExactly(
+                        MultipartSessionStatus.INITIATED, MultipartSessionStatus.UPLOADING);
+    }
 }
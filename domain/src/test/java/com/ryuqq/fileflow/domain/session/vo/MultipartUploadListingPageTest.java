@@ -0,0 +1,96 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("MultipartUploadListingPage Value Object 단위 테스트")
+class MultipartUploadListingPageTest {
+
+    private static final Instant INITIATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("hasNext - 다음 페이지 여부")
+    class HasNext {
+
+        @Test
+        @DisplayName("다음 키 마커가 있으면 다음 페이지가 있다")
+        void hasNextWhenKeyMarkerPresent() {
+            MultipartUploadListingPage page =
+                    MultipartUploadListingPage.of(List.of(listing()), "key", "upload-001");
+
+            assertThat(page.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 다음 페이지가 없다")
+        void lastPageHasNoNext() {
+            MultipartUploadListingPage page = MultipartUploadListingPage.last(List.of(listing()));
+
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.nextUploadIdMarker()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("uploads - 업로드 목록")
+    class Uploads {
+
+        @Test
+        @DisplayName("null 목록은 빈 목록으로 바뀐다")
+        void nullBecomesEmpty() {
+            assertThat(MultipartUploadListingPage.last(null).uploads()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("원본 목록을 바꿔도 페이지는 바뀌지 않는다")
+        void copiesUploads() {
+            List<MultipartUploadListing> uploads = new ArrayList<>(List.of(listing()));
+            MultipartUploadListingPage page = MultipartUploadListingPage.last(uploads);
+
+            uploads.clear();
+
+            assertThat(page.uploads()).hasSize(1);
+            assertThatThrownBy(() -> page.uploads().clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("MultipartUploadListing")
+    class Listing {
+
+        @Test
+        @DisplayName("기준 시각보다 먼저 시작된 업로드인지 판별한다")
+        void initiatedBefore() {
+            MultipartUploadListing listing = listing();
+
+            assertThat(listing.initiatedBefore(INITIATED_AT.plusSeconds(1))).isTrue();
+            assertThat(listing.initiatedBefore(INITIATED_AT)).isFalse();
+            assertThat(listing.uploadId()).isEqualTo("upload-001");
+        }
+
+        @Test
+        @DisplayName("시작 시각이 null이면 NullPointerException이 발생한다")
+        void throwsWhenInitiatedAtIsNull() {
+            assertThatThrownBy(
+                            () ->
+                                    MultipartUploadListing.of(
+                                            MultipartUploadRef.of("key", "upload-001"), null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("initiatedAt must not be null");
+        }
+    }
+
+    private static MultipartUploadListing listing() {
+        return MultipartUploadListing.of(MultipartUploadRef.of("key", "upload-001"), INITIATED_AT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("MultipartUploadRef Value Object 단위 테스트")
+class MultipartUploadRefTest {
+
+    @Nested
+    @DisplayName("of - 생성")
+    class Of {
+
+        @Test
+        @DisplayName("객체 키와 uploadId로 생성할 수 있다")
+        void createsWithValidValues() {
+            MultipartUploadRef ref = MultipartUploadRef.of("public/2026/01/file.jpg", "upload-001");
+
+            assertThat(ref.s3Key()).isEqualTo("public/2026/01/file.jpg");
+            assertThat(ref.uploadId()).isEqualTo("upload-001");
+        }
+
+        @Test
+        @DisplayName("같은 값이면 동등하다")
+        void equalsWithSameValues() {
+            assertThat(MultipartUploadRef.of("key", "upload-001"))
+                    .isEqualTo(MultipartUploadRef.of("key", "upload-001"));
+        }
+    }
+
+    @Nested
+    @DisplayName("유효성 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("s3Key가 null이면 NullPointerException이 발생한다")
+        void throwsWhenS3KeyIsNull() {
+            assertThatThrownBy(() -> MultipartUploadRef.of(null, "upload-001"))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("s3Key must not be null");
+        }
+
+        @Test
+        @DisplayName("uploadId가 null이면 NullPointerException이 발생한다")
+        void throwsWhenUploadIdIsNull() {
+            assertThatThrownBy(() -> MultipartUploadRef.of("key", null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("uploadId must not be null");
+        }
+    }
+}
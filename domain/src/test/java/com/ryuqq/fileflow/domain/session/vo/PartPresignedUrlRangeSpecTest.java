@@ -0,0 +1,86 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.session.exception.SessionErrorCode;
+import com.ryuqq.fileflow.domain.session.exception.SessionException;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("PartPresignedUrlRangeSpec Value Object 단위 테스트")
+class PartPresignedUrlRangeSpecTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant EXPIRES_AT = NOW.plus(Duration.ofHours(2));
+
+    @Nested
+    @DisplayName("of - 팩토리 메서드")
+    class Of {
+
+        @Test
+        @DisplayName("범위의 파트 수와 단일 파트와 같은 TTL이 계산된다")
+        void computesPartCountAndTtl() {
+            PartPresignedUrlRangeSpec spec =
+                    PartPresignedUrlRangeSpec.of("key", "upload-id", 1, 500, EXPIRES_AT, NOW);
+
+            assertThat(spec.partCount()).isEqualTo(500);
+            assertThat(spec.ttl()).isEqualTo(Duration.ofHours(1));
+            assertThat(spec.createdAt()).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("세션 남은 시간이 기본 TTL보다 짧으면 남은 시간이 적용된다")
+        void usesRemainingTimeWhenShorterThanDefault() {
+            PartPresignedUrlRangeSpec spec =
+                    PartPresignedUrlRangeSpec.of(
+                            "key", "upload-id", 1, 1, NOW.plus(Duration.ofMinutes(10)), NOW);
+
+            assertThat(spec.ttlSeconds()).isEqualTo(600L);
+        }
+    }
+
+    @Nested
+    @DisplayName("범위 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("시작 파트 번호가 끝보다 크면 PART_NUMBER_INVALID 예외가 발생한다")
+        void throwsWhenFromIsAfterTo() {
+            assertThatThrownBy(
+                            () ->
+                                    PartPresignedUrlRangeSpec.of(
+                                            "key", "upload-id", 10, 5, EXPIRES_AT, NOW))
+                    .isInstanceOf(SessionException.class)
+                    .satisfies(
+                            e ->
+                                    assertThat(((SessionException) e).getErrorCode())
+                                            .isEqualTo(SessionErrorCode.PART_NUMBER_INVALID));
+        }
+
+        @Test
+        @DisplayName("파트 번호가 10,000을 넘으면 예외가 발생한다")
+        void throwsWhenBeyondMaxPartNumber() {
+            assertThatThrownBy(
+                            () ->
+                                    PartPresignedUrlRangeSpec.of(
+                                            "key", "upload-id", 9_990, 10_001, EXPIRES_AT, NOW))
+                    .isInstanceOf(SessionException.class);
+        }
+
+        @Test
+        @DisplayName("한 번에 1,000개를 넘게 요청하면 예외가 발생한다")
+        void throwsWhenRangeTooLarge() {
+            assertThatThrownBy(
+                            () ->
+                                    PartPresignedUrlRangeSpec.of(
+                                            "key", "upload-id", 1, 1_001, EXPIRES_AT, NOW))
+                    .isInstanceOf(SessionException.class);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("PresignedUploadSpec Value Object 단위 테스트")
+class PresignedUploadSpecTest {
+
+    @Nested
+    @DisplayName("of - 생성")
+    class Of {
+
+        @Test
+        @DisplayName("객체 키, MIME 타입, TTL로 생성할 수 있다")
+        void createsWithValidValues() {
+            PresignedUploadSpec spec =
+                    PresignedUploadSpec.of(
+                            "public/2026/01/file.jpg", "image/jpeg", Duration.ofHours(1));
+
+            assertThat(spec.s3Key()).isEqualTo("public/2026/01/file.jpg");
+            assertThat(spec.contentType()).isEqualTo("image/jpeg");
+            assertThat(spec.ttl()).isEqualTo(Duration.ofHours(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("유효성 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("s3Key가 null이면 NullPointerException이 발생한다")
+        void throwsWhenS3KeyIsNull() {
+            assertThatThrownBy(
+                            () -> PresignedUploadSpec.of(null, "image/jpeg", Duration.ofHours(1)))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("s3Key must not be null");
+        }
+
+        @Test
+        @DisplayName("TTL이 0이면 IllegalArgumentException이 발생한다")
+        void throwsWhenTtlIsZero() {
+            assertThatThrownBy(() -> PresignedUploadSpec.of("key", "image/jpeg", Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ttl must be positive");
+        }
+    }
+}
@@ -33,4 +33,11 @@ class SingleSessionStatusTest {
     void hasThreeValues() {
         assertThat(SingleSessionStatus.values()).hasSize(3);
     }
+
+    @Test
+    @DisplayName("만료 가능한 상태는 CREATED뿐이다")
+    void expirableStatuses() {
+        assertThat(SingleSessionStatus.expirableStatuses())
+                .containsExactly(SingleSessionStatus.CREATED);
+    }
 }
@@ -7,6 +7,7 @@ import com.ryuqq.fileflow.domain.asset.id.AssetId;
 import com.ryuqq.fileflow.domain.common.event.DomainEvent;
 import com.ryuqq.fileflow.domain.transform.exception.TransformException;
 import com.ryuqq.fileflow.domain.transform.id.TransformRequestId;
+import com.ryuqq.fileflow.domain.transform.vo.TransformFingerprint;
 import com.ryuqq.fileflow.domain.transform.vo.TransformParams;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
@@ -336,6 +337,89 @@ class TransformRequestTest {
             assertThat(request.lastError()).isEqualTo("Processing error");
             assertThat(request.completedAt()).isEqualTo(failTime);
             assertThat(request.updatedAt()).isEqualTo(failTime);
+            assertThat(request.fingerprint()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("coalesce - 중복 요청 합류")
+    class Coalesce {
+
+        @Test
+        @DisplayName("새 요청은 원본과 파라미터로 계산한 지문을 가진다")
+        void new_request_has_fingerprint() {
+            TransformRequest request = TransformRequestFixture.aResizeRequest();
+
+            assertThat(request.fingerprint())
+                    .isEqualTo(
+                            TransformFingerprint.of(
+                                    AssetId.of("asset-001"),
+                                    TransformType.RESIZE,
+                                    TransformParams.forResize(800, 600, true)));
+            assertThat(request.isCoalesced()).isFalse();
+        }
+
+        @Test
+        @DisplayName("진행 중인 리더에 합류하면 지문을 내려놓고 QUEUED 상태를 유지한다")
+        void attach_to_in_flight_leader() {
+            TransformRequest leader = TransformRequestFixture.aProcessingRequest();
+            TransformRequest request = TransformRequestFixture.aResizeRequestWithCallback();
+
+            request.attachTo(leader);
+
+            assertThat(request.isCoalesced()).isTrue();
+            assertThat(request.coalescedIntoValue()).isEqualTo("transform-001");
+            assertThat(request.fingerprint()).isNull();
+            assertThat(request.status()).isEqualTo(TransformStatus.QUEUED);
+        }
+
+        @Test
+        @DisplayName("종료된 리더에는 합류할 수 없다")
+        void attach_to_terminal_leader_throws() {
+            TransformRequest leader = TransformRequestFixture.aCompletedRequest();
+            TransformRequest request = TransformRequestFixture.aResizeRequestWithCallback();
+
+            assertThatThrownBy(() -> request.attachTo(leader))
+                    .isInstanceOf(TransformException.class);
+        }
+
+        @Test
+        @DisplayName("완료된 리더의 결과를 재사용하면 즉시 COMPLETED로 전이된다")
+        void reuse_result_of_completed_leader() {
+            TransformRequest leader = TransformRequestFixture.aCompletedRequest();
+            TransformRequest request = TransformRequestFixture.aResizeRequestWithCallback();
+            Instant now = NOW.plusSeconds(60);
+
+            request.reuseResultOf(leader, now);
+
+            assertThat(request.status()).isEqualTo(TransformStatus.COMPLETED);
+            assertThat(request.resultAssetIdValue()).isEqualTo("result-001");
+            assertThat(request.coalescedIntoValue()).isEqualTo("transform-001");
+            assertThat(request.completedAt()).isEqualTo(now);
+        }
+
+        @Test
+        @DisplayName("합류한 리더가 실패하면 같은 오류로 FAILED 전이된다")
+        void settle_with_failed_leader() {
+            TransformRequest request =
+                    TransformRequestFixture.aFollowerOf(
+                            TransformRequestFixture.aProcessingRequest());
+            TransformRequest leader = TransformRequestFixture.aFailedRequest();
+
+            request.settleWith(leader, NOW.plusSeconds(60));
+
+            assertThat(request.status()).isEqualTo(TransformStatus.FAILED);
+            assertThat(request.lastError()).isEqualTo("Processing error");
+        }
+
+        @Test
+        @DisplayName("합류하지 않은 리더로 정리하면 TransformException이 발생한다")
+        void settle_with_other_leader_throws() {
+            TransformRequest request = TransformRequestFixture.aConvertRequest();
+            TransformRequest leader = TransformRequestFixture.aCompletedRequest();
+
+            assertThatThrownBy(() -> request.settleWith(leader, NOW))
+                    .isInstanceOf(TransformException.class);
         }
     }
 
@@ -0,0 +1,72 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ImageFormatTest {
+
+    @Nested
+    @DisplayName("fromName / fromContentType - 이름과 MIME 타입으로 포맷 조회")
+    class Lookup {
+
+        @Test
+        @DisplayName("jpg와 jpeg는 모두 JPEG로 조회된다")
+        void jpg_and_jpeg_resolve_to_jpeg() {
+            assertThat(ImageFormat.fromName("jpg")).contains(ImageFormat.JPEG);
+            assertThat(ImageFormat.fromName("JPEG")).contains(ImageFormat.JPEG);
+        }
+
+        @Test
+        @DisplayName("Content-Type 파라미터는 무시한다")
+        void ignores_content_type_parameters() {
+            assertThat(ImageFormat.fromContentType("image/png; charset=binary"))
+                    .contains(ImageFormat.PNG);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 포맷은 empty를 반환한다")
+        void unsupported_returns_empty() {
+            assertThat(ImageFormat.fromName("bmp")).isEmpty();
+            assertThat(ImageFormat.fromContentType("image/svg+xml")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("detect - 시그니처로 포맷 판별")
+    class Detect {
+
+        @Test
+        @DisplayName("JPEG 시그니처를 판별한다")
+        void detects_jpeg() {
+            byte[] header = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+
+            assertThat(ImageFormat.detect(header)).contains(ImageFormat.JPEG);
+        }
+
+        @Test
+        @DisplayName("PNG 시그니처를 판별한다")
+        void detects_png() {
+            byte[] header = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+            assertThat(ImageFormat.detect(header)).contains(ImageFormat.PNG);
+        }
+
+        @Test
+        @DisplayName("WEBP 시그니처를 판별한다")
+        void detects_webp() {
+            byte[] header = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+
+            assertThat(ImageFormat.detect(header)).contains(ImageFormat.WEBP);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 시그니처는 empty를 반환한다")
+        void unknown_signature_returns_empty() {
+            assertThat(ImageFormat.detect(new byte[] {1, 2, 3, 4})).isEmpty();
+            assertThat(ImageFormat.detect(null)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ImageHeaderTest {
+
+    @Nested
+    @DisplayName("probe - 헤더로 포맷과 크기 판별")
+    class Probe {
+
+        @Test
+        @DisplayName("PNG IHDR에서 크기를 읽는다")
+        void probes_png_dimension() {
+            byte[] header = new byte[24];
+            put(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+            put(header, 16, 0x00, 0x00, 0x03, 0x20, 0x00, 0x00, 0x02, 0x58);
+
+            assertThat(ImageHeader.probe(header))
+                    .contains(new ImageHeader(ImageFormat.PNG, 800, 600));
+        }
+
+        @Test
+        @DisplayName("JPEG는 APP 세그먼트를 건너뛰고 SOF에서 크기를 읽는다")
+        void probes_jpeg_dimension_after_app_segment() {
+            byte[] header = new byte[32];
+            put(header, 0, 0xFF, 0xD8);
+            put(header, 2, 0xFF, 0xE0, 0x00, 0x06, 'J', 'F', 'I', 'F');
+            put(header, 10, 0xFF, 0xC0, 0x00, 0x11, 0x08, 0x02, 0x58, 0x03, 0x20);
+
+            assertThat(ImageHeader.probe(header))
+                    .contains(new ImageHeader(ImageFormat.JPEG, 800, 600));
+        }
+
+        @Test
+        @DisplayName("GIF 논리 화면 크기를 읽는다")
+        void probes_gif_dimension() {
+            byte[] header = new byte[13];
+            put(header, 0, 'G', 'I', 'F', '8', '9', 'a', 0x20, 0x03, 0x58, 0x02);
+
+            assertThat(ImageHeader.probe(header))
+                    .contains(new ImageHeader(ImageFormat.GIF, 800, 600));
+        }
+
+        @Test
+        @DisplayName("WebP VP8X 캔버스 크기를 읽는다")
+        void probes_webp_extended_dimension() {
+            byte[] header = new byte[30];
+            put(header, 0, 'R', 'I', 'F', 'F');
+            put(header, 8, 'W', 'E', 'B', 'P', 'V', 'P', '8', 'X');
+            put(header, 24, 0x1F, 0x03, 0x00, 0x57, 0x02, 0x00);
+
+            assertThat(ImageHeader.probe(header))
+                    .contains(new ImageHeader(ImageFormat.WEBP, 800, 600));
+        }
+
+        @Test
+        @DisplayName("SOF 전에 헤더가 끝나면 empty를 반환한다")
+        void truncated_jpeg_returns_empty() {
+            byte[] header = new byte[8];
+            put(header, 0, 0xFF, 0xD8, 0xFF, 0xE1, 0x7F, 0xFF);
+
+            assertThat(ImageHeader.probe(header)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("bitsPerPixel - 파일 크기를 픽셀 수로 나눈 비트 수")
+    void bits_per_pixel() {
+        ImageHeader header = new ImageHeader(ImageFormat.JPEG, 100, 100);
+
+        assertThat(header.bitsPerPixel(2_500L)).isEqualTo(2.0);
+    }
+
+    private static void put(byte[] target, int offset, int... values) {
+        for (int i = 0; i < values.length; i++) {
+            target[offset + i] = (byte) values[i];
+        }
+    }
+}
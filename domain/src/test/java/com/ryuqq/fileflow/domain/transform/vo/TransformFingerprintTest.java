@@ -0,0 +1,95 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.asset.id.AssetId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("TransformFingerprint")
+class TransformFingerprintTest {
+
+    private static final AssetId ASSET_ID = AssetId.of("asset-001");
+
+    @Nested
+    @DisplayName("지문 계산")
+    class ComputeTest {
+
+        @Test
+        @DisplayName("같은 원본과 같은 변환이면 같은 지문이 나온다")
+        void shouldBeDeterministic() {
+            var first =
+                    TransformFingerprint.of(
+                            ASSET_ID,
+                            TransformType.RESIZE,
+                            TransformParams.forResize(800, 600, true));
+            var second =
+                    TransformFingerprint.of(
+                            ASSET_ID,
+                            TransformType.RESIZE,
+                            TransformParams.forResize(800, 600, true));
+
+            assertThat(first).isEqualTo(second);
+            assertThat(first.value()).hasSize(64).matches("[0-9a-f]+");
+        }
+
+        @Test
+        @DisplayName("파라미터가 다르면 다른 지문이 나온다")
+        void shouldDifferByParams() {
+            var resize800 =
+                    TransformFingerprint.of(
+                            ASSET_ID,
+                            TransformType.RESIZE,
+                            TransformParams.forResize(800, 600, true));
+            var resize640 =
+                    TransformFingerprint.of(
+                            ASSET_ID,
+                            TransformType.RESIZE,
+                            TransformParams.forResize(640, 600, true));
+
+            assertThat(resize800).isNotEqualTo(resize640);
+        }
+
+        @Test
+        @DisplayName("원본 Asset이 다르면 다른 지문이 나온다")
+        void shouldDifferBySource() {
+            var params = TransformParams.forConvert("webp");
+
+            assertThat(TransformFingerprint.of(ASSET_ID, TransformType.CONVERT, params))
+                    .isNotEqualTo(
+                            TransformFingerprint.of(
+                                    AssetId.of("asset-002"), TransformType.CONVERT, params));
+        }
+
+        @Test
+        @DisplayName("대상 포맷은 대소문자를 구분하지 않는다")
+        void shouldNormalizeTargetFormat() {
+            assertThat(
+                            TransformFingerprint.of(
+                                    ASSET_ID,
+                                    TransformType.CONVERT,
+                                    TransformParams.forConvert("WEBP")))
+                    .isEqualTo(
+                            TransformFingerprint.of(
+                                    ASSET_ID,
+                                    TransformType.CONVERT,
+                                    TransformParams.forConvert("webp")));
+        }
+    }
+
+    @Nested
+    @DisplayName("생성")
+    class CreateTest {
+
+        @Test
+        @DisplayName("64자가 아니면 예외가 발생한다")
+        void shouldRejectInvalidLength() {
+            assertThatThrownBy(() -> TransformFingerprint.of("abc"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -137,4 +137,134 @@ class TransformParamsTest {
             assertThat(params.quality()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("resolveEncoding - 출력 인코딩 정책")
+    class ResolveEncoding {
+
+        @Test
+        @DisplayName("targetFormat이 없으면 원본 포맷을 유지한다")
+        void keeps_source_format_by_default() {
+            TransformParams params = TransformParams.forResize(800, 600, true);
+
+            OutputEncoding encoding =
+                    params.resolveEncoding(TransformType.RESIZE, ImageFormat.JPEG);
+
+            assertThat(encoding.format()).isEqualTo(ImageFormat.JPEG);
+            assertThat(encoding.extension()).isEqualTo("jpg");
+            assertThat(encoding.quality()).isNull();
+        }
+
+        @Test
+        @DisplayName("targetFormat과 quality를 지정하면 그대로 적용한다")
+        void applies_explicit_target_format_and_quality() {
+            TransformParams params = new TransformParams(150, 150, true, "webp", 70);
+
+            OutputEncoding encoding =
+                    params.resolveEncoding(TransformType.THUMBNAIL, ImageFormat.PNG);
+
+            assertThat(encoding.format()).isEqualTo(ImageFormat.WEBP);
+            assertThat(encoding.contentType()).isEqualTo("image/webp");
+            assertThat(encoding.quality()).isEqualTo(70);
+        }
+
+        @Test
+        @DisplayName("요청한 포맷 이름을 확장자로 유지한다")
+        void keeps_requested_extension_name() {
+            TransformParams params = TransformParams.forConvert("jpeg");
+
+            OutputEncoding encoding =
+                    params.resolveEncoding(TransformType.CONVERT, ImageFormat.PNG);
+
+            assertThat(encoding.format()).isEqualTo(ImageFormat.JPEG);
+            assertThat(encoding.extension()).isEqualTo("jpeg");
+        }
+
+        @Test
+        @DisplayName("원본 포맷을 알 수 없으면 PNG를 사용한다")
+        void falls_back_to_png_when_source_unknown() {
+            TransformParams params = TransformParams.forThumbnail(100, 100);
+
+            OutputEncoding encoding = params.resolveEncoding(TransformType.THUMBNAIL, null);
+
+            assertThat(encoding.format()).isEqualTo(ImageFormat.PNG);
+        }
+
+        @Test
+        @DisplayName("무손실 원본을 COMPRESS하면 JPEG로 인코딩한다")
+        void compress_lossless_source_uses_jpeg() {
+            TransformParams params = TransformParams.forCompress(60);
+
+            OutputEncoding encoding =
+                    params.resolveEncoding(TransformType.COMPRESS, ImageFormat.PNG);
+
+            assertThat(encoding.format()).isEqualTo(ImageFormat.JPEG);
+            assertThat(encoding.quality()).isEqualTo(60);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 targetFormat이면 IllegalArgumentException이 발생한다")
+        void unsupported_target_format_throws_exception() {
+            TransformParams params = TransformParams.forConvert("bmp");
+
+            assertThatThrownBy(() -> params.resolveEncoding(TransformType.CONVERT, ImageFormat.PNG))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("bmp");
+        }
+    }
+
+    @Nested
+    @DisplayName("canSkipTranscode / isNoOpFor - 재인코딩 생략 판단")
+    class NoOp {
+
+        @Test
+        @DisplayName("같은 포맷으로의 CONVERT는 재인코딩을 생략한다")
+        void convert_to_same_format_is_no_op() {
+            TransformParams params = TransformParams.forConvert("jpeg");
+            ImageHeader header = new ImageHeader(ImageFormat.JPEG, 800, 600);
+
+            assertThat(params.canSkipTranscode(TransformType.CONVERT, ImageFormat.JPEG)).isTrue();
+            assertThat(params.isNoOpFor(TransformType.CONVERT, header, 50_000L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 포맷으로의 CONVERT는 생략하지 않는다")
+        void convert_to_other_format_is_not_no_op() {
+            TransformParams params = TransformParams.forConvert("webp");
+
+            assertThat(params.canSkipTranscode(TransformType.CONVERT, ImageFormat.JPEG)).isFalse();
+        }
+
+        @Test
+        @DisplayName("원본이 요청 품질의 예상 크기 이하이면 COMPRESS를 생략한다")
+        void compress_small_source_is_no_op() {
+            TransformParams params = TransformParams.forCompress(80);
+            ImageHeader header = new ImageHeader(ImageFormat.JPEG, 1000, 1000);
+
+            // 1,000,000px * 2bpp / 8 = 250,000 bytes
+            assertThat(params.isNoOpFor(TransformType.COMPRESS, header, 200_000L)).isTrue();
+            assertThat(params.isNoOpFor(TransformType.COMPRESS, header, 400_000L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("무손실 원본의 COMPRESS와 RESIZE는 생략하지 않는다")
+        void lossless_compress_and_resize_are_not_no_op() {
+            assertThat(
+                            TransformParams.forCompress(80)
+                                    .canSkipTranscode(TransformType.COMPRESS, ImageFormat.PNG))
+                    .isFalse();
+            assertThat(
+                            TransformParams.forResize(100, 100, true)
+                                    .canSkipTranscode(TransformType.RESIZE, ImageFormat.JPEG))
+                    .isFalse();
+        }
+
+        @Test
+        @DisplayName("원본 포맷을 알 수 없으면 생략하지 않는다")
+        void unknown_source_format_is_not_no_op() {
+            TransformParams params = TransformParams.forConvert("png");
+
+            assertThat(params.canSkipTranscode(TransformType.CONVERT, null)).isFalse();
+        }
+    }
 }
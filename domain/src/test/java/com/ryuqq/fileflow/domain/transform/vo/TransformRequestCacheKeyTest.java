@@ -0,0 +1,43 @@
+package com.ryuqq.fileflow.domain.transform.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.domain.common.vo.CacheKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("TransformRequestCacheKey Value Object 단위 테스트")
+class TransformRequestCacheKeyTest {
+
+    @Nested
+    @DisplayName("value - 캐시 키 값")
+    class Value {
+
+        @Test
+        @DisplayName("cache:transform-request: 접두사가 붙은 키를 반환한다")
+        void returnsKeyWithPrefix() {
+            TransformRequestCacheKey cacheKey = TransformRequestCacheKey.of("transform-001");
+
+            assertThat(cacheKey).isInstanceOf(CacheKey.class);
+            assertThat(cacheKey.value()).isEqualTo("cache:transform-request:transform-001");
+        }
+    }
+
+    @Nested
+    @DisplayName("유효성 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("transformRequestId가 null이거나 비어 있으면 예외가 발생한다")
+        void throwsWhenTransformRequestIdIsBlank() {
+            assertThatThrownBy(() -> TransformRequestCacheKey.of(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TransformRequestCacheKey.of(" "))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.fileflow.domain.asset.vo;
+
+import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.common.vo.CursorPageRequest;
+import com.ryuqq.fileflow.domain.common.vo.SortDirection;
+import java.time.Instant;
+
+public class AssetSearchCriteriaFixture {
+
+    public static final String SOURCE = "commerce-api";
+    public static final Instant CREATED_FROM = Instant.parse("2026-01-01T00:00:00Z");
+    public static final Instant CREATED_TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    public static AssetSearchCriteria aFirstPageCriteria() {
+        return AssetSearchCriteria.of(
+                SOURCE, null, null, null, null, SortDirection.ASC, CursorPageRequest.first(20));
+    }
+
+    public static AssetSearchCriteria aFilteredCriteria() {
+        return AssetSearchCriteria.of(
+                SOURCE,
+                "PRODUCT_IMAGE",
+                AccessType.PUBLIC,
+                CREATED_FROM,
+                CREATED_TO,
+                SortDirection.ASC,
+                CursorPageRequest.first(20));
+    }
+
+    public static AssetSearchCriteria aNextPageCriteria(AssetCursor cursor, int size) {
+        return AssetSearchCriteria.of(
+                SOURCE,
+                null,
+                null,
+                null,
+                null,
+                SortDirection.ASC,
+                CursorPageRequest.of(cursor.encode(), size));
+    }
+}
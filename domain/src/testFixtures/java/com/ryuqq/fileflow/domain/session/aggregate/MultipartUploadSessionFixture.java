@@ -2,10 +2,12 @@ package com.ryuqq.fileflow.domain.session.aggregate;
 
 import com.ryuqq.fileflow.domain.session.id.MultipartUploadSessionId;
 import com.ryuqq.fileflow.domain.session.vo.CompletedPart;
+import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
 import com.ryuqq.fileflow.domain.session.vo.MultipartUploadSessionUpdateData;
 import com.ryuqq.fileflow.domain.session.vo.UploadTargetFixture;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
 public class MultipartUploadSessionFixture {
 
@@ -25,10 +27,19 @@ public class MultipartUploadSessionFixture {
     }
 
     public static MultipartUploadSession anUploadingSession() {
-        MultipartUploadSession session = anInitiatedSession();
-        session.addCompletedPart(
-                CompletedPart.of(1, "etag-part-1", 5_242_880L, NOW.plusSeconds(10)));
-        return session;
+        Instant partTime = NOW.plusSeconds(10);
+        return MultipartUploadSession.reconstitute(
+                MultipartUploadSessionId.of("multipart-session-001"),
+                UploadTargetFixture.anUploadTarget(),
+                "upload-id-001",
+                5_242_880L,
+                "product-image",
+                "commerce-service",
+                MultipartSessionStatus.UPLOADING,
+                EXPIRES_AT,
+                NOW,
+                partTime,
+                List.of(CompletedPart.of(1, "etag-part-1", 5_242_880L, partTime)));
     }
 
     public static MultipartUploadSession aCompletedSession() {
@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.domain.session.vo;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class PartPresignedUrlRangeSpecFixture {
+
+    private static final String DEFAULT_S3_KEY = "public/2026/01/session-001.jpg";
+    private static final String DEFAULT_UPLOAD_ID = "upload-id-001";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    private static final Instant DEFAULT_CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    public static PartPresignedUrlRangeSpec aPartPresignedUrlRangeSpec(
+            int fromPartNumber, int toPartNumber) {
+        return new PartPresignedUrlRangeSpec(
+                DEFAULT_S3_KEY,
+                DEFAULT_UPLOAD_ID,
+                fromPartNumber,
+                toPartNumber,
+                DEFAULT_TTL,
+                DEFAULT_CREATED_AT);
+    }
+}
@@ -88,4 +88,11 @@ public class TransformRequestFixture {
         request.fail("Processing error", NOW.plusSeconds(30));
         return request;
     }
+
+    /** 콜백이 있는 요청을 리더에 합류시킨 QUEUED 상태의 합류 요청. */
+    public static TransformRequest aFollowerOf(TransformRequest leader) {
+        TransformRequest request = aResizeRequestWithCallback();
+        request.attachTo(leader);
+        return request;
+    }
 }
@@ -3,6 +3,11 @@ package com.ryuqq.fileflow.integration.test.common.config;
 import static org.mockito.Mockito.mock;
 
 import com.ryuqq.fileflow.adapter.in.redis.config.RedisConsumerProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.asset.config.AssetCacheProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.common.config.NearCacheProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.download.config.DownloadUrlBlacklistFilterProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.session.config.SessionExpirationWriterProperties;
+import com.ryuqq.fileflow.adapter.out.persistence.redis.transform.config.TransformRequestCacheProperties;
 import com.ryuqq.fileflow.application.asset.port.out.client.MetadataExtractionPort;
 import com.ryuqq.fileflow.application.download.port.out.client.DownloadQueueClient;
 import com.ryuqq.fileflow.application.transform.port.out.client.ImageTransformClient;
@@ -24,7 +29,14 @@ import org.springframework.context.annotation.Bean;
  * spring.data.redis.host/port가 TestContainers Redis로 설정됩니다.
  */
 @TestConfiguration
-@EnableConfigurationProperties(RedisConsumerProperties.class)
+@EnableConfigurationProperties({
+    RedisConsumerProperties.class,
+    AssetCacheProperties.class,
+    NearCacheProperties.class,
+    DownloadUrlBlacklistFilterProperties.class,
+    SessionExpirationWriterProperties.class,
+    TransformRequestCacheProperties.class
+})
 public class IntegrationTestConfig {
 
     /**
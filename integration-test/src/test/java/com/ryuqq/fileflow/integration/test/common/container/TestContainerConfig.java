@@ -34,12 +34,11 @@ public final class TestContainerConfig {
                             "--collation-server=utf8mb4_unicode_ci")
                     .withReuse(true);
 
-    // Redis Container (keyspace notification 활성화: TTL 만료 이벤트 수신용)
+    // Redis Container
     @SuppressWarnings("resource")
     public static final GenericContainer<?> REDIS =
             new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
                     .withExposedPorts(6379)
-                    .withCommand("redis-server", "--notify-keyspace-events", "Ex")
                     .withReuse(true);
 
     // LocalStack Container (S3)
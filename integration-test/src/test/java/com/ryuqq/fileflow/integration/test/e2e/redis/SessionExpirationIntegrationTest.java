@@ -6,6 +6,9 @@ import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUpload
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionJpaRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionJpaRepository;
+import com.ryuqq.fileflow.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueMultipartSessionsUseCase;
+import com.ryuqq.fileflow.application.session.port.in.command.ExpireDueSingleSessionsUseCase;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
 import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
@@ -13,8 +16,8 @@ import com.ryuqq.fileflow.integration.test.common.base.IntegrationTestBase;
 import com.ryuqq.fileflow.integration.test.common.container.TestContainerConfig;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
-import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,18 +30,23 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 /**
  * 세션 만료 통합 테스트.
  *
- * <p>Redis keyspace notification → Consumer → Distributed Lock → DB 상태 변경 전체 흐름을 검증합니다.
- *
- * <p>TestContainers Redis에 keyspace notification이 활성화되어 있어야 합니다. ({@code --notify-keyspace-events
- * Ex})
+ * <p>Redis 만료 대기열(Sorted Set) 선점 → DB 일괄 만료 → 대기열 확인(삭제) 전체 흐름을 검증합니다.
  */
-@DisplayName("세션 만료 통합 테스트 (Redis Keyspace Notification + Distributed Lock)")
+@DisplayName("세션 만료 통합 테스트 (Redis 만료 대기열 + 일괄 UPDATE)")
 class SessionExpirationIntegrationTest extends IntegrationTestBase {
 
+    private static final String SINGLE_QUEUE_KEY = "session:expiration:SINGLE";
+    private static final String MULTIPART_QUEUE_KEY = "session:expiration:MULTIPART";
+    private static final int BATCH_SIZE = 100;
+
     @Autowired private SingleUploadSessionJpaRepository singleUploadSessionJpaRepository;
 
     @Autowired private MultipartUploadSessionJpaRepository multipartUploadSessionJpaRepository;
 
+    @Autowired private ExpireDueSingleSessionsUseCase expireDueSingleSessionsUseCase;
+
+    @Autowired private ExpireDueMultipartSessionsUseCase expireDueMultipartSessionsUseCase;
+
     @Autowired private StringRedisTemplate stringRedisTemplate;
 
     @Autowired private S3Client s3Client;
@@ -47,12 +55,36 @@ class SessionExpirationIntegrationTest extends IntegrationTestBase {
     void setUp() {
         singleUploadSessionJpaRepository.deleteAllInBatch();
         multipartUploadSessionJpaRepository.deleteAllInBatch();
+        stringRedisTemplate.delete(SINGLE_QUEUE_KEY);
+        stringRedisTemplate.delete(MULTIPART_QUEUE_KEY);
     }
 
     private String newSessionId() {
         return UUID.randomUUID().toString();
     }
 
+    private void enqueue(String queueKey, String sessionId, Instant dueAt) {
+        stringRedisTemplate.opsForZSet().add(queueKey, sessionId, dueAt.toEpochMilli());
+    }
+
+    private SingleUploadSessionJpaEntity singleSession(
+            String sessionId, SingleSessionStatus status, Instant expiresAt) {
+        return SingleUploadSessionJpaEntity.create(
+                sessionId,
+                "public/2026/01/" + sessionId + ".jpg",
+                "fileflow-test-bucket",
+                AccessType.PUBLIC,
+                "test-expire.jpg",
+                "image/jpeg",
+                "https://s3.presigned-url.com/test",
+                "product-image",
+                "test-service",
+                status,
+                expiresAt,
+                expiresAt.minus(Duration.ofHours(1)),
+                expiresAt.minus(Duration.ofHours(1)));
+    }
+
     /**
      * LocalStack S3에 실제 멀티파트 업로드를 생성하여 유효한 uploadId를 반환합니다.
      *
@@ -73,132 +105,70 @@ class SessionExpirationIntegrationTest extends IntegrationTestBase {
     class SingleSessionExpirationTest {
 
         @Test
-        @DisplayName("CREATED 상태 세션이 Redis TTL 만료 후 EXPIRED로 변경된다")
-        void shouldExpireCreatedSessionViaRedisKeyspaceNotification() {
-            // given: CREATED 상태 세션 DB 저장
-            Instant now = Instant.now();
+        @DisplayName("만료 시각이 지난 CREATED 세션이 EXPIRED로 변경되고 대기열에서 삭제된다")
+        void shouldExpireDueCreatedSession() {
+            // given
+            Instant past = Instant.now().minus(Duration.ofMinutes(1));
             String sessionId = newSessionId();
-
             singleUploadSessionJpaRepository.save(
-                    SingleUploadSessionJpaEntity.create(
-                            sessionId,
-                            "public/2026/01/test-expire.jpg",
-                            "fileflow-test-bucket",
-                            AccessType.PUBLIC,
-                            "test-expire.jpg",
-                            "image/jpeg",
-                            "https://s3.presigned-url.com/test",
-                            "product-image",
-                            "test-service",
-                            SingleSessionStatus.CREATED,
-                            now.plus(Duration.ofHours(1)),
-                            now,
-                            now));
-
-            // when: Redis에 짧은 TTL로 만료 키 등록 (2초 후 만료)
-            String redisKey = "session:expiration:SINGLE:" + sessionId;
-            stringRedisTemplate.opsForValue().set(redisKey, "SINGLE", Duration.ofSeconds(2));
-
-            // then: TTL 만료 후 keyspace notification → Consumer → DB 상태 변경 확인
-            Awaitility.await()
-                    .atMost(Duration.ofSeconds(15))
-                    .pollInterval(Duration.ofMillis(500))
-                    .untilAsserted(
-                            () -> {
-                                var updated =
-                                        singleUploadSessionJpaRepository
-                                                .findById(sessionId)
-                                                .orElseThrow();
-                                assertThat(updated.getStatus())
-                                        .isEqualTo(SingleSessionStatus.EXPIRED);
-                            });
+                    singleSession(sessionId, SingleSessionStatus.CREATED, past));
+            enqueue(SINGLE_QUEUE_KEY, sessionId, past);
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    expireDueSingleSessionsUseCase.execute(BATCH_SIZE);
+
+            // then
+            assertThat(result.success()).isEqualTo(1);
+            assertThat(singleUploadSessionJpaRepository.findById(sessionId).orElseThrow())
+                    .extracting(SingleUploadSessionJpaEntity::getStatus)
+                    .isEqualTo(SingleSessionStatus.EXPIRED);
+            assertThat(stringRedisTemplate.opsForZSet().score(SINGLE_QUEUE_KEY, sessionId))
+                    .isNull();
         }
 
         @Test
-        @DisplayName("이미 EXPIRED 상태인 세션의 만료 이벤트는 에러 없이 처리된다")
-        void shouldHandleAlreadyExpiredSessionGracefully() {
-            // given: EXPIRED 상태 세션 DB 저장
-            Instant now = Instant.now();
+        @DisplayName("이미 EXPIRED 상태인 세션은 에러 없이 건너뛰고 대기열에서 삭제된다")
+        void shouldSkipAlreadyExpiredSession() {
+            // given
+            Instant past = Instant.now().minus(Duration.ofHours(1));
             String sessionId = newSessionId();
-
             singleUploadSessionJpaRepository.save(
-                    SingleUploadSessionJpaEntity.create(
-                            sessionId,
-                            "public/2026/01/already-expired.jpg",
-                            "fileflow-test-bucket",
-                            AccessType.PUBLIC,
-                            "already-expired.jpg",
-                            "image/jpeg",
-                            "https://s3.presigned-url.com/expired",
-                            "product-image",
-                            "test-service",
-                            SingleSessionStatus.EXPIRED,
-                            now.minus(Duration.ofHours(1)),
-                            now.minus(Duration.ofHours(2)),
-                            now.minus(Duration.ofHours(1))));
-
-            // when: Redis 만료 이벤트 발생
-            String redisKey = "session:expiration:SINGLE:" + sessionId;
-            stringRedisTemplate.opsForValue().set(redisKey, "SINGLE", Duration.ofSeconds(2));
-
-            // then: 에러 없이 처리되고, 상태는 여전히 EXPIRED
-            Awaitility.await()
-                    .during(Duration.ofSeconds(5))
-                    .atMost(Duration.ofSeconds(10))
-                    .pollInterval(Duration.ofMillis(500))
-                    .untilAsserted(
-                            () -> {
-                                var updated =
-                                        singleUploadSessionJpaRepository
-                                                .findById(sessionId)
-                                                .orElseThrow();
-                                assertThat(updated.getStatus())
-                                        .isEqualTo(SingleSessionStatus.EXPIRED);
-                            });
+                    singleSession(sessionId, SingleSessionStatus.EXPIRED, past));
+            enqueue(SINGLE_QUEUE_KEY, sessionId, past);
+
+            // when
+            expireDueSingleSessionsUseCase.execute(BATCH_SIZE);
+
+            // then
+            assertThat(singleUploadSessionJpaRepository.findById(sessionId).orElseThrow())
+                    .extracting(SingleUploadSessionJpaEntity::getStatus)
+                    .isEqualTo(SingleSessionStatus.EXPIRED);
+            assertThat(stringRedisTemplate.opsForZSet().score(SINGLE_QUEUE_KEY, sessionId))
+                    .isNull();
         }
 
         @Test
-        @DisplayName("관련 없는 Redis 키 만료는 무시된다")
-        void shouldIgnoreUnrelatedKeyExpiration() {
-            // given: CREATED 상태 세션 DB 저장
-            Instant now = Instant.now();
+        @DisplayName("만료 시각이 지나지 않은 세션은 선점하지 않는다")
+        void shouldNotTouchSessionNotYetDue() {
+            // given
+            Instant future = Instant.now().plus(Duration.ofHours(1));
             String sessionId = newSessionId();
-
             singleUploadSessionJpaRepository.save(
-                    SingleUploadSessionJpaEntity.create(
-                            sessionId,
-                            "public/2026/01/ignore-test.jpg",
-                            "fileflow-test-bucket",
-                            AccessType.PUBLIC,
-                            "ignore-test.jpg",
-                            "image/jpeg",
-                            "https://s3.presigned-url.com/ignore",
-                            "product-image",
-                            "test-service",
-                            SingleSessionStatus.CREATED,
-                            now.plus(Duration.ofHours(1)),
-                            now,
-                            now));
-
-            // when: 관련 없는 Redis 키가 만료됨
-            stringRedisTemplate
-                    .opsForValue()
-                    .set("unrelated:key:" + sessionId, "value", Duration.ofSeconds(2));
-
-            // then: 세션 상태는 CREATED 유지
-            Awaitility.await()
-                    .during(Duration.ofSeconds(5))
-                    .atMost(Duration.ofSeconds(10))
-                    .pollInterval(Duration.ofMillis(500))
-                    .untilAsserted(
-                            () -> {
-                                var entity =
-                                        singleUploadSessionJpaRepository
-                                                .findById(sessionId)
-                                                .orElseThrow();
-                                assertThat(entity.getStatus())
-                                        .isEqualTo(SingleSessionStatus.CREATED);
-                            });
+                    singleSession(sessionId, SingleSessionStatus.CREATED, future));
+            enqueue(SINGLE_QUEUE_KEY, sessionId, future);
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    expireDueSingleSessionsUseCase.execute(BATCH_SIZE);
+
+            // then
+            assertThat(result.total()).isZero();
+            assertThat(singleUploadSessionJpaRepository.findById(sessionId).orElseThrow())
+                    .extracting(SingleUploadSessionJpaEntity::getStatus)
+                    .isEqualTo(SingleSessionStatus.CREATED);
+            assertThat(stringRedisTemplate.opsForZSet().score(SINGLE_QUEUE_KEY, sessionId))
+                    .isEqualTo((double) future.toEpochMilli());
         }
     }
 
@@ -207,93 +177,50 @@ class SessionExpirationIntegrationTest extends IntegrationTestBase {
     class MultipartSessionExpirationTest {
 
         @Test
-        @DisplayName("INITIATED 상태 세션이 Redis TTL 만료 후 EXPIRED로 변경된다")
-        void shouldExpireInitiatedSessionViaRedisKeyspaceNotification() {
-            // given: INITIATED 상태 세션 DB 저장 + S3에 실제 멀티파트 업로드 생성
-            Instant now = Instant.now();
-            String sessionId = newSessionId();
-            String s3Key = "public/2026/01/test-multipart-" + sessionId + ".jpg";
-            String realUploadId = createRealMultipartUpload(s3Key);
-
-            multipartUploadSessionJpaRepository.save(
-                    MultipartUploadSessionJpaEntity.create(
-                            sessionId,
-                            s3Key,
-                            TestContainerConfig.BUCKET_NAME,
-                            AccessType.PUBLIC,
-                            "test-multipart.jpg",
-                            "image/jpeg",
-                            realUploadId,
-                            5_242_880L,
-                            "product-image",
-                            "test-service",
-                            MultipartSessionStatus.INITIATED,
-                            now.plus(Duration.ofHours(1)),
-                            now,
-                            now));
-
-            // when: Redis에 짧은 TTL로 만료 키 등록
-            String redisKey = "session:expiration:MULTIPART:" + sessionId;
-            stringRedisTemplate.opsForValue().set(redisKey, "MULTIPART", Duration.ofSeconds(2));
-
-            // then: TTL 만료 후 EXPIRED 상태로 변경
-            Awaitility.await()
-                    .atMost(Duration.ofSeconds(15))
-                    .pollInterval(Duration.ofMillis(500))
-                    .untilAsserted(
-                            () -> {
-                                var updated =
-                                        multipartUploadSessionJpaRepository
-                                                .findById(sessionId)
-                                                .orElseThrow();
-                                assertThat(updated.getStatus())
-                                        .isEqualTo(MultipartSessionStatus.EXPIRED);
-                            });
+        @DisplayName("만료 시각이 지난 INITIATED/UPLOADING 세션이 EXPIRED로 변경되고 대기열에서 삭제된다")
+        void shouldExpireDueActiveSessions() {
+            // given
+            Instant past = Instant.now().minus(Duration.ofMinutes(1));
+            String initiatedId = newSessionId();
+            String uploadingId = newSessionId();
+            saveMultipartSession(initiatedId, MultipartSessionStatus.INITIATED, past);
+            saveMultipartSession(uploadingId, MultipartSessionStatus.UPLOADING, past);
+            enqueue(MULTIPART_QUEUE_KEY, initiatedId, past);
+            enqueue(MULTIPART_QUEUE_KEY, uploadingId, past);
+
+            // when
+            SchedulerBatchProcessingResult result =
+                    expireDueMultipartSessionsUseCase.execute(BATCH_SIZE);
+
+            // then
+            assertThat(result.success()).isEqualTo(2);
+            assertThat(
+                            multipartUploadSessionJpaRepository.findAllById(
+                                    List.of(initiatedId, uploadingId)))
+                    .extracting(MultipartUploadSessionJpaEntity::getStatus)
+                    .containsOnly(MultipartSessionStatus.EXPIRED);
+            assertThat(stringRedisTemplate.opsForZSet().size(MULTIPART_QUEUE_KEY)).isZero();
         }
 
-        @Test
-        @DisplayName("UPLOADING 상태 세션이 Redis TTL 만료 후 EXPIRED로 변경된다")
-        void shouldExpireUploadingSessionViaRedisKeyspaceNotification() {
-            // given: UPLOADING 상태 세션 DB 저장 + S3에 실제 멀티파트 업로드 생성
-            Instant now = Instant.now();
-            String sessionId = newSessionId();
-            String s3Key = "public/2026/01/test-uploading-" + sessionId + ".jpg";
-            String realUploadId = createRealMultipartUpload(s3Key);
-
+        private void saveMultipartSession(
+                String sessionId, MultipartSessionStatus status, Instant expiresAt) {
+            String s3Key = "public/2026/01/test-multipart-" + sessionId + ".jpg";
             multipartUploadSessionJpaRepository.save(
                     MultipartUploadSessionJpaEntity.create(
                             sessionId,
                             s3Key,
                             TestContainerConfig.BUCKET_NAME,
                             AccessType.PUBLIC,
-                            "test-uploading.jpg",
+                            "test-multipart.jpg",
                             "image/jpeg",
-                            realUploadId,
+                            createRealMultipartUpload(s3Key),
                             5_242_880L,
                             "product-image",
                             "test-service",
-                            MultipartSessionStatus.UPLOADING,
-                            now.plus(Duration.ofHours(1)),
-                            now,
-                            now));
-
-            // when: Redis에 짧은 TTL로 만료 키 등록
-            String redisKey = "session:expiration:MULTIPART:" + sessionId;
-            stringRedisTemplate.opsForValue().set(redisKey, "MULTIPART", Duration.ofSeconds(2));
-
-            // then: TTL 만료 후 EXPIRED 상태로 변경
-            Awaitility.await()
-                    .atMost(Duration.ofSeconds(15))
-                    .pollInterval(Duration.ofMillis(500))
-                    .untilAsserted(
-                            () -> {
-                                var updated =
-                                        multipartUploadSessionJpaRepository
-                                                .findById(sessionId)
-                                                .orElseThrow();
-                                assertThat(updated.getStatus())
-                                        .isEqualTo(MultipartSessionStatus.EXPIRED);
-                            });
+                            status,
+                            expiresAt,
+                            expiresAt.minus(Duration.ofHours(1)),
+                            expiresAt.minus(Duration.ofHours(1))));
         }
     }
 }
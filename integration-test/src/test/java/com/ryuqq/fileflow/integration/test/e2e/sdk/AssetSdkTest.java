@@ -9,6 +9,9 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.entity.AssetJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.entity.AssetMetadataJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetJpaRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetMetadataJpaRepository;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
+import com.ryuqq.fileflow.domain.asset.aggregate.Asset;
+import com.ryuqq.fileflow.domain.asset.aggregate.AssetMetadata;
 import com.ryuqq.fileflow.domain.asset.vo.AssetOrigin;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.sdk.exception.FileFlowForbiddenException;
@@ -37,10 +40,16 @@ class AssetSdkTest extends SdkTestBase {
 
     @Autowired private AssetMetadataJpaRepository assetMetadataJpaRepository;
 
+    @Autowired private CachePort<Asset> assetCachePort;
+
+    @Autowired private CachePort<AssetMetadata> assetMetadataCachePort;
+
     @BeforeEach
     void setUp() {
         assetMetadataJpaRepository.deleteAllInBatch();
         assetJpaRepository.deleteAllInBatch();
+        assetCachePort.evictByPattern("cache:asset:*");
+        assetMetadataCachePort.evictByPattern("cache:asset-metadata:*");
     }
 
     @Nested
@@ -7,6 +7,7 @@ import com.ryuqq.fileflow.adapter.out.persistence.session.MultipartUploadSession
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.CompletedPartJpaRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionJpaRepository;
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
 import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
 import com.ryuqq.fileflow.sdk.exception.FileFlowConflictException;
 import com.ryuqq.fileflow.sdk.exception.FileFlowNotFoundException;
@@ -34,10 +35,13 @@ class MultipartUploadSessionSdkTest extends SdkTestBase {
 
     @Autowired private CompletedPartJpaRepository completedPartJpaRepository;
 
+    @Autowired private SessionHeaderCachePort sessionHeaderCachePort;
+
     @BeforeEach
     void setUp() {
         completedPartJpaRepository.deleteAllInBatch();
         multipartUploadSessionJpaRepository.deleteAllInBatch();
+        sessionHeaderCachePort.clear();
     }
 
     @Nested
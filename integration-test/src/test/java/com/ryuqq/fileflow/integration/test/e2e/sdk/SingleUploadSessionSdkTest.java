@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.ryuqq.fileflow.adapter.out.persistence.session.SingleUploadSessionJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionJpaRepository;
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
 import com.ryuqq.fileflow.sdk.exception.FileFlowConflictException;
@@ -32,9 +33,12 @@ class SingleUploadSessionSdkTest extends SdkTestBase {
 
     @Autowired private SingleUploadSessionJpaRepository singleUploadSessionJpaRepository;
 
+    @Autowired private SessionHeaderCachePort sessionHeaderCachePort;
+
     @BeforeEach
     void setUp() {
         singleUploadSessionJpaRepository.deleteAllInBatch();
+        sessionHeaderCachePort.clear();
     }
 
     @Nested
@@ -9,8 +9,10 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetJpaRepos
 import com.ryuqq.fileflow.adapter.out.persistence.transform.TransformRequestJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.transform.entity.TransformRequestJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.transform.repository.TransformRequestJpaRepository;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.domain.asset.vo.AssetOrigin;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.sdk.exception.FileFlowBadRequestException;
 import com.ryuqq.fileflow.sdk.exception.FileFlowNotFoundException;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
@@ -37,10 +39,13 @@ class TransformRequestSdkTest extends SdkTestBase {
 
     @Autowired private AssetJpaRepository assetJpaRepository;
 
+    @Autowired private CachePort<TransformRequest> transformRequestCachePort;
+
     @BeforeEach
     void setUp() {
         transformRequestJpaRepository.deleteAllInBatch();
         assetJpaRepository.deleteAllInBatch();
+        transformRequestCachePort.evictByPattern("cache:transform-request:*");
     }
 
     @Nested
@@ -13,9 +13,11 @@ import com.ryuqq.fileflow.adapter.out.persistence.session.entity.CompletedPartJp
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.MultipartUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.CompletedPartJpaRepository;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.MultipartUploadSessionJpaRepository;
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
 import com.ryuqq.fileflow.domain.session.vo.MultipartSessionStatus;
 import com.ryuqq.fileflow.integration.test.common.base.E2ETestBase;
 import io.restassured.response.Response;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,10 +46,13 @@ class MultipartUploadSessionE2ETest extends E2ETestBase {
 
     @Autowired private CompletedPartJpaRepository completedPartJpaRepository;
 
+    @Autowired private SessionHeaderCachePort sessionHeaderCachePort;
+
     @BeforeEach
     void setUp() {
         completedPartJpaRepository.deleteAllInBatch();
         multipartUploadSessionJpaRepository.deleteAllInBatch();
+        sessionHeaderCachePort.clear();
     }
 
     // ========================================
@@ -571,6 +576,122 @@ class MultipartUploadSessionE2ETest extends E2ETestBase {
         }
     }
 
+    // ========================================
+    // C5B: POST /api/v1/sessions/multipart/{sessionId}/parts/batch - 파트 일괄 추가
+    // ========================================
+    @Nested
+    @DisplayName("POST /api/v1/sessions/multipart/{sessionId}/parts/batch - 파트 일괄 완료 기록")
+    class AddCompletedPartsTest {
+
+        @Test
+        @DisplayName("C5B-S01. INITIATED 세션에 여러 파트를 한 번에 추가하면 200을 반환하고 UPLOADING으로 전이한다")
+        void shouldAddPartsAndTransitionToUploading() {
+            // given - API로 세션 생성
+            Response createResponse =
+                    givenServiceAuth().body(createSessionRequest()).when().post(BASE_PATH);
+            createResponse.then().statusCode(HttpStatus.CREATED.value());
+            String sessionId = createResponse.jsonPath().getString("data.sessionId");
+
+            // when
+            givenServiceAuth()
+                    .body(addPartsRequest(1, 2, 3))
+                    .when()
+                    .post(BASE_PATH + "/{sessionId}/parts/batch", sessionId)
+                    .then()
+                    .statusCode(HttpStatus.OK.value());
+
+            // then
+            var updated = multipartUploadSessionJpaRepository.findById(sessionId).orElseThrow();
+            assertThat(updated.getStatus()).isEqualTo(MultipartSessionStatus.UPLOADING);
+            assertThat(completedPartJpaRepository.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("C5B-S02. 같은 요청을 재시도해도 200을 반환하고 파트가 늘어나지 않는다")
+        void shouldBeIdempotentOnRetry() {
+            // given - API로 세션 생성 후 일괄 추가
+            Response createResponse =
+                    givenServiceAuth().body(createSessionRequest()).when().post(BASE_PATH);
+            createResponse.then().statusCode(HttpStatus.CREATED.value());
+            String sessionId = createResponse.jsonPath().getString("data.sessionId");
+
+            givenServiceAuth()
+                    .body(addPartsRequest(1, 2))
+                    .when()
+                    .post(BASE_PATH + "/{sessionId}/parts/batch", sessionId)
+                    .then()
+                    .statusCode(HttpStatus.OK.value());
+
+            // when - 일부가 겹치는 재시도
+            givenServiceAuth()
+                    .body(addPartsRequest(1, 2, 3))
+                    .when()
+                    .post(BASE_PATH + "/{sessionId}/parts/batch", sessionId)
+                    .then()
+                    .statusCode(HttpStatus.OK.value());
+
+            // then
+            assertThat(completedPartJpaRepository.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("C5B-S03. 요청 안에 같은 파트번호가 있으면 409를 반환하고 아무것도 기록하지 않는다")
+        void shouldReturn409WhenPartNumberRepeatedInRequest() {
+            // given - API로 세션 생성
+            Response createResponse =
+                    givenServiceAuth().body(createSessionRequest()).when().post(BASE_PATH);
+            createResponse.then().statusCode(HttpStatus.CREATED.value());
+            String sessionId = createResponse.jsonPath().getString("data.sessionId");
+
+            // when & then
+            givenServiceAuth()
+                    .body(addPartsRequest(1, 1))
+                    .when()
+                    .post(BASE_PATH + "/{sessionId}/parts/batch", sessionId)
+                    .then()
+                    .statusCode(HttpStatus.CONFLICT.value())
+                    .body("code", equalTo("SESSION-006"));
+
+            assertThat(completedPartJpaRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("C5B-S04. 빈 목록이면 400을 반환한다")
+        void shouldReturn400WhenPartsEmpty() {
+            // given - API로 세션 생성
+            Response createResponse =
+                    givenServiceAuth().body(createSessionRequest()).when().post(BASE_PATH);
+            createResponse.then().statusCode(HttpStatus.CREATED.value());
+            String sessionId = createResponse.jsonPath().getString("data.sessionId");
+
+            // when & then
+            givenServiceAuth()
+                    .body(addPartsRequest())
+                    .when()
+                    .post(BASE_PATH + "/{sessionId}/parts/batch", sessionId)
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value());
+        }
+
+        @Test
+        @DisplayName("C5B-S05. COMPLETED 세션에 파트 일괄 추가 시 409를 반환한다")
+        void shouldReturn409WhenSessionCompleted() {
+            // given
+            MultipartUploadSessionJpaEntity entity =
+                    multipartUploadSessionJpaRepository.save(
+                            MultipartUploadSessionJpaEntityFixture.aCompletedEntity());
+
+            // when & then
+            givenServiceAuth()
+                    .body(addPartsRequest(1))
+                    .when()
+                    .post(BASE_PATH + "/{sessionId}/parts/batch", entity.getId())
+                    .then()
+                    .statusCode(HttpStatus.CONFLICT.value())
+                    .body("code", equalTo("SESSION-002"));
+        }
+    }
+
     // ========================================
     // C6: POST /api/v1/sessions/multipart/{sessionId}/complete - 세션 완료
     // ========================================
@@ -992,6 +1113,14 @@ class MultipartUploadSessionE2ETest extends E2ETestBase {
         return request;
     }
 
+    private Map<String, Object> addPartsRequest(int... partNumbers) {
+        List<Map<String, Object>> parts = new ArrayList<>();
+        for (int partNumber : partNumbers) {
+            parts.add(addPartRequest(partNumber, "\"part" + partNumber + "etag\"", 5242880));
+        }
+        return Map.of("parts", parts);
+    }
+
     private Map<String, Object> completeSessionRequest() {
         return Map.of("totalFileSize", 15728640, "etag", "\"combined-etag-3\"");
     }
@@ -7,6 +7,7 @@ import static org.hamcrest.Matchers.notNullValue;
 import com.ryuqq.fileflow.adapter.out.persistence.session.SingleUploadSessionJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.session.entity.SingleUploadSessionJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.session.repository.SingleUploadSessionJpaRepository;
+import com.ryuqq.fileflow.application.session.port.out.cache.SessionHeaderCachePort;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
 import com.ryuqq.fileflow.domain.session.vo.SingleSessionStatus;
 import com.ryuqq.fileflow.integration.test.common.base.E2ETestBase;
@@ -33,9 +34,12 @@ class SingleUploadSessionE2ETest extends E2ETestBase {
 
     @Autowired private SingleUploadSessionJpaRepository singleUploadSessionJpaRepository;
 
+    @Autowired private SessionHeaderCachePort sessionHeaderCachePort;
+
     @BeforeEach
     void setUp() {
         singleUploadSessionJpaRepository.deleteAllInBatch();
+        sessionHeaderCachePort.clear();
     }
 
     // ========================================
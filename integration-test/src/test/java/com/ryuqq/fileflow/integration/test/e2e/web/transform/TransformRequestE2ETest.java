@@ -11,8 +11,10 @@ import com.ryuqq.fileflow.adapter.out.persistence.asset.repository.AssetJpaRepos
 import com.ryuqq.fileflow.adapter.out.persistence.transform.TransformRequestJpaEntityFixture;
 import com.ryuqq.fileflow.adapter.out.persistence.transform.entity.TransformRequestJpaEntity;
 import com.ryuqq.fileflow.adapter.out.persistence.transform.repository.TransformRequestJpaRepository;
+import com.ryuqq.fileflow.application.common.port.out.CachePort;
 import com.ryuqq.fileflow.domain.asset.vo.AssetOrigin;
 import com.ryuqq.fileflow.domain.common.vo.AccessType;
+import com.ryuqq.fileflow.domain.transform.aggregate.TransformRequest;
 import com.ryuqq.fileflow.domain.transform.vo.TransformStatus;
 import com.ryuqq.fileflow.domain.transform.vo.TransformType;
 import com.ryuqq.fileflow.integration.test.common.base.E2ETestBase;
@@ -42,10 +44,13 @@ class TransformRequestE2ETest extends E2ETestBase {
 
     @Autowired private AssetJpaRepository assetJpaRepository;
 
+    @Autowired private CachePort<TransformRequest> transformRequestCachePort;
+
     @BeforeEach
     void setUp() {
         transformRequestJpaRepository.deleteAllInBatch();
         assetJpaRepository.deleteAllInBatch();
+        transformRequestCachePort.evictByPattern("cache:transform-request:*");
     }
 
     // ========================================
@@ -490,6 +495,8 @@ class TransformRequestE2ETest extends E2ETestBase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 DEFAULT_NOW,
                 DEFAULT_NOW,
                 null,
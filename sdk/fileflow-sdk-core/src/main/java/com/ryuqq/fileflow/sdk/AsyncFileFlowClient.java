@@ -0,0 +1,20 @@
+package com.ryuqq.fileflow.sdk;
+
+import com.ryuqq.fileflow.sdk.api.AsyncAssetApi;
+import com.ryuqq.fileflow.sdk.api.AsyncDownloadTaskApi;
+import com.ryuqq.fileflow.sdk.api.AsyncMultipartUploadSessionApi;
+import com.ryuqq.fileflow.sdk.api.AsyncSingleUploadSessionApi;
+import com.ryuqq.fileflow.sdk.api.AsyncTransformRequestApi;
+
+public interface AsyncFileFlowClient {
+
+    AsyncSingleUploadSessionApi singleUploadSession();
+
+    AsyncMultipartUploadSessionApi multipartUploadSession();
+
+    AsyncAssetApi asset();
+
+    AsyncDownloadTaskApi downloadTask();
+
+    AsyncTransformRequestApi transformRequest();
+}
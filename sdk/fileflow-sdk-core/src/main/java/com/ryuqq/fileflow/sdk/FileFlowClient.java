@@ -5,6 +5,7 @@ import com.ryuqq.fileflow.sdk.api.DownloadTaskApi;
 import com.ryuqq.fileflow.sdk.api.MultipartUploadSessionApi;
 import com.ryuqq.fileflow.sdk.api.SingleUploadSessionApi;
 import com.ryuqq.fileflow.sdk.api.TransformRequestApi;
+import com.ryuqq.fileflow.sdk.upload.FileUploader;
 
 public interface FileFlowClient {
 
@@ -18,6 +19,10 @@ public interface FileFlowClient {
 
     TransformRequestApi transformRequest();
 
+    AsyncFileFlowClient async();
+
+    FileUploader fileUploader();
+
     static FileFlowClientBuilder builder() {
         return new FileFlowClientBuilder();
     }
@@ -12,6 +12,7 @@ public final class FileFlowClientBuilder {
     private String serviceToken;
     private Duration connectTimeout = FileFlowConfig.DEFAULT_CONNECT_TIMEOUT;
     private Duration readTimeout = FileFlowConfig.DEFAULT_READ_TIMEOUT;
+    private int responseCacheSize = FileFlowConfig.DEFAULT_RESPONSE_CACHE_SIZE;
 
     FileFlowClientBuilder() {}
 
@@ -41,10 +42,24 @@ public final class FileFlowClientBuilder {
         return this;
     }
 
+    public FileFlowClientBuilder responseCacheSize(int responseCacheSize) {
+        if (responseCacheSize < 0) {
+            throw new IllegalArgumentException("responseCacheSize must not be negative");
+        }
+        this.responseCacheSize = responseCacheSize;
+        return this;
+    }
+
     public FileFlowClient build() {
         validate();
         FileFlowConfig config =
-                new FileFlowConfig(baseUrl, serviceName, serviceToken, connectTimeout, readTimeout);
+                new FileFlowConfig(
+                        baseUrl,
+                        serviceName,
+                        serviceToken,
+                        connectTimeout,
+                        readTimeout,
+                        responseCacheSize);
         return new DefaultFileFlowClient(config);
     }
 
@@ -1,9 +1,13 @@
 package com.ryuqq.fileflow.sdk.api;
 
+import com.ryuqq.fileflow.sdk.model.asset.AssetBatchResponse;
 import com.ryuqq.fileflow.sdk.model.asset.AssetMetadataResponse;
 import com.ryuqq.fileflow.sdk.model.asset.AssetResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetSearchRequest;
+import com.ryuqq.fileflow.sdk.model.asset.BatchGetAssetsRequest;
 import com.ryuqq.fileflow.sdk.model.asset.RegisterAssetRequest;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
 
 public interface AssetApi {
 
@@ -13,5 +17,9 @@ public interface AssetApi {
 
     ApiResponse<AssetMetadataResponse> getMetadata(String assetId);
 
+    ApiResponse<SliceResponse<AssetResponse>> search(AssetSearchRequest request);
+
+    ApiResponse<AssetBatchResponse> batchGet(BatchGetAssetsRequest request);
+
     void delete(String assetId, String source);
 }
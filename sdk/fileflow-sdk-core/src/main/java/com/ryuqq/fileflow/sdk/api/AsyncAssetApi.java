@@ -0,0 +1,27 @@
+package com.ryuqq.fileflow.sdk.api;
+
+import com.ryuqq.fileflow.sdk.model.asset.AssetBatchResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetMetadataResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetSearchRequest;
+import com.ryuqq.fileflow.sdk.model.asset.BatchGetAssetsRequest;
+import com.ryuqq.fileflow.sdk.model.asset.RegisterAssetRequest;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncAssetApi {
+
+    CompletableFuture<ApiResponse<AssetResponse>> register(RegisterAssetRequest request);
+
+    CompletableFuture<ApiResponse<AssetResponse>> get(String assetId);
+
+    CompletableFuture<ApiResponse<AssetMetadataResponse>> getMetadata(String assetId);
+
+    CompletableFuture<ApiResponse<SliceResponse<AssetResponse>>> search(
+            AssetSearchRequest request);
+
+    CompletableFuture<ApiResponse<AssetBatchResponse>> batchGet(BatchGetAssetsRequest request);
+
+    CompletableFuture<Void> delete(String assetId, String source);
+}
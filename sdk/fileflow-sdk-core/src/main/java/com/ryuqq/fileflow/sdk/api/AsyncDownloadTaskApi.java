@@ -0,0 +1,23 @@
+package com.ryuqq.fileflow.sdk.api;
+
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTaskRequest;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTasksRequest;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskBatchItemResponse;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncDownloadTaskApi {
+
+    CompletableFuture<ApiResponse<DownloadTaskResponse>> create(CreateDownloadTaskRequest request);
+
+    CompletableFuture<ApiResponse<List<DownloadTaskBatchItemResponse>>> createBatch(
+            CreateDownloadTasksRequest request);
+
+    CompletableFuture<ApiResponse<DownloadTaskResponse>> get(String downloadTaskId);
+
+    CompletableFuture<ApiResponse<DownloadTaskResponse>> awaitCompletion(
+            String downloadTaskId, Duration timeout);
+}
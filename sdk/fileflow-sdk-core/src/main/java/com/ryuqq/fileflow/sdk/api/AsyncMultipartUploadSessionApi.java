@@ -0,0 +1,43 @@
+package com.ryuqq.fileflow.sdk.api;
+
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompleteMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompletedPartResponse;
+import com.ryuqq.fileflow.sdk.model.session.CreateMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionSummaryResponse;
+import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncMultipartUploadSessionApi {
+
+    CompletableFuture<ApiResponse<MultipartUploadSessionResponse>> create(
+            CreateMultipartUploadSessionRequest request);
+
+    CompletableFuture<ApiResponse<MultipartUploadSessionResponse>> get(String sessionId);
+
+    CompletableFuture<ApiResponse<MultipartUploadSessionSummaryResponse>> getSummary(
+            String sessionId);
+
+    CompletableFuture<ApiResponse<SliceResponse<CompletedPartResponse>>> getCompletedParts(
+            String sessionId, Integer cursor, Integer size);
+
+    CompletableFuture<ApiResponse<PresignedPartUrlResponse>> getPresignedPartUrl(
+            String sessionId, int partNumber);
+
+    CompletableFuture<ApiResponse<List<PresignedPartUrlResponse>>> getPresignedPartUrls(
+            String sessionId, int fromPartNumber, int toPartNumber);
+
+    CompletableFuture<Void> addCompletedPart(String sessionId, AddCompletedPartRequest request);
+
+    CompletableFuture<Void> addCompletedParts(String sessionId, AddCompletedPartsRequest request);
+
+    CompletableFuture<Void> complete(
+            String sessionId, CompleteMultipartUploadSessionRequest request);
+
+    CompletableFuture<Void> abort(String sessionId);
+}
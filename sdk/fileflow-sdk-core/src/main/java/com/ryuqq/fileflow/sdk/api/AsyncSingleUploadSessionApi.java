@@ -0,0 +1,17 @@
+package com.ryuqq.fileflow.sdk.api;
+
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.session.CompleteSingleUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CreateSingleUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.SingleUploadSessionResponse;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncSingleUploadSessionApi {
+
+    CompletableFuture<ApiResponse<SingleUploadSessionResponse>> create(
+            CreateSingleUploadSessionRequest request);
+
+    CompletableFuture<ApiResponse<SingleUploadSessionResponse>> get(String sessionId);
+
+    CompletableFuture<Void> complete(String sessionId, CompleteSingleUploadSessionRequest request);
+}
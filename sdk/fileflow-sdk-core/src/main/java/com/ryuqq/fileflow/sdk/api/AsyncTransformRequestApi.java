@@ -0,0 +1,18 @@
+package com.ryuqq.fileflow.sdk.api;
+
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.transform.CreateTransformRequestRequest;
+import com.ryuqq.fileflow.sdk.model.transform.TransformRequestResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncTransformRequestApi {
+
+    CompletableFuture<ApiResponse<TransformRequestResponse>> create(
+            CreateTransformRequestRequest request);
+
+    CompletableFuture<ApiResponse<TransformRequestResponse>> get(String transformRequestId);
+
+    CompletableFuture<ApiResponse<TransformRequestResponse>> awaitCompletion(
+            String transformRequestId, Duration timeout);
+}
@@ -2,11 +2,20 @@ package com.ryuqq.fileflow.sdk.api;
 
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTaskRequest;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTasksRequest;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.sdk.model.download.DownloadTaskResponse;
+import java.time.Duration;
+import java.util.List;
 
 public interface DownloadTaskApi {
 
     ApiResponse<DownloadTaskResponse> create(CreateDownloadTaskRequest request);
 
+    ApiResponse<List<DownloadTaskBatchItemResponse>> createBatch(
+            CreateDownloadTasksRequest request);
+
     ApiResponse<DownloadTaskResponse> get(String downloadTaskId);
+
+    ApiResponse<DownloadTaskResponse> awaitCompletion(String downloadTaskId, Duration timeout);
 }
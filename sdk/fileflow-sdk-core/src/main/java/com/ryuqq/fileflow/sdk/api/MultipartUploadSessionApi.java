@@ -1,11 +1,16 @@
 package com.ryuqq.fileflow.sdk.api;
 
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
 import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
 import com.ryuqq.fileflow.sdk.model.session.CompleteMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompletedPartResponse;
 import com.ryuqq.fileflow.sdk.model.session.CreateMultipartUploadSessionRequest;
 import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
+import java.util.List;
 
 public interface MultipartUploadSessionApi {
 
@@ -13,10 +18,20 @@ public interface MultipartUploadSessionApi {
 
     ApiResponse<MultipartUploadSessionResponse> get(String sessionId);
 
+    ApiResponse<MultipartUploadSessionSummaryResponse> getSummary(String sessionId);
+
+    ApiResponse<SliceResponse<CompletedPartResponse>> getCompletedParts(
+            String sessionId, Integer cursor, Integer size);
+
     ApiResponse<PresignedPartUrlResponse> getPresignedPartUrl(String sessionId, int partNumber);
 
+    ApiResponse<List<PresignedPartUrlResponse>> getPresignedPartUrls(
+            String sessionId, int fromPartNumber, int toPartNumber);
+
     void addCompletedPart(String sessionId, AddCompletedPartRequest request);
 
+    void addCompletedParts(String sessionId, AddCompletedPartsRequest request);
+
     void complete(String sessionId, CompleteMultipartUploadSessionRequest request);
 
     void abort(String sessionId);
@@ -3,10 +3,14 @@ package com.ryuqq.fileflow.sdk.api;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import com.ryuqq.fileflow.sdk.model.transform.CreateTransformRequestRequest;
 import com.ryuqq.fileflow.sdk.model.transform.TransformRequestResponse;
+import java.time.Duration;
 
 public interface TransformRequestApi {
 
     ApiResponse<TransformRequestResponse> create(CreateTransformRequestRequest request);
 
     ApiResponse<TransformRequestResponse> get(String transformRequestId);
+
+    ApiResponse<TransformRequestResponse> awaitCompletion(
+            String transformRequestId, Duration timeout);
 }
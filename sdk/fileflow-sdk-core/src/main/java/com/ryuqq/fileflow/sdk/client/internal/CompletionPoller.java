@@ -0,0 +1,74 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+class CompletionPoller {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "FAILED");
+    private static final long MAX_WAIT_SECONDS_PER_CALL = 20;
+    private static final Duration READ_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+    private final long maxWaitSecondsPerCall;
+
+    CompletionPoller(Duration readTimeout) {
+        long readTimeoutBudget = readTimeout.minus(READ_TIMEOUT_MARGIN).toSeconds();
+        this.maxWaitSecondsPerCall =
+                Math.max(1, Math.min(MAX_WAIT_SECONDS_PER_CALL, readTimeoutBudget));
+    }
+
+    <T> ApiResponse<T> await(
+            Duration timeout,
+            IntFunction<ApiResponse<T>> poll,
+            Function<T, String> statusExtractor) {
+        long deadline = deadline(timeout);
+        while (true) {
+            ApiResponse<T> response = poll.apply(waitSeconds(deadline));
+            if (isDone(response, statusExtractor, deadline)) {
+                return response;
+            }
+        }
+    }
+
+    <T> CompletableFuture<ApiResponse<T>> awaitAsync(
+            Duration timeout,
+            IntFunction<CompletableFuture<ApiResponse<T>>> poll,
+            Function<T, String> statusExtractor) {
+        return pollAsync(deadline(timeout), poll, statusExtractor);
+    }
+
+    private <T> CompletableFuture<ApiResponse<T>> pollAsync(
+            long deadline,
+            IntFunction<CompletableFuture<ApiResponse<T>>> poll,
+            Function<T, String> statusExtractor) {
+        return poll.apply(waitSeconds(deadline))
+                .thenCompose(
+                        response ->
+                                isDone(response, statusExtractor, deadline)
+                                        ? CompletableFuture.completedFuture(response)
+                                        : pollAsync(deadline, poll, statusExtractor));
+    }
+
+    private static long deadline(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative, got: " + timeout);
+        }
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    private int waitSeconds(long deadline) {
+        long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+        long remainingSeconds = Math.max(0, (remainingMillis + 999) / 1000);
+        return (int) Math.min(maxWaitSecondsPerCall, remainingSeconds);
+    }
+
+    private static <T> boolean isDone(
+            ApiResponse<T> response, Function<T, String> statusExtractor, long deadline) {
+        return TERMINAL_STATUSES.contains(statusExtractor.apply(response.data()))
+                || System.nanoTime() - deadline >= 0;
+    }
+}
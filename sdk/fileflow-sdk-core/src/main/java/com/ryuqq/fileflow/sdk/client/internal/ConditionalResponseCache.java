@@ -0,0 +1,42 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class ConditionalResponseCache {
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+
+    ConditionalResponseCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, got: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        return size() > ConditionalResponseCache.this.maxEntries;
+                    }
+                };
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, String etag, byte[] body) {
+        entries.put(key, new Entry(etag, body));
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    record Entry(String etag, byte[] body) {}
+}
@@ -2,10 +2,15 @@ package com.ryuqq.fileflow.sdk.client.internal;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.ryuqq.fileflow.sdk.api.AssetApi;
+import com.ryuqq.fileflow.sdk.model.asset.AssetBatchResponse;
 import com.ryuqq.fileflow.sdk.model.asset.AssetMetadataResponse;
 import com.ryuqq.fileflow.sdk.model.asset.AssetResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetSearchRequest;
+import com.ryuqq.fileflow.sdk.model.asset.BatchGetAssetsRequest;
 import com.ryuqq.fileflow.sdk.model.asset.RegisterAssetRequest;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
+import java.util.HashMap;
 import java.util.Map;
 
 class DefaultAssetApi implements AssetApi {
@@ -15,6 +20,10 @@ class DefaultAssetApi implements AssetApi {
             new TypeReference<>() {};
     private static final TypeReference<ApiResponse<AssetMetadataResponse>> METADATA_RESPONSE_TYPE =
             new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<AssetBatchResponse>> BATCH_RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<SliceResponse<AssetResponse>>>
+            SLICE_RESPONSE_TYPE = new TypeReference<>() {};
 
     private final HttpClientSupport http;
 
@@ -37,8 +46,31 @@ class DefaultAssetApi implements AssetApi {
         return http.get(BASE_PATH + "/" + assetId + "/metadata", METADATA_RESPONSE_TYPE);
     }
 
+    @Override
+    public ApiResponse<SliceResponse<AssetResponse>> search(AssetSearchRequest request) {
+        return http.get(BASE_PATH, toQueryParams(request), SLICE_RESPONSE_TYPE);
+    }
+
+    @Override
+    public ApiResponse<AssetBatchResponse> batchGet(BatchGetAssetsRequest request) {
+        return http.post(BASE_PATH + "/batch-get", request, BATCH_RESPONSE_TYPE);
+    }
+
     @Override
     public void delete(String assetId, String source) {
         http.delete(BASE_PATH + "/" + assetId, Map.of("source", source));
     }
+
+    private static Map<String, Object> toQueryParams(AssetSearchRequest request) {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("source", request.source());
+        queryParams.put("purpose", request.purpose());
+        queryParams.put("accessType", request.accessType());
+        queryParams.put("createdFrom", request.createdFrom());
+        queryParams.put("createdTo", request.createdTo());
+        queryParams.put("direction", request.direction());
+        queryParams.put("cursor", request.cursor());
+        queryParams.put("size", request.size());
+        return queryParams;
+    }
 }
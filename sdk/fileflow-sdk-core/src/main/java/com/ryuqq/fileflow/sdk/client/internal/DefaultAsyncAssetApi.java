@@ -0,0 +1,79 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ryuqq.fileflow.sdk.api.AsyncAssetApi;
+import com.ryuqq.fileflow.sdk.model.asset.AssetBatchResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetMetadataResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetSearchRequest;
+import com.ryuqq.fileflow.sdk.model.asset.BatchGetAssetsRequest;
+import com.ryuqq.fileflow.sdk.model.asset.RegisterAssetRequest;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class DefaultAsyncAssetApi implements AsyncAssetApi {
+
+    private static final String BASE_PATH = "/api/v1/assets";
+    private static final TypeReference<ApiResponse<AssetResponse>> RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<AssetMetadataResponse>> METADATA_RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<AssetBatchResponse>> BATCH_RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<SliceResponse<AssetResponse>>>
+            SLICE_RESPONSE_TYPE = new TypeReference<>() {};
+
+    private final HttpClientSupport http;
+
+    DefaultAsyncAssetApi(HttpClientSupport http) {
+        this.http = http;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AssetResponse>> register(RegisterAssetRequest request) {
+        return http.postAsync(BASE_PATH + "/register", request, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AssetResponse>> get(String assetId) {
+        return http.getAsync(BASE_PATH + "/" + assetId, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AssetMetadataResponse>> getMetadata(String assetId) {
+        return http.getAsync(BASE_PATH + "/" + assetId + "/metadata", METADATA_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<SliceResponse<AssetResponse>>> search(
+            AssetSearchRequest request) {
+        return http.getAsync(BASE_PATH, toQueryParams(request), SLICE_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AssetBatchResponse>> batchGet(
+            BatchGetAssetsRequest request) {
+        return http.postAsync(BASE_PATH + "/batch-get", request, BATCH_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String assetId, String source) {
+        return http.deleteAsync(BASE_PATH + "/" + assetId, Map.of("source", source));
+    }
+
+    private static Map<String, Object> toQueryParams(AssetSearchRequest request) {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("source", request.source());
+        queryParams.put("purpose", request.purpose());
+        queryParams.put("accessType", request.accessType());
+        queryParams.put("createdFrom", request.createdFrom());
+        queryParams.put("createdTo", request.createdTo());
+        queryParams.put("direction", request.direction());
+        queryParams.put("cursor", request.cursor());
+        queryParams.put("size", request.size());
+        return queryParams;
+    }
+}
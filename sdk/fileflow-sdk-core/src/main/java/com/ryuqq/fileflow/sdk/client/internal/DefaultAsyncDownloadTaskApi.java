@@ -0,0 +1,63 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ryuqq.fileflow.sdk.api.AsyncDownloadTaskApi;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTaskRequest;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTasksRequest;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskBatchItemResponse;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class DefaultAsyncDownloadTaskApi implements AsyncDownloadTaskApi {
+
+    private static final String BASE_PATH = "/api/v1/download-tasks";
+    private static final String BATCH_PATH = "/batch";
+    private static final String AWAIT_PATH = "/await";
+    private static final String WAIT_SECONDS_PARAM = "waitSeconds";
+    private static final TypeReference<ApiResponse<DownloadTaskResponse>> RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<DownloadTaskBatchItemResponse>>>
+            BATCH_RESPONSE_TYPE = new TypeReference<>() {};
+
+    private final HttpClientSupport http;
+    private final CompletionPoller completionPoller;
+
+    DefaultAsyncDownloadTaskApi(HttpClientSupport http) {
+        this.http = http;
+        this.completionPoller = new CompletionPoller(http.readTimeout());
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<DownloadTaskResponse>> create(
+            CreateDownloadTaskRequest request) {
+        return http.postAsync(BASE_PATH, request, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<List<DownloadTaskBatchItemResponse>>> createBatch(
+            CreateDownloadTasksRequest request) {
+        return http.postAsync(BASE_PATH + BATCH_PATH, request, BATCH_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<DownloadTaskResponse>> get(String downloadTaskId) {
+        return http.getAsync(BASE_PATH + "/" + downloadTaskId, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<DownloadTaskResponse>> awaitCompletion(
+            String downloadTaskId, Duration timeout) {
+        return completionPoller.awaitAsync(
+                timeout,
+                waitSeconds ->
+                        http.getAsync(
+                                BASE_PATH + "/" + downloadTaskId + AWAIT_PATH,
+                                Map.of(WAIT_SECONDS_PARAM, waitSeconds),
+                                RESPONSE_TYPE),
+                DownloadTaskResponse::status);
+    }
+}
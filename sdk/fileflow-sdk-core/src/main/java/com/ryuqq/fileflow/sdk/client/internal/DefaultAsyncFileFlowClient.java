@@ -0,0 +1,50 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.ryuqq.fileflow.sdk.AsyncFileFlowClient;
+import com.ryuqq.fileflow.sdk.api.AsyncAssetApi;
+import com.ryuqq.fileflow.sdk.api.AsyncDownloadTaskApi;
+import com.ryuqq.fileflow.sdk.api.AsyncMultipartUploadSessionApi;
+import com.ryuqq.fileflow.sdk.api.AsyncSingleUploadSessionApi;
+import com.ryuqq.fileflow.sdk.api.AsyncTransformRequestApi;
+
+class DefaultAsyncFileFlowClient implements AsyncFileFlowClient {
+
+    private final AsyncSingleUploadSessionApi singleUploadSessionApi;
+    private final AsyncMultipartUploadSessionApi multipartUploadSessionApi;
+    private final AsyncAssetApi assetApi;
+    private final AsyncDownloadTaskApi downloadTaskApi;
+    private final AsyncTransformRequestApi transformRequestApi;
+
+    DefaultAsyncFileFlowClient(HttpClientSupport http) {
+        this.singleUploadSessionApi = new DefaultAsyncSingleUploadSessionApi(http);
+        this.multipartUploadSessionApi = new DefaultAsyncMultipartUploadSessionApi(http);
+        this.assetApi = new DefaultAsyncAssetApi(http);
+        this.downloadTaskApi = new DefaultAsyncDownloadTaskApi(http);
+        this.transformRequestApi = new DefaultAsyncTransformRequestApi(http);
+    }
+
+    @Override
+    public AsyncSingleUploadSessionApi singleUploadSession() {
+        return singleUploadSessionApi;
+    }
+
+    @Override
+    public AsyncMultipartUploadSessionApi multipartUploadSession() {
+        return multipartUploadSessionApi;
+    }
+
+    @Override
+    public AsyncAssetApi asset() {
+        return assetApi;
+    }
+
+    @Override
+    public AsyncDownloadTaskApi downloadTask() {
+        return downloadTaskApi;
+    }
+
+    @Override
+    public AsyncTransformRequestApi transformRequest() {
+        return transformRequestApi;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ryuqq.fileflow.sdk.api.AsyncMultipartUploadSessionApi;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompleteMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompletedPartResponse;
+import com.ryuqq.fileflow.sdk.model.session.CreateMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionSummaryResponse;
+import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class DefaultAsyncMultipartUploadSessionApi implements AsyncMultipartUploadSessionApi {
+
+    private static final String BASE_PATH = "/api/v1/sessions/multipart";
+    private static final TypeReference<ApiResponse<MultipartUploadSessionResponse>> RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<PresignedPartUrlResponse>>
+            PRESIGNED_URL_RESPONSE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<PresignedPartUrlResponse>>>
+            PRESIGNED_URLS_RESPONSE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<MultipartUploadSessionSummaryResponse>>
+            SUMMARY_RESPONSE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<SliceResponse<CompletedPartResponse>>>
+            PARTS_RESPONSE_TYPE = new TypeReference<>() {};
+
+    private final HttpClientSupport http;
+
+    DefaultAsyncMultipartUploadSessionApi(HttpClientSupport http) {
+        this.http = http;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<MultipartUploadSessionResponse>> create(
+            CreateMultipartUploadSessionRequest request) {
+        return http.postAsync(BASE_PATH, request, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<MultipartUploadSessionResponse>> get(String sessionId) {
+        return http.getAsync(BASE_PATH + "/" + sessionId, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<MultipartUploadSessionSummaryResponse>> getSummary(
+            String sessionId) {
+        return http.getAsync(BASE_PATH + "/" + sessionId + "/summary", SUMMARY_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<SliceResponse<CompletedPartResponse>>> getCompletedParts(
+            String sessionId, Integer cursor, Integer size) {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("cursor", cursor);
+        queryParams.put("size", size);
+        return http.getAsync(
+                BASE_PATH + "/" + sessionId + "/parts", queryParams, PARTS_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PresignedPartUrlResponse>> getPresignedPartUrl(
+            String sessionId, int partNumber) {
+        String path = BASE_PATH + "/" + sessionId + "/parts/" + partNumber + "/presigned-url";
+        return http.getAsync(path, PRESIGNED_URL_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<List<PresignedPartUrlResponse>>> getPresignedPartUrls(
+            String sessionId, int fromPartNumber, int toPartNumber) {
+        String path = BASE_PATH + "/" + sessionId + "/parts/presigned-urls";
+        Map<String, Object> queryParams = Map.of("from", fromPartNumber, "to", toPartNumber);
+        return http.getAsync(path, queryParams, PRESIGNED_URLS_RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<Void> addCompletedPart(
+            String sessionId, AddCompletedPartRequest request) {
+        return http.postVoidAsync(BASE_PATH + "/" + sessionId + "/parts", request);
+    }
+
+    @Override
+    public CompletableFuture<Void> addCompletedParts(
+            String sessionId, AddCompletedPartsRequest request) {
+        return http.postVoidAsync(BASE_PATH + "/" + sessionId + "/parts/batch", request);
+    }
+
+    @Override
+    public CompletableFuture<Void> complete(
+            String sessionId, CompleteMultipartUploadSessionRequest request) {
+        return http.postVoidAsync(BASE_PATH + "/" + sessionId + "/complete", request);
+    }
+
+    @Override
+    public CompletableFuture<Void> abort(String sessionId) {
+        return http.postVoidAsync(BASE_PATH + "/" + sessionId + "/abort");
+    }
+}
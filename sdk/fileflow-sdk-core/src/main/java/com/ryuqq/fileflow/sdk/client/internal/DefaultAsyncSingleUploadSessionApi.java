@@ -0,0 +1,39 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ryuqq.fileflow.sdk.api.AsyncSingleUploadSessionApi;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.session.CompleteSingleUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CreateSingleUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.SingleUploadSessionResponse;
+import java.util.concurrent.CompletableFuture;
+
+class DefaultAsyncSingleUploadSessionApi implements AsyncSingleUploadSessionApi {
+
+    private static final String BASE_PATH = "/api/v1/sessions/single";
+    private static final TypeReference<ApiResponse<SingleUploadSessionResponse>> RESPONSE_TYPE =
+            new TypeReference<>() {};
+
+    private final HttpClientSupport http;
+
+    DefaultAsyncSingleUploadSessionApi(HttpClientSupport http) {
+        this.http = http;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<SingleUploadSessionResponse>> create(
+            CreateSingleUploadSessionRequest request) {
+        return http.postAsync(BASE_PATH, request, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<SingleUploadSessionResponse>> get(String sessionId) {
+        return http.getAsync(BASE_PATH + "/" + sessionId, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<Void> complete(
+            String sessionId, CompleteSingleUploadSessionRequest request) {
+        return http.postVoidAsync(BASE_PATH + "/" + sessionId + "/complete", request);
+    }
+}
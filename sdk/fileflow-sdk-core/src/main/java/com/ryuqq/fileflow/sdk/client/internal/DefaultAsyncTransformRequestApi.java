@@ -0,0 +1,52 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ryuqq.fileflow.sdk.api.AsyncTransformRequestApi;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.transform.CreateTransformRequestRequest;
+import com.ryuqq.fileflow.sdk.model.transform.TransformRequestResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class DefaultAsyncTransformRequestApi implements AsyncTransformRequestApi {
+
+    private static final String BASE_PATH = "/api/v1/transform-requests";
+    private static final String AWAIT_PATH = "/await";
+    private static final String WAIT_SECONDS_PARAM = "waitSeconds";
+    private static final TypeReference<ApiResponse<TransformRequestResponse>> RESPONSE_TYPE =
+            new TypeReference<>() {};
+
+    private final HttpClientSupport http;
+    private final CompletionPoller completionPoller;
+
+    DefaultAsyncTransformRequestApi(HttpClientSupport http) {
+        this.http = http;
+        this.completionPoller = new CompletionPoller(http.readTimeout());
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<TransformRequestResponse>> create(
+            CreateTransformRequestRequest request) {
+        return http.postAsync(BASE_PATH, request, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<TransformRequestResponse>> get(
+            String transformRequestId) {
+        return http.getAsync(BASE_PATH + "/" + transformRequestId, RESPONSE_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<TransformRequestResponse>> awaitCompletion(
+            String transformRequestId, Duration timeout) {
+        return completionPoller.awaitAsync(
+                timeout,
+                waitSeconds ->
+                        http.getAsync(
+                                BASE_PATH + "/" + transformRequestId + AWAIT_PATH,
+                                Map.of(WAIT_SECONDS_PARAM, waitSeconds),
+                                RESPONSE_TYPE),
+                TransformRequestResponse::status);
+    }
+}
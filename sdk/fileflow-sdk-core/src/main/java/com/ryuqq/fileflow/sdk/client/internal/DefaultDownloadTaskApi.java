@@ -4,18 +4,30 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.ryuqq.fileflow.sdk.api.DownloadTaskApi;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTaskRequest;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTasksRequest;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.sdk.model.download.DownloadTaskResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 class DefaultDownloadTaskApi implements DownloadTaskApi {
 
     private static final String BASE_PATH = "/api/v1/download-tasks";
+    private static final String BATCH_PATH = "/batch";
+    private static final String AWAIT_PATH = "/await";
+    private static final String WAIT_SECONDS_PARAM = "waitSeconds";
     private static final TypeReference<ApiResponse<DownloadTaskResponse>> RESPONSE_TYPE =
             new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<DownloadTaskBatchItemResponse>>>
+            BATCH_RESPONSE_TYPE = new TypeReference<>() {};
 
     private final HttpClientSupport http;
+    private final CompletionPoller completionPoller;
 
     DefaultDownloadTaskApi(HttpClientSupport http) {
         this.http = http;
+        this.completionPoller = new CompletionPoller(http.readTimeout());
     }
 
     @Override
@@ -23,8 +35,27 @@ class DefaultDownloadTaskApi implements DownloadTaskApi {
         return http.post(BASE_PATH, request, RESPONSE_TYPE);
     }
 
+    @Override
+    public ApiResponse<List<DownloadTaskBatchItemResponse>> createBatch(
+            CreateDownloadTasksRequest request) {
+        return http.post(BASE_PATH + BATCH_PATH, request, BATCH_RESPONSE_TYPE);
+    }
+
     @Override
     public ApiResponse<DownloadTaskResponse> get(String downloadTaskId) {
         return http.get(BASE_PATH + "/" + downloadTaskId, RESPONSE_TYPE);
     }
+
+    @Override
+    public ApiResponse<DownloadTaskResponse> awaitCompletion(
+            String downloadTaskId, Duration timeout) {
+        return completionPoller.await(
+                timeout,
+                waitSeconds ->
+                        http.get(
+                                BASE_PATH + "/" + downloadTaskId + AWAIT_PATH,
+                                Map.of(WAIT_SECONDS_PARAM, waitSeconds),
+                                RESPONSE_TYPE),
+                DownloadTaskResponse::status);
+    }
 }
@@ -1,5 +1,6 @@
 package com.ryuqq.fileflow.sdk.client.internal;
 
+import com.ryuqq.fileflow.sdk.AsyncFileFlowClient;
 import com.ryuqq.fileflow.sdk.FileFlowClient;
 import com.ryuqq.fileflow.sdk.api.AssetApi;
 import com.ryuqq.fileflow.sdk.api.DownloadTaskApi;
@@ -7,6 +8,7 @@ import com.ryuqq.fileflow.sdk.api.MultipartUploadSessionApi;
 import com.ryuqq.fileflow.sdk.api.SingleUploadSessionApi;
 import com.ryuqq.fileflow.sdk.api.TransformRequestApi;
 import com.ryuqq.fileflow.sdk.config.FileFlowConfig;
+import com.ryuqq.fileflow.sdk.upload.FileUploader;
 
 public class DefaultFileFlowClient implements FileFlowClient {
 
@@ -15,6 +17,8 @@ public class DefaultFileFlowClient implements FileFlowClient {
     private final AssetApi assetApi;
     private final DownloadTaskApi downloadTaskApi;
     private final TransformRequestApi transformRequestApi;
+    private final AsyncFileFlowClient asyncClient;
+    private final FileUploader fileUploader;
 
     public DefaultFileFlowClient(FileFlowConfig config) {
         HttpClientSupport http = new HttpClientSupport(config);
@@ -23,6 +27,8 @@ public class DefaultFileFlowClient implements FileFlowClient {
         this.assetApi = new DefaultAssetApi(http);
         this.downloadTaskApi = new DefaultDownloadTaskApi(http);
         this.transformRequestApi = new DefaultTransformRequestApi(http);
+        this.asyncClient = new DefaultAsyncFileFlowClient(http);
+        this.fileUploader = new FileUploader(this);
     }
 
     @Override
@@ -49,4 +55,14 @@ public class DefaultFileFlowClient implements FileFlowClient {
     public TransformRequestApi transformRequest() {
         return transformRequestApi;
     }
+
+    @Override
+    public AsyncFileFlowClient async() {
+        return asyncClient;
+    }
+
+    @Override
+    public FileUploader fileUploader() {
+        return fileUploader;
+    }
 }
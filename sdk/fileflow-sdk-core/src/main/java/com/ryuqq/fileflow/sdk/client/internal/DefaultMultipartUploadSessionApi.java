@@ -3,11 +3,18 @@ package com.ryuqq.fileflow.sdk.client.internal;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.ryuqq.fileflow.sdk.api.MultipartUploadSessionApi;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
 import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
 import com.ryuqq.fileflow.sdk.model.session.CompleteMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompletedPartResponse;
 import com.ryuqq.fileflow.sdk.model.session.CreateMultipartUploadSessionRequest;
 import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 class DefaultMultipartUploadSessionApi implements MultipartUploadSessionApi {
 
@@ -16,6 +23,12 @@ class DefaultMultipartUploadSessionApi implements MultipartUploadSessionApi {
             new TypeReference<>() {};
     private static final TypeReference<ApiResponse<PresignedPartUrlResponse>>
             PRESIGNED_URL_RESPONSE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<PresignedPartUrlResponse>>>
+            PRESIGNED_URLS_RESPONSE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<MultipartUploadSessionSummaryResponse>>
+            SUMMARY_RESPONSE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<SliceResponse<CompletedPartResponse>>>
+            PARTS_RESPONSE_TYPE = new TypeReference<>() {};
 
     private final HttpClientSupport http;
 
@@ -34,6 +47,20 @@ class DefaultMultipartUploadSessionApi implements MultipartUploadSessionApi {
         return http.get(BASE_PATH + "/" + sessionId, RESPONSE_TYPE);
     }
 
+    @Override
+    public ApiResponse<MultipartUploadSessionSummaryResponse> getSummary(String sessionId) {
+        return http.get(BASE_PATH + "/" + sessionId + "/summary", SUMMARY_RESPONSE_TYPE);
+    }
+
+    @Override
+    public ApiResponse<SliceResponse<CompletedPartResponse>> getCompletedParts(
+            String sessionId, Integer cursor, Integer size) {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("cursor", cursor);
+        queryParams.put("size", size);
+        return http.get(BASE_PATH + "/" + sessionId + "/parts", queryParams, PARTS_RESPONSE_TYPE);
+    }
+
     @Override
     public ApiResponse<PresignedPartUrlResponse> getPresignedPartUrl(
             String sessionId, int partNumber) {
@@ -41,11 +68,24 @@ class DefaultMultipartUploadSessionApi implements MultipartUploadSessionApi {
         return http.get(path, PRESIGNED_URL_RESPONSE_TYPE);
     }
 
+    @Override
+    public ApiResponse<List<PresignedPartUrlResponse>> getPresignedPartUrls(
+            String sessionId, int fromPartNumber, int toPartNumber) {
+        String path = BASE_PATH + "/" + sessionId + "/parts/presigned-urls";
+        Map<String, Object> queryParams = Map.of("from", fromPartNumber, "to", toPartNumber);
+        return http.get(path, queryParams, PRESIGNED_URLS_RESPONSE_TYPE);
+    }
+
     @Override
     public void addCompletedPart(String sessionId, AddCompletedPartRequest request) {
         http.postVoid(BASE_PATH + "/" + sessionId + "/parts", request);
     }
 
+    @Override
+    public void addCompletedParts(String sessionId, AddCompletedPartsRequest request) {
+        http.postVoid(BASE_PATH + "/" + sessionId + "/parts/batch", request);
+    }
+
     @Override
     public void complete(String sessionId, CompleteMultipartUploadSessionRequest request) {
         http.postVoid(BASE_PATH + "/" + sessionId + "/complete", request);
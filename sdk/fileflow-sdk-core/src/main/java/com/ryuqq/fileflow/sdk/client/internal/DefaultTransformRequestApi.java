@@ -5,17 +5,23 @@ import com.ryuqq.fileflow.sdk.api.TransformRequestApi;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import com.ryuqq.fileflow.sdk.model.transform.CreateTransformRequestRequest;
 import com.ryuqq.fileflow.sdk.model.transform.TransformRequestResponse;
+import java.time.Duration;
+import java.util.Map;
 
 class DefaultTransformRequestApi implements TransformRequestApi {
 
     private static final String BASE_PATH = "/api/v1/transform-requests";
+    private static final String AWAIT_PATH = "/await";
+    private static final String WAIT_SECONDS_PARAM = "waitSeconds";
     private static final TypeReference<ApiResponse<TransformRequestResponse>> RESPONSE_TYPE =
             new TypeReference<>() {};
 
     private final HttpClientSupport http;
+    private final CompletionPoller completionPoller;
 
     DefaultTransformRequestApi(HttpClientSupport http) {
         this.http = http;
+        this.completionPoller = new CompletionPoller(http.readTimeout());
     }
 
     @Override
@@ -27,4 +33,17 @@ class DefaultTransformRequestApi implements TransformRequestApi {
     public ApiResponse<TransformRequestResponse> get(String transformRequestId) {
         return http.get(BASE_PATH + "/" + transformRequestId, RESPONSE_TYPE);
     }
+
+    @Override
+    public ApiResponse<TransformRequestResponse> awaitCompletion(
+            String transformRequestId, Duration timeout) {
+        return completionPoller.await(
+                timeout,
+                waitSeconds ->
+                        http.get(
+                                BASE_PATH + "/" + transformRequestId + AWAIT_PATH,
+                                Map.of(WAIT_SECONDS_PARAM, waitSeconds),
+                                RESPONSE_TYPE),
+                TransformRequestResponse::status);
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ryuqq.fileflow.sdk.config.FileFlowConfig;
@@ -15,13 +16,18 @@ import com.ryuqq.fileflow.sdk.exception.FileFlowNotFoundException;
 import com.ryuqq.fileflow.sdk.exception.FileFlowServerException;
 import com.ryuqq.fileflow.sdk.exception.FileFlowUnauthorizedException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,15 +39,27 @@ class HttpClientSupport {
     private static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
     private static final String APPLICATION_JSON = "application/json";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final int NOT_MODIFIED = 304;
 
     private final FileFlowConfig config;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ConditionalResponseCache responseCache;
 
     HttpClientSupport(FileFlowConfig config) {
         this.config = config;
         this.httpClient = HttpClient.newBuilder().connectTimeout(config.connectTimeout()).build();
         this.objectMapper = createObjectMapper();
+        this.responseCache =
+                config.responseCacheEnabled()
+                        ? new ConditionalResponseCache(config.responseCacheSize())
+                        : null;
+    }
+
+    Duration readTimeout() {
+        return config.readTimeout();
     }
 
     private ObjectMapper createObjectMapper() {
@@ -117,6 +135,47 @@ class HttpClientSupport {
         executeVoid(request);
     }
 
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> typeReference) {
+        return getAsync(path, Map.of(), typeReference);
+    }
+
+    public <T> CompletableFuture<T> getAsync(
+            String path, Map<String, Object> queryParams, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> newRequestBuilder(buildUrl(path, queryParams)).GET().build(),
+                objectMapper.constructType(typeReference));
+    }
+
+    public <T> CompletableFuture<T> postAsync(
+            String path, Object body, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> newJsonPost(path, body), objectMapper.constructType(typeReference));
+    }
+
+    public CompletableFuture<Void> postVoidAsync(String path, Object body) {
+        return executeAsync(() -> newJsonPost(path, body), null);
+    }
+
+    public CompletableFuture<Void> postVoidAsync(String path) {
+        return executeAsync(
+                () ->
+                        newRequestBuilder(buildUrl(path, Map.of()))
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .build(),
+                null);
+    }
+
+    public CompletableFuture<Void> deleteAsync(String path, Map<String, Object> queryParams) {
+        return executeAsync(
+                () -> newRequestBuilder(buildUrl(path, queryParams)).DELETE().build(), null);
+    }
+
+    private HttpRequest newJsonPost(String path, Object body) {
+        return newRequestBuilder(buildUrl(path, Map.of()))
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build();
+    }
+
     private HttpRequest.Builder newRequestBuilder(String url) {
         return HttpRequest.newBuilder()
                 .uri(URI.create(url))
@@ -127,31 +186,39 @@ class HttpClientSupport {
     }
 
     private <T> T execute(HttpRequest request, Class<T> responseType) {
-        try {
-            log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
-            return fromJson(response.body(), responseType);
-        } catch (FileFlowException e) {
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FileFlowServerException(
-                    500, "REQUEST_INTERRUPTED", "Request was interrupted", e);
-        } catch (IOException e) {
-            throw new FileFlowServerException(
-                    500, "CONNECTION_ERROR", "Failed to connect to FileFlow server", e);
-        }
+        return exchange(request, objectMapper.constructType(responseType));
     }
 
     private <T> T executeWithTypeReference(HttpRequest request, TypeReference<T> typeReference) {
+        return exchange(request, objectMapper.constructType(typeReference));
+    }
+
+    private void executeVoid(HttpRequest request) {
+        exchange(request, null);
+    }
+
+    private <T> T exchange(HttpRequest request, JavaType responseType) {
         try {
             log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
-            return fromJson(response.body(), typeReference);
+            if (isCacheable(request)) {
+                String key = request.uri().toString();
+                ConditionalResponseCache.Entry cached = responseCache.get(key);
+                HttpResponse<byte[]> response =
+                        httpClient.send(
+                                withIfNoneMatch(request, cached),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                return readCached(key, cached, response, responseType);
+            }
+            HttpResponse<InputStream> response =
+                    httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (!isSuccess(response.statusCode())) {
+                    handleErrorResponse(
+                            response.statusCode(),
+                            new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                return responseType == null ? null : fromJson(body, responseType);
+            }
         } catch (FileFlowException e) {
             throw e;
         } catch (InterruptedException e) {
@@ -164,31 +231,91 @@ class HttpClientSupport {
         }
     }
 
-    private void executeVoid(HttpRequest request) {
+    private <T> CompletableFuture<T> executeAsync(
+            Supplier<HttpRequest> requestSupplier, JavaType responseType) {
+        HttpRequest request;
         try {
-            log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
+            request = requestSupplier.get();
         } catch (FileFlowException e) {
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FileFlowServerException(
-                    500, "REQUEST_INTERRUPTED", "Request was interrupted", e);
-        } catch (IOException e) {
-            throw new FileFlowServerException(
-                    500, "CONNECTION_ERROR", "Failed to connect to FileFlow server", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        log.debug("Executing async {} {}", request.method(), request.uri());
+        boolean cacheable = isCacheable(request);
+        String key = request.uri().toString();
+        ConditionalResponseCache.Entry cached = cacheable ? responseCache.get(key) : null;
+        return httpClient
+                .sendAsync(
+                        withIfNoneMatch(request, cached), HttpResponse.BodyHandlers.ofByteArray())
+                .handle(
+                        (response, error) -> {
+                            if (error != null) {
+                                throw toFileFlowException(error);
+                            }
+                            if (cacheable) {
+                                return readCached(key, cached, response, responseType);
+                            }
+                            return decode(response.statusCode(), response.body(), responseType);
+                        });
+    }
+
+    private boolean isCacheable(HttpRequest request) {
+        return responseCache != null && "GET".equals(request.method());
+    }
+
+    private static HttpRequest withIfNoneMatch(
+            HttpRequest request, ConditionalResponseCache.Entry cached) {
+        if (cached == null) {
+            return request;
         }
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .header(IF_NONE_MATCH_HEADER, cached.etag())
+                .build();
     }
 
-    private void handleErrorResponse(HttpResponse<String> response) {
+    private <T> T readCached(
+            String key,
+            ConditionalResponseCache.Entry cached,
+            HttpResponse<byte[]> response,
+            JavaType responseType) {
         int statusCode = response.statusCode();
-        if (statusCode >= 200 && statusCode < 300) {
-            return;
+        if (statusCode == NOT_MODIFIED && cached != null) {
+            log.debug("Not modified, reusing cached response for {}", key);
+            return decode(200, cached.body(), responseType);
+        }
+        String etag = response.headers().firstValue(ETAG_HEADER).orElse(null);
+        if (isSuccess(statusCode) && etag != null) {
+            responseCache.put(key, etag, response.body());
+        } else {
+            responseCache.remove(key);
+        }
+        return decode(statusCode, response.body(), responseType);
+    }
+
+    private <T> T decode(int statusCode, byte[] body, JavaType responseType) {
+        if (!isSuccess(statusCode)) {
+            handleErrorResponse(statusCode, new String(body, StandardCharsets.UTF_8));
+        }
+        return responseType == null ? null : fromJson(body, responseType);
+    }
+
+    private FileFlowException toFileFlowException(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof FileFlowException fileFlowException) {
+            return fileFlowException;
+        }
+        if (cause instanceof IOException) {
+            return new FileFlowServerException(
+                    500, "CONNECTION_ERROR", "Failed to connect to FileFlow server", cause);
         }
+        return new FileFlowServerException(500, "REQUEST_FAILED", "Request failed", cause);
+    }
+
+    private static boolean isSuccess(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
 
-        ErrorResponse error = parseErrorResponse(response.body());
+    private void handleErrorResponse(int statusCode, String body) {
+        ErrorResponse error = parseErrorResponse(body);
 
         switch (statusCode) {
             case 400 -> throw new FileFlowBadRequestException(error.errorCode(), error.message());
@@ -250,7 +377,7 @@ class HttpClientSupport {
         }
     }
 
-    private <T> T fromJson(String json, Class<T> type) {
+    private <T> T fromJson(InputStream json, JavaType type) throws IOException {
         try {
             return objectMapper.readValue(json, type);
         } catch (JsonProcessingException e) {
@@ -259,10 +386,10 @@ class HttpClientSupport {
         }
     }
 
-    private <T> T fromJson(String json, TypeReference<T> typeReference) {
+    private <T> T fromJson(byte[] json, JavaType type) {
         try {
-            return objectMapper.readValue(json, typeReference);
-        } catch (JsonProcessingException e) {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
             throw new FileFlowServerException(
                     500, "DESERIALIZATION_ERROR", "Failed to parse response", e);
         }
@@ -8,10 +8,12 @@ public record FileFlowConfig(
         String serviceName,
         String serviceToken,
         Duration connectTimeout,
-        Duration readTimeout) {
+        Duration readTimeout,
+        int responseCacheSize) {
 
     public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
     public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+    public static final int DEFAULT_RESPONSE_CACHE_SIZE = 0;
 
     public FileFlowConfig {
         Objects.requireNonNull(baseUrl, "baseUrl must not be null");
@@ -32,6 +34,29 @@ public record FileFlowConfig(
         if (readTimeout == null) {
             readTimeout = DEFAULT_READ_TIMEOUT;
         }
+        if (responseCacheSize < 0) {
+            throw new IllegalArgumentException(
+                    "responseCacheSize must not be negative, got: " + responseCacheSize);
+        }
+    }
+
+    public FileFlowConfig(
+            String baseUrl,
+            String serviceName,
+            String serviceToken,
+            Duration connectTimeout,
+            Duration readTimeout) {
+        this(
+                baseUrl,
+                serviceName,
+                serviceToken,
+                connectTimeout,
+                readTimeout,
+                DEFAULT_RESPONSE_CACHE_SIZE);
+    }
+
+    public boolean responseCacheEnabled() {
+        return responseCacheSize > 0;
     }
 
     public static FileFlowConfig of(String baseUrl, String serviceName, String serviceToken) {
@@ -0,0 +1,7 @@
+package com.ryuqq.fileflow.sdk.model.asset;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AssetBatchResponse(List<AssetDetailResponse> assets, List<String> notFoundAssetIds) {}
@@ -0,0 +1,6 @@
+package com.ryuqq.fileflow.sdk.model.asset;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AssetDetailResponse(AssetResponse asset, AssetMetadataResponse metadata) {}
@@ -0,0 +1,35 @@
+package com.ryuqq.fileflow.sdk.model.asset;
+
+import java.time.Instant;
+
+public record AssetSearchRequest(
+        String source,
+        String purpose,
+        String accessType,
+        Instant createdFrom,
+        Instant createdTo,
+        String direction,
+        String cursor,
+        Integer size) {
+
+    public static final int MAX_SIZE = 100;
+
+    public AssetSearchRequest {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("source must not be null or blank");
+        }
+        if (size != null && (size < 1 || size > MAX_SIZE)) {
+            throw new IllegalArgumentException(
+                    "size must be between 1 and " + MAX_SIZE + ", got: " + size);
+        }
+    }
+
+    public static AssetSearchRequest of(String source) {
+        return new AssetSearchRequest(source, null, null, null, null, null, null, null);
+    }
+
+    public AssetSearchRequest next(String nextCursor) {
+        return new AssetSearchRequest(
+                source, purpose, accessType, createdFrom, createdTo, direction, nextCursor, size);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.fileflow.sdk.model.asset;
+
+import java.util.List;
+
+public record BatchGetAssetsRequest(List<String> assetIds) {
+
+    public static final int MAX_ASSET_IDS = 500;
+
+    public BatchGetAssetsRequest {
+        if (assetIds == null || assetIds.isEmpty()) {
+            throw new IllegalArgumentException("assetIds must not be null or empty");
+        }
+        if (assetIds.size() > MAX_ASSET_IDS) {
+            throw new IllegalArgumentException(
+                    "assetIds must not exceed " + MAX_ASSET_IDS + ", got: " + assetIds.size());
+        }
+        assetIds = List.copyOf(assetIds);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ryuqq.fileflow.sdk.model.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SliceResponse<T>(List<T> content, int size, boolean hasNext, String nextCursor) {}
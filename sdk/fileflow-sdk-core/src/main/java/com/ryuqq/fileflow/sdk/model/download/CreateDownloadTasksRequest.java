@@ -0,0 +1,19 @@
+package com.ryuqq.fileflow.sdk.model.download;
+
+import java.util.List;
+
+public record CreateDownloadTasksRequest(List<CreateDownloadTaskRequest> tasks) {
+
+    public static final int MAX_TASKS = 1000;
+
+    public CreateDownloadTasksRequest {
+        if (tasks == null || tasks.isEmpty()) {
+            throw new IllegalArgumentException("tasks must not be null or empty");
+        }
+        if (tasks.size() > MAX_TASKS) {
+            throw new IllegalArgumentException(
+                    "tasks must not exceed " + MAX_TASKS + ", got: " + tasks.size());
+        }
+        tasks = List.copyOf(tasks);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ryuqq.fileflow.sdk.model.download;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DownloadTaskBatchItemResponse(
+        String sourceUrl,
+        boolean success,
+        DownloadTaskResponse task,
+        String errorCode,
+        String errorMessage) {}
@@ -0,0 +1,5 @@
+package com.ryuqq.fileflow.sdk.model.session;
+
+import java.util.List;
+
+public record AddCompletedPartsRequest(List<AddCompletedPartRequest> parts) {}
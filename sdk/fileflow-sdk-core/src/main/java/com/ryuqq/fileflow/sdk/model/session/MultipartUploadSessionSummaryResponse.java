@@ -0,0 +1,20 @@
+package com.ryuqq.fileflow.sdk.model.session;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MultipartUploadSessionSummaryResponse(
+        String sessionId,
+        String uploadId,
+        String s3Key,
+        String bucket,
+        String accessType,
+        String fileName,
+        String contentType,
+        long partSize,
+        String status,
+        int completedPartCount,
+        long uploadedBytes,
+        int highestContiguousPartNumber,
+        String expiresAt,
+        String createdAt) {}
@@ -0,0 +1,84 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ByteBufferBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final ByteBuffer buffer;
+
+    ByteBufferBodyPublisher(ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    @Override
+    public long contentLength() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new ChunkSubscription(subscriber, buffer.duplicate()));
+    }
+
+    private static final class ChunkSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ByteBuffer source;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, ByteBuffer source) {
+            this.subscriber = subscriber;
+            this.source = source;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (done.compareAndSet(false, true)) {
+                    subscriber.onError(
+                            new IllegalArgumentException("non-positive subscription request"));
+                }
+                return;
+            }
+            demand.getAndAccumulate(n, ChunkSubscription::addCapped);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!done.get() && demand.get() > 0 && source.hasRemaining()) {
+                    int length = Math.min(CHUNK_SIZE, source.remaining());
+                    ByteBuffer chunk = source.slice(source.position(), length);
+                    source.position(source.position() + length);
+                    demand.decrementAndGet();
+                    subscriber.onNext(chunk);
+                }
+                if (!source.hasRemaining() && done.compareAndSet(false, true)) {
+                    subscriber.onComplete();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private static long addCapped(long current, long add) {
+            long sum = current + add;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+    }
+}
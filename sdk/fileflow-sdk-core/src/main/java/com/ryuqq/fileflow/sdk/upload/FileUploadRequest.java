@@ -0,0 +1,13 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import java.util.Objects;
+
+public record FileUploadRequest(
+        String fileName, String contentType, String accessType, String purpose, String source) {
+
+    public FileUploadRequest {
+        Objects.requireNonNull(fileName, "fileName must not be null");
+        Objects.requireNonNull(contentType, "contentType must not be null");
+        Objects.requireNonNull(accessType, "accessType must not be null");
+    }
+}
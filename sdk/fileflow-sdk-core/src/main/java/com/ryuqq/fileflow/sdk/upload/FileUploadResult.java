@@ -0,0 +1,10 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+public record FileUploadResult(
+        String sessionId,
+        String s3Key,
+        String bucket,
+        long fileSize,
+        boolean multipart,
+        int partCount,
+        String etag) {}
@@ -0,0 +1,339 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import com.ryuqq.fileflow.sdk.FileFlowClient;
+import com.ryuqq.fileflow.sdk.api.MultipartUploadSessionApi;
+import com.ryuqq.fileflow.sdk.api.SingleUploadSessionApi;
+import com.ryuqq.fileflow.sdk.exception.FileFlowBadRequestException;
+import com.ryuqq.fileflow.sdk.exception.FileFlowException;
+import com.ryuqq.fileflow.sdk.exception.FileFlowServerException;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompleteMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompleteSingleUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CreateMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CreateSingleUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
+import com.ryuqq.fileflow.sdk.model.session.SingleUploadSessionResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class FileUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(FileUploader.class);
+    private static final int PRESIGNED_URL_RANGE_SIZE = 1_000;
+    private static final int IN_FLIGHT_PARTS_PER_THREAD = 2;
+    private static final Duration STORAGE_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final FileFlowClient client;
+    private final UploadOptions options;
+    private final PresignedPutClient putClient;
+
+    public FileUploader(FileFlowClient client) {
+        this(client, UploadOptions.defaults());
+    }
+
+    public FileUploader(FileFlowClient client, UploadOptions options) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.options = Objects.requireNonNull(options, "options must not be null");
+        this.putClient =
+                new PresignedPutClient(
+                        HttpClient.newBuilder()
+                                .version(HttpClient.Version.HTTP_1_1)
+                                .connectTimeout(STORAGE_CONNECT_TIMEOUT)
+                                .build());
+    }
+
+    public UploadOptions options() {
+        return options;
+    }
+
+    public FileUploadResult upload(Path file, FileUploadRequest request) {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(request, "request must not be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                throw new FileFlowBadRequestException("EMPTY_FILE", "File must not be empty");
+            }
+            if (fileSize < options.multipartThreshold()) {
+                return uploadSingle(channel, fileSize, request);
+            }
+            return uploadMultipart(channel, fileSize, request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + file, e);
+        }
+    }
+
+    public FileUploadResult upload(InputStream inputStream, FileUploadRequest request) {
+        Objects.requireNonNull(inputStream, "inputStream must not be null");
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("fileflow-upload-", ".tmp");
+            Files.copy(inputStream, spool, StandardCopyOption.REPLACE_EXISTING);
+            return upload(spool, request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spool input stream", e);
+        } finally {
+            deleteQuietly(spool);
+        }
+    }
+
+    private FileUploadResult uploadSingle(
+            FileChannel channel, long fileSize, FileUploadRequest request) throws IOException {
+        SingleUploadSessionApi api = client.singleUploadSession();
+        SingleUploadSessionResponse session =
+                api.create(
+                                new CreateSingleUploadSessionRequest(
+                                        request.fileName(),
+                                        request.contentType(),
+                                        request.accessType(),
+                                        request.purpose(),
+                                        request.source()))
+                        .data();
+
+        ByteBuffer body = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        String etag =
+                putWithRetry(
+                        session.presignedUrl(),
+                        body,
+                        request.contentType(),
+                        session::presignedUrl,
+                        "session " + session.sessionId());
+        api.complete(session.sessionId(), new CompleteSingleUploadSessionRequest(fileSize, etag));
+
+        log.debug("Single upload completed: sessionId={}, size={}", session.sessionId(), fileSize);
+        return new FileUploadResult(
+                session.sessionId(), session.s3Key(), session.bucket(), fileSize, false, 1, etag);
+    }
+
+    private FileUploadResult uploadMultipart(
+            FileChannel channel, long fileSize, FileUploadRequest request) {
+        PartPlan plan = PartPlan.of(fileSize, options.minPartSize());
+        MultipartUploadSessionApi api = client.multipartUploadSession();
+        MultipartUploadSessionResponse session =
+                api.create(
+                                new CreateMultipartUploadSessionRequest(
+                                        request.fileName(),
+                                        request.contentType(),
+                                        request.accessType(),
+                                        plan.partSize(),
+                                        request.purpose(),
+                                        request.source()))
+                        .data();
+        String sessionId = session.sessionId();
+
+        try {
+            List<AddCompletedPartRequest> parts = uploadParts(channel, plan, sessionId);
+            String etag = MultipartEtag.of(parts);
+            api.complete(sessionId, new CompleteMultipartUploadSessionRequest(fileSize, etag));
+
+            log.debug(
+                    "Multipart upload completed: sessionId={}, size={}, parts={}",
+                    sessionId,
+                    fileSize,
+                    plan.partCount());
+            return new FileUploadResult(
+                    sessionId,
+                    session.s3Key(),
+                    session.bucket(),
+                    fileSize,
+                    true,
+                    plan.partCount(),
+                    etag);
+        } catch (RuntimeException e) {
+            abortQuietly(sessionId);
+            throw e;
+        }
+    }
+
+    private List<AddCompletedPartRequest> uploadParts(
+            FileChannel channel, PartPlan plan, String sessionId) {
+        MultipartUploadSessionApi api = client.multipartUploadSession();
+        List<AddCompletedPartRequest> completed = new ArrayList<>(plan.partCount());
+        List<AddCompletedPartRequest> pending = new ArrayList<>(options.reportBatchSize());
+        Deque<PresignedPartUrlResponse> urls = new ArrayDeque<>();
+        int window = options.parallelism() * IN_FLIGHT_PARTS_PER_THREAD;
+        int nextRangeFrom = 1;
+        int inFlight = 0;
+
+        ExecutorService executor =
+                Executors.newFixedThreadPool(options.parallelism(), new UploadThreadFactory());
+        try {
+            CompletionService<AddCompletedPartRequest> completion =
+                    new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < plan.partCount(); i++) {
+                while (inFlight < window
+                        && (!urls.isEmpty() || nextRangeFrom <= plan.partCount())) {
+                    if (urls.isEmpty()) {
+                        int to =
+                                Math.min(
+                                        nextRangeFrom + PRESIGNED_URL_RANGE_SIZE - 1,
+                                        plan.partCount());
+                        urls.addAll(api.getPresignedPartUrls(sessionId, nextRangeFrom, to).data());
+                        nextRangeFrom = to + 1;
+                    }
+                    PresignedPartUrlResponse url = urls.pollFirst();
+                    completion.submit(() -> uploadPart(channel, plan, sessionId, url));
+                    inFlight++;
+                }
+
+                AddCompletedPartRequest part = takeCompleted(completion);
+                inFlight--;
+                completed.add(part);
+                pending.add(part);
+                if (pending.size() >= options.reportBatchSize()) {
+                    reportParts(api, sessionId, pending);
+                }
+            }
+            reportParts(api, sessionId, pending);
+            return completed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void reportParts(
+            MultipartUploadSessionApi api,
+            String sessionId,
+            List<AddCompletedPartRequest> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        api.addCompletedParts(sessionId, new AddCompletedPartsRequest(List.copyOf(pending)));
+        pending.clear();
+    }
+
+    private AddCompletedPartRequest uploadPart(
+            FileChannel channel, PartPlan plan, String sessionId, PresignedPartUrlResponse url)
+            throws IOException {
+        int partNumber = url.partNumber();
+        long length = plan.lengthOf(partNumber);
+        ByteBuffer slice =
+                channel.map(FileChannel.MapMode.READ_ONLY, plan.offsetOf(partNumber), length);
+        String etag =
+                putWithRetry(
+                        url.presignedUrl(),
+                        slice,
+                        null,
+                        () ->
+                                client.multipartUploadSession()
+                                        .getPresignedPartUrl(sessionId, partNumber)
+                                        .data()
+                                        .presignedUrl(),
+                        "part " + partNumber + " of session " + sessionId);
+        return new AddCompletedPartRequest(partNumber, etag, length);
+    }
+
+    private String putWithRetry(
+            String url,
+            ByteBuffer body,
+            String contentType,
+            Supplier<String> urlRefresher,
+            String target) {
+        String currentUrl = url;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return putClient.put(currentUrl, body, contentType, options.partTimeout());
+            } catch (FileFlowException e) {
+                if (attempt >= options.maxAttempts() || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                log.warn(
+                        "Upload attempt {}/{} failed for {}: {}",
+                        attempt,
+                        options.maxAttempts(),
+                        target,
+                        e.getMessage());
+                sleep(options.retryBackoff().multipliedBy(1L << (attempt - 1)));
+                currentUrl = urlRefresher.get();
+            }
+        }
+    }
+
+    private static AddCompletedPartRequest takeCompleted(
+            CompletionService<AddCompletedPartRequest> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileFlowServerException(
+                    500, "REQUEST_INTERRUPTED", "Upload was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof IOException io) {
+                throw new UncheckedIOException("Failed to read file part", io);
+            }
+            throw new FileFlowServerException(
+                    500, "PART_UPLOAD_FAILED", "Part upload failed", cause);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileFlowServerException(
+                    500, "REQUEST_INTERRUPTED", "Upload was interrupted", e);
+        }
+    }
+
+    private void abortQuietly(String sessionId) {
+        try {
+            client.multipartUploadSession().abort(sessionId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spool file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class UploadThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fileflow-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+final class MultipartEtag {
+
+    private static final Pattern MD5_HEX = Pattern.compile("[0-9a-fA-F]{32}");
+
+    private MultipartEtag() {}
+
+    static String of(List<AddCompletedPartRequest> parts) {
+        MessageDigest digest = md5();
+        parts.stream()
+                .sorted(Comparator.comparingInt(AddCompletedPartRequest::partNumber))
+                .map(part -> unquote(part.etag()))
+                .forEach(etag -> digest.update(toBytes(etag)));
+        return "\"" + HexFormat.of().formatHex(digest.digest()) + "-" + parts.size() + "\"";
+    }
+
+    private static byte[] toBytes(String etag) {
+        if (MD5_HEX.matcher(etag).matches()) {
+            return HexFormat.of().parseHex(etag);
+        }
+        return etag.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String unquote(String etag) {
+        if (etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            return etag.substring(1, etag.length() - 1);
+        }
+        return etag;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 algorithm not available", e);
+        }
+    }
+}
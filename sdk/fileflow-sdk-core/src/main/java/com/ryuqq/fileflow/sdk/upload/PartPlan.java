@@ -0,0 +1,33 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+record PartPlan(long fileSize, long partSize, int partCount) {
+
+    static final int MAX_PART_COUNT = 10_000;
+    static final long S3_MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+    private static final long ALIGNMENT = 1024 * 1024;
+
+    static PartPlan of(long fileSize, long minPartSize) {
+        if (fileSize < 1) {
+            throw new IllegalArgumentException("fileSize must be positive, got: " + fileSize);
+        }
+        long required = ceilDiv(fileSize, MAX_PART_COUNT);
+        long partSize = Math.max(minPartSize, ceilDiv(required, ALIGNMENT) * ALIGNMENT);
+        if (partSize > S3_MAX_PART_SIZE) {
+            throw new IllegalArgumentException("File too large for multipart upload: " + fileSize);
+        }
+        int partCount = (int) ceilDiv(fileSize, partSize);
+        return new PartPlan(fileSize, partSize, partCount);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    long offsetOf(int partNumber) {
+        return (partNumber - 1) * partSize;
+    }
+
+    long lengthOf(int partNumber) {
+        return Math.min(partSize, fileSize - offsetOf(partNumber));
+    }
+}
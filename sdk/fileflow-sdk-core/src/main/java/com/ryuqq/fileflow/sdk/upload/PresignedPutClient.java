@@ -0,0 +1,63 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import com.ryuqq.fileflow.sdk.exception.FileFlowServerException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class PresignedPutClient {
+
+    private static final Logger log = LoggerFactory.getLogger(PresignedPutClient.class);
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String ETAG_HEADER = "ETag";
+
+    private final HttpClient httpClient;
+
+    PresignedPutClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    String put(String url, ByteBuffer body, String contentType, Duration timeout) {
+        HttpRequest.Builder builder =
+                HttpRequest.newBuilder()
+                        .uri(URI.create(url))
+                        .timeout(timeout)
+                        .PUT(new ByteBufferBodyPublisher(body));
+        if (contentType != null) {
+            builder.header(CONTENT_TYPE_HEADER, contentType);
+        }
+        try {
+            log.debug("Uploading {} bytes to presigned URL", body.remaining());
+            HttpResponse<String> response =
+                    httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            int statusCode = response.statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                throw new FileFlowServerException(
+                        statusCode,
+                        "STORAGE_UPLOAD_FAILED",
+                        "Presigned upload failed with status " + statusCode);
+            }
+            return response.headers()
+                    .firstValue(ETAG_HEADER)
+                    .orElseThrow(
+                            () ->
+                                    new FileFlowServerException(
+                                            statusCode,
+                                            "STORAGE_ETAG_MISSING",
+                                            "Presigned upload response has no ETag header"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileFlowServerException(
+                    500, "REQUEST_INTERRUPTED", "Request was interrupted", e);
+        } catch (IOException e) {
+            throw new FileFlowServerException(
+                    500, "CONNECTION_ERROR", "Failed to connect to storage", e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public record UploadOptions(
+        long multipartThreshold,
+        long minPartSize,
+        int parallelism,
+        int maxAttempts,
+        Duration retryBackoff,
+        int reportBatchSize,
+        Duration partTimeout) {
+
+    public static final long S3_MIN_PART_SIZE = 5L * 1024 * 1024;
+    public static final int MAX_REPORT_BATCH_SIZE = 1_000;
+
+    public static final long DEFAULT_MULTIPART_THRESHOLD = 16L * 1024 * 1024;
+    public static final long DEFAULT_MIN_PART_SIZE = 8L * 1024 * 1024;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(500);
+    public static final int DEFAULT_REPORT_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_PART_TIMEOUT = Duration.ofMinutes(5);
+
+    public UploadOptions {
+        if (multipartThreshold < 1 || multipartThreshold > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "multipartThreshold must be between 1 and "
+                            + Integer.MAX_VALUE
+                            + ", got: "
+                            + multipartThreshold);
+        }
+        if (minPartSize < S3_MIN_PART_SIZE) {
+            throw new IllegalArgumentException(
+                    "minPartSize must be at least " + S3_MIN_PART_SIZE + ", got: " + minPartSize);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        if (reportBatchSize < 1 || reportBatchSize > MAX_REPORT_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "reportBatchSize must be between 1 and " + MAX_REPORT_BATCH_SIZE);
+        }
+        Objects.requireNonNull(retryBackoff, "retryBackoff must not be null");
+        Objects.requireNonNull(partTimeout, "partTimeout must not be null");
+    }
+
+    public static UploadOptions defaults() {
+        return new UploadOptions(
+                DEFAULT_MULTIPART_THRESHOLD,
+                DEFAULT_MIN_PART_SIZE,
+                DEFAULT_PARALLELISM,
+                DEFAULT_MAX_ATTEMPTS,
+                DEFAULT_RETRY_BACKOFF,
+                DEFAULT_REPORT_BATCH_SIZE,
+                DEFAULT_PART_TIMEOUT);
+    }
+
+    public UploadOptions withParallelism(int parallelism) {
+        return new UploadOptions(
+                multipartThreshold,
+                minPartSize,
+                parallelism,
+                maxAttempts,
+                retryBackoff,
+                reportBatchSize,
+                partTimeout);
+    }
+
+    public UploadOptions withMultipartThreshold(long multipartThreshold) {
+        return new UploadOptions(
+                multipartThreshold,
+                minPartSize,
+                parallelism,
+                maxAttempts,
+                retryBackoff,
+                reportBatchSize,
+                partTimeout);
+    }
+
+    public UploadOptions withRetry(int maxAttempts, Duration retryBackoff) {
+        return new UploadOptions(
+                multipartThreshold,
+                minPartSize,
+                parallelism,
+                maxAttempts,
+                retryBackoff,
+                reportBatchSize,
+                partTimeout);
+    }
+}
@@ -24,6 +24,8 @@ class FileFlowClientBuilderTest {
         assertThat(client.asset()).isNotNull();
         assertThat(client.downloadTask()).isNotNull();
         assertThat(client.transformRequest()).isNotNull();
+        assertThat(client.async().asset()).isNotNull();
+        assertThat(client.fileUploader()).isNotNull();
     }
 
     @Test
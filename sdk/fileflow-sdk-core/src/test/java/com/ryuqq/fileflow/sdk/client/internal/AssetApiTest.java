@@ -5,11 +5,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.fileflow.sdk.api.AssetApi;
+import com.ryuqq.fileflow.sdk.model.asset.AssetBatchResponse;
 import com.ryuqq.fileflow.sdk.model.asset.AssetMetadataResponse;
 import com.ryuqq.fileflow.sdk.model.asset.AssetResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetSearchRequest;
+import com.ryuqq.fileflow.sdk.model.asset.BatchGetAssetsRequest;
 import com.ryuqq.fileflow.sdk.model.asset.RegisterAssetRequest;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -228,4 +236,188 @@ class AssetApiTest {
                 .isEqualTo("/api/v1/assets/asset_abc123?source=product-service");
         assertThat(recordedRequest.getMethod()).isEqualTo("DELETE");
     }
+
+    @Test
+    @DisplayName("여러 Asset을 메타데이터와 함께 일괄 조회한다")
+    void batchGetAssets() throws Exception {
+        String responseBody =
+                """
+                {
+                    "data": {
+                        "assets": [
+                            {
+                                "asset": {
+                                    "assetId": "asset_abc123",
+                                    "s3Key": "public/2026/02/product-main.jpg",
+                                    "bucket": "fileflow-bucket",
+                                    "accessType": "PUBLIC",
+                                    "fileName": "product-main.jpg",
+                                    "fileSize": 512000,
+                                    "contentType": "image/jpeg"
+                                },
+                                "metadata": {
+                                    "metadataId": "meta_001",
+                                    "assetId": "asset_abc123",
+                                    "width": 1920,
+                                    "height": 1080,
+                                    "transformType": "ORIGINAL",
+                                    "createdAt": "2026-02-14T10:00:00+09:00"
+                                }
+                            },
+                            {
+                                "asset": {
+                                    "assetId": "asset_def456",
+                                    "s3Key": "public/2026/02/product-sub.jpg",
+                                    "bucket": "fileflow-bucket",
+                                    "accessType": "PUBLIC",
+                                    "fileName": "product-sub.jpg",
+                                    "fileSize": 256000,
+                                    "contentType": "image/jpeg"
+                                },
+                                "metadata": null
+                            }
+                        ],
+                        "notFoundAssetIds": ["asset_missing"]
+                    },
+                    "timestamp": "2026-02-14T10:00:00+09:00",
+                    "requestId": "req_999"
+                }
+                """;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(responseBody)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<AssetBatchResponse> response =
+                api.batchGet(
+                        new BatchGetAssetsRequest(
+                                List.of("asset_abc123", "asset_def456", "asset_missing")));
+
+        assertThat(response.data().assets()).hasSize(2);
+        assertThat(response.data().assets().get(0).asset().assetId()).isEqualTo("asset_abc123");
+        assertThat(response.data().assets().get(0).metadata().width()).isEqualTo(1920);
+        assertThat(response.data().assets().get(1).metadata()).isNull();
+        assertThat(response.data().notFoundAssetIds()).containsExactly("asset_missing");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/assets/batch-get");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+        BatchGetAssetsRequest sentBody =
+                OBJECT_MAPPER.readValue(
+                        recordedRequest.getBody().readUtf8(), BatchGetAssetsRequest.class);
+        assertThat(sentBody.assetIds())
+                .containsExactly("asset_abc123", "asset_def456", "asset_missing");
+    }
+
+    @Test
+    @DisplayName("일괄 조회 ID가 비어 있거나 500건을 넘으면 요청을 만들 수 없다")
+    void batchGetAssets_InvalidSize_Throws() {
+        List<String> tooMany =
+                IntStream.range(0, BatchGetAssetsRequest.MAX_ASSET_IDS + 1)
+                        .mapToObj(i -> "asset_" + i)
+                        .toList();
+
+        assertThatThrownBy(() -> new BatchGetAssetsRequest(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BatchGetAssetsRequest(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("source 기준으로 Asset 목록을 커서 기반으로 조회한다")
+    void searchAssets() throws InterruptedException {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                """
+                                {
+                                    "data": {
+                                        "content": [
+                                            {
+                                                "assetId": "asset_abc123",
+                                                "s3Key": "public/2026/02/product-main.jpg",
+                                                "bucket": "fileflow-bucket",
+                                                "accessType": "PUBLIC",
+                                                "fileName": "product-main.jpg",
+                                                "fileSize": 512000,
+                                                "contentType": "image/jpeg"
+                                            }
+                                        ],
+                                        "size": 1,
+                                        "hasNext": true,
+                                        "nextCursor": "bmV4dA"
+                                    },
+                                    "timestamp": "2026-02-14T10:00:00+09:00",
+                                    "requestId": "req_123"
+                                }
+                                """)
+                        .addHeader("Content-Type", "application/json"));
+
+        AssetSearchRequest request =
+                new AssetSearchRequest(
+                        "commerce-api",
+                        "product-image",
+                        "PUBLIC",
+                        Instant.parse("2026-02-01T00:00:00Z"),
+                        null,
+                        "DESC",
+                        null,
+                        1);
+
+        ApiResponse<SliceResponse<AssetResponse>> response = api.search(request);
+
+        assertThat(response.data().content())
+                .extracting(AssetResponse::assetId)
+                .containsExactly("asset_abc123");
+        assertThat(response.data().hasNext()).isTrue();
+        assertThat(response.data().nextCursor()).isEqualTo("bmV4dA");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        HttpUrl url = recordedRequest.getRequestUrl();
+        assertThat(url.encodedPath()).isEqualTo("/api/v1/assets");
+        assertThat(url.queryParameter("source")).isEqualTo("commerce-api");
+        assertThat(url.queryParameter("purpose")).isEqualTo("product-image");
+        assertThat(url.queryParameter("accessType")).isEqualTo("PUBLIC");
+        assertThat(url.queryParameter("createdFrom")).isEqualTo("2026-02-01T00:00:00Z");
+        assertThat(url.queryParameter("createdTo")).isNull();
+        assertThat(url.queryParameter("direction")).isEqualTo("DESC");
+        assertThat(url.queryParameter("cursor")).isNull();
+        assertThat(url.queryParameter("size")).isEqualTo("1");
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    @DisplayName("다음 페이지 요청은 필터를 유지한 채 커서만 바꾼다")
+    void searchAssets_nextPage() {
+        AssetSearchRequest first =
+                new AssetSearchRequest(
+                        "commerce-api", "product-image", null, null, null, null, null, 20);
+
+        AssetSearchRequest next = first.next("bmV4dA");
+
+        assertThat(next.source()).isEqualTo("commerce-api");
+        assertThat(next.purpose()).isEqualTo("product-image");
+        assertThat(next.size()).isEqualTo(20);
+        assertThat(next.cursor()).isEqualTo("bmV4dA");
+    }
+
+    @Test
+    @DisplayName("source가 없거나 size가 범위를 벗어나면 목록 조회 요청을 만들 수 없다")
+    void searchAssets_InvalidRequest_Throws() {
+        assertThatThrownBy(() -> AssetSearchRequest.of(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(
+                        () ->
+                                new AssetSearchRequest(
+                                        "commerce-api",
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        AssetSearchRequest.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,190 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.sdk.api.AsyncAssetApi;
+import com.ryuqq.fileflow.sdk.exception.FileFlowNotFoundException;
+import com.ryuqq.fileflow.sdk.model.asset.AssetBatchResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetResponse;
+import com.ryuqq.fileflow.sdk.model.asset.AssetSearchRequest;
+import com.ryuqq.fileflow.sdk.model.asset.BatchGetAssetsRequest;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncAssetApiTest {
+
+    private MockWebServer mockWebServer;
+    private AsyncAssetApi api;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = ApiTestSupport.startMockServer();
+        api = ApiTestSupport.createClient(mockWebServer).async().asset();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Asset을 비동기로 조회한다")
+    void getAssetAsync() throws Exception {
+        mockWebServer.enqueue(assetResponse("asset_abc123"));
+
+        ApiResponse<AssetResponse> response = api.get("asset_abc123").get();
+
+        assertThat(response.data().assetId()).isEqualTo("asset_abc123");
+        assertThat(response.requestId()).isEqualTo("req_456");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/assets/asset_abc123");
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+        assertThat(recordedRequest.getHeader("X-Service-Token")).isEqualTo("test-token");
+    }
+
+    @Test
+    @DisplayName("여러 Asset을 동시에 조회하면 모든 Future가 각자의 응답으로 완료된다")
+    void getAssetsConcurrently() {
+        IntStream.range(0, 20).forEach(i -> mockWebServer.enqueue(assetResponse("asset_" + i)));
+
+        List<CompletableFuture<ApiResponse<AssetResponse>>> futures =
+                IntStream.range(0, 20).mapToObj(i -> api.get("asset_" + i)).toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(futures)
+                .allSatisfy(future -> assertThat(future.join().data().assetId()).isNotBlank());
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Asset을 비동기로 삭제한다")
+    void deleteAssetAsync() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        api.delete("asset_abc123", "product-service").get();
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/assets/asset_abc123?source=product-service");
+        assertThat(recordedRequest.getMethod()).isEqualTo("DELETE");
+    }
+
+    @Test
+    @DisplayName("404 응답이면 Future가 FileFlowNotFoundException으로 실패한다")
+    void getAssetAsyncNotFound() {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(404)
+                        .setBody(
+                                """
+                                {
+                                    "title": "Not Found",
+                                    "status": 404,
+                                    "detail": "Asset not found",
+                                    "code": "ASSET_NOT_FOUND"
+                                }
+                                """)
+                        .addHeader("Content-Type", "application/problem+json"));
+
+        assertThatThrownBy(() -> api.get("missing").get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(FileFlowNotFoundException.class)
+                .hasMessageContaining("ASSET_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("여러 Asset을 비동기로 일괄 조회한다")
+    void batchGetAssetsAsync() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                """
+                                {
+                                    "data": {
+                                        "assets": [],
+                                        "notFoundAssetIds": ["asset_missing"]
+                                    },
+                                    "timestamp": "2026-02-14T10:00:00+09:00",
+                                    "requestId": "req_456"
+                                }
+                                """)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<AssetBatchResponse> response =
+                api.batchGet(new BatchGetAssetsRequest(List.of("asset_missing"))).get();
+
+        assertThat(response.data().assets()).isEmpty();
+        assertThat(response.data().notFoundAssetIds()).containsExactly("asset_missing");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/assets/batch-get");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+    }
+
+    @Test
+    @DisplayName("Asset 목록을 비동기로 커서 기반 조회한다")
+    void searchAssetsAsync() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                """
+                                {
+                                    "data": {"content": [], "size": 0, "hasNext": false},
+                                    "timestamp": "2026-02-14T10:00:00+09:00",
+                                    "requestId": "req_456"
+                                }
+                                """)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<SliceResponse<AssetResponse>> response =
+                api.search(AssetSearchRequest.of("commerce-api").next("bmV4dA")).get();
+
+        assertThat(response.data().content()).isEmpty();
+        assertThat(response.data().hasNext()).isFalse();
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getRequestUrl().encodedPath()).isEqualTo("/api/v1/assets");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("source"))
+                .isEqualTo("commerce-api");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("cursor")).isEqualTo("bmV4dA");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("size")).isNull();
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    }
+
+    private static MockResponse assetResponse(String assetId) {
+        return new MockResponse()
+                .setBody(
+                        """
+                        {
+                            "data": {
+                                "assetId": "%s",
+                                "s3Key": "public/2026/02/product-main.jpg",
+                                "bucket": "fileflow-bucket",
+                                "accessType": "PUBLIC",
+                                "fileName": "product-main.jpg",
+                                "fileSize": 512000,
+                                "contentType": "image/jpeg"
+                            },
+                            "timestamp": "2026-02-14T10:00:00+09:00",
+                            "requestId": "req_456"
+                        }
+                        """
+                                .formatted(assetId))
+                .addHeader("Content-Type", "application/json");
+    }
+}
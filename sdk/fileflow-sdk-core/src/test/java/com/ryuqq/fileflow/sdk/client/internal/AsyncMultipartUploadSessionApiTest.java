@@ -0,0 +1,110 @@
+package com.ryuqq.fileflow.sdk.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.fileflow.sdk.api.AsyncMultipartUploadSessionApi;
+import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
+import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
+import java.io.IOException;
+import java.util.List;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncMultipartUploadSessionApiTest {
+
+    private MockWebServer mockWebServer;
+    private AsyncMultipartUploadSessionApi api;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = ApiTestSupport.startMockServer();
+        api = ApiTestSupport.createClient(mockWebServer).async().multipartUploadSession();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("파트 범위의 Presigned URL 목록을 비동기로 조회한다")
+    void getPresignedPartUrlsAsync() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                """
+                                {
+                                    "data": [
+                                        {
+                                            "presignedUrl": "https://s3.amazonaws.com/part-1",
+                                            "partNumber": 1,
+                                            "expiresInSeconds": 3600
+                                        },
+                                        {
+                                            "presignedUrl": "https://s3.amazonaws.com/part-2",
+                                            "partNumber": 2,
+                                            "expiresInSeconds": 3600
+                                        }
+                                    ],
+                                    "timestamp": "2026-02-14T10:00:00+09:00",
+                                    "requestId": "req_001"
+                                }
+                                """)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<List<PresignedPartUrlResponse>> response =
+                api.getPresignedPartUrls("msess_123", 1, 2).get();
+
+        assertThat(response.data())
+                .extracting(PresignedPartUrlResponse::partNumber)
+                .containsExactly(1, 2);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getRequestUrl().encodedPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/parts/presigned-urls");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("from")).isEqualTo("1");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("to")).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("완료 파트를 비동기로 일괄 등록한다")
+    void addCompletedPartsAsync() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        api.addCompletedParts(
+                        "msess_123",
+                        new AddCompletedPartsRequest(
+                                List.of(
+                                        new AddCompletedPartRequest(1, "\"etag-1\"", 5242880L),
+                                        new AddCompletedPartRequest(2, "\"etag-2\"", 1024L))))
+                .get();
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/parts/batch");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+        assertThat(recordedRequest.getBody().readUtf8())
+                .contains("\"partNumber\":1")
+                .contains("\"partNumber\":2");
+    }
+
+    @Test
+    @DisplayName("세션을 비동기로 취소한다")
+    void abortAsync() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        api.abort("msess_123").get();
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/abort");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+    }
+}
@@ -1,13 +1,19 @@
 package com.ryuqq.fileflow.sdk.client.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.fileflow.sdk.api.DownloadTaskApi;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTaskRequest;
+import com.ryuqq.fileflow.sdk.model.download.CreateDownloadTasksRequest;
+import com.ryuqq.fileflow.sdk.model.download.DownloadTaskBatchItemResponse;
 import com.ryuqq.fileflow.sdk.model.download.DownloadTaskResponse;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -139,4 +145,183 @@ class DownloadTaskApiTest {
         assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/download-tasks/dt_abc123");
         assertThat(recordedRequest.getMethod()).isEqualTo("GET");
     }
+
+    @Test
+    @DisplayName("다운로드 태스크를 일괄 생성하고 항목별 결과를 요청 순서대로 받는다")
+    void createDownloadTasksBatch() throws Exception {
+        String responseBody =
+                """
+                {
+                    "data": [
+                        {
+                            "sourceUrl": "https://external-cdn.com/image.jpg",
+                            "success": true,
+                            "task": {
+                                "downloadTaskId": "dt_abc123",
+                                "sourceUrl": "https://external-cdn.com/image.jpg",
+                                "status": "PENDING",
+                                "retryCount": 0,
+                                "maxRetries": 3,
+                                "createdAt": "2026-02-14T10:00:00+09:00"
+                            }
+                        },
+                        {
+                            "sourceUrl": "https://external-cdn.com/missing.jpg",
+                            "success": false,
+                            "errorCode": "DOWNLOAD-008",
+                            "errorMessage": "영구 실패로 블랙리스트에 등록된 URL입니다"
+                        }
+                    ],
+                    "timestamp": "2026-02-14T10:00:00+09:00",
+                    "requestId": "req_004"
+                }
+                """;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(responseBody)
+                        .addHeader("Content-Type", "application/json"));
+
+        CreateDownloadTasksRequest request =
+                new CreateDownloadTasksRequest(
+                        List.of(
+                                createRequest("https://external-cdn.com/image.jpg"),
+                                createRequest("https://external-cdn.com/missing.jpg")));
+
+        ApiResponse<List<DownloadTaskBatchItemResponse>> response = api.createBatch(request);
+
+        assertThat(response.data()).hasSize(2);
+        assertThat(response.data().get(0).success()).isTrue();
+        assertThat(response.data().get(0).task().downloadTaskId()).isEqualTo("dt_abc123");
+        assertThat(response.data().get(1).success()).isFalse();
+        assertThat(response.data().get(1).task()).isNull();
+        assertThat(response.data().get(1).errorCode()).isEqualTo("DOWNLOAD-008");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/download-tasks/batch");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+        CreateDownloadTasksRequest sentBody =
+                OBJECT_MAPPER.readValue(
+                        recordedRequest.getBody().readUtf8(), CreateDownloadTasksRequest.class);
+        assertThat(sentBody.tasks())
+                .extracting(CreateDownloadTaskRequest::sourceUrl)
+                .containsExactly(
+                        "https://external-cdn.com/image.jpg",
+                        "https://external-cdn.com/missing.jpg");
+    }
+
+    @Test
+    @DisplayName("일괄 생성 요청이 비어 있거나 1000건을 넘으면 요청을 만들 수 없다")
+    void createDownloadTasksBatch_InvalidSize_Throws() {
+        List<CreateDownloadTaskRequest> tooMany =
+                IntStream.range(0, CreateDownloadTasksRequest.MAX_TASKS + 1)
+                        .mapToObj(i -> createRequest("https://external-cdn.com/" + i + ".jpg"))
+                        .toList();
+
+        assertThatThrownBy(() -> new CreateDownloadTasksRequest(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CreateDownloadTasksRequest(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다운로드 태스크를 비동기로 일괄 생성한다")
+    void createDownloadTasksBatchAsync() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                """
+                                {
+                                    "data": [
+                                        {
+                                            "sourceUrl": "https://external-cdn.com/missing.jpg",
+                                            "success": false,
+                                            "errorCode": "DOWNLOAD-008"
+                                        }
+                                    ],
+                                    "timestamp": "2026-02-14T10:00:00+09:00",
+                                    "requestId": "req_005"
+                                }
+                                """)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<List<DownloadTaskBatchItemResponse>> response =
+                ApiTestSupport.createClient(mockWebServer)
+                        .async()
+                        .downloadTask()
+                        .createBatch(
+                                new CreateDownloadTasksRequest(
+                                        List.of(
+                                                createRequest(
+                                                        "https://external-cdn.com/missing.jpg"))))
+                        .get();
+
+        assertThat(response.data()).singleElement().extracting("success").isEqualTo(false);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/download-tasks/batch");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+    }
+
+    @Test
+    @DisplayName("종료 상태가 될 때까지 long-poll 조회를 반복한다")
+    void awaitCompletionPollsUntilTerminal() throws InterruptedException {
+        mockWebServer.enqueue(downloadTaskResponse("RUNNING"));
+        mockWebServer.enqueue(downloadTaskResponse("COMPLETED"));
+
+        ApiResponse<DownloadTaskResponse> response =
+                api.awaitCompletion("dt_abc123", Duration.ofSeconds(60));
+
+        assertThat(response.data().status()).isEqualTo("COMPLETED");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/download-tasks/dt_abc123/await?waitSeconds=20");
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    @DisplayName("비동기 종료 대기는 종료 상태 응답으로 Future를 완료한다")
+    void awaitCompletionAsync() throws Exception {
+        mockWebServer.enqueue(downloadTaskResponse("PENDING"));
+        mockWebServer.enqueue(downloadTaskResponse("FAILED"));
+
+        ApiResponse<DownloadTaskResponse> response =
+                ApiTestSupport.createClient(mockWebServer)
+                        .async()
+                        .downloadTask()
+                        .awaitCompletion("dt_abc123", Duration.ofSeconds(60))
+                        .get();
+
+        assertThat(response.data().status()).isEqualTo("FAILED");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    private static CreateDownloadTaskRequest createRequest(String sourceUrl) {
+        return new CreateDownloadTaskRequest(
+                sourceUrl, "PUBLIC", "PRODUCT_IMAGE", "product-service", null);
+    }
+
+    private static MockResponse downloadTaskResponse(String status) {
+        String responseBody =
+                """
+                {
+                    "data": {
+                        "downloadTaskId": "dt_abc123",
+                        "sourceUrl": "https://external-cdn.com/image.jpg",
+                        "status": "%s",
+                        "retryCount": 0,
+                        "maxRetries": 3,
+                        "createdAt": "2026-02-14T10:00:00+09:00"
+                    },
+                    "timestamp": "2026-02-14T10:00:05+09:00",
+                    "requestId": "req_003"
+                }
+                """
+                        .formatted(status);
+        return new MockResponse()
+                .setBody(responseBody)
+                .addHeader("Content-Type", "application/json");
+    }
 }
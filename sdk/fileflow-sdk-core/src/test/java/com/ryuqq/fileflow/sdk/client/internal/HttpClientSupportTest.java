@@ -12,6 +12,7 @@ import com.ryuqq.fileflow.sdk.exception.FileFlowServerException;
 import com.ryuqq.fileflow.sdk.exception.FileFlowUnauthorizedException;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -221,4 +222,138 @@ class HttpClientSupportTest {
         RecordedRequest request = mockWebServer.takeRequest();
         assertThat(request.getMethod()).isEqualTo("POST");
     }
+
+    @Test
+    @DisplayName("비동기 GET 응답 본문을 역직렬화해 Future를 완료한다")
+    void getAsyncDecodesResponse() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                "{\"data\": \"hello\", \"timestamp\": \"2026-01-01T00:00:00\","
+                                        + " \"requestId\": \"test\"}")
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<String> response =
+                httpClientSupport
+                        .getAsync("/api/v1/test", new TypeReference<ApiResponse<String>>() {})
+                        .get();
+
+        assertThat(response.data()).isEqualTo("hello");
+        assertThat(mockWebServer.takeRequest().getHeader("X-Service-Name"))
+                .isEqualTo("test-service");
+    }
+
+    @Test
+    @DisplayName("비동기 요청의 응답 본문이 JSON이 아니면 DESERIALIZATION_ERROR로 실패한다")
+    void getAsyncWithMalformedBody() {
+        mockWebServer.enqueue(new MockResponse().setBody("not-json"));
+
+        assertThatThrownBy(
+                        () ->
+                                httpClientSupport
+                                        .getAsync(
+                                                "/api/v1/test",
+                                                new TypeReference<ApiResponse<Void>>() {})
+                                        .get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(FileFlowServerException.class)
+                .hasMessageContaining("DESERIALIZATION_ERROR");
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 서버에 연결하지 못하면 CONNECTION_ERROR로 실패한다")
+    void postVoidAsyncConnectionError() {
+        HttpClientSupport unreachable =
+                new HttpClientSupport(
+                        new FileFlowConfig(
+                                "http://localhost:1", "test-service", "test-token", null, null));
+
+        assertThatThrownBy(() -> unreachable.postVoidAsync("/api/v1/test").get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(FileFlowServerException.class)
+                .hasMessageContaining("CONNECTION_ERROR");
+    }
+
+    @Test
+    @DisplayName("응답 캐시가 켜져 있으면 ETag로 재검증하고 304면 캐시된 본문을 반환한다")
+    void getRevalidatesWithEtagAndReusesCachedBodyOnNotModified() throws InterruptedException {
+        HttpClientSupport caching = cachingClient();
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                "{\"data\": \"cached\", \"timestamp\": \"2026-01-01T00:00:00\","
+                                        + " \"requestId\": \"test\"}")
+                        .addHeader("Content-Type", "application/json")
+                        .addHeader("ETag", "\"asset-1-v3\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        ApiResponse<String> first =
+                caching.get("/api/v1/assets/asset-1", new TypeReference<ApiResponse<String>>() {});
+        ApiResponse<String> second =
+                caching.get("/api/v1/assets/asset-1", new TypeReference<ApiResponse<String>>() {});
+
+        assertThat(first.data()).isEqualTo("cached");
+        assertThat(second.data()).isEqualTo("cached");
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match")).isNull();
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match"))
+                .isEqualTo("\"asset-1-v3\"");
+    }
+
+    @Test
+    @DisplayName("비동기 GET도 304 응답이면 캐시된 본문을 반환한다")
+    void getAsyncReusesCachedBodyOnNotModified() throws Exception {
+        HttpClientSupport caching = cachingClient();
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                "{\"data\": \"cached\", \"timestamp\": \"2026-01-01T00:00:00\","
+                                        + " \"requestId\": \"test\"}")
+                        .addHeader("Content-Type", "application/json")
+                        .addHeader("ETag", "\"tr-1-v0\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        caching.getAsync("/api/v1/test", new TypeReference<ApiResponse<String>>() {}).get();
+        ApiResponse<String> second =
+                caching.getAsync("/api/v1/test", new TypeReference<ApiResponse<String>>() {})
+                        .get();
+
+        assertThat(second.data()).isEqualTo("cached");
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match"))
+                .isEqualTo("\"tr-1-v0\"");
+    }
+
+    @Test
+    @DisplayName("응답 캐시가 꺼져 있으면 ETag가 있어도 If-None-Match를 보내지 않는다")
+    void getWithoutResponseCacheDoesNotSendIfNoneMatch() throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            mockWebServer.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"data\": null, \"timestamp\": \"2026-01-01T00:00:00\","
+                                            + " \"requestId\": \"test\"}")
+                            .addHeader("Content-Type", "application/json")
+                            .addHeader("ETag", "\"asset-1-v3\""));
+        }
+
+        httpClientSupport.get("/api/v1/test", new TypeReference<ApiResponse<Void>>() {});
+        httpClientSupport.get("/api/v1/test", new TypeReference<ApiResponse<Void>>() {});
+
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match")).isNull();
+    }
+
+    private HttpClientSupport cachingClient() {
+        String baseUrl = mockWebServer.url("/").toString();
+        return new HttpClientSupport(
+                new FileFlowConfig(
+                        baseUrl.substring(0, baseUrl.length() - 1),
+                        "test-service",
+                        "test-token",
+                        null,
+                        null,
+                        16));
+    }
 }
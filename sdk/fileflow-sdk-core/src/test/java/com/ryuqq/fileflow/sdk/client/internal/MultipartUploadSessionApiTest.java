@@ -4,12 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.fileflow.sdk.api.MultipartUploadSessionApi;
 import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
+import com.ryuqq.fileflow.sdk.model.common.SliceResponse;
 import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartRequest;
+import com.ryuqq.fileflow.sdk.model.session.AddCompletedPartsRequest;
 import com.ryuqq.fileflow.sdk.model.session.CompleteMultipartUploadSessionRequest;
+import com.ryuqq.fileflow.sdk.model.session.CompletedPartResponse;
 import com.ryuqq.fileflow.sdk.model.session.CreateMultipartUploadSessionRequest;
 import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionResponse;
+import com.ryuqq.fileflow.sdk.model.session.MultipartUploadSessionSummaryResponse;
 import com.ryuqq.fileflow.sdk.model.session.PresignedPartUrlResponse;
 import java.io.IOException;
+import java.util.List;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -169,6 +174,153 @@ class MultipartUploadSessionApiTest {
         assertThat(recordedRequest.getMethod()).isEqualTo("GET");
     }
 
+    @Test
+    @DisplayName("파트 범위의 Presigned URL을 한 번에 발급받는다")
+    void getPresignedPartUrls() throws InterruptedException {
+        String responseBody =
+                """
+                {
+                    "data": [
+                        {
+                            "presignedUrl": "https://s3.example.com/upload-part?partNumber=3",
+                            "partNumber": 3,
+                            "expiresInSeconds": 3600
+                        },
+                        {
+                            "presignedUrl": "https://s3.example.com/upload-part?partNumber=4",
+                            "partNumber": 4,
+                            "expiresInSeconds": 3600
+                        }
+                    ],
+                    "timestamp": "2026-02-14T10:05:00+09:00",
+                    "requestId": "req_003"
+                }
+                """;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(responseBody)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<List<PresignedPartUrlResponse>> response =
+                api.getPresignedPartUrls("msess_123", 3, 4);
+
+        assertThat(response.data())
+                .extracting(PresignedPartUrlResponse::partNumber)
+                .containsExactly(3, 4);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getRequestUrl().encodedPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/parts/presigned-urls");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("from")).isEqualTo("3");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("to")).isEqualTo("4");
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    @DisplayName("파트 목록 없이 세션 요약을 조회한다")
+    void getSummary() throws InterruptedException {
+        String responseBody =
+                """
+                {
+                    "data": {
+                        "sessionId": "msess_123",
+                        "uploadId": "upload-id-xyz",
+                        "s3Key": "public/2026/02/video.mp4",
+                        "bucket": "fileflow-bucket",
+                        "accessType": "PUBLIC",
+                        "fileName": "video.mp4",
+                        "contentType": "video/mp4",
+                        "partSize": 5242880,
+                        "status": "UPLOADING",
+                        "completedPartCount": 3,
+                        "uploadedBytes": 15728640,
+                        "highestContiguousPartNumber": 3,
+                        "expiresAt": "2026-02-15T10:00:00+09:00",
+                        "createdAt": "2026-02-14T10:00:00+09:00"
+                    },
+                    "timestamp": "2026-02-14T10:05:00+09:00",
+                    "requestId": "req_003"
+                }
+                """;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(responseBody)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<MultipartUploadSessionSummaryResponse> response = api.getSummary("msess_123");
+
+        assertThat(response.data().completedPartCount()).isEqualTo(3);
+        assertThat(response.data().uploadedBytes()).isEqualTo(15728640L);
+        assertThat(response.data().highestContiguousPartNumber()).isEqualTo(3);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/summary");
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    @DisplayName("완료된 파트를 커서 기반으로 조회한다")
+    void getCompletedParts() throws InterruptedException {
+        String responseBody =
+                """
+                {
+                    "data": {
+                        "content": [
+                            {"partNumber": 101, "etag": "\\"etag101\\"", "size": 5242880},
+                            {"partNumber": 102, "etag": "\\"etag102\\"", "size": 5242880}
+                        ],
+                        "size": 2,
+                        "hasNext": true,
+                        "nextCursor": "102"
+                    },
+                    "timestamp": "2026-02-14T10:05:00+09:00",
+                    "requestId": "req_003"
+                }
+                """;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(responseBody)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<SliceResponse<CompletedPartResponse>> response =
+                api.getCompletedParts("msess_123", 100, 2);
+
+        assertThat(response.data().content())
+                .extracting(CompletedPartResponse::partNumber)
+                .containsExactly(101, 102);
+        assertThat(response.data().hasNext()).isTrue();
+        assertThat(response.data().nextCursor()).isEqualTo("102");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getRequestUrl().encodedPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/parts");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("cursor")).isEqualTo("100");
+        assertThat(recordedRequest.getRequestUrl().queryParameter("size")).isEqualTo("2");
+        assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    @DisplayName("커서 없이 첫 페이지를 조회하면 cursor 파라미터를 보내지 않는다")
+    void getCompletedParts_firstPage() throws InterruptedException {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(
+                                """
+                                {"data": {"content": [], "size": 0, "hasNext": false}}
+                                """)
+                        .addHeader("Content-Type", "application/json"));
+
+        api.getCompletedParts("msess_123", null, null);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/parts");
+    }
+
     @Test
     @DisplayName("완료된 파트를 등록한다")
     void addCompletedPart() throws InterruptedException {
@@ -190,6 +342,31 @@ class MultipartUploadSessionApiTest {
         assertThat(body).contains("etag3");
     }
 
+    @Test
+    @DisplayName("완료된 파트를 일괄 등록한다")
+    void addCompletedParts() throws InterruptedException {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .addHeader("Content-Type", "application/json"));
+
+        AddCompletedPartsRequest request =
+                new AddCompletedPartsRequest(
+                        List.of(
+                                new AddCompletedPartRequest(1, "\"etag1\"", 5242880L),
+                                new AddCompletedPartRequest(2, "\"etag2\"", 5242880L)));
+
+        api.addCompletedParts("msess_123", request);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/sessions/multipart/msess_123/parts/batch");
+        assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+        String body = recordedRequest.getBody().readUtf8();
+        assertThat(body).contains("\"parts\":[");
+        assertThat(body).contains("etag1").contains("etag2");
+    }
+
     @Test
     @DisplayName("멀티파트 업로드 세션을 완료한다")
     void completeSession() throws InterruptedException {
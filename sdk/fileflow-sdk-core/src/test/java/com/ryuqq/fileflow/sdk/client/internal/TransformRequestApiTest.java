@@ -8,6 +8,7 @@ import com.ryuqq.fileflow.sdk.model.common.ApiResponse;
 import com.ryuqq.fileflow.sdk.model.transform.CreateTransformRequestRequest;
 import com.ryuqq.fileflow.sdk.model.transform.TransformRequestResponse;
 import java.io.IOException;
+import java.time.Duration;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -136,4 +137,38 @@ class TransformRequestApiTest {
         assertThat(recordedRequest.getPath()).isEqualTo("/api/v1/transform-requests/tr_abc123");
         assertThat(recordedRequest.getMethod()).isEqualTo("GET");
     }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 마지막 응답을 그대로 반환한다")
+    void awaitCompletionReturnsLastResponseOnTimeout() throws InterruptedException {
+        String responseBody =
+                """
+                {
+                    "data": {
+                        "transformRequestId": "tr_abc123",
+                        "sourceAssetId": "asset_001",
+                        "transformType": "RESIZE",
+                        "status": "PROCESSING",
+                        "createdAt": "2026-02-14T10:00:00+09:00"
+                    },
+                    "timestamp": "2026-02-14T10:00:01+09:00",
+                    "requestId": "req_003"
+                }
+                """;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(responseBody)
+                        .addHeader("Content-Type", "application/json"));
+
+        ApiResponse<TransformRequestResponse> response =
+                api.awaitCompletion("tr_abc123", Duration.ZERO);
+
+        assertThat(response.data().status()).isEqualTo("PROCESSING");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath())
+                .isEqualTo("/api/v1/transform-requests/tr_abc123/await?waitSeconds=0");
+    }
 }
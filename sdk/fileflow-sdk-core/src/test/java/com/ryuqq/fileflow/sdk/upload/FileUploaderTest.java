@@ -0,0 +1,253 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.fileflow.sdk.FileFlowClient;
+import com.ryuqq.fileflow.sdk.exception.FileFlowServerException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileUploaderTest {
+
+    private static final int MIB = 1024 * 1024;
+    private static final String MULTIPART_PATH = "/api/v1/sessions/multipart/msess_1";
+
+    @TempDir Path tempDir;
+
+    private MockWebServer mockWebServer;
+    private FileFlowClient client;
+    private final List<RecordedRequest> storagePuts = new CopyOnWriteArrayList<>();
+    private final List<RecordedRequest> apiCalls = new CopyOnWriteArrayList<>();
+    private final AtomicInteger partFailures = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new UploadDispatcher());
+        mockWebServer.start();
+        client =
+                FileFlowClient.builder()
+                        .baseUrl(baseUrl())
+                        .serviceName("test-service")
+                        .serviceToken("test-token")
+                        .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 파일은 단일 세션으로 업로드하고 S3 ETag로 완료한다")
+    void uploadSmallFileAsSingle() throws IOException {
+        Path file = writeFile("small.jpg", 1024);
+
+        FileUploadResult result = client.fileUploader().upload(file, imageRequest());
+
+        assertThat(result.multipart()).isFalse();
+        assertThat(result.sessionId()).isEqualTo("sess_1");
+        assertThat(result.etag()).isEqualTo("\"" + md5Hex(Files.readAllBytes(file)) + "\"");
+        assertThat(storagePuts).hasSize(1);
+        assertThat(storagePuts.get(0).getBodySize()).isEqualTo(1024);
+        assertThat(storagePuts.get(0).getHeader("Content-Type")).isEqualTo("image/jpeg");
+        assertThat(apiBody("/api/v1/sessions/single/sess_1/complete"))
+                .contains("\"fileSize\":1024")
+                .contains(md5Hex(Files.readAllBytes(file)));
+    }
+
+    @Test
+    @DisplayName("임계값 이상 파일은 파트를 병렬 업로드하고 완료 파트를 일괄 등록한 뒤 세션을 완료한다")
+    void uploadLargeFileAsMultipart() throws IOException {
+        Path file = writeFile("large.zip", 11 * MIB);
+        FileUploader uploader = new FileUploader(client, multipartOptions(3));
+
+        FileUploadResult result = uploader.upload(file, imageRequest());
+
+        assertThat(result.multipart()).isTrue();
+        assertThat(result.partCount()).isEqualTo(3);
+        assertThat(result.etag()).endsWith("-3\"");
+        assertThat(storagePuts)
+                .extracting(RecordedRequest::getBodySize)
+                .containsExactlyInAnyOrder(5L * MIB, 5L * MIB, 1L * MIB);
+        assertThat(apiCalls)
+                .filteredOn(call -> call.getPath().equals(MULTIPART_PATH + "/parts/batch"))
+                .hasSize(2);
+        assertThat(apiBody(MULTIPART_PATH + "/complete"))
+                .contains("\"totalFileSize\":" + 11 * MIB)
+                .contains(result.etag().replace("\"", "\\\""));
+    }
+
+    @Test
+    @DisplayName("실패한 파트는 새 Presigned URL을 받아 재시도한다")
+    void retryFailedPart() throws IOException {
+        Path file = writeFile("retry.zip", 11 * MIB);
+        partFailures.set(1);
+        FileUploader uploader = new FileUploader(client, multipartOptions(3));
+
+        FileUploadResult result = uploader.upload(file, imageRequest());
+
+        assertThat(result.partCount()).isEqualTo(3);
+        assertThat(storagePuts).hasSize(4);
+        assertThat(apiCalls)
+                .filteredOn(call -> call.getPath().endsWith("/presigned-url"))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 세션을 중단하고 예외를 던진다")
+    void abortWhenRetriesExhausted() throws IOException {
+        Path file = writeFile("fail.zip", 11 * MIB);
+        partFailures.set(Integer.MAX_VALUE);
+        FileUploader uploader = new FileUploader(client, multipartOptions(2));
+
+        assertThatThrownBy(() -> uploader.upload(file, imageRequest()))
+                .isInstanceOf(FileFlowServerException.class)
+                .hasMessageContaining("STORAGE_UPLOAD_FAILED");
+
+        assertThat(apiCalls)
+                .extracting(RecordedRequest::getPath)
+                .contains(MULTIPART_PATH + "/abort")
+                .doesNotContain(MULTIPART_PATH + "/complete");
+    }
+
+    @Test
+    @DisplayName("InputStream은 임시 파일로 받아 업로드한다")
+    void uploadInputStream() {
+        byte[] content = new byte[2048];
+
+        FileUploadResult result =
+                client.fileUploader().upload(new ByteArrayInputStream(content), imageRequest());
+
+        assertThat(result.fileSize()).isEqualTo(2048);
+        assertThat(storagePuts.get(0).getBodySize()).isEqualTo(2048);
+    }
+
+    private UploadOptions multipartOptions(int maxAttempts) {
+        return new UploadOptions(
+                5L * MIB,
+                UploadOptions.S3_MIN_PART_SIZE,
+                3,
+                maxAttempts,
+                Duration.ofMillis(1),
+                2,
+                Duration.ofSeconds(30));
+    }
+
+    private static FileUploadRequest imageRequest() {
+        return new FileUploadRequest("file.jpg", "image/jpeg", "PUBLIC", "PRODUCT_IMAGE", "test");
+    }
+
+    private Path writeFile(String name, int size) throws IOException {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    private String apiBody(String path) {
+        return apiCalls.stream()
+                .filter(call -> call.getPath().equals(path))
+                .findFirst()
+                .orElseThrow()
+                .getBody()
+                .readUtf8();
+    }
+
+    private String baseUrl() {
+        String url = mockWebServer.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    private static String md5Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockResponse json(String data) {
+        return new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody("{\"data\":" + data + ",\"timestamp\":\"t\",\"requestId\":\"r\"}");
+    }
+
+    private String partUrl(int partNumber) {
+        return "{\"presignedUrl\":\""
+                + baseUrl()
+                + "/storage/part-"
+                + partNumber
+                + "\",\"partNumber\":"
+                + partNumber
+                + ",\"expiresInSeconds\":3600}";
+    }
+
+    private final class UploadDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath();
+            if ("PUT".equals(request.getMethod())) {
+                return storagePut(request);
+            }
+            apiCalls.add(request);
+            if (path.equals("/api/v1/sessions/single")) {
+                return json(
+                        "{\"sessionId\":\"sess_1\",\"presignedUrl\":\""
+                                + baseUrl()
+                                + "/storage/single\",\"s3Key\":\"k\",\"bucket\":\"b\"}");
+            }
+            if (path.equals("/api/v1/sessions/multipart")) {
+                return json("{\"sessionId\":\"msess_1\",\"s3Key\":\"k\",\"bucket\":\"b\"}");
+            }
+            if (path.startsWith(MULTIPART_PATH + "/parts/presigned-urls")) {
+                HttpUrl url = request.getRequestUrl();
+                int from = Integer.parseInt(url.queryParameter("from"));
+                int to = Integer.parseInt(url.queryParameter("to"));
+                return json(
+                        IntStream.rangeClosed(from, to)
+                                .mapToObj(FileUploaderTest.this::partUrl)
+                                .collect(Collectors.joining(",", "[", "]")));
+            }
+            if (path.endsWith("/presigned-url")) {
+                String[] segments = path.split("/");
+                return json(partUrl(Integer.parseInt(segments[segments.length - 2])));
+            }
+            return new MockResponse().setResponseCode(200);
+        }
+
+        private MockResponse storagePut(RecordedRequest request) {
+            storagePuts.add(request);
+            if (request.getPath().startsWith("/storage/part-")
+                    && partFailures.getAndDecrement() > 0) {
+                return new MockResponse().setResponseCode(500);
+            }
+            String etag = "\"" + md5Hex(request.getBody().readByteArray()) + "\"";
+            return new MockResponse().setResponseCode(200).addHeader("ETag", etag);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ryuqq.fileflow.sdk.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartPlanTest {
+
+    private static final long MIB = 1024 * 1024;
+
+    @Test
+    @DisplayName("최소 파트 크기로 나누고 마지막 파트는 남은 크기만 담는다")
+    void splitByMinPartSize() {
+        PartPlan plan = PartPlan.of(21 * MIB, 8 * MIB);
+
+        assertThat(plan.partSize()).isEqualTo(8 * MIB);
+        assertThat(plan.partCount()).isEqualTo(3);
+        assertThat(plan.offsetOf(3)).isEqualTo(16 * MIB);
+        assertThat(plan.lengthOf(3)).isEqualTo(5 * MIB);
+    }
+
+    @Test
+    @DisplayName("파일이 크면 파트 수가 10,000개를 넘지 않도록 파트 크기를 MiB 단위로 키운다")
+    void growPartSizeForLargeFile() {
+        long fileSize = 200_000 * MIB;
+
+        PartPlan plan = PartPlan.of(fileSize, 8 * MIB);
+
+        assertThat(plan.partSize()).isEqualTo(20 * MIB);
+        assertThat(plan.partCount()).isEqualTo(10_000);
+        assertThat(plan.partSize() % MIB).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 크기가 0 이하이면 예외가 발생한다")
+    void rejectEmptyFile() {
+        assertThatThrownBy(() -> PartPlan.of(0, 8 * MIB))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -34,6 +34,7 @@ public class FileFlowAutoConfiguration {
                 .serviceToken(properties.getServiceToken())
                 .connectTimeout(properties.getTimeout().getConnect())
                 .readTimeout(properties.getTimeout().getRead())
+                .responseCacheSize(properties.getResponseCacheSize())
                 .build();
     }
 
@@ -12,6 +12,8 @@ public class FileFlowProperties {
 
     private String serviceToken;
 
+    private int responseCacheSize = 0;
+
     private final Timeout timeout = new Timeout();
 
     public String getBaseUrl() {
@@ -38,6 +40,14 @@ public class FileFlowProperties {
         this.serviceToken = serviceToken;
     }
 
+    public int getResponseCacheSize() {
+        return responseCacheSize;
+    }
+
+    public void setResponseCacheSize(int responseCacheSize) {
+        this.responseCacheSize = responseCacheSize;
+    }
+
     public Timeout getTimeout() {
         return timeout;
     }
@@ -66,6 +66,25 @@ class FileFlowAutoConfigurationTest {
                         });
     }
 
+    @Test
+    @DisplayName("응답 캐시 크기 설정이 바인딩된다")
+    void responseCacheSizeBound() {
+        contextRunner
+                .withPropertyValues(
+                        "fileflow.base-url=http://localhost:8080",
+                        "fileflow.service-name=test-service",
+                        "fileflow.service-token=test-token",
+                        "fileflow.response-cache-size=500")
+                .run(
+                        context -> {
+                            assertThat(context).hasSingleBean(FileFlowClient.class);
+                            assertThat(
+                                            context.getBean(FileFlowProperties.class)
+                                                    .getResponseCacheSize())
+                                    .isEqualTo(500);
+                        });
+    }
+
     @Test
     @DisplayName("커스텀 FileFlowClient Bean이 있으면 AutoConfig Bean은 등록되지 않는다")
     void customBeanTakesPrecedence() {